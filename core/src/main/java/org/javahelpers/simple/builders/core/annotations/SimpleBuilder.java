@@ -31,6 +31,7 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 import org.javahelpers.simple.builders.core.enums.AccessModifier;
 import org.javahelpers.simple.builders.core.enums.OptionState;
+import org.javahelpers.simple.builders.core.enums.OutputProfile;
 
 /**
  * Annotation to mark classes and records for builder generation.
@@ -61,6 +62,7 @@ import org.javahelpers.simple.builders.core.enums.OptionState;
  *       usingArrayListBuilderWithElementBuilders, usingHashSetBuilder,
  *       usingHashSetBuilderWithElementBuilders, usingHashMapBuilder (all default: true)
  *   <li><b>Integration:</b> generateWithInterface (default: true)
+ *   <li><b>Output:</b> outputProfile (default: FULL)
  * </ul>
  *
  * <p>This annotation is itself a built-in {@link Template}: it is meta-annotated with
@@ -149,6 +151,29 @@ public @interface SimpleBuilder {
      */
     OptionState generateFieldSupplier() default OptionState.UNSET;
 
+    /**
+     * Let the supplier methods generated by {@link #generateFieldSupplier()} store the supplier
+     * instead of invoking it. The supplier is invoked once when the value is needed, usually in
+     * {@code build()}. A supplier replaced by another setter, or of a builder that is never built,
+     * is never invoked. {@code toString()} shows such a value as {@code <deferred>} instead of
+     * computing it.
+     *
+     * <p>Example:
+     *
+     * <pre>{@code
+     * PersonDto person = PersonDtoBuilder.create()
+     *     .name(() -> fetchNameFromDatabase()) // not invoked
+     *     .name("Max")
+     *     .build();
+     * }</pre>
+     *
+     * Default: DISABLED <br>
+     * Compiler option: -Asimplebuilder.deferFieldSupplier
+     *
+     * @return the option state for deferring field suppliers
+     */
+    OptionState deferFieldSupplier() default OptionState.UNSET;
+
     /**
      * Generate a consumer method with parameter-type {@code Consumer<T>} with T being the type of
      * the field. <br>
@@ -212,6 +237,29 @@ public @interface SimpleBuilder {
      */
     OptionState generateConditionalHelper() default OptionState.UNSET;
 
+    /**
+     * Generate a {@code when(boolean)} method returning a fluent view of the builder. The view
+     * offers the setters of the builder and forwards them only if the condition is true, {@code
+     * endWhen()} returns to the builder. <br>
+     * Unlike {@code conditional}, no lambdas are created and the view is cached per builder, so
+     * neither branch allocates.
+     *
+     * <p>Example:
+     *
+     * <pre>{@code
+     * PersonDto person = PersonDtoBuilder.create()
+     *     .name("John")
+     *     .when(isPremium).memberLevel("GOLD").discount(10).endWhen()
+     *     .build();
+     * }</pre>
+     *
+     * Default: DISABLED <br>
+     * Compiler option: -Asimplebuilder.generateWhenView
+     *
+     * @return the option state for generating the when view
+     */
+    OptionState generateWhenView() default OptionState.UNSET;
+
     // === Access Control ===
     /**
      * Access level for the generated builder class.
@@ -526,6 +574,25 @@ public @interface SimpleBuilder {
      */
     OptionState usingHashMapBuilder() default OptionState.UNSET;
 
+    /**
+     * Use the thread-safe collection builders in the consumer methods enabled by {@link
+     * #usingArrayListBuilder()}, {@link #usingHashSetBuilder()} and {@link #usingHashMapBuilder()}.
+     * The consumer then receives a ConcurrentArrayListBuilder, ConcurrentHashSetBuilder or
+     * ConcurrentHashMapBuilder, which several threads may fill at the same time: <br>
+     *
+     * <pre>{@code
+     * ResponseDto response = ResponseDtoBuilder.create()
+     *     .items(items -> sources.parallelStream().map(Source::load).forEach(items::add))
+     *     .build();
+     * }</pre>
+     *
+     * The order between elements added by different threads is unspecified, and the concurrent map
+     * builder rejects {@code null} keys and values.
+     *
+     * <p>Default: DISABLED Compiler option: -Asimplebuilder.usingConcurrentCollectionBuilders
+     */
+    OptionState usingConcurrentCollectionBuilders() default OptionState.UNSET;
+
     // === Annotations ===
     /**
      * Use {@code @Generated} annotation on the generated builder class. <br>
@@ -611,6 +678,251 @@ public @interface SimpleBuilder {
      */
     OptionState generateWithInterface() default OptionState.UNSET;
 
+    /**
+     * Let the from-instance constructor of the builder keep a reference to the source instance
+     * instead of copying all values. <br>
+     * Fields not changed on the builder are read from the source instance only once, when the
+     * builder first needs them (usually in {@code build()}). Useful for copy-and-modify with
+     * expensive getters (e.g. defensive copies).
+     *
+     * <p>Example:
+     *
+     * <pre>{@code
+     * // Generated:
+     * public PersonDtoBuilder(PersonDto instance) {
+     *     this.source = instance;
+     * }
+     *
+     * // Only getName() is skipped, all other getters are called in build()
+     * PersonDto renamed = new PersonDtoBuilder(person).name("New Name").build();
+     * }</pre>
+     *
+     * Default: DISABLED <br>
+     * Compiler option: -Asimplebuilder.lazyCopyConstructor
+     *
+     * @return the option state for the lazy copy constructor
+     */
+    OptionState lazyCopyConstructor() default OptionState.UNSET;
+
+    /**
+     * Generate {@code changedFields()} and {@code applyTo(target)} for partial updates of existing
+     * instances. <br>
+     * {@code changedFields()} returns the fields explicitly changed on the builder as {@code
+     * EnumSet} of a generated {@code Field} enum. {@code applyTo(target)} calls only the setters of
+     * changed fields on an existing instance, e.g. for PATCH semantics or minimal SQL UPDATE
+     * statements.
+     *
+     * <p>Example:
+     *
+     * <pre>{@code
+     * PersonDtoBuilder patch = PersonDtoBuilder.create().email("new@example.com");
+     * patch.changedFields(); // [EMAIL]
+     * patch.applyTo(existingPerson); // only calls existingPerson.setEmail(...)
+     * }</pre>
+     *
+     * Default: DISABLED <br>
+     * Compiler option: -Asimplebuilder.generatePartialUpdate
+     *
+     * @return the option state for generating partial update methods
+     */
+    OptionState generatePartialUpdate() default OptionState.UNSET;
+
+    /**
+     * Generate a static table of field descriptors and {@code get(int)}/{@code set(int, Object)}
+     * methods, making the builder implement {@code IIndexedBuilder}. <br>
+     * Allows generic code like mappers or exporters to read and populate builders by field ordinal
+     * without reflection.
+     *
+     * <p>Example:
+     *
+     * <pre>{@code
+     * IIndexedBuilder<PersonDto> builder = PersonDtoBuilder.create();
+     * for (FieldDescriptor field : builder.fieldDescriptors()) {
+     *     builder.set(field.ordinal(), row.get(field.name()));
+     * }
+     * PersonDto person = builder.build();
+     * }</pre>
+     *
+     * Default: DISABLED <br>
+     * Compiler option: -Asimplebuilder.generateFieldAccess
+     *
+     * @return the option state for generating indexed field access
+     */
+    OptionState generateFieldAccess() default OptionState.UNSET;
+
+    /**
+     * Generate static {@code fromMap(Map)} and {@code toMap(dto)} methods on the builder,
+     * converting between DTOs and property maps. <br>
+     * Keys are the field names. Nested DTOs with builders that also have this option enabled, and
+     * lists or sets of them, are converted recursively.
+     *
+     * <p>Example:
+     *
+     * <pre>{@code
+     * PersonDto person = PersonDtoBuilder.fromMap(Map.of("name", "John", "age", 42)).build();
+     * Map<String, Object> properties = PersonDtoBuilder.toMap(person);
+     * }</pre>
+     *
+     * Default: DISABLED <br>
+     * Compiler option: -Asimplebuilder.generateMapConversion
+     *
+     * @return the option state for generating map conversion methods
+     */
+    OptionState generateMapConversion() default OptionState.UNSET;
+
+    /**
+     * Generate a {@code merge(builder)} method combining two builders and a static {@code
+     * collector(accumulator)} method returning a {@link java.util.stream.Collector} of builders.
+     * <br>
+     * Scalar fields set on the other builder replace the values of this builder (last set wins).
+     * Lists are concatenated, sets are unioned and maps are combined, with the entries of the other
+     * builder winning. Parallel streams fill one builder per thread and merge them without locking.
+     *
+     * <p>Example:
+     *
+     * <pre>{@code
+     * ReportDto report = sources.parallelStream()
+     *     .collect(ReportDtoBuilder.collector((builder, source) -> builder.add2Entries(source.entry())))
+     *     .build();
+     * }</pre>
+     *
+     * Default: DISABLED <br>
+     * Compiler option: -Asimplebuilder.generateMerge
+     *
+     * @return the option state for generating merge and collector methods
+     */
+    OptionState generateMerge() default OptionState.UNSET;
+
+    /**
+     * Generate {@code xxx(CompletionStage)} and {@code xxx(Supplier, Executor)} methods registering
+     * pending field values, and a {@code buildAsync()} method completing with the DTO once all
+     * pending values are available. Independent remote calls then overlap instead of blocking one
+     * after the other. <br>
+     * {@link org.javahelpers.simple.builders.core.util.PendingFields#defaultExecutor()} runs
+     * suppliers on virtual threads on JDK 21 and newer.
+     *
+     * <p>Example:
+     *
+     * <pre>{@code
+     * CompletableFuture<PersonDto> person = PersonDtoBuilder.create()
+     *     .name(nameClient.fetchAsync(id))
+     *     .address(() -> addressClient.fetch(id), PendingFields.defaultExecutor())
+     *     .buildAsync();
+     * }</pre>
+     *
+     * Default: DISABLED <br>
+     * Compiler option: -Asimplebuilder.generateAsyncBuild
+     *
+     * @return the option state for generating asynchronous setters and buildAsync
+     */
+    OptionState generateAsyncBuild() default OptionState.UNSET;
+
+    /**
+     * Generate a {@code RowMapper} class next to the builder, mapping JDBC result sets and {@code
+     * Object[]} or {@code String[]} rows to DTOs. <br>
+     * Column labels are resolved to fields once per row shape; result set values are read with the
+     * primitive getters like {@code getInt} and set via the builder setters.
+     *
+     * <p>Example:
+     *
+     * <pre>{@code
+     * List<PersonDto> persons = PersonDtoRowMapper.mapAll(resultSet);
+     * PersonDto person = PersonDtoRowMapper.forColumns(csvHeader).map(csvRow);
+     * }</pre>
+     *
+     * Default: DISABLED <br>
+     * Compiler option: -Asimplebuilder.generateRowMapper
+     *
+     * @return the option state for generating row mappers
+     */
+    OptionState generateRowMapper() default OptionState.UNSET;
+
+    /**
+     * Generate a {@code Codec} class next to the builder, encoding DTOs in a compact binary format
+     * to a {@link java.nio.ByteBuffer} and decoding them back via the builder. <br>
+     * Only set fields are written, each tagged with its field number, so fields can be appended to
+     * the DTO without breaking previously encoded data.
+     *
+     * <p>Example:
+     *
+     * <pre>{@code
+     * PersonDtoCodec.INSTANCE.encode(person, buffer);
+     * PersonDto decoded = PersonDtoCodec.INSTANCE.decode(buffer.flip());
+     * }</pre>
+     *
+     * Default: DISABLED <br>
+     * Compiler option: -Asimplebuilder.generateBinaryCodec
+     *
+     * @return the option state for generating binary codecs
+     */
+    OptionState generateBinaryCodec() default OptionState.UNSET;
+
+    /**
+     * Generate a {@code View} class next to the builder, a flyweight reading the fields of a DTO
+     * lazily from a {@link java.nio.ByteBuffer} at precomputed offsets. <br>
+     * Primitive fields are stored with fixed width, strings and {@code byte[]} via an offset table
+     * after the fixed part. Allows storing DTO tables off-heap, e.g. in direct buffers.
+     *
+     * <p>Example:
+     *
+     * <pre>{@code
+     * int size = PointDtoView.write(point, buffer, offset);
+     * PointDtoView view = new PointDtoView().wrap(buffer, offset);
+     * int x = view.x();
+     * }</pre>
+     *
+     * Default: DISABLED <br>
+     * Compiler option: -Asimplebuilder.generateFlyweightView
+     *
+     * @return the option state for generating flyweight views
+     */
+    OptionState generateFlyweightView() default OptionState.UNSET;
+
+    /**
+     * Generate a {@code Batch} class next to the builder, storing many DTOs column-wise with one
+     * array per field, e.g. {@code int[]} for an {@code int} field. <br>
+     * Rows are appended without creating DTO instances; scans over single fields read contiguous
+     * arrays. DTOs of single rows are created via the builder on demand.
+     *
+     * <p>Example:
+     *
+     * <pre>{@code
+     * PersonDtoBatch batch = new PersonDtoBatch().add("Alice", 42).add(person);
+     * int[] ages = batch.ageColumn();
+     * PersonDto first = batch.toDto(0);
+     * }</pre>
+     *
+     * Default: DISABLED <br>
+     * Compiler option: -Asimplebuilder.generateColumnarBatch
+     *
+     * @return the option state for generating columnar batches
+     */
+    OptionState generateColumnarBatch() default OptionState.UNSET;
+
+    /**
+     * Generate a {@code Store} class next to the builder, appending DTOs to memory-mapped segment
+     * files with the generated binary codec. <br>
+     * Requires {@link #generateBinaryCodec()}. Stored DTOs can be replayed sequentially or read by
+     * their index; decoding reads directly from the mapped segments and creates the DTOs via the
+     * builder.
+     *
+     * <p>Example:
+     *
+     * <pre>{@code
+     * try (PersonDtoStore store = PersonDtoStore.open(Path.of("data/persons"))) {
+     *   long index = store.append(person);
+     *   PersonDto stored = store.get(index);
+     *   store.replay(dto -> process(dto));
+     * }
+     * }</pre>
+     *
+     * Default: DISABLED <br>
+     * Compiler option: -Asimplebuilder.generateMappedStore
+     *
+     * @return the option state for generating memory-mapped stores
+     */
+    OptionState generateMappedStore() default OptionState.UNSET;
+
     /**
      * Add Jackson annotations to the generated builder class. <br>
      * Adds {@code @JsonPOJOBuilder(withPrefix = "...")} to the builder class. The prefix matches
@@ -716,6 +1028,35 @@ public @interface SimpleBuilder {
      * @return the suffix for setter method names
      */
     String setterSuffix() default "";
+
+    // === Output ===
+    /**
+     * Amount of documentation and metadata emitted into the generated builder.
+     *
+     * <ul>
+     *   <li><b>FULL</b> - Javadoc on all generated members, usage examples, all annotations
+     *   <li><b>LEAN</b> - No Javadoc, no usage examples and no {@code @Generated} annotation;
+     *       smallest sources and fastest generation for large code bases
+     *   <li><b>API_ONLY</b> - Javadoc only on the builder class, its constructors and the entry
+     *       points {@code create()}, {@code fromMap(..)}, {@code build()} and {@code buildAsync()}
+     * </ul>
+     *
+     * <p>Example:
+     *
+     * <pre>{@code
+     * @SimpleBuilder(options = @SimpleBuilder.Options(
+     *     outputProfile = OutputProfile.LEAN
+     * ))
+     * public class PersonDto {
+     *     // Generates: PersonDtoBuilder without any Javadoc
+     * }
+     * }</pre>
+     *
+     * <p>Default: {@link OutputProfile#FULL FULL}
+     *
+     * <p>Compiler option: -Asimplebuilder.outputProfile (values: full, lean, api-only)
+     */
+    OutputProfile outputProfile() default OutputProfile.FULL;
   }
 
   /**
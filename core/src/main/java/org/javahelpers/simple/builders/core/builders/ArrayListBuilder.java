@@ -26,6 +26,7 @@ package org.javahelpers.simple.builders.core.builders;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collector;
 
 /**
  * Generic Builder for Lists. Helperclass for being able to provide functional interfaces in
@@ -74,6 +75,29 @@ public class ArrayListBuilder<T> {
     return this;
   }
 
+  /**
+   * Appends all elements of another builder to the end of the internal list. Used as combiner of
+   * {@link #collector()}.
+   *
+   * @param other builder whose elements are appended
+   * @return current instance of ArrayListBuilder for using in stream-notation
+   */
+  public ArrayListBuilder<T> merge(ArrayListBuilder<T> other) {
+    mList.addAll(other.mList);
+    return this;
+  }
+
+  /**
+   * Returns a collector appending the elements of a stream to a new ArrayListBuilder. Parallel
+   * streams fill one builder per thread and merge them in encounter order.
+   *
+   * @param <T> the type of the elements
+   * @return collector creating an ArrayListBuilder
+   */
+  public static <T> Collector<T, ?, ArrayListBuilder<T>> collector() {
+    return Collector.of(ArrayListBuilder::new, ArrayListBuilder::add, ArrayListBuilder::merge);
+  }
+
   /**
    * Builds a new list based on the elements appended by the other functions.
    *
@@ -0,0 +1,138 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.javahelpers.simple.builders.core.builders;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collector;
+
+/**
+ * Thread-safe variant of {@link ArrayListBuilder}. Several threads may add elements at the same
+ * time without external synchronization: each thread appends to a stripe of an internal buffer
+ * selected by the thread, and the stripes are merged at {@link #build()}. Elements added by one
+ * thread keep their order, elements of the initial list come first, the order between threads is
+ * unspecified. {@link #merge(ConcurrentArrayListBuilder)} appends the other builder after all
+ * elements added before, so the {@link #collector()} keeps the encounter order of ordered streams.
+ *
+ * @param <T> the type of elements in the targeting list
+ */
+public class ConcurrentArrayListBuilder<T> {
+  /** Ordered head of the list: the initial elements and the segments appended by merges. */
+  private final List<T> mHead = new ArrayList<>();
+
+  private final ReentrantLock mHeadLock = new ReentrantLock();
+
+  private final StripedBuffer<T> mBuffer = new StripedBuffer<>();
+
+  /** Creates an empty ConcurrentArrayListBuilder. */
+  public ConcurrentArrayListBuilder() {}
+
+  /**
+   * Creates a ConcurrentArrayListBuilder initialized with the elements from the given list.
+   *
+   * @param initialList list to initialize from
+   */
+  public ConcurrentArrayListBuilder(List<T> initialList) {
+    if (initialList != null) {
+      mHead.addAll(initialList);
+    }
+  }
+
+  /**
+   * Appends the element to the buffer of the calling thread.
+   *
+   * @param element Element to be appended
+   * @return current instance of ConcurrentArrayListBuilder for using in stream-notation
+   */
+  public ConcurrentArrayListBuilder<T> add(T element) {
+    mBuffer.add(element);
+    return this;
+  }
+
+  /**
+   * Appends a list of elements to the buffer of the calling thread. The elements stay together in
+   * the built list.
+   *
+   * @param elements list of Elements to be appended
+   * @return current instance of ConcurrentArrayListBuilder for using in stream-notation
+   */
+  public ConcurrentArrayListBuilder<T> addAll(List<T> elements) {
+    mBuffer.addAll(elements);
+    return this;
+  }
+
+  /**
+   * Appends all elements of another builder after all elements added to this builder so far. Used
+   * as combiner of {@link #collector()}, where it keeps the encounter order of ordered streams.
+   *
+   * @param other builder whose elements are appended
+   * @return current instance of ConcurrentArrayListBuilder for using in stream-notation
+   */
+  public ConcurrentArrayListBuilder<T> merge(ConcurrentArrayListBuilder<T> other) {
+    List<T> elements = other.build();
+    mHeadLock.lock();
+    try {
+      mBuffer.moveTo(mHead);
+      mHead.addAll(elements);
+    } finally {
+      mHeadLock.unlock();
+    }
+    return this;
+  }
+
+  /**
+   * Returns a concurrent collector appending the elements of a stream to a new
+   * ConcurrentArrayListBuilder. Unordered parallel streams share one builder between all threads;
+   * ordered parallel streams fill one builder per segment and keep the encounter order.
+   *
+   * @param <T> the type of the elements
+   * @return collector creating a ConcurrentArrayListBuilder
+   */
+  public static <T> Collector<T, ?, ConcurrentArrayListBuilder<T>> collector() {
+    return Collector.of(
+        ConcurrentArrayListBuilder::new,
+        ConcurrentArrayListBuilder::add,
+        ConcurrentArrayListBuilder::merge,
+        Collector.Characteristics.CONCURRENT);
+  }
+
+  /**
+   * Builds a new list based on the elements appended by the other functions. Elements added
+   * concurrently with this call may or may not be included.
+   *
+   * @return new ArrayList holding all elements which have been added before
+   */
+  public List<T> build() {
+    mHeadLock.lock();
+    try {
+      List<T> result = new ArrayList<>(mHead);
+      mBuffer.drainTo(result);
+      return result;
+    } finally {
+      mHeadLock.unlock();
+    }
+  }
+}
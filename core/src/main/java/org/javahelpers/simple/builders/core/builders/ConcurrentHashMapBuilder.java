@@ -0,0 +1,154 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.javahelpers.simple.builders.core.builders;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+/**
+ * Thread-safe variant of {@link HashMapBuilder}. Using a ConcurrentHashMap inside, so several
+ * threads may define mappings at the same time without external synchronization. Like the
+ * ConcurrentHashMap, the builder rejects {@code null} keys and values with a {@link
+ * NullPointerException}; use {@link #putIfValueNotNull(Object, Object)} for optional values.
+ *
+ * @param <K> the type of keys in the targeting map
+ * @param <V> the type of values in the targeting map
+ */
+public class ConcurrentHashMapBuilder<K, V> {
+  private final Map<K, V> mMap = new ConcurrentHashMap<>();
+
+  /** Creates an empty ConcurrentHashMapBuilder. */
+  public ConcurrentHashMapBuilder() {}
+
+  /**
+   * Creates a ConcurrentHashMapBuilder initialized with the mappings from the given map.
+   *
+   * @param initialMap map to initialize from, must not contain {@code null} keys or values
+   */
+  public ConcurrentHashMapBuilder(Map<K, V> initialMap) {
+    if (initialMap != null) {
+      mMap.putAll(initialMap);
+    }
+  }
+
+  /**
+   * Associates the specified value with the specified key in this map. If the key already exists in
+   * the map, the old value is replaced.
+   *
+   * @param key key with which the specified value is to be associated
+   * @param value value to be associated with the specified key
+   * @return Current instance of ConcurrentHashMapBuilder for using in stream-notation
+   */
+  public ConcurrentHashMapBuilder<K, V> put(K key, V value) {
+    mMap.put(key, value);
+    return this;
+  }
+
+  /**
+   * Associates the specified value with the specified key in this map, if the specified key is not
+   * already associated. The check and the association happen atomically.
+   *
+   * @param key key with which the specified value is to be associated
+   * @param value value to be associated with the specified key
+   * @return Current instance of ConcurrentHashMapBuilder for using in stream-notation
+   */
+  public ConcurrentHashMapBuilder<K, V> putIfAbsent(K key, V value) {
+    mMap.putIfAbsent(key, value);
+    return this;
+  }
+
+  /**
+   * Associates the specified value with the specified key in this map, if the specified value is
+   * not null.
+   *
+   * @param key key with which the specified value is to be associated
+   * @param value value to be associated with the specified key
+   * @return Current instance of ConcurrentHashMapBuilder for using in stream-notation
+   */
+  public ConcurrentHashMapBuilder<K, V> putIfValueNotNull(K key, V value) {
+    if (value != null) {
+      mMap.put(key, value);
+    }
+    return this;
+  }
+
+  /**
+   * Copies all of the mappings from the specified map to the inner map of Builder. These mappings
+   * will replace any mappings that the inner map of ConcurrentHashMapBuilder had before.
+   *
+   * @param pMap mappings to be added to ConcurrentHashMapBuilder
+   * @return Current instance of ConcurrentHashMapBuilder for method chaining
+   */
+  public ConcurrentHashMapBuilder<K, V> putAll(Map<K, V> pMap) {
+    mMap.putAll(pMap);
+    return this;
+  }
+
+  /**
+   * Copies all mappings of another builder to the inner map. Mappings of the other builder replace
+   * mappings with the same key. Used as combiner of {@link #collector(Function, Function)}.
+   *
+   * @param other builder whose mappings are copied
+   * @return Current instance of ConcurrentHashMapBuilder for method chaining
+   */
+  public ConcurrentHashMapBuilder<K, V> merge(ConcurrentHashMapBuilder<K, V> other) {
+    mMap.putAll(other.mMap);
+    return this;
+  }
+
+  /**
+   * Returns a concurrent collector putting the elements of a stream into a new
+   * ConcurrentHashMapBuilder. Unordered parallel streams share one builder between all threads;
+   * which of several elements with the same key wins is then unspecified.
+   *
+   * @param keyMapper function mapping an element to its key
+   * @param valueMapper function mapping an element to its value
+   * @param <E> the type of the elements
+   * @param <K> the type of keys in the targeting map
+   * @param <V> the type of values in the targeting map
+   * @return collector creating a ConcurrentHashMapBuilder
+   */
+  public static <E, K, V> Collector<E, ?, ConcurrentHashMapBuilder<K, V>> collector(
+      Function<? super E, ? extends K> keyMapper, Function<? super E, ? extends V> valueMapper) {
+    return Collector.of(
+        ConcurrentHashMapBuilder::new,
+        (builder, element) -> builder.put(keyMapper.apply(element), valueMapper.apply(element)),
+        ConcurrentHashMapBuilder::merge,
+        Collector.Characteristics.CONCURRENT);
+  }
+
+  /**
+   * Builds a new Map based on the mappings defined by the other functions. Mappings defined
+   * concurrently with this call may or may not be included.
+   *
+   * @return new HashMap holding all mappings which have been defined before
+   */
+  public Map<K, V> build() {
+    return new HashMap<>(mMap);
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.javahelpers.simple.builders.core.builders;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collector;
+
+/**
+ * Thread-safe variant of {@link HashSetBuilder}. Several threads may add elements at the same time
+ * without external synchronization: each thread appends to a stripe of an internal buffer selected
+ * by the thread, and duplicates are removed when the stripes are merged at {@link #build()}.
+ *
+ * @param <T> the type of elements in the targeting Set
+ */
+public class ConcurrentHashSetBuilder<T> {
+  private final Set<T> mInitial = new HashSet<>();
+  private final StripedBuffer<T> mBuffer = new StripedBuffer<>();
+
+  /** Creates an empty ConcurrentHashSetBuilder. */
+  public ConcurrentHashSetBuilder() {}
+
+  /**
+   * Creates a ConcurrentHashSetBuilder initialized with the elements from the given set.
+   *
+   * @param initialSet set to initialize from
+   */
+  public ConcurrentHashSetBuilder(Set<T> initialSet) {
+    if (initialSet != null) {
+      mInitial.addAll(initialSet);
+    }
+  }
+
+  /**
+   * Appends the element to the buffer of the calling thread.
+   *
+   * @param element element to be appended
+   * @return current instance of ConcurrentHashSetBuilder for using in stream-notation
+   */
+  public ConcurrentHashSetBuilder<T> add(T element) {
+    mBuffer.add(element);
+    return this;
+  }
+
+  /**
+   * Appends a set of elements to the buffer of the calling thread.
+   *
+   * @param elements Set of elements to be appended
+   * @return current instance of ConcurrentHashSetBuilder for using in stream-notation
+   */
+  public ConcurrentHashSetBuilder<T> addAll(Set<T> elements) {
+    mBuffer.addAll(elements);
+    return this;
+  }
+
+  /**
+   * Adds all elements of another builder to the buffer of the calling thread. Used as combiner of
+   * {@link #collector()}.
+   *
+   * @param other builder whose elements are added
+   * @return current instance of ConcurrentHashSetBuilder for using in stream-notation
+   */
+  public ConcurrentHashSetBuilder<T> merge(ConcurrentHashSetBuilder<T> other) {
+    mBuffer.addAll(other.build());
+    return this;
+  }
+
+  /**
+   * Returns a concurrent collector adding the elements of a stream to a new
+   * ConcurrentHashSetBuilder. Parallel streams share one builder between all threads.
+   *
+   * @param <T> the type of the elements
+   * @return collector creating a ConcurrentHashSetBuilder
+   */
+  public static <T> Collector<T, ?, ConcurrentHashSetBuilder<T>> collector() {
+    return Collector.of(
+        ConcurrentHashSetBuilder::new,
+        ConcurrentHashSetBuilder::add,
+        ConcurrentHashSetBuilder::merge,
+        Collector.Characteristics.CONCURRENT,
+        Collector.Characteristics.UNORDERED);
+  }
+
+  /**
+   * Builds a new Set containing all elements that have been added to this builder. Elements added
+   * concurrently with this call may or may not be included.
+   *
+   * @return a new HashSet containing all elements added to this builder
+   */
+  public Set<T> build() {
+    Set<T> result = new HashSet<>(mInitial);
+    mBuffer.drainTo(result);
+    return result;
+  }
+}
@@ -26,6 +26,8 @@ package org.javahelpers.simple.builders.core.builders;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collector;
 
 /**
  * Generic Builder for Maps. Helperclass for being able to provide functional interfaces in
@@ -106,6 +108,38 @@ public class HashMapBuilder<K, V> {
     return this;
   }
 
+  /**
+   * Copies all mappings of another builder to the inner map. Mappings of the other builder replace
+   * mappings with the same key. Used as combiner of {@link #collector(Function, Function)}.
+   *
+   * @param other builder whose mappings are copied
+   * @return Current instance of HashMapBuilder for method chaining
+   */
+  public HashMapBuilder<K, V> merge(HashMapBuilder<K, V> other) {
+    mMap.putAll(other.mMap);
+    return this;
+  }
+
+  /**
+   * Returns a collector putting the elements of a stream into a new HashMapBuilder. Like {@link
+   * #put(Object, Object)}, a later element replaces the value of an earlier element with the same
+   * key; parallel streams fill one builder per thread and merge them in encounter order.
+   *
+   * @param keyMapper function mapping an element to its key
+   * @param valueMapper function mapping an element to its value
+   * @param <E> the type of the elements
+   * @param <K> the type of keys in the targeting map
+   * @param <V> the type of values in the targeting map
+   * @return collector creating a HashMapBuilder
+   */
+  public static <E, K, V> Collector<E, ?, HashMapBuilder<K, V>> collector(
+      Function<? super E, ? extends K> keyMapper, Function<? super E, ? extends V> valueMapper) {
+    return Collector.of(
+        HashMapBuilder::new,
+        (builder, element) -> builder.put(keyMapper.apply(element), valueMapper.apply(element)),
+        HashMapBuilder::merge);
+  }
+
   /**
    * Builds a new Map based on the mappings defined by the other functions.
    *
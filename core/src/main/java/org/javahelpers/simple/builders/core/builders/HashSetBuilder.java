@@ -26,6 +26,7 @@ package org.javahelpers.simple.builders.core.builders;
 
 import java.util.HashSet;
 import java.util.Set;
+import java.util.stream.Collector;
 
 /**
  * Generic Builder for Sets. Helperclass for being able to provide stream-notation interfaces in
@@ -73,6 +74,33 @@ public class HashSetBuilder<T> {
     return this;
   }
 
+  /**
+   * Adds all elements of another builder to the internal set. Used as combiner of {@link
+   * #collector()}.
+   *
+   * @param other builder whose elements are added
+   * @return current instance of HashSetBuilder for using in stream-notation
+   */
+  public HashSetBuilder<T> merge(HashSetBuilder<T> other) {
+    mSet.addAll(other.mSet);
+    return this;
+  }
+
+  /**
+   * Returns a collector adding the elements of a stream to a new HashSetBuilder. Parallel streams
+   * fill one builder per thread and merge them.
+   *
+   * @param <T> the type of the elements
+   * @return collector creating a HashSetBuilder
+   */
+  public static <T> Collector<T, ?, HashSetBuilder<T>> collector() {
+    return Collector.of(
+        HashSetBuilder::new,
+        HashSetBuilder::add,
+        HashSetBuilder::merge,
+        Collector.Characteristics.UNORDERED);
+  }
+
   /**
    * Builds a new Set containing all elements that have been added to this builder. The returned Set
    * is a new instance, so subsequent modifications to the builder will not affect the returned Set.
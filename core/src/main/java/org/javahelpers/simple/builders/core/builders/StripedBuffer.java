@@ -0,0 +1,136 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.javahelpers.simple.builders.core.builders;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Striped element buffer shared by the concurrent collection builders. Every thread appends to the
+ * stripe selected by its identity hash, so threads running on different stripes never contend.
+ * Stripes are created lazily and guarded by their own {@link ReentrantLock}, which does not pin
+ * virtual threads to their carrier while waiting; {@link #drainTo(Collection)} visits them in index
+ * order.
+ *
+ * @param <T> the type of the buffered elements
+ */
+final class StripedBuffer<T> {
+  private static final int MAX_STRIPES = 64;
+  private static final int STRIPE_COUNT =
+      Math.min(MAX_STRIPES, Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2));
+
+  private final AtomicReferenceArray<Stripe<T>> stripes = new AtomicReferenceArray<>(STRIPE_COUNT);
+
+  /**
+   * Appends the element to the stripe of the current thread.
+   *
+   * @param element element to be appended
+   */
+  void add(T element) {
+    Stripe<T> stripe = currentStripe();
+    stripe.lock.lock();
+    try {
+      stripe.elements.add(element);
+    } finally {
+      stripe.lock.unlock();
+    }
+  }
+
+  /**
+   * Appends all elements to the stripe of the current thread, keeping them together.
+   *
+   * @param elements elements to be appended
+   */
+  void addAll(Collection<? extends T> elements) {
+    Stripe<T> stripe = currentStripe();
+    stripe.lock.lock();
+    try {
+      stripe.elements.addAll(elements);
+    } finally {
+      stripe.lock.unlock();
+    }
+  }
+
+  /**
+   * Copies the elements of all stripes into the target. Elements appended by one thread keep their
+   * order; the order between threads is unspecified.
+   *
+   * @param target collection receiving the elements
+   */
+  void drainTo(Collection<? super T> target) {
+    for (int i = 0; i < STRIPE_COUNT; i++) {
+      Stripe<T> stripe = stripes.get(i);
+      if (stripe != null) {
+        stripe.lock.lock();
+        try {
+          target.addAll(stripe.elements);
+        } finally {
+          stripe.lock.unlock();
+        }
+      }
+    }
+  }
+
+  /**
+   * Moves the elements of all stripes into the target, leaving the stripes empty. Elements appended
+   * by one thread keep their order; the order between threads is unspecified.
+   *
+   * @param target collection receiving the elements
+   */
+  void moveTo(Collection<? super T> target) {
+    for (int i = 0; i < STRIPE_COUNT; i++) {
+      Stripe<T> stripe = stripes.get(i);
+      if (stripe != null) {
+        stripe.lock.lock();
+        try {
+          target.addAll(stripe.elements);
+          stripe.elements.clear();
+        } finally {
+          stripe.lock.unlock();
+        }
+      }
+    }
+  }
+
+  private Stripe<T> currentStripe() {
+    int hash = System.identityHashCode(Thread.currentThread());
+    int index = (hash ^ (hash >>> 16)) & (STRIPE_COUNT - 1);
+    Stripe<T> stripe = stripes.get(index);
+    if (stripe == null) {
+      stripes.compareAndSet(index, null, new Stripe<>());
+      stripe = stripes.get(index);
+    }
+    return stripe;
+  }
+
+  /** Elements of one stripe together with the lock guarding them. */
+  private static final class Stripe<T> {
+    private final ReentrantLock lock = new ReentrantLock();
+    private final List<T> elements = new ArrayList<>();
+  }
+}
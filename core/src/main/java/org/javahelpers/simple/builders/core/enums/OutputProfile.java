@@ -0,0 +1,50 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.javahelpers.simple.builders.core.enums;
+
+/**
+ * Enum representing how much documentation and metadata is emitted into generated builders.
+ *
+ * <p>This enum is used to trade generated source size and processing time against documentation
+ * through the {@link org.javahelpers.simple.builders.core.annotations.SimpleBuilder.Options}
+ * annotation or the {@code -Asimplebuilder.outputProfile} compiler option.
+ */
+public enum OutputProfile {
+
+  /** Not configured, the profile of the enclosing configuration level applies */
+  DEFAULT,
+
+  /** Full output - Javadoc on every generated member, usage examples and all annotations */
+  FULL,
+
+  /** Lean output - no Javadoc, no usage examples and no {@code @Generated} annotation */
+  LEAN,
+
+  /**
+   * API-only output - Javadoc only on the builder class, its constructors and the entry points
+   * create(), fromMap(..), build() and buildAsync()
+   */
+  API_ONLY
+}
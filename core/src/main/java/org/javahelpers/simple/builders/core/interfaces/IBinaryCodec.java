@@ -0,0 +1,72 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.javahelpers.simple.builders.core.interfaces;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Interface for generated codecs encoding DTOs in the compact binary format of {@link
+ * org.javahelpers.simple.builders.core.util.BinaryFormat}.
+ *
+ * <p>Encoded values start with a format version header, followed by the set fields of the DTO, each
+ * tagged with its field number and wire type. Decoders skip fields they do not know, so fields can
+ * be added to a DTO without breaking the decoding of values written before or after.
+ *
+ * @param <T> the type of the encoded DTOs
+ */
+public interface IBinaryCodec<T> {
+  /**
+   * Encodes a DTO, including the format version header, starting at the position of the buffer.
+   *
+   * @param value the DTO to encode
+   * @param buffer the buffer to write to, its position is advanced
+   * @throws java.nio.BufferOverflowException if the buffer has not enough remaining space
+   */
+  void encode(T value, ByteBuffer buffer);
+
+  /**
+   * Decodes a DTO, including the format version header, starting at the position of the buffer.
+   *
+   * @param buffer the buffer to read from, its position is advanced
+   * @return the decoded DTO
+   * @throws IllegalArgumentException if the data is not a valid encoding
+   */
+  T decode(ByteBuffer buffer);
+
+  /**
+   * Encodes the fields of a DTO without header, terminated by an end tag. Used for nested DTOs.
+   *
+   * @param value the DTO to encode
+   * @param buffer the buffer to write to, its position is advanced
+   */
+  void encodeFields(T value, ByteBuffer buffer);
+
+  /**
+   * Decodes the fields of a DTO without header up to the end tag. Used for nested DTOs.
+   *
+   * @param buffer the buffer to read from, its position is advanced
+   * @return the decoded DTO
+   */
+  T decodeFields(ByteBuffer buffer);
+}
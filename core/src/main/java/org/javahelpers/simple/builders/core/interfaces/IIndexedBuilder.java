@@ -0,0 +1,64 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.javahelpers.simple.builders.core.interfaces;
+
+import java.util.List;
+import org.javahelpers.simple.builders.core.util.FieldDescriptor;
+
+/**
+ * Interface for generated builders providing access to their fields by ordinal.
+ *
+ * <p>Allows generic code like mappers or exporters to populate and read any builder without using
+ * reflection.
+ *
+ * @param <T> the type of build instances
+ */
+public interface IIndexedBuilder<T> extends IBuilderBase<T> {
+  /**
+   * Returns the descriptors of all fields of this builder, ordered by their ordinal.
+   *
+   * @return unmodifiable list of field descriptors
+   */
+  List<FieldDescriptor> fieldDescriptors();
+
+  /**
+   * Returns the current value of a field, {@code null} if the field is not set.
+   *
+   * @param ordinal ordinal of the field
+   * @return value of the field
+   * @throws IndexOutOfBoundsException if there is no field with that ordinal
+   */
+  Object get(int ordinal);
+
+  /**
+   * Sets the value of a field.
+   *
+   * @param ordinal ordinal of the field
+   * @param value value to set, must be assignable to the type of the field
+   * @return this builder
+   * @throws IndexOutOfBoundsException if there is no field with that ordinal
+   * @throws ClassCastException if the value does not match the type of the field
+   */
+  IIndexedBuilder<T> set(int ordinal, Object value);
+}
@@ -0,0 +1,433 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.javahelpers.simple.builders.core.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Compact binary format used by generated codecs.
+ *
+ * <p>An encoded DTO starts with the {@link #FORMAT_VERSION} as varint. Each set field is written as
+ * a tag, combining the field number and the wire type of the value, followed by the value. Fields
+ * with {@code null} values are not written at all, so the tags encode the presence of fields. The
+ * fields of a DTO are terminated by {@link #END_TAG}. Nested DTOs are written as groups with their
+ * own end tag; lists and sets are written with their size and the wire type of their elements.
+ *
+ * <p>Integral numbers are written as zig-zag encoded varints, floating point numbers with fixed
+ * width and strings as UTF-8 with length prefix. The wire type allows decoders to skip fields they
+ * do not know.
+ */
+public final class BinaryFormat {
+
+  /** Version of the format, written as header of each encoded DTO. */
+  public static final int FORMAT_VERSION = 1;
+
+  /** Tag terminating the fields of a DTO. */
+  public static final int END_TAG = 0;
+
+  /** Wire type of varint encoded values. */
+  public static final int WIRE_VARINT = 0;
+
+  /** Wire type of 8 byte values. */
+  public static final int WIRE_FIXED64 = 1;
+
+  /** Wire type of length prefixed values. */
+  public static final int WIRE_BYTES = 2;
+
+  /** Wire type of nested DTOs, terminated by {@link #END_TAG}. */
+  public static final int WIRE_GROUP = 3;
+
+  /** Wire type of collections, prefixed with size and wire type of the elements. */
+  public static final int WIRE_COLLECTION = 4;
+
+  /** Wire type of 4 byte values. */
+  public static final int WIRE_FIXED32 = 5;
+
+  private static final int WIRE_TYPE_BITS = 3;
+  private static final int WIRE_TYPE_MASK = (1 << WIRE_TYPE_BITS) - 1;
+  private static final int UUID_LENGTH = 16;
+
+  private BinaryFormat() {}
+
+  /**
+   * Creates the tag of a field.
+   *
+   * @param fieldNumber the number of the field, at least 1
+   * @param wireType the wire type of the value
+   * @return the tag
+   */
+  public static int tag(int fieldNumber, int wireType) {
+    return (fieldNumber << WIRE_TYPE_BITS) | wireType;
+  }
+
+  /**
+   * Writes the format version header.
+   *
+   * @param buffer the buffer to write to
+   */
+  public static void writeHeader(ByteBuffer buffer) {
+    writeUnsignedVarInt(buffer, FORMAT_VERSION);
+  }
+
+  /**
+   * Reads and checks the format version header.
+   *
+   * @param buffer the buffer to read from
+   * @throws IllegalArgumentException if the format version is not supported
+   */
+  public static void readHeader(ByteBuffer buffer) {
+    int version = readUnsignedVarInt(buffer);
+    if (version < 1 || version > FORMAT_VERSION) {
+      throw new IllegalArgumentException("Unsupported binary format version: " + version);
+    }
+  }
+
+  /**
+   * Writes a tag.
+   *
+   * @param buffer the buffer to write to
+   * @param tag the tag, created by {@link #tag(int, int)}
+   */
+  public static void writeTag(ByteBuffer buffer, int tag) {
+    writeUnsignedVarInt(buffer, tag);
+  }
+
+  /**
+   * Writes the end tag, terminating the fields of a DTO.
+   *
+   * @param buffer the buffer to write to
+   */
+  public static void writeEndTag(ByteBuffer buffer) {
+    buffer.put((byte) END_TAG);
+  }
+
+  /**
+   * Reads a tag.
+   *
+   * @param buffer the buffer to read from
+   * @return the tag, {@link #END_TAG} at the end of the fields of a DTO
+   */
+  public static int readTag(ByteBuffer buffer) {
+    return readUnsignedVarInt(buffer);
+  }
+
+  /**
+   * Skips the value of a field that is not known to the decoder.
+   *
+   * @param buffer the buffer to read from
+   * @param tag the tag of the field
+   * @throws IllegalArgumentException if the wire type is not valid
+   */
+  public static void skipField(ByteBuffer buffer, int tag) {
+    skipValue(buffer, tag & WIRE_TYPE_MASK);
+  }
+
+  private static void skipValue(ByteBuffer buffer, int wireType) {
+    switch (wireType) {
+      case WIRE_VARINT:
+        readUnsignedVarLong(buffer);
+        break;
+      case WIRE_FIXED64:
+        buffer.position(buffer.position() + Long.BYTES);
+        break;
+      case WIRE_BYTES:
+        int length = readLength(buffer);
+        buffer.position(buffer.position() + length);
+        break;
+      case WIRE_GROUP:
+        int tag;
+        while ((tag = readTag(buffer)) != END_TAG) {
+          skipField(buffer, tag);
+        }
+        break;
+      case WIRE_COLLECTION:
+        int size = readLength(buffer);
+        int elementWireType = buffer.get();
+        for (int i = 0; i < size; i++) {
+          skipValue(buffer, elementWireType);
+        }
+        break;
+      case WIRE_FIXED32:
+        buffer.position(buffer.position() + Integer.BYTES);
+        break;
+      default:
+        throw new IllegalArgumentException("Invalid wire type: " + wireType);
+    }
+  }
+
+  /**
+   * Writes the header of a collection.
+   *
+   * @param buffer the buffer to write to
+   * @param size the number of elements
+   * @param elementWireType the wire type of the elements
+   */
+  public static void writeCollectionHeader(ByteBuffer buffer, int size, int elementWireType) {
+    writeUnsignedVarInt(buffer, size);
+    buffer.put((byte) elementWireType);
+  }
+
+  /**
+   * Reads the header of a collection.
+   *
+   * @param buffer the buffer to read from
+   * @param elementWireType the expected wire type of the elements
+   * @return the number of elements
+   * @throws IllegalArgumentException if the elements have another wire type, or the size exceeds
+   *     the remaining bytes
+   */
+  public static int readCollectionHeader(ByteBuffer buffer, int elementWireType) {
+    // Every element takes at least one byte, which bounds the size used to presize collections
+    int size = readLength(buffer);
+    int actualWireType = buffer.get();
+    if (actualWireType != elementWireType) {
+      throw new IllegalArgumentException(
+          "Unexpected wire type of collection elements: " + actualWireType);
+    }
+    return size;
+  }
+
+  /**
+   * Writes a non-negative int as varint.
+   *
+   * @param buffer the buffer to write to
+   * @param value the value, interpreted as unsigned
+   */
+  public static void writeUnsignedVarInt(ByteBuffer buffer, int value) {
+    while ((value & ~0x7F) != 0) {
+      buffer.put((byte) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    buffer.put((byte) value);
+  }
+
+  /**
+   * Reads a varint written by {@link #writeUnsignedVarInt(ByteBuffer, int)}.
+   *
+   * @param buffer the buffer to read from
+   * @return the value
+   */
+  public static int readUnsignedVarInt(ByteBuffer buffer) {
+    return (int) readUnsignedVarLong(buffer);
+  }
+
+  /**
+   * Writes a non-negative long as varint.
+   *
+   * @param buffer the buffer to write to
+   * @param value the value, interpreted as unsigned
+   */
+  public static void writeUnsignedVarLong(ByteBuffer buffer, long value) {
+    while ((value & ~0x7FL) != 0) {
+      buffer.put((byte) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    buffer.put((byte) value);
+  }
+
+  /**
+   * Reads a varint written by {@link #writeUnsignedVarLong(ByteBuffer, long)}.
+   *
+   * @param buffer the buffer to read from
+   * @return the value
+   * @throws IllegalArgumentException if the varint is longer than 10 bytes
+   */
+  public static long readUnsignedVarLong(ByteBuffer buffer) {
+    long result = 0;
+    for (int shift = 0; shift < Long.SIZE; shift += 7) {
+      byte b = buffer.get();
+      result |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return result;
+      }
+    }
+    throw new IllegalArgumentException("Malformed varint");
+  }
+
+  /**
+   * Reads a length or size prefix, which can not exceed the remaining bytes of valid data.
+   *
+   * @param buffer the buffer to read from
+   * @return the length
+   * @throws IllegalArgumentException if the length is negative or exceeds the remaining bytes
+   */
+  private static int readLength(ByteBuffer buffer) {
+    long length = readUnsignedVarLong(buffer);
+    if (length < 0 || length > buffer.remaining()) {
+      throw new IllegalArgumentException(
+          "Length " + length + " exceeds the " + buffer.remaining() + " remaining bytes");
+    }
+    return (int) length;
+  }
+
+  /**
+   * Writes an int as zig-zag encoded varint, so small negative numbers stay short.
+   *
+   * @param buffer the buffer to write to
+   * @param value the value
+   */
+  public static void writeVarInt(ByteBuffer buffer, int value) {
+    writeUnsignedVarInt(buffer, (value << 1) ^ (value >> 31));
+  }
+
+  /**
+   * Reads an int written by {@link #writeVarInt(ByteBuffer, int)}.
+   *
+   * @param buffer the buffer to read from
+   * @return the value
+   */
+  public static int readVarInt(ByteBuffer buffer) {
+    int encoded = readUnsignedVarInt(buffer);
+    return (encoded >>> 1) ^ -(encoded & 1);
+  }
+
+  /**
+   * Writes a long as zig-zag encoded varint, so small negative numbers stay short.
+   *
+   * @param buffer the buffer to write to
+   * @param value the value
+   */
+  public static void writeVarLong(ByteBuffer buffer, long value) {
+    writeUnsignedVarLong(buffer, (value << 1) ^ (value >> 63));
+  }
+
+  /**
+   * Reads a long written by {@link #writeVarLong(ByteBuffer, long)}.
+   *
+   * @param buffer the buffer to read from
+   * @return the value
+   */
+  public static long readVarLong(ByteBuffer buffer) {
+    long encoded = readUnsignedVarLong(buffer);
+    return (encoded >>> 1) ^ -(encoded & 1);
+  }
+
+  /**
+   * Writes a boolean as varint.
+   *
+   * @param buffer the buffer to write to
+   * @param value the value
+   */
+  public static void writeBoolean(ByteBuffer buffer, boolean value) {
+    buffer.put((byte) (value ? 1 : 0));
+  }
+
+  /**
+   * Reads a boolean written by {@link #writeBoolean(ByteBuffer, boolean)}.
+   *
+   * @param buffer the buffer to read from
+   * @return the value
+   */
+  public static boolean readBoolean(ByteBuffer buffer) {
+    return readUnsignedVarLong(buffer) != 0;
+  }
+
+  /**
+   * Writes a string as UTF-8 with length prefix.
+   *
+   * @param buffer the buffer to write to
+   * @param value the value, not {@code null}
+   */
+  public static void writeString(ByteBuffer buffer, String value) {
+    writeBytes(buffer, value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Reads a string written by {@link #writeString(ByteBuffer, String)}.
+   *
+   * @param buffer the buffer to read from
+   * @return the value
+   * @throws IllegalArgumentException if the length exceeds the remaining bytes
+   */
+  public static String readString(ByteBuffer buffer) {
+    int length = readLength(buffer);
+    if (buffer.hasArray()) {
+      // Decode directly from the backing array without copying the bytes first
+      String value =
+          new String(
+              buffer.array(),
+              buffer.arrayOffset() + buffer.position(),
+              length,
+              StandardCharsets.UTF_8);
+      buffer.position(buffer.position() + length);
+      return value;
+    }
+    byte[] bytes = new byte[length];
+    buffer.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Writes a byte array with length prefix.
+   *
+   * @param buffer the buffer to write to
+   * @param value the value, not {@code null}
+   */
+  public static void writeBytes(ByteBuffer buffer, byte[] value) {
+    writeUnsignedVarInt(buffer, value.length);
+    buffer.put(value);
+  }
+
+  /**
+   * Reads a byte array written by {@link #writeBytes(ByteBuffer, byte[])}.
+   *
+   * @param buffer the buffer to read from
+   * @return the value
+   * @throws IllegalArgumentException if the length exceeds the remaining bytes
+   */
+  public static byte[] readBytes(ByteBuffer buffer) {
+    byte[] value = new byte[readLength(buffer)];
+    buffer.get(value);
+    return value;
+  }
+
+  /**
+   * Writes a UUID as 16 bytes with length prefix.
+   *
+   * @param buffer the buffer to write to
+   * @param value the value, not {@code null}
+   */
+  public static void writeUuid(ByteBuffer buffer, UUID value) {
+    writeUnsignedVarInt(buffer, UUID_LENGTH);
+    buffer.putLong(value.getMostSignificantBits());
+    buffer.putLong(value.getLeastSignificantBits());
+  }
+
+  /**
+   * Reads a UUID written by {@link #writeUuid(ByteBuffer, UUID)}.
+   *
+   * @param buffer the buffer to read from
+   * @return the value
+   * @throws IllegalArgumentException if the length is not 16
+   */
+  public static UUID readUuid(ByteBuffer buffer) {
+    int length = readUnsignedVarInt(buffer);
+    if (length != UUID_LENGTH) {
+      throw new IllegalArgumentException("Invalid length of UUID: " + length);
+    }
+    return new UUID(buffer.getLong(), buffer.getLong());
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.javahelpers.simple.builders.core.util;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * Helpers shared by all generated builders.
+ *
+ * <p>Logic which would otherwise be repeated in every generated builder, like the copy-and-append
+ * of {@code add2...} methods, the {@code conditional} helpers and the type check of the {@code
+ * With} interface, is implemented once here. Generated methods only delegate, which keeps the
+ * bytecode of thousands of builders small.
+ */
+public final class BuilderSupport {
+
+  private BuilderSupport() {}
+
+  /**
+   * Adds an element to a copy of the current list value.
+   *
+   * @param <E> the type of the list elements
+   * @param current the current value of the list field
+   * @param element the element to add
+   * @return changed value holding a new {@link ArrayList} with all current elements and {@code
+   *     element}
+   */
+  public static <E> TrackedValue<List<E>> addToList(TrackedValue<List<E>> current, E element) {
+    List<E> newCollection = current.isSet() ? new ArrayList<>(current.value()) : new ArrayList<>();
+    newCollection.add(element);
+    return TrackedValue.changedValue(newCollection);
+  }
+
+  /**
+   * Adds an element to a copy of the current set value.
+   *
+   * @param <E> the type of the set elements
+   * @param current the current value of the set field
+   * @param element the element to add
+   * @return changed value holding a new {@link HashSet} with all current elements and {@code
+   *     element}
+   */
+  public static <E> TrackedValue<Set<E>> addToSet(TrackedValue<Set<E>> current, E element) {
+    Set<E> newCollection = current.isSet() ? new HashSet<>(current.value()) : new HashSet<>();
+    newCollection.add(element);
+    return TrackedValue.changedValue(newCollection);
+  }
+
+  /**
+   * Applies one of two consumers to a builder, depending on a condition.
+   *
+   * @param <B> the type of the builder
+   * @param builder the builder to modify
+   * @param condition the condition to evaluate
+   * @param trueCase the consumer to apply if the condition is true
+   * @param falseCase the consumer to apply if the condition is false (can be null)
+   * @return the given builder
+   */
+  public static <B> B conditional(
+      B builder, BooleanSupplier condition, Consumer<B> trueCase, Consumer<B> falseCase) {
+    if (condition.getAsBoolean()) {
+      trueCase.accept(builder);
+    } else if (falseCase != null) {
+      falseCase.accept(builder);
+    }
+    return builder;
+  }
+
+  /**
+   * Casts an instance implementing the {@code With} interface of a builder to the DTO type.
+   *
+   * @param <T> the type of the DTO
+   * @param instance the instance implementing the {@code With} interface
+   * @param dtoType the type of the DTO
+   * @param withInterfaceName name of the {@code With} interface, used in the error message
+   * @return the instance as DTO
+   * @throws IllegalArgumentException if the instance is not an instance of {@code dtoType}
+   */
+  public static <T> T castWithInstance(
+      Object instance, Class<T> dtoType, String withInterfaceName) {
+    try {
+      return dtoType.cast(instance);
+    } catch (ClassCastException ex) {
+      throw new IllegalArgumentException(
+          "The interface '%s' should only be implemented by classes, which could be casted to '%s'"
+              .formatted(withInterfaceName, dtoType.getSimpleName()),
+          ex);
+    }
+  }
+}
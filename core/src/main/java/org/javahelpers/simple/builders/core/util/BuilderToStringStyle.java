@@ -29,7 +29,8 @@ import org.apache.commons.lang3.builder.ToStringStyle;
 /**
  * Custom ToStringStyle for builders that automatically handles TrackedValue fields. This style only
  * includes fields that have been set (TrackedValue.isSet() returns true) and unwraps their values
- * automatically.
+ * automatically. Deferred values which have not been computed yet are shown as {@value
+ * #DEFERRED_VALUE} instead of being computed.
  */
 public class BuilderToStringStyle extends ToStringStyle {
 
@@ -37,6 +38,9 @@ public class BuilderToStringStyle extends ToStringStyle {
 
   public static final BuilderToStringStyle INSTANCE = new BuilderToStringStyle();
 
+  /** Text shown for deferred values which have not been computed yet. */
+  public static final String DEFERRED_VALUE = "<deferred>";
+
   public BuilderToStringStyle() {
     super();
     this.setUseClassName(true);
@@ -46,7 +50,9 @@ public class BuilderToStringStyle extends ToStringStyle {
   @Override
   public void append(StringBuffer buffer, String fieldName, Object value, Boolean fullDetail) {
     if (value instanceof TrackedValue<?> trackedValue) {
-      if (trackedValue.isSet()) {
+      if (trackedValue.isDeferred()) {
+        super.append(buffer, fieldName, DEFERRED_VALUE, fullDetail);
+      } else if (trackedValue.isSet()) {
         super.append(buffer, fieldName, trackedValue.value(), fullDetail);
       }
     } else {
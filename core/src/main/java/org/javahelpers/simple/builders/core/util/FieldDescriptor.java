@@ -0,0 +1,44 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.javahelpers.simple.builders.core.util;
+
+/**
+ * Describes a field of a generated builder, allowing generic code to access builders without
+ * reflection.
+ *
+ * <p>The descriptors of a builder are available via {@link
+ * org.javahelpers.simple.builders.core.interfaces.IIndexedBuilder#fieldDescriptors()}. The ordinal
+ * is the index used by {@link
+ * org.javahelpers.simple.builders.core.interfaces.IIndexedBuilder#get(int)} and {@link
+ * org.javahelpers.simple.builders.core.interfaces.IIndexedBuilder#set(int, Object)}.
+ *
+ * @param ordinal index of the field in the builder
+ * @param name name of the field in the builder
+ * @param declaredType declared type of the field, including generic type arguments (e.g. {@code
+ *     java.util.List<java.lang.String>})
+ * @param rawType raw type of the field, {@code Object} for type variables
+ * @param nonNull whether the field is marked as non-null
+ */
+public record FieldDescriptor(
+    int ordinal, String name, String declaredType, Class<?> rawType, boolean nonNull) {}
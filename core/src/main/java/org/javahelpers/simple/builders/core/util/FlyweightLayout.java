@@ -0,0 +1,157 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.javahelpers.simple.builders.core.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Helpers for the record layout of generated flyweight views.
+ *
+ * <p>A record starts with a fixed-width part holding the primitive fields at precomputed offsets.
+ * Variable-length fields like strings have a slot of {@link #SLOT_SIZE} bytes in the fixed part,
+ * holding the offset of their data relative to the start of the record and its length, or {@link
+ * #NULL_LENGTH} for {@code null}. Their data follows the fixed part of the record.
+ *
+ * <p>All methods use absolute positions, the position and limit of the buffer are never changed.
+ * Views on the same buffer can therefore be used concurrently for reading.
+ */
+public final class FlyweightLayout {
+
+  /** Size of the slot of a variable-length field in the fixed-width part of a record. */
+  public static final int SLOT_SIZE = 2 * Integer.BYTES;
+
+  /** Length stored in the slot of a variable-length field with {@code null} value. */
+  public static final int NULL_LENGTH = -1;
+
+  private FlyweightLayout() {}
+
+  /**
+   * Reads a boolean stored as single byte.
+   *
+   * @param buffer the buffer holding the record
+   * @param index the absolute index of the value
+   * @return the value
+   */
+  public static boolean getBoolean(ByteBuffer buffer, int index) {
+    return buffer.get(index) != 0;
+  }
+
+  /**
+   * Writes a boolean as single byte.
+   *
+   * @param buffer the buffer holding the record
+   * @param index the absolute index of the value
+   * @param value the value
+   */
+  public static void putBoolean(ByteBuffer buffer, int index, boolean value) {
+    buffer.put(index, (byte) (value ? 1 : 0));
+  }
+
+  /**
+   * Returns the length of the data of a variable-length field.
+   *
+   * @param buffer the buffer holding the record
+   * @param recordOffset the absolute offset of the record
+   * @param slotOffset the offset of the slot of the field, relative to the record
+   * @return the length in bytes, 0 for {@code null} values
+   */
+  public static int dataLength(ByteBuffer buffer, int recordOffset, int slotOffset) {
+    return Math.max(0, buffer.getInt(recordOffset + slotOffset + Integer.BYTES));
+  }
+
+  /**
+   * Reads a string of a variable-length field.
+   *
+   * @param buffer the buffer holding the record
+   * @param recordOffset the absolute offset of the record
+   * @param slotOffset the offset of the slot of the field, relative to the record
+   * @return the value, may be {@code null}
+   */
+  public static String getString(ByteBuffer buffer, int recordOffset, int slotOffset) {
+    byte[] bytes = getBytes(buffer, recordOffset, slotOffset);
+    return bytes == null ? null : new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Reads a byte array of a variable-length field.
+   *
+   * @param buffer the buffer holding the record
+   * @param recordOffset the absolute offset of the record
+   * @param slotOffset the offset of the slot of the field, relative to the record
+   * @return a copy of the value, may be {@code null}
+   */
+  public static byte[] getBytes(ByteBuffer buffer, int recordOffset, int slotOffset) {
+    int length = buffer.getInt(recordOffset + slotOffset + Integer.BYTES);
+    if (length == NULL_LENGTH) {
+      return null;
+    }
+    byte[] bytes = new byte[length];
+    buffer.get(recordOffset + buffer.getInt(recordOffset + slotOffset), bytes);
+    return bytes;
+  }
+
+  /**
+   * Writes a string of a variable-length field as UTF-8.
+   *
+   * @param buffer the buffer holding the record
+   * @param recordOffset the absolute offset of the record
+   * @param slotOffset the offset of the slot of the field, relative to the record
+   * @param dataOffset the offset to write the data to, relative to the record
+   * @param value the value, may be {@code null}
+   * @return the offset following the written data, relative to the record
+   */
+  public static int putString(
+      ByteBuffer buffer, int recordOffset, int slotOffset, int dataOffset, String value) {
+    return putBytes(
+        buffer,
+        recordOffset,
+        slotOffset,
+        dataOffset,
+        value == null ? null : value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Writes a byte array of a variable-length field.
+   *
+   * @param buffer the buffer holding the record
+   * @param recordOffset the absolute offset of the record
+   * @param slotOffset the offset of the slot of the field, relative to the record
+   * @param dataOffset the offset to write the data to, relative to the record
+   * @param value the value, may be {@code null}
+   * @return the offset following the written data, relative to the record
+   * @throws IndexOutOfBoundsException if the buffer is too small
+   */
+  public static int putBytes(
+      ByteBuffer buffer, int recordOffset, int slotOffset, int dataOffset, byte[] value) {
+    buffer.putInt(recordOffset + slotOffset, dataOffset);
+    if (value == null) {
+      buffer.putInt(recordOffset + slotOffset + Integer.BYTES, NULL_LENGTH);
+      return dataOffset;
+    }
+    buffer.putInt(recordOffset + slotOffset + Integer.BYTES, value.length);
+    buffer.put(recordOffset + dataOffset, value);
+    return dataOffset + value.length;
+  }
+}
@@ -0,0 +1,154 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.javahelpers.simple.builders.core.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Helpers used by generated {@code fromMap} and {@code toMap} methods to convert nested DTOs with
+ * builders from and to property maps.
+ *
+ * <p>Values which are already instances of the target type are passed through unchanged, so maps
+ * can contain nested DTOs as well as nested property maps.
+ */
+public final class MapConversion {
+
+  private MapConversion() {}
+
+  /**
+   * Converts a map value to a nested DTO.
+   *
+   * @param <T> the type of the nested DTO
+   * @param value the value of the map, either a property map or an instance of {@code type}
+   * @param type the type of the nested DTO
+   * @param fromMap function creating the DTO from a property map
+   * @return the nested DTO, {@code null} if the value is {@code null}
+   * @throws ClassCastException if the value is neither a map nor an instance of {@code type}
+   */
+  public static <T> T fromMapValue(
+      Object value, Class<T> type, Function<Map<String, ?>, T> fromMap) {
+    if (value instanceof Map<?, ?> map) {
+      return fromMap.apply(asPropertyMap(map));
+    }
+    return type.cast(value);
+  }
+
+  /**
+   * Converts a collection of map values to a list of nested DTOs.
+   *
+   * @param <T> the type of the nested DTOs
+   * @param value the value of the map, a collection of property maps or instances of {@code type}
+   * @param type the type of the nested DTOs
+   * @param fromMap function creating a DTO from a property map
+   * @return list of nested DTOs, {@code null} if the value is {@code null}
+   * @throws ClassCastException if the value is not a collection or contains an unexpected element
+   */
+  public static <T> List<T> fromMapValueList(
+      Object value, Class<T> type, Function<Map<String, ?>, T> fromMap) {
+    if (value == null) {
+      return null;
+    }
+    Collection<?> elements = (Collection<?>) value;
+    List<T> result = new ArrayList<>(elements.size());
+    for (Object element : elements) {
+      result.add(fromMapValue(element, type, fromMap));
+    }
+    return result;
+  }
+
+  /**
+   * Converts a collection of map values to a set of nested DTOs, keeping the iteration order.
+   *
+   * @param <T> the type of the nested DTOs
+   * @param value the value of the map, a collection of property maps or instances of {@code type}
+   * @param type the type of the nested DTOs
+   * @param fromMap function creating a DTO from a property map
+   * @return set of nested DTOs, {@code null} if the value is {@code null}
+   * @throws ClassCastException if the value is not a collection or contains an unexpected element
+   */
+  public static <T> Set<T> fromMapValueSet(
+      Object value, Class<T> type, Function<Map<String, ?>, T> fromMap) {
+    List<T> elements = fromMapValueList(value, type, fromMap);
+    return elements == null ? null : new LinkedHashSet<>(elements);
+  }
+
+  /**
+   * Converts a nested DTO to a property map.
+   *
+   * @param <T> the type of the nested DTO
+   * @param value the nested DTO
+   * @param toMap function creating the property map of a DTO
+   * @return the property map, {@code null} if the value is {@code null}
+   */
+  public static <T> Map<String, Object> toMapValue(
+      T value, Function<T, Map<String, Object>> toMap) {
+    return value == null ? null : toMap.apply(value);
+  }
+
+  /**
+   * Converts a collection of nested DTOs to a list of property maps.
+   *
+   * @param <T> the type of the nested DTOs
+   * @param values the nested DTOs
+   * @param toMap function creating the property map of a DTO
+   * @return list of property maps, {@code null} if the collection is {@code null}
+   */
+  public static <T> List<Map<String, Object>> toMapValueList(
+      Collection<T> values, Function<T, Map<String, Object>> toMap) {
+    if (values == null) {
+      return null;
+    }
+    List<Map<String, Object>> result = new ArrayList<>(values.size());
+    for (T value : values) {
+      result.add(toMapValue(value, toMap));
+    }
+    return result;
+  }
+
+  /**
+   * Converts a set of nested DTOs to a set of property maps, keeping the iteration order. DTOs with
+   * equal property maps result in a single element, like equal DTOs in the source set.
+   *
+   * @param <T> the type of the nested DTOs
+   * @param values the nested DTOs
+   * @param toMap function creating the property map of a DTO
+   * @return set of property maps, {@code null} if the collection is {@code null}
+   */
+  public static <T> Set<Map<String, Object>> toMapValueSet(
+      Collection<T> values, Function<T, Map<String, Object>> toMap) {
+    List<Map<String, Object>> maps = toMapValueList(values, toMap);
+    return maps == null ? null : new LinkedHashSet<>(maps);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, ?> asPropertyMap(Map<?, ?> map) {
+    return (Map<String, ?>) map;
+  }
+}
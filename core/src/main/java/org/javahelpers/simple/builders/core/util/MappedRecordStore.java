@@ -0,0 +1,392 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.javahelpers.simple.builders.core.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import org.javahelpers.simple.builders.core.interfaces.IBinaryCodec;
+
+/**
+ * Append-only store persisting DTOs into memory-mapped segment files, base class of the generated
+ * stores.
+ *
+ * <p>Values are encoded with a generated {@link IBinaryCodec} directly into the mapped segment.
+ * Each record is prefixed by its length and a CRC32 checksum of the encoded data. Once a segment is
+ * full, a new segment file is created (rollover). Segment files are named {@code
+ * <name>-<number>.seg} and have a fixed size; unused space is zero-filled, a length of 0 marks the
+ * end of the records of a segment.
+ *
+ * <p>When a store is opened, existing segments are scanned and an index of the record positions is
+ * built. Scanning stops at the first record of a segment with an invalid length or checksum, so
+ * records torn by a crash are dropped and overwritten by the next append. Reading decodes directly
+ * from the mapped segments, without copying the encoded data.
+ *
+ * <p>Stores are not thread-safe. Records are written to the page cache of the operating system and
+ * survive a crash of the JVM; {@link #flush()} forces them to the storage device.
+ *
+ * @param <T> the type of the stored DTOs
+ */
+public class MappedRecordStore<T> implements Closeable {
+
+  /** Default size of a segment file in bytes. */
+  public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+  /** Size of the header of a record: length and checksum of the encoded data. */
+  public static final int RECORD_HEADER_SIZE = 2 * Integer.BYTES;
+
+  /** File extension of segment files. */
+  public static final String SEGMENT_EXTENSION = ".seg";
+
+  private static final int INITIAL_INDEX_CAPACITY = 64;
+
+  private final Path directory;
+  private final String name;
+  private final int segmentSize;
+  private final IBinaryCodec<T> codec;
+  private final Pattern segmentFileName;
+  private final List<MappedByteBuffer> segments = new ArrayList<>();
+  private final CRC32 checksum = new CRC32();
+
+  /** Positions of the records, segment number in the upper and offset in the lower 32 bits. */
+  private long[] index = new long[INITIAL_INDEX_CAPACITY];
+
+  private int size;
+  private int writeOffset;
+  private boolean open;
+
+  /**
+   * Creates a store, which has to be opened with {@link #load()} before use.
+   *
+   * @param directory the directory of the segment files
+   * @param name the prefix of the segment file names
+   * @param segmentSize the size of new segment files in bytes
+   * @param codec the codec encoding and decoding the values
+   * @throws IllegalArgumentException if the segment size is not larger than the record header
+   */
+  protected MappedRecordStore(Path directory, String name, int segmentSize, IBinaryCodec<T> codec) {
+    if (segmentSize <= RECORD_HEADER_SIZE) {
+      throw new IllegalArgumentException(
+          "Segment size must be larger than " + RECORD_HEADER_SIZE + ": " + segmentSize);
+    }
+    this.directory = Objects.requireNonNull(directory, "directory");
+    this.name = Objects.requireNonNull(name, "name");
+    this.segmentSize = segmentSize;
+    this.codec = Objects.requireNonNull(codec, "codec");
+    this.segmentFileName =
+        Pattern.compile(Pattern.quote(name) + "-(\\d+)" + Pattern.quote(SEGMENT_EXTENSION));
+  }
+
+  /**
+   * Opens a store, loading the records of existing segment files.
+   *
+   * @param directory the directory of the segment files, created if missing
+   * @param name the prefix of the segment file names
+   * @param segmentSize the size of new segment files in bytes
+   * @param codec the codec encoding and decoding the values
+   * @param <T> the type of the stored DTOs
+   * @return the opened store
+   * @throws IOException if the segment files could not be created or mapped
+   */
+  public static <T> MappedRecordStore<T> open(
+      Path directory, String name, int segmentSize, IBinaryCodec<T> codec) throws IOException {
+    MappedRecordStore<T> store = new MappedRecordStore<>(directory, name, segmentSize, codec);
+    store.load();
+    return store;
+  }
+
+  /**
+   * Maps the existing segment files and builds the index of their records. Creates the directory
+   * and the first segment file, if missing.
+   *
+   * @throws IOException if the segment files could not be created or mapped
+   * @throws IllegalStateException if the store is already open
+   */
+  protected final void load() throws IOException {
+    if (open) {
+      throw new IllegalStateException("Store is already open");
+    }
+    Files.createDirectories(directory);
+    List<Path> segmentFiles = listSegmentFiles();
+    for (int i = 0; i < segmentFiles.size(); i++) {
+      if (!segmentFiles.get(i).equals(segmentFile(i))) {
+        throw new IOException("Segment file missing: " + segmentFile(i));
+      }
+      MappedByteBuffer segment = map(segmentFiles.get(i), 0);
+      segments.add(segment);
+      writeOffset = scanSegment(i, segment);
+    }
+    if (segments.isEmpty()) {
+      segments.add(map(segmentFile(0), segmentSize));
+      writeOffset = 0;
+    }
+    open = true;
+  }
+
+  /**
+   * Appends a value to the current segment, rolling over to a new segment if it is full.
+   *
+   * @param value the value to append
+   * @return the index of the appended record
+   * @throws IllegalArgumentException if the encoded value does not fit into an empty segment
+   * @throws UncheckedIOException if a new segment file could not be created
+   */
+  public long append(T value) {
+    ensureOpen();
+    Objects.requireNonNull(value, "value");
+    int length = encode(value, currentSegment(), writeOffset);
+    if (length < 0) {
+      if (writeOffset == 0) {
+        throw tooLarge();
+      }
+      rollover();
+      length = encode(value, currentSegment(), 0);
+      if (length < 0) {
+        throw tooLarge();
+      }
+    }
+    addToIndex(segments.size() - 1, writeOffset);
+    writeOffset += RECORD_HEADER_SIZE + length;
+    return size - 1L;
+  }
+
+  /**
+   * Reads the record with the given index.
+   *
+   * @param recordIndex the index of the record, as returned by {@link #append(Object)}
+   * @return the decoded value
+   * @throws IndexOutOfBoundsException if there is no record with the index
+   */
+  public T get(long recordIndex) {
+    ensureOpen();
+    long position = index[(int) Objects.checkIndex(recordIndex, size)];
+    ByteBuffer segment = segments.get((int) (position >>> 32)).duplicate();
+    return decode(segment, (int) position);
+  }
+
+  /**
+   * Decodes all records in the order they were appended.
+   *
+   * @param consumer the consumer of the decoded values
+   */
+  public void replay(Consumer<? super T> consumer) {
+    replay(0, consumer);
+  }
+
+  /**
+   * Decodes the records starting at the given index in the order they were appended.
+   *
+   * @param fromIndex the index of the first record
+   * @param consumer the consumer of the decoded values
+   * @throws IndexOutOfBoundsException if the index is negative or larger than {@link #size()}
+   */
+  public void replay(long fromIndex, Consumer<? super T> consumer) {
+    ensureOpen();
+    Objects.requireNonNull(consumer, "consumer");
+    Objects.checkFromToIndex(fromIndex, size, size);
+    ByteBuffer segment = null;
+    int segmentNumber = -1;
+    for (int i = (int) fromIndex; i < size; i++) {
+      long position = index[i];
+      if ((int) (position >>> 32) != segmentNumber) {
+        segmentNumber = (int) (position >>> 32);
+        segment = segments.get(segmentNumber).duplicate();
+      }
+      consumer.accept(decode(segment, (int) position));
+    }
+  }
+
+  /**
+   * Returns the number of records.
+   *
+   * @return the number of records in all segments
+   */
+  public long size() {
+    return size;
+  }
+
+  /**
+   * Returns the number of segment files.
+   *
+   * @return the number of segments, at least 1 once the store is open
+   */
+  public int segmentCount() {
+    return segments.size();
+  }
+
+  /** Forces the records of the current segment to the storage device. */
+  public void flush() {
+    ensureOpen();
+    currentSegment().force();
+  }
+
+  /** Flushes the current segment and closes the store. Closing a closed store has no effect. */
+  @Override
+  public void close() {
+    if (!open) {
+      return;
+    }
+    flush();
+    open = false;
+    segments.clear();
+    index = new long[0];
+    size = 0;
+  }
+
+  private List<Path> listSegmentFiles() throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      return files
+          .filter(file -> segmentFileName.matcher(file.getFileName().toString()).matches())
+          .sorted()
+          .toList();
+    }
+  }
+
+  private Path segmentFile(int segmentNumber) {
+    return directory.resolve(String.format("%s-%06d%s", name, segmentNumber, SEGMENT_EXTENSION));
+  }
+
+  /** Maps a segment file, creating it with the given size if missing. */
+  private static MappedByteBuffer map(Path file, int newSize) throws IOException {
+    try (FileChannel channel =
+        FileChannel.open(
+            file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      long mappedSize = Math.max(channel.size(), newSize);
+      if (mappedSize > Integer.MAX_VALUE) {
+        throw new IOException("Segment file too large: " + file);
+      }
+      return channel.map(FileChannel.MapMode.READ_WRITE, 0, mappedSize);
+    }
+  }
+
+  /**
+   * Adds the valid records of a segment to the index.
+   *
+   * @return the offset after the last valid record
+   */
+  private int scanSegment(int segmentNumber, ByteBuffer segment) {
+    int offset = 0;
+    while (offset <= segment.capacity() - RECORD_HEADER_SIZE) {
+      int length = segment.getInt(offset);
+      if (length <= 0 || length > segment.capacity() - offset - RECORD_HEADER_SIZE) {
+        break;
+      }
+      int dataOffset = offset + RECORD_HEADER_SIZE;
+      if (segment.getInt(offset + Integer.BYTES) != checksum(segment, dataOffset, length)) {
+        break;
+      }
+      addToIndex(segmentNumber, offset);
+      offset = dataOffset + length;
+    }
+    return offset;
+  }
+
+  /**
+   * Encodes a value at the given offset of a segment. The length is written last, so a torn record
+   * is never valid.
+   *
+   * @return the length of the encoded data, -1 if the value does not fit into the segment
+   */
+  private int encode(T value, ByteBuffer segment, int offset) {
+    int dataOffset = offset + RECORD_HEADER_SIZE;
+    if (dataOffset >= segment.capacity()) {
+      return -1;
+    }
+    // Invalidate a torn record left at this offset before overwriting its data
+    segment.putInt(offset, 0);
+    ByteBuffer target = segment.duplicate().position(dataOffset);
+    try {
+      codec.encode(value, target);
+    } catch (BufferOverflowException e) {
+      return -1;
+    }
+    int length = target.position() - dataOffset;
+    segment.putInt(offset + Integer.BYTES, checksum(segment, dataOffset, length));
+    segment.putInt(offset, length);
+    return length;
+  }
+
+  private T decode(ByteBuffer segment, int offset) {
+    int length = segment.getInt(offset);
+    int dataOffset = offset + RECORD_HEADER_SIZE;
+    segment.limit(dataOffset + length).position(dataOffset);
+    T value = codec.decode(segment);
+    segment.limit(segment.capacity());
+    return value;
+  }
+
+  private int checksum(ByteBuffer segment, int dataOffset, int length) {
+    checksum.reset();
+    checksum.update(segment.duplicate().limit(dataOffset + length).position(dataOffset));
+    return (int) checksum.getValue();
+  }
+
+  /** Forces the full segment and maps a new segment file. */
+  private void rollover() {
+    currentSegment().force();
+    try {
+      segments.add(map(segmentFile(segments.size()), segmentSize));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    writeOffset = 0;
+  }
+
+  private MappedByteBuffer currentSegment() {
+    return segments.get(segments.size() - 1);
+  }
+
+  private void addToIndex(int segmentNumber, int offset) {
+    if (size == index.length) {
+      index = Arrays.copyOf(index, index.length * 2);
+    }
+    index[size++] = (long) segmentNumber << 32 | offset;
+  }
+
+  private IllegalArgumentException tooLarge() {
+    return new IllegalArgumentException(
+        "Encoded value does not fit into an empty segment of " + segmentSize + " bytes");
+  }
+
+  private void ensureOpen() {
+    if (!open) {
+      throw new IllegalStateException("Store is not open");
+    }
+  }
+}
@@ -0,0 +1,190 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.javahelpers.simple.builders.core.util;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Field values of a builder which are still being computed. Used by generated {@code
+ * xxx(CompletionStage)} and {@code xxx(Supplier, Executor)} methods and by {@code buildAsync()}.
+ *
+ * <p>Pending values are kept per field and applied in registration order once all of them are
+ * complete, right before the DTO is built. Registering a value for a field again, or setting it
+ * directly on the builder (which calls {@link #discard(String)}), replaces the pending value, so
+ * the last call wins like for all other setters. Methods extending the current value of a field
+ * fail while a value is pending for it, see {@link #checkNotPending(String)}. Like the builder
+ * itself, instances are not meant to be shared between threads.
+ */
+public final class PendingFields {
+
+  private static final Executor DEFAULT_EXECUTOR = createDefaultExecutor();
+
+  private final Map<String, CompletableFuture<Runnable>> pending = new LinkedHashMap<>();
+
+  /**
+   * Registers a value which is set as soon as the stage completes, replacing a value still pending
+   * for the same field.
+   *
+   * @param <T> the type of the value
+   * @param fieldName name of the field in the builder
+   * @param stage stage providing the value
+   * @param setter setting the value on the builder
+   */
+  public <T> void register(
+      String fieldName, CompletionStage<? extends T> stage, Consumer<? super T> setter) {
+    Objects.requireNonNull(stage, "stage");
+    CompletableFuture<Runnable> assignment = new CompletableFuture<>();
+    stage.whenComplete(
+        (value, failure) -> {
+          if (failure != null) {
+            assignment.completeExceptionally(failure);
+          } else {
+            assignment.complete(() -> setter.accept(value));
+          }
+        });
+    // Re-inserted, so that the registration order follows the latest registration
+    pending.remove(fieldName);
+    pending.put(fieldName, assignment);
+  }
+
+  /**
+   * Registers a value which is computed by the supplier on the given executor, replacing a value
+   * still pending for the same field.
+   *
+   * @param <T> the type of the value
+   * @param fieldName name of the field in the builder
+   * @param supplier supplier computing the value
+   * @param executor executor running the supplier, see {@link #defaultExecutor()}
+   * @param setter setting the value on the builder
+   */
+  public <T> void supply(
+      String fieldName,
+      Supplier<? extends T> supplier,
+      Executor executor,
+      Consumer<? super T> setter) {
+    Objects.requireNonNull(supplier, "supplier");
+    register(fieldName, CompletableFuture.supplyAsync(supplier, executor), setter);
+  }
+
+  /**
+   * Discards the value pending for a field, because the field has been set directly on the builder.
+   * A supplier which is already running is not interrupted, its value is just not applied.
+   *
+   * @param fieldName name of the field in the builder
+   */
+  public void discard(String fieldName) {
+    pending.remove(fieldName);
+  }
+
+  /**
+   * Checks that no value is pending for a field, called by builder methods extending the current
+   * value of the field, like {@code add2Tags(...)}. The pending value is not available yet, so it
+   * can neither be extended nor silently replaced.
+   *
+   * @param fieldName name of the field in the builder
+   * @throws IllegalStateException if a value is pending for the field
+   */
+  public void checkNotPending(String fieldName) {
+    if (pending.containsKey(fieldName)) {
+      throw new IllegalStateException(
+          "Value of field '"
+              + fieldName
+              + "' is still pending and cannot be extended, set it directly or extend it after buildAsync()");
+    }
+  }
+
+  /**
+   * Checks that no values are pending, called by the synchronous {@code build()}.
+   *
+   * @throws IllegalStateException if values are pending, naming the fields
+   */
+  public void checkResolved() {
+    if (!isEmpty()) {
+      throw new IllegalStateException(
+          "Values of fields "
+              + pending.keySet()
+              + " are still pending, use buildAsync() to build once they are available");
+    }
+  }
+
+  /**
+   * Returns whether values are pending.
+   *
+   * @return {@code true} if at least one value has been registered since the last resolve
+   */
+  public boolean isEmpty() {
+    return pending.isEmpty();
+  }
+
+  /**
+   * Waits for all pending values without blocking, applies them and builds the result. The pending
+   * values are consumed, so the builder can be reused afterwards.
+   *
+   * @param <R> the type of the result
+   * @param build function building the result after all values have been applied
+   * @return future completing with the result, or exceptionally if a pending value failed
+   */
+  public <R> CompletableFuture<R> resolve(Supplier<R> build) {
+    List<CompletableFuture<Runnable>> assignments = new ArrayList<>(pending.values());
+    pending.clear();
+    return CompletableFuture.allOf(assignments.toArray(CompletableFuture[]::new))
+        .thenApply(
+            ignored -> {
+              assignments.forEach(assignment -> assignment.join().run());
+              return build.get();
+            });
+  }
+
+  /**
+   * Returns the executor used for concurrent suppliers when no other is at hand: a
+   * virtual-thread-per-task executor on JDK 21 and newer, the common fork-join pool before.
+   *
+   * @return shared default executor
+   */
+  public static Executor defaultExecutor() {
+    return DEFAULT_EXECUTOR;
+  }
+
+  private static Executor createDefaultExecutor() {
+    try {
+      Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+      return (Executor) factory.invoke(null);
+    } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+      return ForkJoinPool.commonPool();
+    }
+  }
+}
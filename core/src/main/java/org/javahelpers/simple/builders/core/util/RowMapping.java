@@ -0,0 +1,95 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.javahelpers.simple.builders.core.util;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Helpers used by generated row mappers to resolve the columns of a row shape to the fields of a
+ * DTO.
+ *
+ * <p>A column matches a field if its label equals the field name ignoring case and underscores, so
+ * {@code first_name}, {@code FIRST_NAME} and {@code firstName} all match the field {@code
+ * firstName}.
+ */
+public final class RowMapping {
+
+  /** Column index for fields without matching column. */
+  public static final int NO_COLUMN = -1;
+
+  private RowMapping() {}
+
+  /**
+   * Resolves the column of each field.
+   *
+   * @param fieldNames the names of the fields, in the order of the field ordinals
+   * @param columnLabels the labels of the columns, in the order of the row
+   * @return the zero-based column index for each field ordinal, {@link #NO_COLUMN} for fields
+   *     without matching column
+   */
+  public static int[] resolveColumns(List<String> fieldNames, List<String> columnLabels) {
+    int[] columns = new int[fieldNames.size()];
+    Arrays.fill(columns, NO_COLUMN);
+    for (int column = 0; column < columnLabels.size(); column++) {
+      String label = columnLabels.get(column);
+      if (label == null) {
+        continue;
+      }
+      String normalizedLabel = normalize(label);
+      for (int ordinal = 0; ordinal < columns.length; ordinal++) {
+        if (columns[ordinal] == NO_COLUMN
+            && normalize(fieldNames.get(ordinal)).equals(normalizedLabel)) {
+          columns[ordinal] = column;
+          break;
+        }
+      }
+    }
+    return columns;
+  }
+
+  /**
+   * Reads the column labels of a result set.
+   *
+   * @param metaData the meta data of the result set
+   * @return the labels of all columns, in the order of the result set
+   * @throws SQLException if the meta data could not be read
+   */
+  public static List<String> columnLabels(ResultSetMetaData metaData) throws SQLException {
+    int columnCount = metaData.getColumnCount();
+    List<String> labels = new ArrayList<>(columnCount);
+    for (int column = 1; column <= columnCount; column++) {
+      labels.add(metaData.getColumnLabel(column));
+    }
+    return labels;
+  }
+
+  private static String normalize(String name) {
+    return name.replace("_", "").toLowerCase(Locale.ROOT);
+  }
+}
@@ -0,0 +1,139 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.javahelpers.simple.builders.core.util;
+
+/**
+ * Converts the values of {@code Object[]} or {@code String[]} rows to the types of DTO fields, used
+ * by generated row mappers.
+ *
+ * <p>Generated row mappers call the primitive methods like {@link #toInt(Object)} for primitive
+ * fields, so implementations can convert without boxing by overriding them. Default implementations
+ * are provided by {@link RowValueConverters}.
+ *
+ * @param <S> the type of the values in the row
+ */
+@FunctionalInterface
+public interface RowValueConverter<S> {
+
+  /**
+   * Converts a value of a row to the type of a field.
+   *
+   * @param value the value of the row, may be {@code null}
+   * @param targetType the raw type of the field, wrapper types for primitive fields
+   * @return the converted value, {@code null} for {@code null} values
+   * @throws IllegalArgumentException if the value could not be converted
+   */
+  Object convert(S value, Class<?> targetType);
+
+  /**
+   * Checks if a value of a row represents {@code null}. Primitive fields are not set for such
+   * values, so defaults of the builder apply.
+   *
+   * @param value the value of the row
+   * @return {@code true} if the value represents {@code null}
+   */
+  default boolean isNull(S value) {
+    return value == null;
+  }
+
+  /**
+   * Converts a value to {@code int}.
+   *
+   * @param value the value of the row, not {@code null}
+   * @return the converted value
+   */
+  default int toInt(S value) {
+    return (Integer) convert(value, Integer.class);
+  }
+
+  /**
+   * Converts a value to {@code long}.
+   *
+   * @param value the value of the row, not {@code null}
+   * @return the converted value
+   */
+  default long toLong(S value) {
+    return (Long) convert(value, Long.class);
+  }
+
+  /**
+   * Converts a value to {@code double}.
+   *
+   * @param value the value of the row, not {@code null}
+   * @return the converted value
+   */
+  default double toDouble(S value) {
+    return (Double) convert(value, Double.class);
+  }
+
+  /**
+   * Converts a value to {@code float}.
+   *
+   * @param value the value of the row, not {@code null}
+   * @return the converted value
+   */
+  default float toFloat(S value) {
+    return (Float) convert(value, Float.class);
+  }
+
+  /**
+   * Converts a value to {@code boolean}.
+   *
+   * @param value the value of the row, not {@code null}
+   * @return the converted value
+   */
+  default boolean toBoolean(S value) {
+    return (Boolean) convert(value, Boolean.class);
+  }
+
+  /**
+   * Converts a value to {@code short}.
+   *
+   * @param value the value of the row, not {@code null}
+   * @return the converted value
+   */
+  default short toShort(S value) {
+    return (Short) convert(value, Short.class);
+  }
+
+  /**
+   * Converts a value to {@code byte}.
+   *
+   * @param value the value of the row, not {@code null}
+   * @return the converted value
+   */
+  default byte toByte(S value) {
+    return (Byte) convert(value, Byte.class);
+  }
+
+  /**
+   * Converts a value to {@code char}.
+   *
+   * @param value the value of the row, not {@code null}
+   * @return the converted value
+   */
+  default char toChar(S value) {
+    return (Character) convert(value, Character.class);
+  }
+}
@@ -0,0 +1,313 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.javahelpers.simple.builders.core.util;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Default {@link RowValueConverter}s for {@code String[]} and {@code Object[]} rows.
+ *
+ * <p>Supported target types are {@code String}, the wrapper types of primitives, {@code
+ * BigDecimal}, {@code BigInteger}, enums, {@code UUID} and the ISO-8601 formats of {@code
+ * LocalDate}, {@code LocalDateTime}, {@code LocalTime}, {@code OffsetDateTime} and {@code Instant}.
+ */
+public final class RowValueConverters {
+
+  private static final RowValueConverter<String> STRINGS = new StringConverter();
+  private static final RowValueConverter<Object> OBJECTS = new ObjectConverter();
+
+  private RowValueConverters() {}
+
+  /**
+   * Returns the converter for {@code String[]} rows, e.g. from CSV files. Empty strings are treated
+   * as {@code null}, except for {@code String} fields.
+   *
+   * @return converter parsing strings
+   */
+  public static RowValueConverter<String> strings() {
+    return STRINGS;
+  }
+
+  /**
+   * Returns the converter for {@code Object[]} rows. Values of the target type are passed through,
+   * numbers are converted to the numeric target type and strings are parsed like by {@link
+   * #strings()}. Numbers with a fraction or out of the range of an integral target type are
+   * rejected with an {@link IllegalArgumentException} instead of being truncated.
+   *
+   * @return converter for objects
+   */
+  public static RowValueConverter<Object> objects() {
+    return OBJECTS;
+  }
+
+  private static final class StringConverter implements RowValueConverter<String> {
+
+    @Override
+    public Object convert(String value, Class<?> targetType) {
+      if (targetType == String.class) {
+        return value;
+      }
+      return isNull(value) ? null : parse(value, targetType);
+    }
+
+    @Override
+    public boolean isNull(String value) {
+      return value == null || value.isEmpty();
+    }
+
+    @Override
+    public int toInt(String value) {
+      return Integer.parseInt(value);
+    }
+
+    @Override
+    public long toLong(String value) {
+      return Long.parseLong(value);
+    }
+
+    @Override
+    public double toDouble(String value) {
+      return Double.parseDouble(value);
+    }
+
+    @Override
+    public float toFloat(String value) {
+      return Float.parseFloat(value);
+    }
+
+    @Override
+    public boolean toBoolean(String value) {
+      return Boolean.parseBoolean(value);
+    }
+
+    @Override
+    public short toShort(String value) {
+      return Short.parseShort(value);
+    }
+
+    @Override
+    public byte toByte(String value) {
+      return Byte.parseByte(value);
+    }
+
+    @Override
+    public char toChar(String value) {
+      return parseChar(value);
+    }
+  }
+
+  private static final class ObjectConverter implements RowValueConverter<Object> {
+
+    @Override
+    public Object convert(Object value, Class<?> targetType) {
+      if (value == null || targetType.isInstance(value)) {
+        return value;
+      }
+      if (value instanceof String text) {
+        return STRINGS.convert(text, targetType);
+      }
+      if (value instanceof Number number) {
+        return convertNumber(number, targetType);
+      }
+      if (value instanceof Timestamp timestamp) {
+        if (targetType == LocalDateTime.class) {
+          return timestamp.toLocalDateTime();
+        }
+        if (targetType == Instant.class) {
+          return timestamp.toInstant();
+        }
+      }
+      if (value instanceof java.sql.Date date && targetType == LocalDate.class) {
+        return date.toLocalDate();
+      }
+      throw unsupported(value, targetType);
+    }
+
+    @Override
+    public int toInt(Object value) {
+      return value instanceof Number number
+          ? (int) toWholeNumber(number, Integer.MIN_VALUE, Integer.MAX_VALUE, int.class)
+          : RowValueConverter.super.toInt(value);
+    }
+
+    @Override
+    public long toLong(Object value) {
+      return value instanceof Number number
+          ? toWholeNumber(number, Long.MIN_VALUE, Long.MAX_VALUE, long.class)
+          : RowValueConverter.super.toLong(value);
+    }
+
+    @Override
+    public double toDouble(Object value) {
+      return value instanceof Number number
+          ? number.doubleValue()
+          : RowValueConverter.super.toDouble(value);
+    }
+
+    private static Object convertNumber(Number number, Class<?> targetType) {
+      if (targetType == Integer.class) {
+        return (int) toWholeNumber(number, Integer.MIN_VALUE, Integer.MAX_VALUE, targetType);
+      }
+      if (targetType == Long.class) {
+        return toWholeNumber(number, Long.MIN_VALUE, Long.MAX_VALUE, targetType);
+      }
+      if (targetType == Double.class) {
+        return number.doubleValue();
+      }
+      if (targetType == Float.class) {
+        float value = number.floatValue();
+        if (Float.isInfinite(value) && !Double.isInfinite(number.doubleValue())) {
+          throw outOfRange(number, targetType);
+        }
+        return value;
+      }
+      if (targetType == Short.class) {
+        return (short) toWholeNumber(number, Short.MIN_VALUE, Short.MAX_VALUE, targetType);
+      }
+      if (targetType == Byte.class) {
+        return (byte) toWholeNumber(number, Byte.MIN_VALUE, Byte.MAX_VALUE, targetType);
+      }
+      if (targetType == BigDecimal.class) {
+        return new BigDecimal(number.toString());
+      }
+      if (targetType == BigInteger.class) {
+        return new BigInteger(number.toString());
+      }
+      throw unsupported(number, targetType);
+    }
+
+    /**
+     * Converts a number to a whole number in the range of the target type. Unlike {@code
+     * intValue()} and the like, it does not truncate fractions or wrap around on overflow.
+     *
+     * @throws IllegalArgumentException if the number has a fraction or is out of range
+     */
+    private static long toWholeNumber(Number number, long min, long max, Class<?> targetType) {
+      long value;
+      if (number instanceof Integer
+          || number instanceof Long
+          || number instanceof Short
+          || number instanceof Byte) {
+        value = number.longValue();
+      } else {
+        try {
+          BigDecimal decimal =
+              number instanceof BigDecimal exact ? exact : new BigDecimal(number.toString());
+          value = decimal.longValueExact();
+        } catch (ArithmeticException | NumberFormatException e) {
+          throw outOfRange(number, targetType);
+        }
+      }
+      if (value < min || value > max) {
+        throw outOfRange(number, targetType);
+      }
+      return value;
+    }
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static Object parse(String value, Class<?> targetType) {
+    if (targetType == Integer.class) {
+      return Integer.valueOf(value);
+    }
+    if (targetType == Long.class) {
+      return Long.valueOf(value);
+    }
+    if (targetType == Double.class) {
+      return Double.valueOf(value);
+    }
+    if (targetType == Float.class) {
+      return Float.valueOf(value);
+    }
+    if (targetType == Boolean.class) {
+      return Boolean.valueOf(value);
+    }
+    if (targetType == Short.class) {
+      return Short.valueOf(value);
+    }
+    if (targetType == Byte.class) {
+      return Byte.valueOf(value);
+    }
+    if (targetType == Character.class) {
+      return parseChar(value);
+    }
+    if (targetType == BigDecimal.class) {
+      return new BigDecimal(value);
+    }
+    if (targetType == BigInteger.class) {
+      return new BigInteger(value);
+    }
+    if (targetType.isEnum()) {
+      return Enum.valueOf((Class<? extends Enum>) targetType, value);
+    }
+    if (targetType == UUID.class) {
+      return UUID.fromString(value);
+    }
+    if (targetType == LocalDate.class) {
+      return LocalDate.parse(value);
+    }
+    if (targetType == LocalDateTime.class) {
+      return LocalDateTime.parse(value);
+    }
+    if (targetType == LocalTime.class) {
+      return LocalTime.parse(value);
+    }
+    if (targetType == OffsetDateTime.class) {
+      return OffsetDateTime.parse(value);
+    }
+    if (targetType == Instant.class) {
+      return Instant.parse(value);
+    }
+    throw unsupported(value, targetType);
+  }
+
+  private static char parseChar(String value) {
+    if (value.length() != 1) {
+      throw new IllegalArgumentException(
+          "Cannot convert '" + value + "' to char, expected exactly one character");
+    }
+    return value.charAt(0);
+  }
+
+  private static IllegalArgumentException outOfRange(Number value, Class<?> targetType) {
+    return new IllegalArgumentException(
+        "Cannot convert " + value + " to " + targetType.getName() + " without loss");
+  }
+
+  private static IllegalArgumentException unsupported(Object value, Class<?> targetType) {
+    return new IllegalArgumentException(
+        "Cannot convert value of type "
+            + value.getClass().getName()
+            + " to "
+            + targetType.getName());
+  }
+}
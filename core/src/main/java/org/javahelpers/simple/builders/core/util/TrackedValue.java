@@ -25,6 +25,7 @@
 package org.javahelpers.simple.builders.core.util;
 
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * Represents a value together with a flag indicating whether it has been explicitly changed.
@@ -40,12 +41,75 @@ import java.util.function.Consumer;
  * The {@code isChanged} flag controls whether setter invocations should be performed during {@code
  * build()}; only changed values are applied.
  *
+ * <p>A changed value can also be deferred, see {@link #deferredValue(Supplier)}: the supplier is
+ * held in its own component, and {@link #value()} invokes it on first access and returns the same
+ * result afterwards. A deferred value which is replaced before being accessed is never computed.
+ * {@code equals} and {@code hashCode} compare the supplier by identity and never invoke it, so a
+ * deferred value only equals itself, not a changed value of the same result.
+ *
  * @param <T> the value type
- * @param value the underlying value (may be {@code null})
+ * @param value the underlying value (may be {@code null}), {@code null} for deferred values
  * @param isChanged whether the value was explicitly changed by the builder API
  * @param isInitial whether the value is an initial value from an existing instance
+ * @param deferred supplier computing the value on first access, or {@code null} if not deferred
  */
-public record TrackedValue<T>(T value, boolean isChanged, boolean isInitial) {
+public record TrackedValue<T>(
+    T value, boolean isChanged, boolean isInitial, Supplier<? extends T> deferred) {
+
+  /**
+   * Creates a tracked value, wrapping a deferred supplier so that it is invoked at most once.
+   *
+   * @param value the underlying value (may be {@code null})
+   * @param isChanged whether the value was explicitly changed by the builder API
+   * @param isInitial whether the value is an initial value from an existing instance
+   * @param deferred supplier computing the value on first access, or {@code null} if not deferred
+   */
+  public TrackedValue {
+    if (deferred != null && !(deferred instanceof DeferredSupplier<?>)) {
+      deferred = new DeferredSupplier<>(deferred);
+    }
+  }
+
+  /**
+   * Creates a tracked value which is not deferred.
+   *
+   * @param value the underlying value (may be {@code null})
+   * @param isChanged whether the value was explicitly changed by the builder API
+   * @param isInitial whether the value is an initial value from an existing instance
+   */
+  public TrackedValue(T value, boolean isChanged, boolean isInitial) {
+    this(value, isChanged, isInitial, null);
+  }
+
+  /**
+   * Returns the value, computing a deferred value on first access.
+   *
+   * @return the value (may be {@code null})
+   */
+  @Override
+  public T value() {
+    return deferred != null ? deferred.get() : value;
+  }
+
+  /**
+   * Checks if this value is deferred and has not been computed yet.
+   *
+   * @return true if accessing {@link #value()} would invoke the supplier
+   */
+  public boolean isDeferred() {
+    return deferred instanceof DeferredSupplier<?> supplier && !supplier.isResolved();
+  }
+
+  @Override
+  public String toString() {
+    return "TrackedValue[value="
+        + (isDeferred() ? "<deferred>" : value())
+        + ", isChanged="
+        + isChanged
+        + ", isInitial="
+        + isInitial
+        + "]";
+  }
 
   /**
    * Checks if this value has been set (either as initial value or changed).
@@ -63,7 +127,7 @@ public record TrackedValue<T>(T value, boolean isChanged, boolean isInitial) {
    * @return the value if set, otherwise the default
    */
   public T valueOr(T defaultValue) {
-    return isSet() ? value : defaultValue;
+    return isSet() ? value() : defaultValue;
   }
 
   /**
@@ -79,7 +143,7 @@ public record TrackedValue<T>(T value, boolean isChanged, boolean isInitial) {
    */
   public DefaultValueApplier<T> ifSet(Consumer<T> consumer) {
     if (isSet()) {
-      consumer.accept(value);
+      consumer.accept(value());
     }
     return new DefaultValueApplier<>(isSet(), consumer);
   }
@@ -146,4 +210,43 @@ public record TrackedValue<T>(T value, boolean isChanged, boolean isInitial) {
   public static <T> TrackedValue<T> changedValue(T value) {
     return new TrackedValue<>(value, true, false);
   }
+
+  /**
+   * Creates a tracked value representing an explicit change whose value is computed by the supplier
+   * on first access.
+   *
+   * @param <T> the value type
+   * @param supplier supplier computing the value, invoked at most once
+   * @return a deferred instance with {@code isChanged == true}
+   */
+  public static <T> TrackedValue<T> deferredValue(Supplier<? extends T> supplier) {
+    return new TrackedValue<>(null, true, false, new DeferredSupplier<>(supplier));
+  }
+
+  /**
+   * Supplier remembering the result of its first invocation, held by deferred instances.
+   *
+   * @param <T> the value type
+   */
+  private static final class DeferredSupplier<T> implements Supplier<T> {
+    private Supplier<? extends T> supplier;
+    private T result;
+
+    private DeferredSupplier(Supplier<? extends T> supplier) {
+      this.supplier = supplier;
+    }
+
+    @Override
+    public synchronized T get() {
+      if (supplier != null) {
+        result = supplier.get();
+        supplier = null;
+      }
+      return result;
+    }
+
+    private synchronized boolean isResolved() {
+      return supplier == null;
+    }
+  }
 }
@@ -30,6 +30,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
 
 class ArrayListBuilderTest {
@@ -136,4 +137,12 @@ class ArrayListBuilderTest {
 
     assertEquals(builder, result);
   }
+
+  @Test
+  void shouldCollectParallelStreamInEncounterOrder() {
+    List<Integer> result =
+        IntStream.range(0, 1000).boxed().parallel().collect(ArrayListBuilder.collector()).build();
+
+    assertEquals(IntStream.range(0, 1000).boxed().toList(), result);
+  }
 }
@@ -0,0 +1,153 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.javahelpers.simple.builders.core.builders;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Benchmark of {@link ConcurrentArrayListBuilder} under contention from 1 to 64 threads, compared
+ * to appending to a {@link Collections#synchronizedList(List) synchronized list}, and of its
+ * collector on an ordered parallel stream, compared to {@link Collectors#toList()}.
+ *
+ * <p>Both ways must produce the same elements. The timings are printed, not asserted. Excluded from
+ * the default build, run with {@code mvn test -pl core -Pscalability}; the comparison is only
+ * meaningful on a machine with several cores.
+ */
+@Tag("scalability")
+class ConcurrentArrayListBuilderBenchmarkTest {
+
+  private static final int MAX_THREADS = 64;
+  private static final int ELEMENTS_PER_THREAD = 20_000;
+  private static final int STREAM_ELEMENTS = 1_000_000;
+  private static final int WARMUP_ITERATIONS = 2;
+  private static final int MEASURED_ITERATIONS = 3;
+
+  @Test
+  void concurrentAdds_scaleWithThreads() throws InterruptedException {
+    for (int threads = 1; threads <= MAX_THREADS; threads *= 2) {
+      int elements = threads * ELEMENTS_PER_THREAD;
+      long builderNanos = Long.MAX_VALUE;
+      long synchronizedNanos = Long.MAX_VALUE;
+      for (int i = 0; i < WARMUP_ITERATIONS + MEASURED_ITERATIONS; i++) {
+        ConcurrentArrayListBuilder<Integer> builder = new ConcurrentArrayListBuilder<>();
+        long builderRun = runConcurrently(threads, builder::add, () -> builder.build().size());
+        List<Integer> list = Collections.synchronizedList(new ArrayList<>());
+        long synchronizedRun =
+            runConcurrently(threads, list::add, () -> new ArrayList<>(list).size());
+        if (i >= WARMUP_ITERATIONS) {
+          builderNanos = Math.min(builderNanos, builderRun);
+          synchronizedNanos = Math.min(synchronizedNanos, synchronizedRun);
+        }
+      }
+
+      System.out.printf(
+          "%2d threads, %,d adds: ConcurrentArrayListBuilder %.2f ms (%,.0f adds/ms),"
+              + " synchronized list %.2f ms (%,.0f adds/ms)%n",
+          threads,
+          elements,
+          builderNanos / 1e6,
+          elements / (builderNanos / 1e6),
+          synchronizedNanos / 1e6,
+          elements / (synchronizedNanos / 1e6));
+    }
+  }
+
+  @Test
+  void orderedParallelStream_collectsLikeToList() {
+    List<Integer> source = IntStream.range(0, STREAM_ELEMENTS).boxed().toList();
+    long collectorNanos = Long.MAX_VALUE;
+    long toListNanos = Long.MAX_VALUE;
+    for (int i = 0; i < WARMUP_ITERATIONS + MEASURED_ITERATIONS; i++) {
+      long start = System.nanoTime();
+      List<Integer> collected =
+          source.parallelStream().collect(ConcurrentArrayListBuilder.collector()).build();
+      long collectorRun = System.nanoTime() - start;
+      start = System.nanoTime();
+      List<Integer> toList = source.parallelStream().collect(Collectors.toList());
+      long toListRun = System.nanoTime() - start;
+
+      assertEquals(toList, collected);
+      if (i >= WARMUP_ITERATIONS) {
+        collectorNanos = Math.min(collectorNanos, collectorRun);
+        toListNanos = Math.min(toListNanos, toListRun);
+      }
+    }
+
+    System.out.printf(
+        "Collected %,d elements of an ordered parallel stream: collector() %.2f ms,"
+            + " Collectors.toList() %.2f ms%n",
+        STREAM_ELEMENTS, collectorNanos / 1e6, toListNanos / 1e6);
+  }
+
+  /**
+   * Starts the threads at once, lets each add its elements and returns the time until the result is
+   * built.
+   */
+  private static long runConcurrently(int threads, IntConsumer add, Supplier<Integer> build)
+      throws InterruptedException {
+    CountDownLatch start = new CountDownLatch(1);
+    List<Thread> workers = new ArrayList<>();
+    for (int t = 0; t < threads; t++) {
+      int offset = t * ELEMENTS_PER_THREAD;
+      Thread worker =
+          new Thread(
+              () -> {
+                awaitQuietly(start);
+                for (int i = 0; i < ELEMENTS_PER_THREAD; i++) {
+                  add.accept(offset + i);
+                }
+              });
+      worker.start();
+      workers.add(worker);
+    }
+    long startNanos = System.nanoTime();
+    start.countDown();
+    for (Thread worker : workers) {
+      worker.join();
+    }
+    int size = build.get();
+    long nanos = System.nanoTime() - startNanos;
+    assertEquals(threads * ELEMENTS_PER_THREAD, size);
+    return nanos;
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
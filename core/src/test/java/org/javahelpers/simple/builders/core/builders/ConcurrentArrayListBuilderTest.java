@@ -0,0 +1,166 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.javahelpers.simple.builders.core.builders;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class ConcurrentArrayListBuilderTest {
+
+  private static final int ELEMENTS_PER_THREAD = 10_000;
+
+  @Test
+  void shouldCreateEmptyBuilder() {
+    assertTrue(new ConcurrentArrayListBuilder<String>().build().isEmpty());
+  }
+
+  @Test
+  void shouldKeepInitialListInFront() {
+    ConcurrentArrayListBuilder<String> builder =
+        new ConcurrentArrayListBuilder<>(Arrays.asList("item1", "item2"));
+    builder.add("item3").addAll(List.of("item4", "item5"));
+
+    assertEquals(List.of("item1", "item2", "item3", "item4", "item5"), builder.build());
+  }
+
+  @Test
+  void shouldHandleNullInitialListAndNullElements() {
+    ConcurrentArrayListBuilder<String> builder = new ConcurrentArrayListBuilder<>(null);
+    builder.add(null);
+
+    assertEquals(Arrays.asList((String) null), builder.build());
+  }
+
+  @Test
+  void shouldCollectAllElementsUnderContention() throws InterruptedException {
+    for (int threads = 1; threads <= 64; threads *= 2) {
+      ConcurrentArrayListBuilder<Integer> builder = new ConcurrentArrayListBuilder<>();
+      CountDownLatch start = new CountDownLatch(1);
+      List<Thread> workers = new ArrayList<>();
+      for (int t = 0; t < threads; t++) {
+        int offset = t * ELEMENTS_PER_THREAD;
+        Thread worker =
+            new Thread(
+                () -> {
+                  awaitQuietly(start);
+                  for (int i = 0; i < ELEMENTS_PER_THREAD; i++) {
+                    builder.add(offset + i);
+                  }
+                });
+        worker.start();
+        workers.add(worker);
+      }
+      start.countDown();
+      for (Thread worker : workers) {
+        worker.join();
+      }
+
+      List<Integer> result = builder.build();
+      assertEquals(threads * ELEMENTS_PER_THREAD, result.size());
+      assertEquals(
+          IntStream.range(0, threads * ELEMENTS_PER_THREAD).boxed().toList(),
+          result.stream().sorted().toList());
+    }
+  }
+
+  @Test
+  void shouldKeepOrderOfElementsAddedByOneThread() throws InterruptedException {
+    ConcurrentArrayListBuilder<Integer> builder = new ConcurrentArrayListBuilder<>();
+    Thread even = new Thread(() -> IntStream.range(0, 1000).forEach(i -> builder.add(2 * i)));
+    Thread odd = new Thread(() -> IntStream.range(0, 1000).forEach(i -> builder.add(2 * i + 1)));
+    even.start();
+    odd.start();
+    even.join();
+    odd.join();
+
+    List<Integer> result = builder.build();
+    assertEquals(
+        IntStream.range(0, 1000).map(i -> 2 * i).boxed().toList(),
+        result.stream().filter(i -> i % 2 == 0).toList());
+    assertEquals(
+        IntStream.range(0, 1000).map(i -> 2 * i + 1).boxed().toList(),
+        result.stream().filter(i -> i % 2 == 1).toList());
+  }
+
+  @Test
+  void shouldCollectParallelStream() {
+    List<Integer> result =
+        IntStream.range(0, 1000)
+            .boxed()
+            .parallel()
+            .unordered()
+            .collect(ConcurrentArrayListBuilder.collector())
+            .build();
+
+    assertEquals(IntStream.range(0, 1000).boxed().toList(), result.stream().sorted().toList());
+  }
+
+  @Test
+  void shouldKeepEncounterOrderOfOrderedParallelStream() throws Exception {
+    List<Integer> expected = IntStream.range(0, 100_000).boxed().toList();
+    ForkJoinPool pool = new ForkJoinPool(8);
+    try {
+      for (int run = 0; run < 20; run++) {
+        List<Integer> result =
+            pool.submit(
+                    () ->
+                        expected.parallelStream()
+                            .collect(ConcurrentArrayListBuilder.collector())
+                            .build())
+                .get();
+
+        assertEquals(expected, result);
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  void shouldAppendMergedElementsAfterElementsAddedBefore() {
+    ConcurrentArrayListBuilder<String> builder = new ConcurrentArrayListBuilder<>(List.of("a"));
+    builder.add("b");
+    builder.merge(new ConcurrentArrayListBuilder<>(List.of("c")).add("d"));
+    builder.add("e");
+
+    assertEquals(List.of("a", "b", "c", "d", "e"), builder.build());
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
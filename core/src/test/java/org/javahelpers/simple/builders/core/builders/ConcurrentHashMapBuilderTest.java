@@ -0,0 +1,97 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.javahelpers.simple.builders.core.builders;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class ConcurrentHashMapBuilderTest {
+
+  @Test
+  void shouldBuildMappings() {
+    ConcurrentHashMapBuilder<String, Integer> builder =
+        new ConcurrentHashMapBuilder<>(Map.of("a", 1));
+    builder.put("b", 2).putIfAbsent("a", 3).putIfValueNotNull("c", null).putAll(Map.of("d", 4));
+
+    assertEquals(Map.of("a", 1, "b", 2, "d", 4), builder.build());
+  }
+
+  @Test
+  void shouldRejectNullValues() {
+    ConcurrentHashMapBuilder<String, String> builder = new ConcurrentHashMapBuilder<>();
+
+    assertThrows(NullPointerException.class, () -> builder.put("key", null));
+  }
+
+  @Test
+  void shouldCollectAllMappingsUnderContention() throws Exception {
+    ConcurrentHashMapBuilder<Integer, Integer> builder = new ConcurrentHashMapBuilder<>();
+    ExecutorService executor = Executors.newFixedThreadPool(32);
+    try {
+      List<Future<?>> futures =
+          IntStream.range(0, 32)
+              .mapToObj(
+                  t ->
+                      executor.submit(
+                          () ->
+                              IntStream.range(t * 1000, (t + 1) * 1000)
+                                  .forEach(i -> builder.put(i, i * 2))))
+              .collect(Collectors.toList());
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    Map<Integer, Integer> expected = new HashMap<>();
+    IntStream.range(0, 32_000).forEach(i -> expected.put(i, i * 2));
+    assertEquals(expected, builder.build());
+  }
+
+  @Test
+  void shouldCollectParallelStream() {
+    Map<Integer, String> result =
+        IntStream.range(0, 1000)
+            .boxed()
+            .parallel()
+            .collect(ConcurrentHashMapBuilder.collector(Function.identity(), String::valueOf))
+            .build();
+
+    assertEquals(1000, result.size());
+    assertEquals("999", result.get(999));
+  }
+}
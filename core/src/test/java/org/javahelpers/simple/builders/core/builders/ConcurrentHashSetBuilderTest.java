@@ -0,0 +1,87 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.javahelpers.simple.builders.core.builders;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class ConcurrentHashSetBuilderTest {
+
+  @Test
+  void shouldCreateEmptyBuilder() {
+    assertTrue(new ConcurrentHashSetBuilder<String>().build().isEmpty());
+  }
+
+  @Test
+  void shouldMergeInitialSetAndAddedElements() {
+    ConcurrentHashSetBuilder<String> builder =
+        new ConcurrentHashSetBuilder<>(new HashSet<>(List.of("item1", "item2")));
+    builder.add("item2").add(null).addAll(Set.of("item3"));
+
+    assertEquals(new HashSet<>(Arrays.asList("item1", "item2", "item3", null)), builder.build());
+  }
+
+  @Test
+  void shouldRemoveDuplicatesAddedByDifferentThreads() throws Exception {
+    ConcurrentHashSetBuilder<Integer> builder = new ConcurrentHashSetBuilder<>();
+    ExecutorService executor = Executors.newFixedThreadPool(16);
+    try {
+      List<Future<?>> futures =
+          IntStream.range(0, 16)
+              .mapToObj(t -> executor.submit(() -> IntStream.range(0, 5000).forEach(builder::add)))
+              .collect(Collectors.toList());
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    assertEquals(IntStream.range(0, 5000).boxed().collect(Collectors.toSet()), builder.build());
+  }
+
+  @Test
+  void shouldCollectParallelStream() {
+    Set<Integer> result =
+        IntStream.range(0, 1000)
+            .boxed()
+            .parallel()
+            .collect(ConcurrentHashSetBuilder.collector())
+            .build();
+
+    assertEquals(IntStream.range(0, 1000).boxed().collect(Collectors.toSet()), result);
+  }
+}
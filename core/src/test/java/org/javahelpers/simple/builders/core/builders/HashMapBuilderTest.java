@@ -30,6 +30,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
 
 class HashMapBuilderTest {
@@ -169,4 +170,17 @@ class HashMapBuilderTest {
 
     assertEquals(builder, result);
   }
+
+  @Test
+  void shouldCollectParallelStreamWithLaterValuesWinning() {
+    Map<Integer, Integer> result =
+        IntStream.range(0, 1000)
+            .boxed()
+            .parallel()
+            .collect(HashMapBuilder.collector(i -> i % 10, i -> i))
+            .build();
+
+    assertEquals(10, result.size());
+    assertEquals(993, result.get(3));
+  }
 }
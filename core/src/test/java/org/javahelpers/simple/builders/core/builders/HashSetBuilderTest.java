@@ -31,6 +31,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
 
 class HashSetBuilderTest {
@@ -148,4 +149,17 @@ class HashSetBuilderTest {
 
     assertEquals(builder, result);
   }
+
+  @Test
+  void shouldCollectParallelStream() {
+    Set<Integer> result =
+        IntStream.range(0, 1000)
+            .map(i -> i % 10)
+            .boxed()
+            .parallel()
+            .collect(HashSetBuilder.collector())
+            .build();
+
+    assertEquals(Set.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), result);
+  }
 }
@@ -0,0 +1,144 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.javahelpers.simple.builders.core.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class BinaryFormatTest {
+
+  @Test
+  void shouldRoundTripZigZagVarints() {
+    ByteBuffer buffer = ByteBuffer.allocate(64);
+    BinaryFormat.writeVarInt(buffer, -1);
+    BinaryFormat.writeVarInt(buffer, Integer.MIN_VALUE);
+    BinaryFormat.writeVarLong(buffer, Long.MAX_VALUE);
+    BinaryFormat.writeVarLong(buffer, -300L);
+    buffer.flip();
+
+    assertEquals(-1, BinaryFormat.readVarInt(buffer));
+    assertEquals(Integer.MIN_VALUE, BinaryFormat.readVarInt(buffer));
+    assertEquals(Long.MAX_VALUE, BinaryFormat.readVarLong(buffer));
+    assertEquals(-300L, BinaryFormat.readVarLong(buffer));
+    assertEquals(0, buffer.remaining());
+  }
+
+  @Test
+  void shouldWriteSmallNumbersAsSingleByte() {
+    ByteBuffer buffer = ByteBuffer.allocate(8);
+    BinaryFormat.writeVarInt(buffer, -64);
+
+    assertEquals(1, buffer.position());
+  }
+
+  @Test
+  void shouldRoundTripStringsAndUuids() {
+    UUID uuid = UUID.randomUUID();
+    ByteBuffer buffer = ByteBuffer.allocateDirect(64);
+    BinaryFormat.writeString(buffer, "Grüße");
+    BinaryFormat.writeUuid(buffer, uuid);
+    buffer.flip();
+
+    assertEquals("Grüße", BinaryFormat.readString(buffer));
+    assertEquals(uuid, BinaryFormat.readUuid(buffer));
+  }
+
+  @Test
+  void shouldSkipUnknownFieldsOfAllWireTypes() {
+    ByteBuffer buffer = ByteBuffer.allocate(64);
+    BinaryFormat.writeTag(buffer, BinaryFormat.tag(1, BinaryFormat.WIRE_BYTES));
+    BinaryFormat.writeString(buffer, "skipped");
+    BinaryFormat.writeTag(buffer, BinaryFormat.tag(2, BinaryFormat.WIRE_GROUP));
+    BinaryFormat.writeTag(buffer, BinaryFormat.tag(1, BinaryFormat.WIRE_FIXED64));
+    buffer.putDouble(1.5);
+    BinaryFormat.writeEndTag(buffer);
+    BinaryFormat.writeTag(buffer, BinaryFormat.tag(3, BinaryFormat.WIRE_COLLECTION));
+    BinaryFormat.writeCollectionHeader(buffer, 2, BinaryFormat.WIRE_VARINT);
+    BinaryFormat.writeVarLong(buffer, 1000L);
+    BinaryFormat.writeVarLong(buffer, -5L);
+    BinaryFormat.writeTag(buffer, BinaryFormat.tag(4, BinaryFormat.WIRE_VARINT));
+    BinaryFormat.writeVarInt(buffer, 42);
+    buffer.flip();
+
+    int tag;
+    while ((tag = BinaryFormat.readTag(buffer)) != BinaryFormat.tag(4, BinaryFormat.WIRE_VARINT)) {
+      BinaryFormat.skipField(buffer, tag);
+    }
+    assertEquals(42, BinaryFormat.readVarInt(buffer));
+  }
+
+  @Test
+  void shouldRejectNewerFormatVersion() {
+    ByteBuffer buffer = ByteBuffer.allocate(4);
+    BinaryFormat.writeUnsignedVarInt(buffer, BinaryFormat.FORMAT_VERSION + 1);
+    buffer.flip();
+
+    assertThrows(IllegalArgumentException.class, () -> BinaryFormat.readHeader(buffer));
+  }
+
+  @Test
+  void shouldRejectCollectionWithUnexpectedElementWireType() {
+    ByteBuffer buffer = ByteBuffer.allocate(4);
+    BinaryFormat.writeCollectionHeader(buffer, 1, BinaryFormat.WIRE_BYTES);
+    buffer.flip();
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> BinaryFormat.readCollectionHeader(buffer, BinaryFormat.WIRE_VARINT));
+  }
+
+  @Test
+  void shouldRejectStringLongerThanRemainingBytes() {
+    ByteBuffer buffer = ByteBuffer.allocate(8);
+    BinaryFormat.writeUnsignedVarInt(buffer, 100);
+    buffer.put((byte) 'a');
+    buffer.flip();
+
+    assertThrows(IllegalArgumentException.class, () -> BinaryFormat.readString(buffer));
+  }
+
+  @Test
+  void shouldRejectNegativeLength() {
+    ByteBuffer buffer = ByteBuffer.allocate(16);
+    BinaryFormat.writeUnsignedVarLong(buffer, -1L);
+    buffer.flip();
+
+    assertThrows(IllegalArgumentException.class, () -> BinaryFormat.readBytes(buffer));
+  }
+
+  @Test
+  void shouldRejectCollectionSizeExceedingRemainingBytes() {
+    ByteBuffer buffer = ByteBuffer.allocate(8);
+    BinaryFormat.writeCollectionHeader(buffer, Integer.MAX_VALUE, BinaryFormat.WIRE_VARINT);
+    buffer.flip();
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> BinaryFormat.readCollectionHeader(buffer, BinaryFormat.WIRE_VARINT));
+  }
+}
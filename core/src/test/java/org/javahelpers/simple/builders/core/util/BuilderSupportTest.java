@@ -0,0 +1,99 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.javahelpers.simple.builders.core.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class BuilderSupportTest {
+
+  @Test
+  void addToList_shouldCreateListIfUnset() {
+    TrackedValue<List<String>> result = BuilderSupport.addToList(TrackedValue.unsetValue(), "a");
+
+    assertTrue(result.isChanged());
+    assertEquals(List.of("a"), result.value());
+    assertInstanceOf(ArrayList.class, result.value());
+  }
+
+  @Test
+  void addToList_shouldCopyCurrentValue() {
+    List<String> initial = List.of("a", "b");
+
+    TrackedValue<List<String>> result =
+        BuilderSupport.addToList(TrackedValue.initialValue(initial), "c");
+
+    assertEquals(List.of("a", "b", "c"), result.value());
+    assertEquals(List.of("a", "b"), initial);
+  }
+
+  @Test
+  void addToSet_shouldCopyCurrentValue() {
+    Set<String> initial = Set.of("a");
+
+    TrackedValue<Set<String>> result =
+        BuilderSupport.addToSet(TrackedValue.changedValue(initial), "b");
+
+    assertTrue(result.isChanged());
+    assertEquals(Set.of("a", "b"), result.value());
+    assertInstanceOf(HashSet.class, result.value());
+  }
+
+  @Test
+  void conditional_shouldApplyMatchingConsumer() {
+    StringBuilder builder = new StringBuilder();
+
+    assertSame(
+        builder,
+        BuilderSupport.conditional(builder, () -> true, b -> b.append("yes"), b -> b.append("no")));
+    BuilderSupport.conditional(builder, () -> false, b -> b.append("yes"), b -> b.append("no"));
+    BuilderSupport.conditional(builder, () -> false, b -> b.append("yes"), null);
+
+    assertEquals("yesno", builder.toString());
+  }
+
+  @Test
+  void castWithInstance_shouldRejectOtherTypes() {
+    assertEquals("text", BuilderSupport.castWithInstance("text", String.class, "TextBuilder.With"));
+
+    IllegalArgumentException ex =
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> BuilderSupport.castWithInstance(1, String.class, "TextBuilder.With"));
+    assertEquals(
+        "The interface 'TextBuilder.With' should only be implemented by classes, which could be casted to 'String'",
+        ex.getMessage());
+    assertInstanceOf(ClassCastException.class, ex.getCause());
+  }
+}
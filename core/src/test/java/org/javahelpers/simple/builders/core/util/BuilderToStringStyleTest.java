@@ -223,6 +223,37 @@ class BuilderToStringStyleTest {
     assertFalse(result.contains("unsetField"), "Should NOT include second unset field: " + result);
   }
 
+  @Test
+  void toString_showsDeferredValueWithoutComputingIt() {
+    TestObject obj = new TestObject();
+    obj.setField =
+        TrackedValue.deferredValue(
+            () -> {
+              throw new AssertionError("Deferred value must not be computed");
+            });
+
+    String result =
+        new ToStringBuilder(obj, BuilderToStringStyle.INSTANCE)
+            .append("setField", obj.setField)
+            .toString();
+
+    assertTrue(result.contains("setField=<deferred>"), "Should show deferred field: " + result);
+  }
+
+  @Test
+  void toString_showsComputedDeferredValue() {
+    TestObject obj = new TestObject();
+    obj.setField = TrackedValue.deferredValue(() -> "Computed");
+    obj.setField.value();
+
+    String result =
+        new ToStringBuilder(obj, BuilderToStringStyle.INSTANCE)
+            .append("setField", obj.setField)
+            .toString();
+
+    assertTrue(result.contains("setField=Computed"), "Should show computed value: " + result);
+  }
+
   static class TestObject {
     TrackedValue<String> setField;
     TrackedValue<String> unsetField;
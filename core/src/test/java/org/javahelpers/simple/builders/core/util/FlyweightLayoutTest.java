@@ -0,0 +1,75 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.javahelpers.simple.builders.core.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import org.junit.jupiter.api.Test;
+
+class FlyweightLayoutTest {
+
+  private static final int RECORD_OFFSET = 4;
+  private static final int FIXED_SIZE = 2 * FlyweightLayout.SLOT_SIZE + 1;
+
+  @Test
+  void shouldAppendVariableLengthDataAfterFixedPart() {
+    ByteBuffer buffer = ByteBuffer.allocateDirect(64);
+
+    int end = FlyweightLayout.putString(buffer, RECORD_OFFSET, 0, FIXED_SIZE, "Grüße");
+    end = FlyweightLayout.putBytes(buffer, RECORD_OFFSET, 8, end, new byte[] {1, 2});
+    FlyweightLayout.putBoolean(buffer, RECORD_OFFSET + 16, true);
+
+    assertEquals(FIXED_SIZE + 7 + 2, end);
+    assertEquals("Grüße", FlyweightLayout.getString(buffer, RECORD_OFFSET, 0));
+    assertArrayEquals(new byte[] {1, 2}, FlyweightLayout.getBytes(buffer, RECORD_OFFSET, 8));
+    assertEquals(2, FlyweightLayout.dataLength(buffer, RECORD_OFFSET, 8));
+    assertTrue(FlyweightLayout.getBoolean(buffer, RECORD_OFFSET + 16));
+    assertEquals(0, buffer.position());
+  }
+
+  @Test
+  void shouldStoreNullWithoutData() {
+    ByteBuffer buffer = ByteBuffer.allocate(32);
+
+    int end = FlyweightLayout.putString(buffer, RECORD_OFFSET, 0, FIXED_SIZE, null);
+
+    assertEquals(FIXED_SIZE, end);
+    assertNull(FlyweightLayout.getString(buffer, RECORD_OFFSET, 0));
+    assertEquals(0, FlyweightLayout.dataLength(buffer, RECORD_OFFSET, 0));
+  }
+
+  @Test
+  void shouldFailIfBufferIsTooSmall() {
+    ByteBuffer buffer = ByteBuffer.allocate(24);
+
+    assertThrows(
+        IndexOutOfBoundsException.class,
+        () -> FlyweightLayout.putString(buffer, RECORD_OFFSET, 0, FIXED_SIZE, "too long for it"));
+  }
+}
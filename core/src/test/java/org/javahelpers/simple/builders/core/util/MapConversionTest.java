@@ -0,0 +1,104 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.javahelpers.simple.builders.core.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+
+class MapConversionTest {
+
+  private record Point(int x, int y) {}
+
+  private static final Function<Map<String, ?>, Point> POINT_FROM_MAP =
+      map -> new Point((Integer) map.get("x"), (Integer) map.get("y"));
+
+  private static final Function<Point, Map<String, Object>> POINT_TO_MAP =
+      point -> Map.of("x", point.x(), "y", point.y());
+
+  @Test
+  void shouldConvertPropertyMapToNestedDto() {
+    assertEquals(
+        new Point(1, 2),
+        MapConversion.fromMapValue(Map.of("x", 1, "y", 2), Point.class, POINT_FROM_MAP));
+  }
+
+  @Test
+  void shouldPassThroughInstanceOfNestedDto() {
+    Point point = new Point(1, 2);
+
+    assertSame(point, MapConversion.fromMapValue(point, Point.class, POINT_FROM_MAP));
+    assertNull(MapConversion.fromMapValue(null, Point.class, POINT_FROM_MAP));
+  }
+
+  @Test
+  void shouldRejectUnexpectedValue() {
+    assertThrows(
+        ClassCastException.class,
+        () -> MapConversion.fromMapValue("text", Point.class, POINT_FROM_MAP));
+  }
+
+  @Test
+  void shouldConvertCollectionsOfPropertyMaps() {
+    List<Object> values = List.of(Map.of("x", 1, "y", 2), new Point(3, 4));
+
+    assertEquals(
+        List.of(new Point(1, 2), new Point(3, 4)),
+        MapConversion.fromMapValueList(values, Point.class, POINT_FROM_MAP));
+    assertEquals(
+        Set.of(new Point(1, 2), new Point(3, 4)),
+        MapConversion.fromMapValueSet(values, Point.class, POINT_FROM_MAP));
+    assertNull(MapConversion.fromMapValueList(null, Point.class, POINT_FROM_MAP));
+  }
+
+  @Test
+  void shouldConvertNestedDtosToPropertyMaps() {
+    assertEquals(Map.of("x", 1, "y", 2), MapConversion.toMapValue(new Point(1, 2), POINT_TO_MAP));
+    assertEquals(
+        List.of(Map.of("x", 1, "y", 2)),
+        MapConversion.toMapValueList(List.of(new Point(1, 2)), POINT_TO_MAP));
+    assertNull(MapConversion.toMapValue(null, POINT_TO_MAP));
+    assertNull(MapConversion.toMapValueList(null, POINT_TO_MAP));
+  }
+
+  @Test
+  void shouldKeepSetsWhenConvertingNestedDtosToPropertyMaps() {
+    Set<Point> points = new LinkedHashSet<>(List.of(new Point(3, 4), new Point(1, 2)));
+
+    Set<Map<String, Object>> maps = MapConversion.toMapValueSet(points, POINT_TO_MAP);
+
+    assertEquals(List.of(Map.of("x", 3, "y", 4), Map.of("x", 1, "y", 2)), new ArrayList<>(maps));
+    assertEquals(points, MapConversion.fromMapValueSet(maps, Point.class, POINT_FROM_MAP));
+    assertNull(MapConversion.toMapValueSet(null, POINT_TO_MAP));
+  }
+}
@@ -0,0 +1,148 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.javahelpers.simple.builders.core.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import org.javahelpers.simple.builders.core.interfaces.IBinaryCodec;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MappedRecordStoreTest {
+
+  private static final int SEGMENT_SIZE = 64;
+
+  @TempDir Path directory;
+
+  @Test
+  void shouldAppendAndReadRecordsAcrossSegments() throws IOException {
+    try (MappedRecordStore<String> store = open()) {
+      for (int i = 0; i < 10; i++) {
+        assertEquals(i, store.append("value-" + i));
+      }
+
+      assertEquals(10, store.size());
+      assertEquals(4, store.segmentCount());
+      assertEquals("value-0", store.get(0));
+      assertEquals("value-7", store.get(7));
+      List<String> replayed = new ArrayList<>();
+      store.replay(8, replayed::add);
+      assertEquals(List.of("value-8", "value-9"), replayed);
+    }
+  }
+
+  @Test
+  void shouldLoadRecordsOfExistingSegments() throws IOException {
+    try (MappedRecordStore<String> store = open()) {
+      for (int i = 0; i < 5; i++) {
+        store.append("value-" + i);
+      }
+    }
+
+    try (MappedRecordStore<String> store = open()) {
+      store.append("value-5");
+
+      List<String> replayed = new ArrayList<>();
+      store.replay(replayed::add);
+      assertEquals(
+          List.of("value-0", "value-1", "value-2", "value-3", "value-4", "value-5"), replayed);
+    }
+  }
+
+  @Test
+  void shouldDropTornRecordWhenLoading() throws IOException {
+    try (MappedRecordStore<String> store = open()) {
+      store.append("first");
+      store.append("second");
+    }
+    // Corrupt the data of the second record
+    Path segment = directory.resolve("strings-000000" + MappedRecordStore.SEGMENT_EXTENSION);
+    int secondData = MappedRecordStore.RECORD_HEADER_SIZE * 2 + 7;
+    try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+      channel.write(ByteBuffer.wrap(new byte[] {'X'}), secondData + 2);
+    }
+
+    try (MappedRecordStore<String> store = open()) {
+      assertEquals(1, store.size());
+      store.append("third");
+      assertEquals("third", store.get(1));
+    }
+  }
+
+  @Test
+  void shouldRejectValuesLargerThanSegment() throws IOException {
+    try (MappedRecordStore<String> store = open()) {
+      store.append("small");
+
+      assertThrows(IllegalArgumentException.class, () -> store.append("x".repeat(SEGMENT_SIZE)));
+      assertEquals(1, store.size());
+      assertThrows(IndexOutOfBoundsException.class, () -> store.get(1));
+    }
+  }
+
+  @Test
+  void shouldFailOnClosedStore() throws IOException {
+    MappedRecordStore<String> store = open();
+    store.close();
+
+    assertThrows(IllegalStateException.class, () -> store.append("value"));
+  }
+
+  private MappedRecordStore<String> open() throws IOException {
+    return MappedRecordStore.open(directory, "strings", SEGMENT_SIZE, new StringCodec());
+  }
+
+  /** Codec writing a single string field. */
+  private static class StringCodec implements IBinaryCodec<String> {
+    @Override
+    public void encode(String value, ByteBuffer buffer) {
+      BinaryFormat.writeHeader(buffer);
+      encodeFields(value, buffer);
+    }
+
+    @Override
+    public String decode(ByteBuffer buffer) {
+      BinaryFormat.readHeader(buffer);
+      return decodeFields(buffer);
+    }
+
+    @Override
+    public void encodeFields(String value, ByteBuffer buffer) {
+      BinaryFormat.writeString(buffer, value);
+    }
+
+    @Override
+    public String decodeFields(ByteBuffer buffer) {
+      return BinaryFormat.readString(buffer);
+    }
+  }
+}
@@ -0,0 +1,166 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.javahelpers.simple.builders.core.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class PendingFieldsTest {
+
+  @Test
+  void resolve_appliesValuesInRegistrationOrderAfterAllStagesComplete() throws Exception {
+    PendingFields pendingFields = new PendingFields();
+    List<String> applied = new ArrayList<>();
+    CompletableFuture<String> first = new CompletableFuture<>();
+    CompletableFuture<String> second = new CompletableFuture<>();
+    pendingFields.register("first", first, applied::add);
+    pendingFields.register("second", second, applied::add);
+
+    CompletableFuture<List<String>> result = pendingFields.resolve(() -> List.copyOf(applied));
+    second.complete("second");
+    assertFalse(result.isDone());
+    assertTrue(applied.isEmpty());
+
+    first.complete("first");
+    assertEquals(List.of("first", "second"), result.get(1, TimeUnit.SECONDS));
+    assertTrue(pendingFields.isEmpty());
+  }
+
+  @Test
+  void resolve_failsWhenAStageFails() {
+    PendingFields pendingFields = new PendingFields();
+    pendingFields.register(
+        "value", CompletableFuture.failedFuture(new IllegalStateException("remote")), value -> {});
+
+    CompletableFuture<String> result = pendingFields.resolve(() -> "built");
+
+    ExecutionException exception = assertThrows(ExecutionException.class, result::get);
+    assertInstanceOf(IllegalStateException.class, exception.getCause());
+  }
+
+  @Test
+  void supply_runsSuppliersConcurrently() throws Exception {
+    PendingFields pendingFields = new PendingFields();
+    CountDownLatch bothStarted = new CountDownLatch(2);
+    List<Integer> applied = new ArrayList<>();
+    for (int i = 0; i < 2; i++) {
+      int value = i;
+      pendingFields.supply(
+          "value" + i,
+          () -> {
+            bothStarted.countDown();
+            awaitQuietly(bothStarted);
+            return value;
+          },
+          PendingFields.defaultExecutor(),
+          applied::add);
+    }
+
+    assertEquals(List.of(0, 1), pendingFields.resolve(() -> applied).get(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void resolve_withoutPendingValuesBuildsImmediately() {
+    PendingFields pendingFields = new PendingFields();
+
+    CompletableFuture<String> result = pendingFields.resolve(() -> "built");
+
+    assertTrue(result.isDone());
+    assertEquals("built", result.join());
+    assertNotNull(PendingFields.defaultExecutor());
+  }
+
+  @Test
+  void register_replacesValuePendingForSameField() throws Exception {
+    PendingFields pendingFields = new PendingFields();
+    List<String> applied = new ArrayList<>();
+    pendingFields.register("name", new CompletableFuture<String>(), applied::add);
+    pendingFields.register("other", CompletableFuture.completedFuture("other"), applied::add);
+    pendingFields.register("name", CompletableFuture.completedFuture("latest"), applied::add);
+
+    assertEquals(
+        List.of("other", "latest"), pendingFields.resolve(() -> applied).get(1, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void discard_dropsPendingValueOfField() throws Exception {
+    PendingFields pendingFields = new PendingFields();
+    List<String> applied = new ArrayList<>();
+    pendingFields.register("name", CompletableFuture.completedFuture("stage"), applied::add);
+    pendingFields.discard("name");
+
+    assertTrue(pendingFields.isEmpty());
+    assertEquals(List.of(), pendingFields.resolve(() -> applied).get(1, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void checkNotPending_failsOnlyForFieldWithPendingValue() {
+    PendingFields pendingFields = new PendingFields();
+    pendingFields.register("name", new CompletableFuture<String>(), value -> {});
+
+    pendingFields.checkNotPending("tags");
+    IllegalStateException exception =
+        assertThrows(IllegalStateException.class, () -> pendingFields.checkNotPending("name"));
+    assertTrue(exception.getMessage().contains("'name'"));
+
+    pendingFields.discard("name");
+    pendingFields.checkNotPending("name");
+  }
+
+  @Test
+  void checkResolved_failsWhileValuesArePending() {
+    PendingFields pendingFields = new PendingFields();
+    pendingFields.checkResolved();
+    pendingFields.register("name", new CompletableFuture<String>(), value -> {});
+
+    IllegalStateException exception =
+        assertThrows(IllegalStateException.class, pendingFields::checkResolved);
+    assertTrue(exception.getMessage().contains("[name]"));
+    assertTrue(exception.getMessage().contains("buildAsync()"));
+
+    pendingFields.resolve(() -> "built");
+    pendingFields.checkResolved();
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.javahelpers.simple.builders.core.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class RowMappingTest {
+
+  private static final List<String> FIELD_NAMES = List.of("id", "firstName", "age");
+
+  @Test
+  void shouldResolveColumnsIgnoringCaseAndUnderscores() {
+    int[] columns = RowMapping.resolveColumns(FIELD_NAMES, List.of("AGE", "first_name", "ID"));
+
+    assertArrayEquals(new int[] {2, 1, 0}, columns);
+  }
+
+  @Test
+  void shouldMarkFieldsWithoutColumn() {
+    int[] columns =
+        RowMapping.resolveColumns(FIELD_NAMES, Arrays.asList("comment", null, "firstname"));
+
+    assertArrayEquals(new int[] {RowMapping.NO_COLUMN, 2, RowMapping.NO_COLUMN}, columns);
+  }
+
+  @Test
+  void shouldUseFirstMatchingColumn() {
+    int[] columns = RowMapping.resolveColumns(FIELD_NAMES, List.of("id", "ID"));
+
+    assertArrayEquals(new int[] {0, RowMapping.NO_COLUMN, RowMapping.NO_COLUMN}, columns);
+  }
+}
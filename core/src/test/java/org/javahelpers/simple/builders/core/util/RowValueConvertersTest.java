@@ -0,0 +1,109 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.javahelpers.simple.builders.core.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import org.junit.jupiter.api.Test;
+
+class RowValueConvertersTest {
+
+  private enum Color {
+    RED
+  }
+
+  @Test
+  void stringsShouldParseSupportedTypes() {
+    RowValueConverter<String> converter = RowValueConverters.strings();
+
+    assertEquals(42, converter.convert("42", Integer.class));
+    assertEquals(new BigDecimal("1.50"), converter.convert("1.50", BigDecimal.class));
+    assertEquals(LocalDate.of(2026, 3, 1), converter.convert("2026-03-01", LocalDate.class));
+    assertEquals(Color.RED, converter.convert("RED", Color.class));
+    assertEquals("", converter.convert("", String.class));
+    assertNull(converter.convert("", Integer.class));
+  }
+
+  @Test
+  void stringsShouldConvertPrimitivesAndTreatEmptyAsNull() {
+    RowValueConverter<String> converter = RowValueConverters.strings();
+
+    assertEquals(7, converter.toInt("7"));
+    assertEquals(2.5, converter.toDouble("2.5"));
+    assertTrue(converter.toBoolean("true"));
+    assertEquals('x', converter.toChar("x"));
+    assertTrue(converter.isNull(""));
+    assertTrue(converter.isNull(null));
+    assertFalse(converter.isNull("0"));
+  }
+
+  @Test
+  void objectsShouldPassThroughAndConvertNumbers() {
+    RowValueConverter<Object> converter = RowValueConverters.objects();
+    LocalDateTime time = LocalDateTime.of(2026, 3, 1, 12, 0).truncatedTo(ChronoUnit.SECONDS);
+
+    assertEquals("text", converter.convert("text", String.class));
+    assertEquals(3L, converter.convert(3, Long.class));
+    assertEquals(3, converter.toInt(3L));
+    assertEquals(12, converter.convert("12", Integer.class));
+    assertEquals(time, converter.convert(Timestamp.valueOf(time), LocalDateTime.class));
+    assertNull(converter.convert(null, Integer.class));
+  }
+
+  @Test
+  void objectsShouldRejectNumbersNotFittingTheTargetType() {
+    RowValueConverter<Object> converter = RowValueConverters.objects();
+
+    assertEquals(5, converter.toInt(new BigDecimal("5.00")));
+    assertEquals((short) -3, converter.convert(-3.0, Short.class));
+    assertThrows(IllegalArgumentException.class, () -> converter.toInt(1L << 32));
+    assertThrows(IllegalArgumentException.class, () -> converter.toInt(2.5));
+    assertThrows(
+        IllegalArgumentException.class, () -> converter.toLong(new BigInteger("9".repeat(20))));
+    assertThrows(IllegalArgumentException.class, () -> converter.convert(128, Byte.class));
+    assertThrows(IllegalArgumentException.class, () -> converter.toShort(40_000));
+    assertThrows(IllegalArgumentException.class, () -> converter.convert(1e300, Float.class));
+  }
+
+  @Test
+  void shouldRejectUnsupportedConversions() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> RowValueConverters.strings().convert("x", Thread.class));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> RowValueConverters.objects().convert(new Object(), Integer.class));
+    assertThrows(IllegalArgumentException.class, () -> RowValueConverters.strings().toChar("xy"));
+  }
+}
@@ -26,10 +26,12 @@ package org.javahelpers.simple.builders.core.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.Test;
 
@@ -164,6 +166,62 @@ class TrackedValueTest {
     assertNull(capturedValue.get());
   }
 
+  @Test
+  void deferredValue_computesValueOnceOnFirstAccess() {
+    AtomicInteger invocations = new AtomicInteger();
+    TrackedValue<String> tracked =
+        TrackedValue.deferredValue(() -> "computed-" + invocations.incrementAndGet());
+
+    assertTrue(tracked.isChanged());
+    assertTrue(tracked.isSet());
+    assertTrue(tracked.isDeferred());
+    assertEquals(0, invocations.get());
+
+    assertEquals("computed-1", tracked.value());
+    assertEquals("computed-1", tracked.valueOr("default"));
+    assertFalse(tracked.isDeferred());
+    assertEquals(1, invocations.get());
+  }
+
+  @Test
+  void deferredValue_replacedBeforeAccessIsNeverComputed() {
+    AtomicBoolean computed = new AtomicBoolean();
+    TrackedValue<String> tracked =
+        TrackedValue.deferredValue(() -> String.valueOf(computed.getAndSet(true)));
+
+    tracked = TrackedValue.changedValue("direct");
+
+    assertEquals("direct", tracked.value());
+    assertFalse(tracked.isDeferred());
+    assertFalse(computed.get());
+  }
+
+  @Test
+  void deferredValue_comparesSupplierByIdentityWithoutComputing() {
+    AtomicInteger invocations = new AtomicInteger();
+    TrackedValue<String> tracked =
+        TrackedValue.deferredValue(() -> "computed-" + invocations.incrementAndGet());
+
+    assertEquals(tracked, tracked);
+    assertEquals(tracked.hashCode(), tracked.hashCode());
+    assertNotEquals(TrackedValue.deferredValue(() -> "computed-1"), tracked);
+    assertNotEquals(TrackedValue.changedValue("computed-1"), tracked);
+    assertEquals(
+        "TrackedValue[value=<deferred>, isChanged=true, isInitial=false]", tracked.toString());
+    assertEquals(0, invocations.get());
+  }
+
+  @Test
+  void deferredValue_fromCanonicalConstructorIsComputedOnce() {
+    AtomicInteger invocations = new AtomicInteger();
+    TrackedValue<Integer> tracked =
+        new TrackedValue<>(null, true, false, invocations::incrementAndGet);
+
+    assertEquals(1, tracked.value());
+    assertEquals(1, tracked.value());
+    assertEquals(1, invocations.get());
+  }
+
   @Test
   void shouldSupportRecordEquality() {
     TrackedValue<String> tracked1 = new TrackedValue<>("test", true, false);
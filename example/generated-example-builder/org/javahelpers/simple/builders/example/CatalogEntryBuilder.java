@@ -0,0 +1,450 @@
+package org.javahelpers.simple.builders.example;
+
+import static org.javahelpers.simple.builders.core.util.TrackedValue.changedValue;
+import static org.javahelpers.simple.builders.core.util.TrackedValue.initialValue;
+import static org.javahelpers.simple.builders.core.util.TrackedValue.unsetValue;
+import java.math.BigDecimal;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import javax.annotation.processing.Generated;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.javahelpers.simple.builders.core.annotations.BuilderImplementation;
+import org.javahelpers.simple.builders.core.interfaces.IBuilderBase;
+import org.javahelpers.simple.builders.core.util.BuilderSupport;
+import org.javahelpers.simple.builders.core.util.BuilderToStringStyle;
+import org.javahelpers.simple.builders.core.util.TrackedValue;
+
+/**
+ * Builder for {@code org.javahelpers.simple.builders.example.CatalogEntry}.
+ * <p>
+ * This builder provides a fluent API for creating instances of org.javahelpers.simple.builders.example.CatalogEntry
+ * with method chaining and validation. Use the static {@code create()} method to obtain a new builder instance,
+ * configure the desired properties using the setter methods, and then call {@code build()} to create the final DTO.
+ * 
+ * <h4>Example:</h4>
+ * 
+ * <pre>{@code
+ * CatalogEntry result = CatalogEntryBuilder.create()
+ *     .sku("example value")
+ *     .sku("Hello %s", "World")
+ *     .sku(() -> "example value")
+ *     .sku(sb -> sb.append("text"))
+ *     .description("example value")
+ *     .description("Hello %s", "World")
+ *     .description(() -> "example value")
+ *     .description(sb -> sb.append("text"))
+ *     .price(BigDecimal.valueOf(3.14))
+ *     .price(() -> BigDecimal.valueOf(3.14))
+ *     .build();
+ * }</pre>
+ */
+@Generated("Generated by org.javahelpers.simple.builders.processor.BuilderProcessor")
+@BuilderImplementation(forClass = CatalogEntry.class)
+public class CatalogEntryBuilder implements IBuilderBase<CatalogEntry> {
+
+  /**
+   * Tracked value for <code>sku</code>: the stock keeping unit.
+   */
+  private TrackedValue<String> sku = unsetValue();
+  /**
+   * Tracked value for <code>description</code>: description shown in the catalog.
+   */
+  private TrackedValue<String> description = unsetValue();
+  /**
+   * Tracked value for <code>price</code>: current price.
+   */
+  private TrackedValue<BigDecimal> price = unsetValue();
+
+  /**
+   * Empty constructor of builder for {@code org.javahelpers.simple.builders.example.CatalogEntry}.
+   */
+  public CatalogEntryBuilder() {
+  }
+
+  /**
+   * Initialisation of builder for {@code org.javahelpers.simple.builders.example.CatalogEntry} by a instance.
+   * 
+   * @param instance object instance for initialisiation
+   */
+  public CatalogEntryBuilder(CatalogEntry instance) {
+    this.sku = initialValue(instance.sku());
+    this.description = initialValue(instance.description());
+    this.price = initialValue(instance.price());
+  }
+
+  /**
+   * Creating a new builder for {@code org.javahelpers.simple.builders.example.CatalogEntry}.
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * CatalogEntryBuilder builder = CatalogEntryBuilder.create();
+   * }</pre>
+   * 
+   * @return builder for {@code org.javahelpers.simple.builders.example.CatalogEntry}
+   */
+  public static CatalogEntryBuilder create() {
+    return new CatalogEntryBuilder();
+  }
+
+  /**
+   * Sets the value for <code>description</code>.
+   * <p>
+   * Generated from parameter in constructor {@link CatalogEntry#CatalogEntry(String, String, BigDecimal)
+   * CatalogEntry(String sku, String description, BigDecimal price)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.description("example value");
+   * }</pre>
+   * 
+   * @param description description shown in the catalog
+   * @return current instance of builder
+   */
+  public CatalogEntryBuilder description(String description) {
+    this.description = changedValue(description);
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>description</code> by executing the provided consumer.
+   * <p>
+   * Generated from parameter in constructor {@link CatalogEntry#CatalogEntry(String, String, BigDecimal)
+   * CatalogEntry(String sku, String description, BigDecimal price)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.description(sb -> sb.append("text"));
+   * }</pre>
+   * 
+   * @param descriptionStringBuilderConsumer consumer providing an instance of description shown in the catalog
+   * @return current instance of builder
+   */
+  public CatalogEntryBuilder description(Consumer<StringBuilder> descriptionStringBuilderConsumer) {
+    StringBuilder builder = new StringBuilder();
+    descriptionStringBuilderConsumer.accept(builder);
+    this.description = changedValue(builder.toString());
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>description</code> by invoking the provided supplier when the value is needed. A supplier
+   * replaced before is never invoked.
+   * <p>
+   * Generated from parameter in constructor {@link CatalogEntry#CatalogEntry(String, String, BigDecimal)
+   * CatalogEntry(String sku, String description, BigDecimal price)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.description(() -> "example value");
+   * }</pre>
+   * 
+   * @param descriptionSupplier supplier for description shown in the catalog
+   * @return current instance of builder
+   */
+  public CatalogEntryBuilder description(Supplier<String> descriptionSupplier) {
+    this.description = TrackedValue.deferredValue(descriptionSupplier);
+    return this;
+  }
+
+  /**
+   * Sets the String value for <code>description</code> by using String.format(format, args). See
+   * {@link String#format(String, Object...)} for details.
+   * <p>
+   * Generated from parameter in constructor {@link CatalogEntry#CatalogEntry(String, String, BigDecimal)
+   * CatalogEntry(String sku, String description, BigDecimal price)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.description("Hello %s", "World");
+   * }</pre>
+   * 
+   * @param format A format string
+   * @param args Arguments referenced by the format specifiers in the format string.
+   * @return current instance of builder
+   */
+  public CatalogEntryBuilder description(String format, Object... args) {
+    this.description = changedValue(String.format(format, args));
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>price</code>.
+   * <p>
+   * Generated from parameter in constructor {@link CatalogEntry#CatalogEntry(String, String, BigDecimal)
+   * CatalogEntry(String sku, String description, BigDecimal price)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.price(BigDecimal.valueOf(3.14));
+   * }</pre>
+   * 
+   * @param price current price
+   * @return current instance of builder
+   */
+  public CatalogEntryBuilder price(BigDecimal price) {
+    this.price = changedValue(price);
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>price</code> by invoking the provided supplier when the value is needed. A supplier
+   * replaced before is never invoked.
+   * <p>
+   * Generated from parameter in constructor {@link CatalogEntry#CatalogEntry(String, String, BigDecimal)
+   * CatalogEntry(String sku, String description, BigDecimal price)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.price(() -> BigDecimal.valueOf(3.14));
+   * }</pre>
+   * 
+   * @param priceSupplier supplier for current price
+   * @return current instance of builder
+   */
+  public CatalogEntryBuilder price(Supplier<BigDecimal> priceSupplier) {
+    this.price = TrackedValue.deferredValue(priceSupplier);
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>sku</code>.
+   * <p>
+   * Generated from parameter in constructor {@link CatalogEntry#CatalogEntry(String, String, BigDecimal)
+   * CatalogEntry(String sku, String description, BigDecimal price)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.sku("example value");
+   * }</pre>
+   * 
+   * @param sku the stock keeping unit
+   * @return current instance of builder
+   */
+  public CatalogEntryBuilder sku(String sku) {
+    this.sku = changedValue(sku);
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>sku</code> by executing the provided consumer.
+   * <p>
+   * Generated from parameter in constructor {@link CatalogEntry#CatalogEntry(String, String, BigDecimal)
+   * CatalogEntry(String sku, String description, BigDecimal price)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.sku(sb -> sb.append("text"));
+   * }</pre>
+   * 
+   * @param skuStringBuilderConsumer consumer providing an instance of the stock keeping unit
+   * @return current instance of builder
+   */
+  public CatalogEntryBuilder sku(Consumer<StringBuilder> skuStringBuilderConsumer) {
+    StringBuilder builder = new StringBuilder();
+    skuStringBuilderConsumer.accept(builder);
+    this.sku = changedValue(builder.toString());
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>sku</code> by invoking the provided supplier when the value is needed. A supplier replaced
+   * before is never invoked.
+   * <p>
+   * Generated from parameter in constructor {@link CatalogEntry#CatalogEntry(String, String, BigDecimal)
+   * CatalogEntry(String sku, String description, BigDecimal price)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.sku(() -> "example value");
+   * }</pre>
+   * 
+   * @param skuSupplier supplier for the stock keeping unit
+   * @return current instance of builder
+   */
+  public CatalogEntryBuilder sku(Supplier<String> skuSupplier) {
+    this.sku = TrackedValue.deferredValue(skuSupplier);
+    return this;
+  }
+
+  /**
+   * Sets the String value for <code>sku</code> by using String.format(format, args). See
+   * {@link String#format(String, Object...)} for details.
+   * <p>
+   * Generated from parameter in constructor {@link CatalogEntry#CatalogEntry(String, String, BigDecimal)
+   * CatalogEntry(String sku, String description, BigDecimal price)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.sku("Hello %s", "World");
+   * }</pre>
+   * 
+   * @param format A format string
+   * @param args Arguments referenced by the format specifiers in the format string.
+   * @return current instance of builder
+   */
+  public CatalogEntryBuilder sku(String format, Object... args) {
+    this.sku = changedValue(String.format(format, args));
+    return this;
+  }
+
+  /**
+   * Validates that the description field is not null or empty.
+   * <p>
+   * Generated from parameter in constructor {@link CatalogEntry#CatalogEntry(String, String, BigDecimal)
+   * CatalogEntry(String sku, String description, BigDecimal price)}
+   * 
+   * @return this builder instance for chaining
+   * @throws IllegalArgumentException if description is null or empty
+   */
+  CatalogEntryBuilder validateDescription() {
+    if (!description.isSet() || description.value().trim().isEmpty()) {
+      throw new IllegalArgumentException("Description cannot be null or empty");
+    }
+    return this;
+  }
+
+  /**
+   * Validates that the sku field is not null or empty.
+   * <p>
+   * Generated from parameter in constructor {@link CatalogEntry#CatalogEntry(String, String, BigDecimal)
+   * CatalogEntry(String sku, String description, BigDecimal price)}
+   * 
+   * @return this builder instance for chaining
+   * @throws IllegalArgumentException if sku is null or empty
+   */
+  CatalogEntryBuilder validateSku() {
+    if (!sku.isSet() || sku.value().trim().isEmpty()) {
+      throw new IllegalArgumentException("Sku cannot be null or empty");
+    }
+    return this;
+  }
+
+  /**
+   * Conditionally applies builder modifications if the condition is true.
+   * 
+   * @param condition the condition to evaluate
+   * @param yesCondition the consumer to apply if condition is true
+   * @return this builder instance
+   */
+  public CatalogEntryBuilder conditional(BooleanSupplier condition, Consumer<CatalogEntryBuilder> yesCondition) {
+    return conditional(condition, yesCondition, null);
+  }
+
+  /**
+   * Conditionally applies builder modifications based on a condition evaluation.
+   * 
+   * @param condition the condition to evaluate
+   * @param trueCase the consumer to apply if condition is true
+   * @param falseCase the consumer to apply if condition is false (can be null)
+   * @return this builder instance
+   */
+  public CatalogEntryBuilder conditional(BooleanSupplier condition, Consumer<CatalogEntryBuilder> trueCase,
+      Consumer<CatalogEntryBuilder> falseCase) {
+    return BuilderSupport.conditional(this, condition, trueCase, falseCase);
+  }
+
+  /**
+   * Builds the configured DTO instance.
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * CatalogEntry result = builder.build();
+   * }</pre>
+   */
+  @Override
+  public CatalogEntry build() {
+    CatalogEntry result = new CatalogEntry(this.sku.value(), this.description.value(), this.price.value());
+    return result;
+  }
+
+  /**
+   * Returns a string representation of this builder, including only fields that have been set.
+   * 
+   * @return string representation of the builder
+   */
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this, BuilderToStringStyle.INSTANCE).append("sku", this.sku)
+        .append("description", this.description)
+        .append("price", this.price)
+        .toString();
+  }
+
+  /**
+   * Interface that can be implemented by the DTO to provide fluent modification methods.
+   */
+  public interface With {
+    /**
+     * Initializes a builder from an instance of this class, using methods of this builder to change values and returns
+     * the new built object.
+     * 
+     * @param b the consumer to apply modifications
+     * @return the modified instance
+     */
+    default CatalogEntry with(Consumer<CatalogEntryBuilder> b) {
+      CatalogEntryBuilder builder = new CatalogEntryBuilder(
+          BuilderSupport.castWithInstance(this, CatalogEntry.class, "CatalogEntryBuilder.With"));
+      b.accept(builder);
+      return builder.build();
+    }
+
+    /**
+     * Creates a builder initialized from this instance.
+     * 
+     * @return a builder initialized with this instance's values
+     */
+    default CatalogEntryBuilder with() {
+      return new CatalogEntryBuilder(
+          BuilderSupport.castWithInstance(this, CatalogEntry.class, "CatalogEntryBuilder.With"));
+    }
+
+    /**
+     * Creates a copy of this instance with a new value for <code>sku</code>, calling the constructor directly without
+     * initializing a builder.
+     * 
+     * @param sku the new value for <code>sku</code>
+     * @return the modified instance
+     */
+    default CatalogEntry withSku(String sku) {
+      CatalogEntry self = BuilderSupport.castWithInstance(this, CatalogEntry.class, "CatalogEntryBuilder.With");
+      return new CatalogEntry(sku, self.description(), self.price());
+    }
+
+    /**
+     * Creates a copy of this instance with a new value for <code>description</code>, calling the constructor directly
+     * without initializing a builder.
+     * 
+     * @param description the new value for <code>description</code>
+     * @return the modified instance
+     */
+    default CatalogEntry withDescription(String description) {
+      CatalogEntry self = BuilderSupport.castWithInstance(this, CatalogEntry.class, "CatalogEntryBuilder.With");
+      return new CatalogEntry(self.sku(), description, self.price());
+    }
+
+    /**
+     * Creates a copy of this instance with a new value for <code>price</code>, calling the constructor directly without
+     * initializing a builder.
+     * 
+     * @param price the new value for <code>price</code>
+     * @return the modified instance
+     */
+    default CatalogEntry withPrice(BigDecimal price) {
+      CatalogEntry self = BuilderSupport.castWithInstance(this, CatalogEntry.class, "CatalogEntryBuilder.With");
+      return new CatalogEntry(self.sku(), self.description(), price);
+    }
+  }
+}
\ No newline at end of file
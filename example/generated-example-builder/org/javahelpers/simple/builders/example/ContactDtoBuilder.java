@@ -0,0 +1,569 @@
+package org.javahelpers.simple.builders.example;
+
+import static org.javahelpers.simple.builders.core.util.TrackedValue.changedValue;
+import static org.javahelpers.simple.builders.core.util.TrackedValue.initialValue;
+import static org.javahelpers.simple.builders.core.util.TrackedValue.unsetValue;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import javax.annotation.processing.Generated;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.javahelpers.simple.builders.core.annotations.BuilderImplementation;
+import org.javahelpers.simple.builders.core.interfaces.IBuilderBase;
+import org.javahelpers.simple.builders.core.util.BuilderSupport;
+import org.javahelpers.simple.builders.core.util.BuilderToStringStyle;
+import org.javahelpers.simple.builders.core.util.TrackedValue;
+
+/**
+ * Builder for {@code org.javahelpers.simple.builders.example.ContactDto}.
+ * <p>
+ * This builder provides a fluent API for creating instances of org.javahelpers.simple.builders.example.ContactDto with
+ * method chaining and validation. Use the static {@code create()} method to obtain a new builder instance, configure
+ * the desired properties using the setter methods, and then call {@code build()} to create the final DTO.
+ * 
+ * <h4>Example:</h4>
+ * 
+ * <pre>{@code
+ * ContactDto result = ContactDtoBuilder.create()
+ *     .id(42L)
+ *     .id(() -> 42L)
+ *     .email("example value")
+ *     .email("Hello %s", "World")
+ *     .email(() -> "example value")
+ *     .email(sb -> sb.append("text"))
+ *     .name("example value")
+ *     .name("Hello %s", "World")
+ *     .name(() -> "example value")
+ *     .name(sb -> sb.append("text"))
+ *     .phoneNumber("example value")
+ *     .phoneNumber("Hello %s", "World")
+ *     .phoneNumber(() -> "example value")
+ *     .phoneNumber(sb -> sb.append("text"))
+ *     .build();
+ * }</pre>
+ */
+@Generated("Generated by org.javahelpers.simple.builders.processor.BuilderProcessor")
+@BuilderImplementation(forClass = ContactDto.class)
+public class ContactDtoBuilder implements IBuilderBase<ContactDto> {
+
+  /**
+   * Tracked value for <code>id</code>: id.
+   */
+  private TrackedValue<Long> id = unsetValue();
+  /**
+   * Tracked value for <code>email</code>: the email address to set.
+   */
+  private TrackedValue<String> email = unsetValue();
+  /**
+   * Tracked value for <code>name</code>: the name to set.
+   */
+  private TrackedValue<String> name = unsetValue();
+  /**
+   * Tracked value for <code>phoneNumber</code>: the phone number to set.
+   */
+  private TrackedValue<String> phoneNumber = unsetValue();
+
+  /**
+   * Empty constructor of builder for {@code org.javahelpers.simple.builders.example.ContactDto}.
+   */
+  public ContactDtoBuilder() {
+  }
+
+  /**
+   * Initialisation of builder for {@code org.javahelpers.simple.builders.example.ContactDto} by a instance.
+   * 
+   * @param instance object instance for initialisiation
+   */
+  public ContactDtoBuilder(ContactDto instance) {
+    this.id = initialValue(instance.getId());
+    this.email = initialValue(instance.getEmail());
+    this.name = initialValue(instance.getName());
+    this.phoneNumber = initialValue(instance.getPhoneNumber());
+  }
+
+  /**
+   * Creating a new builder for {@code org.javahelpers.simple.builders.example.ContactDto}.
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * ContactDtoBuilder builder = ContactDtoBuilder.create();
+   * }</pre>
+   * 
+   * @return builder for {@code org.javahelpers.simple.builders.example.ContactDto}
+   */
+  public static ContactDtoBuilder create() {
+    return new ContactDtoBuilder();
+  }
+
+  /**
+   * Sets the value for <code>email</code>.
+   * <p>
+   * Generated from setter {@link ContactDto#setEmail(String) setEmail(String email)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.email("example value");
+   * }</pre>
+   * 
+   * @param email the email address to set
+   * @return current instance of builder
+   */
+  public ContactDtoBuilder email(String email) {
+    this.email = changedValue(email);
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>email</code> by executing the provided consumer.
+   * <p>
+   * Generated from setter {@link ContactDto#setEmail(String) setEmail(String email)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.email(sb -> sb.append("text"));
+   * }</pre>
+   * 
+   * @param emailStringBuilderConsumer consumer providing an instance of the email address to set
+   * @return current instance of builder
+   */
+  public ContactDtoBuilder email(Consumer<StringBuilder> emailStringBuilderConsumer) {
+    StringBuilder builder = new StringBuilder();
+    emailStringBuilderConsumer.accept(builder);
+    this.email = changedValue(builder.toString());
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>email</code> by invoking the provided supplier.
+   * <p>
+   * Generated from setter {@link ContactDto#setEmail(String) setEmail(String email)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.email(() -> "example value");
+   * }</pre>
+   * 
+   * @param emailSupplier supplier for the email address to set
+   * @return current instance of builder
+   */
+  public ContactDtoBuilder email(Supplier<String> emailSupplier) {
+    this.email = changedValue(emailSupplier.get());
+    return this;
+  }
+
+  /**
+   * Sets the String value for <code>email</code> by using String.format(format, args). See
+   * {@link String#format(String, Object...)} for details.
+   * <p>
+   * Generated from setter {@link ContactDto#setEmail(String) setEmail(String email)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.email("Hello %s", "World");
+   * }</pre>
+   * 
+   * @param format A format string
+   * @param args Arguments referenced by the format specifiers in the format string.
+   * @return current instance of builder
+   */
+  public ContactDtoBuilder email(String format, Object... args) {
+    this.email = changedValue(String.format(format, args));
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>id</code>.
+   * <p>
+   * Generated from parameter in constructor {@link ContactDto#ContactDto(Long) ContactDto(Long id)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.id(42L);
+   * }</pre>
+   * 
+   * @param id id
+   * @return current instance of builder
+   */
+  public ContactDtoBuilder id(Long id) {
+    this.id = changedValue(id);
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>id</code> by invoking the provided supplier.
+   * <p>
+   * Generated from parameter in constructor {@link ContactDto#ContactDto(Long) ContactDto(Long id)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.id(() -> 42L);
+   * }</pre>
+   * 
+   * @param idSupplier supplier for id
+   * @return current instance of builder
+   */
+  public ContactDtoBuilder id(Supplier<Long> idSupplier) {
+    this.id = changedValue(idSupplier.get());
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>name</code>.
+   * <p>
+   * Generated from setter {@link ContactDto#setName(String) setName(String name)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.name("example value");
+   * }</pre>
+   * 
+   * @param name the name to set
+   * @return current instance of builder
+   */
+  public ContactDtoBuilder name(String name) {
+    this.name = changedValue(name);
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>name</code> by executing the provided consumer.
+   * <p>
+   * Generated from setter {@link ContactDto#setName(String) setName(String name)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.name(sb -> sb.append("text"));
+   * }</pre>
+   * 
+   * @param nameStringBuilderConsumer consumer providing an instance of the name to set
+   * @return current instance of builder
+   */
+  public ContactDtoBuilder name(Consumer<StringBuilder> nameStringBuilderConsumer) {
+    StringBuilder builder = new StringBuilder();
+    nameStringBuilderConsumer.accept(builder);
+    this.name = changedValue(builder.toString());
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>name</code> by invoking the provided supplier.
+   * <p>
+   * Generated from setter {@link ContactDto#setName(String) setName(String name)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.name(() -> "example value");
+   * }</pre>
+   * 
+   * @param nameSupplier supplier for the name to set
+   * @return current instance of builder
+   */
+  public ContactDtoBuilder name(Supplier<String> nameSupplier) {
+    this.name = changedValue(nameSupplier.get());
+    return this;
+  }
+
+  /**
+   * Sets the String value for <code>name</code> by using String.format(format, args). See
+   * {@link String#format(String, Object...)} for details.
+   * <p>
+   * Generated from setter {@link ContactDto#setName(String) setName(String name)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.name("Hello %s", "World");
+   * }</pre>
+   * 
+   * @param format A format string
+   * @param args Arguments referenced by the format specifiers in the format string.
+   * @return current instance of builder
+   */
+  public ContactDtoBuilder name(String format, Object... args) {
+    this.name = changedValue(String.format(format, args));
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>phoneNumber</code>.
+   * <p>
+   * Generated from setter {@link ContactDto#setPhoneNumber(String) setPhoneNumber(String phoneNumber)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.phoneNumber("example value");
+   * }</pre>
+   * 
+   * @param phoneNumber the phone number to set
+   * @return current instance of builder
+   */
+  public ContactDtoBuilder phoneNumber(String phoneNumber) {
+    this.phoneNumber = changedValue(phoneNumber);
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>phoneNumber</code> by executing the provided consumer.
+   * <p>
+   * Generated from setter {@link ContactDto#setPhoneNumber(String) setPhoneNumber(String phoneNumber)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.phoneNumber(sb -> sb.append("text"));
+   * }</pre>
+   * 
+   * @param phoneNumberStringBuilderConsumer consumer providing an instance of the phone number to set
+   * @return current instance of builder
+   */
+  public ContactDtoBuilder phoneNumber(Consumer<StringBuilder> phoneNumberStringBuilderConsumer) {
+    StringBuilder builder = new StringBuilder();
+    phoneNumberStringBuilderConsumer.accept(builder);
+    this.phoneNumber = changedValue(builder.toString());
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>phoneNumber</code> by invoking the provided supplier.
+   * <p>
+   * Generated from setter {@link ContactDto#setPhoneNumber(String) setPhoneNumber(String phoneNumber)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.phoneNumber(() -> "example value");
+   * }</pre>
+   * 
+   * @param phoneNumberSupplier supplier for the phone number to set
+   * @return current instance of builder
+   */
+  public ContactDtoBuilder phoneNumber(Supplier<String> phoneNumberSupplier) {
+    this.phoneNumber = changedValue(phoneNumberSupplier.get());
+    return this;
+  }
+
+  /**
+   * Sets the String value for <code>phoneNumber</code> by using String.format(format, args). See
+   * {@link String#format(String, Object...)} for details.
+   * <p>
+   * Generated from setter {@link ContactDto#setPhoneNumber(String) setPhoneNumber(String phoneNumber)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.phoneNumber("Hello %s", "World");
+   * }</pre>
+   * 
+   * @param format A format string
+   * @param args Arguments referenced by the format specifiers in the format string.
+   * @return current instance of builder
+   */
+  public ContactDtoBuilder phoneNumber(String format, Object... args) {
+    this.phoneNumber = changedValue(String.format(format, args));
+    return this;
+  }
+
+  /**
+   * Validates that the email field is not null or empty.
+   * <p>
+   * Generated from setter {@link ContactDto#setEmail(String) setEmail(String email)}
+   * 
+   * @return this builder instance for chaining
+   * @throws IllegalArgumentException if email is null or empty
+   */
+  ContactDtoBuilder validateEmail() {
+    if (!email.isSet() || email.value().trim().isEmpty()) {
+      throw new IllegalArgumentException("Email cannot be null or empty");
+    }
+    return this;
+  }
+
+  /**
+   * Validates that the name field is not null or empty.
+   * <p>
+   * Generated from setter {@link ContactDto#setName(String) setName(String name)}
+   * 
+   * @return this builder instance for chaining
+   * @throws IllegalArgumentException if name is null or empty
+   */
+  ContactDtoBuilder validateName() {
+    if (!name.isSet() || name.value().trim().isEmpty()) {
+      throw new IllegalArgumentException("Name cannot be null or empty");
+    }
+    return this;
+  }
+
+  /**
+   * Validates that the phoneNumber field is not null or empty.
+   * <p>
+   * Generated from setter {@link ContactDto#setPhoneNumber(String) setPhoneNumber(String phoneNumber)}
+   * 
+   * @return this builder instance for chaining
+   * @throws IllegalArgumentException if phoneNumber is null or empty
+   */
+  ContactDtoBuilder validatePhoneNumber() {
+    if (!phoneNumber.isSet() || phoneNumber.value().trim().isEmpty()) {
+      throw new IllegalArgumentException("PhoneNumber cannot be null or empty");
+    }
+    return this;
+  }
+
+  /**
+   * Conditionally applies builder modifications if the condition is true.
+   * 
+   * @param condition the condition to evaluate
+   * @param yesCondition the consumer to apply if condition is true
+   * @return this builder instance
+   */
+  public ContactDtoBuilder conditional(BooleanSupplier condition, Consumer<ContactDtoBuilder> yesCondition) {
+    return conditional(condition, yesCondition, null);
+  }
+
+  /**
+   * Conditionally applies builder modifications based on a condition evaluation.
+   * 
+   * @param condition the condition to evaluate
+   * @param trueCase the consumer to apply if condition is true
+   * @param falseCase the consumer to apply if condition is false (can be null)
+   * @return this builder instance
+   */
+  public ContactDtoBuilder conditional(BooleanSupplier condition, Consumer<ContactDtoBuilder> trueCase,
+      Consumer<ContactDtoBuilder> falseCase) {
+    return BuilderSupport.conditional(this, condition, trueCase, falseCase);
+  }
+
+  /**
+   * Returns the fields explicitly changed on this builder. Values copied from an existing instance are not included.
+   * 
+   * @return new set of the changed fields
+   */
+  public EnumSet<Field> changedFields() {
+    EnumSet<Field> changed = EnumSet.noneOf(Field.class);
+    if (this.id.isChanged()) {
+      changed.add(Field.ID);
+    }
+    if (this.email.isChanged()) {
+      changed.add(Field.EMAIL);
+    }
+    if (this.name.isChanged()) {
+      changed.add(Field.NAME);
+    }
+    if (this.phoneNumber.isChanged()) {
+      changed.add(Field.PHONE_NUMBER);
+    }
+    return changed;
+  }
+
+  /**
+   * Applies all fields changed on this builder to an existing instance by calling their setters. Fields not changed are
+   * left untouched.
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * ContactDto updated = builder.applyTo(existing);
+   * }</pre>
+   * 
+   * @param target existing instance to update
+   * @return the updated target instance
+   * @throws IllegalStateException if a field only settable via constructor was changed or a non-null field was set to
+   * null
+   */
+  public ContactDto applyTo(ContactDto target) {
+    Objects.requireNonNull(target, "target");
+    if (this.id.isChanged()) {
+      throw new IllegalStateException(
+          "Field 'id' can only be set via constructor and cannot be applied to an existing instance");
+    }
+    if (this.email.isChanged()) {
+      target.setEmail(this.email.value());
+    }
+    if (this.name.isChanged()) {
+      target.setName(this.name.value());
+    }
+    if (this.phoneNumber.isChanged()) {
+      target.setPhoneNumber(this.phoneNumber.value());
+    }
+    return target;
+  }
+
+  /**
+   * Builds the configured DTO instance.
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * ContactDto result = builder.build();
+   * }</pre>
+   */
+  @Override
+  public ContactDto build() {
+    ContactDto result = new ContactDto(this.id.value());
+    this.email.ifSet(result::setEmail);
+    this.name.ifSet(result::setName);
+    this.phoneNumber.ifSet(result::setPhoneNumber);
+    return result;
+  }
+
+  /**
+   * Returns a string representation of this builder, including only fields that have been set.
+   * 
+   * @return string representation of the builder
+   */
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this, BuilderToStringStyle.INSTANCE).append("id", this.id)
+        .append("email", this.email)
+        .append("name", this.name)
+        .append("phoneNumber", this.phoneNumber)
+        .toString();
+  }
+
+  /**
+   * Interface that can be implemented by the DTO to provide fluent modification methods.
+   */
+  public interface With {
+    /**
+     * Initializes a builder from an instance of this class, using methods of this builder to change values and returns
+     * the new built object.
+     * 
+     * @param b the consumer to apply modifications
+     * @return the modified instance
+     */
+    default ContactDto with(Consumer<ContactDtoBuilder> b) {
+      ContactDtoBuilder builder = new ContactDtoBuilder(
+          BuilderSupport.castWithInstance(this, ContactDto.class, "ContactDtoBuilder.With"));
+      b.accept(builder);
+      return builder.build();
+    }
+
+    /**
+     * Creates a builder initialized from this instance.
+     * 
+     * @return a builder initialized with this instance's values
+     */
+    default ContactDtoBuilder with() {
+      return new ContactDtoBuilder(BuilderSupport.castWithInstance(this, ContactDto.class, "ContactDtoBuilder.With"));
+    }
+  }
+
+  /**
+   * Fields of {@code org.javahelpers.simple.builders.example.ContactDto}, as reported by {@code changedFields()}.
+   */
+  public enum Field {
+    ID, EMAIL, NAME, PHONE_NUMBER
+  }
+}
\ No newline at end of file
@@ -0,0 +1,626 @@
+package org.javahelpers.simple.builders.example;
+
+import static org.javahelpers.simple.builders.core.util.TrackedValue.changedValue;
+import static org.javahelpers.simple.builders.core.util.TrackedValue.initialValue;
+import static org.javahelpers.simple.builders.core.util.TrackedValue.unsetValue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import javax.annotation.processing.Generated;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.javahelpers.simple.builders.core.annotations.BuilderImplementation;
+import org.javahelpers.simple.builders.core.interfaces.IBuilderBase;
+import org.javahelpers.simple.builders.core.util.BuilderSupport;
+import org.javahelpers.simple.builders.core.util.BuilderToStringStyle;
+import org.javahelpers.simple.builders.core.util.PendingFields;
+import org.javahelpers.simple.builders.core.util.TrackedValue;
+
+/**
+ * Builder for {@code org.javahelpers.simple.builders.example.CustomerProfile}.
+ * <p>
+ * This builder provides a fluent API for creating instances of org.javahelpers.simple.builders.example.CustomerProfile
+ * with method chaining and validation. Use the static {@code create()} method to obtain a new builder instance,
+ * configure the desired properties using the setter methods, and then call {@code build()} to create the final DTO.
+ * 
+ * <h4>Example:</h4>
+ * 
+ * <pre>{@code
+ * CustomerProfile result = CustomerProfileBuilder.create()
+ *     .name("example value")
+ *     .name("Hello %s", "World")
+ *     .name(() -> "example value")
+ *     .name(sb -> sb.append("text"))
+ *     .name(CompletableFuture.supplyAsync(() -> "example value"))
+ *     .name(() -> "example value", PendingFields.defaultExecutor())
+ *     .address("example value")
+ *     .address("Hello %s", "World")
+ *     .address(() -> "example value")
+ *     .address(sb -> sb.append("text"))
+ *     .address(CompletableFuture.supplyAsync(() -> "example value"))
+ *     .address(() -> "example value", PendingFields.defaultExecutor())
+ *     .loyaltyPoints(42)
+ *     .loyaltyPoints(() -> 42)
+ *     .loyaltyPoints(CompletableFuture.supplyAsync(() -> 42))
+ *     .loyaltyPoints(() -> 42, PendingFields.defaultExecutor())
+ *     .build();
+ * }</pre>
+ */
+@Generated("Generated by org.javahelpers.simple.builders.processor.BuilderProcessor")
+@BuilderImplementation(forClass = CustomerProfile.class)
+public class CustomerProfileBuilder implements IBuilderBase<CustomerProfile> {
+
+  /**
+   * Field values which are still being computed, set by buildAsync().
+   */
+  private final PendingFields pendingFields = new PendingFields();
+  /**
+   * Tracked value for <code>name</code>: the name of the customer.
+   */
+  private TrackedValue<String> name = unsetValue();
+  /**
+   * Tracked value for <code>address</code>: the postal address of the customer.
+   */
+  private TrackedValue<String> address = unsetValue();
+  /**
+   * Tracked value for <code>loyaltyPoints</code>: collected loyalty points.
+   */
+  private TrackedValue<Integer> loyaltyPoints = unsetValue();
+
+  /**
+   * Empty constructor of builder for {@code org.javahelpers.simple.builders.example.CustomerProfile}.
+   */
+  public CustomerProfileBuilder() {
+  }
+
+  /**
+   * Initialisation of builder for {@code org.javahelpers.simple.builders.example.CustomerProfile} by a instance.
+   * 
+   * @param instance object instance for initialisiation
+   */
+  public CustomerProfileBuilder(CustomerProfile instance) {
+    this.name = initialValue(instance.name());
+    this.address = initialValue(instance.address());
+    this.loyaltyPoints = initialValue(instance.loyaltyPoints());
+  }
+
+  /**
+   * Creating a new builder for {@code org.javahelpers.simple.builders.example.CustomerProfile}.
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * CustomerProfileBuilder builder = CustomerProfileBuilder.create();
+   * }</pre>
+   * 
+   * @return builder for {@code org.javahelpers.simple.builders.example.CustomerProfile}
+   */
+  public static CustomerProfileBuilder create() {
+    return new CustomerProfileBuilder();
+  }
+
+  /**
+   * Sets the value for <code>address</code>.
+   * <p>
+   * Generated from parameter in constructor {@link CustomerProfile#CustomerProfile(String, String, int)
+   * CustomerProfile(String name, String address, int loyaltyPoints)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.address("example value");
+   * }</pre>
+   * 
+   * @param address the postal address of the customer
+   * @return current instance of builder
+   */
+  public CustomerProfileBuilder address(String address) {
+    this.pendingFields.discard("address");
+    this.address = changedValue(address);
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>address</code> once the stage completes. The value is set by buildAsync().
+   * <p>
+   * Generated from parameter in constructor {@link CustomerProfile#CustomerProfile(String, String, int)
+   * CustomerProfile(String name, String address, int loyaltyPoints)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.address(CompletableFuture.supplyAsync(() -> "example value"));
+   * }</pre>
+   * 
+   * @param addressStage stage providing the postal address of the customer
+   * @return current instance of builder
+   */
+  public CustomerProfileBuilder address(CompletionStage<String> addressStage) {
+    this.pendingFields.register("address", addressStage, value -> this.address = changedValue(value));
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>address</code> by executing the provided consumer.
+   * <p>
+   * Generated from parameter in constructor {@link CustomerProfile#CustomerProfile(String, String, int)
+   * CustomerProfile(String name, String address, int loyaltyPoints)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.address(sb -> sb.append("text"));
+   * }</pre>
+   * 
+   * @param addressStringBuilderConsumer consumer providing an instance of the postal address of the customer
+   * @return current instance of builder
+   */
+  public CustomerProfileBuilder address(Consumer<StringBuilder> addressStringBuilderConsumer) {
+    this.pendingFields.discard("address");
+    StringBuilder builder = new StringBuilder();
+    addressStringBuilderConsumer.accept(builder);
+    this.address = changedValue(builder.toString());
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>address</code> by invoking the provided supplier.
+   * <p>
+   * Generated from parameter in constructor {@link CustomerProfile#CustomerProfile(String, String, int)
+   * CustomerProfile(String name, String address, int loyaltyPoints)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.address(() -> "example value");
+   * }</pre>
+   * 
+   * @param addressSupplier supplier for the postal address of the customer
+   * @return current instance of builder
+   */
+  public CustomerProfileBuilder address(Supplier<String> addressSupplier) {
+    this.pendingFields.discard("address");
+    this.address = changedValue(addressSupplier.get());
+    return this;
+  }
+
+  /**
+   * Sets the String value for <code>address</code> by using String.format(format, args). See
+   * {@link String#format(String, Object...)} for details.
+   * <p>
+   * Generated from parameter in constructor {@link CustomerProfile#CustomerProfile(String, String, int)
+   * CustomerProfile(String name, String address, int loyaltyPoints)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.address("Hello %s", "World");
+   * }</pre>
+   * 
+   * @param format A format string
+   * @param args Arguments referenced by the format specifiers in the format string.
+   * @return current instance of builder
+   */
+  public CustomerProfileBuilder address(String format, Object... args) {
+    this.pendingFields.discard("address");
+    this.address = changedValue(String.format(format, args));
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>address</code> by invoking the provided supplier on the executor. The call does not wait
+   * for the supplier, the value is set by buildAsync().
+   * <p>
+   * Generated from parameter in constructor {@link CustomerProfile#CustomerProfile(String, String, int)
+   * CustomerProfile(String name, String address, int loyaltyPoints)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.address(() -> "example value", PendingFields.defaultExecutor());
+   * }</pre>
+   * 
+   * @param addressSupplier supplier for the postal address of the customer
+   * @param executor executor running the supplier, e.g. PendingFields.defaultExecutor()
+   * @return current instance of builder
+   */
+  public CustomerProfileBuilder address(Supplier<String> addressSupplier, Executor executor) {
+    this.pendingFields.supply("address", addressSupplier, executor, value -> this.address = changedValue(value));
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>loyaltyPoints</code>.
+   * <p>
+   * Generated from parameter in constructor {@link CustomerProfile#CustomerProfile(String, String, int)
+   * CustomerProfile(String name, String address, int loyaltyPoints)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.loyaltyPoints(42);
+   * }</pre>
+   * 
+   * @param loyaltyPoints collected loyalty points
+   * @return current instance of builder
+   */
+  public CustomerProfileBuilder loyaltyPoints(int loyaltyPoints) {
+    this.pendingFields.discard("loyaltyPoints");
+    this.loyaltyPoints = changedValue(loyaltyPoints);
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>loyaltyPoints</code> once the stage completes. The value is set by buildAsync().
+   * <p>
+   * Generated from parameter in constructor {@link CustomerProfile#CustomerProfile(String, String, int)
+   * CustomerProfile(String name, String address, int loyaltyPoints)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.loyaltyPoints(CompletableFuture.supplyAsync(() -> 42));
+   * }</pre>
+   * 
+   * @param loyaltyPointsStage stage providing collected loyalty points
+   * @return current instance of builder
+   */
+  public CustomerProfileBuilder loyaltyPoints(CompletionStage<Integer> loyaltyPointsStage) {
+    this.pendingFields.register("loyaltyPoints", loyaltyPointsStage, value -> this.loyaltyPoints = changedValue(value));
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>loyaltyPoints</code> by invoking the provided supplier.
+   * <p>
+   * Generated from parameter in constructor {@link CustomerProfile#CustomerProfile(String, String, int)
+   * CustomerProfile(String name, String address, int loyaltyPoints)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.loyaltyPoints(() -> 42);
+   * }</pre>
+   * 
+   * @param loyaltyPointsSupplier supplier for collected loyalty points
+   * @return current instance of builder
+   */
+  public CustomerProfileBuilder loyaltyPoints(Supplier<Integer> loyaltyPointsSupplier) {
+    this.pendingFields.discard("loyaltyPoints");
+    this.loyaltyPoints = changedValue(loyaltyPointsSupplier.get());
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>loyaltyPoints</code> by invoking the provided supplier on the executor. The call does not
+   * wait for the supplier, the value is set by buildAsync().
+   * <p>
+   * Generated from parameter in constructor {@link CustomerProfile#CustomerProfile(String, String, int)
+   * CustomerProfile(String name, String address, int loyaltyPoints)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.loyaltyPoints(() -> 42, PendingFields.defaultExecutor());
+   * }</pre>
+   * 
+   * @param loyaltyPointsSupplier supplier for collected loyalty points
+   * @param executor executor running the supplier, e.g. PendingFields.defaultExecutor()
+   * @return current instance of builder
+   */
+  public CustomerProfileBuilder loyaltyPoints(Supplier<Integer> loyaltyPointsSupplier, Executor executor) {
+    this.pendingFields.supply("loyaltyPoints", loyaltyPointsSupplier, executor,
+        value -> this.loyaltyPoints = changedValue(value));
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>name</code>.
+   * <p>
+   * Generated from parameter in constructor {@link CustomerProfile#CustomerProfile(String, String, int)
+   * CustomerProfile(String name, String address, int loyaltyPoints)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.name("example value");
+   * }</pre>
+   * 
+   * @param name the name of the customer
+   * @return current instance of builder
+   */
+  public CustomerProfileBuilder name(String name) {
+    this.pendingFields.discard("name");
+    this.name = changedValue(name);
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>name</code> once the stage completes. The value is set by buildAsync().
+   * <p>
+   * Generated from parameter in constructor {@link CustomerProfile#CustomerProfile(String, String, int)
+   * CustomerProfile(String name, String address, int loyaltyPoints)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.name(CompletableFuture.supplyAsync(() -> "example value"));
+   * }</pre>
+   * 
+   * @param nameStage stage providing the name of the customer
+   * @return current instance of builder
+   */
+  public CustomerProfileBuilder name(CompletionStage<String> nameStage) {
+    this.pendingFields.register("name", nameStage, value -> this.name = changedValue(value));
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>name</code> by executing the provided consumer.
+   * <p>
+   * Generated from parameter in constructor {@link CustomerProfile#CustomerProfile(String, String, int)
+   * CustomerProfile(String name, String address, int loyaltyPoints)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.name(sb -> sb.append("text"));
+   * }</pre>
+   * 
+   * @param nameStringBuilderConsumer consumer providing an instance of the name of the customer
+   * @return current instance of builder
+   */
+  public CustomerProfileBuilder name(Consumer<StringBuilder> nameStringBuilderConsumer) {
+    this.pendingFields.discard("name");
+    StringBuilder builder = new StringBuilder();
+    nameStringBuilderConsumer.accept(builder);
+    this.name = changedValue(builder.toString());
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>name</code> by invoking the provided supplier.
+   * <p>
+   * Generated from parameter in constructor {@link CustomerProfile#CustomerProfile(String, String, int)
+   * CustomerProfile(String name, String address, int loyaltyPoints)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.name(() -> "example value");
+   * }</pre>
+   * 
+   * @param nameSupplier supplier for the name of the customer
+   * @return current instance of builder
+   */
+  public CustomerProfileBuilder name(Supplier<String> nameSupplier) {
+    this.pendingFields.discard("name");
+    this.name = changedValue(nameSupplier.get());
+    return this;
+  }
+
+  /**
+   * Sets the String value for <code>name</code> by using String.format(format, args). See
+   * {@link String#format(String, Object...)} for details.
+   * <p>
+   * Generated from parameter in constructor {@link CustomerProfile#CustomerProfile(String, String, int)
+   * CustomerProfile(String name, String address, int loyaltyPoints)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.name("Hello %s", "World");
+   * }</pre>
+   * 
+   * @param format A format string
+   * @param args Arguments referenced by the format specifiers in the format string.
+   * @return current instance of builder
+   */
+  public CustomerProfileBuilder name(String format, Object... args) {
+    this.pendingFields.discard("name");
+    this.name = changedValue(String.format(format, args));
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>name</code> by invoking the provided supplier on the executor. The call does not wait for
+   * the supplier, the value is set by buildAsync().
+   * <p>
+   * Generated from parameter in constructor {@link CustomerProfile#CustomerProfile(String, String, int)
+   * CustomerProfile(String name, String address, int loyaltyPoints)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.name(() -> "example value", PendingFields.defaultExecutor());
+   * }</pre>
+   * 
+   * @param nameSupplier supplier for the name of the customer
+   * @param executor executor running the supplier, e.g. PendingFields.defaultExecutor()
+   * @return current instance of builder
+   */
+  public CustomerProfileBuilder name(Supplier<String> nameSupplier, Executor executor) {
+    this.pendingFields.supply("name", nameSupplier, executor, value -> this.name = changedValue(value));
+    return this;
+  }
+
+  /**
+   * Validates that the address field is not null or empty.
+   * <p>
+   * Generated from parameter in constructor {@link CustomerProfile#CustomerProfile(String, String, int)
+   * CustomerProfile(String name, String address, int loyaltyPoints)}
+   * 
+   * @return this builder instance for chaining
+   * @throws IllegalArgumentException if address is null or empty
+   */
+  CustomerProfileBuilder validateAddress() {
+    this.pendingFields.discard("address");
+    if (!address.isSet() || address.value().trim().isEmpty()) {
+      throw new IllegalArgumentException("Address cannot be null or empty");
+    }
+    return this;
+  }
+
+  /**
+   * Validates that the name field is not null or empty.
+   * <p>
+   * Generated from parameter in constructor {@link CustomerProfile#CustomerProfile(String, String, int)
+   * CustomerProfile(String name, String address, int loyaltyPoints)}
+   * 
+   * @return this builder instance for chaining
+   * @throws IllegalArgumentException if name is null or empty
+   */
+  CustomerProfileBuilder validateName() {
+    this.pendingFields.discard("name");
+    if (!name.isSet() || name.value().trim().isEmpty()) {
+      throw new IllegalArgumentException("Name cannot be null or empty");
+    }
+    return this;
+  }
+
+  /**
+   * Conditionally applies builder modifications if the condition is true.
+   * 
+   * @param condition the condition to evaluate
+   * @param yesCondition the consumer to apply if condition is true
+   * @return this builder instance
+   */
+  public CustomerProfileBuilder conditional(BooleanSupplier condition, Consumer<CustomerProfileBuilder> yesCondition) {
+    return conditional(condition, yesCondition, null);
+  }
+
+  /**
+   * Conditionally applies builder modifications based on a condition evaluation.
+   * 
+   * @param condition the condition to evaluate
+   * @param trueCase the consumer to apply if condition is true
+   * @param falseCase the consumer to apply if condition is false (can be null)
+   * @return this builder instance
+   */
+  public CustomerProfileBuilder conditional(BooleanSupplier condition, Consumer<CustomerProfileBuilder> trueCase,
+      Consumer<CustomerProfileBuilder> falseCase) {
+    return BuilderSupport.conditional(this, condition, trueCase, falseCase);
+  }
+
+  /**
+   * Builds the configured DTO instance.
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * CustomerProfile result = builder.build();
+   * }</pre>
+   */
+  @Override
+  public CustomerProfile build() {
+    this.pendingFields.checkResolved();
+    if (!this.loyaltyPoints.isSet()) {
+      throw new IllegalStateException("Required field 'loyaltyPoints' must be set before calling build()");
+    }
+    if (this.loyaltyPoints.value() == null) {
+      throw new IllegalStateException("Field 'loyaltyPoints' is marked as non-null but null value was provided");
+    }
+    CustomerProfile result = new CustomerProfile(this.name.value(), this.address.value(), this.loyaltyPoints.value());
+    return result;
+  }
+
+  /**
+   * Builds the DTO once all pending field values are available. Pending values are set in the order they have been
+   * registered, then build() is called. The method does not block. Use it instead of build() whenever fields have been
+   * set asynchronously.
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * CompletableFuture<CustomerProfile> result = builder.buildAsync();
+   * }</pre>
+   * 
+   * @return future completing with the built DTO, or exceptionally if a pending value failed
+   */
+  public CompletableFuture<CustomerProfile> buildAsync() {
+    return this.pendingFields.resolve(this::build);
+  }
+
+  /**
+   * Returns a string representation of this builder, including only fields that have been set.
+   * 
+   * @return string representation of the builder
+   */
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this, BuilderToStringStyle.INSTANCE).append("name", this.name)
+        .append("address", this.address)
+        .append("loyaltyPoints", this.loyaltyPoints)
+        .toString();
+  }
+
+  /**
+   * Interface that can be implemented by the DTO to provide fluent modification methods.
+   */
+  public interface With {
+    /**
+     * Initializes a builder from an instance of this class, using methods of this builder to change values and returns
+     * the new built object.
+     * 
+     * @param b the consumer to apply modifications
+     * @return the modified instance
+     */
+    default CustomerProfile with(Consumer<CustomerProfileBuilder> b) {
+      CustomerProfileBuilder builder = new CustomerProfileBuilder(
+          BuilderSupport.castWithInstance(this, CustomerProfile.class, "CustomerProfileBuilder.With"));
+      b.accept(builder);
+      return builder.build();
+    }
+
+    /**
+     * Creates a builder initialized from this instance.
+     * 
+     * @return a builder initialized with this instance's values
+     */
+    default CustomerProfileBuilder with() {
+      return new CustomerProfileBuilder(
+          BuilderSupport.castWithInstance(this, CustomerProfile.class, "CustomerProfileBuilder.With"));
+    }
+
+    /**
+     * Creates a copy of this instance with a new value for <code>name</code>, calling the constructor directly without
+     * initializing a builder.
+     * 
+     * @param name the new value for <code>name</code>
+     * @return the modified instance
+     */
+    default CustomerProfile withName(String name) {
+      CustomerProfile self = BuilderSupport.castWithInstance(this, CustomerProfile.class,
+          "CustomerProfileBuilder.With");
+      return new CustomerProfile(name, self.address(), self.loyaltyPoints());
+    }
+
+    /**
+     * Creates a copy of this instance with a new value for <code>address</code>, calling the constructor directly
+     * without initializing a builder.
+     * 
+     * @param address the new value for <code>address</code>
+     * @return the modified instance
+     */
+    default CustomerProfile withAddress(String address) {
+      CustomerProfile self = BuilderSupport.castWithInstance(this, CustomerProfile.class,
+          "CustomerProfileBuilder.With");
+      return new CustomerProfile(self.name(), address, self.loyaltyPoints());
+    }
+
+    /**
+     * Creates a copy of this instance with a new value for <code>loyaltyPoints</code>, calling the constructor directly
+     * without initializing a builder.
+     * 
+     * @param loyaltyPoints the new value for <code>loyaltyPoints</code>
+     * @return the modified instance
+     */
+    default CustomerProfile withLoyaltyPoints(int loyaltyPoints) {
+      CustomerProfile self = BuilderSupport.castWithInstance(this, CustomerProfile.class,
+          "CustomerProfileBuilder.With");
+      return new CustomerProfile(self.name(), self.address(), loyaltyPoints);
+    }
+  }
+}
\ No newline at end of file
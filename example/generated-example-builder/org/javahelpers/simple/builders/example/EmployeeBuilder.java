@@ -0,0 +1,518 @@
+package org.javahelpers.simple.builders.example;
+
+import static org.javahelpers.simple.builders.core.util.TrackedValue.changedValue;
+import static org.javahelpers.simple.builders.core.util.TrackedValue.initialValue;
+import static org.javahelpers.simple.builders.core.util.TrackedValue.unsetValue;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import javax.annotation.processing.Generated;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.javahelpers.simple.builders.core.annotations.BuilderImplementation;
+import org.javahelpers.simple.builders.core.interfaces.IBuilderBase;
+import org.javahelpers.simple.builders.core.util.BuilderSupport;
+import org.javahelpers.simple.builders.core.util.BuilderToStringStyle;
+import org.javahelpers.simple.builders.core.util.TrackedValue;
+
+/**
+ * Builder for {@code org.javahelpers.simple.builders.example.Employee}.
+ * <p>
+ * This builder provides a fluent API for creating instances of org.javahelpers.simple.builders.example.Employee with
+ * method chaining and validation. Use the static {@code create()} method to obtain a new builder instance, configure
+ * the desired properties using the setter methods, and then call {@code build()} to create the final DTO.
+ * 
+ * <h4>Example:</h4>
+ * 
+ * <pre>{@code
+ * Employee result = EmployeeBuilder.create()
+ *     .id(42L)
+ *     .id(() -> 42L)
+ *     .fullName("example value")
+ *     .fullName("Hello %s", "World")
+ *     .fullName(() -> "example value")
+ *     .fullName(sb -> sb.append("text"))
+ *     .salary(BigDecimal.valueOf(3.14))
+ *     .salary(() -> BigDecimal.valueOf(3.14))
+ *     .hiredOn(LocalDate.now())
+ *     .hiredOn(() -> LocalDate.now())
+ *     .active(true)
+ *     .active(() -> true)
+ *     .build();
+ * }</pre>
+ */
+@Generated("Generated by org.javahelpers.simple.builders.processor.BuilderProcessor")
+@BuilderImplementation(forClass = Employee.class)
+public class EmployeeBuilder implements IBuilderBase<Employee> {
+
+  /**
+   * Tracked value for <code>id</code>: personnel number.
+   */
+  private TrackedValue<Long> id = unsetValue();
+  /**
+   * Tracked value for <code>fullName</code>: first and last name.
+   */
+  private TrackedValue<String> fullName = unsetValue();
+  /**
+   * Tracked value for <code>salary</code>: yearly salary.
+   */
+  private TrackedValue<BigDecimal> salary = unsetValue();
+  /**
+   * Tracked value for <code>hiredOn</code>: date of the first working day.
+   */
+  private TrackedValue<LocalDate> hiredOn = unsetValue();
+  /**
+   * Tracked value for <code>active</code>: whether the employee is still employed.
+   */
+  private TrackedValue<Boolean> active = unsetValue();
+
+  /**
+   * Empty constructor of builder for {@code org.javahelpers.simple.builders.example.Employee}.
+   */
+  public EmployeeBuilder() {
+  }
+
+  /**
+   * Initialisation of builder for {@code org.javahelpers.simple.builders.example.Employee} by a instance.
+   * 
+   * @param instance object instance for initialisiation
+   */
+  public EmployeeBuilder(Employee instance) {
+    this.id = initialValue(instance.id());
+    this.fullName = initialValue(instance.fullName());
+    this.salary = initialValue(instance.salary());
+    this.hiredOn = initialValue(instance.hiredOn());
+    this.active = initialValue(instance.active());
+  }
+
+  /**
+   * Creating a new builder for {@code org.javahelpers.simple.builders.example.Employee}.
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * EmployeeBuilder builder = EmployeeBuilder.create();
+   * }</pre>
+   * 
+   * @return builder for {@code org.javahelpers.simple.builders.example.Employee}
+   */
+  public static EmployeeBuilder create() {
+    return new EmployeeBuilder();
+  }
+
+  /**
+   * Sets the value for <code>active</code>.
+   * <p>
+   * Generated from parameter in constructor {@link Employee#Employee(long, String, BigDecimal, LocalDate, boolean)
+   * Employee(long id, String fullName, BigDecimal salary, LocalDate hiredOn, boolean active)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.active(true);
+   * }</pre>
+   * 
+   * @param active whether the employee is still employed
+   * @return current instance of builder
+   */
+  public EmployeeBuilder active(boolean active) {
+    this.active = changedValue(active);
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>active</code> by invoking the provided supplier.
+   * <p>
+   * Generated from parameter in constructor {@link Employee#Employee(long, String, BigDecimal, LocalDate, boolean)
+   * Employee(long id, String fullName, BigDecimal salary, LocalDate hiredOn, boolean active)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.active(() -> true);
+   * }</pre>
+   * 
+   * @param activeSupplier supplier for whether the employee is still employed
+   * @return current instance of builder
+   */
+  public EmployeeBuilder active(Supplier<Boolean> activeSupplier) {
+    this.active = changedValue(activeSupplier.get());
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>fullName</code>.
+   * <p>
+   * Generated from parameter in constructor {@link Employee#Employee(long, String, BigDecimal, LocalDate, boolean)
+   * Employee(long id, String fullName, BigDecimal salary, LocalDate hiredOn, boolean active)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.fullName("example value");
+   * }</pre>
+   * 
+   * @param fullName first and last name
+   * @return current instance of builder
+   */
+  public EmployeeBuilder fullName(String fullName) {
+    this.fullName = changedValue(fullName);
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>fullName</code> by executing the provided consumer.
+   * <p>
+   * Generated from parameter in constructor {@link Employee#Employee(long, String, BigDecimal, LocalDate, boolean)
+   * Employee(long id, String fullName, BigDecimal salary, LocalDate hiredOn, boolean active)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.fullName(sb -> sb.append("text"));
+   * }</pre>
+   * 
+   * @param fullNameStringBuilderConsumer consumer providing an instance of first and last name
+   * @return current instance of builder
+   */
+  public EmployeeBuilder fullName(Consumer<StringBuilder> fullNameStringBuilderConsumer) {
+    StringBuilder builder = new StringBuilder();
+    fullNameStringBuilderConsumer.accept(builder);
+    this.fullName = changedValue(builder.toString());
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>fullName</code> by invoking the provided supplier.
+   * <p>
+   * Generated from parameter in constructor {@link Employee#Employee(long, String, BigDecimal, LocalDate, boolean)
+   * Employee(long id, String fullName, BigDecimal salary, LocalDate hiredOn, boolean active)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.fullName(() -> "example value");
+   * }</pre>
+   * 
+   * @param fullNameSupplier supplier for first and last name
+   * @return current instance of builder
+   */
+  public EmployeeBuilder fullName(Supplier<String> fullNameSupplier) {
+    this.fullName = changedValue(fullNameSupplier.get());
+    return this;
+  }
+
+  /**
+   * Sets the String value for <code>fullName</code> by using String.format(format, args). See
+   * {@link String#format(String, Object...)} for details.
+   * <p>
+   * Generated from parameter in constructor {@link Employee#Employee(long, String, BigDecimal, LocalDate, boolean)
+   * Employee(long id, String fullName, BigDecimal salary, LocalDate hiredOn, boolean active)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.fullName("Hello %s", "World");
+   * }</pre>
+   * 
+   * @param format A format string
+   * @param args Arguments referenced by the format specifiers in the format string.
+   * @return current instance of builder
+   */
+  public EmployeeBuilder fullName(String format, Object... args) {
+    this.fullName = changedValue(String.format(format, args));
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>hiredOn</code>.
+   * <p>
+   * Generated from parameter in constructor {@link Employee#Employee(long, String, BigDecimal, LocalDate, boolean)
+   * Employee(long id, String fullName, BigDecimal salary, LocalDate hiredOn, boolean active)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.hiredOn(LocalDate.now());
+   * }</pre>
+   * 
+   * @param hiredOn date of the first working day
+   * @return current instance of builder
+   */
+  public EmployeeBuilder hiredOn(LocalDate hiredOn) {
+    this.hiredOn = changedValue(hiredOn);
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>hiredOn</code> by invoking the provided supplier.
+   * <p>
+   * Generated from parameter in constructor {@link Employee#Employee(long, String, BigDecimal, LocalDate, boolean)
+   * Employee(long id, String fullName, BigDecimal salary, LocalDate hiredOn, boolean active)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.hiredOn(() -> LocalDate.now());
+   * }</pre>
+   * 
+   * @param hiredOnSupplier supplier for date of the first working day
+   * @return current instance of builder
+   */
+  public EmployeeBuilder hiredOn(Supplier<LocalDate> hiredOnSupplier) {
+    this.hiredOn = changedValue(hiredOnSupplier.get());
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>id</code>.
+   * <p>
+   * Generated from parameter in constructor {@link Employee#Employee(long, String, BigDecimal, LocalDate, boolean)
+   * Employee(long id, String fullName, BigDecimal salary, LocalDate hiredOn, boolean active)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.id(42L);
+   * }</pre>
+   * 
+   * @param id personnel number
+   * @return current instance of builder
+   */
+  public EmployeeBuilder id(long id) {
+    this.id = changedValue(id);
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>id</code> by invoking the provided supplier.
+   * <p>
+   * Generated from parameter in constructor {@link Employee#Employee(long, String, BigDecimal, LocalDate, boolean)
+   * Employee(long id, String fullName, BigDecimal salary, LocalDate hiredOn, boolean active)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.id(() -> 42L);
+   * }</pre>
+   * 
+   * @param idSupplier supplier for personnel number
+   * @return current instance of builder
+   */
+  public EmployeeBuilder id(Supplier<Long> idSupplier) {
+    this.id = changedValue(idSupplier.get());
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>salary</code>.
+   * <p>
+   * Generated from parameter in constructor {@link Employee#Employee(long, String, BigDecimal, LocalDate, boolean)
+   * Employee(long id, String fullName, BigDecimal salary, LocalDate hiredOn, boolean active)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.salary(BigDecimal.valueOf(3.14));
+   * }</pre>
+   * 
+   * @param salary yearly salary
+   * @return current instance of builder
+   */
+  public EmployeeBuilder salary(BigDecimal salary) {
+    this.salary = changedValue(salary);
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>salary</code> by invoking the provided supplier.
+   * <p>
+   * Generated from parameter in constructor {@link Employee#Employee(long, String, BigDecimal, LocalDate, boolean)
+   * Employee(long id, String fullName, BigDecimal salary, LocalDate hiredOn, boolean active)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.salary(() -> BigDecimal.valueOf(3.14));
+   * }</pre>
+   * 
+   * @param salarySupplier supplier for yearly salary
+   * @return current instance of builder
+   */
+  public EmployeeBuilder salary(Supplier<BigDecimal> salarySupplier) {
+    this.salary = changedValue(salarySupplier.get());
+    return this;
+  }
+
+  /**
+   * Validates that the fullName field is not null or empty.
+   * <p>
+   * Generated from parameter in constructor {@link Employee#Employee(long, String, BigDecimal, LocalDate, boolean)
+   * Employee(long id, String fullName, BigDecimal salary, LocalDate hiredOn, boolean active)}
+   * 
+   * @return this builder instance for chaining
+   * @throws IllegalArgumentException if fullName is null or empty
+   */
+  EmployeeBuilder validateFullName() {
+    if (!fullName.isSet() || fullName.value().trim().isEmpty()) {
+      throw new IllegalArgumentException("FullName cannot be null or empty");
+    }
+    return this;
+  }
+
+  /**
+   * Conditionally applies builder modifications if the condition is true.
+   * 
+   * @param condition the condition to evaluate
+   * @param yesCondition the consumer to apply if condition is true
+   * @return this builder instance
+   */
+  public EmployeeBuilder conditional(BooleanSupplier condition, Consumer<EmployeeBuilder> yesCondition) {
+    return conditional(condition, yesCondition, null);
+  }
+
+  /**
+   * Conditionally applies builder modifications based on a condition evaluation.
+   * 
+   * @param condition the condition to evaluate
+   * @param trueCase the consumer to apply if condition is true
+   * @param falseCase the consumer to apply if condition is false (can be null)
+   * @return this builder instance
+   */
+  public EmployeeBuilder conditional(BooleanSupplier condition, Consumer<EmployeeBuilder> trueCase,
+      Consumer<EmployeeBuilder> falseCase) {
+    return BuilderSupport.conditional(this, condition, trueCase, falseCase);
+  }
+
+  /**
+   * Builds the configured DTO instance.
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * Employee result = builder.build();
+   * }</pre>
+   */
+  @Override
+  public Employee build() {
+    if (!this.id.isSet()) {
+      throw new IllegalStateException("Required field 'id' must be set before calling build()");
+    }
+    if (this.id.value() == null) {
+      throw new IllegalStateException("Field 'id' is marked as non-null but null value was provided");
+    }
+    if (!this.active.isSet()) {
+      throw new IllegalStateException("Required field 'active' must be set before calling build()");
+    }
+    if (this.active.value() == null) {
+      throw new IllegalStateException("Field 'active' is marked as non-null but null value was provided");
+    }
+    Employee result = new Employee(this.id
+        .value(), this.fullName.value(), this.salary.value(), this.hiredOn.value(), this.active.value());
+    return result;
+  }
+
+  /**
+   * Returns a string representation of this builder, including only fields that have been set.
+   * 
+   * @return string representation of the builder
+   */
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this, BuilderToStringStyle.INSTANCE).append("id", this.id)
+        .append("fullName", this.fullName)
+        .append("salary", this.salary)
+        .append("hiredOn", this.hiredOn)
+        .append("active", this.active)
+        .toString();
+  }
+
+  /**
+   * Interface that can be implemented by the DTO to provide fluent modification methods.
+   */
+  public interface With {
+    /**
+     * Initializes a builder from an instance of this class, using methods of this builder to change values and returns
+     * the new built object.
+     * 
+     * @param b the consumer to apply modifications
+     * @return the modified instance
+     */
+    default Employee with(Consumer<EmployeeBuilder> b) {
+      EmployeeBuilder builder = new EmployeeBuilder(
+          BuilderSupport.castWithInstance(this, Employee.class, "EmployeeBuilder.With"));
+      b.accept(builder);
+      return builder.build();
+    }
+
+    /**
+     * Creates a builder initialized from this instance.
+     * 
+     * @return a builder initialized with this instance's values
+     */
+    default EmployeeBuilder with() {
+      return new EmployeeBuilder(BuilderSupport.castWithInstance(this, Employee.class, "EmployeeBuilder.With"));
+    }
+
+    /**
+     * Creates a copy of this instance with a new value for <code>id</code>, calling the constructor directly without
+     * initializing a builder.
+     * 
+     * @param id the new value for <code>id</code>
+     * @return the modified instance
+     */
+    default Employee withId(long id) {
+      Employee self = BuilderSupport.castWithInstance(this, Employee.class, "EmployeeBuilder.With");
+      return new Employee(id, self.fullName(), self.salary(), self.hiredOn(), self.active());
+    }
+
+    /**
+     * Creates a copy of this instance with a new value for <code>fullName</code>, calling the constructor directly
+     * without initializing a builder.
+     * 
+     * @param fullName the new value for <code>fullName</code>
+     * @return the modified instance
+     */
+    default Employee withFullName(String fullName) {
+      Employee self = BuilderSupport.castWithInstance(this, Employee.class, "EmployeeBuilder.With");
+      return new Employee(self.id(), fullName, self.salary(), self.hiredOn(), self.active());
+    }
+
+    /**
+     * Creates a copy of this instance with a new value for <code>salary</code>, calling the constructor directly
+     * without initializing a builder.
+     * 
+     * @param salary the new value for <code>salary</code>
+     * @return the modified instance
+     */
+    default Employee withSalary(BigDecimal salary) {
+      Employee self = BuilderSupport.castWithInstance(this, Employee.class, "EmployeeBuilder.With");
+      return new Employee(self.id(), self.fullName(), salary, self.hiredOn(), self.active());
+    }
+
+    /**
+     * Creates a copy of this instance with a new value for <code>hiredOn</code>, calling the constructor directly
+     * without initializing a builder.
+     * 
+     * @param hiredOn the new value for <code>hiredOn</code>
+     * @return the modified instance
+     */
+    default Employee withHiredOn(LocalDate hiredOn) {
+      Employee self = BuilderSupport.castWithInstance(this, Employee.class, "EmployeeBuilder.With");
+      return new Employee(self.id(), self.fullName(), self.salary(), hiredOn, self.active());
+    }
+
+    /**
+     * Creates a copy of this instance with a new value for <code>active</code>, calling the constructor directly
+     * without initializing a builder.
+     * 
+     * @param active the new value for <code>active</code>
+     * @return the modified instance
+     */
+    default Employee withActive(boolean active) {
+      Employee self = BuilderSupport.castWithInstance(this, Employee.class, "EmployeeBuilder.With");
+      return new Employee(self.id(), self.fullName(), self.salary(), self.hiredOn(), active);
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,212 @@
+package org.javahelpers.simple.builders.example;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.annotation.processing.Generated;
+import org.javahelpers.simple.builders.core.util.RowMapping;
+import org.javahelpers.simple.builders.core.util.RowValueConverter;
+import org.javahelpers.simple.builders.core.util.RowValueConverters;
+
+/**
+ * Row mapper for {@code org.javahelpers.simple.builders.example.Employee}, mapping result sets and rows to DTOs via
+ * {@link EmployeeBuilder}. An instance is bound to one row shape, the columns are resolved when it is created.
+ */
+@Generated("Generated by org.javahelpers.simple.builders.processor.BuilderProcessor")
+public class EmployeeRowMapper {
+
+  /**
+   * Names of the mapped fields, indexed by the ordinals used in this class.
+   */
+  private static final List<String> FIELD_NAMES = List.of("id", "fullName", "salary", "hiredOn", "active");
+  /**
+   * Zero-based column index for each field ordinal, <code>-1</code> if the row shape has no column for the field.
+   */
+  private final int[] columns;
+
+  private EmployeeRowMapper(int[] columns) {
+    this.columns = columns;
+  }
+
+  /**
+   * Creates a row mapper for rows with the given columns, e.g. the header of a CSV file.
+   * 
+   * @param columnLabels labels of the columns, in the order of the row
+   * @return row mapper bound to the columns
+   */
+  public static EmployeeRowMapper forColumns(String... columnLabels) {
+    return forColumns(Arrays.asList(columnLabels));
+  }
+
+  /**
+   * Creates a row mapper for rows with the given columns. Labels match field names ignoring case and underscores.
+   * 
+   * @param columnLabels labels of the columns, in the order of the row
+   * @return row mapper bound to the columns
+   */
+  public static EmployeeRowMapper forColumns(List<String> columnLabels) {
+    return new EmployeeRowMapper(RowMapping.resolveColumns(FIELD_NAMES, columnLabels));
+  }
+
+  /**
+   * Creates a row mapper for the columns of a result set.
+   * 
+   * @param resultSet result set to read the column labels from
+   * @return row mapper bound to the columns of the result set
+   * @throws SQLException if the meta data of the result set could not be read
+   */
+  public static EmployeeRowMapper forResultSet(ResultSet resultSet) throws SQLException {
+    return forColumns(RowMapping.columnLabels(resultSet.getMetaData()));
+  }
+
+  /**
+   * Maps all remaining rows of a result set, resolving its columns once.
+   * 
+   * @param resultSet result set to read, positioned before the first row to map
+   * @return list of the mapped DTOs
+   * @throws SQLException if the result set could not be read
+   */
+  public static List<Employee> mapAll(ResultSet resultSet) throws SQLException {
+    EmployeeRowMapper mapper = forResultSet(resultSet);
+    List<Employee> result = new ArrayList<>();
+    while (resultSet.next()) {
+      result.add(mapper.map(resultSet));
+    }
+    return result;
+  }
+
+  /**
+   * Maps a row, converting its values with <code>RowValueConverters.objects()</code>.
+   * 
+   * @param row values of the row, in the order of the columns of this row mapper
+   * @return the mapped DTO
+   * @throws IllegalArgumentException if a value could not be converted
+   */
+  public Employee map(Object... row) {
+    return map(row, RowValueConverters.objects());
+  }
+
+  /**
+   * Maps a row, converting its values with <code>RowValueConverters.strings()</code>.
+   * 
+   * @param row values of the row, in the order of the columns of this row mapper
+   * @return the mapped DTO
+   * @throws IllegalArgumentException if a value could not be converted
+   */
+  public Employee map(String... row) {
+    return map(row, RowValueConverters.strings());
+  }
+
+  /**
+   * Maps the current row of a result set. Columns with SQL <code>NULL</code> leave primitive fields unset.
+   * 
+   * @param resultSet result set positioned on the row to map
+   * @return the mapped DTO
+   * @throws SQLException if the row could not be read
+   */
+  public Employee map(ResultSet resultSet) throws SQLException {
+    EmployeeBuilder builder = new EmployeeBuilder();
+    int column;
+    column = columns[0] + 1;
+    if (column > 0) {
+      long value0 = resultSet.getLong(column);
+      if (!resultSet.wasNull()) {
+        builder.id(value0);
+      }
+    }
+    column = columns[1] + 1;
+    if (column > 0) {
+      builder.fullName(resultSet.getString(column));
+    }
+    column = columns[2] + 1;
+    if (column > 0) {
+      builder.salary(resultSet.getBigDecimal(column));
+    }
+    column = columns[3] + 1;
+    if (column > 0) {
+      builder.hiredOn(resultSet.getObject(column, LocalDate.class));
+    }
+    column = columns[4] + 1;
+    if (column > 0) {
+      boolean value4 = resultSet.getBoolean(column);
+      if (!resultSet.wasNull()) {
+        builder.active(value4);
+      }
+    }
+    return builder.build();
+  }
+
+  /**
+   * Maps a row, converting its values with the given converter. Missing columns and null values leave primitive fields
+   * unset.
+   * 
+   * @param row values of the row, in the order of the columns of this row mapper
+   * @param converter converter for the values of the row
+   * @return the mapped DTO
+   * @throws IllegalArgumentException if a value could not be converted
+   */
+  public Employee map(Object[] row, RowValueConverter<Object> converter) {
+    EmployeeBuilder builder = new EmployeeBuilder();
+    int column;
+    column = columns[0];
+    if (column >= 0 && column < row.length && !converter.isNull(row[column])) {
+      builder.id(converter.toLong(row[column]));
+    }
+    column = columns[1];
+    if (column >= 0 && column < row.length) {
+      builder.fullName((String) converter.convert(row[column], String.class));
+    }
+    column = columns[2];
+    if (column >= 0 && column < row.length) {
+      builder.salary((BigDecimal) converter.convert(row[column], BigDecimal.class));
+    }
+    column = columns[3];
+    if (column >= 0 && column < row.length) {
+      builder.hiredOn((LocalDate) converter.convert(row[column], LocalDate.class));
+    }
+    column = columns[4];
+    if (column >= 0 && column < row.length && !converter.isNull(row[column])) {
+      builder.active(converter.toBoolean(row[column]));
+    }
+    return builder.build();
+  }
+
+  /**
+   * Maps a row, converting its values with the given converter. Missing columns and null values leave primitive fields
+   * unset.
+   * 
+   * @param row values of the row, in the order of the columns of this row mapper
+   * @param converter converter for the values of the row
+   * @return the mapped DTO
+   * @throws IllegalArgumentException if a value could not be converted
+   */
+  public Employee map(String[] row, RowValueConverter<String> converter) {
+    EmployeeBuilder builder = new EmployeeBuilder();
+    int column;
+    column = columns[0];
+    if (column >= 0 && column < row.length && !converter.isNull(row[column])) {
+      builder.id(converter.toLong(row[column]));
+    }
+    column = columns[1];
+    if (column >= 0 && column < row.length) {
+      builder.fullName((String) converter.convert(row[column], String.class));
+    }
+    column = columns[2];
+    if (column >= 0 && column < row.length) {
+      builder.salary((BigDecimal) converter.convert(row[column], BigDecimal.class));
+    }
+    column = columns[3];
+    if (column >= 0 && column < row.length) {
+      builder.hiredOn((LocalDate) converter.convert(row[column], LocalDate.class));
+    }
+    column = columns[4];
+    if (column >= 0 && column < row.length && !converter.isNull(row[column])) {
+      builder.active(converter.toBoolean(row[column]));
+    }
+    return builder.build();
+  }
+}
\ No newline at end of file
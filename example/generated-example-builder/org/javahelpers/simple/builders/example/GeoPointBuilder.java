@@ -0,0 +1,342 @@
+package org.javahelpers.simple.builders.example;
+
+import static org.javahelpers.simple.builders.core.util.TrackedValue.changedValue;
+import static org.javahelpers.simple.builders.core.util.TrackedValue.initialValue;
+import static org.javahelpers.simple.builders.core.util.TrackedValue.unsetValue;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import javax.annotation.processing.Generated;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.javahelpers.simple.builders.core.annotations.BuilderImplementation;
+import org.javahelpers.simple.builders.core.interfaces.IBuilderBase;
+import org.javahelpers.simple.builders.core.util.BuilderSupport;
+import org.javahelpers.simple.builders.core.util.BuilderToStringStyle;
+import org.javahelpers.simple.builders.core.util.TrackedValue;
+
+/**
+ * Builder for {@code org.javahelpers.simple.builders.example.GeoPoint}.
+ * <p>
+ * This builder provides a fluent API for creating instances of org.javahelpers.simple.builders.example.GeoPoint with
+ * method chaining and validation. Use the static {@code create()} method to obtain a new builder instance, configure
+ * the desired properties using the setter methods, and then call {@code build()} to create the final DTO.
+ * 
+ * <h4>Example:</h4>
+ * 
+ * <pre>{@code
+ * GeoPoint result = GeoPointBuilder.create()
+ *     .latitude(3.14)
+ *     .latitude(() -> 3.14)
+ *     .longitude(3.14)
+ *     .longitude(() -> 3.14)
+ *     .build();
+ * }</pre>
+ */
+@Generated("Generated by org.javahelpers.simple.builders.processor.BuilderProcessor")
+@BuilderImplementation(forClass = GeoPoint.class)
+public class GeoPointBuilder implements IBuilderBase<GeoPoint> {
+
+  /**
+   * Tracked value for <code>latitude</code>: latitude in degrees.
+   */
+  private TrackedValue<Double> latitude = unsetValue();
+  /**
+   * Tracked value for <code>longitude</code>: longitude in degrees.
+   */
+  private TrackedValue<Double> longitude = unsetValue();
+
+  /**
+   * Empty constructor of builder for {@code org.javahelpers.simple.builders.example.GeoPoint}.
+   */
+  public GeoPointBuilder() {
+  }
+
+  /**
+   * Initialisation of builder for {@code org.javahelpers.simple.builders.example.GeoPoint} by a instance.
+   * 
+   * @param instance object instance for initialisiation
+   */
+  public GeoPointBuilder(GeoPoint instance) {
+    this.latitude = initialValue(instance.latitude());
+    this.longitude = initialValue(instance.longitude());
+  }
+
+  /**
+   * Creating a new builder for {@code org.javahelpers.simple.builders.example.GeoPoint}.
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * GeoPointBuilder builder = GeoPointBuilder.create();
+   * }</pre>
+   * 
+   * @return builder for {@code org.javahelpers.simple.builders.example.GeoPoint}
+   */
+  public static GeoPointBuilder create() {
+    return new GeoPointBuilder();
+  }
+
+  /**
+   * Creates a builder from a property map. Each key is the name of a field, unknown keys are ignored.
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * GeoPointBuilder builder = GeoPointBuilder.fromMap(properties);
+   * }</pre>
+   * 
+   * @param map property map with the values of the fields
+   * @return builder with all fields of the map set
+   * @throws ClassCastException if a value does not match the type of its field
+   * @throws NullPointerException if the value of a primitive field is null
+   */
+  public static GeoPointBuilder fromMap(Map<String, ?> map) {
+    Objects.requireNonNull(map, "map");
+    GeoPointBuilder builder = new GeoPointBuilder();
+    for (Map.Entry<String, ?> entry : map.entrySet()) {
+      switch (entry.getKey()) {
+        case "latitude" :
+          builder.latitude((Double) entry.getValue());
+          break;
+        case "longitude" :
+          builder.longitude((Double) entry.getValue());
+          break;
+        default :
+          break;
+      }
+    }
+    return builder;
+  }
+
+  /**
+   * Creates a property map from a DTO, containing the value of each field with a getter.
+   * 
+   * @param instance DTO to convert
+   * @return new property map, ordered like the fields of the builder
+   */
+  public static Map<String, Object> toMap(GeoPoint instance) {
+    return toMap(instance, false);
+  }
+
+  /**
+   * Creates a property map from a DTO, containing the value of each field with a getter.
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * Map<String, Object> properties = GeoPointBuilder.toMap(geoPoint, true);
+   * }</pre>
+   * 
+   * @param instance DTO to convert
+   * @param skipNullValues <code>true</code> to leave out fields with null values
+   * @return new property map, ordered like the fields of the builder
+   */
+  public static Map<String, Object> toMap(GeoPoint instance, boolean skipNullValues) {
+    Objects.requireNonNull(instance, "instance");
+    Map<String, Object> map = new LinkedHashMap<>(3);
+    map.put("latitude", instance.latitude());
+    map.put("longitude", instance.longitude());
+    if (skipNullValues) {
+      map.values().removeIf(Objects::isNull);
+    }
+    return map;
+  }
+
+  /**
+   * Sets the value for <code>latitude</code>.
+   * <p>
+   * Generated from parameter in constructor {@link GeoPoint#GeoPoint(double, double) GeoPoint(double latitude, double
+   * longitude)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.latitude(3.14);
+   * }</pre>
+   * 
+   * @param latitude latitude in degrees
+   * @return current instance of builder
+   */
+  public GeoPointBuilder latitude(double latitude) {
+    this.latitude = changedValue(latitude);
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>latitude</code> by invoking the provided supplier.
+   * <p>
+   * Generated from parameter in constructor {@link GeoPoint#GeoPoint(double, double) GeoPoint(double latitude, double
+   * longitude)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.latitude(() -> 3.14);
+   * }</pre>
+   * 
+   * @param latitudeSupplier supplier for latitude in degrees
+   * @return current instance of builder
+   */
+  public GeoPointBuilder latitude(Supplier<Double> latitudeSupplier) {
+    this.latitude = changedValue(latitudeSupplier.get());
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>longitude</code>.
+   * <p>
+   * Generated from parameter in constructor {@link GeoPoint#GeoPoint(double, double) GeoPoint(double latitude, double
+   * longitude)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.longitude(3.14);
+   * }</pre>
+   * 
+   * @param longitude longitude in degrees
+   * @return current instance of builder
+   */
+  public GeoPointBuilder longitude(double longitude) {
+    this.longitude = changedValue(longitude);
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>longitude</code> by invoking the provided supplier.
+   * <p>
+   * Generated from parameter in constructor {@link GeoPoint#GeoPoint(double, double) GeoPoint(double latitude, double
+   * longitude)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.longitude(() -> 3.14);
+   * }</pre>
+   * 
+   * @param longitudeSupplier supplier for longitude in degrees
+   * @return current instance of builder
+   */
+  public GeoPointBuilder longitude(Supplier<Double> longitudeSupplier) {
+    this.longitude = changedValue(longitudeSupplier.get());
+    return this;
+  }
+
+  /**
+   * Conditionally applies builder modifications if the condition is true.
+   * 
+   * @param condition the condition to evaluate
+   * @param yesCondition the consumer to apply if condition is true
+   * @return this builder instance
+   */
+  public GeoPointBuilder conditional(BooleanSupplier condition, Consumer<GeoPointBuilder> yesCondition) {
+    return conditional(condition, yesCondition, null);
+  }
+
+  /**
+   * Conditionally applies builder modifications based on a condition evaluation.
+   * 
+   * @param condition the condition to evaluate
+   * @param trueCase the consumer to apply if condition is true
+   * @param falseCase the consumer to apply if condition is false (can be null)
+   * @return this builder instance
+   */
+  public GeoPointBuilder conditional(BooleanSupplier condition, Consumer<GeoPointBuilder> trueCase,
+      Consumer<GeoPointBuilder> falseCase) {
+    return BuilderSupport.conditional(this, condition, trueCase, falseCase);
+  }
+
+  /**
+   * Builds the configured DTO instance.
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * GeoPoint result = builder.build();
+   * }</pre>
+   */
+  @Override
+  public GeoPoint build() {
+    if (!this.latitude.isSet()) {
+      throw new IllegalStateException("Required field 'latitude' must be set before calling build()");
+    }
+    if (this.latitude.value() == null) {
+      throw new IllegalStateException("Field 'latitude' is marked as non-null but null value was provided");
+    }
+    if (!this.longitude.isSet()) {
+      throw new IllegalStateException("Required field 'longitude' must be set before calling build()");
+    }
+    if (this.longitude.value() == null) {
+      throw new IllegalStateException("Field 'longitude' is marked as non-null but null value was provided");
+    }
+    GeoPoint result = new GeoPoint(this.latitude.value(), this.longitude.value());
+    return result;
+  }
+
+  /**
+   * Returns a string representation of this builder, including only fields that have been set.
+   * 
+   * @return string representation of the builder
+   */
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this, BuilderToStringStyle.INSTANCE).append("latitude", this.latitude)
+        .append("longitude", this.longitude)
+        .toString();
+  }
+
+  /**
+   * Interface that can be implemented by the DTO to provide fluent modification methods.
+   */
+  public interface With {
+    /**
+     * Initializes a builder from an instance of this class, using methods of this builder to change values and returns
+     * the new built object.
+     * 
+     * @param b the consumer to apply modifications
+     * @return the modified instance
+     */
+    default GeoPoint with(Consumer<GeoPointBuilder> b) {
+      GeoPointBuilder builder = new GeoPointBuilder(
+          BuilderSupport.castWithInstance(this, GeoPoint.class, "GeoPointBuilder.With"));
+      b.accept(builder);
+      return builder.build();
+    }
+
+    /**
+     * Creates a builder initialized from this instance.
+     * 
+     * @return a builder initialized with this instance's values
+     */
+    default GeoPointBuilder with() {
+      return new GeoPointBuilder(BuilderSupport.castWithInstance(this, GeoPoint.class, "GeoPointBuilder.With"));
+    }
+
+    /**
+     * Creates a copy of this instance with a new value for <code>latitude</code>, calling the constructor directly
+     * without initializing a builder.
+     * 
+     * @param latitude the new value for <code>latitude</code>
+     * @return the modified instance
+     */
+    default GeoPoint withLatitude(double latitude) {
+      GeoPoint self = BuilderSupport.castWithInstance(this, GeoPoint.class, "GeoPointBuilder.With");
+      return new GeoPoint(latitude, self.longitude());
+    }
+
+    /**
+     * Creates a copy of this instance with a new value for <code>longitude</code>, calling the constructor directly
+     * without initializing a builder.
+     * 
+     * @param longitude the new value for <code>longitude</code>
+     * @return the modified instance
+     */
+    default GeoPoint withLongitude(double longitude) {
+      GeoPoint self = BuilderSupport.castWithInstance(this, GeoPoint.class, "GeoPointBuilder.With");
+      return new GeoPoint(self.latitude(), longitude);
+    }
+  }
+}
\ No newline at end of file
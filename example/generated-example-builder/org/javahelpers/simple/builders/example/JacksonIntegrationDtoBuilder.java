@@ -11,6 +11,7 @@ import javax.annotation.processing.Generated;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.javahelpers.simple.builders.core.annotations.BuilderImplementation;
 import org.javahelpers.simple.builders.core.interfaces.IBuilderBase;
+import org.javahelpers.simple.builders.core.util.BuilderSupport;
 import org.javahelpers.simple.builders.core.util.BuilderToStringStyle;
 import org.javahelpers.simple.builders.core.util.TrackedValue;
 
@@ -242,12 +243,7 @@ public class JacksonIntegrationDtoBuilder implements IBuilderBase<JacksonIntegra
    */
   public JacksonIntegrationDtoBuilder conditional(BooleanSupplier condition,
       Consumer<JacksonIntegrationDtoBuilder> trueCase, Consumer<JacksonIntegrationDtoBuilder> falseCase) {
-    if (condition.getAsBoolean()) {
-      trueCase.accept(this);
-    } else if (falseCase != null) {
-      falseCase.accept(this);
-    }
-    return this;
+    return BuilderSupport.conditional(this, condition, trueCase, falseCase);
   }
 
   /**
@@ -295,14 +291,8 @@ public class JacksonIntegrationDtoBuilder implements IBuilderBase<JacksonIntegra
      * @return the modified instance
      */
     default JacksonIntegrationDto with(Consumer<JacksonIntegrationDtoBuilder> b) {
-      JacksonIntegrationDtoBuilder builder;
-      try {
-        builder = new JacksonIntegrationDtoBuilder(JacksonIntegrationDto.class.cast(this));
-      } catch (ClassCastException ex) {
-        throw new IllegalArgumentException(
-            "The interface 'JacksonIntegrationDtoBuilder.With' should only be implemented by classes, which could be casted to 'JacksonIntegrationDto'",
-            ex);
-      }
+      JacksonIntegrationDtoBuilder builder = new JacksonIntegrationDtoBuilder(
+          BuilderSupport.castWithInstance(this, JacksonIntegrationDto.class, "JacksonIntegrationDtoBuilder.With"));
       b.accept(builder);
       return builder.build();
     }
@@ -313,13 +303,34 @@ public class JacksonIntegrationDtoBuilder implements IBuilderBase<JacksonIntegra
      * @return a builder initialized with this instance's values
      */
     default JacksonIntegrationDtoBuilder with() {
-      try {
-        return new JacksonIntegrationDtoBuilder(JacksonIntegrationDto.class.cast(this));
-      } catch (ClassCastException ex) {
-        throw new IllegalArgumentException(
-            "The interface 'JacksonIntegrationDtoBuilder.With' should only be implemented by classes, which could be casted to 'JacksonIntegrationDto'",
-            ex);
-      }
+      return new JacksonIntegrationDtoBuilder(
+          BuilderSupport.castWithInstance(this, JacksonIntegrationDto.class, "JacksonIntegrationDtoBuilder.With"));
+    }
+
+    /**
+     * Creates a copy of this instance with a new value for <code>name</code>, calling the constructor directly without
+     * initializing a builder.
+     * 
+     * @param name the new value for <code>name</code>
+     * @return the modified instance
+     */
+    default JacksonIntegrationDto withName(String name) {
+      JacksonIntegrationDto self = BuilderSupport.castWithInstance(this, JacksonIntegrationDto.class,
+          "JacksonIntegrationDtoBuilder.With");
+      return new JacksonIntegrationDto(name, self.age());
+    }
+
+    /**
+     * Creates a copy of this instance with a new value for <code>age</code>, calling the constructor directly without
+     * initializing a builder.
+     * 
+     * @param age the new value for <code>age</code>
+     * @return the modified instance
+     */
+    default JacksonIntegrationDto withAge(int age) {
+      JacksonIntegrationDto self = BuilderSupport.castWithInstance(this, JacksonIntegrationDto.class,
+          "JacksonIntegrationDtoBuilder.With");
+      return new JacksonIntegrationDto(self.name(), age);
     }
   }
 }
\ No newline at end of file
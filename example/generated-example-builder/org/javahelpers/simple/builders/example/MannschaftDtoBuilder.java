@@ -3,7 +3,6 @@ package org.javahelpers.simple.builders.example;
 import static org.javahelpers.simple.builders.core.util.TrackedValue.changedValue;
 import static org.javahelpers.simple.builders.core.util.TrackedValue.initialValue;
 import static org.javahelpers.simple.builders.core.util.TrackedValue.unsetValue;
-import java.util.HashSet;
 import java.util.Set;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
@@ -13,6 +12,7 @@ import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.javahelpers.simple.builders.core.annotations.BuilderImplementation;
 import org.javahelpers.simple.builders.core.builders.HashSetBuilderWithElementBuilders;
 import org.javahelpers.simple.builders.core.interfaces.IBuilderBase;
+import org.javahelpers.simple.builders.core.util.BuilderSupport;
 import org.javahelpers.simple.builders.core.util.BuilderToStringStyle;
 import org.javahelpers.simple.builders.core.util.TrackedValue;
 
@@ -88,14 +88,7 @@ public class MannschaftDtoBuilder implements IBuilderBase<MannschaftDto> {
    * @return current instance of builder
    */
   public MannschaftDtoBuilder add2Sponsoren(SponsorDto element) {
-    Set<SponsorDto> newCollection;
-    if (this.sponsoren.isSet()) {
-      newCollection = new HashSet<>(this.sponsoren.value());
-    } else {
-      newCollection = new HashSet<>();
-    }
-    newCollection.add(element);
-    this.sponsoren = changedValue(newCollection);
+    this.sponsoren = BuilderSupport.addToSet(this.sponsoren, element);
     return this;
   }
 
@@ -279,12 +272,7 @@ public class MannschaftDtoBuilder implements IBuilderBase<MannschaftDto> {
    */
   public MannschaftDtoBuilder conditional(BooleanSupplier condition, Consumer<MannschaftDtoBuilder> trueCase,
       Consumer<MannschaftDtoBuilder> falseCase) {
-    if (condition.getAsBoolean()) {
-      trueCase.accept(this);
-    } else if (falseCase != null) {
-      falseCase.accept(this);
-    }
-    return this;
+    return BuilderSupport.conditional(this, condition, trueCase, falseCase);
   }
 
   /**
@@ -328,14 +316,8 @@ public class MannschaftDtoBuilder implements IBuilderBase<MannschaftDto> {
      * @return the modified instance
      */
     default MannschaftDto with(Consumer<MannschaftDtoBuilder> b) {
-      MannschaftDtoBuilder builder;
-      try {
-        builder = new MannschaftDtoBuilder(MannschaftDto.class.cast(this));
-      } catch (ClassCastException ex) {
-        throw new IllegalArgumentException(
-            "The interface 'MannschaftDtoBuilder.With' should only be implemented by classes, which could be casted to 'MannschaftDto'",
-            ex);
-      }
+      MannschaftDtoBuilder builder = new MannschaftDtoBuilder(
+          BuilderSupport.castWithInstance(this, MannschaftDto.class, "MannschaftDtoBuilder.With"));
       b.accept(builder);
       return builder.build();
     }
@@ -346,13 +328,8 @@ public class MannschaftDtoBuilder implements IBuilderBase<MannschaftDto> {
      * @return a builder initialized with this instance's values
      */
     default MannschaftDtoBuilder with() {
-      try {
-        return new MannschaftDtoBuilder(MannschaftDto.class.cast(this));
-      } catch (ClassCastException ex) {
-        throw new IllegalArgumentException(
-            "The interface 'MannschaftDtoBuilder.With' should only be implemented by classes, which could be casted to 'MannschaftDto'",
-            ex);
-      }
+      return new MannschaftDtoBuilder(
+          BuilderSupport.castWithInstance(this, MannschaftDto.class, "MannschaftDtoBuilder.With"));
     }
   }
 }
\ No newline at end of file
@@ -0,0 +1,377 @@
+package org.javahelpers.simple.builders.example;
+
+import static org.javahelpers.simple.builders.core.util.TrackedValue.changedValue;
+import static org.javahelpers.simple.builders.core.util.TrackedValue.initialValue;
+import static org.javahelpers.simple.builders.core.util.TrackedValue.unsetValue;
+import java.time.Instant;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import javax.annotation.processing.Generated;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.javahelpers.simple.builders.core.annotations.BuilderImplementation;
+import org.javahelpers.simple.builders.core.interfaces.IBuilderBase;
+import org.javahelpers.simple.builders.core.util.BuilderSupport;
+import org.javahelpers.simple.builders.core.util.BuilderToStringStyle;
+import org.javahelpers.simple.builders.core.util.TrackedValue;
+
+/**
+ * Builder for {@code org.javahelpers.simple.builders.example.Measurement}.
+ * <p>
+ * This builder provides a fluent API for creating instances of org.javahelpers.simple.builders.example.Measurement with
+ * method chaining and validation. Use the static {@code create()} method to obtain a new builder instance, configure
+ * the desired properties using the setter methods, and then call {@code build()} to create the final DTO.
+ * 
+ * <h4>Example:</h4>
+ * 
+ * <pre>{@code
+ * Measurement result = MeasurementBuilder.create()
+ *     .sensor("example value")
+ *     .sensor("Hello %s", "World")
+ *     .sensor(() -> "example value")
+ *     .sensor(sb -> sb.append("text"))
+ *     .value(3.14)
+ *     .value(() -> 3.14)
+ *     .build();
+ * }</pre>
+ */
+@Generated("Generated by org.javahelpers.simple.builders.processor.BuilderProcessor")
+@BuilderImplementation(forClass = Measurement.class)
+public class MeasurementBuilder implements IBuilderBase<Measurement> {
+
+  /**
+   * Tracked value for <code>sensor</code>: name of the sensor.
+   */
+  private TrackedValue<String> sensor = unsetValue();
+  /**
+   * Tracked value for <code>value</code>: measured value.
+   */
+  private TrackedValue<Double> value = unsetValue();
+  /**
+   * Tracked value for <code>takenAt</code>: point in time of the measurement.
+   */
+  private TrackedValue<Instant> takenAt = unsetValue();
+
+  /**
+   * Empty constructor of builder for {@code org.javahelpers.simple.builders.example.Measurement}.
+   */
+  public MeasurementBuilder() {
+  }
+
+  /**
+   * Initialisation of builder for {@code org.javahelpers.simple.builders.example.Measurement} by a instance.
+   * 
+   * @param instance object instance for initialisiation
+   */
+  public MeasurementBuilder(Measurement instance) {
+    this.sensor = initialValue(instance.sensor());
+    this.value = initialValue(instance.value());
+    this.takenAt = initialValue(instance.takenAt());
+  }
+
+  /**
+   * Creating a new builder for {@code org.javahelpers.simple.builders.example.Measurement}.
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * MeasurementBuilder builder = MeasurementBuilder.create();
+   * }</pre>
+   * 
+   * @return builder for {@code org.javahelpers.simple.builders.example.Measurement}
+   */
+  public static MeasurementBuilder create() {
+    return new MeasurementBuilder();
+  }
+
+  /**
+   * Sets the value for <code>sensor</code>.
+   * <p>
+   * Generated from parameter in constructor {@link Measurement#Measurement(String, double, Instant) Measurement(String
+   * sensor, double value, Instant takenAt)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.sensor("example value");
+   * }</pre>
+   * 
+   * @param sensor name of the sensor
+   * @return current instance of builder
+   */
+  public MeasurementBuilder sensor(String sensor) {
+    this.sensor = changedValue(sensor);
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>sensor</code> by executing the provided consumer.
+   * <p>
+   * Generated from parameter in constructor {@link Measurement#Measurement(String, double, Instant) Measurement(String
+   * sensor, double value, Instant takenAt)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.sensor(sb -> sb.append("text"));
+   * }</pre>
+   * 
+   * @param sensorStringBuilderConsumer consumer providing an instance of name of the sensor
+   * @return current instance of builder
+   */
+  public MeasurementBuilder sensor(Consumer<StringBuilder> sensorStringBuilderConsumer) {
+    StringBuilder builder = new StringBuilder();
+    sensorStringBuilderConsumer.accept(builder);
+    this.sensor = changedValue(builder.toString());
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>sensor</code> by invoking the provided supplier.
+   * <p>
+   * Generated from parameter in constructor {@link Measurement#Measurement(String, double, Instant) Measurement(String
+   * sensor, double value, Instant takenAt)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.sensor(() -> "example value");
+   * }</pre>
+   * 
+   * @param sensorSupplier supplier for name of the sensor
+   * @return current instance of builder
+   */
+  public MeasurementBuilder sensor(Supplier<String> sensorSupplier) {
+    this.sensor = changedValue(sensorSupplier.get());
+    return this;
+  }
+
+  /**
+   * Sets the String value for <code>sensor</code> by using String.format(format, args). See
+   * {@link String#format(String, Object...)} for details.
+   * <p>
+   * Generated from parameter in constructor {@link Measurement#Measurement(String, double, Instant) Measurement(String
+   * sensor, double value, Instant takenAt)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.sensor("Hello %s", "World");
+   * }</pre>
+   * 
+   * @param format A format string
+   * @param args Arguments referenced by the format specifiers in the format string.
+   * @return current instance of builder
+   */
+  public MeasurementBuilder sensor(String format, Object... args) {
+    this.sensor = changedValue(String.format(format, args));
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>takenAt</code>.
+   * <p>
+   * Generated from parameter in constructor {@link Measurement#Measurement(String, double, Instant) Measurement(String
+   * sensor, double value, Instant takenAt)}
+   * 
+   * @param takenAt point in time of the measurement
+   * @return current instance of builder
+   */
+  public MeasurementBuilder takenAt(Instant takenAt) {
+    this.takenAt = changedValue(takenAt);
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>takenAt</code> by invoking the provided supplier.
+   * <p>
+   * Generated from parameter in constructor {@link Measurement#Measurement(String, double, Instant) Measurement(String
+   * sensor, double value, Instant takenAt)}
+   * 
+   * @param takenAtSupplier supplier for point in time of the measurement
+   * @return current instance of builder
+   */
+  public MeasurementBuilder takenAt(Supplier<Instant> takenAtSupplier) {
+    this.takenAt = changedValue(takenAtSupplier.get());
+    return this;
+  }
+
+  /**
+   * Validates that the sensor field is not null or empty.
+   * <p>
+   * Generated from parameter in constructor {@link Measurement#Measurement(String, double, Instant) Measurement(String
+   * sensor, double value, Instant takenAt)}
+   * 
+   * @return this builder instance for chaining
+   * @throws IllegalArgumentException if sensor is null or empty
+   */
+  MeasurementBuilder validateSensor() {
+    if (!sensor.isSet() || sensor.value().trim().isEmpty()) {
+      throw new IllegalArgumentException("Sensor cannot be null or empty");
+    }
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>value</code>.
+   * <p>
+   * Generated from parameter in constructor {@link Measurement#Measurement(String, double, Instant) Measurement(String
+   * sensor, double value, Instant takenAt)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.value(3.14);
+   * }</pre>
+   * 
+   * @param value measured value
+   * @return current instance of builder
+   */
+  public MeasurementBuilder value(double value) {
+    this.value = changedValue(value);
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>value</code> by invoking the provided supplier.
+   * <p>
+   * Generated from parameter in constructor {@link Measurement#Measurement(String, double, Instant) Measurement(String
+   * sensor, double value, Instant takenAt)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.value(() -> 3.14);
+   * }</pre>
+   * 
+   * @param valueSupplier supplier for measured value
+   * @return current instance of builder
+   */
+  public MeasurementBuilder value(Supplier<Double> valueSupplier) {
+    this.value = changedValue(valueSupplier.get());
+    return this;
+  }
+
+  /**
+   * Conditionally applies builder modifications if the condition is true.
+   * 
+   * @param condition the condition to evaluate
+   * @param yesCondition the consumer to apply if condition is true
+   * @return this builder instance
+   */
+  public MeasurementBuilder conditional(BooleanSupplier condition, Consumer<MeasurementBuilder> yesCondition) {
+    return conditional(condition, yesCondition, null);
+  }
+
+  /**
+   * Conditionally applies builder modifications based on a condition evaluation.
+   * 
+   * @param condition the condition to evaluate
+   * @param trueCase the consumer to apply if condition is true
+   * @param falseCase the consumer to apply if condition is false (can be null)
+   * @return this builder instance
+   */
+  public MeasurementBuilder conditional(BooleanSupplier condition, Consumer<MeasurementBuilder> trueCase,
+      Consumer<MeasurementBuilder> falseCase) {
+    return BuilderSupport.conditional(this, condition, trueCase, falseCase);
+  }
+
+  /**
+   * Builds the configured DTO instance.
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * Measurement result = builder.build();
+   * }</pre>
+   */
+  @Override
+  public Measurement build() {
+    if (!this.value.isSet()) {
+      throw new IllegalStateException("Required field 'value' must be set before calling build()");
+    }
+    if (this.value.value() == null) {
+      throw new IllegalStateException("Field 'value' is marked as non-null but null value was provided");
+    }
+    Measurement result = new Measurement(this.sensor.value(), this.value.value(), this.takenAt.value());
+    return result;
+  }
+
+  /**
+   * Returns a string representation of this builder, including only fields that have been set.
+   * 
+   * @return string representation of the builder
+   */
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this, BuilderToStringStyle.INSTANCE).append("sensor", this.sensor)
+        .append("value", this.value)
+        .append("takenAt", this.takenAt)
+        .toString();
+  }
+
+  /**
+   * Interface that can be implemented by the DTO to provide fluent modification methods.
+   */
+  public interface With {
+    /**
+     * Initializes a builder from an instance of this class, using methods of this builder to change values and returns
+     * the new built object.
+     * 
+     * @param b the consumer to apply modifications
+     * @return the modified instance
+     */
+    default Measurement with(Consumer<MeasurementBuilder> b) {
+      MeasurementBuilder builder = new MeasurementBuilder(
+          BuilderSupport.castWithInstance(this, Measurement.class, "MeasurementBuilder.With"));
+      b.accept(builder);
+      return builder.build();
+    }
+
+    /**
+     * Creates a builder initialized from this instance.
+     * 
+     * @return a builder initialized with this instance's values
+     */
+    default MeasurementBuilder with() {
+      return new MeasurementBuilder(
+          BuilderSupport.castWithInstance(this, Measurement.class, "MeasurementBuilder.With"));
+    }
+
+    /**
+     * Creates a copy of this instance with a new value for <code>sensor</code>, calling the constructor directly
+     * without initializing a builder.
+     * 
+     * @param sensor the new value for <code>sensor</code>
+     * @return the modified instance
+     */
+    default Measurement withSensor(String sensor) {
+      Measurement self = BuilderSupport.castWithInstance(this, Measurement.class, "MeasurementBuilder.With");
+      return new Measurement(sensor, self.value(), self.takenAt());
+    }
+
+    /**
+     * Creates a copy of this instance with a new value for <code>value</code>, calling the constructor directly without
+     * initializing a builder.
+     * 
+     * @param value the new value for <code>value</code>
+     * @return the modified instance
+     */
+    default Measurement withValue(double value) {
+      Measurement self = BuilderSupport.castWithInstance(this, Measurement.class, "MeasurementBuilder.With");
+      return new Measurement(self.sensor(), value, self.takenAt());
+    }
+
+    /**
+     * Creates a copy of this instance with a new value for <code>takenAt</code>, calling the constructor directly
+     * without initializing a builder.
+     * 
+     * @param takenAt the new value for <code>takenAt</code>
+     * @return the modified instance
+     */
+    default Measurement withTakenAt(Instant takenAt) {
+      Measurement self = BuilderSupport.castWithInstance(this, Measurement.class, "MeasurementBuilder.With");
+      return new Measurement(self.sensor(), self.value(), takenAt);
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,102 @@
+package org.javahelpers.simple.builders.example;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import javax.annotation.processing.Generated;
+import org.javahelpers.simple.builders.core.interfaces.IBinaryCodec;
+import org.javahelpers.simple.builders.core.util.BinaryFormat;
+
+/**
+ * Binary codec for {@code org.javahelpers.simple.builders.example.Measurement}, decoding via
+ * {@link MeasurementBuilder}. Field numbers follow the declaration order of the DTO, fields of super classes first:
+ * append new fields, do not reorder or remove fields.
+ */
+@Generated("Generated by org.javahelpers.simple.builders.processor.BuilderProcessor")
+public class MeasurementCodec implements IBinaryCodec<Measurement> {
+
+  /**
+   * Shared instance, the codec is stateless.
+   */
+  public static final MeasurementCodec INSTANCE = new MeasurementCodec();
+
+  private MeasurementCodec() {
+  }
+
+  /**
+   * Encodes a DTO, including the format version header.
+   * 
+   * @param value the DTO to encode
+   * @param buffer the buffer to write to, its position is advanced
+   */
+  @Override
+  public void encode(Measurement value, ByteBuffer buffer) {
+    BinaryFormat.writeHeader(buffer);
+    encodeFields(value, buffer);
+  }
+
+  /**
+   * Encodes the fields of a DTO without header, terminated by the end tag. Fields with <code>null</code> values are
+   * omitted, elements of collections must not be <code>null</code>.
+   * 
+   * @param value the DTO to encode
+   * @param buffer the buffer to write to, its position is advanced
+   */
+  @Override
+  public void encodeFields(Measurement value, ByteBuffer buffer) {
+    String value1 = value.sensor();
+    if (value1 != null) {
+      BinaryFormat.writeTag(buffer, 10);
+      BinaryFormat.writeString(buffer, value1);
+    }
+    BinaryFormat.writeTag(buffer, 17);
+    buffer.putDouble(value.value());
+    Instant value3 = value.takenAt();
+    if (value3 != null) {
+      BinaryFormat.writeTag(buffer, 26);
+      BinaryFormat.writeString(buffer, value3.toString());
+    }
+    BinaryFormat.writeEndTag(buffer);
+  }
+
+  /**
+   * Decodes a DTO, including the format version header.
+   * 
+   * @param buffer the buffer to read from, its position is advanced
+   * @return the decoded DTO
+   */
+  @Override
+  public Measurement decode(ByteBuffer buffer) {
+    BinaryFormat.readHeader(buffer);
+    return decodeFields(buffer);
+  }
+
+  /**
+   * Decodes the fields of a DTO without header up to the end tag, skipping unknown fields. Fields not contained leave
+   * the defaults of the builder.
+   * 
+   * @param buffer the buffer to read from, its position is advanced
+   * @return the decoded DTO
+   * @throws IllegalArgumentException if the data is not a valid encoding
+   */
+  @Override
+  public Measurement decodeFields(ByteBuffer buffer) {
+    MeasurementBuilder builder = new MeasurementBuilder();
+    int tag;
+    while ((tag = BinaryFormat.readTag(buffer)) != BinaryFormat.END_TAG) {
+      switch (tag) {
+        case 10 :
+          builder.sensor(BinaryFormat.readString(buffer));
+          break;
+        case 17 :
+          builder.value(buffer.getDouble());
+          break;
+        case 26 :
+          builder.takenAt(Instant.parse(BinaryFormat.readString(buffer)));
+          break;
+        default :
+          BinaryFormat.skipField(buffer, tag);
+      }
+    }
+    return builder.build();
+  }
+}
\ No newline at end of file
@@ -0,0 +1,522 @@
+package org.javahelpers.simple.builders.example;
+
+import static org.javahelpers.simple.builders.core.util.TrackedValue.changedValue;
+import static org.javahelpers.simple.builders.core.util.TrackedValue.initialValue;
+import static org.javahelpers.simple.builders.core.util.TrackedValue.unsetValue;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import javax.annotation.processing.Generated;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.javahelpers.simple.builders.core.annotations.BuilderImplementation;
+import org.javahelpers.simple.builders.core.builders.ArrayListBuilderWithElementBuilders;
+import org.javahelpers.simple.builders.core.interfaces.IBuilderBase;
+import org.javahelpers.simple.builders.core.util.BuilderSupport;
+import org.javahelpers.simple.builders.core.util.BuilderToStringStyle;
+import org.javahelpers.simple.builders.core.util.TrackedValue;
+
+/**
+ * Builder for {@code org.javahelpers.simple.builders.example.MeasurementSeries}.
+ * <p>
+ * This builder provides a fluent API for creating instances of
+ * org.javahelpers.simple.builders.example.MeasurementSeries with method chaining and validation. Use the static
+ * {@code create()} method to obtain a new builder instance, configure the desired properties using the setter methods,
+ * and then call {@code build()} to create the final DTO.
+ * 
+ * <h4>Example:</h4>
+ * 
+ * <pre>{@code
+ * MeasurementSeries result = MeasurementSeriesBuilder.create()
+ *     .id(UUID.randomUUID())
+ *     .id(() -> UUID.randomUUID())
+ *     .unit("example value")
+ *     .unit("Hello %s", "World")
+ *     .unit(() -> "example value")
+ *     .unit(sb -> sb.append("text"))
+ *     .measurements(t -> t.add(measurementBuilder -> measurementBuilder))
+ *     .latest(MeasurementBuilder.create().build())
+ *     .latest(() -> MeasurementBuilder.create().build())
+ *     .latest(measurementBuilder -> measurementBuilder)
+ *     .build();
+ * }</pre>
+ */
+@Generated("Generated by org.javahelpers.simple.builders.processor.BuilderProcessor")
+@BuilderImplementation(forClass = MeasurementSeries.class)
+public class MeasurementSeriesBuilder implements IBuilderBase<MeasurementSeries> {
+
+  /**
+   * Tracked value for <code>id</code>: identifier of the series.
+   */
+  private TrackedValue<UUID> id = unsetValue();
+  /**
+   * Tracked value for <code>unit</code>: unit of all values.
+   */
+  private TrackedValue<String> unit = unsetValue();
+  /**
+   * Tracked value for <code>measurements</code>: the measured values.
+   */
+  private TrackedValue<List<Measurement>> measurements = unsetValue();
+  /**
+   * Tracked value for <code>latest</code>: the most recent measurement.
+   */
+  private TrackedValue<Measurement> latest = unsetValue();
+
+  /**
+   * Empty constructor of builder for {@code org.javahelpers.simple.builders.example.MeasurementSeries}.
+   */
+  public MeasurementSeriesBuilder() {
+  }
+
+  /**
+   * Initialisation of builder for {@code org.javahelpers.simple.builders.example.MeasurementSeries} by a instance.
+   * 
+   * @param instance object instance for initialisiation
+   */
+  public MeasurementSeriesBuilder(MeasurementSeries instance) {
+    this.id = initialValue(instance.id());
+    this.unit = initialValue(instance.unit());
+    this.measurements = initialValue(instance.measurements());
+    this.latest = initialValue(instance.latest());
+  }
+
+  /**
+   * Creating a new builder for {@code org.javahelpers.simple.builders.example.MeasurementSeries}.
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * MeasurementSeriesBuilder builder = MeasurementSeriesBuilder.create();
+   * }</pre>
+   * 
+   * @return builder for {@code org.javahelpers.simple.builders.example.MeasurementSeries}
+   */
+  public static MeasurementSeriesBuilder create() {
+    return new MeasurementSeriesBuilder();
+  }
+
+  /**
+   * Adds a single element to <code>measurements</code>.
+   * <p>
+   * Generated from parameter in constructor {@link MeasurementSeries#MeasurementSeries(UUID, String, List, Measurement)
+   * MeasurementSeries(UUID id, String unit, List<Measurement> measurements, Measurement latest)}
+   * 
+   * @param element the element to add
+   * @return current instance of builder
+   */
+  public MeasurementSeriesBuilder add2Measurements(Measurement element) {
+    this.measurements = BuilderSupport.addToList(this.measurements, element);
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>id</code>.
+   * <p>
+   * Generated from parameter in constructor {@link MeasurementSeries#MeasurementSeries(UUID, String, List, Measurement)
+   * MeasurementSeries(UUID id, String unit, List<Measurement> measurements, Measurement latest)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.id(UUID.randomUUID());
+   * }</pre>
+   * 
+   * @param id identifier of the series
+   * @return current instance of builder
+   */
+  public MeasurementSeriesBuilder id(UUID id) {
+    this.id = changedValue(id);
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>id</code> by invoking the provided supplier.
+   * <p>
+   * Generated from parameter in constructor {@link MeasurementSeries#MeasurementSeries(UUID, String, List, Measurement)
+   * MeasurementSeries(UUID id, String unit, List<Measurement> measurements, Measurement latest)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.id(() -> UUID.randomUUID());
+   * }</pre>
+   * 
+   * @param idSupplier supplier for identifier of the series
+   * @return current instance of builder
+   */
+  public MeasurementSeriesBuilder id(Supplier<UUID> idSupplier) {
+    this.id = changedValue(idSupplier.get());
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>latest</code>.
+   * <p>
+   * Generated from parameter in constructor {@link MeasurementSeries#MeasurementSeries(UUID, String, List, Measurement)
+   * MeasurementSeries(UUID id, String unit, List<Measurement> measurements, Measurement latest)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.latest(MeasurementBuilder.create().build());
+   * }</pre>
+   * 
+   * @param latest the most recent measurement
+   * @return current instance of builder
+   */
+  public MeasurementSeriesBuilder latest(Measurement latest) {
+    this.latest = changedValue(latest);
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>latest</code> using a builder consumer that produces the value.
+   * <p>
+   * Generated from parameter in constructor {@link MeasurementSeries#MeasurementSeries(UUID, String, List, Measurement)
+   * MeasurementSeries(UUID id, String unit, List<Measurement> measurements, Measurement latest)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.latest(measurementBuilder -> measurementBuilder);
+   * }</pre>
+   * 
+   * @param latestBuilderConsumer consumer providing an instance of a builder for the most recent measurement
+   * @return current instance of builder
+   */
+  public MeasurementSeriesBuilder latest(Consumer<MeasurementBuilder> latestBuilderConsumer) {
+    MeasurementBuilder builder = this.latest.isSet()
+        ? new MeasurementBuilder(this.latest.value())
+        : new MeasurementBuilder();
+    latestBuilderConsumer.accept(builder);
+    this.latest = changedValue(builder.build());
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>latest</code> by invoking the provided supplier.
+   * <p>
+   * Generated from parameter in constructor {@link MeasurementSeries#MeasurementSeries(UUID, String, List, Measurement)
+   * MeasurementSeries(UUID id, String unit, List<Measurement> measurements, Measurement latest)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.latest(() -> MeasurementBuilder.create().build());
+   * }</pre>
+   * 
+   * @param latestSupplier supplier for the most recent measurement
+   * @return current instance of builder
+   */
+  public MeasurementSeriesBuilder latest(Supplier<Measurement> latestSupplier) {
+    this.latest = changedValue(latestSupplier.get());
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>measurements</code>.
+   * <p>
+   * Generated from parameter in constructor {@link MeasurementSeries#MeasurementSeries(UUID, String, List, Measurement)
+   * MeasurementSeries(UUID id, String unit, List<Measurement> measurements, Measurement latest)}
+   * 
+   * @param measurements the measured values
+   * @return current instance of builder
+   */
+  public MeasurementSeriesBuilder measurements(Measurement... measurements) {
+    this.measurements = changedValue(List.of(measurements));
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>measurements</code>.
+   * <p>
+   * Generated from parameter in constructor {@link MeasurementSeries#MeasurementSeries(UUID, String, List, Measurement)
+   * MeasurementSeries(UUID id, String unit, List<Measurement> measurements, Measurement latest)}
+   * 
+   * @param measurements the measured values
+   * @return current instance of builder
+   */
+  public MeasurementSeriesBuilder measurements(List<Measurement> measurements) {
+    this.measurements = changedValue(measurements);
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>measurements</code> using a builder consumer that produces the value.
+   * <p>
+   * Generated from parameter in constructor {@link MeasurementSeries#MeasurementSeries(UUID, String, List, Measurement)
+   * MeasurementSeries(UUID id, String unit, List<Measurement> measurements, Measurement latest)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.measurements(t -> t.add(measurementBuilder -> measurementBuilder));
+   * }</pre>
+   * 
+   * @param measurementsBuilderConsumer consumer providing an instance of a builder for the measured values
+   * @return current instance of builder
+   */
+  public MeasurementSeriesBuilder measurements(
+      Consumer<ArrayListBuilderWithElementBuilders<Measurement, MeasurementBuilder>> measurementsBuilderConsumer) {
+    ArrayListBuilderWithElementBuilders<Measurement, MeasurementBuilder> builder = this.measurements.isSet()
+        ? new ArrayListBuilderWithElementBuilders<Measurement, MeasurementBuilder>(this.measurements.value(),
+            MeasurementBuilder::create)
+        : new ArrayListBuilderWithElementBuilders<Measurement, MeasurementBuilder>(MeasurementBuilder::create);
+    measurementsBuilderConsumer.accept(builder);
+    this.measurements = changedValue(builder.build());
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>measurements</code> by invoking the provided supplier.
+   * <p>
+   * Generated from parameter in constructor {@link MeasurementSeries#MeasurementSeries(UUID, String, List, Measurement)
+   * MeasurementSeries(UUID id, String unit, List<Measurement> measurements, Measurement latest)}
+   * 
+   * @param measurementsSupplier supplier for the measured values
+   * @return current instance of builder
+   */
+  public MeasurementSeriesBuilder measurements(Supplier<List<Measurement>> measurementsSupplier) {
+    this.measurements = changedValue(measurementsSupplier.get());
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>unit</code>.
+   * <p>
+   * Generated from parameter in constructor {@link MeasurementSeries#MeasurementSeries(UUID, String, List, Measurement)
+   * MeasurementSeries(UUID id, String unit, List<Measurement> measurements, Measurement latest)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.unit("example value");
+   * }</pre>
+   * 
+   * @param unit unit of all values
+   * @return current instance of builder
+   */
+  public MeasurementSeriesBuilder unit(String unit) {
+    this.unit = changedValue(unit);
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>unit</code> by executing the provided consumer.
+   * <p>
+   * Generated from parameter in constructor {@link MeasurementSeries#MeasurementSeries(UUID, String, List, Measurement)
+   * MeasurementSeries(UUID id, String unit, List<Measurement> measurements, Measurement latest)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.unit(sb -> sb.append("text"));
+   * }</pre>
+   * 
+   * @param unitStringBuilderConsumer consumer providing an instance of unit of all values
+   * @return current instance of builder
+   */
+  public MeasurementSeriesBuilder unit(Consumer<StringBuilder> unitStringBuilderConsumer) {
+    StringBuilder builder = new StringBuilder();
+    unitStringBuilderConsumer.accept(builder);
+    this.unit = changedValue(builder.toString());
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>unit</code> by invoking the provided supplier.
+   * <p>
+   * Generated from parameter in constructor {@link MeasurementSeries#MeasurementSeries(UUID, String, List, Measurement)
+   * MeasurementSeries(UUID id, String unit, List<Measurement> measurements, Measurement latest)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.unit(() -> "example value");
+   * }</pre>
+   * 
+   * @param unitSupplier supplier for unit of all values
+   * @return current instance of builder
+   */
+  public MeasurementSeriesBuilder unit(Supplier<String> unitSupplier) {
+    this.unit = changedValue(unitSupplier.get());
+    return this;
+  }
+
+  /**
+   * Sets the String value for <code>unit</code> by using String.format(format, args). See
+   * {@link String#format(String, Object...)} for details.
+   * <p>
+   * Generated from parameter in constructor {@link MeasurementSeries#MeasurementSeries(UUID, String, List, Measurement)
+   * MeasurementSeries(UUID id, String unit, List<Measurement> measurements, Measurement latest)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.unit("Hello %s", "World");
+   * }</pre>
+   * 
+   * @param format A format string
+   * @param args Arguments referenced by the format specifiers in the format string.
+   * @return current instance of builder
+   */
+  public MeasurementSeriesBuilder unit(String format, Object... args) {
+    this.unit = changedValue(String.format(format, args));
+    return this;
+  }
+
+  /**
+   * Validates that the unit field is not null or empty.
+   * <p>
+   * Generated from parameter in constructor {@link MeasurementSeries#MeasurementSeries(UUID, String, List, Measurement)
+   * MeasurementSeries(UUID id, String unit, List<Measurement> measurements, Measurement latest)}
+   * 
+   * @return this builder instance for chaining
+   * @throws IllegalArgumentException if unit is null or empty
+   */
+  MeasurementSeriesBuilder validateUnit() {
+    if (!unit.isSet() || unit.value().trim().isEmpty()) {
+      throw new IllegalArgumentException("Unit cannot be null or empty");
+    }
+    return this;
+  }
+
+  /**
+   * Conditionally applies builder modifications if the condition is true.
+   * 
+   * @param condition the condition to evaluate
+   * @param yesCondition the consumer to apply if condition is true
+   * @return this builder instance
+   */
+  public MeasurementSeriesBuilder conditional(BooleanSupplier condition,
+      Consumer<MeasurementSeriesBuilder> yesCondition) {
+    return conditional(condition, yesCondition, null);
+  }
+
+  /**
+   * Conditionally applies builder modifications based on a condition evaluation.
+   * 
+   * @param condition the condition to evaluate
+   * @param trueCase the consumer to apply if condition is true
+   * @param falseCase the consumer to apply if condition is false (can be null)
+   * @return this builder instance
+   */
+  public MeasurementSeriesBuilder conditional(BooleanSupplier condition, Consumer<MeasurementSeriesBuilder> trueCase,
+      Consumer<MeasurementSeriesBuilder> falseCase) {
+    return BuilderSupport.conditional(this, condition, trueCase, falseCase);
+  }
+
+  /**
+   * Builds the configured DTO instance.
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * MeasurementSeries result = builder.build();
+   * }</pre>
+   */
+  @Override
+  public MeasurementSeries build() {
+    MeasurementSeries result = new MeasurementSeries(this.id.value(),
+        this.unit.value(),
+        this.measurements.value(),
+        this.latest.value());
+    return result;
+  }
+
+  /**
+   * Returns a string representation of this builder, including only fields that have been set.
+   * 
+   * @return string representation of the builder
+   */
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this, BuilderToStringStyle.INSTANCE).append("id", this.id)
+        .append("unit", this.unit)
+        .append("measurements", this.measurements)
+        .append("latest", this.latest)
+        .toString();
+  }
+
+  /**
+   * Interface that can be implemented by the DTO to provide fluent modification methods.
+   */
+  public interface With {
+    /**
+     * Initializes a builder from an instance of this class, using methods of this builder to change values and returns
+     * the new built object.
+     * 
+     * @param b the consumer to apply modifications
+     * @return the modified instance
+     */
+    default MeasurementSeries with(Consumer<MeasurementSeriesBuilder> b) {
+      MeasurementSeriesBuilder builder = new MeasurementSeriesBuilder(
+          BuilderSupport.castWithInstance(this, MeasurementSeries.class, "MeasurementSeriesBuilder.With"));
+      b.accept(builder);
+      return builder.build();
+    }
+
+    /**
+     * Creates a builder initialized from this instance.
+     * 
+     * @return a builder initialized with this instance's values
+     */
+    default MeasurementSeriesBuilder with() {
+      return new MeasurementSeriesBuilder(
+          BuilderSupport.castWithInstance(this, MeasurementSeries.class, "MeasurementSeriesBuilder.With"));
+    }
+
+    /**
+     * Creates a copy of this instance with a new value for <code>id</code>, calling the constructor directly without
+     * initializing a builder.
+     * 
+     * @param id the new value for <code>id</code>
+     * @return the modified instance
+     */
+    default MeasurementSeries withId(UUID id) {
+      MeasurementSeries self = BuilderSupport.castWithInstance(this, MeasurementSeries.class,
+          "MeasurementSeriesBuilder.With");
+      return new MeasurementSeries(id, self.unit(), self.measurements(), self.latest());
+    }
+
+    /**
+     * Creates a copy of this instance with a new value for <code>unit</code>, calling the constructor directly without
+     * initializing a builder.
+     * 
+     * @param unit the new value for <code>unit</code>
+     * @return the modified instance
+     */
+    default MeasurementSeries withUnit(String unit) {
+      MeasurementSeries self = BuilderSupport.castWithInstance(this, MeasurementSeries.class,
+          "MeasurementSeriesBuilder.With");
+      return new MeasurementSeries(self.id(), unit, self.measurements(), self.latest());
+    }
+
+    /**
+     * Creates a copy of this instance with a new value for <code>measurements</code>, calling the constructor directly
+     * without initializing a builder.
+     * 
+     * @param measurements the new value for <code>measurements</code>
+     * @return the modified instance
+     */
+    default MeasurementSeries withMeasurements(List<Measurement> measurements) {
+      MeasurementSeries self = BuilderSupport.castWithInstance(this, MeasurementSeries.class,
+          "MeasurementSeriesBuilder.With");
+      return new MeasurementSeries(self.id(), self.unit(), measurements, self.latest());
+    }
+
+    /**
+     * Creates a copy of this instance with a new value for <code>latest</code>, calling the constructor directly
+     * without initializing a builder.
+     * 
+     * @param latest the new value for <code>latest</code>
+     * @return the modified instance
+     */
+    default MeasurementSeries withLatest(Measurement latest) {
+      MeasurementSeries self = BuilderSupport.castWithInstance(this, MeasurementSeries.class,
+          "MeasurementSeriesBuilder.With");
+      return new MeasurementSeries(self.id(), self.unit(), self.measurements(), latest);
+    }
+  }
+}
\ No newline at end of file
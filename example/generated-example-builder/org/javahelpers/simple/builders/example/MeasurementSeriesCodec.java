@@ -0,0 +1,123 @@
+package org.javahelpers.simple.builders.example;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import javax.annotation.processing.Generated;
+import org.javahelpers.simple.builders.core.interfaces.IBinaryCodec;
+import org.javahelpers.simple.builders.core.util.BinaryFormat;
+
+/**
+ * Binary codec for {@code org.javahelpers.simple.builders.example.MeasurementSeries}, decoding via
+ * {@link MeasurementSeriesBuilder}. Field numbers follow the declaration order of the DTO, fields of super classes
+ * first: append new fields, do not reorder or remove fields.
+ */
+@Generated("Generated by org.javahelpers.simple.builders.processor.BuilderProcessor")
+public class MeasurementSeriesCodec implements IBinaryCodec<MeasurementSeries> {
+
+  /**
+   * Shared instance, the codec is stateless.
+   */
+  public static final MeasurementSeriesCodec INSTANCE = new MeasurementSeriesCodec();
+
+  private MeasurementSeriesCodec() {
+  }
+
+  /**
+   * Encodes a DTO, including the format version header.
+   * 
+   * @param value the DTO to encode
+   * @param buffer the buffer to write to, its position is advanced
+   */
+  @Override
+  public void encode(MeasurementSeries value, ByteBuffer buffer) {
+    BinaryFormat.writeHeader(buffer);
+    encodeFields(value, buffer);
+  }
+
+  /**
+   * Encodes the fields of a DTO without header, terminated by the end tag. Fields with <code>null</code> values are
+   * omitted, elements of collections must not be <code>null</code>.
+   * 
+   * @param value the DTO to encode
+   * @param buffer the buffer to write to, its position is advanced
+   */
+  @Override
+  public void encodeFields(MeasurementSeries value, ByteBuffer buffer) {
+    UUID value1 = value.id();
+    if (value1 != null) {
+      BinaryFormat.writeTag(buffer, 10);
+      BinaryFormat.writeUuid(buffer, value1);
+    }
+    String value2 = value.unit();
+    if (value2 != null) {
+      BinaryFormat.writeTag(buffer, 18);
+      BinaryFormat.writeString(buffer, value2);
+    }
+    List<Measurement> value3 = value.measurements();
+    if (value3 != null) {
+      BinaryFormat.writeTag(buffer, 28);
+      BinaryFormat.writeCollectionHeader(buffer, value3.size(), BinaryFormat.WIRE_GROUP);
+      for (Measurement element : value3) {
+        MeasurementCodec.INSTANCE.encodeFields(element, buffer);
+      }
+    }
+    Measurement value4 = value.latest();
+    if (value4 != null) {
+      BinaryFormat.writeTag(buffer, 35);
+      MeasurementCodec.INSTANCE.encodeFields(value4, buffer);
+    }
+    BinaryFormat.writeEndTag(buffer);
+  }
+
+  /**
+   * Decodes a DTO, including the format version header.
+   * 
+   * @param buffer the buffer to read from, its position is advanced
+   * @return the decoded DTO
+   */
+  @Override
+  public MeasurementSeries decode(ByteBuffer buffer) {
+    BinaryFormat.readHeader(buffer);
+    return decodeFields(buffer);
+  }
+
+  /**
+   * Decodes the fields of a DTO without header up to the end tag, skipping unknown fields. Fields not contained leave
+   * the defaults of the builder.
+   * 
+   * @param buffer the buffer to read from, its position is advanced
+   * @return the decoded DTO
+   * @throws IllegalArgumentException if the data is not a valid encoding
+   */
+  @Override
+  public MeasurementSeries decodeFields(ByteBuffer buffer) {
+    MeasurementSeriesBuilder builder = new MeasurementSeriesBuilder();
+    int tag;
+    while ((tag = BinaryFormat.readTag(buffer)) != BinaryFormat.END_TAG) {
+      switch (tag) {
+        case 10 :
+          builder.id(BinaryFormat.readUuid(buffer));
+          break;
+        case 18 :
+          builder.unit(BinaryFormat.readString(buffer));
+          break;
+        case 28 :
+          int size3 = BinaryFormat.readCollectionHeader(buffer, BinaryFormat.WIRE_GROUP);
+          List<Measurement> values3 = new ArrayList<>(size3);
+          for (int i = 0; i < size3; i++) {
+            values3.add(MeasurementCodec.INSTANCE.decodeFields(buffer));
+          }
+          builder.measurements(values3);
+          break;
+        case 35 :
+          builder.latest(MeasurementCodec.INSTANCE.decodeFields(buffer));
+          break;
+        default :
+          BinaryFormat.skipField(buffer, tag);
+      }
+    }
+    return builder.build();
+  }
+}
\ No newline at end of file
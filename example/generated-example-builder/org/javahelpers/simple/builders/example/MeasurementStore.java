@@ -0,0 +1,44 @@
+package org.javahelpers.simple.builders.example;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import javax.annotation.processing.Generated;
+import org.javahelpers.simple.builders.core.util.MappedRecordStore;
+
+/**
+ * Memory-mapped, append-only store of {@code org.javahelpers.simple.builders.example.Measurement}, encoding with
+ * {@link MeasurementCodec}. Segment files are named {@code Measurement-<number>.seg}. Not thread-safe.
+ */
+@Generated("Generated by org.javahelpers.simple.builders.processor.BuilderProcessor")
+public class MeasurementStore extends MappedRecordStore<Measurement> {
+
+  private MeasurementStore(Path directory, int segmentSize) {
+    super(directory, "Measurement", segmentSize, MeasurementCodec.INSTANCE);
+  }
+
+  /**
+   * Opens the store in a directory, loading the records of existing segment files. New segment files have the default
+   * size of 64 MiB.
+   * 
+   * @param directory the directory of the segment files, created if missing
+   * @return the opened store
+   * @throws IOException if the segment files could not be created or mapped
+   */
+  public static MeasurementStore open(Path directory) throws IOException {
+    return open(directory, DEFAULT_SEGMENT_SIZE);
+  }
+
+  /**
+   * Opens the store in a directory, loading the records of existing segment files.
+   * 
+   * @param directory the directory of the segment files, created if missing
+   * @param segmentSize the size of new segment files in bytes, limits the size of a single encoded DTO
+   * @return the opened store
+   * @throws IOException if the segment files could not be created or mapped
+   */
+  public static MeasurementStore open(Path directory, int segmentSize) throws IOException {
+    MeasurementStore store = new MeasurementStore(directory, segmentSize);
+    store.load();
+    return store;
+  }
+}
\ No newline at end of file
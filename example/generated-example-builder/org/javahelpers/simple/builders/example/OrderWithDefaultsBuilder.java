@@ -10,6 +10,7 @@ import javax.annotation.processing.Generated;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.javahelpers.simple.builders.core.annotations.BuilderImplementation;
 import org.javahelpers.simple.builders.core.interfaces.IBuilderBase;
+import org.javahelpers.simple.builders.core.util.BuilderSupport;
 import org.javahelpers.simple.builders.core.util.BuilderToStringStyle;
 import org.javahelpers.simple.builders.core.util.TrackedValue;
 
@@ -337,12 +338,7 @@ public class OrderWithDefaultsBuilder implements IBuilderBase<OrderWithDefaults>
    */
   public OrderWithDefaultsBuilder conditional(BooleanSupplier condition, Consumer<OrderWithDefaultsBuilder> trueCase,
       Consumer<OrderWithDefaultsBuilder> falseCase) {
-    if (condition.getAsBoolean()) {
-      trueCase.accept(this);
-    } else if (falseCase != null) {
-      falseCase.accept(this);
-    }
-    return this;
+    return BuilderSupport.conditional(this, condition, trueCase, falseCase);
   }
 
   /**
@@ -388,14 +384,8 @@ public class OrderWithDefaultsBuilder implements IBuilderBase<OrderWithDefaults>
      * @return the modified instance
      */
     default OrderWithDefaults with(Consumer<OrderWithDefaultsBuilder> b) {
-      OrderWithDefaultsBuilder builder;
-      try {
-        builder = new OrderWithDefaultsBuilder(OrderWithDefaults.class.cast(this));
-      } catch (ClassCastException ex) {
-        throw new IllegalArgumentException(
-            "The interface 'OrderWithDefaultsBuilder.With' should only be implemented by classes, which could be casted to 'OrderWithDefaults'",
-            ex);
-      }
+      OrderWithDefaultsBuilder builder = new OrderWithDefaultsBuilder(
+          BuilderSupport.castWithInstance(this, OrderWithDefaults.class, "OrderWithDefaultsBuilder.With"));
       b.accept(builder);
       return builder.build();
     }
@@ -406,13 +396,8 @@ public class OrderWithDefaultsBuilder implements IBuilderBase<OrderWithDefaults>
      * @return a builder initialized with this instance's values
      */
     default OrderWithDefaultsBuilder with() {
-      try {
-        return new OrderWithDefaultsBuilder(OrderWithDefaults.class.cast(this));
-      } catch (ClassCastException ex) {
-        throw new IllegalArgumentException(
-            "The interface 'OrderWithDefaultsBuilder.With' should only be implemented by classes, which could be casted to 'OrderWithDefaults'",
-            ex);
-      }
+      return new OrderWithDefaultsBuilder(
+          BuilderSupport.castWithInstance(this, OrderWithDefaults.class, "OrderWithDefaultsBuilder.With"));
     }
   }
 }
\ No newline at end of file
@@ -4,7 +4,6 @@ import static org.javahelpers.simple.builders.core.util.TrackedValue.changedValu
 import static org.javahelpers.simple.builders.core.util.TrackedValue.initialValue;
 import static org.javahelpers.simple.builders.core.util.TrackedValue.unsetValue;
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
@@ -14,6 +13,7 @@ import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.javahelpers.simple.builders.core.annotations.BuilderImplementation;
 import org.javahelpers.simple.builders.core.builders.ArrayListBuilder;
 import org.javahelpers.simple.builders.core.interfaces.IBuilderBase;
+import org.javahelpers.simple.builders.core.util.BuilderSupport;
 import org.javahelpers.simple.builders.core.util.BuilderToStringStyle;
 import org.javahelpers.simple.builders.core.util.TrackedValue;
 
@@ -121,14 +121,7 @@ public class PersonDtoBuilder implements IBuilderBase<PersonDto> {
    * @return current instance of builder
    */
   public PersonDtoBuilder add2NickNames(String element) {
-    List<String> newCollection;
-    if (this.nickNames.isSet()) {
-      newCollection = new ArrayList<>(this.nickNames.value());
-    } else {
-      newCollection = new ArrayList<>();
-    }
-    newCollection.add(element);
-    this.nickNames = changedValue(newCollection);
+    this.nickNames = BuilderSupport.addToList(this.nickNames, element);
     return this;
   }
 
@@ -501,12 +494,7 @@ public class PersonDtoBuilder implements IBuilderBase<PersonDto> {
    */
   public PersonDtoBuilder conditional(BooleanSupplier condition, Consumer<PersonDtoBuilder> trueCase,
       Consumer<PersonDtoBuilder> falseCase) {
-    if (condition.getAsBoolean()) {
-      trueCase.accept(this);
-    } else if (falseCase != null) {
-      falseCase.accept(this);
-    }
-    return this;
+    return BuilderSupport.conditional(this, condition, trueCase, falseCase);
   }
 
   /**
@@ -555,14 +543,8 @@ public class PersonDtoBuilder implements IBuilderBase<PersonDto> {
      * @return the modified instance
      */
     default PersonDto with(Consumer<PersonDtoBuilder> b) {
-      PersonDtoBuilder builder;
-      try {
-        builder = new PersonDtoBuilder(PersonDto.class.cast(this));
-      } catch (ClassCastException ex) {
-        throw new IllegalArgumentException(
-            "The interface 'PersonDtoBuilder.With' should only be implemented by classes, which could be casted to 'PersonDto'",
-            ex);
-      }
+      PersonDtoBuilder builder = new PersonDtoBuilder(
+          BuilderSupport.castWithInstance(this, PersonDto.class, "PersonDtoBuilder.With"));
       b.accept(builder);
       return builder.build();
     }
@@ -573,13 +555,7 @@ public class PersonDtoBuilder implements IBuilderBase<PersonDto> {
      * @return a builder initialized with this instance's values
      */
     default PersonDtoBuilder with() {
-      try {
-        return new PersonDtoBuilder(PersonDto.class.cast(this));
-      } catch (ClassCastException ex) {
-        throw new IllegalArgumentException(
-            "The interface 'PersonDtoBuilder.With' should only be implemented by classes, which could be casted to 'PersonDto'",
-            ex);
-      }
+      return new PersonDtoBuilder(BuilderSupport.castWithInstance(this, PersonDto.class, "PersonDtoBuilder.With"));
     }
   }
 }
\ No newline at end of file
@@ -10,6 +10,7 @@ import javax.annotation.processing.Generated;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.javahelpers.simple.builders.core.annotations.BuilderImplementation;
 import org.javahelpers.simple.builders.core.interfaces.IBuilderBase;
+import org.javahelpers.simple.builders.core.util.BuilderSupport;
 import org.javahelpers.simple.builders.core.util.BuilderToStringStyle;
 import org.javahelpers.simple.builders.core.util.TrackedValue;
 
@@ -347,12 +348,7 @@ public class ProductRecordBuilder implements IBuilderBase<ProductRecord> {
    */
   public ProductRecordBuilder conditional(BooleanSupplier condition, Consumer<ProductRecordBuilder> trueCase,
       Consumer<ProductRecordBuilder> falseCase) {
-    if (condition.getAsBoolean()) {
-      trueCase.accept(this);
-    } else if (falseCase != null) {
-      falseCase.accept(this);
-    }
-    return this;
+    return BuilderSupport.conditional(this, condition, trueCase, falseCase);
   }
 
   /**
@@ -401,14 +397,8 @@ public class ProductRecordBuilder implements IBuilderBase<ProductRecord> {
      * @return the modified instance
      */
     default ProductRecord with(Consumer<ProductRecordBuilder> b) {
-      ProductRecordBuilder builder;
-      try {
-        builder = new ProductRecordBuilder(ProductRecord.class.cast(this));
-      } catch (ClassCastException ex) {
-        throw new IllegalArgumentException(
-            "The interface 'ProductRecordBuilder.With' should only be implemented by classes, which could be casted to 'ProductRecord'",
-            ex);
-      }
+      ProductRecordBuilder builder = new ProductRecordBuilder(
+          BuilderSupport.castWithInstance(this, ProductRecord.class, "ProductRecordBuilder.With"));
       b.accept(builder);
       return builder.build();
     }
@@ -419,13 +409,44 @@ public class ProductRecordBuilder implements IBuilderBase<ProductRecord> {
      * @return a builder initialized with this instance's values
      */
     default ProductRecordBuilder with() {
-      try {
-        return new ProductRecordBuilder(ProductRecord.class.cast(this));
-      } catch (ClassCastException ex) {
-        throw new IllegalArgumentException(
-            "The interface 'ProductRecordBuilder.With' should only be implemented by classes, which could be casted to 'ProductRecord'",
-            ex);
-      }
+      return new ProductRecordBuilder(
+          BuilderSupport.castWithInstance(this, ProductRecord.class, "ProductRecordBuilder.With"));
+    }
+
+    /**
+     * Creates a copy of this instance with a new value for <code>name</code>, calling the constructor directly without
+     * initializing a builder.
+     * 
+     * @param name the new value for <code>name</code>
+     * @return the modified instance
+     */
+    default ProductRecord withName(String name) {
+      ProductRecord self = BuilderSupport.castWithInstance(this, ProductRecord.class, "ProductRecordBuilder.With");
+      return new ProductRecord(name, self.price(), self.category());
+    }
+
+    /**
+     * Creates a copy of this instance with a new value for <code>price</code>, calling the constructor directly without
+     * initializing a builder.
+     * 
+     * @param price the new value for <code>price</code>
+     * @return the modified instance
+     */
+    default ProductRecord withPrice(double price) {
+      ProductRecord self = BuilderSupport.castWithInstance(this, ProductRecord.class, "ProductRecordBuilder.With");
+      return new ProductRecord(self.name(), price, self.category());
+    }
+
+    /**
+     * Creates a copy of this instance with a new value for <code>category</code>, calling the constructor directly
+     * without initializing a builder.
+     * 
+     * @param category the new value for <code>category</code>
+     * @return the modified instance
+     */
+    default ProductRecord withCategory(String category) {
+      ProductRecord self = BuilderSupport.castWithInstance(this, ProductRecord.class, "ProductRecordBuilder.With");
+      return new ProductRecord(self.name(), self.price(), category);
     }
   }
 }
\ No newline at end of file
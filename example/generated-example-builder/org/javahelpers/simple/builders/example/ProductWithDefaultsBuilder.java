@@ -10,6 +10,7 @@ import javax.annotation.processing.Generated;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.javahelpers.simple.builders.core.annotations.BuilderImplementation;
 import org.javahelpers.simple.builders.core.interfaces.IBuilderBase;
+import org.javahelpers.simple.builders.core.util.BuilderSupport;
 import org.javahelpers.simple.builders.core.util.BuilderToStringStyle;
 import org.javahelpers.simple.builders.core.util.TrackedValue;
 
@@ -410,12 +411,7 @@ public class ProductWithDefaultsBuilder implements IBuilderBase<ProductWithDefau
    */
   public ProductWithDefaultsBuilder conditional(BooleanSupplier condition,
       Consumer<ProductWithDefaultsBuilder> trueCase, Consumer<ProductWithDefaultsBuilder> falseCase) {
-    if (condition.getAsBoolean()) {
-      trueCase.accept(this);
-    } else if (falseCase != null) {
-      falseCase.accept(this);
-    }
-    return this;
+    return BuilderSupport.conditional(this, condition, trueCase, falseCase);
   }
 
   /**
@@ -468,14 +464,8 @@ public class ProductWithDefaultsBuilder implements IBuilderBase<ProductWithDefau
      * @return the modified instance
      */
     default ProductWithDefaults with(Consumer<ProductWithDefaultsBuilder> b) {
-      ProductWithDefaultsBuilder builder;
-      try {
-        builder = new ProductWithDefaultsBuilder(ProductWithDefaults.class.cast(this));
-      } catch (ClassCastException ex) {
-        throw new IllegalArgumentException(
-            "The interface 'ProductWithDefaultsBuilder.With' should only be implemented by classes, which could be casted to 'ProductWithDefaults'",
-            ex);
-      }
+      ProductWithDefaultsBuilder builder = new ProductWithDefaultsBuilder(
+          BuilderSupport.castWithInstance(this, ProductWithDefaults.class, "ProductWithDefaultsBuilder.With"));
       b.accept(builder);
       return builder.build();
     }
@@ -486,13 +476,60 @@ public class ProductWithDefaultsBuilder implements IBuilderBase<ProductWithDefau
      * @return a builder initialized with this instance's values
      */
     default ProductWithDefaultsBuilder with() {
-      try {
-        return new ProductWithDefaultsBuilder(ProductWithDefaults.class.cast(this));
-      } catch (ClassCastException ex) {
-        throw new IllegalArgumentException(
-            "The interface 'ProductWithDefaultsBuilder.With' should only be implemented by classes, which could be casted to 'ProductWithDefaults'",
-            ex);
-      }
+      return new ProductWithDefaultsBuilder(
+          BuilderSupport.castWithInstance(this, ProductWithDefaults.class, "ProductWithDefaultsBuilder.With"));
+    }
+
+    /**
+     * Creates a copy of this instance with a new value for <code>name</code>, calling the constructor directly without
+     * initializing a builder.
+     * 
+     * @param name the new value for <code>name</code>
+     * @return the modified instance
+     */
+    default ProductWithDefaults withName(String name) {
+      ProductWithDefaults self = BuilderSupport.castWithInstance(this, ProductWithDefaults.class,
+          "ProductWithDefaultsBuilder.With");
+      return new ProductWithDefaults(name, self.price(), self.category(), self.active());
+    }
+
+    /**
+     * Creates a copy of this instance with a new value for <code>price</code>, calling the constructor directly without
+     * initializing a builder.
+     * 
+     * @param price the new value for <code>price</code>
+     * @return the modified instance
+     */
+    default ProductWithDefaults withPrice(double price) {
+      ProductWithDefaults self = BuilderSupport.castWithInstance(this, ProductWithDefaults.class,
+          "ProductWithDefaultsBuilder.With");
+      return new ProductWithDefaults(self.name(), price, self.category(), self.active());
+    }
+
+    /**
+     * Creates a copy of this instance with a new value for <code>category</code>, calling the constructor directly
+     * without initializing a builder.
+     * 
+     * @param category the new value for <code>category</code>
+     * @return the modified instance
+     */
+    default ProductWithDefaults withCategory(String category) {
+      ProductWithDefaults self = BuilderSupport.castWithInstance(this, ProductWithDefaults.class,
+          "ProductWithDefaultsBuilder.With");
+      return new ProductWithDefaults(self.name(), self.price(), category, self.active());
+    }
+
+    /**
+     * Creates a copy of this instance with a new value for <code>active</code>, calling the constructor directly
+     * without initializing a builder.
+     * 
+     * @param active the new value for <code>active</code>
+     * @return the modified instance
+     */
+    default ProductWithDefaults withActive(boolean active) {
+      ProductWithDefaults self = BuilderSupport.castWithInstance(this, ProductWithDefaults.class,
+          "ProductWithDefaultsBuilder.With");
+      return new ProductWithDefaults(self.name(), self.price(), self.category(), active);
     }
   }
 }
\ No newline at end of file
@@ -0,0 +1,527 @@
+package org.javahelpers.simple.builders.example;
+
+import static org.javahelpers.simple.builders.core.util.TrackedValue.changedValue;
+import static org.javahelpers.simple.builders.core.util.TrackedValue.initialValue;
+import static org.javahelpers.simple.builders.core.util.TrackedValue.unsetValue;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import javax.annotation.processing.Generated;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.javahelpers.simple.builders.core.annotations.BuilderImplementation;
+import org.javahelpers.simple.builders.core.interfaces.IBuilderBase;
+import org.javahelpers.simple.builders.core.util.BuilderSupport;
+import org.javahelpers.simple.builders.core.util.BuilderToStringStyle;
+import org.javahelpers.simple.builders.core.util.TrackedValue;
+
+/**
+ * Builder for {@code org.javahelpers.simple.builders.example.Quote}.
+ * <p>
+ * This builder provides a fluent API for creating instances of org.javahelpers.simple.builders.example.Quote with
+ * method chaining and validation. Use the static {@code create()} method to obtain a new builder instance, configure
+ * the desired properties using the setter methods, and then call {@code build()} to create the final DTO.
+ * 
+ * <h4>Example:</h4>
+ * 
+ * <pre>{@code
+ * Quote result = QuoteBuilder.create()
+ *     .instrumentId(42L)
+ *     .instrumentId(() -> 42L)
+ *     .bid(3.14)
+ *     .bid(() -> 3.14)
+ *     .ask(3.14)
+ *     .ask(() -> 3.14)
+ *     .volume(42)
+ *     .volume(() -> 42)
+ *     .venue("example value")
+ *     .venue("Hello %s", "World")
+ *     .venue(() -> "example value")
+ *     .venue(sb -> sb.append("text"))
+ *     .build();
+ * }</pre>
+ */
+@Generated("Generated by org.javahelpers.simple.builders.processor.BuilderProcessor")
+@BuilderImplementation(forClass = Quote.class)
+public class QuoteBuilder implements IBuilderBase<Quote> {
+
+  /**
+   * Tracked value for <code>instrumentId</code>: identifier of the instrument.
+   */
+  private TrackedValue<Long> instrumentId = unsetValue();
+  /**
+   * Tracked value for <code>bid</code>: best bid price.
+   */
+  private TrackedValue<Double> bid = unsetValue();
+  /**
+   * Tracked value for <code>ask</code>: best ask price.
+   */
+  private TrackedValue<Double> ask = unsetValue();
+  /**
+   * Tracked value for <code>volume</code>: traded volume.
+   */
+  private TrackedValue<Integer> volume = unsetValue();
+  /**
+   * Tracked value for <code>venue</code>: name of the trading venue.
+   */
+  private TrackedValue<String> venue = unsetValue();
+
+  /**
+   * Empty constructor of builder for {@code org.javahelpers.simple.builders.example.Quote}.
+   */
+  public QuoteBuilder() {
+  }
+
+  /**
+   * Initialisation of builder for {@code org.javahelpers.simple.builders.example.Quote} by a instance.
+   * 
+   * @param instance object instance for initialisiation
+   */
+  public QuoteBuilder(Quote instance) {
+    this.instrumentId = initialValue(instance.instrumentId());
+    this.bid = initialValue(instance.bid());
+    this.ask = initialValue(instance.ask());
+    this.volume = initialValue(instance.volume());
+    this.venue = initialValue(instance.venue());
+  }
+
+  /**
+   * Creating a new builder for {@code org.javahelpers.simple.builders.example.Quote}.
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * QuoteBuilder builder = QuoteBuilder.create();
+   * }</pre>
+   * 
+   * @return builder for {@code org.javahelpers.simple.builders.example.Quote}
+   */
+  public static QuoteBuilder create() {
+    return new QuoteBuilder();
+  }
+
+  /**
+   * Sets the value for <code>ask</code>.
+   * <p>
+   * Generated from parameter in constructor {@link Quote#Quote(long, double, double, int, String) Quote(long
+   * instrumentId, double bid, double ask, int volume, String venue)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.ask(3.14);
+   * }</pre>
+   * 
+   * @param ask best ask price
+   * @return current instance of builder
+   */
+  public QuoteBuilder ask(double ask) {
+    this.ask = changedValue(ask);
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>ask</code> by invoking the provided supplier.
+   * <p>
+   * Generated from parameter in constructor {@link Quote#Quote(long, double, double, int, String) Quote(long
+   * instrumentId, double bid, double ask, int volume, String venue)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.ask(() -> 3.14);
+   * }</pre>
+   * 
+   * @param askSupplier supplier for best ask price
+   * @return current instance of builder
+   */
+  public QuoteBuilder ask(Supplier<Double> askSupplier) {
+    this.ask = changedValue(askSupplier.get());
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>bid</code>.
+   * <p>
+   * Generated from parameter in constructor {@link Quote#Quote(long, double, double, int, String) Quote(long
+   * instrumentId, double bid, double ask, int volume, String venue)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.bid(3.14);
+   * }</pre>
+   * 
+   * @param bid best bid price
+   * @return current instance of builder
+   */
+  public QuoteBuilder bid(double bid) {
+    this.bid = changedValue(bid);
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>bid</code> by invoking the provided supplier.
+   * <p>
+   * Generated from parameter in constructor {@link Quote#Quote(long, double, double, int, String) Quote(long
+   * instrumentId, double bid, double ask, int volume, String venue)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.bid(() -> 3.14);
+   * }</pre>
+   * 
+   * @param bidSupplier supplier for best bid price
+   * @return current instance of builder
+   */
+  public QuoteBuilder bid(Supplier<Double> bidSupplier) {
+    this.bid = changedValue(bidSupplier.get());
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>instrumentId</code>.
+   * <p>
+   * Generated from parameter in constructor {@link Quote#Quote(long, double, double, int, String) Quote(long
+   * instrumentId, double bid, double ask, int volume, String venue)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.instrumentId(42L);
+   * }</pre>
+   * 
+   * @param instrumentId identifier of the instrument
+   * @return current instance of builder
+   */
+  public QuoteBuilder instrumentId(long instrumentId) {
+    this.instrumentId = changedValue(instrumentId);
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>instrumentId</code> by invoking the provided supplier.
+   * <p>
+   * Generated from parameter in constructor {@link Quote#Quote(long, double, double, int, String) Quote(long
+   * instrumentId, double bid, double ask, int volume, String venue)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.instrumentId(() -> 42L);
+   * }</pre>
+   * 
+   * @param instrumentIdSupplier supplier for identifier of the instrument
+   * @return current instance of builder
+   */
+  public QuoteBuilder instrumentId(Supplier<Long> instrumentIdSupplier) {
+    this.instrumentId = changedValue(instrumentIdSupplier.get());
+    return this;
+  }
+
+  /**
+   * Validates that the venue field is not null or empty.
+   * <p>
+   * Generated from parameter in constructor {@link Quote#Quote(long, double, double, int, String) Quote(long
+   * instrumentId, double bid, double ask, int volume, String venue)}
+   * 
+   * @return this builder instance for chaining
+   * @throws IllegalArgumentException if venue is null or empty
+   */
+  QuoteBuilder validateVenue() {
+    if (!venue.isSet() || venue.value().trim().isEmpty()) {
+      throw new IllegalArgumentException("Venue cannot be null or empty");
+    }
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>venue</code>.
+   * <p>
+   * Generated from parameter in constructor {@link Quote#Quote(long, double, double, int, String) Quote(long
+   * instrumentId, double bid, double ask, int volume, String venue)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.venue("example value");
+   * }</pre>
+   * 
+   * @param venue name of the trading venue
+   * @return current instance of builder
+   */
+  public QuoteBuilder venue(String venue) {
+    this.venue = changedValue(venue);
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>venue</code> by executing the provided consumer.
+   * <p>
+   * Generated from parameter in constructor {@link Quote#Quote(long, double, double, int, String) Quote(long
+   * instrumentId, double bid, double ask, int volume, String venue)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.venue(sb -> sb.append("text"));
+   * }</pre>
+   * 
+   * @param venueStringBuilderConsumer consumer providing an instance of name of the trading venue
+   * @return current instance of builder
+   */
+  public QuoteBuilder venue(Consumer<StringBuilder> venueStringBuilderConsumer) {
+    StringBuilder builder = new StringBuilder();
+    venueStringBuilderConsumer.accept(builder);
+    this.venue = changedValue(builder.toString());
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>venue</code> by invoking the provided supplier.
+   * <p>
+   * Generated from parameter in constructor {@link Quote#Quote(long, double, double, int, String) Quote(long
+   * instrumentId, double bid, double ask, int volume, String venue)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.venue(() -> "example value");
+   * }</pre>
+   * 
+   * @param venueSupplier supplier for name of the trading venue
+   * @return current instance of builder
+   */
+  public QuoteBuilder venue(Supplier<String> venueSupplier) {
+    this.venue = changedValue(venueSupplier.get());
+    return this;
+  }
+
+  /**
+   * Sets the String value for <code>venue</code> by using String.format(format, args). See
+   * {@link String#format(String, Object...)} for details.
+   * <p>
+   * Generated from parameter in constructor {@link Quote#Quote(long, double, double, int, String) Quote(long
+   * instrumentId, double bid, double ask, int volume, String venue)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.venue("Hello %s", "World");
+   * }</pre>
+   * 
+   * @param format A format string
+   * @param args Arguments referenced by the format specifiers in the format string.
+   * @return current instance of builder
+   */
+  public QuoteBuilder venue(String format, Object... args) {
+    this.venue = changedValue(String.format(format, args));
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>volume</code>.
+   * <p>
+   * Generated from parameter in constructor {@link Quote#Quote(long, double, double, int, String) Quote(long
+   * instrumentId, double bid, double ask, int volume, String venue)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.volume(42);
+   * }</pre>
+   * 
+   * @param volume traded volume
+   * @return current instance of builder
+   */
+  public QuoteBuilder volume(int volume) {
+    this.volume = changedValue(volume);
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>volume</code> by invoking the provided supplier.
+   * <p>
+   * Generated from parameter in constructor {@link Quote#Quote(long, double, double, int, String) Quote(long
+   * instrumentId, double bid, double ask, int volume, String venue)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.volume(() -> 42);
+   * }</pre>
+   * 
+   * @param volumeSupplier supplier for traded volume
+   * @return current instance of builder
+   */
+  public QuoteBuilder volume(Supplier<Integer> volumeSupplier) {
+    this.volume = changedValue(volumeSupplier.get());
+    return this;
+  }
+
+  /**
+   * Conditionally applies builder modifications if the condition is true.
+   * 
+   * @param condition the condition to evaluate
+   * @param yesCondition the consumer to apply if condition is true
+   * @return this builder instance
+   */
+  public QuoteBuilder conditional(BooleanSupplier condition, Consumer<QuoteBuilder> yesCondition) {
+    return conditional(condition, yesCondition, null);
+  }
+
+  /**
+   * Conditionally applies builder modifications based on a condition evaluation.
+   * 
+   * @param condition the condition to evaluate
+   * @param trueCase the consumer to apply if condition is true
+   * @param falseCase the consumer to apply if condition is false (can be null)
+   * @return this builder instance
+   */
+  public QuoteBuilder conditional(BooleanSupplier condition, Consumer<QuoteBuilder> trueCase,
+      Consumer<QuoteBuilder> falseCase) {
+    return BuilderSupport.conditional(this, condition, trueCase, falseCase);
+  }
+
+  /**
+   * Builds the configured DTO instance.
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * Quote result = builder.build();
+   * }</pre>
+   */
+  @Override
+  public Quote build() {
+    if (!this.instrumentId.isSet()) {
+      throw new IllegalStateException("Required field 'instrumentId' must be set before calling build()");
+    }
+    if (this.instrumentId.value() == null) {
+      throw new IllegalStateException("Field 'instrumentId' is marked as non-null but null value was provided");
+    }
+    if (!this.bid.isSet()) {
+      throw new IllegalStateException("Required field 'bid' must be set before calling build()");
+    }
+    if (this.bid.value() == null) {
+      throw new IllegalStateException("Field 'bid' is marked as non-null but null value was provided");
+    }
+    if (!this.ask.isSet()) {
+      throw new IllegalStateException("Required field 'ask' must be set before calling build()");
+    }
+    if (this.ask.value() == null) {
+      throw new IllegalStateException("Field 'ask' is marked as non-null but null value was provided");
+    }
+    if (!this.volume.isSet()) {
+      throw new IllegalStateException("Required field 'volume' must be set before calling build()");
+    }
+    if (this.volume.value() == null) {
+      throw new IllegalStateException("Field 'volume' is marked as non-null but null value was provided");
+    }
+    Quote result = new Quote(this.instrumentId
+        .value(), this.bid.value(), this.ask.value(), this.volume.value(), this.venue.value());
+    return result;
+  }
+
+  /**
+   * Returns a string representation of this builder, including only fields that have been set.
+   * 
+   * @return string representation of the builder
+   */
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this, BuilderToStringStyle.INSTANCE).append("instrumentId", this.instrumentId)
+        .append("bid", this.bid)
+        .append("ask", this.ask)
+        .append("volume", this.volume)
+        .append("venue", this.venue)
+        .toString();
+  }
+
+  /**
+   * Interface that can be implemented by the DTO to provide fluent modification methods.
+   */
+  public interface With {
+    /**
+     * Initializes a builder from an instance of this class, using methods of this builder to change values and returns
+     * the new built object.
+     * 
+     * @param b the consumer to apply modifications
+     * @return the modified instance
+     */
+    default Quote with(Consumer<QuoteBuilder> b) {
+      QuoteBuilder builder = new QuoteBuilder(BuilderSupport.castWithInstance(this, Quote.class, "QuoteBuilder.With"));
+      b.accept(builder);
+      return builder.build();
+    }
+
+    /**
+     * Creates a builder initialized from this instance.
+     * 
+     * @return a builder initialized with this instance's values
+     */
+    default QuoteBuilder with() {
+      return new QuoteBuilder(BuilderSupport.castWithInstance(this, Quote.class, "QuoteBuilder.With"));
+    }
+
+    /**
+     * Creates a copy of this instance with a new value for <code>instrumentId</code>, calling the constructor directly
+     * without initializing a builder.
+     * 
+     * @param instrumentId the new value for <code>instrumentId</code>
+     * @return the modified instance
+     */
+    default Quote withInstrumentId(long instrumentId) {
+      Quote self = BuilderSupport.castWithInstance(this, Quote.class, "QuoteBuilder.With");
+      return new Quote(instrumentId, self.bid(), self.ask(), self.volume(), self.venue());
+    }
+
+    /**
+     * Creates a copy of this instance with a new value for <code>bid</code>, calling the constructor directly without
+     * initializing a builder.
+     * 
+     * @param bid the new value for <code>bid</code>
+     * @return the modified instance
+     */
+    default Quote withBid(double bid) {
+      Quote self = BuilderSupport.castWithInstance(this, Quote.class, "QuoteBuilder.With");
+      return new Quote(self.instrumentId(), bid, self.ask(), self.volume(), self.venue());
+    }
+
+    /**
+     * Creates a copy of this instance with a new value for <code>ask</code>, calling the constructor directly without
+     * initializing a builder.
+     * 
+     * @param ask the new value for <code>ask</code>
+     * @return the modified instance
+     */
+    default Quote withAsk(double ask) {
+      Quote self = BuilderSupport.castWithInstance(this, Quote.class, "QuoteBuilder.With");
+      return new Quote(self.instrumentId(), self.bid(), ask, self.volume(), self.venue());
+    }
+
+    /**
+     * Creates a copy of this instance with a new value for <code>volume</code>, calling the constructor directly
+     * without initializing a builder.
+     * 
+     * @param volume the new value for <code>volume</code>
+     * @return the modified instance
+     */
+    default Quote withVolume(int volume) {
+      Quote self = BuilderSupport.castWithInstance(this, Quote.class, "QuoteBuilder.With");
+      return new Quote(self.instrumentId(), self.bid(), self.ask(), volume, self.venue());
+    }
+
+    /**
+     * Creates a copy of this instance with a new value for <code>venue</code>, calling the constructor directly without
+     * initializing a builder.
+     * 
+     * @param venue the new value for <code>venue</code>
+     * @return the modified instance
+     */
+    default Quote withVenue(String venue) {
+      Quote self = BuilderSupport.castWithInstance(this, Quote.class, "QuoteBuilder.With");
+      return new Quote(self.instrumentId(), self.bid(), self.ask(), self.volume(), venue);
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,160 @@
+package org.javahelpers.simple.builders.example;
+
+import java.nio.ByteBuffer;
+import javax.annotation.processing.Generated;
+import org.javahelpers.simple.builders.core.util.FlyweightLayout;
+
+/**
+ * Flyweight view on records of {@code org.javahelpers.simple.builders.example.Quote} stored in a
+ * <code>ByteBuffer</code>. Fields are read lazily at precomputed offsets, {@link #toDto()} converts to the DTO via
+ * {@link QuoteBuilder}. The layout changes with the fields of the DTO, do not use it for persistent data.
+ */
+@Generated("Generated by org.javahelpers.simple.builders.processor.BuilderProcessor")
+public class QuoteView {
+
+  /**
+   * Size of the fixed-width part of a record in bytes, the minimal size of a record.
+   */
+  public static final int FIXED_SIZE = 36;
+  private static final int OFFSET_INSTRUMENT_ID = 0;
+  private static final int OFFSET_BID = 8;
+  private static final int OFFSET_ASK = 16;
+  private static final int OFFSET_VOLUME = 24;
+  private static final int OFFSET_VENUE = 28;
+  /**
+   * Buffer holding the record.
+   */
+  private ByteBuffer buffer;
+  /**
+   * Absolute offset of the record in the buffer.
+   */
+  private int offset;
+
+  /**
+   * Moves this view to the record at the given offset. No data is read or copied.
+   * 
+   * @param buffer the buffer holding the record
+   * @param offset the absolute offset of the record in the buffer
+   * @return this view
+   */
+  public QuoteView wrap(ByteBuffer buffer, int offset) {
+    this.buffer = buffer;
+    this.offset = offset;
+    return this;
+  }
+
+  /**
+   * Returns the absolute offset of the current record in the buffer.
+   * 
+   * @return the offset of the record
+   */
+  public int offset() {
+    return offset;
+  }
+
+  /**
+   * Returns the size of the current record including the data of its variable-length fields. Records written back to
+   * back start at <code>offset() + recordSize()</code>.
+   * 
+   * @return the size of the record in bytes
+   */
+  public int recordSize() {
+    return FIXED_SIZE + FlyweightLayout.dataLength(buffer, offset, OFFSET_VENUE);
+  }
+
+  /**
+   * Reads <code>ask</code> of the current record.
+   * 
+   * @return best ask price
+   */
+  public double ask() {
+    return buffer.getDouble(offset + OFFSET_ASK);
+  }
+
+  /**
+   * Reads <code>bid</code> of the current record.
+   * 
+   * @return best bid price
+   */
+  public double bid() {
+    return buffer.getDouble(offset + OFFSET_BID);
+  }
+
+  /**
+   * Reads <code>instrumentId</code> of the current record.
+   * 
+   * @return identifier of the instrument
+   */
+  public long instrumentId() {
+    return buffer.getLong(offset + OFFSET_INSTRUMENT_ID);
+  }
+
+  /**
+   * Reads <code>venue</code> of the current record.
+   * 
+   * @return name of the trading venue
+   */
+  public String venue() {
+    return FlyweightLayout.getString(buffer, offset, OFFSET_VENUE);
+  }
+
+  /**
+   * Reads <code>volume</code> of the current record.
+   * 
+   * @return traded volume
+   */
+  public int volume() {
+    return buffer.getInt(offset + OFFSET_VOLUME);
+  }
+
+  /**
+   * Reads all fields of the current record into a new DTO via the builder.
+   * 
+   * @return the DTO on the heap
+   */
+  public Quote toDto() {
+    return new QuoteBuilder().instrumentId(instrumentId())
+        .bid(bid())
+        .ask(ask())
+        .volume(volume())
+        .venue(venue())
+        .build();
+  }
+
+  /**
+   * Writes a DTO as record into the buffer.
+   * 
+   * @param value the DTO to write
+   * @param buffer the buffer to write to, its position is not changed
+   * @param offset the absolute offset of the record in the buffer
+   * @return the size of the written record in bytes
+   * @throws IndexOutOfBoundsException if the buffer is too small
+   */
+  public static int write(Quote value, ByteBuffer buffer, int offset) {
+    return write(buffer, offset, value.instrumentId(), value.bid(), value.ask(), value.volume(), value.venue());
+  }
+
+  /**
+   * Writes the field values as record into the buffer, without creating a DTO first.
+   * 
+   * @param buffer the buffer to write to, its position is not changed
+   * @param offset the absolute offset of the record in the buffer
+   * @param instrumentId identifier of the instrument
+   * @param bid best bid price
+   * @param ask best ask price
+   * @param volume traded volume
+   * @param venue name of the trading venue
+   * @return the size of the written record in bytes
+   * @throws IndexOutOfBoundsException if the buffer is too small
+   */
+  public static int write(ByteBuffer buffer, int offset, long instrumentId, double bid, double ask, int volume,
+      String venue) {
+    int end = FIXED_SIZE;
+    buffer.putLong(offset + OFFSET_INSTRUMENT_ID, instrumentId);
+    buffer.putDouble(offset + OFFSET_BID, bid);
+    buffer.putDouble(offset + OFFSET_ASK, ask);
+    buffer.putInt(offset + OFFSET_VOLUME, volume);
+    end = FlyweightLayout.putString(buffer, offset, OFFSET_VENUE, end, venue);
+    return end;
+  }
+}
\ No newline at end of file
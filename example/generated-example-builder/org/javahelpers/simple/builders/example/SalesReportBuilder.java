@@ -0,0 +1,703 @@
+package org.javahelpers.simple.builders.example;
+
+import static org.javahelpers.simple.builders.core.util.TrackedValue.changedValue;
+import static org.javahelpers.simple.builders.core.util.TrackedValue.initialValue;
+import static org.javahelpers.simple.builders.core.util.TrackedValue.unsetValue;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+import javax.annotation.processing.Generated;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.javahelpers.simple.builders.core.annotations.BuilderImplementation;
+import org.javahelpers.simple.builders.core.builders.ArrayListBuilder;
+import org.javahelpers.simple.builders.core.builders.HashMapBuilder;
+import org.javahelpers.simple.builders.core.builders.HashSetBuilder;
+import org.javahelpers.simple.builders.core.interfaces.IBuilderBase;
+import org.javahelpers.simple.builders.core.util.BuilderSupport;
+import org.javahelpers.simple.builders.core.util.BuilderToStringStyle;
+import org.javahelpers.simple.builders.core.util.TrackedValue;
+
+/**
+ * Builder for {@code org.javahelpers.simple.builders.example.SalesReport}.
+ * <p>
+ * This builder provides a fluent API for creating instances of org.javahelpers.simple.builders.example.SalesReport with
+ * method chaining and validation. Use the static {@code create()} method to obtain a new builder instance, configure
+ * the desired properties using the setter methods, and then call {@code build()} to create the final DTO.
+ * 
+ * <h4>Example:</h4>
+ * 
+ * <pre>{@code
+ * SalesReport result = SalesReportBuilder.create()
+ *     .region("example value")
+ *     .region("Hello %s", "World")
+ *     .region(() -> "example value")
+ *     .region(sb -> sb.append("text"))
+ *     .orderIds(List.of("example value"))
+ *     .orderIds(() -> List.of("example value"))
+ *     .orderIds(t -> t.add("example value"))
+ *     .orderIds("example value", "example value")
+ *     .add2OrderIds("example value")
+ *     .customers(Set.of("example value"))
+ *     .customers(() -> Set.of("example value"))
+ *     .customers(t -> t.add("example value"))
+ *     .customers("example value", "example value")
+ *     .add2Customers("example value")
+ *     .productNames(Map.of("example value", "example value"))
+ *     .productNames(() -> Map.of("example value", "example value"))
+ *     .productNames(Map.entry("key", "example value"))
+ *     .build();
+ * }</pre>
+ */
+@Generated("Generated by org.javahelpers.simple.builders.processor.BuilderProcessor")
+@BuilderImplementation(forClass = SalesReport.class)
+public class SalesReportBuilder implements IBuilderBase<SalesReport> {
+
+  /**
+   * Tracked value for <code>region</code>: the region of the report.
+   */
+  private TrackedValue<String> region = unsetValue();
+  /**
+   * Tracked value for <code>orderIds</code>: identifiers of all orders, in encounter order.
+   */
+  private TrackedValue<List<String>> orderIds = unsetValue();
+  /**
+   * Tracked value for <code>customers</code>: distinct customers.
+   */
+  private TrackedValue<Set<String>> customers = unsetValue();
+  /**
+   * Tracked value for <code>productNames</code>: names of the ordered products by product number.
+   */
+  private TrackedValue<Map<String, String>> productNames = unsetValue();
+
+  /**
+   * Empty constructor of builder for {@code org.javahelpers.simple.builders.example.SalesReport}.
+   */
+  public SalesReportBuilder() {
+  }
+
+  /**
+   * Initialisation of builder for {@code org.javahelpers.simple.builders.example.SalesReport} by a instance.
+   * 
+   * @param instance object instance for initialisiation
+   */
+  public SalesReportBuilder(SalesReport instance) {
+    this.region = initialValue(instance.region());
+    this.orderIds = initialValue(instance.orderIds());
+    this.customers = initialValue(instance.customers());
+    this.productNames = initialValue(instance.productNames());
+  }
+
+  /**
+   * Creating a new builder for {@code org.javahelpers.simple.builders.example.SalesReport}.
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * SalesReportBuilder builder = SalesReportBuilder.create();
+   * }</pre>
+   * 
+   * @return builder for {@code org.javahelpers.simple.builders.example.SalesReport}
+   */
+  public static SalesReportBuilder create() {
+    return new SalesReportBuilder();
+  }
+
+  /**
+   * Returns a collector filling a builder with the elements of a stream. Parallel streams fill one builder per thread,
+   * which are combined with {@link #merge(SalesReportBuilder)} in encounter order.
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * SalesReport result = elements.parallelStream().collect(SalesReportBuilder.collector(accumulator)).build();
+   * }</pre>
+   * 
+   * @param accumulator function applying a stream element to a builder
+   * @param <T> the type of the stream elements
+   * @return collector creating a builder
+   */
+  public static <T> Collector<T, ?, SalesReportBuilder> collector(BiConsumer<SalesReportBuilder, T> accumulator) {
+    Objects.requireNonNull(accumulator, "accumulator");
+    return Collector.of(SalesReportBuilder::new, accumulator, SalesReportBuilder::merge);
+  }
+
+  /**
+   * Adds a single element to <code>customers</code>.
+   * <p>
+   * Generated from parameter in constructor {@link SalesReport#SalesReport(String, List, Set, Map) SalesReport(String
+   * region, List<String> orderIds, Set<String> customers, Map<String, String> productNames)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.add2Customers("example value");
+   * }</pre>
+   * 
+   * @param element the element to add
+   * @return current instance of builder
+   */
+  public SalesReportBuilder add2Customers(String element) {
+    this.customers = BuilderSupport.addToSet(this.customers, element);
+    return this;
+  }
+
+  /**
+   * Adds a single element to <code>orderIds</code>.
+   * <p>
+   * Generated from parameter in constructor {@link SalesReport#SalesReport(String, List, Set, Map) SalesReport(String
+   * region, List<String> orderIds, Set<String> customers, Map<String, String> productNames)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.add2OrderIds("example value");
+   * }</pre>
+   * 
+   * @param element the element to add
+   * @return current instance of builder
+   */
+  public SalesReportBuilder add2OrderIds(String element) {
+    this.orderIds = BuilderSupport.addToList(this.orderIds, element);
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>customers</code>.
+   * <p>
+   * Generated from parameter in constructor {@link SalesReport#SalesReport(String, List, Set, Map) SalesReport(String
+   * region, List<String> orderIds, Set<String> customers, Map<String, String> productNames)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.customers("example value", "example value");
+   * }</pre>
+   * 
+   * @param customers distinct customers
+   * @return current instance of builder
+   */
+  public SalesReportBuilder customers(String... customers) {
+    this.customers = changedValue(Set.of(customers));
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>customers</code>.
+   * <p>
+   * Generated from parameter in constructor {@link SalesReport#SalesReport(String, List, Set, Map) SalesReport(String
+   * region, List<String> orderIds, Set<String> customers, Map<String, String> productNames)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.customers(Set.of("example value"));
+   * }</pre>
+   * 
+   * @param customers distinct customers
+   * @return current instance of builder
+   */
+  public SalesReportBuilder customers(Set<String> customers) {
+    this.customers = changedValue(customers);
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>customers</code> using a builder consumer that produces the value.
+   * <p>
+   * Generated from parameter in constructor {@link SalesReport#SalesReport(String, List, Set, Map) SalesReport(String
+   * region, List<String> orderIds, Set<String> customers, Map<String, String> productNames)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.customers(t -> t.add("example value"));
+   * }</pre>
+   * 
+   * @param customersBuilderConsumer consumer providing an instance of a builder for distinct customers
+   * @return current instance of builder
+   */
+  public SalesReportBuilder customers(Consumer<HashSetBuilder<String>> customersBuilderConsumer) {
+    HashSetBuilder<String> builder = this.customers.isSet()
+        ? new HashSetBuilder<String>(this.customers.value())
+        : new HashSetBuilder<String>();
+    customersBuilderConsumer.accept(builder);
+    this.customers = changedValue(builder.build());
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>customers</code> by invoking the provided supplier.
+   * <p>
+   * Generated from parameter in constructor {@link SalesReport#SalesReport(String, List, Set, Map) SalesReport(String
+   * region, List<String> orderIds, Set<String> customers, Map<String, String> productNames)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.customers(() -> Set.of("example value"));
+   * }</pre>
+   * 
+   * @param customersSupplier supplier for distinct customers
+   * @return current instance of builder
+   */
+  public SalesReportBuilder customers(Supplier<Set<String>> customersSupplier) {
+    this.customers = changedValue(customersSupplier.get());
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>orderIds</code>.
+   * <p>
+   * Generated from parameter in constructor {@link SalesReport#SalesReport(String, List, Set, Map) SalesReport(String
+   * region, List<String> orderIds, Set<String> customers, Map<String, String> productNames)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.orderIds("example value", "example value");
+   * }</pre>
+   * 
+   * @param orderIds identifiers of all orders, in encounter order
+   * @return current instance of builder
+   */
+  public SalesReportBuilder orderIds(String... orderIds) {
+    this.orderIds = changedValue(List.of(orderIds));
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>orderIds</code>.
+   * <p>
+   * Generated from parameter in constructor {@link SalesReport#SalesReport(String, List, Set, Map) SalesReport(String
+   * region, List<String> orderIds, Set<String> customers, Map<String, String> productNames)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.orderIds(List.of("example value"));
+   * }</pre>
+   * 
+   * @param orderIds identifiers of all orders, in encounter order
+   * @return current instance of builder
+   */
+  public SalesReportBuilder orderIds(List<String> orderIds) {
+    this.orderIds = changedValue(orderIds);
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>orderIds</code> using a builder consumer that produces the value.
+   * <p>
+   * Generated from parameter in constructor {@link SalesReport#SalesReport(String, List, Set, Map) SalesReport(String
+   * region, List<String> orderIds, Set<String> customers, Map<String, String> productNames)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.orderIds(t -> t.add("example value"));
+   * }</pre>
+   * 
+   * @param orderIdsBuilderConsumer consumer providing an instance of a builder for identifiers of all orders, in
+   * encounter order
+   * @return current instance of builder
+   */
+  public SalesReportBuilder orderIds(Consumer<ArrayListBuilder<String>> orderIdsBuilderConsumer) {
+    ArrayListBuilder<String> builder = this.orderIds.isSet()
+        ? new ArrayListBuilder<String>(this.orderIds.value())
+        : new ArrayListBuilder<String>();
+    orderIdsBuilderConsumer.accept(builder);
+    this.orderIds = changedValue(builder.build());
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>orderIds</code> by invoking the provided supplier.
+   * <p>
+   * Generated from parameter in constructor {@link SalesReport#SalesReport(String, List, Set, Map) SalesReport(String
+   * region, List<String> orderIds, Set<String> customers, Map<String, String> productNames)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.orderIds(() -> List.of("example value"));
+   * }</pre>
+   * 
+   * @param orderIdsSupplier supplier for identifiers of all orders, in encounter order
+   * @return current instance of builder
+   */
+  public SalesReportBuilder orderIds(Supplier<List<String>> orderIdsSupplier) {
+    this.orderIds = changedValue(orderIdsSupplier.get());
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>productNames</code>.
+   * <p>
+   * Generated from parameter in constructor {@link SalesReport#SalesReport(String, List, Set, Map) SalesReport(String
+   * region, List<String> orderIds, Set<String> customers, Map<String, String> productNames)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.productNames(Map.entry("key", "example value"));
+   * }</pre>
+   * 
+   * @param productNames names of the ordered products by product number
+   * @return current instance of builder
+   */
+  public SalesReportBuilder productNames(Entry<String, String>... productNames) {
+    this.productNames = changedValue(Map.ofEntries(productNames));
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>productNames</code>.
+   * <p>
+   * Generated from parameter in constructor {@link SalesReport#SalesReport(String, List, Set, Map) SalesReport(String
+   * region, List<String> orderIds, Set<String> customers, Map<String, String> productNames)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.productNames(Map.of("example value", "example value"));
+   * }</pre>
+   * 
+   * @param productNames names of the ordered products by product number
+   * @return current instance of builder
+   */
+  public SalesReportBuilder productNames(Map<String, String> productNames) {
+    this.productNames = changedValue(productNames);
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>productNames</code> using a builder consumer that produces the value.
+   * <p>
+   * Generated from parameter in constructor {@link SalesReport#SalesReport(String, List, Set, Map) SalesReport(String
+   * region, List<String> orderIds, Set<String> customers, Map<String, String> productNames)}
+   * 
+   * @param productNamesBuilderConsumer consumer providing an instance of a builder for names of the ordered products by
+   * product number
+   * @return current instance of builder
+   */
+  public SalesReportBuilder productNames(Consumer<HashMapBuilder<String, String>> productNamesBuilderConsumer) {
+    HashMapBuilder<String, String> builder = this.productNames.isSet()
+        ? new HashMapBuilder<String, String>(this.productNames.value())
+        : new HashMapBuilder<String, String>();
+    productNamesBuilderConsumer.accept(builder);
+    this.productNames = changedValue(builder.build());
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>productNames</code> by invoking the provided supplier.
+   * <p>
+   * Generated from parameter in constructor {@link SalesReport#SalesReport(String, List, Set, Map) SalesReport(String
+   * region, List<String> orderIds, Set<String> customers, Map<String, String> productNames)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.productNames(() -> Map.of("example value", "example value"));
+   * }</pre>
+   * 
+   * @param productNamesSupplier supplier for names of the ordered products by product number
+   * @return current instance of builder
+   */
+  public SalesReportBuilder productNames(Supplier<Map<String, String>> productNamesSupplier) {
+    this.productNames = changedValue(productNamesSupplier.get());
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>region</code>.
+   * <p>
+   * Generated from parameter in constructor {@link SalesReport#SalesReport(String, List, Set, Map) SalesReport(String
+   * region, List<String> orderIds, Set<String> customers, Map<String, String> productNames)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.region("example value");
+   * }</pre>
+   * 
+   * @param region the region of the report
+   * @return current instance of builder
+   */
+  public SalesReportBuilder region(String region) {
+    this.region = changedValue(region);
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>region</code> by executing the provided consumer.
+   * <p>
+   * Generated from parameter in constructor {@link SalesReport#SalesReport(String, List, Set, Map) SalesReport(String
+   * region, List<String> orderIds, Set<String> customers, Map<String, String> productNames)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.region(sb -> sb.append("text"));
+   * }</pre>
+   * 
+   * @param regionStringBuilderConsumer consumer providing an instance of the region of the report
+   * @return current instance of builder
+   */
+  public SalesReportBuilder region(Consumer<StringBuilder> regionStringBuilderConsumer) {
+    StringBuilder builder = new StringBuilder();
+    regionStringBuilderConsumer.accept(builder);
+    this.region = changedValue(builder.toString());
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>region</code> by invoking the provided supplier.
+   * <p>
+   * Generated from parameter in constructor {@link SalesReport#SalesReport(String, List, Set, Map) SalesReport(String
+   * region, List<String> orderIds, Set<String> customers, Map<String, String> productNames)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.region(() -> "example value");
+   * }</pre>
+   * 
+   * @param regionSupplier supplier for the region of the report
+   * @return current instance of builder
+   */
+  public SalesReportBuilder region(Supplier<String> regionSupplier) {
+    this.region = changedValue(regionSupplier.get());
+    return this;
+  }
+
+  /**
+   * Sets the String value for <code>region</code> by using String.format(format, args). See
+   * {@link String#format(String, Object...)} for details.
+   * <p>
+   * Generated from parameter in constructor {@link SalesReport#SalesReport(String, List, Set, Map) SalesReport(String
+   * region, List<String> orderIds, Set<String> customers, Map<String, String> productNames)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.region("Hello %s", "World");
+   * }</pre>
+   * 
+   * @param format A format string
+   * @param args Arguments referenced by the format specifiers in the format string.
+   * @return current instance of builder
+   */
+  public SalesReportBuilder region(String format, Object... args) {
+    this.region = changedValue(String.format(format, args));
+    return this;
+  }
+
+  /**
+   * Validates that the region field is not null or empty.
+   * <p>
+   * Generated from parameter in constructor {@link SalesReport#SalesReport(String, List, Set, Map) SalesReport(String
+   * region, List<String> orderIds, Set<String> customers, Map<String, String> productNames)}
+   * 
+   * @return this builder instance for chaining
+   * @throws IllegalArgumentException if region is null or empty
+   */
+  SalesReportBuilder validateRegion() {
+    if (!region.isSet() || region.value().trim().isEmpty()) {
+      throw new IllegalArgumentException("Region cannot be null or empty");
+    }
+    return this;
+  }
+
+  /**
+   * Conditionally applies builder modifications if the condition is true.
+   * 
+   * @param condition the condition to evaluate
+   * @param yesCondition the consumer to apply if condition is true
+   * @return this builder instance
+   */
+  public SalesReportBuilder conditional(BooleanSupplier condition, Consumer<SalesReportBuilder> yesCondition) {
+    return conditional(condition, yesCondition, null);
+  }
+
+  /**
+   * Conditionally applies builder modifications based on a condition evaluation.
+   * 
+   * @param condition the condition to evaluate
+   * @param trueCase the consumer to apply if condition is true
+   * @param falseCase the consumer to apply if condition is false (can be null)
+   * @return this builder instance
+   */
+  public SalesReportBuilder conditional(BooleanSupplier condition, Consumer<SalesReportBuilder> trueCase,
+      Consumer<SalesReportBuilder> falseCase) {
+    return BuilderSupport.conditional(this, condition, trueCase, falseCase);
+  }
+
+  /**
+   * Merges the fields set on another builder into this builder. Values of the other builder replace the values of this
+   * builder, except for lists, sets and maps set on both builders: these are concatenated, unioned or combined into a
+   * new collection. The other builder is not changed.
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.merge(partialBuilder);
+   * }</pre>
+   * 
+   * @param other the builder to merge, e.g. a partial builder filled by another thread
+   * @return current instance of builder
+   */
+  public SalesReportBuilder merge(SalesReportBuilder other) {
+    Objects.requireNonNull(other, "other");
+    if (other.region.isSet()) {
+      this.region = other.region;
+    }
+    if (other.orderIds.isSet()) {
+      if (this.orderIds.isSet() && this.orderIds.value() != null && other.orderIds.value() != null) {
+        List<String> merged = new ArrayList<>(this.orderIds.value());
+        merged.addAll(other.orderIds.value());
+        this.orderIds = changedValue(merged);
+      } else {
+        this.orderIds = other.orderIds;
+      }
+    }
+    if (other.customers.isSet()) {
+      if (this.customers.isSet() && this.customers.value() != null && other.customers.value() != null) {
+        Set<String> merged = new HashSet<>(this.customers.value());
+        merged.addAll(other.customers.value());
+        this.customers = changedValue(merged);
+      } else {
+        this.customers = other.customers;
+      }
+    }
+    if (other.productNames.isSet()) {
+      if (this.productNames.isSet() && this.productNames.value() != null && other.productNames.value() != null) {
+        Map<String, String> merged = new HashMap<>(this.productNames.value());
+        merged.putAll(other.productNames.value());
+        this.productNames = changedValue(merged);
+      } else {
+        this.productNames = other.productNames;
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Builds the configured DTO instance.
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * SalesReport result = builder.build();
+   * }</pre>
+   */
+  @Override
+  public SalesReport build() {
+    SalesReport result = new SalesReport(this.region.value(),
+        this.orderIds.value(),
+        this.customers.value(),
+        this.productNames.value());
+    return result;
+  }
+
+  /**
+   * Returns a string representation of this builder, including only fields that have been set.
+   * 
+   * @return string representation of the builder
+   */
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this, BuilderToStringStyle.INSTANCE).append("region", this.region)
+        .append("orderIds", this.orderIds)
+        .append("customers", this.customers)
+        .append("productNames", this.productNames)
+        .toString();
+  }
+
+  /**
+   * Interface that can be implemented by the DTO to provide fluent modification methods.
+   */
+  public interface With {
+    /**
+     * Initializes a builder from an instance of this class, using methods of this builder to change values and returns
+     * the new built object.
+     * 
+     * @param b the consumer to apply modifications
+     * @return the modified instance
+     */
+    default SalesReport with(Consumer<SalesReportBuilder> b) {
+      SalesReportBuilder builder = new SalesReportBuilder(
+          BuilderSupport.castWithInstance(this, SalesReport.class, "SalesReportBuilder.With"));
+      b.accept(builder);
+      return builder.build();
+    }
+
+    /**
+     * Creates a builder initialized from this instance.
+     * 
+     * @return a builder initialized with this instance's values
+     */
+    default SalesReportBuilder with() {
+      return new SalesReportBuilder(
+          BuilderSupport.castWithInstance(this, SalesReport.class, "SalesReportBuilder.With"));
+    }
+
+    /**
+     * Creates a copy of this instance with a new value for <code>region</code>, calling the constructor directly
+     * without initializing a builder.
+     * 
+     * @param region the new value for <code>region</code>
+     * @return the modified instance
+     */
+    default SalesReport withRegion(String region) {
+      SalesReport self = BuilderSupport.castWithInstance(this, SalesReport.class, "SalesReportBuilder.With");
+      return new SalesReport(region, self.orderIds(), self.customers(), self.productNames());
+    }
+
+    /**
+     * Creates a copy of this instance with a new value for <code>orderIds</code>, calling the constructor directly
+     * without initializing a builder.
+     * 
+     * @param orderIds the new value for <code>orderIds</code>
+     * @return the modified instance
+     */
+    default SalesReport withOrderIds(List<String> orderIds) {
+      SalesReport self = BuilderSupport.castWithInstance(this, SalesReport.class, "SalesReportBuilder.With");
+      return new SalesReport(self.region(), orderIds, self.customers(), self.productNames());
+    }
+
+    /**
+     * Creates a copy of this instance with a new value for <code>customers</code>, calling the constructor directly
+     * without initializing a builder.
+     * 
+     * @param customers the new value for <code>customers</code>
+     * @return the modified instance
+     */
+    default SalesReport withCustomers(Set<String> customers) {
+      SalesReport self = BuilderSupport.castWithInstance(this, SalesReport.class, "SalesReportBuilder.With");
+      return new SalesReport(self.region(), self.orderIds(), customers, self.productNames());
+    }
+
+    /**
+     * Creates a copy of this instance with a new value for <code>productNames</code>, calling the constructor directly
+     * without initializing a builder.
+     * 
+     * @param productNames the new value for <code>productNames</code>
+     * @return the modified instance
+     */
+    default SalesReport withProductNames(Map<String, String> productNames) {
+      SalesReport self = BuilderSupport.castWithInstance(this, SalesReport.class, "SalesReportBuilder.With");
+      return new SalesReport(self.region(), self.orderIds(), self.customers(), productNames);
+    }
+  }
+}
\ No newline at end of file
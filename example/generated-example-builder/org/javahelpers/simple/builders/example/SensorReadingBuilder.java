@@ -0,0 +1,448 @@
+package org.javahelpers.simple.builders.example;
+
+import static org.javahelpers.simple.builders.core.util.TrackedValue.changedValue;
+import static org.javahelpers.simple.builders.core.util.TrackedValue.initialValue;
+import static org.javahelpers.simple.builders.core.util.TrackedValue.unsetValue;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import javax.annotation.processing.Generated;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.javahelpers.simple.builders.core.annotations.BuilderImplementation;
+import org.javahelpers.simple.builders.core.interfaces.IBuilderBase;
+import org.javahelpers.simple.builders.core.interfaces.IIndexedBuilder;
+import org.javahelpers.simple.builders.core.util.BuilderSupport;
+import org.javahelpers.simple.builders.core.util.BuilderToStringStyle;
+import org.javahelpers.simple.builders.core.util.FieldDescriptor;
+import org.javahelpers.simple.builders.core.util.TrackedValue;
+
+/**
+ * Builder for {@code org.javahelpers.simple.builders.example.SensorReading}.
+ * <p>
+ * This builder provides a fluent API for creating instances of org.javahelpers.simple.builders.example.SensorReading
+ * with method chaining and validation. Use the static {@code create()} method to obtain a new builder instance,
+ * configure the desired properties using the setter methods, and then call {@code build()} to create the final DTO.
+ * 
+ * <h4>Example:</h4>
+ * 
+ * <pre>{@code
+ * SensorReading result = SensorReadingBuilder.create()
+ *     .sensorId("example value")
+ *     .sensorId("Hello %s", "World")
+ *     .sensorId(() -> "example value")
+ *     .sensorId(sb -> sb.append("text"))
+ *     .value(3.14)
+ *     .value(() -> 3.14)
+ *     .build();
+ * }</pre>
+ */
+@Generated("Generated by org.javahelpers.simple.builders.processor.BuilderProcessor")
+@BuilderImplementation(forClass = SensorReading.class)
+public class SensorReadingBuilder implements IBuilderBase<SensorReading>, IIndexedBuilder<SensorReading> {
+
+  /**
+   * Descriptors of all fields of this builder, indexed by their ordinal.
+   */
+  private static final List<FieldDescriptor> FIELD_DESCRIPTORS = List.of(
+      new FieldDescriptor(0, "sensorId", "java.lang.String", String.class, false),
+      new FieldDescriptor(1, "timestamp", "java.time.Instant", Instant.class, false),
+      new FieldDescriptor(2, "value", "double", double.class, true));
+  /**
+   * Tracked value for <code>sensorId</code>: id of the sensor.
+   */
+  private TrackedValue<String> sensorId = unsetValue();
+  /**
+   * Tracked value for <code>timestamp</code>: point in time of the reading.
+   */
+  private TrackedValue<Instant> timestamp = unsetValue();
+  /**
+   * Tracked value for <code>value</code>: measured value.
+   */
+  private TrackedValue<Double> value = unsetValue();
+
+  /**
+   * Empty constructor of builder for {@code org.javahelpers.simple.builders.example.SensorReading}.
+   */
+  public SensorReadingBuilder() {
+  }
+
+  /**
+   * Initialisation of builder for {@code org.javahelpers.simple.builders.example.SensorReading} by a instance.
+   * 
+   * @param instance object instance for initialisiation
+   */
+  public SensorReadingBuilder(SensorReading instance) {
+    this.sensorId = initialValue(instance.sensorId());
+    this.timestamp = initialValue(instance.timestamp());
+    this.value = initialValue(instance.value());
+  }
+
+  /**
+   * Creating a new builder for {@code org.javahelpers.simple.builders.example.SensorReading}.
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * SensorReadingBuilder builder = SensorReadingBuilder.create();
+   * }</pre>
+   * 
+   * @return builder for {@code org.javahelpers.simple.builders.example.SensorReading}
+   */
+  public static SensorReadingBuilder create() {
+    return new SensorReadingBuilder();
+  }
+
+  /**
+   * Sets the value for <code>sensorId</code>.
+   * <p>
+   * Generated from parameter in constructor {@link SensorReading#SensorReading(String, Instant, double)
+   * SensorReading(String sensorId, Instant timestamp, double value)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.sensorId("example value");
+   * }</pre>
+   * 
+   * @param sensorId id of the sensor
+   * @return current instance of builder
+   */
+  public SensorReadingBuilder sensorId(String sensorId) {
+    this.sensorId = changedValue(sensorId);
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>sensorId</code> by executing the provided consumer.
+   * <p>
+   * Generated from parameter in constructor {@link SensorReading#SensorReading(String, Instant, double)
+   * SensorReading(String sensorId, Instant timestamp, double value)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.sensorId(sb -> sb.append("text"));
+   * }</pre>
+   * 
+   * @param sensorIdStringBuilderConsumer consumer providing an instance of id of the sensor
+   * @return current instance of builder
+   */
+  public SensorReadingBuilder sensorId(Consumer<StringBuilder> sensorIdStringBuilderConsumer) {
+    StringBuilder builder = new StringBuilder();
+    sensorIdStringBuilderConsumer.accept(builder);
+    this.sensorId = changedValue(builder.toString());
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>sensorId</code> by invoking the provided supplier.
+   * <p>
+   * Generated from parameter in constructor {@link SensorReading#SensorReading(String, Instant, double)
+   * SensorReading(String sensorId, Instant timestamp, double value)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.sensorId(() -> "example value");
+   * }</pre>
+   * 
+   * @param sensorIdSupplier supplier for id of the sensor
+   * @return current instance of builder
+   */
+  public SensorReadingBuilder sensorId(Supplier<String> sensorIdSupplier) {
+    this.sensorId = changedValue(sensorIdSupplier.get());
+    return this;
+  }
+
+  /**
+   * Sets the String value for <code>sensorId</code> by using String.format(format, args). See
+   * {@link String#format(String, Object...)} for details.
+   * <p>
+   * Generated from parameter in constructor {@link SensorReading#SensorReading(String, Instant, double)
+   * SensorReading(String sensorId, Instant timestamp, double value)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.sensorId("Hello %s", "World");
+   * }</pre>
+   * 
+   * @param format A format string
+   * @param args Arguments referenced by the format specifiers in the format string.
+   * @return current instance of builder
+   */
+  public SensorReadingBuilder sensorId(String format, Object... args) {
+    this.sensorId = changedValue(String.format(format, args));
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>timestamp</code>.
+   * <p>
+   * Generated from parameter in constructor {@link SensorReading#SensorReading(String, Instant, double)
+   * SensorReading(String sensorId, Instant timestamp, double value)}
+   * 
+   * @param timestamp point in time of the reading
+   * @return current instance of builder
+   */
+  public SensorReadingBuilder timestamp(Instant timestamp) {
+    this.timestamp = changedValue(timestamp);
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>timestamp</code> by invoking the provided supplier.
+   * <p>
+   * Generated from parameter in constructor {@link SensorReading#SensorReading(String, Instant, double)
+   * SensorReading(String sensorId, Instant timestamp, double value)}
+   * 
+   * @param timestampSupplier supplier for point in time of the reading
+   * @return current instance of builder
+   */
+  public SensorReadingBuilder timestamp(Supplier<Instant> timestampSupplier) {
+    this.timestamp = changedValue(timestampSupplier.get());
+    return this;
+  }
+
+  /**
+   * Validates that the sensorId field is not null or empty.
+   * <p>
+   * Generated from parameter in constructor {@link SensorReading#SensorReading(String, Instant, double)
+   * SensorReading(String sensorId, Instant timestamp, double value)}
+   * 
+   * @return this builder instance for chaining
+   * @throws IllegalArgumentException if sensorId is null or empty
+   */
+  SensorReadingBuilder validateSensorId() {
+    if (!sensorId.isSet() || sensorId.value().trim().isEmpty()) {
+      throw new IllegalArgumentException("SensorId cannot be null or empty");
+    }
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>value</code>.
+   * <p>
+   * Generated from parameter in constructor {@link SensorReading#SensorReading(String, Instant, double)
+   * SensorReading(String sensorId, Instant timestamp, double value)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.value(3.14);
+   * }</pre>
+   * 
+   * @param value measured value
+   * @return current instance of builder
+   */
+  public SensorReadingBuilder value(double value) {
+    this.value = changedValue(value);
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>value</code> by invoking the provided supplier.
+   * <p>
+   * Generated from parameter in constructor {@link SensorReading#SensorReading(String, Instant, double)
+   * SensorReading(String sensorId, Instant timestamp, double value)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.value(() -> 3.14);
+   * }</pre>
+   * 
+   * @param valueSupplier supplier for measured value
+   * @return current instance of builder
+   */
+  public SensorReadingBuilder value(Supplier<Double> valueSupplier) {
+    this.value = changedValue(valueSupplier.get());
+    return this;
+  }
+
+  /**
+   * Conditionally applies builder modifications if the condition is true.
+   * 
+   * @param condition the condition to evaluate
+   * @param yesCondition the consumer to apply if condition is true
+   * @return this builder instance
+   */
+  public SensorReadingBuilder conditional(BooleanSupplier condition, Consumer<SensorReadingBuilder> yesCondition) {
+    return conditional(condition, yesCondition, null);
+  }
+
+  /**
+   * Conditionally applies builder modifications based on a condition evaluation.
+   * 
+   * @param condition the condition to evaluate
+   * @param trueCase the consumer to apply if condition is true
+   * @param falseCase the consumer to apply if condition is false (can be null)
+   * @return this builder instance
+   */
+  public SensorReadingBuilder conditional(BooleanSupplier condition, Consumer<SensorReadingBuilder> trueCase,
+      Consumer<SensorReadingBuilder> falseCase) {
+    return BuilderSupport.conditional(this, condition, trueCase, falseCase);
+  }
+
+  /**
+   * Returns the descriptors of all fields of this builder, ordered by ordinal.
+   * 
+   * @return unmodifiable list of field descriptors
+   */
+  @Override
+  public List<FieldDescriptor> fieldDescriptors() {
+    return FIELD_DESCRIPTORS;
+  }
+
+  /**
+   * Returns the current value of a field, <code>null</code> if it is not set.
+   * 
+   * @param ordinal ordinal of the field
+   * @return value of the field
+   * @throws IndexOutOfBoundsException if there is no field with that ordinal
+   */
+  @Override
+  public Object get(int ordinal) {
+    switch (ordinal) {
+      case 0 :
+        return this.sensorId.value();
+      case 1 :
+        return this.timestamp.value();
+      case 2 :
+        return this.value.value();
+      default :
+        throw new IndexOutOfBoundsException("Invalid field ordinal: " + ordinal);
+    }
+  }
+
+  /**
+   * Sets the value of a field, marking it as changed.
+   * 
+   * @param ordinal ordinal of the field
+   * @param value value to set, must be assignable to the type of the field
+   * @return current instance of builder
+   * @throws IndexOutOfBoundsException if there is no field with that ordinal
+   * @throws IllegalArgumentException if the value is null for a field of primitive type
+   * @throws ClassCastException if the value does not match the type of the field
+   */
+  @Override
+  public SensorReadingBuilder set(int ordinal, Object value) {
+    switch (ordinal) {
+      case 0 :
+        this.sensorId = changedValue((String) value);
+        return this;
+      case 1 :
+        this.timestamp = changedValue((Instant) value);
+        return this;
+      case 2 :
+        if (value == null) {
+          throw new IllegalArgumentException("Field 'value' is primitive and cannot be set to null");
+        }
+        this.value = changedValue((Double) value);
+        return this;
+      default :
+        throw new IndexOutOfBoundsException("Invalid field ordinal: " + ordinal);
+    }
+  }
+
+  /**
+   * Builds the configured DTO instance.
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * SensorReading result = builder.build();
+   * }</pre>
+   */
+  @Override
+  public SensorReading build() {
+    if (!this.value.isSet()) {
+      throw new IllegalStateException("Required field 'value' must be set before calling build()");
+    }
+    if (this.value.value() == null) {
+      throw new IllegalStateException("Field 'value' is marked as non-null but null value was provided");
+    }
+    SensorReading result = new SensorReading(this.sensorId.value(), this.timestamp.value(), this.value.value());
+    return result;
+  }
+
+  /**
+   * Returns a string representation of this builder, including only fields that have been set.
+   * 
+   * @return string representation of the builder
+   */
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this, BuilderToStringStyle.INSTANCE).append("sensorId", this.sensorId)
+        .append("timestamp", this.timestamp)
+        .append("value", this.value)
+        .toString();
+  }
+
+  /**
+   * Interface that can be implemented by the DTO to provide fluent modification methods.
+   */
+  public interface With {
+    /**
+     * Initializes a builder from an instance of this class, using methods of this builder to change values and returns
+     * the new built object.
+     * 
+     * @param b the consumer to apply modifications
+     * @return the modified instance
+     */
+    default SensorReading with(Consumer<SensorReadingBuilder> b) {
+      SensorReadingBuilder builder = new SensorReadingBuilder(
+          BuilderSupport.castWithInstance(this, SensorReading.class, "SensorReadingBuilder.With"));
+      b.accept(builder);
+      return builder.build();
+    }
+
+    /**
+     * Creates a builder initialized from this instance.
+     * 
+     * @return a builder initialized with this instance's values
+     */
+    default SensorReadingBuilder with() {
+      return new SensorReadingBuilder(
+          BuilderSupport.castWithInstance(this, SensorReading.class, "SensorReadingBuilder.With"));
+    }
+
+    /**
+     * Creates a copy of this instance with a new value for <code>sensorId</code>, calling the constructor directly
+     * without initializing a builder.
+     * 
+     * @param sensorId the new value for <code>sensorId</code>
+     * @return the modified instance
+     */
+    default SensorReading withSensorId(String sensorId) {
+      SensorReading self = BuilderSupport.castWithInstance(this, SensorReading.class, "SensorReadingBuilder.With");
+      return new SensorReading(sensorId, self.timestamp(), self.value());
+    }
+
+    /**
+     * Creates a copy of this instance with a new value for <code>timestamp</code>, calling the constructor directly
+     * without initializing a builder.
+     * 
+     * @param timestamp the new value for <code>timestamp</code>
+     * @return the modified instance
+     */
+    default SensorReading withTimestamp(Instant timestamp) {
+      SensorReading self = BuilderSupport.castWithInstance(this, SensorReading.class, "SensorReadingBuilder.With");
+      return new SensorReading(self.sensorId(), timestamp, self.value());
+    }
+
+    /**
+     * Creates a copy of this instance with a new value for <code>value</code>, calling the constructor directly without
+     * initializing a builder.
+     * 
+     * @param value the new value for <code>value</code>
+     * @return the modified instance
+     */
+    default SensorReading withValue(double value) {
+      SensorReading self = BuilderSupport.castWithInstance(this, SensorReading.class, "SensorReadingBuilder.With");
+      return new SensorReading(self.sensorId(), self.timestamp(), value);
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,493 @@
+package org.javahelpers.simple.builders.example;
+
+import static org.javahelpers.simple.builders.core.util.TrackedValue.changedValue;
+import static org.javahelpers.simple.builders.core.util.TrackedValue.initialValue;
+import static org.javahelpers.simple.builders.core.util.TrackedValue.unsetValue;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import javax.annotation.processing.Generated;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.javahelpers.simple.builders.core.annotations.BuilderImplementation;
+import org.javahelpers.simple.builders.core.builders.ArrayListBuilder;
+import org.javahelpers.simple.builders.core.interfaces.IBuilderBase;
+import org.javahelpers.simple.builders.core.util.BuilderSupport;
+import org.javahelpers.simple.builders.core.util.BuilderToStringStyle;
+import org.javahelpers.simple.builders.core.util.TrackedValue;
+
+/**
+ * Builder for {@code org.javahelpers.simple.builders.example.ShipmentDto}.
+ * <p>
+ * This builder provides a fluent API for creating instances of org.javahelpers.simple.builders.example.ShipmentDto with
+ * method chaining and validation. Use the static {@code create()} method to obtain a new builder instance, configure
+ * the desired properties using the setter methods, and then call {@code build()} to create the final DTO.
+ * 
+ * <h4>Example:</h4>
+ * 
+ * <pre>{@code
+ * ShipmentDto result = ShipmentDtoBuilder.create()
+ *     .trackingNumber("example value")
+ *     .trackingNumber("Hello %s", "World")
+ *     .trackingNumber(() -> "example value")
+ *     .trackingNumber(sb -> sb.append("text"))
+ *     .destination("example value")
+ *     .destination("Hello %s", "World")
+ *     .destination(() -> "example value")
+ *     .destination(sb -> sb.append("text"))
+ *     .items(List.of("example value"))
+ *     .items(() -> List.of("example value"))
+ *     .items(t -> t.add("example value"))
+ *     .items("example value", "example value")
+ *     .add2Items("example value")
+ *     .build();
+ * }</pre>
+ */
+@Generated("Generated by org.javahelpers.simple.builders.processor.BuilderProcessor")
+@BuilderImplementation(forClass = ShipmentDto.class)
+public class ShipmentDtoBuilder implements IBuilderBase<ShipmentDto> {
+
+  /**
+   * Source instance for values not changed on this builder, <code>null</code> once resolved.
+   */
+  private ShipmentDto source;
+  /**
+   * Tracked value for <code>trackingNumber</code>: trackingNumber.
+   */
+  private TrackedValue<String> trackingNumber = unsetValue();
+  /**
+   * Tracked value for <code>destination</code>: the destination to set.
+   */
+  private TrackedValue<String> destination = unsetValue();
+  /**
+   * Tracked value for <code>items</code>: the items to set.
+   */
+  private TrackedValue<List<String>> items = unsetValue();
+
+  /**
+   * Empty constructor of builder for {@code org.javahelpers.simple.builders.example.ShipmentDto}.
+   */
+  public ShipmentDtoBuilder() {
+  }
+
+  /**
+   * Initialisation of builder for {@code org.javahelpers.simple.builders.example.ShipmentDto} by a instance.
+   * 
+   * @param instance object instance for initialisiation
+   */
+  public ShipmentDtoBuilder(ShipmentDto instance) {
+    this.source = Objects.requireNonNull(instance, "instance");
+  }
+
+  /**
+   * Creating a new builder for {@code org.javahelpers.simple.builders.example.ShipmentDto}.
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * ShipmentDtoBuilder builder = ShipmentDtoBuilder.create();
+   * }</pre>
+   * 
+   * @return builder for {@code org.javahelpers.simple.builders.example.ShipmentDto}
+   */
+  public static ShipmentDtoBuilder create() {
+    return new ShipmentDtoBuilder();
+  }
+
+  /**
+   * Adds a single element to <code>items</code>.
+   * <p>
+   * Generated from setter {@link ShipmentDto#setItems(List) setItems(List<String> items)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.add2Items("example value");
+   * }</pre>
+   * 
+   * @param element the element to add
+   * @return current instance of builder
+   */
+  public ShipmentDtoBuilder add2Items(String element) {
+    resolveSource();
+    this.items = BuilderSupport.addToList(this.items, element);
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>destination</code>.
+   * <p>
+   * Generated from setter {@link ShipmentDto#setDestination(String) setDestination(String destination)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.destination("example value");
+   * }</pre>
+   * 
+   * @param destination the destination to set
+   * @return current instance of builder
+   */
+  public ShipmentDtoBuilder destination(String destination) {
+    this.destination = changedValue(destination);
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>destination</code> by executing the provided consumer.
+   * <p>
+   * Generated from setter {@link ShipmentDto#setDestination(String) setDestination(String destination)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.destination(sb -> sb.append("text"));
+   * }</pre>
+   * 
+   * @param destinationStringBuilderConsumer consumer providing an instance of the destination to set
+   * @return current instance of builder
+   */
+  public ShipmentDtoBuilder destination(Consumer<StringBuilder> destinationStringBuilderConsumer) {
+    StringBuilder builder = new StringBuilder();
+    destinationStringBuilderConsumer.accept(builder);
+    this.destination = changedValue(builder.toString());
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>destination</code> by invoking the provided supplier.
+   * <p>
+   * Generated from setter {@link ShipmentDto#setDestination(String) setDestination(String destination)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.destination(() -> "example value");
+   * }</pre>
+   * 
+   * @param destinationSupplier supplier for the destination to set
+   * @return current instance of builder
+   */
+  public ShipmentDtoBuilder destination(Supplier<String> destinationSupplier) {
+    this.destination = changedValue(destinationSupplier.get());
+    return this;
+  }
+
+  /**
+   * Sets the String value for <code>destination</code> by using String.format(format, args). See
+   * {@link String#format(String, Object...)} for details.
+   * <p>
+   * Generated from setter {@link ShipmentDto#setDestination(String) setDestination(String destination)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.destination("Hello %s", "World");
+   * }</pre>
+   * 
+   * @param format A format string
+   * @param args Arguments referenced by the format specifiers in the format string.
+   * @return current instance of builder
+   */
+  public ShipmentDtoBuilder destination(String format, Object... args) {
+    this.destination = changedValue(String.format(format, args));
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>items</code>.
+   * <p>
+   * Generated from setter {@link ShipmentDto#setItems(List) setItems(List<String> items)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.items("example value", "example value");
+   * }</pre>
+   * 
+   * @param items the items to set
+   * @return current instance of builder
+   */
+  public ShipmentDtoBuilder items(String... items) {
+    this.items = changedValue(List.of(items));
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>items</code>.
+   * <p>
+   * Generated from setter {@link ShipmentDto#setItems(List) setItems(List<String> items)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.items(List.of("example value"));
+   * }</pre>
+   * 
+   * @param items the items to set
+   * @return current instance of builder
+   */
+  public ShipmentDtoBuilder items(List<String> items) {
+    this.items = changedValue(items);
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>items</code> using a builder consumer that produces the value.
+   * <p>
+   * Generated from setter {@link ShipmentDto#setItems(List) setItems(List<String> items)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.items(t -> t.add("example value"));
+   * }</pre>
+   * 
+   * @param itemsBuilderConsumer consumer providing an instance of a builder for the items to set
+   * @return current instance of builder
+   */
+  public ShipmentDtoBuilder items(Consumer<ArrayListBuilder<String>> itemsBuilderConsumer) {
+    resolveSource();
+    ArrayListBuilder<String> builder = this.items.isSet()
+        ? new ArrayListBuilder<String>(this.items.value())
+        : new ArrayListBuilder<String>();
+    itemsBuilderConsumer.accept(builder);
+    this.items = changedValue(builder.build());
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>items</code> by invoking the provided supplier.
+   * <p>
+   * Generated from setter {@link ShipmentDto#setItems(List) setItems(List<String> items)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.items(() -> List.of("example value"));
+   * }</pre>
+   * 
+   * @param itemsSupplier supplier for the items to set
+   * @return current instance of builder
+   */
+  public ShipmentDtoBuilder items(Supplier<List<String>> itemsSupplier) {
+    this.items = changedValue(itemsSupplier.get());
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>trackingNumber</code>.
+   * <p>
+   * Generated from parameter in constructor {@link ShipmentDto#ShipmentDto(String) ShipmentDto(String trackingNumber)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.trackingNumber("example value");
+   * }</pre>
+   * 
+   * @param trackingNumber trackingNumber
+   * @return current instance of builder
+   */
+  public ShipmentDtoBuilder trackingNumber(String trackingNumber) {
+    this.trackingNumber = changedValue(trackingNumber);
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>trackingNumber</code> by executing the provided consumer.
+   * <p>
+   * Generated from parameter in constructor {@link ShipmentDto#ShipmentDto(String) ShipmentDto(String trackingNumber)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.trackingNumber(sb -> sb.append("text"));
+   * }</pre>
+   * 
+   * @param trackingNumberStringBuilderConsumer consumer providing an instance of trackingNumber
+   * @return current instance of builder
+   */
+  public ShipmentDtoBuilder trackingNumber(Consumer<StringBuilder> trackingNumberStringBuilderConsumer) {
+    StringBuilder builder = new StringBuilder();
+    trackingNumberStringBuilderConsumer.accept(builder);
+    this.trackingNumber = changedValue(builder.toString());
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>trackingNumber</code> by invoking the provided supplier.
+   * <p>
+   * Generated from parameter in constructor {@link ShipmentDto#ShipmentDto(String) ShipmentDto(String trackingNumber)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.trackingNumber(() -> "example value");
+   * }</pre>
+   * 
+   * @param trackingNumberSupplier supplier for trackingNumber
+   * @return current instance of builder
+   */
+  public ShipmentDtoBuilder trackingNumber(Supplier<String> trackingNumberSupplier) {
+    this.trackingNumber = changedValue(trackingNumberSupplier.get());
+    return this;
+  }
+
+  /**
+   * Sets the String value for <code>trackingNumber</code> by using String.format(format, args). See
+   * {@link String#format(String, Object...)} for details.
+   * <p>
+   * Generated from parameter in constructor {@link ShipmentDto#ShipmentDto(String) ShipmentDto(String trackingNumber)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.trackingNumber("Hello %s", "World");
+   * }</pre>
+   * 
+   * @param format A format string
+   * @param args Arguments referenced by the format specifiers in the format string.
+   * @return current instance of builder
+   */
+  public ShipmentDtoBuilder trackingNumber(String format, Object... args) {
+    this.trackingNumber = changedValue(String.format(format, args));
+    return this;
+  }
+
+  /**
+   * Validates that the destination field is not null or empty.
+   * <p>
+   * Generated from setter {@link ShipmentDto#setDestination(String) setDestination(String destination)}
+   * 
+   * @return this builder instance for chaining
+   * @throws IllegalArgumentException if destination is null or empty
+   */
+  ShipmentDtoBuilder validateDestination() {
+    if (!destination.isSet() || destination.value().trim().isEmpty()) {
+      throw new IllegalArgumentException("Destination cannot be null or empty");
+    }
+    return this;
+  }
+
+  /**
+   * Validates that the trackingNumber field is not null or empty.
+   * <p>
+   * Generated from parameter in constructor {@link ShipmentDto#ShipmentDto(String) ShipmentDto(String trackingNumber)}
+   * 
+   * @return this builder instance for chaining
+   * @throws IllegalArgumentException if trackingNumber is null or empty
+   */
+  ShipmentDtoBuilder validateTrackingNumber() {
+    if (!trackingNumber.isSet() || trackingNumber.value().trim().isEmpty()) {
+      throw new IllegalArgumentException("TrackingNumber cannot be null or empty");
+    }
+    return this;
+  }
+
+  /**
+   * Conditionally applies builder modifications if the condition is true.
+   * 
+   * @param condition the condition to evaluate
+   * @param yesCondition the consumer to apply if condition is true
+   * @return this builder instance
+   */
+  public ShipmentDtoBuilder conditional(BooleanSupplier condition, Consumer<ShipmentDtoBuilder> yesCondition) {
+    return conditional(condition, yesCondition, null);
+  }
+
+  /**
+   * Conditionally applies builder modifications based on a condition evaluation.
+   * 
+   * @param condition the condition to evaluate
+   * @param trueCase the consumer to apply if condition is true
+   * @param falseCase the consumer to apply if condition is false (can be null)
+   * @return this builder instance
+   */
+  public ShipmentDtoBuilder conditional(BooleanSupplier condition, Consumer<ShipmentDtoBuilder> trueCase,
+      Consumer<ShipmentDtoBuilder> falseCase) {
+    return BuilderSupport.conditional(this, condition, trueCase, falseCase);
+  }
+
+  /**
+   * Reads all values not changed on this builder from the source instance, calling each getter at most once.
+   */
+  private void resolveSource() {
+    if (this.source == null) {
+      return;
+    }
+    ShipmentDto instance = this.source;
+    this.source = null;
+    if (!this.trackingNumber.isSet()) {
+      this.trackingNumber = initialValue(instance.getTrackingNumber());
+    }
+    if (!this.destination.isSet()) {
+      this.destination = initialValue(instance.getDestination());
+    }
+    if (!this.items.isSet()) {
+      this.items = initialValue(instance.getItems());
+    }
+  }
+
+  /**
+   * Builds the configured DTO instance.
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * ShipmentDto result = builder.build();
+   * }</pre>
+   */
+  @Override
+  public ShipmentDto build() {
+    resolveSource();
+    ShipmentDto result = new ShipmentDto(this.trackingNumber.value());
+    this.destination.ifSet(result::setDestination);
+    this.items.ifSet(result::setItems);
+    return result;
+  }
+
+  /**
+   * Returns a string representation of this builder, including only fields that have been set.
+   * 
+   * @return string representation of the builder
+   */
+  @Override
+  public String toString() {
+    resolveSource();
+    return new ToStringBuilder(this, BuilderToStringStyle.INSTANCE).append("trackingNumber", this.trackingNumber)
+        .append("destination", this.destination)
+        .append("items", this.items)
+        .toString();
+  }
+
+  /**
+   * Interface that can be implemented by the DTO to provide fluent modification methods.
+   */
+  public interface With {
+    /**
+     * Initializes a builder from an instance of this class, using methods of this builder to change values and returns
+     * the new built object.
+     * 
+     * @param b the consumer to apply modifications
+     * @return the modified instance
+     */
+    default ShipmentDto with(Consumer<ShipmentDtoBuilder> b) {
+      ShipmentDtoBuilder builder = new ShipmentDtoBuilder(
+          BuilderSupport.castWithInstance(this, ShipmentDto.class, "ShipmentDtoBuilder.With"));
+      b.accept(builder);
+      return builder.build();
+    }
+
+    /**
+     * Creates a builder initialized from this instance.
+     * 
+     * @return a builder initialized with this instance's values
+     */
+    default ShipmentDtoBuilder with() {
+      return new ShipmentDtoBuilder(
+          BuilderSupport.castWithInstance(this, ShipmentDto.class, "ShipmentDtoBuilder.With"));
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,563 @@
+package org.javahelpers.simple.builders.example;
+
+import static org.javahelpers.simple.builders.core.util.TrackedValue.changedValue;
+import static org.javahelpers.simple.builders.core.util.TrackedValue.initialValue;
+import static org.javahelpers.simple.builders.core.util.TrackedValue.unsetValue;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import javax.annotation.processing.Generated;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.javahelpers.simple.builders.core.annotations.BuilderImplementation;
+import org.javahelpers.simple.builders.core.interfaces.IBuilderBase;
+import org.javahelpers.simple.builders.core.util.BuilderSupport;
+import org.javahelpers.simple.builders.core.util.BuilderToStringStyle;
+import org.javahelpers.simple.builders.core.util.TrackedValue;
+
+/**
+ * Builder for {@code org.javahelpers.simple.builders.example.ShippingOptions}.
+ * <p>
+ * This builder provides a fluent API for creating instances of org.javahelpers.simple.builders.example.ShippingOptions
+ * with method chaining and validation. Use the static {@code create()} method to obtain a new builder instance,
+ * configure the desired properties using the setter methods, and then call {@code build()} to create the final DTO.
+ * 
+ * <h4>Example:</h4>
+ * 
+ * <pre>{@code
+ * ShippingOptions result = ShippingOptionsBuilder.create()
+ *     .carrier("example value")
+ *     .carrier("Hello %s", "World")
+ *     .carrier(() -> "example value")
+ *     .carrier(sb -> sb.append("text"))
+ *     .deliveryDays(42)
+ *     .deliveryDays(() -> 42)
+ *     .insured(true)
+ *     .insured(() -> true)
+ *     .build();
+ * }</pre>
+ */
+@Generated("Generated by org.javahelpers.simple.builders.processor.BuilderProcessor")
+@BuilderImplementation(forClass = ShippingOptions.class)
+public class ShippingOptionsBuilder implements IBuilderBase<ShippingOptions> {
+
+  /**
+   * Condition of the last when(boolean) call.
+   */
+  private boolean whenCondition;
+  /**
+   * View returned by when(boolean), created on first use and reused.
+   */
+  private When whenView;
+  /**
+   * Tracked value for <code>carrier</code>: name of the carrier.
+   */
+  private TrackedValue<String> carrier = unsetValue();
+  /**
+   * Tracked value for <code>deliveryDays</code>: expected days until delivery.
+   */
+  private TrackedValue<Integer> deliveryDays = unsetValue();
+  /**
+   * Tracked value for <code>insured</code>: whether the parcel is insured.
+   */
+  private TrackedValue<Boolean> insured = unsetValue();
+
+  /**
+   * Empty constructor of builder for {@code org.javahelpers.simple.builders.example.ShippingOptions}.
+   */
+  public ShippingOptionsBuilder() {
+  }
+
+  /**
+   * Initialisation of builder for {@code org.javahelpers.simple.builders.example.ShippingOptions} by a instance.
+   * 
+   * @param instance object instance for initialisiation
+   */
+  public ShippingOptionsBuilder(ShippingOptions instance) {
+    this.carrier = initialValue(instance.carrier());
+    this.deliveryDays = initialValue(instance.deliveryDays());
+    this.insured = initialValue(instance.insured());
+  }
+
+  /**
+   * Creating a new builder for {@code org.javahelpers.simple.builders.example.ShippingOptions}.
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * ShippingOptionsBuilder builder = ShippingOptionsBuilder.create();
+   * }</pre>
+   * 
+   * @return builder for {@code org.javahelpers.simple.builders.example.ShippingOptions}
+   */
+  public static ShippingOptionsBuilder create() {
+    return new ShippingOptionsBuilder();
+  }
+
+  /**
+   * Sets the value for <code>carrier</code>.
+   * <p>
+   * Generated from parameter in constructor {@link ShippingOptions#ShippingOptions(String, int, boolean)
+   * ShippingOptions(String carrier, int deliveryDays, boolean insured)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.carrier("example value");
+   * }</pre>
+   * 
+   * @param carrier name of the carrier
+   * @return current instance of builder
+   */
+  public ShippingOptionsBuilder carrier(String carrier) {
+    this.carrier = changedValue(carrier);
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>carrier</code> by executing the provided consumer.
+   * <p>
+   * Generated from parameter in constructor {@link ShippingOptions#ShippingOptions(String, int, boolean)
+   * ShippingOptions(String carrier, int deliveryDays, boolean insured)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.carrier(sb -> sb.append("text"));
+   * }</pre>
+   * 
+   * @param carrierStringBuilderConsumer consumer providing an instance of name of the carrier
+   * @return current instance of builder
+   */
+  public ShippingOptionsBuilder carrier(Consumer<StringBuilder> carrierStringBuilderConsumer) {
+    StringBuilder builder = new StringBuilder();
+    carrierStringBuilderConsumer.accept(builder);
+    this.carrier = changedValue(builder.toString());
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>carrier</code> by invoking the provided supplier.
+   * <p>
+   * Generated from parameter in constructor {@link ShippingOptions#ShippingOptions(String, int, boolean)
+   * ShippingOptions(String carrier, int deliveryDays, boolean insured)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.carrier(() -> "example value");
+   * }</pre>
+   * 
+   * @param carrierSupplier supplier for name of the carrier
+   * @return current instance of builder
+   */
+  public ShippingOptionsBuilder carrier(Supplier<String> carrierSupplier) {
+    this.carrier = changedValue(carrierSupplier.get());
+    return this;
+  }
+
+  /**
+   * Sets the String value for <code>carrier</code> by using String.format(format, args). See
+   * {@link String#format(String, Object...)} for details.
+   * <p>
+   * Generated from parameter in constructor {@link ShippingOptions#ShippingOptions(String, int, boolean)
+   * ShippingOptions(String carrier, int deliveryDays, boolean insured)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.carrier("Hello %s", "World");
+   * }</pre>
+   * 
+   * @param format A format string
+   * @param args Arguments referenced by the format specifiers in the format string.
+   * @return current instance of builder
+   */
+  public ShippingOptionsBuilder carrier(String format, Object... args) {
+    this.carrier = changedValue(String.format(format, args));
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>deliveryDays</code>.
+   * <p>
+   * Generated from parameter in constructor {@link ShippingOptions#ShippingOptions(String, int, boolean)
+   * ShippingOptions(String carrier, int deliveryDays, boolean insured)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.deliveryDays(42);
+   * }</pre>
+   * 
+   * @param deliveryDays expected days until delivery
+   * @return current instance of builder
+   */
+  public ShippingOptionsBuilder deliveryDays(int deliveryDays) {
+    this.deliveryDays = changedValue(deliveryDays);
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>deliveryDays</code> by invoking the provided supplier.
+   * <p>
+   * Generated from parameter in constructor {@link ShippingOptions#ShippingOptions(String, int, boolean)
+   * ShippingOptions(String carrier, int deliveryDays, boolean insured)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.deliveryDays(() -> 42);
+   * }</pre>
+   * 
+   * @param deliveryDaysSupplier supplier for expected days until delivery
+   * @return current instance of builder
+   */
+  public ShippingOptionsBuilder deliveryDays(Supplier<Integer> deliveryDaysSupplier) {
+    this.deliveryDays = changedValue(deliveryDaysSupplier.get());
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>insured</code>.
+   * <p>
+   * Generated from parameter in constructor {@link ShippingOptions#ShippingOptions(String, int, boolean)
+   * ShippingOptions(String carrier, int deliveryDays, boolean insured)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.insured(true);
+   * }</pre>
+   * 
+   * @param insured whether the parcel is insured
+   * @return current instance of builder
+   */
+  public ShippingOptionsBuilder insured(boolean insured) {
+    this.insured = changedValue(insured);
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>insured</code> by invoking the provided supplier.
+   * <p>
+   * Generated from parameter in constructor {@link ShippingOptions#ShippingOptions(String, int, boolean)
+   * ShippingOptions(String carrier, int deliveryDays, boolean insured)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.insured(() -> true);
+   * }</pre>
+   * 
+   * @param insuredSupplier supplier for whether the parcel is insured
+   * @return current instance of builder
+   */
+  public ShippingOptionsBuilder insured(Supplier<Boolean> insuredSupplier) {
+    this.insured = changedValue(insuredSupplier.get());
+    return this;
+  }
+
+  /**
+   * Validates that the carrier field is not null or empty.
+   * <p>
+   * Generated from parameter in constructor {@link ShippingOptions#ShippingOptions(String, int, boolean)
+   * ShippingOptions(String carrier, int deliveryDays, boolean insured)}
+   * 
+   * @return this builder instance for chaining
+   * @throws IllegalArgumentException if carrier is null or empty
+   */
+  ShippingOptionsBuilder validateCarrier() {
+    if (!carrier.isSet() || carrier.value().trim().isEmpty()) {
+      throw new IllegalArgumentException("Carrier cannot be null or empty");
+    }
+    return this;
+  }
+
+  /**
+   * Conditionally applies builder modifications if the condition is true.
+   * 
+   * @param condition the condition to evaluate
+   * @param yesCondition the consumer to apply if condition is true
+   * @return this builder instance
+   */
+  public ShippingOptionsBuilder conditional(BooleanSupplier condition, Consumer<ShippingOptionsBuilder> yesCondition) {
+    return conditional(condition, yesCondition, null);
+  }
+
+  /**
+   * Conditionally applies builder modifications based on a condition evaluation.
+   * 
+   * @param condition the condition to evaluate
+   * @param trueCase the consumer to apply if condition is true
+   * @param falseCase the consumer to apply if condition is false (can be null)
+   * @return this builder instance
+   */
+  public ShippingOptionsBuilder conditional(BooleanSupplier condition, Consumer<ShippingOptionsBuilder> trueCase,
+      Consumer<ShippingOptionsBuilder> falseCase) {
+    return BuilderSupport.conditional(this, condition, trueCase, falseCase);
+  }
+
+  /**
+   * Starts a conditional part of the chain. The methods of the returned view are applied to this builder only if the
+   * condition is true. The view is created once per builder and reused, so the call does not allocate. The returned
+   * view is therefore only valid until the next call of when(boolean) on this builder, which replaces its condition: do
+   * not keep it in a variable across when() calls.
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.when(condition).<setter>(value).endWhen();
+   * }</pre>
+   * 
+   * @param condition whether the following calls are applied
+   * @return view forwarding to this builder until endWhen()
+   */
+  public When when(boolean condition) {
+    this.whenCondition = condition;
+    if (this.whenView == null) {
+      this.whenView = new When();
+    }
+    return this.whenView;
+  }
+
+  /**
+   * Builds the configured DTO instance.
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * ShippingOptions result = builder.build();
+   * }</pre>
+   */
+  @Override
+  public ShippingOptions build() {
+    if (!this.deliveryDays.isSet()) {
+      throw new IllegalStateException("Required field 'deliveryDays' must be set before calling build()");
+    }
+    if (this.deliveryDays.value() == null) {
+      throw new IllegalStateException("Field 'deliveryDays' is marked as non-null but null value was provided");
+    }
+    if (!this.insured.isSet()) {
+      throw new IllegalStateException("Required field 'insured' must be set before calling build()");
+    }
+    if (this.insured.value() == null) {
+      throw new IllegalStateException("Field 'insured' is marked as non-null but null value was provided");
+    }
+    ShippingOptions result = new ShippingOptions(this.carrier.value(), this.deliveryDays.value(), this.insured.value());
+    return result;
+  }
+
+  /**
+   * Returns a string representation of this builder, including only fields that have been set.
+   * 
+   * @return string representation of the builder
+   */
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this, BuilderToStringStyle.INSTANCE).append("carrier", this.carrier)
+        .append("deliveryDays", this.deliveryDays)
+        .append("insured", this.insured)
+        .toString();
+  }
+
+  /**
+   * Interface that can be implemented by the DTO to provide fluent modification methods.
+   */
+  public interface With {
+    /**
+     * Initializes a builder from an instance of this class, using methods of this builder to change values and returns
+     * the new built object.
+     * 
+     * @param b the consumer to apply modifications
+     * @return the modified instance
+     */
+    default ShippingOptions with(Consumer<ShippingOptionsBuilder> b) {
+      ShippingOptionsBuilder builder = new ShippingOptionsBuilder(
+          BuilderSupport.castWithInstance(this, ShippingOptions.class, "ShippingOptionsBuilder.With"));
+      b.accept(builder);
+      return builder.build();
+    }
+
+    /**
+     * Creates a builder initialized from this instance.
+     * 
+     * @return a builder initialized with this instance's values
+     */
+    default ShippingOptionsBuilder with() {
+      return new ShippingOptionsBuilder(
+          BuilderSupport.castWithInstance(this, ShippingOptions.class, "ShippingOptionsBuilder.With"));
+    }
+
+    /**
+     * Creates a copy of this instance with a new value for <code>carrier</code>, calling the constructor directly
+     * without initializing a builder.
+     * 
+     * @param carrier the new value for <code>carrier</code>
+     * @return the modified instance
+     */
+    default ShippingOptions withCarrier(String carrier) {
+      ShippingOptions self = BuilderSupport.castWithInstance(this, ShippingOptions.class,
+          "ShippingOptionsBuilder.With");
+      return new ShippingOptions(carrier, self.deliveryDays(), self.insured());
+    }
+
+    /**
+     * Creates a copy of this instance with a new value for <code>deliveryDays</code>, calling the constructor directly
+     * without initializing a builder.
+     * 
+     * @param deliveryDays the new value for <code>deliveryDays</code>
+     * @return the modified instance
+     */
+    default ShippingOptions withDeliveryDays(int deliveryDays) {
+      ShippingOptions self = BuilderSupport.castWithInstance(this, ShippingOptions.class,
+          "ShippingOptionsBuilder.With");
+      return new ShippingOptions(self.carrier(), deliveryDays, self.insured());
+    }
+
+    /**
+     * Creates a copy of this instance with a new value for <code>insured</code>, calling the constructor directly
+     * without initializing a builder.
+     * 
+     * @param insured the new value for <code>insured</code>
+     * @return the modified instance
+     */
+    default ShippingOptions withInsured(boolean insured) {
+      ShippingOptions self = BuilderSupport.castWithInstance(this, ShippingOptions.class,
+          "ShippingOptionsBuilder.With");
+      return new ShippingOptions(self.carrier(), self.deliveryDays(), insured);
+    }
+  }
+
+  /**
+   * View of the builder returned by {@code when(boolean)}, calling the methods of the builder only if the condition is
+   * true. The builder reuses one view for all {@code when(boolean)} calls, so the view follows the condition of the
+   * last call.
+   */
+  public class When {
+    /**
+     * Calls <code>carrier</code> on the builder if the condition is true.
+     * 
+     * @param carrier value passed to the builder
+     * @return this view
+     */
+    public When carrier(String carrier) {
+      if (ShippingOptionsBuilder.this.whenCondition) {
+        ShippingOptionsBuilder.this.carrier(carrier);
+      }
+      return this;
+    }
+
+    /**
+     * Calls <code>carrier</code> on the builder if the condition is true.
+     * 
+     * @param format value passed to the builder
+     * @param args value passed to the builder
+     * @return this view
+     */
+    public When carrier(String format, Object... args) {
+      if (ShippingOptionsBuilder.this.whenCondition) {
+        ShippingOptionsBuilder.this.carrier(format, args);
+      }
+      return this;
+    }
+
+    /**
+     * Calls <code>carrier</code> on the builder if the condition is true.
+     * 
+     * @param carrierSupplier value passed to the builder
+     * @return this view
+     */
+    public When carrier(Supplier<String> carrierSupplier) {
+      if (ShippingOptionsBuilder.this.whenCondition) {
+        ShippingOptionsBuilder.this.carrier(carrierSupplier);
+      }
+      return this;
+    }
+
+    /**
+     * Calls <code>validateCarrier</code> on the builder if the condition is true.
+     * 
+     * @return this view
+     */
+    public When validateCarrier() {
+      if (ShippingOptionsBuilder.this.whenCondition) {
+        ShippingOptionsBuilder.this.validateCarrier();
+      }
+      return this;
+    }
+
+    /**
+     * Calls <code>carrier</code> on the builder if the condition is true.
+     * 
+     * @param carrierStringBuilderConsumer value passed to the builder
+     * @return this view
+     */
+    public When carrier(Consumer<StringBuilder> carrierStringBuilderConsumer) {
+      if (ShippingOptionsBuilder.this.whenCondition) {
+        ShippingOptionsBuilder.this.carrier(carrierStringBuilderConsumer);
+      }
+      return this;
+    }
+
+    /**
+     * Calls <code>deliveryDays</code> on the builder if the condition is true.
+     * 
+     * @param deliveryDays value passed to the builder
+     * @return this view
+     */
+    public When deliveryDays(int deliveryDays) {
+      if (ShippingOptionsBuilder.this.whenCondition) {
+        ShippingOptionsBuilder.this.deliveryDays(deliveryDays);
+      }
+      return this;
+    }
+
+    /**
+     * Calls <code>deliveryDays</code> on the builder if the condition is true.
+     * 
+     * @param deliveryDaysSupplier value passed to the builder
+     * @return this view
+     */
+    public When deliveryDays(Supplier<Integer> deliveryDaysSupplier) {
+      if (ShippingOptionsBuilder.this.whenCondition) {
+        ShippingOptionsBuilder.this.deliveryDays(deliveryDaysSupplier);
+      }
+      return this;
+    }
+
+    /**
+     * Calls <code>insured</code> on the builder if the condition is true.
+     * 
+     * @param insured value passed to the builder
+     * @return this view
+     */
+    public When insured(boolean insured) {
+      if (ShippingOptionsBuilder.this.whenCondition) {
+        ShippingOptionsBuilder.this.insured(insured);
+      }
+      return this;
+    }
+
+    /**
+     * Calls <code>insured</code> on the builder if the condition is true.
+     * 
+     * @param insuredSupplier value passed to the builder
+     * @return this view
+     */
+    public When insured(Supplier<Boolean> insuredSupplier) {
+      if (ShippingOptionsBuilder.this.whenCondition) {
+        ShippingOptionsBuilder.this.insured(insuredSupplier);
+      }
+      return this;
+    }
+
+    /**
+     * Ends the conditional part of the chain.
+     * 
+     * @return the builder
+     */
+    public ShippingOptionsBuilder endWhen() {
+      return ShippingOptionsBuilder.this;
+    }
+  }
+}
\ No newline at end of file
@@ -10,6 +10,7 @@ import javax.annotation.processing.Generated;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.javahelpers.simple.builders.core.annotations.BuilderImplementation;
 import org.javahelpers.simple.builders.core.interfaces.IBuilderBase;
+import org.javahelpers.simple.builders.core.util.BuilderSupport;
 import org.javahelpers.simple.builders.core.util.BuilderToStringStyle;
 import org.javahelpers.simple.builders.core.util.TrackedValue;
 
@@ -186,12 +187,7 @@ public class SponsorDtoBuilder implements IBuilderBase<SponsorDto> {
    */
   public SponsorDtoBuilder conditional(BooleanSupplier condition, Consumer<SponsorDtoBuilder> trueCase,
       Consumer<SponsorDtoBuilder> falseCase) {
-    if (condition.getAsBoolean()) {
-      trueCase.accept(this);
-    } else if (falseCase != null) {
-      falseCase.accept(this);
-    }
-    return this;
+    return BuilderSupport.conditional(this, condition, trueCase, falseCase);
   }
 
   /**
@@ -232,14 +228,8 @@ public class SponsorDtoBuilder implements IBuilderBase<SponsorDto> {
      * @return the modified instance
      */
     default SponsorDto with(Consumer<SponsorDtoBuilder> b) {
-      SponsorDtoBuilder builder;
-      try {
-        builder = new SponsorDtoBuilder(SponsorDto.class.cast(this));
-      } catch (ClassCastException ex) {
-        throw new IllegalArgumentException(
-            "The interface 'SponsorDtoBuilder.With' should only be implemented by classes, which could be casted to 'SponsorDto'",
-            ex);
-      }
+      SponsorDtoBuilder builder = new SponsorDtoBuilder(
+          BuilderSupport.castWithInstance(this, SponsorDto.class, "SponsorDtoBuilder.With"));
       b.accept(builder);
       return builder.build();
     }
@@ -250,13 +240,7 @@ public class SponsorDtoBuilder implements IBuilderBase<SponsorDto> {
      * @return a builder initialized with this instance's values
      */
     default SponsorDtoBuilder with() {
-      try {
-        return new SponsorDtoBuilder(SponsorDto.class.cast(this));
-      } catch (ClassCastException ex) {
-        throw new IllegalArgumentException(
-            "The interface 'SponsorDtoBuilder.With' should only be implemented by classes, which could be casted to 'SponsorDto'",
-            ex);
-      }
+      return new SponsorDtoBuilder(BuilderSupport.castWithInstance(this, SponsorDto.class, "SponsorDtoBuilder.With"));
     }
   }
 }
\ No newline at end of file
@@ -0,0 +1,227 @@
+package org.javahelpers.simple.builders.example;
+
+import java.util.Arrays;
+import java.util.Objects;
+import javax.annotation.processing.Generated;
+
+/**
+ * Columnar batch of {@code org.javahelpers.simple.builders.example.Trade}, storing one array per field. Rows are
+ * appended without creating DTOs, {@link #toDto(int)} creates the DTO of a row via {@link TradeBuilder}. Not
+ * thread-safe.
+ */
+@Generated("Generated by org.javahelpers.simple.builders.processor.BuilderProcessor")
+public class TradeBatch {
+
+  private static final int DEFAULT_CAPACITY = 16;
+  /**
+   * Number of rows, the columns are only valid up to this index.
+   */
+  private int size;
+  /**
+   * Length of all column arrays.
+   */
+  private int capacity;
+  /**
+   * Values of <code>tradeId</code>, indexed by row.
+   */
+  private long[] tradeIdColumn;
+  /**
+   * Values of <code>symbol</code>, indexed by row.
+   */
+  private String[] symbolColumn;
+  /**
+   * Values of <code>price</code>, indexed by row.
+   */
+  private double[] priceColumn;
+  /**
+   * Values of <code>quantity</code>, indexed by row.
+   */
+  private int[] quantityColumn;
+
+  /**
+   * Creates an empty batch with a capacity of 16 rows.
+   */
+  public TradeBatch() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates an empty batch with the given capacity.
+   * 
+   * @param initialCapacity number of rows to allocate the columns for
+   * @throws IllegalArgumentException if the capacity is negative
+   */
+  public TradeBatch(int initialCapacity) {
+    if (initialCapacity < 0) {
+      throw new IllegalArgumentException("Negative initial capacity: " + initialCapacity);
+    }
+    this.capacity = initialCapacity;
+    this.tradeIdColumn = new long[initialCapacity];
+    this.symbolColumn = new String[initialCapacity];
+    this.priceColumn = new double[initialCapacity];
+    this.quantityColumn = new int[initialCapacity];
+  }
+
+  /**
+   * Removes all rows, keeping the allocated columns. References to objects are released.
+   */
+  public void clear() {
+    Arrays.fill(this.symbolColumn, 0, this.size, null);
+    this.size = 0;
+  }
+
+  /**
+   * Returns the number of rows in this batch.
+   * 
+   * @return number of rows
+   */
+  public int size() {
+    return this.size;
+  }
+
+  /**
+   * Appends a row with the values of a DTO.
+   * 
+   * @param value the DTO to append
+   * @return this batch
+   */
+  public TradeBatch add(Trade value) {
+    return add(value.tradeId(), value.symbol(), value.price(), value.quantity());
+  }
+
+  /**
+   * Appends a row from field values, without creating a DTO.
+   * 
+   * @param tradeId identifier of the trade
+   * @param symbol traded symbol
+   * @param price price per unit
+   * @param quantity traded quantity
+   * @return this batch
+   */
+  public TradeBatch add(long tradeId, String symbol, double price, int quantity) {
+    if (this.size == this.capacity) {
+      grow();
+    }
+    this.tradeIdColumn[this.size] = tradeId;
+    this.symbolColumn[this.size] = symbol;
+    this.priceColumn[this.size] = price;
+    this.quantityColumn[this.size] = quantity;
+    this.size++;
+    return this;
+  }
+
+  /**
+   * Reads <code>price</code> of a row.
+   * 
+   * @param row index of the row
+   * @return price per unit
+   * @throws IndexOutOfBoundsException if the row does not exist
+   */
+  public double price(int row) {
+    Objects.checkIndex(row, this.size);
+    return this.priceColumn[row];
+  }
+
+  /**
+   * Returns the backing array of <code>price</code> for scans. Only the first <code>size()</code> entries are valid;
+   * the array is replaced when the batch grows.
+   * 
+   * @return the values of all rows, indexed by row
+   */
+  public double[] priceColumn() {
+    return this.priceColumn;
+  }
+
+  /**
+   * Reads <code>quantity</code> of a row.
+   * 
+   * @param row index of the row
+   * @return traded quantity
+   * @throws IndexOutOfBoundsException if the row does not exist
+   */
+  public int quantity(int row) {
+    Objects.checkIndex(row, this.size);
+    return this.quantityColumn[row];
+  }
+
+  /**
+   * Returns the backing array of <code>quantity</code> for scans. Only the first <code>size()</code> entries are valid;
+   * the array is replaced when the batch grows.
+   * 
+   * @return the values of all rows, indexed by row
+   */
+  public int[] quantityColumn() {
+    return this.quantityColumn;
+  }
+
+  /**
+   * Reads <code>symbol</code> of a row.
+   * 
+   * @param row index of the row
+   * @return traded symbol
+   * @throws IndexOutOfBoundsException if the row does not exist
+   */
+  public String symbol(int row) {
+    Objects.checkIndex(row, this.size);
+    return this.symbolColumn[row];
+  }
+
+  /**
+   * Returns the backing array of <code>symbol</code> for scans. Only the first <code>size()</code> entries are valid;
+   * the array is replaced when the batch grows.
+   * 
+   * @return the values of all rows, indexed by row
+   */
+  public String[] symbolColumn() {
+    return this.symbolColumn;
+  }
+
+  /**
+   * Reads <code>tradeId</code> of a row.
+   * 
+   * @param row index of the row
+   * @return identifier of the trade
+   * @throws IndexOutOfBoundsException if the row does not exist
+   */
+  public long tradeId(int row) {
+    Objects.checkIndex(row, this.size);
+    return this.tradeIdColumn[row];
+  }
+
+  /**
+   * Returns the backing array of <code>tradeId</code> for scans. Only the first <code>size()</code> entries are valid;
+   * the array is replaced when the batch grows.
+   * 
+   * @return the values of all rows, indexed by row
+   */
+  public long[] tradeIdColumn() {
+    return this.tradeIdColumn;
+  }
+
+  /**
+   * Creates the DTO of a row via the builder.
+   * 
+   * @param row index of the row
+   * @return new DTO with the values of the row
+   * @throws IndexOutOfBoundsException if the row does not exist
+   */
+  public Trade toDto(int row) {
+    Objects.checkIndex(row, this.size);
+    return new TradeBuilder().tradeId(this.tradeIdColumn[row])
+        .symbol(this.symbolColumn[row])
+        .price(this.priceColumn[row])
+        .quantity(this.quantityColumn[row])
+        .build();
+  }
+
+  /**
+   * Doubles the capacity of all columns.
+   */
+  private void grow() {
+    this.capacity = Math.max(DEFAULT_CAPACITY, this.capacity * 2);
+    this.tradeIdColumn = Arrays.copyOf(this.tradeIdColumn, this.capacity);
+    this.symbolColumn = Arrays.copyOf(this.symbolColumn, this.capacity);
+    this.priceColumn = Arrays.copyOf(this.priceColumn, this.capacity);
+    this.quantityColumn = Arrays.copyOf(this.quantityColumn, this.capacity);
+  }
+}
\ No newline at end of file
@@ -0,0 +1,460 @@
+package org.javahelpers.simple.builders.example;
+
+import static org.javahelpers.simple.builders.core.util.TrackedValue.changedValue;
+import static org.javahelpers.simple.builders.core.util.TrackedValue.initialValue;
+import static org.javahelpers.simple.builders.core.util.TrackedValue.unsetValue;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import javax.annotation.processing.Generated;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.javahelpers.simple.builders.core.annotations.BuilderImplementation;
+import org.javahelpers.simple.builders.core.interfaces.IBuilderBase;
+import org.javahelpers.simple.builders.core.util.BuilderSupport;
+import org.javahelpers.simple.builders.core.util.BuilderToStringStyle;
+import org.javahelpers.simple.builders.core.util.TrackedValue;
+
+/**
+ * Builder for {@code org.javahelpers.simple.builders.example.Trade}.
+ * <p>
+ * This builder provides a fluent API for creating instances of org.javahelpers.simple.builders.example.Trade with
+ * method chaining and validation. Use the static {@code create()} method to obtain a new builder instance, configure
+ * the desired properties using the setter methods, and then call {@code build()} to create the final DTO.
+ * 
+ * <h4>Example:</h4>
+ * 
+ * <pre>{@code
+ * Trade result = TradeBuilder.create()
+ *     .tradeId(42L)
+ *     .tradeId(() -> 42L)
+ *     .symbol("example value")
+ *     .symbol("Hello %s", "World")
+ *     .symbol(() -> "example value")
+ *     .symbol(sb -> sb.append("text"))
+ *     .price(3.14)
+ *     .price(() -> 3.14)
+ *     .quantity(42)
+ *     .quantity(() -> 42)
+ *     .build();
+ * }</pre>
+ */
+@Generated("Generated by org.javahelpers.simple.builders.processor.BuilderProcessor")
+@BuilderImplementation(forClass = Trade.class)
+public class TradeBuilder implements IBuilderBase<Trade> {
+
+  /**
+   * Tracked value for <code>tradeId</code>: identifier of the trade.
+   */
+  private TrackedValue<Long> tradeId = unsetValue();
+  /**
+   * Tracked value for <code>symbol</code>: traded symbol.
+   */
+  private TrackedValue<String> symbol = unsetValue();
+  /**
+   * Tracked value for <code>price</code>: price per unit.
+   */
+  private TrackedValue<Double> price = unsetValue();
+  /**
+   * Tracked value for <code>quantity</code>: traded quantity.
+   */
+  private TrackedValue<Integer> quantity = unsetValue();
+
+  /**
+   * Empty constructor of builder for {@code org.javahelpers.simple.builders.example.Trade}.
+   */
+  public TradeBuilder() {
+  }
+
+  /**
+   * Initialisation of builder for {@code org.javahelpers.simple.builders.example.Trade} by a instance.
+   * 
+   * @param instance object instance for initialisiation
+   */
+  public TradeBuilder(Trade instance) {
+    this.tradeId = initialValue(instance.tradeId());
+    this.symbol = initialValue(instance.symbol());
+    this.price = initialValue(instance.price());
+    this.quantity = initialValue(instance.quantity());
+  }
+
+  /**
+   * Creating a new builder for {@code org.javahelpers.simple.builders.example.Trade}.
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * TradeBuilder builder = TradeBuilder.create();
+   * }</pre>
+   * 
+   * @return builder for {@code org.javahelpers.simple.builders.example.Trade}
+   */
+  public static TradeBuilder create() {
+    return new TradeBuilder();
+  }
+
+  /**
+   * Sets the value for <code>price</code>.
+   * <p>
+   * Generated from parameter in constructor {@link Trade#Trade(long, String, double, int) Trade(long tradeId, String
+   * symbol, double price, int quantity)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.price(3.14);
+   * }</pre>
+   * 
+   * @param price price per unit
+   * @return current instance of builder
+   */
+  public TradeBuilder price(double price) {
+    this.price = changedValue(price);
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>price</code> by invoking the provided supplier.
+   * <p>
+   * Generated from parameter in constructor {@link Trade#Trade(long, String, double, int) Trade(long tradeId, String
+   * symbol, double price, int quantity)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.price(() -> 3.14);
+   * }</pre>
+   * 
+   * @param priceSupplier supplier for price per unit
+   * @return current instance of builder
+   */
+  public TradeBuilder price(Supplier<Double> priceSupplier) {
+    this.price = changedValue(priceSupplier.get());
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>quantity</code>.
+   * <p>
+   * Generated from parameter in constructor {@link Trade#Trade(long, String, double, int) Trade(long tradeId, String
+   * symbol, double price, int quantity)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.quantity(42);
+   * }</pre>
+   * 
+   * @param quantity traded quantity
+   * @return current instance of builder
+   */
+  public TradeBuilder quantity(int quantity) {
+    this.quantity = changedValue(quantity);
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>quantity</code> by invoking the provided supplier.
+   * <p>
+   * Generated from parameter in constructor {@link Trade#Trade(long, String, double, int) Trade(long tradeId, String
+   * symbol, double price, int quantity)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.quantity(() -> 42);
+   * }</pre>
+   * 
+   * @param quantitySupplier supplier for traded quantity
+   * @return current instance of builder
+   */
+  public TradeBuilder quantity(Supplier<Integer> quantitySupplier) {
+    this.quantity = changedValue(quantitySupplier.get());
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>symbol</code>.
+   * <p>
+   * Generated from parameter in constructor {@link Trade#Trade(long, String, double, int) Trade(long tradeId, String
+   * symbol, double price, int quantity)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.symbol("example value");
+   * }</pre>
+   * 
+   * @param symbol traded symbol
+   * @return current instance of builder
+   */
+  public TradeBuilder symbol(String symbol) {
+    this.symbol = changedValue(symbol);
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>symbol</code> by executing the provided consumer.
+   * <p>
+   * Generated from parameter in constructor {@link Trade#Trade(long, String, double, int) Trade(long tradeId, String
+   * symbol, double price, int quantity)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.symbol(sb -> sb.append("text"));
+   * }</pre>
+   * 
+   * @param symbolStringBuilderConsumer consumer providing an instance of traded symbol
+   * @return current instance of builder
+   */
+  public TradeBuilder symbol(Consumer<StringBuilder> symbolStringBuilderConsumer) {
+    StringBuilder builder = new StringBuilder();
+    symbolStringBuilderConsumer.accept(builder);
+    this.symbol = changedValue(builder.toString());
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>symbol</code> by invoking the provided supplier.
+   * <p>
+   * Generated from parameter in constructor {@link Trade#Trade(long, String, double, int) Trade(long tradeId, String
+   * symbol, double price, int quantity)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.symbol(() -> "example value");
+   * }</pre>
+   * 
+   * @param symbolSupplier supplier for traded symbol
+   * @return current instance of builder
+   */
+  public TradeBuilder symbol(Supplier<String> symbolSupplier) {
+    this.symbol = changedValue(symbolSupplier.get());
+    return this;
+  }
+
+  /**
+   * Sets the String value for <code>symbol</code> by using String.format(format, args). See
+   * {@link String#format(String, Object...)} for details.
+   * <p>
+   * Generated from parameter in constructor {@link Trade#Trade(long, String, double, int) Trade(long tradeId, String
+   * symbol, double price, int quantity)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.symbol("Hello %s", "World");
+   * }</pre>
+   * 
+   * @param format A format string
+   * @param args Arguments referenced by the format specifiers in the format string.
+   * @return current instance of builder
+   */
+  public TradeBuilder symbol(String format, Object... args) {
+    this.symbol = changedValue(String.format(format, args));
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>tradeId</code>.
+   * <p>
+   * Generated from parameter in constructor {@link Trade#Trade(long, String, double, int) Trade(long tradeId, String
+   * symbol, double price, int quantity)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.tradeId(42L);
+   * }</pre>
+   * 
+   * @param tradeId identifier of the trade
+   * @return current instance of builder
+   */
+  public TradeBuilder tradeId(long tradeId) {
+    this.tradeId = changedValue(tradeId);
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>tradeId</code> by invoking the provided supplier.
+   * <p>
+   * Generated from parameter in constructor {@link Trade#Trade(long, String, double, int) Trade(long tradeId, String
+   * symbol, double price, int quantity)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.tradeId(() -> 42L);
+   * }</pre>
+   * 
+   * @param tradeIdSupplier supplier for identifier of the trade
+   * @return current instance of builder
+   */
+  public TradeBuilder tradeId(Supplier<Long> tradeIdSupplier) {
+    this.tradeId = changedValue(tradeIdSupplier.get());
+    return this;
+  }
+
+  /**
+   * Validates that the symbol field is not null or empty.
+   * <p>
+   * Generated from parameter in constructor {@link Trade#Trade(long, String, double, int) Trade(long tradeId, String
+   * symbol, double price, int quantity)}
+   * 
+   * @return this builder instance for chaining
+   * @throws IllegalArgumentException if symbol is null or empty
+   */
+  TradeBuilder validateSymbol() {
+    if (!symbol.isSet() || symbol.value().trim().isEmpty()) {
+      throw new IllegalArgumentException("Symbol cannot be null or empty");
+    }
+    return this;
+  }
+
+  /**
+   * Conditionally applies builder modifications if the condition is true.
+   * 
+   * @param condition the condition to evaluate
+   * @param yesCondition the consumer to apply if condition is true
+   * @return this builder instance
+   */
+  public TradeBuilder conditional(BooleanSupplier condition, Consumer<TradeBuilder> yesCondition) {
+    return conditional(condition, yesCondition, null);
+  }
+
+  /**
+   * Conditionally applies builder modifications based on a condition evaluation.
+   * 
+   * @param condition the condition to evaluate
+   * @param trueCase the consumer to apply if condition is true
+   * @param falseCase the consumer to apply if condition is false (can be null)
+   * @return this builder instance
+   */
+  public TradeBuilder conditional(BooleanSupplier condition, Consumer<TradeBuilder> trueCase,
+      Consumer<TradeBuilder> falseCase) {
+    return BuilderSupport.conditional(this, condition, trueCase, falseCase);
+  }
+
+  /**
+   * Builds the configured DTO instance.
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * Trade result = builder.build();
+   * }</pre>
+   */
+  @Override
+  public Trade build() {
+    if (!this.tradeId.isSet()) {
+      throw new IllegalStateException("Required field 'tradeId' must be set before calling build()");
+    }
+    if (this.tradeId.value() == null) {
+      throw new IllegalStateException("Field 'tradeId' is marked as non-null but null value was provided");
+    }
+    if (!this.price.isSet()) {
+      throw new IllegalStateException("Required field 'price' must be set before calling build()");
+    }
+    if (this.price.value() == null) {
+      throw new IllegalStateException("Field 'price' is marked as non-null but null value was provided");
+    }
+    if (!this.quantity.isSet()) {
+      throw new IllegalStateException("Required field 'quantity' must be set before calling build()");
+    }
+    if (this.quantity.value() == null) {
+      throw new IllegalStateException("Field 'quantity' is marked as non-null but null value was provided");
+    }
+    Trade result = new Trade(this.tradeId.value(), this.symbol.value(), this.price.value(), this.quantity.value());
+    return result;
+  }
+
+  /**
+   * Returns a string representation of this builder, including only fields that have been set.
+   * 
+   * @return string representation of the builder
+   */
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this, BuilderToStringStyle.INSTANCE).append("tradeId", this.tradeId)
+        .append("symbol", this.symbol)
+        .append("price", this.price)
+        .append("quantity", this.quantity)
+        .toString();
+  }
+
+  /**
+   * Interface that can be implemented by the DTO to provide fluent modification methods.
+   */
+  public interface With {
+    /**
+     * Initializes a builder from an instance of this class, using methods of this builder to change values and returns
+     * the new built object.
+     * 
+     * @param b the consumer to apply modifications
+     * @return the modified instance
+     */
+    default Trade with(Consumer<TradeBuilder> b) {
+      TradeBuilder builder = new TradeBuilder(BuilderSupport.castWithInstance(this, Trade.class, "TradeBuilder.With"));
+      b.accept(builder);
+      return builder.build();
+    }
+
+    /**
+     * Creates a builder initialized from this instance.
+     * 
+     * @return a builder initialized with this instance's values
+     */
+    default TradeBuilder with() {
+      return new TradeBuilder(BuilderSupport.castWithInstance(this, Trade.class, "TradeBuilder.With"));
+    }
+
+    /**
+     * Creates a copy of this instance with a new value for <code>tradeId</code>, calling the constructor directly
+     * without initializing a builder.
+     * 
+     * @param tradeId the new value for <code>tradeId</code>
+     * @return the modified instance
+     */
+    default Trade withTradeId(long tradeId) {
+      Trade self = BuilderSupport.castWithInstance(this, Trade.class, "TradeBuilder.With");
+      return new Trade(tradeId, self.symbol(), self.price(), self.quantity());
+    }
+
+    /**
+     * Creates a copy of this instance with a new value for <code>symbol</code>, calling the constructor directly
+     * without initializing a builder.
+     * 
+     * @param symbol the new value for <code>symbol</code>
+     * @return the modified instance
+     */
+    default Trade withSymbol(String symbol) {
+      Trade self = BuilderSupport.castWithInstance(this, Trade.class, "TradeBuilder.With");
+      return new Trade(self.tradeId(), symbol, self.price(), self.quantity());
+    }
+
+    /**
+     * Creates a copy of this instance with a new value for <code>price</code>, calling the constructor directly without
+     * initializing a builder.
+     * 
+     * @param price the new value for <code>price</code>
+     * @return the modified instance
+     */
+    default Trade withPrice(double price) {
+      Trade self = BuilderSupport.castWithInstance(this, Trade.class, "TradeBuilder.With");
+      return new Trade(self.tradeId(), self.symbol(), price, self.quantity());
+    }
+
+    /**
+     * Creates a copy of this instance with a new value for <code>quantity</code>, calling the constructor directly
+     * without initializing a builder.
+     * 
+     * @param quantity the new value for <code>quantity</code>
+     * @return the modified instance
+     */
+    default Trade withQuantity(int quantity) {
+      Trade self = BuilderSupport.castWithInstance(this, Trade.class, "TradeBuilder.With");
+      return new Trade(self.tradeId(), self.symbol(), self.price(), quantity);
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,707 @@
+package org.javahelpers.simple.builders.example;
+
+import static org.javahelpers.simple.builders.core.util.TrackedValue.changedValue;
+import static org.javahelpers.simple.builders.core.util.TrackedValue.initialValue;
+import static org.javahelpers.simple.builders.core.util.TrackedValue.unsetValue;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import javax.annotation.processing.Generated;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.javahelpers.simple.builders.core.annotations.BuilderImplementation;
+import org.javahelpers.simple.builders.core.builders.ArrayListBuilderWithElementBuilders;
+import org.javahelpers.simple.builders.core.builders.HashSetBuilderWithElementBuilders;
+import org.javahelpers.simple.builders.core.interfaces.IBuilderBase;
+import org.javahelpers.simple.builders.core.util.BuilderSupport;
+import org.javahelpers.simple.builders.core.util.BuilderToStringStyle;
+import org.javahelpers.simple.builders.core.util.MapConversion;
+import org.javahelpers.simple.builders.core.util.TrackedValue;
+
+/**
+ * Builder for {@code org.javahelpers.simple.builders.example.Venue}.
+ * <p>
+ * This builder provides a fluent API for creating instances of org.javahelpers.simple.builders.example.Venue with
+ * method chaining and validation. Use the static {@code create()} method to obtain a new builder instance, configure
+ * the desired properties using the setter methods, and then call {@code build()} to create the final DTO.
+ * 
+ * <h4>Example:</h4>
+ * 
+ * <pre>{@code
+ * Venue result = VenueBuilder.create()
+ *     .name("example value")
+ *     .name("Hello %s", "World")
+ *     .name(() -> "example value")
+ *     .name(sb -> sb.append("text"))
+ *     .capacity(42)
+ *     .capacity(() -> 42)
+ *     .location(GeoPointBuilder.create().build())
+ *     .location(() -> GeoPointBuilder.create().build())
+ *     .location(geoPointBuilder -> geoPointBuilder)
+ *     .entrances(t -> t.add(geoPointBuilder -> geoPointBuilder))
+ *     .emergencyExits(t -> t.add(geoPointBuilder -> geoPointBuilder))
+ *     .build();
+ * }</pre>
+ */
+@Generated("Generated by org.javahelpers.simple.builders.processor.BuilderProcessor")
+@BuilderImplementation(forClass = Venue.class)
+public class VenueBuilder implements IBuilderBase<Venue> {
+
+  /**
+   * Tracked value for <code>name</code>: name of the venue.
+   */
+  private TrackedValue<String> name = unsetValue();
+  /**
+   * Tracked value for <code>capacity</code>: maximum number of visitors.
+   */
+  private TrackedValue<Integer> capacity = unsetValue();
+  /**
+   * Tracked value for <code>location</code>: geographic location.
+   */
+  private TrackedValue<GeoPoint> location = unsetValue();
+  /**
+   * Tracked value for <code>entrances</code>: locations of the entrances.
+   */
+  private TrackedValue<List<GeoPoint>> entrances = unsetValue();
+  /**
+   * Tracked value for <code>emergencyExits</code>: locations of the emergency exits, converted to a set of property
+   * maps.
+   */
+  private TrackedValue<Set<GeoPoint>> emergencyExits = unsetValue();
+
+  /**
+   * Empty constructor of builder for {@code org.javahelpers.simple.builders.example.Venue}.
+   */
+  public VenueBuilder() {
+  }
+
+  /**
+   * Initialisation of builder for {@code org.javahelpers.simple.builders.example.Venue} by a instance.
+   * 
+   * @param instance object instance for initialisiation
+   */
+  public VenueBuilder(Venue instance) {
+    this.name = initialValue(instance.name());
+    this.capacity = initialValue(instance.capacity());
+    this.location = initialValue(instance.location());
+    this.entrances = initialValue(instance.entrances());
+    this.emergencyExits = initialValue(instance.emergencyExits());
+  }
+
+  /**
+   * Creating a new builder for {@code org.javahelpers.simple.builders.example.Venue}.
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * VenueBuilder builder = VenueBuilder.create();
+   * }</pre>
+   * 
+   * @return builder for {@code org.javahelpers.simple.builders.example.Venue}
+   */
+  public static VenueBuilder create() {
+    return new VenueBuilder();
+  }
+
+  /**
+   * Creates a builder from a property map. Each key is the name of a field, unknown keys are ignored.
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * VenueBuilder builder = VenueBuilder.fromMap(properties);
+   * }</pre>
+   * 
+   * @param map property map with the values of the fields
+   * @return builder with all fields of the map set
+   * @throws ClassCastException if a value does not match the type of its field
+   * @throws NullPointerException if the value of a primitive field is null
+   */
+  public static VenueBuilder fromMap(Map<String, ?> map) {
+    Objects.requireNonNull(map, "map");
+    VenueBuilder builder = new VenueBuilder();
+    for (Map.Entry<String, ?> entry : map.entrySet()) {
+      switch (entry.getKey()) {
+        case "name" :
+          builder.name((String) entry.getValue());
+          break;
+        case "capacity" :
+          builder.capacity((Integer) entry.getValue());
+          break;
+        case "location" :
+          builder.location(MapConversion.fromMapValue(entry.getValue(), GeoPoint.class,
+              nested -> GeoPointBuilder.fromMap(nested).build()));
+          break;
+        case "entrances" :
+          builder.entrances(MapConversion.fromMapValueList(entry.getValue(), GeoPoint.class,
+              element -> GeoPointBuilder.fromMap(element).build()));
+          break;
+        case "emergencyExits" :
+          builder.emergencyExits(MapConversion.fromMapValueSet(entry.getValue(), GeoPoint.class,
+              element -> GeoPointBuilder.fromMap(element).build()));
+          break;
+        default :
+          break;
+      }
+    }
+    return builder;
+  }
+
+  /**
+   * Creates a property map from a DTO, containing the value of each field with a getter.
+   * 
+   * @param instance DTO to convert
+   * @return new property map, ordered like the fields of the builder
+   */
+  public static Map<String, Object> toMap(Venue instance) {
+    return toMap(instance, false);
+  }
+
+  /**
+   * Creates a property map from a DTO, containing the value of each field with a getter.
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * Map<String, Object> properties = VenueBuilder.toMap(venue, true);
+   * }</pre>
+   * 
+   * @param instance DTO to convert
+   * @param skipNullValues <code>true</code> to leave out fields with null values
+   * @return new property map, ordered like the fields of the builder
+   */
+  public static Map<String, Object> toMap(Venue instance, boolean skipNullValues) {
+    Objects.requireNonNull(instance, "instance");
+    Map<String, Object> map = new LinkedHashMap<>(7);
+    map.put("name", instance.name());
+    map.put("capacity", instance.capacity());
+    map.put("location", MapConversion.toMapValue(instance.location(), GeoPointBuilder::toMap));
+    map.put("entrances", MapConversion.toMapValueList(instance.entrances(), GeoPointBuilder::toMap));
+    map.put("emergencyExits", MapConversion.toMapValueSet(instance.emergencyExits(), GeoPointBuilder::toMap));
+    if (skipNullValues) {
+      map.values().removeIf(Objects::isNull);
+    }
+    return map;
+  }
+
+  /**
+   * Adds a single element to <code>emergencyExits</code>.
+   * <p>
+   * Generated from parameter in constructor {@link Venue#Venue(String, int, GeoPoint, List, Set) Venue(String name, int
+   * capacity, GeoPoint location, List<GeoPoint> entrances, Set<GeoPoint> emergencyExits)}
+   * 
+   * @param element the element to add
+   * @return current instance of builder
+   */
+  public VenueBuilder add2EmergencyExits(GeoPoint element) {
+    this.emergencyExits = BuilderSupport.addToSet(this.emergencyExits, element);
+    return this;
+  }
+
+  /**
+   * Adds a single element to <code>entrances</code>.
+   * <p>
+   * Generated from parameter in constructor {@link Venue#Venue(String, int, GeoPoint, List, Set) Venue(String name, int
+   * capacity, GeoPoint location, List<GeoPoint> entrances, Set<GeoPoint> emergencyExits)}
+   * 
+   * @param element the element to add
+   * @return current instance of builder
+   */
+  public VenueBuilder add2Entrances(GeoPoint element) {
+    this.entrances = BuilderSupport.addToList(this.entrances, element);
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>capacity</code>.
+   * <p>
+   * Generated from parameter in constructor {@link Venue#Venue(String, int, GeoPoint, List, Set) Venue(String name, int
+   * capacity, GeoPoint location, List<GeoPoint> entrances, Set<GeoPoint> emergencyExits)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.capacity(42);
+   * }</pre>
+   * 
+   * @param capacity maximum number of visitors
+   * @return current instance of builder
+   */
+  public VenueBuilder capacity(int capacity) {
+    this.capacity = changedValue(capacity);
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>capacity</code> by invoking the provided supplier.
+   * <p>
+   * Generated from parameter in constructor {@link Venue#Venue(String, int, GeoPoint, List, Set) Venue(String name, int
+   * capacity, GeoPoint location, List<GeoPoint> entrances, Set<GeoPoint> emergencyExits)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.capacity(() -> 42);
+   * }</pre>
+   * 
+   * @param capacitySupplier supplier for maximum number of visitors
+   * @return current instance of builder
+   */
+  public VenueBuilder capacity(Supplier<Integer> capacitySupplier) {
+    this.capacity = changedValue(capacitySupplier.get());
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>emergencyExits</code>.
+   * <p>
+   * Generated from parameter in constructor {@link Venue#Venue(String, int, GeoPoint, List, Set) Venue(String name, int
+   * capacity, GeoPoint location, List<GeoPoint> entrances, Set<GeoPoint> emergencyExits)}
+   * 
+   * @param emergencyExits locations of the emergency exits, converted to a set of property maps
+   * @return current instance of builder
+   */
+  public VenueBuilder emergencyExits(GeoPoint... emergencyExits) {
+    this.emergencyExits = changedValue(Set.of(emergencyExits));
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>emergencyExits</code>.
+   * <p>
+   * Generated from parameter in constructor {@link Venue#Venue(String, int, GeoPoint, List, Set) Venue(String name, int
+   * capacity, GeoPoint location, List<GeoPoint> entrances, Set<GeoPoint> emergencyExits)}
+   * 
+   * @param emergencyExits locations of the emergency exits, converted to a set of property maps
+   * @return current instance of builder
+   */
+  public VenueBuilder emergencyExits(Set<GeoPoint> emergencyExits) {
+    this.emergencyExits = changedValue(emergencyExits);
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>emergencyExits</code> using a builder consumer that produces the value.
+   * <p>
+   * Generated from parameter in constructor {@link Venue#Venue(String, int, GeoPoint, List, Set) Venue(String name, int
+   * capacity, GeoPoint location, List<GeoPoint> entrances, Set<GeoPoint> emergencyExits)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.emergencyExits(t -> t.add(geoPointBuilder -> geoPointBuilder));
+   * }</pre>
+   * 
+   * @param emergencyExitsBuilderConsumer consumer providing an instance of a builder for locations of the emergency
+   * exits, converted to a set of property maps
+   * @return current instance of builder
+   */
+  public VenueBuilder emergencyExits(
+      Consumer<HashSetBuilderWithElementBuilders<GeoPoint, GeoPointBuilder>> emergencyExitsBuilderConsumer) {
+    HashSetBuilderWithElementBuilders<GeoPoint, GeoPointBuilder> builder = this.emergencyExits.isSet()
+        ? new HashSetBuilderWithElementBuilders<GeoPoint, GeoPointBuilder>(this.emergencyExits.value(),
+            GeoPointBuilder::create)
+        : new HashSetBuilderWithElementBuilders<GeoPoint, GeoPointBuilder>(GeoPointBuilder::create);
+    emergencyExitsBuilderConsumer.accept(builder);
+    this.emergencyExits = changedValue(builder.build());
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>emergencyExits</code> by invoking the provided supplier.
+   * <p>
+   * Generated from parameter in constructor {@link Venue#Venue(String, int, GeoPoint, List, Set) Venue(String name, int
+   * capacity, GeoPoint location, List<GeoPoint> entrances, Set<GeoPoint> emergencyExits)}
+   * 
+   * @param emergencyExitsSupplier supplier for locations of the emergency exits, converted to a set of property maps
+   * @return current instance of builder
+   */
+  public VenueBuilder emergencyExits(Supplier<Set<GeoPoint>> emergencyExitsSupplier) {
+    this.emergencyExits = changedValue(emergencyExitsSupplier.get());
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>entrances</code>.
+   * <p>
+   * Generated from parameter in constructor {@link Venue#Venue(String, int, GeoPoint, List, Set) Venue(String name, int
+   * capacity, GeoPoint location, List<GeoPoint> entrances, Set<GeoPoint> emergencyExits)}
+   * 
+   * @param entrances locations of the entrances
+   * @return current instance of builder
+   */
+  public VenueBuilder entrances(GeoPoint... entrances) {
+    this.entrances = changedValue(List.of(entrances));
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>entrances</code>.
+   * <p>
+   * Generated from parameter in constructor {@link Venue#Venue(String, int, GeoPoint, List, Set) Venue(String name, int
+   * capacity, GeoPoint location, List<GeoPoint> entrances, Set<GeoPoint> emergencyExits)}
+   * 
+   * @param entrances locations of the entrances
+   * @return current instance of builder
+   */
+  public VenueBuilder entrances(List<GeoPoint> entrances) {
+    this.entrances = changedValue(entrances);
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>entrances</code> using a builder consumer that produces the value.
+   * <p>
+   * Generated from parameter in constructor {@link Venue#Venue(String, int, GeoPoint, List, Set) Venue(String name, int
+   * capacity, GeoPoint location, List<GeoPoint> entrances, Set<GeoPoint> emergencyExits)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.entrances(t -> t.add(geoPointBuilder -> geoPointBuilder));
+   * }</pre>
+   * 
+   * @param entrancesBuilderConsumer consumer providing an instance of a builder for locations of the entrances
+   * @return current instance of builder
+   */
+  public VenueBuilder entrances(
+      Consumer<ArrayListBuilderWithElementBuilders<GeoPoint, GeoPointBuilder>> entrancesBuilderConsumer) {
+    ArrayListBuilderWithElementBuilders<GeoPoint, GeoPointBuilder> builder = this.entrances.isSet()
+        ? new ArrayListBuilderWithElementBuilders<GeoPoint, GeoPointBuilder>(this.entrances.value(),
+            GeoPointBuilder::create)
+        : new ArrayListBuilderWithElementBuilders<GeoPoint, GeoPointBuilder>(GeoPointBuilder::create);
+    entrancesBuilderConsumer.accept(builder);
+    this.entrances = changedValue(builder.build());
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>entrances</code> by invoking the provided supplier.
+   * <p>
+   * Generated from parameter in constructor {@link Venue#Venue(String, int, GeoPoint, List, Set) Venue(String name, int
+   * capacity, GeoPoint location, List<GeoPoint> entrances, Set<GeoPoint> emergencyExits)}
+   * 
+   * @param entrancesSupplier supplier for locations of the entrances
+   * @return current instance of builder
+   */
+  public VenueBuilder entrances(Supplier<List<GeoPoint>> entrancesSupplier) {
+    this.entrances = changedValue(entrancesSupplier.get());
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>location</code>.
+   * <p>
+   * Generated from parameter in constructor {@link Venue#Venue(String, int, GeoPoint, List, Set) Venue(String name, int
+   * capacity, GeoPoint location, List<GeoPoint> entrances, Set<GeoPoint> emergencyExits)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.location(GeoPointBuilder.create().build());
+   * }</pre>
+   * 
+   * @param location geographic location
+   * @return current instance of builder
+   */
+  public VenueBuilder location(GeoPoint location) {
+    this.location = changedValue(location);
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>location</code> using a builder consumer that produces the value.
+   * <p>
+   * Generated from parameter in constructor {@link Venue#Venue(String, int, GeoPoint, List, Set) Venue(String name, int
+   * capacity, GeoPoint location, List<GeoPoint> entrances, Set<GeoPoint> emergencyExits)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.location(geoPointBuilder -> geoPointBuilder);
+   * }</pre>
+   * 
+   * @param locationBuilderConsumer consumer providing an instance of a builder for geographic location
+   * @return current instance of builder
+   */
+  public VenueBuilder location(Consumer<GeoPointBuilder> locationBuilderConsumer) {
+    GeoPointBuilder builder = this.location.isSet()
+        ? new GeoPointBuilder(this.location.value())
+        : new GeoPointBuilder();
+    locationBuilderConsumer.accept(builder);
+    this.location = changedValue(builder.build());
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>location</code> by invoking the provided supplier.
+   * <p>
+   * Generated from parameter in constructor {@link Venue#Venue(String, int, GeoPoint, List, Set) Venue(String name, int
+   * capacity, GeoPoint location, List<GeoPoint> entrances, Set<GeoPoint> emergencyExits)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.location(() -> GeoPointBuilder.create().build());
+   * }</pre>
+   * 
+   * @param locationSupplier supplier for geographic location
+   * @return current instance of builder
+   */
+  public VenueBuilder location(Supplier<GeoPoint> locationSupplier) {
+    this.location = changedValue(locationSupplier.get());
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>name</code>.
+   * <p>
+   * Generated from parameter in constructor {@link Venue#Venue(String, int, GeoPoint, List, Set) Venue(String name, int
+   * capacity, GeoPoint location, List<GeoPoint> entrances, Set<GeoPoint> emergencyExits)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.name("example value");
+   * }</pre>
+   * 
+   * @param name name of the venue
+   * @return current instance of builder
+   */
+  public VenueBuilder name(String name) {
+    this.name = changedValue(name);
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>name</code> by executing the provided consumer.
+   * <p>
+   * Generated from parameter in constructor {@link Venue#Venue(String, int, GeoPoint, List, Set) Venue(String name, int
+   * capacity, GeoPoint location, List<GeoPoint> entrances, Set<GeoPoint> emergencyExits)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.name(sb -> sb.append("text"));
+   * }</pre>
+   * 
+   * @param nameStringBuilderConsumer consumer providing an instance of name of the venue
+   * @return current instance of builder
+   */
+  public VenueBuilder name(Consumer<StringBuilder> nameStringBuilderConsumer) {
+    StringBuilder builder = new StringBuilder();
+    nameStringBuilderConsumer.accept(builder);
+    this.name = changedValue(builder.toString());
+    return this;
+  }
+
+  /**
+   * Sets the value for <code>name</code> by invoking the provided supplier.
+   * <p>
+   * Generated from parameter in constructor {@link Venue#Venue(String, int, GeoPoint, List, Set) Venue(String name, int
+   * capacity, GeoPoint location, List<GeoPoint> entrances, Set<GeoPoint> emergencyExits)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.name(() -> "example value");
+   * }</pre>
+   * 
+   * @param nameSupplier supplier for name of the venue
+   * @return current instance of builder
+   */
+  public VenueBuilder name(Supplier<String> nameSupplier) {
+    this.name = changedValue(nameSupplier.get());
+    return this;
+  }
+
+  /**
+   * Sets the String value for <code>name</code> by using String.format(format, args). See
+   * {@link String#format(String, Object...)} for details.
+   * <p>
+   * Generated from parameter in constructor {@link Venue#Venue(String, int, GeoPoint, List, Set) Venue(String name, int
+   * capacity, GeoPoint location, List<GeoPoint> entrances, Set<GeoPoint> emergencyExits)}
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * builder.name("Hello %s", "World");
+   * }</pre>
+   * 
+   * @param format A format string
+   * @param args Arguments referenced by the format specifiers in the format string.
+   * @return current instance of builder
+   */
+  public VenueBuilder name(String format, Object... args) {
+    this.name = changedValue(String.format(format, args));
+    return this;
+  }
+
+  /**
+   * Validates that the name field is not null or empty.
+   * <p>
+   * Generated from parameter in constructor {@link Venue#Venue(String, int, GeoPoint, List, Set) Venue(String name, int
+   * capacity, GeoPoint location, List<GeoPoint> entrances, Set<GeoPoint> emergencyExits)}
+   * 
+   * @return this builder instance for chaining
+   * @throws IllegalArgumentException if name is null or empty
+   */
+  VenueBuilder validateName() {
+    if (!name.isSet() || name.value().trim().isEmpty()) {
+      throw new IllegalArgumentException("Name cannot be null or empty");
+    }
+    return this;
+  }
+
+  /**
+   * Conditionally applies builder modifications if the condition is true.
+   * 
+   * @param condition the condition to evaluate
+   * @param yesCondition the consumer to apply if condition is true
+   * @return this builder instance
+   */
+  public VenueBuilder conditional(BooleanSupplier condition, Consumer<VenueBuilder> yesCondition) {
+    return conditional(condition, yesCondition, null);
+  }
+
+  /**
+   * Conditionally applies builder modifications based on a condition evaluation.
+   * 
+   * @param condition the condition to evaluate
+   * @param trueCase the consumer to apply if condition is true
+   * @param falseCase the consumer to apply if condition is false (can be null)
+   * @return this builder instance
+   */
+  public VenueBuilder conditional(BooleanSupplier condition, Consumer<VenueBuilder> trueCase,
+      Consumer<VenueBuilder> falseCase) {
+    return BuilderSupport.conditional(this, condition, trueCase, falseCase);
+  }
+
+  /**
+   * Builds the configured DTO instance.
+   * 
+   * <h4>Example:</h4>
+   * 
+   * <pre>{@code
+   * Venue result = builder.build();
+   * }</pre>
+   */
+  @Override
+  public Venue build() {
+    if (!this.capacity.isSet()) {
+      throw new IllegalStateException("Required field 'capacity' must be set before calling build()");
+    }
+    if (this.capacity.value() == null) {
+      throw new IllegalStateException("Field 'capacity' is marked as non-null but null value was provided");
+    }
+    Venue result = new Venue(this.name
+        .value(), this.capacity.value(), this.location.value(), this.entrances.value(), this.emergencyExits.value());
+    return result;
+  }
+
+  /**
+   * Returns a string representation of this builder, including only fields that have been set.
+   * 
+   * @return string representation of the builder
+   */
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this, BuilderToStringStyle.INSTANCE).append("name", this.name)
+        .append("capacity", this.capacity)
+        .append("location", this.location)
+        .append("entrances", this.entrances)
+        .append("emergencyExits", this.emergencyExits)
+        .toString();
+  }
+
+  /**
+   * Interface that can be implemented by the DTO to provide fluent modification methods.
+   */
+  public interface With {
+    /**
+     * Initializes a builder from an instance of this class, using methods of this builder to change values and returns
+     * the new built object.
+     * 
+     * @param b the consumer to apply modifications
+     * @return the modified instance
+     */
+    default Venue with(Consumer<VenueBuilder> b) {
+      VenueBuilder builder = new VenueBuilder(BuilderSupport.castWithInstance(this, Venue.class, "VenueBuilder.With"));
+      b.accept(builder);
+      return builder.build();
+    }
+
+    /**
+     * Creates a builder initialized from this instance.
+     * 
+     * @return a builder initialized with this instance's values
+     */
+    default VenueBuilder with() {
+      return new VenueBuilder(BuilderSupport.castWithInstance(this, Venue.class, "VenueBuilder.With"));
+    }
+
+    /**
+     * Creates a copy of this instance with a new value for <code>name</code>, calling the constructor directly without
+     * initializing a builder.
+     * 
+     * @param name the new value for <code>name</code>
+     * @return the modified instance
+     */
+    default Venue withName(String name) {
+      Venue self = BuilderSupport.castWithInstance(this, Venue.class, "VenueBuilder.With");
+      return new Venue(name, self.capacity(), self.location(), self.entrances(), self.emergencyExits());
+    }
+
+    /**
+     * Creates a copy of this instance with a new value for <code>capacity</code>, calling the constructor directly
+     * without initializing a builder.
+     * 
+     * @param capacity the new value for <code>capacity</code>
+     * @return the modified instance
+     */
+    default Venue withCapacity(int capacity) {
+      Venue self = BuilderSupport.castWithInstance(this, Venue.class, "VenueBuilder.With");
+      return new Venue(self.name(), capacity, self.location(), self.entrances(), self.emergencyExits());
+    }
+
+    /**
+     * Creates a copy of this instance with a new value for <code>location</code>, calling the constructor directly
+     * without initializing a builder.
+     * 
+     * @param location the new value for <code>location</code>
+     * @return the modified instance
+     */
+    default Venue withLocation(GeoPoint location) {
+      Venue self = BuilderSupport.castWithInstance(this, Venue.class, "VenueBuilder.With");
+      return new Venue(self.name(), self.capacity(), location, self.entrances(), self.emergencyExits());
+    }
+
+    /**
+     * Creates a copy of this instance with a new value for <code>entrances</code>, calling the constructor directly
+     * without initializing a builder.
+     * 
+     * @param entrances the new value for <code>entrances</code>
+     * @return the modified instance
+     */
+    default Venue withEntrances(List<GeoPoint> entrances) {
+      Venue self = BuilderSupport.castWithInstance(this, Venue.class, "VenueBuilder.With");
+      return new Venue(self.name(), self.capacity(), self.location(), entrances, self.emergencyExits());
+    }
+
+    /**
+     * Creates a copy of this instance with a new value for <code>emergencyExits</code>, calling the constructor
+     * directly without initializing a builder.
+     * 
+     * @param emergencyExits the new value for <code>emergencyExits</code>
+     * @return the modified instance
+     */
+    default Venue withEmergencyExits(Set<GeoPoint> emergencyExits) {
+      Venue self = BuilderSupport.castWithInstance(this, Venue.class, "VenueBuilder.With");
+      return new Venue(self.name(), self.capacity(), self.location(), self.entrances(), emergencyExits);
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,51 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.javahelpers.simple.builders.example;
+
+import java.math.BigDecimal;
+import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+import org.javahelpers.simple.builders.core.enums.OptionState;
+
+/**
+ * Example showing suppliers which are only invoked when their value is used.
+ *
+ * <p>With {@code deferFieldSupplier} enabled, {@code price(Supplier)} stores the supplier and
+ * {@code build()} invokes it. An expensive lookup replaced by a direct value is never run, and
+ * {@code toString()} shows a pending lookup as {@code <deferred>}.
+ *
+ * <pre>{@code
+ * CatalogEntry entry = CatalogEntryBuilder.create()
+ *     .sku("A-100")
+ *     .price(() -> priceService.lookup("A-100")) // not invoked
+ *     .price(new BigDecimal("9.99"))
+ *     .build();
+ * }</pre>
+ *
+ * @param sku the stock keeping unit
+ * @param description description shown in the catalog
+ * @param price current price
+ */
+@SimpleBuilder(options = @SimpleBuilder.Options(deferFieldSupplier = OptionState.ENABLED))
+public record CatalogEntry(String sku, String description, BigDecimal price) {}
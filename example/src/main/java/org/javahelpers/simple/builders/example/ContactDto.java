@@ -0,0 +1,120 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.javahelpers.simple.builders.example;
+
+import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+import org.javahelpers.simple.builders.core.enums.OptionState;
+
+/**
+ * Example showing partial updates of existing instances.
+ *
+ * <p>With {@code generatePartialUpdate} enabled, the builder reports the fields changed on it via
+ * {@code changedFields()} and applies only those to an existing instance via {@code
+ * applyTo(target)}.
+ *
+ * <pre>{@code
+ * ContactDtoBuilder patch = ContactDtoBuilder.create().email("new@example.com");
+ * patch.changedFields(); // [EMAIL]
+ * patch.applyTo(contact); // only calls contact.setEmail(...)
+ * }</pre>
+ */
+@SimpleBuilder(options = @SimpleBuilder.Options(generatePartialUpdate = OptionState.ENABLED))
+public class ContactDto {
+  private final Long id;
+  private String name;
+  private String email;
+  private String phoneNumber;
+
+  /**
+   * Creates a contact.
+   *
+   * @param id the id of the contact
+   */
+  public ContactDto(Long id) {
+    this.id = id;
+  }
+
+  /**
+   * Gets the id of the contact.
+   *
+   * @return the id
+   */
+  public Long getId() {
+    return id;
+  }
+
+  /**
+   * Gets the name of the contact.
+   *
+   * @return the name
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Sets the name of the contact.
+   *
+   * @param name the name to set
+   */
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  /**
+   * Gets the email address of the contact.
+   *
+   * @return the email address
+   */
+  public String getEmail() {
+    return email;
+  }
+
+  /**
+   * Sets the email address of the contact.
+   *
+   * @param email the email address to set
+   */
+  public void setEmail(String email) {
+    this.email = email;
+  }
+
+  /**
+   * Gets the phone number of the contact.
+   *
+   * @return the phone number
+   */
+  public String getPhoneNumber() {
+    return phoneNumber;
+  }
+
+  /**
+   * Sets the phone number of the contact.
+   *
+   * @param phoneNumber the phone number to set
+   */
+  public void setPhoneNumber(String phoneNumber) {
+    this.phoneNumber = phoneNumber;
+  }
+}
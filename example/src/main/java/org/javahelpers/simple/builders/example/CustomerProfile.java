@@ -0,0 +1,50 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.javahelpers.simple.builders.example;
+
+import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+import org.javahelpers.simple.builders.core.enums.OptionState;
+
+/**
+ * Example showing builders filled from remote calls without blocking.
+ *
+ * <p>With {@code generateAsyncBuild} enabled, every field gets a {@code CompletionStage} setter and
+ * a {@code (Supplier, Executor)} setter, and the builder gets {@code buildAsync()}. The remote calls
+ * run concurrently and the profile is built once all of them are complete.
+ *
+ * <pre>{@code
+ * CompletableFuture<CustomerProfile> profile = CustomerProfileBuilder.create()
+ *     .name(crmClient.fetchNameAsync(customerId))
+ *     .address(() -> addressClient.fetch(customerId), PendingFields.defaultExecutor())
+ *     .loyaltyPoints(0)
+ *     .buildAsync();
+ * }</pre>
+ *
+ * @param name the name of the customer
+ * @param address the postal address of the customer
+ * @param loyaltyPoints collected loyalty points
+ */
+@SimpleBuilder(options = @SimpleBuilder.Options(generateAsyncBuild = OptionState.ENABLED))
+public record CustomerProfile(String name, String address, int loyaltyPoints) {}
@@ -0,0 +1,52 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.javahelpers.simple.builders.example;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+import org.javahelpers.simple.builders.core.enums.OptionState;
+
+/**
+ * Example showing the generated row mapper for JDBC result sets and CSV rows.
+ *
+ * <p>With {@code generateRowMapper} enabled, an {@code EmployeeRowMapper} is generated next to the
+ * builder. The columns are resolved once per row shape, e.g. per result set:
+ *
+ * <pre>{@code
+ * List<Employee> employees = EmployeeRowMapper.mapAll(statement.executeQuery());
+ *
+ * EmployeeRowMapper csvMapper = EmployeeRowMapper.forColumns(csvHeader);
+ * Employee employee = csvMapper.map(csvRow);
+ * }</pre>
+ *
+ * @param id personnel number
+ * @param fullName first and last name
+ * @param salary yearly salary
+ * @param hiredOn date of the first working day
+ * @param active whether the employee is still employed
+ */
+@SimpleBuilder(options = @SimpleBuilder.Options(generateRowMapper = OptionState.ENABLED))
+public record Employee(
+    long id, String fullName, BigDecimal salary, LocalDate hiredOn, boolean active) {}
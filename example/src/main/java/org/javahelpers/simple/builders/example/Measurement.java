@@ -0,0 +1,53 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.javahelpers.simple.builders.example;
+
+import java.time.Instant;
+import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+import org.javahelpers.simple.builders.core.enums.OptionState;
+
+/**
+ * Single value of a {@link MeasurementSeries}, encoded as nested group by the generated {@code
+ * MeasurementCodec}.
+ *
+ * <p>With {@code generateMappedStore} enabled, measurements can also be appended to memory-mapped
+ * segment files with the generated {@code MeasurementStore}, e.g. for replay after a restart:
+ *
+ * <pre>{@code
+ * try (MeasurementStore store = MeasurementStore.open(Path.of("data/measurements"))) {
+ *   store.append(measurement);
+ *   store.replay(dashboard::update);
+ * }
+ * }</pre>
+ *
+ * @param sensor name of the sensor
+ * @param value measured value
+ * @param takenAt point in time of the measurement
+ */
+@SimpleBuilder(
+    options =
+        @SimpleBuilder.Options(
+            generateBinaryCodec = OptionState.ENABLED,
+            generateMappedStore = OptionState.ENABLED))
+public record Measurement(String sensor, double value, Instant takenAt) {}
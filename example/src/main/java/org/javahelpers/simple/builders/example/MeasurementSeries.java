@@ -0,0 +1,53 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.javahelpers.simple.builders.example;
+
+import java.util.List;
+import java.util.UUID;
+import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+import org.javahelpers.simple.builders.core.enums.OptionState;
+
+/**
+ * Example showing the generated binary codec.
+ *
+ * <p>With {@code generateBinaryCodec} enabled, a {@code MeasurementSeriesCodec} is generated next
+ * to the builder. It writes only the set fields to a caller supplied buffer and decodes them back
+ * via the builder:
+ *
+ * <pre>{@code
+ * ByteBuffer buffer = ByteBuffer.allocate(4096);
+ * MeasurementSeriesCodec.INSTANCE.encode(series, buffer);
+ * MeasurementSeries decoded = MeasurementSeriesCodec.INSTANCE.decode(buffer.flip());
+ * }</pre>
+ *
+ * <p>The field numbers follow the order of the components, new components have to be appended.
+ *
+ * @param id identifier of the series
+ * @param unit unit of all values
+ * @param measurements the measured values
+ * @param latest the most recent measurement
+ */
+@SimpleBuilder(options = @SimpleBuilder.Options(generateBinaryCodec = OptionState.ENABLED))
+public record MeasurementSeries(
+    UUID id, String unit, List<Measurement> measurements, Measurement latest) {}
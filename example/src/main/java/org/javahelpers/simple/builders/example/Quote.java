@@ -0,0 +1,56 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.javahelpers.simple.builders.example;
+
+import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+import org.javahelpers.simple.builders.core.enums.OptionState;
+
+/**
+ * Example showing the generated flyweight view for off-heap storage.
+ *
+ * <p>With {@code generateFlyweightView} enabled, a {@code QuoteView} is generated next to the
+ * builder. Quotes are written as records into a (direct) buffer; a single view is moved over the
+ * records and reads only the fields that are accessed:
+ *
+ * <pre>{@code
+ * ByteBuffer table = ByteBuffer.allocateDirect(1 << 20);
+ * int end = 0;
+ * for (Quote quote : quotes) {
+ *   end += QuoteView.write(quote, table, end);
+ * }
+ *
+ * QuoteView view = new QuoteView();
+ * for (int offset = 0; offset < end; offset += view.recordSize()) {
+ *   spread += view.wrap(table, offset).ask() - view.bid();
+ * }
+ * }</pre>
+ *
+ * @param instrumentId identifier of the instrument
+ * @param bid best bid price
+ * @param ask best ask price
+ * @param volume traded volume
+ * @param venue name of the trading venue
+ */
+@SimpleBuilder(options = @SimpleBuilder.Options(generateFlyweightView = OptionState.ENABLED))
+public record Quote(long instrumentId, double bid, double ask, int volume, String venue) {}
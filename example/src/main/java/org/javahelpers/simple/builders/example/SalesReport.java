@@ -0,0 +1,55 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.javahelpers.simple.builders.example;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+import org.javahelpers.simple.builders.core.enums.OptionState;
+
+/**
+ * Example showing builders filled from parallel streams.
+ *
+ * <p>With {@code generateMerge} enabled, the builder gets {@code merge(other)} and a static {@code
+ * collector(accumulator)}. Each thread of a parallel stream fills its own partial builder, which are
+ * merged afterwards: lists are concatenated, sets are unioned and maps are combined.
+ *
+ * <pre>{@code
+ * SalesReport report = orders.parallelStream()
+ *     .collect(SalesReportBuilder.collector((builder, order) -> builder
+ *         .add2OrderIds(order.id())
+ *         .add2Customers(order.customer())))
+ *     .region("EMEA")
+ *     .build();
+ * }</pre>
+ *
+ * @param region the region of the report
+ * @param orderIds identifiers of all orders, in encounter order
+ * @param customers distinct customers
+ * @param productNames names of the ordered products by product number
+ */
+@SimpleBuilder(options = @SimpleBuilder.Options(generateMerge = OptionState.ENABLED))
+public record SalesReport(
+    String region, List<String> orderIds, Set<String> customers, Map<String, String> productNames) {}
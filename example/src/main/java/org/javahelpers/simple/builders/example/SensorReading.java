@@ -0,0 +1,48 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.javahelpers.simple.builders.example;
+
+import java.time.Instant;
+import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+import org.javahelpers.simple.builders.core.enums.OptionState;
+
+/**
+ * Example showing reflection-free access to the fields of a builder.
+ *
+ * <p>With {@code generateFieldAccess} enabled, the builder implements {@code IIndexedBuilder}, so
+ * generic code can populate it by field ordinal:
+ *
+ * <pre>{@code
+ * IIndexedBuilder<SensorReading> builder = SensorReadingBuilder.create();
+ * for (FieldDescriptor field : builder.fieldDescriptors()) {
+ *     builder.set(field.ordinal(), row.get(field.name()));
+ * }
+ * }</pre>
+ *
+ * @param sensorId id of the sensor
+ * @param timestamp point in time of the reading
+ * @param value measured value
+ */
+@SimpleBuilder(options = @SimpleBuilder.Options(generateFieldAccess = OptionState.ENABLED))
+public record SensorReading(String sensorId, Instant timestamp, double value) {}
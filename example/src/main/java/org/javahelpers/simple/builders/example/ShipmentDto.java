@@ -0,0 +1,104 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.javahelpers.simple.builders.example;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+import org.javahelpers.simple.builders.core.enums.OptionState;
+
+/**
+ * Example showing the lazy copy constructor of the builder.
+ *
+ * <p>The getter of {@code items} returns a defensive copy. With {@code lazyCopyConstructor}
+ * enabled, {@code new ShipmentDtoBuilder(shipment)} only keeps a reference to the source instance,
+ * so getters of fields changed on the builder are never called and all other getters are called
+ * once, when the builder is built.
+ *
+ * <pre>{@code
+ * ShipmentDto redirected = new ShipmentDtoBuilder(shipment)
+ *     .destination("Hamburg")
+ *     .build();
+ * }</pre>
+ */
+@SimpleBuilder(options = @SimpleBuilder.Options(lazyCopyConstructor = OptionState.ENABLED))
+public class ShipmentDto {
+  private final String trackingNumber;
+  private String destination;
+  private List<String> items = new ArrayList<>();
+
+  /**
+   * Creates a shipment.
+   *
+   * @param trackingNumber the tracking number of the shipment
+   */
+  public ShipmentDto(String trackingNumber) {
+    this.trackingNumber = trackingNumber;
+  }
+
+  /**
+   * Gets the tracking number of the shipment.
+   *
+   * @return the tracking number
+   */
+  public String getTrackingNumber() {
+    return trackingNumber;
+  }
+
+  /**
+   * Gets the destination of the shipment.
+   *
+   * @return the destination
+   */
+  public String getDestination() {
+    return destination;
+  }
+
+  /**
+   * Sets the destination of the shipment.
+   *
+   * @param destination the destination to set
+   */
+  public void setDestination(String destination) {
+    this.destination = destination;
+  }
+
+  /**
+   * Gets a copy of the items of the shipment.
+   *
+   * @return the items
+   */
+  public List<String> getItems() {
+    return new ArrayList<>(items);
+  }
+
+  /**
+   * Sets the items of the shipment.
+   *
+   * @param items the items to set
+   */
+  public void setItems(List<String> items) {
+    this.items = new ArrayList<>(items);
+  }
+}
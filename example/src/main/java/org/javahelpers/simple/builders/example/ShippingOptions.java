@@ -0,0 +1,50 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.javahelpers.simple.builders.example;
+
+import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+import org.javahelpers.simple.builders.core.enums.OptionState;
+
+/**
+ * Example showing conditional setters without lambdas.
+ *
+ * <p>With {@code generateWhenView} enabled, {@code when(boolean)} returns a view of the builder
+ * whose setters are only applied if the condition is true. The view is reused for every {@code
+ * when} call on the same builder.
+ *
+ * <pre>{@code
+ * ShippingOptions options = ShippingOptionsBuilder.create()
+ *     .carrier("DHL")
+ *     .when(isExpress).carrier("UPS").deliveryDays(1).endWhen()
+ *     .when(isFragile).insured(true).endWhen()
+ *     .build();
+ * }</pre>
+ *
+ * @param carrier name of the carrier
+ * @param deliveryDays expected days until delivery
+ * @param insured whether the parcel is insured
+ */
+@SimpleBuilder(options = @SimpleBuilder.Options(generateWhenView = OptionState.ENABLED))
+public record ShippingOptions(String carrier, int deliveryDays, boolean insured) {}
@@ -0,0 +1,54 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.javahelpers.simple.builders.example;
+
+import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+import org.javahelpers.simple.builders.core.enums.OptionState;
+
+/**
+ * Example showing the generated columnar batch for analytical scans.
+ *
+ * <p>With {@code generateColumnarBatch} enabled, a {@code TradeBatch} is generated next to the
+ * builder. It stores one array per field, so that scans over a single field run over a contiguous
+ * primitive array instead of dereferencing one object per row:
+ *
+ * <pre>{@code
+ * TradeBatch batch = new TradeBatch(trades.size());
+ * trades.forEach(batch::add);
+ *
+ * double[] prices = batch.priceColumn();
+ * int[] quantities = batch.quantityColumn();
+ * double notional = 0;
+ * for (int row = 0; row < batch.size(); row++) {
+ *   notional += prices[row] * quantities[row];
+ * }
+ * }</pre>
+ *
+ * @param tradeId identifier of the trade
+ * @param symbol traded symbol
+ * @param price price per unit
+ * @param quantity traded quantity
+ */
+@SimpleBuilder(options = @SimpleBuilder.Options(generateColumnarBatch = OptionState.ENABLED))
+public record Trade(long tradeId, String symbol, double price, int quantity) {}
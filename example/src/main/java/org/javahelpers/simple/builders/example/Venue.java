@@ -0,0 +1,57 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.javahelpers.simple.builders.example;
+
+import java.util.List;
+import java.util.Set;
+import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+import org.javahelpers.simple.builders.core.enums.OptionState;
+
+/**
+ * Example showing the conversion between DTOs and property maps.
+ *
+ * <p>With {@code generateMapConversion} enabled, the builder gets static {@code fromMap} and
+ * {@code toMap} methods. The nested {@link GeoPoint} has map conversion enabled as well, so it is
+ * converted recursively:
+ *
+ * <pre>{@code
+ * Venue venue = VenueBuilder.fromMap(Map.of(
+ *     "name", "Town Hall",
+ *     "location", Map.of("latitude", 52.5, "longitude", 13.4))).build();
+ * Map<String, Object> properties = VenueBuilder.toMap(venue);
+ * }</pre>
+ *
+ * @param name name of the venue
+ * @param capacity maximum number of visitors
+ * @param location geographic location
+ * @param entrances locations of the entrances
+ * @param emergencyExits locations of the emergency exits, converted to a set of property maps
+ */
+@SimpleBuilder(options = @SimpleBuilder.Options(generateMapConversion = OptionState.ENABLED))
+public record Venue(
+    String name,
+    int capacity,
+    GeoPoint location,
+    List<GeoPoint> entrances,
+    Set<GeoPoint> emergencyExits) {}
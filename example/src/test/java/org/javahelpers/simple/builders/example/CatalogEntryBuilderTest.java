@@ -0,0 +1,89 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.javahelpers.simple.builders.example;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+/** Tests demonstrating deferred supplier methods generated for {@link CatalogEntry}. */
+class CatalogEntryBuilderTest {
+
+  @Test
+  void build_invokesDeferredSupplierOnce() {
+    AtomicInteger lookups = new AtomicInteger();
+
+    CatalogEntryBuilder builder =
+        CatalogEntryBuilder.create()
+            .sku("A-100")
+            .description(() -> "Description " + lookups.incrementAndGet());
+
+    assertEquals(0, lookups.get());
+    assertEquals("Description 1", builder.build().description());
+    assertEquals("Description 1", builder.build().description());
+    assertEquals(1, lookups.get());
+  }
+
+  @Test
+  void build_neverInvokesReplacedSupplier() {
+    AtomicInteger lookups = new AtomicInteger();
+
+    CatalogEntry entry =
+        CatalogEntryBuilder.create()
+            .sku("A-100")
+            .price(
+                () -> {
+                  lookups.incrementAndGet();
+                  return BigDecimal.ONE;
+                })
+            .price(new BigDecimal("9.99"))
+            .build();
+
+    assertEquals(new BigDecimal("9.99"), entry.price());
+    assertEquals(0, lookups.get());
+  }
+
+  @Test
+  void toString_showsPendingSupplierAsDeferred() {
+    AtomicInteger lookups = new AtomicInteger();
+
+    String text =
+        CatalogEntryBuilder.create()
+            .sku("A-100")
+            .price(
+                () -> {
+                  lookups.incrementAndGet();
+                  return BigDecimal.ONE;
+                })
+            .toString();
+
+    assertTrue(text.contains("price=<deferred>"), text);
+    assertTrue(text.contains("sku=A-100"), text);
+    assertEquals(0, lookups.get());
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.javahelpers.simple.builders.example;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.EnumSet;
+import org.junit.jupiter.api.Test;
+
+/** Tests demonstrating partial updates with {@link ContactDtoBuilder}. */
+class ContactDtoBuilderTest {
+
+  private ContactDto createContact() {
+    return ContactDtoBuilder.create()
+        .id(1L)
+        .name("Jane")
+        .email("jane@example.com")
+        .phoneNumber("+49 123")
+        .build();
+  }
+
+  @Test
+  void changedFields_containsOnlyFieldsChangedOnBuilder() {
+    ContactDtoBuilder patch = ContactDtoBuilder.create().email("new@example.com").name("Janet");
+
+    assertEquals(
+        EnumSet.of(ContactDtoBuilder.Field.NAME, ContactDtoBuilder.Field.EMAIL),
+        patch.changedFields());
+  }
+
+  @Test
+  void changedFields_ignoresValuesCopiedFromInstance() {
+    ContactDtoBuilder builder = new ContactDtoBuilder(createContact());
+
+    assertTrue(builder.changedFields().isEmpty());
+    assertEquals(
+        EnumSet.of(ContactDtoBuilder.Field.PHONE_NUMBER),
+        builder.phoneNumber("+49 456").changedFields());
+  }
+
+  @Test
+  void applyTo_updatesOnlyChangedFieldsOfExistingInstance() {
+    ContactDto contact = createContact();
+
+    ContactDto updated = ContactDtoBuilder.create().email("new@example.com").applyTo(contact);
+
+    assertSame(contact, updated);
+    assertEquals("Jane", contact.getName());
+    assertEquals("new@example.com", contact.getEmail());
+    assertEquals("+49 123", contact.getPhoneNumber());
+  }
+
+  @Test
+  void applyTo_rejectsChangedConstructorField() {
+    ContactDto contact = createContact();
+    ContactDtoBuilder patch = ContactDtoBuilder.create().id(2L);
+
+    assertThrows(IllegalStateException.class, () -> patch.applyTo(contact));
+  }
+}
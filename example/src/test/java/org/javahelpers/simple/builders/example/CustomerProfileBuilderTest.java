@@ -0,0 +1,134 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.javahelpers.simple.builders.example;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.UncheckedIOException;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.javahelpers.simple.builders.core.util.PendingFields;
+import org.junit.jupiter.api.Test;
+
+/** Tests demonstrating asynchronous setters and buildAsync generated for {@link CustomerProfile}. */
+class CustomerProfileBuilderTest {
+
+  @Test
+  void buildAsync_completesOnceAllPendingFieldsAreAvailable() throws Exception {
+    CompletableFuture<String> name = new CompletableFuture<>();
+
+    CompletableFuture<CustomerProfile> profile =
+        CustomerProfileBuilder.create()
+            .name(name)
+            .address(() -> "Main Street 1", PendingFields.defaultExecutor())
+            .loyaltyPoints(120)
+            .buildAsync();
+
+    assertFalse(profile.isDone());
+    name.complete("Alice");
+    assertEquals(
+        new CustomerProfile("Alice", "Main Street 1", 120), profile.get(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void buildAsync_overlapsSuppliers() throws Exception {
+    // Both suppliers only finish when the other one has started
+    CountDownLatch bothStarted = new CountDownLatch(2);
+
+    CustomerProfile profile =
+        CustomerProfileBuilder.create()
+            .name(() -> awaitOther(bothStarted, "Bob"), PendingFields.defaultExecutor())
+            .address(() -> awaitOther(bothStarted, "Side Road 2"), PendingFields.defaultExecutor())
+            .loyaltyPoints(0)
+            .buildAsync()
+            .get(5, TimeUnit.SECONDS);
+
+    assertEquals(new CustomerProfile("Bob", "Side Road 2", 0), profile);
+  }
+
+  @Test
+  void buildAsync_failsWithFailureOfPendingField() {
+    CompletableFuture<CustomerProfile> profile =
+        CustomerProfileBuilder.create()
+            .name("Carol")
+            .address(CompletableFuture.failedFuture(new UncheckedIOException(new IOException("down"))))
+            .loyaltyPoints(0)
+            .buildAsync();
+
+    ExecutionException exception = assertThrows(ExecutionException.class, profile::get);
+    assertInstanceOf(UncheckedIOException.class, exception.getCause());
+  }
+
+  @Test
+  void build_failsWhileFieldsArePending() {
+    CustomerProfileBuilder builder =
+        CustomerProfileBuilder.create()
+            .name(new CompletableFuture<>())
+            .address("Main Street 1")
+            .loyaltyPoints(5);
+
+    IllegalStateException exception = assertThrows(IllegalStateException.class, builder::build);
+    assertTrue(exception.getMessage().contains("[name]"));
+    assertTrue(exception.getMessage().contains("buildAsync()"));
+  }
+
+  @Test
+  void buildAsync_keepsValueSetDirectlyAfterStage() throws Exception {
+    CompletableFuture<String> name = new CompletableFuture<>();
+    CustomerProfileBuilder builder =
+        CustomerProfileBuilder.create()
+            .name(name)
+            .name("Dave")
+            .address("Main Street 1")
+            .loyaltyPoints(5);
+
+    // Nothing is pending anymore, so the synchronous build works as well
+    assertEquals(new CustomerProfile("Dave", "Main Street 1", 5), builder.build());
+
+    CompletableFuture<CustomerProfile> profile = builder.buildAsync();
+    name.complete("Eve");
+    assertEquals(
+        new CustomerProfile("Dave", "Main Street 1", 5), profile.get(5, TimeUnit.SECONDS));
+  }
+
+  private static String awaitOther(CountDownLatch bothStarted, String value) {
+    bothStarted.countDown();
+    try {
+      if (!bothStarted.await(5, TimeUnit.SECONDS)) {
+        throw new IllegalStateException("Suppliers did not run concurrently");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return value;
+  }
+}
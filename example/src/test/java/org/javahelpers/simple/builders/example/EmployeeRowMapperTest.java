@@ -0,0 +1,177 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.javahelpers.simple.builders.example;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/** Tests demonstrating the generated {@link EmployeeRowMapper}. */
+class EmployeeRowMapperTest {
+
+  private static final Employee ALICE =
+      new Employee(1L, "Alice Smith", new BigDecimal("52000.00"), LocalDate.of(2020, 4, 1), true);
+  private static final Employee BOB =
+      new Employee(2L, "Bob Jones", new BigDecimal("48000.00"), LocalDate.of(2021, 9, 15), false);
+
+  @Test
+  void mapAll_mapsResultSetWithPrimitiveGetters() throws Exception {
+    List<String> calls = new ArrayList<>();
+    ResultSet resultSet =
+        fakeResultSet(
+            List.of("ID", "FULL_NAME", "SALARY", "HIRED_ON", "ACTIVE"),
+            List.of(
+                new Object[] {1L, "Alice Smith", new BigDecimal("52000.00"), ALICE.hiredOn(), true},
+                new Object[] {2L, "Bob Jones", new BigDecimal("48000.00"), BOB.hiredOn(), false}),
+            calls);
+
+    List<Employee> employees = EmployeeRowMapper.mapAll(resultSet);
+
+    assertEquals(List.of(ALICE, BOB), employees);
+    assertEquals(List.of("getLong", "getString", "getBigDecimal", "getObject", "getBoolean"),
+        calls.subList(0, 5));
+  }
+
+  @Test
+  void map_resultSetWithSqlNullInNullableColumns() throws Exception {
+    ResultSet resultSet =
+        fakeResultSet(
+            List.of("id", "full_name", "salary", "hired_on", "active"),
+            List.<Object[]>of(new Object[] {3L, "Carol", null, null, true}),
+            null);
+
+    List<Employee> employees = EmployeeRowMapper.mapAll(resultSet);
+
+    assertEquals(List.of(new Employee(3L, "Carol", null, null, true)), employees);
+  }
+
+  @Test
+  void map_requiredFieldWithoutValueFailsOnBuild() throws Exception {
+    ResultSet missingColumn =
+        fakeResultSet(List.of("full_name", "id"), List.<Object[]>of(new Object[] {"Dave", 4L}), null);
+    EmployeeRowMapper mapper = EmployeeRowMapper.forResultSet(missingColumn);
+    missingColumn.next();
+
+    assertThrows(IllegalStateException.class, () -> mapper.map(missingColumn));
+
+    ResultSet sqlNull =
+        fakeResultSet(
+            List.of("id", "full_name", "salary", "hired_on", "active"),
+            List.<Object[]>of(new Object[] {null, "Dave", null, null, true}),
+            null);
+    assertThrows(IllegalStateException.class, () -> EmployeeRowMapper.mapAll(sqlNull));
+  }
+
+  @Test
+  void map_csvRowsByHeader() {
+    EmployeeRowMapper mapper =
+        EmployeeRowMapper.forColumns("hired_on", "id", "full_name", "salary", "active");
+
+    Employee employee = mapper.map("2020-04-01", "1", "Alice Smith", "52000.00", "true");
+
+    assertEquals(ALICE, employee);
+  }
+
+  @Test
+  void map_objectRows() {
+    EmployeeRowMapper mapper = EmployeeRowMapper.forColumns("id", "fullName", "active", "salary", "hiredOn");
+
+    Employee employee =
+        mapper.map(new Object[] {2, "Bob Jones", Boolean.FALSE, "48000.00", BOB.hiredOn()});
+
+    assertEquals(BOB, employee);
+  }
+
+  @Test
+  void map_rejectsUnparsableValues() {
+    EmployeeRowMapper mapper = EmployeeRowMapper.forColumns("id");
+
+    assertThrows(NumberFormatException.class, () -> mapper.map("not a number"));
+  }
+
+  /**
+   * Creates an in-memory result set over the given rows. Only the methods used by generated row
+   * mappers are supported; the names of the called getters are recorded in {@code calls}.
+   */
+  private static ResultSet fakeResultSet(
+      List<String> labels, List<Object[]> rows, List<String> calls) {
+    ResultSetMetaData metaData =
+        (ResultSetMetaData)
+            Proxy.newProxyInstance(
+                EmployeeRowMapperTest.class.getClassLoader(),
+                new Class<?>[] {ResultSetMetaData.class},
+                (proxy, method, args) ->
+                    switch (method.getName()) {
+                      case "getColumnCount" -> labels.size();
+                      case "getColumnLabel" -> labels.get((Integer) args[0] - 1);
+                      default -> throw new UnsupportedOperationException(method.getName());
+                    });
+    int[] rowIndex = {-1};
+    Object[] lastValue = {null};
+    return (ResultSet)
+        Proxy.newProxyInstance(
+            EmployeeRowMapperTest.class.getClassLoader(),
+            new Class<?>[] {ResultSet.class},
+            (proxy, method, args) -> {
+              String name = method.getName();
+              if (name.equals("getMetaData")) {
+                return metaData;
+              }
+              if (name.equals("next")) {
+                return ++rowIndex[0] < rows.size();
+              }
+              if (name.equals("wasNull")) {
+                return lastValue[0] == null;
+              }
+              if (!name.startsWith("get")) {
+                throw new UnsupportedOperationException(name);
+              }
+              if (calls != null) {
+                calls.add(name);
+              }
+              Object value = rows.get(rowIndex[0])[(Integer) args[0] - 1];
+              lastValue[0] = value;
+              return value == null ? sqlNullValue(method.getReturnType()) : value;
+            });
+  }
+
+  /** Returns the value of a result set getter for SQL {@code NULL}, as defined by JDBC. */
+  private static Object sqlNullValue(Class<?> returnType) {
+    if (returnType == long.class) {
+      return 0L;
+    }
+    if (returnType == boolean.class) {
+      return false;
+    }
+    return returnType.isPrimitive() ? 0 : null;
+  }
+}
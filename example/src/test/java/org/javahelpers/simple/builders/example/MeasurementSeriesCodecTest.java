@@ -0,0 +1,101 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.javahelpers.simple.builders.example;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.javahelpers.simple.builders.core.util.BinaryFormat;
+import org.junit.jupiter.api.Test;
+
+/** Tests demonstrating the binary codec generated for {@link MeasurementSeries}. */
+class MeasurementSeriesCodecTest {
+
+  private static final Instant NOW = Instant.parse("2026-03-01T10:15:30Z");
+
+  private static final MeasurementSeries SERIES =
+      new MeasurementSeries(
+          UUID.fromString("3f2b8c1e-9a4d-4e21-8f0b-1c2d3e4f5a6b"),
+          "°C",
+          List.of(
+              new Measurement("roof", 4.5, NOW.minusSeconds(60)),
+              new Measurement("cellar", -1.25, NOW)),
+          new Measurement("cellar", -1.25, NOW));
+
+  @Test
+  void encode_roundTripsViaBuilder() {
+    ByteBuffer buffer = ByteBuffer.allocate(256);
+
+    MeasurementSeriesCodec.INSTANCE.encode(SERIES, buffer);
+    MeasurementSeries decoded = MeasurementSeriesCodec.INSTANCE.decode(buffer.flip());
+
+    assertEquals(SERIES, decoded);
+    assertEquals(0, buffer.remaining());
+  }
+
+  @Test
+  void encode_omitsNullFields() {
+    MeasurementSeries empty = new MeasurementSeries(null, null, null, null);
+    ByteBuffer buffer = ByteBuffer.allocate(16);
+
+    MeasurementSeriesCodec.INSTANCE.encode(empty, buffer);
+
+    // Header and end tag only
+    assertEquals(2, buffer.position());
+    assertEquals(empty, MeasurementSeriesCodec.INSTANCE.decode(buffer.flip()));
+  }
+
+  @Test
+  void decode_skipsFieldsUnknownToThisVersion() {
+    ByteBuffer buffer = ByteBuffer.allocate(64);
+    BinaryFormat.writeHeader(buffer);
+    BinaryFormat.writeTag(buffer, BinaryFormat.tag(2, BinaryFormat.WIRE_BYTES));
+    BinaryFormat.writeString(buffer, "kWh");
+    // Field appended by a newer version of the DTO
+    BinaryFormat.writeTag(buffer, BinaryFormat.tag(99, BinaryFormat.WIRE_BYTES));
+    BinaryFormat.writeString(buffer, "unknown");
+    BinaryFormat.writeEndTag(buffer);
+
+    MeasurementSeries decoded = MeasurementSeriesCodec.INSTANCE.decode(buffer.flip());
+
+    assertEquals("kWh", decoded.unit());
+    assertNull(decoded.measurements());
+  }
+
+  @Test
+  void decode_rejectsNewerFormatVersion() {
+    ByteBuffer buffer = ByteBuffer.allocate(4);
+    BinaryFormat.writeUnsignedVarInt(buffer, BinaryFormat.FORMAT_VERSION + 1);
+    BinaryFormat.writeEndTag(buffer);
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> MeasurementSeriesCodec.INSTANCE.decode(buffer.flip()));
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.javahelpers.simple.builders.example;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Tests demonstrating the memory-mapped store generated for {@link Measurement}. */
+class MeasurementStoreTest {
+
+  private static final Instant NOW = Instant.parse("2026-03-01T10:15:30Z");
+
+  @TempDir Path directory;
+
+  @Test
+  void store_replaysMeasurementsAfterReopening() throws IOException {
+    List<Measurement> measurements = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      measurements.add(new Measurement("sensor-" + i % 4, i * 0.5, NOW.plusSeconds(i)));
+    }
+    try (MeasurementStore store = MeasurementStore.open(directory, 1024)) {
+      measurements.forEach(store::append);
+    }
+
+    try (MeasurementStore store = MeasurementStore.open(directory, 1024)) {
+      List<Measurement> replayed = new ArrayList<>();
+      store.replay(replayed::add);
+
+      assertEquals(measurements, replayed);
+      assertEquals(measurements.get(42), store.get(42));
+      assertTrue(store.segmentCount() > 1);
+    }
+  }
+
+  @Test
+  void store_keepsNullFieldsUnset() throws IOException {
+    Measurement withoutTime = new Measurement("roof", 4.5, null);
+
+    try (MeasurementStore store = MeasurementStore.open(directory, 4096)) {
+      long index = store.append(withoutTime);
+
+      assertEquals(withoutTime, store.get(index));
+    }
+  }
+}
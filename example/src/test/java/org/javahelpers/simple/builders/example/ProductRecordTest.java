@@ -152,6 +152,28 @@ class ProductRecordTest {
     assertEquals("Electronics", modified.category());
   }
 
+  @Test
+  void testWithInterface_directWitherChangesSingleField() {
+    // Given: an original product
+    ProductRecord laptop = ProductRecordBuilder.create()
+        .name("Gaming Laptop")
+        .price(1500.00)
+        .category("Electronics")
+        .build();
+
+    // When: changing a single field with the direct wither
+    ProductRecord renamed = laptop.withName("Office Laptop");
+
+    // Then: only the changed field differs
+    assertNotNull(renamed);
+    assertEquals("Office Laptop", renamed.name());
+    assertEquals(1500.00, renamed.price());
+    assertEquals("Electronics", renamed.category());
+
+    // And: the original is unchanged
+    assertEquals("Gaming Laptop", laptop.name());
+  }
+
   @Test
   void testCustomWithMethod_calculatesDiscount() {
     // Given: a product with a price
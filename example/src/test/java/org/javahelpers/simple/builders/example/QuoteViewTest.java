@@ -0,0 +1,93 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.javahelpers.simple.builders.example;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/** Tests demonstrating the flyweight view generated for {@link Quote}. */
+class QuoteViewTest {
+
+  private static final List<Quote> QUOTES =
+      List.of(
+          new Quote(1L, 99.5, 100.0, 1200, "XETRA"),
+          new Quote(2L, 10.25, 10.5, 300, null),
+          new Quote(3L, 7.0, 7.75, 0, "LSE"));
+
+  @Test
+  void view_readsRecordsWrittenBackToBack() {
+    ByteBuffer table = ByteBuffer.allocateDirect(1024);
+    int end = 0;
+    for (Quote quote : QUOTES) {
+      end += QuoteView.write(quote, table, end);
+    }
+
+    QuoteView view = new QuoteView();
+    double spread = 0;
+    int count = 0;
+    for (int offset = 0; offset < end; offset += view.recordSize()) {
+      view.wrap(table, offset);
+      spread += view.ask() - view.bid();
+      count++;
+    }
+
+    assertEquals(3, count);
+    assertEquals(0.5 + 0.25 + 0.75, spread, 1e-9);
+    assertEquals(3 * QuoteView.FIXED_SIZE + "XETRA".length() + "LSE".length(), end);
+    assertEquals(0, table.position());
+  }
+
+  @Test
+  void view_convertsToDtoViaBuilder() {
+    ByteBuffer table = ByteBuffer.allocate(256);
+    int size = QuoteView.write(QUOTES.get(1), table, 16);
+
+    QuoteView view = new QuoteView().wrap(table, 16);
+
+    assertEquals(QuoteView.FIXED_SIZE, size);
+    assertNull(view.venue());
+    assertEquals(QUOTES.get(1), view.toDto());
+  }
+
+  @Test
+  void write_withoutCreatingDto() {
+    ByteBuffer table = ByteBuffer.allocate(256);
+    QuoteView.write(table, 0, 42L, 1.0, 1.5, 10, "NYSE");
+
+    assertEquals(new Quote(42L, 1.0, 1.5, 10, "NYSE"), new QuoteView().wrap(table, 0).toDto());
+  }
+
+  @Test
+  void write_failsIfBufferIsTooSmall() {
+    ByteBuffer table = ByteBuffer.allocate(QuoteView.FIXED_SIZE);
+
+    assertThrows(
+        IndexOutOfBoundsException.class, () -> QuoteView.write(QUOTES.get(0), table, 0));
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.javahelpers.simple.builders.example;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+/** Tests demonstrating merge and collector generated for {@link SalesReport}. */
+class SalesReportBuilderTest {
+
+  @Test
+  void collector_fillsBuilderFromParallelStream() {
+    SalesReport report =
+        IntStream.range(0, 1000)
+            .parallel()
+            .boxed()
+            .collect(
+                SalesReportBuilder.collector(
+                    (builder, order) ->
+                        builder.add2OrderIds("order-" + order).add2Customers("c" + order % 7)))
+            .region("EMEA")
+            .build();
+
+    assertEquals("EMEA", report.region());
+    assertEquals(IntStream.range(0, 1000).mapToObj(i -> "order-" + i).toList(), report.orderIds());
+    assertEquals(7, report.customers().size());
+  }
+
+  @Test
+  void merge_otherBuilderWinsForScalarsAndMapKeys() {
+    SalesReportBuilder first =
+        new SalesReportBuilder()
+            .region("EMEA")
+            .orderIds(List.of("o1"))
+            .productNames(Map.of("p1", "Pen", "p2", "Paper"));
+    SalesReportBuilder second =
+        new SalesReportBuilder()
+            .region("APAC")
+            .orderIds(List.of("o2"))
+            .customers(Set.of("c1"))
+            .productNames(Map.of("p2", "Printer paper"));
+
+    SalesReport report = first.merge(second).build();
+
+    assertEquals(
+        new SalesReport(
+            "APAC",
+            List.of("o1", "o2"),
+            Set.of("c1"),
+            Map.of("p1", "Pen", "p2", "Printer paper")),
+        report);
+    assertEquals(List.of("o2"), second.build().orderIds());
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.javahelpers.simple.builders.example;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import org.javahelpers.simple.builders.core.interfaces.IIndexedBuilder;
+import org.javahelpers.simple.builders.core.util.FieldDescriptor;
+import org.junit.jupiter.api.Test;
+
+/** Tests demonstrating the indexed field access of {@link SensorReadingBuilder}. */
+class SensorReadingBuilderTest {
+
+  /** Generic population of any builder, as done by a mapping layer. */
+  private static <T> T populate(IIndexedBuilder<T> builder, Map<String, Object> values) {
+    for (FieldDescriptor field : builder.fieldDescriptors()) {
+      builder.set(field.ordinal(), values.get(field.name()));
+    }
+    return builder.build();
+  }
+
+  @Test
+  void fieldDescriptors_describeAllFields() {
+    List<FieldDescriptor> descriptors = SensorReadingBuilder.create().fieldDescriptors();
+
+    assertEquals(
+        List.of(
+            new FieldDescriptor(0, "sensorId", "java.lang.String", String.class, false),
+            new FieldDescriptor(1, "timestamp", "java.time.Instant", Instant.class, false),
+            new FieldDescriptor(2, "value", "double", double.class, true)),
+        descriptors);
+  }
+
+  @Test
+  void set_populatesBuilderWithoutReflection() {
+    Instant timestamp = Instant.parse("2026-01-01T12:00:00Z");
+
+    SensorReading reading =
+        populate(
+            SensorReadingBuilder.create(),
+            Map.of("sensorId", "S-1", "timestamp", timestamp, "value", 21.5));
+
+    assertEquals(new SensorReading("S-1", timestamp, 21.5), reading);
+  }
+
+  @Test
+  void get_returnsCurrentValues() {
+    SensorReadingBuilder builder = SensorReadingBuilder.create().sensorId("S-2");
+
+    assertEquals("S-2", builder.get(0));
+    assertNull(builder.get(1));
+  }
+
+  @Test
+  void set_rejectsUnknownOrdinalAndWrongType() {
+    SensorReadingBuilder builder = SensorReadingBuilder.create();
+
+    assertThrows(IndexOutOfBoundsException.class, () -> builder.set(3, "x"));
+    assertThrows(ClassCastException.class, () -> builder.set(2, "x"));
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.javahelpers.simple.builders.example;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/** Tests demonstrating the lazy copy constructor of {@link ShipmentDtoBuilder}. */
+class ShipmentDtoBuilderTest {
+
+  private ShipmentDto createShipment() {
+    return ShipmentDtoBuilder.create()
+        .trackingNumber("TN-1")
+        .destination("Berlin")
+        .items(List.of("Laptop", "Mouse"))
+        .build();
+  }
+
+  @Test
+  void copyConstructor_keepsUnchangedValuesOfSource() {
+    ShipmentDto shipment = createShipment();
+
+    ShipmentDto redirected = new ShipmentDtoBuilder(shipment).destination("Hamburg").build();
+
+    assertEquals("TN-1", redirected.getTrackingNumber());
+    assertEquals("Hamburg", redirected.getDestination());
+    assertEquals(List.of("Laptop", "Mouse"), redirected.getItems());
+  }
+
+  @Test
+  void copyConstructor_readsSourceWhenBuilding() {
+    ShipmentDto shipment = createShipment();
+    ShipmentDtoBuilder builder = new ShipmentDtoBuilder(shipment);
+
+    // The source is only read when the builder needs its values
+    shipment.setDestination("Munich");
+
+    assertEquals("Munich", builder.build().getDestination());
+  }
+
+  @Test
+  void copyConstructor_helperExtendsValueOfSource() {
+    ShipmentDto shipment = createShipment();
+
+    ShipmentDto extended = new ShipmentDtoBuilder(shipment).add2Items("Keyboard").build();
+
+    assertEquals(List.of("Laptop", "Mouse", "Keyboard"), extended.getItems());
+  }
+
+  @Test
+  void copyConstructor_rejectsNullInstance() {
+    assertThrows(NullPointerException.class, () -> new ShipmentDtoBuilder(null));
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.javahelpers.simple.builders.example;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/** Tests demonstrating the {@code when(boolean)} view generated for {@link ShippingOptions}. */
+class ShippingOptionsBuilderTest {
+
+  @Test
+  void when_appliesSettersOnlyIfConditionIsTrue() {
+    ShippingOptions options =
+        ShippingOptionsBuilder.create()
+            .carrier("DHL")
+            .deliveryDays(3)
+            .insured(false)
+            .when(true)
+            .carrier("UPS")
+            .deliveryDays(1)
+            .endWhen()
+            .when(false)
+            .insured(true)
+            .endWhen()
+            .build();
+
+    assertEquals("UPS", options.carrier());
+    assertEquals(1, options.deliveryDays());
+    assertFalse(options.insured());
+  }
+
+  @Test
+  void when_reusesViewForBothBranches() {
+    ShippingOptionsBuilder builder = ShippingOptionsBuilder.create();
+
+    ShippingOptionsBuilder.When skipped = builder.when(false);
+    ShippingOptionsBuilder.When applied = builder.when(true);
+
+    assertSame(skipped, applied);
+    assertSame(builder, applied.insured(true).endWhen());
+  }
+
+  @Test
+  void when_viewFollowsLatestCondition() {
+    ShippingOptionsBuilder builder =
+        ShippingOptionsBuilder.create().carrier("DHL").deliveryDays(2);
+
+    builder.when(false).insured(true);
+    builder.when(true).insured(true);
+
+    assertTrue(builder.build().insured());
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.javahelpers.simple.builders.example;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+/** Tests demonstrating the columnar batch generated for {@link Trade}. */
+class TradeBatchTest {
+
+  @Test
+  void batch_scansPrimitiveColumns() {
+    TradeBatch batch = new TradeBatch();
+    for (int i = 0; i < 100; i++) {
+      batch.add(i, "SYM" + (i % 3), 1.5, i);
+    }
+
+    double[] prices = batch.priceColumn();
+    int[] quantities = batch.quantityColumn();
+    double notional = 0;
+    for (int row = 0; row < batch.size(); row++) {
+      notional += prices[row] * quantities[row];
+    }
+
+    assertEquals(100, batch.size());
+    assertEquals(1.5 * (99 * 100 / 2), notional, 1e-9);
+  }
+
+  @Test
+  void batch_convertsRowsFromAndToDtos() {
+    Trade trade = new Trade(7L, "ACME", 12.25, 40);
+    TradeBatch batch = new TradeBatch(1).add(new Trade(1L, "XYZ", 1.0, 1)).add(trade);
+
+    assertEquals(2, batch.size());
+    assertEquals("ACME", batch.symbol(1));
+    assertEquals(trade, batch.toDto(1));
+  }
+
+  @Test
+  void batch_rejectsRowsOutOfRange() {
+    TradeBatch batch = new TradeBatch().add(new Trade(1L, "XYZ", 1.0, 1));
+
+    assertThrows(IndexOutOfBoundsException.class, () -> batch.price(1));
+    assertThrows(IllegalArgumentException.class, () -> new TradeBatch(-1));
+  }
+
+  @Test
+  void clear_releasesReferencesAndKeepsCapacity() {
+    TradeBatch batch = new TradeBatch().add(new Trade(1L, "XYZ", 1.0, 1));
+    String[] symbols = batch.symbolColumn();
+
+    batch.clear();
+
+    assertEquals(0, batch.size());
+    assertNull(symbols[0]);
+    assertThrows(IndexOutOfBoundsException.class, () -> batch.toDto(0));
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.javahelpers.simple.builders.example;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+/** Tests demonstrating the map conversion of {@link VenueBuilder}. */
+class VenueBuilderTest {
+
+  private static final Venue TOWN_HALL =
+      new Venue(
+          "Town Hall",
+          250,
+          new GeoPoint(52.5, 13.4),
+          List.of(new GeoPoint(52.51, 13.41), new GeoPoint(52.49, 13.39)),
+          Set.of(new GeoPoint(52.52, 13.42)));
+
+  @Test
+  void toMap_convertsNestedDtosToMaps() {
+    Map<String, Object> properties = VenueBuilder.toMap(TOWN_HALL);
+
+    assertEquals(
+        List.of("name", "capacity", "location", "entrances", "emergencyExits"),
+        List.copyOf(properties.keySet()));
+    assertEquals("Town Hall", properties.get("name"));
+    assertEquals(250, properties.get("capacity"));
+    assertEquals(Map.of("latitude", 52.5, "longitude", 13.4), properties.get("location"));
+    assertEquals(
+        List.of(
+            Map.of("latitude", 52.51, "longitude", 13.41),
+            Map.of("latitude", 52.49, "longitude", 13.39)),
+        properties.get("entrances"));
+    assertEquals(
+        Set.of(Map.of("latitude", 52.52, "longitude", 13.42)), properties.get("emergencyExits"));
+  }
+
+  @Test
+  void fromMap_roundTripsToMap() {
+    Venue venue = VenueBuilder.fromMap(VenueBuilder.toMap(TOWN_HALL)).build();
+
+    assertEquals(TOWN_HALL, venue);
+  }
+
+  @Test
+  void fromMap_acceptsInstancesOfNestedDtosAndIgnoresUnknownKeys() {
+    Map<String, Object> properties = new LinkedHashMap<>();
+    properties.put("name", "Harbour");
+    properties.put("capacity", 80);
+    properties.put("location", new GeoPoint(53.5, 10.0));
+    properties.put("entrances", List.of());
+    properties.put("emergencyExits", Set.of());
+    properties.put("unknown", "ignored");
+
+    Venue venue = VenueBuilder.fromMap(properties).build();
+
+    assertEquals(
+        new Venue("Harbour", 80, new GeoPoint(53.5, 10.0), List.of(), Set.of()), venue);
+  }
+
+  @Test
+  void toMap_skipsNullValuesOnRequest() {
+    Venue venue = new Venue("Park", 0, null, null, null);
+
+    assertEquals(Map.of("name", "Park", "capacity", 0), VenueBuilder.toMap(venue, true));
+    assertEquals(5, VenueBuilder.toMap(venue).size());
+  }
+
+  @Test
+  void fromMap_rejectsValuesOfWrongType() {
+    Map<String, Object> properties = Map.of("capacity", "many");
+
+    assertThrows(ClassCastException.class, () -> VenueBuilder.fromMap(properties));
+  }
+}
@@ -24,11 +24,12 @@
 
 package org.javahelpers.simple.builders.processor;
 
+import static org.javahelpers.simple.builders.processor.model.core.BuilderToGenerationTypeMapper.applyOutputProfile;
 import static org.javahelpers.simple.builders.processor.model.core.BuilderToGenerationTypeMapper.toRenderingDto;
 import static org.javahelpers.simple.builders.processor.processing.BuilderDefinitionCreator.extractFromElement;
 
 import com.google.auto.service.AutoService;
-import java.util.ArrayList;
+import java.io.IOException;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
@@ -38,37 +39,52 @@ import javax.annotation.processing.AbstractProcessor;
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.annotation.processing.Processor;
 import javax.annotation.processing.RoundEnvironment;
-import javax.annotation.processing.SupportedAnnotationTypes;
 import javax.lang.model.SourceVersion;
 import javax.lang.model.element.AnnotationMirror;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.TypeElement;
 import org.javahelpers.simple.builders.core.annotations.Ignore4BuilderGeneration;
-import org.javahelpers.simple.builders.core.annotations.SimpleBuilder.Template;
 import org.javahelpers.simple.builders.processor.analysis.JavaLangAnalyser;
 import org.javahelpers.simple.builders.processor.classgen.roaster.RoasterCodeGenerator;
 import org.javahelpers.simple.builders.processor.exceptions.BuilderException;
+import org.javahelpers.simple.builders.processor.generators.integration.BinaryCodecGenerator;
+import org.javahelpers.simple.builders.processor.generators.integration.ColumnarBatchGenerator;
+import org.javahelpers.simple.builders.processor.generators.integration.FlyweightViewGenerator;
 import org.javahelpers.simple.builders.processor.generators.integration.JacksonModuleGenerator;
+import org.javahelpers.simple.builders.processor.generators.integration.MappedStoreGenerator;
+import org.javahelpers.simple.builders.processor.generators.integration.RowMapperGenerator;
 import org.javahelpers.simple.builders.processor.model.core.BuilderConfiguration;
 import org.javahelpers.simple.builders.processor.model.core.BuilderDefinitionDto;
 import org.javahelpers.simple.builders.processor.model.core.GenerationTargetClassDto;
 import org.javahelpers.simple.builders.processor.processing.BuilderConfigurationReader;
+import org.javahelpers.simple.builders.processor.processing.BuilderMetadataIndex;
 import org.javahelpers.simple.builders.processor.processing.CompilerArgumentsEnum;
 import org.javahelpers.simple.builders.processor.processing.CompilerArgumentsReader;
 import org.javahelpers.simple.builders.processor.processing.ProcessingContext;
 import org.javahelpers.simple.builders.processor.processing.ProcessingLogger;
+import org.javahelpers.simple.builders.processor.processing.ProcessingMetrics;
+import org.javahelpers.simple.builders.processor.processing.TemplateAnnotationIndex;
 
 /**
  * BuilderProcessor is an annotation processor for execution in generate-sources phase. The
  * BuilderProcessor using the Java way for generating builders, by implementing {@code
  * javax.annotation.processing.AbstractProcessor}.
+ *
+ * <p>The supported annotation types are the built-in templates and the templates listed in the
+ * {@link TemplateAnnotationIndex}, so javac does not call the processor for modules without DTOs.
+ * Annotations are left unclaimed for other processors.
  */
 @AutoService(Processor.class)
-@SupportedAnnotationTypes("*")
 public class BuilderProcessor extends AbstractProcessor {
   private ProcessingContext context;
+  private TemplateAnnotationIndex templateIndex;
   private RoasterCodeGenerator codeGenerator;
   private JacksonModuleGenerator jacksonModuleGenerator;
+  private RowMapperGenerator rowMapperGenerator;
+  private BinaryCodecGenerator binaryCodecGenerator;
+  private FlyweightViewGenerator flyweightViewGenerator;
+  private ColumnarBatchGenerator columnarBatchGenerator;
+  private MappedStoreGenerator mappedStoreGenerator;
   private boolean supportedJdk = true;
 
   @Override
@@ -83,8 +99,16 @@ public class BuilderProcessor extends AbstractProcessor {
     logger.debug("Loaded global configuration from compiler arguments: %s", globalConfig);
 
     this.context = new ProcessingContext(logger, globalConfig, processingEnv);
-    this.codeGenerator = new RoasterCodeGenerator(processingEnv, logger);
+    this.templateIndex =
+        new TemplateAnnotationIndex(
+            processingEnv, logger, reader.readValue(CompilerArgumentsEnum.TEMPLATE_ANNOTATIONS));
+    this.codeGenerator = new RoasterCodeGenerator(processingEnv, logger, context.getMetrics());
     this.jacksonModuleGenerator = new JacksonModuleGenerator(processingEnv, logger);
+    this.rowMapperGenerator = new RowMapperGenerator(context);
+    this.binaryCodecGenerator = new BinaryCodecGenerator(context);
+    this.flyweightViewGenerator = new FlyweightViewGenerator(context);
+    this.columnarBatchGenerator = new ColumnarBatchGenerator(context);
+    this.mappedStoreGenerator = new MappedStoreGenerator(context);
 
     // Initialize GeneratorRegistry once during processor initialization
     context.debugStartOperation("Initializing generator registry");
@@ -110,15 +134,13 @@ public class BuilderProcessor extends AbstractProcessor {
       return false;
     }
 
-    // Generate Jackson Module if processing is over and feature is enabled
+    // Generate Jackson Module if processing is over and feature is enabled. Modules are created
+    // and written one package at a time, so only one module definition is held at once.
     if (roundEnv.processingOver()) {
-      List<GenerationTargetClassDto> moduleClassDefs =
-          jacksonModuleGenerator.getModuleDefinitions();
-      for (GenerationTargetClassDto moduleClassDef : moduleClassDefs) {
-        String packageName = moduleClassDef.getTypeName().getPackageName();
+      for (String packageName : jacksonModuleGenerator.getModulePackages()) {
         context.info("Generating Jackson Module in package '%s'", packageName);
         try {
-          codeGenerator.generateClass(moduleClassDef);
+          codeGenerator.generateClass(jacksonModuleGenerator.createModuleDefinition(packageName));
         } catch (BuilderException e) {
           // By default Jackson module generation failures are warnings. In opt-in strict mode
           // they are promoted to errors that fail the build.
@@ -129,10 +151,14 @@ public class BuilderProcessor extends AbstractProcessor {
       }
       // Reset indentation after Jackson module generation as well
       context.resetIndentation();
+      writeTemplateIndex();
+      writeBuilderIndex();
+      writeMetricsReport();
       return false;
     }
 
     BuilderConfigurationReader reader = context.getConfigurationReader();
+    reader.startRound();
 
     // Find all elements to process: any element annotated with an annotation that is
     // meta-annotated with @SimpleBuilder.Template. This includes @SimpleBuilder itself, which is
@@ -142,7 +168,11 @@ public class BuilderProcessor extends AbstractProcessor {
     // Find all annotations meta-annotated with @SimpleBuilder.Template (this includes
     // @SimpleBuilder itself, which is now a built-in template). Each such annotation triggers
     // builder generation for the elements it is applied to.
-    List<TypeElement> annotationsWithTemplate = extractingAnnotationsWithTemplate(annotations);
+    templateIndex.collectCompiledTemplates(roundEnv);
+    List<TypeElement> annotationsWithTemplate = templateIndex.findTemplates(annotations);
+    if (annotationsWithTemplate.isEmpty()) {
+      return false;
+    }
     for (TypeElement annotation : annotationsWithTemplate) {
       elementsToProcess.addAll(roundEnv.getElementsAnnotatedWith(annotation));
     }
@@ -175,13 +205,17 @@ public class BuilderProcessor extends AbstractProcessor {
             .sorted(Comparator.comparing(element -> element.getSimpleName().toString()))
             .toList();
 
+    ProcessingMetrics metrics = context.getMetrics();
     int successfulGenerations = 0;
     for (Element annotatedElement : sortedElements) {
       context.debugStartOperation("Processing element: " + annotatedElement.getSimpleName());
+      metrics.startType(qualifiedNameOf(annotatedElement));
       try {
         // Resolve configuration per-element to handle all layers
         // (defaults, global, template, inline)
+        long start = metrics.startTimer();
         BuilderConfiguration config = reader.resolveConfiguration(annotatedElement);
+        metrics.recordPhase(ProcessingMetrics.PHASE_CONFIGURATION, start);
         context.debug("Configuration resolved: %s", config);
         process(annotatedElement, config);
         successfulGenerations++;
@@ -191,6 +225,7 @@ public class BuilderProcessor extends AbstractProcessor {
         context.reportBasedOnStrictMode(
             annotatedElement, "simple-builders: Failed to generate builder - %s", ex.getMessage());
       } finally {
+        metrics.endType();
         context.debugEndOperation();
       }
     }
@@ -202,9 +237,21 @@ public class BuilderProcessor extends AbstractProcessor {
           successfulGenerations);
     }
 
+    reader.logCacheStatistics();
+
     // Reset indentation level at the end of each processing round to prevent cascading errors
     context.resetIndentation();
-    return true;
+    // Claiming would hide all annotations from other processors, as all types are supported
+    return false;
+  }
+
+  @Override
+  public Set<String> getSupportedAnnotationTypes() {
+    if (templateIndex == null) {
+      // Not initialized yet
+      return Set.copyOf(TemplateAnnotationIndex.BUILT_IN_TEMPLATES);
+    }
+    return templateIndex.getSupportedAnnotationTypes();
   }
 
   @Override
@@ -222,12 +269,63 @@ public class BuilderProcessor extends AbstractProcessor {
     return SourceVersion.latestSupported();
   }
 
+  /**
+   * Extracts, renders and writes the builder and the integration classes of one element. The
+   * definitions only live for this call: apart from the builder index and the Jackson module
+   * entries, which keep compact summaries, nothing of the element is retained after it is written.
+   */
   private void process(Element annotatedElement, BuilderConfiguration config)
       throws BuilderException {
     context.initConfigurationForProcessingTarget(config);
+    ProcessingMetrics metrics = context.getMetrics();
+    long start = metrics.startTimer();
     BuilderDefinitionDto builderDef = extractFromElement(annotatedElement, context);
-    GenerationTargetClassDto renderingDto = toRenderingDto(builderDef);
-    codeGenerator.generateClass(renderingDto);
+    metrics.recordPhase(ProcessingMetrics.PHASE_DEFINITION, start);
+    if (annotatedElement instanceof TypeElement typeElement) {
+      context.getBuilderIndex().record(typeElement, builderDef);
+    }
+    int methodCount = generateBuilder(builderDef);
+
+    // Generate row mapper next to the builder if enabled
+    Optional<GenerationTargetClassDto> rowMapperDef =
+        rowMapperGenerator.createRowMapperDefinition(builderDef, annotatedElement);
+    if (rowMapperDef.isPresent()) {
+      generateCompanionClass(rowMapperDef.get(), builderDef);
+      context.debug("Row mapper generated");
+    }
+
+    // Generate binary codec next to the builder if enabled
+    Optional<GenerationTargetClassDto> codecDef =
+        binaryCodecGenerator.createCodecDefinition(builderDef, annotatedElement);
+    if (codecDef.isPresent()) {
+      generateCompanionClass(codecDef.get(), builderDef);
+      context.debug("Binary codec generated");
+    }
+
+    // Generate memory-mapped store next to the builder if enabled, encoding with the binary codec
+    Optional<GenerationTargetClassDto> storeDef =
+        mappedStoreGenerator.createStoreDefinition(
+            builderDef, annotatedElement, codecDef.map(GenerationTargetClassDto::getTypeName));
+    if (storeDef.isPresent()) {
+      generateCompanionClass(storeDef.get(), builderDef);
+      context.debug("Mapped store generated");
+    }
+
+    // Generate flyweight view next to the builder if enabled
+    Optional<GenerationTargetClassDto> viewDef =
+        flyweightViewGenerator.createViewDefinition(builderDef, annotatedElement);
+    if (viewDef.isPresent()) {
+      generateCompanionClass(viewDef.get(), builderDef);
+      context.debug("Flyweight view generated");
+    }
+
+    // Generate columnar batch next to the builder if enabled
+    Optional<GenerationTargetClassDto> batchDef =
+        columnarBatchGenerator.createBatchDefinition(builderDef, annotatedElement);
+    if (batchDef.isPresent()) {
+      generateCompanionClass(batchDef.get(), builderDef);
+      context.debug("Columnar batch generated");
+    }
 
     // Collect info for Jackson Module if enabled
     jacksonModuleGenerator.addEntry(builderDef, annotatedElement);
@@ -237,10 +335,82 @@ public class BuilderProcessor extends AbstractProcessor {
     context.debugEndOperation(
         "Generated builder with %d fields and %d methods for %s",
         builderDef.getAllFieldsForBuilder().size(),
-        renderingDto.getMethods().size(),
+        methodCount,
         builderDef.getBuilderTypeName().getClassName());
   }
 
+  /**
+   * Renders and writes the builder class. The rendering model is the largest model of an element,
+   * so it is released before the integration classes are generated.
+   *
+   * @return the number of methods of the builder
+   */
+  private int generateBuilder(BuilderDefinitionDto builderDef) throws BuilderException {
+    GenerationTargetClassDto renderingDto = toRenderingDto(builderDef);
+    int methodCount = renderingDto.getMethods().size();
+    context
+        .getMetrics()
+        .recordBuilder(
+            builderDef.getBuilderTypeName().getFullQualifiedName(),
+            builderDef.getAllFieldsForBuilder().size(),
+            methodCount);
+    codeGenerator.generateClass(renderingDto);
+    return methodCount;
+  }
+
+  /**
+   * Generates a class next to the builder, like a row mapper, with the Javadoc its output profile
+   * renders.
+   */
+  private void generateCompanionClass(
+      GenerationTargetClassDto classDef, BuilderDefinitionDto builderDef) throws BuilderException {
+    codeGenerator.generateClass(applyOutputProfile(classDef, builderDef));
+  }
+
+  /** Writes the index of the template annotations declared in this compilation. */
+  private void writeTemplateIndex() {
+    try {
+      templateIndex.writeIndex();
+    } catch (IOException e) {
+      context.warning(
+          "simple-builders: Unable to write template index %s: %s",
+          TemplateAnnotationIndex.INDEX_RESOURCE, e.getMessage());
+    }
+  }
+
+  /** Writes the index of the builders generated in this compilation for dependent modules. */
+  private void writeBuilderIndex() {
+    try {
+      context.getBuilderIndex().writeIndex();
+    } catch (IOException e) {
+      context.warning(
+          "simple-builders: Unable to write builder index %s: %s",
+          BuilderMetadataIndex.INDEX_RESOURCE, e.getMessage());
+    }
+  }
+
+  /** Writes the metrics report if enabled via {@code -Asimplebuilder.metricsReport}. */
+  private void writeMetricsReport() {
+    ProcessingMetrics metrics = context.getMetrics();
+    if (!metrics.isEnabled()) {
+      return;
+    }
+    try {
+      metrics.writeReport();
+      context.info("simple-builders: Metrics report written to %s", metrics.getReportPath());
+    } catch (IOException | RuntimeException e) {
+      context.warning(
+          "simple-builders: Unable to write metrics report to %s: %s",
+          metrics.getReportPath(), e.getMessage());
+    }
+  }
+
+  private static String qualifiedNameOf(Element element) {
+    return element instanceof TypeElement typeElement
+        ? typeElement.getQualifiedName().toString()
+        : element.getSimpleName().toString();
+  }
+
   /**
    * Checks whether the provided SourceVersion is at least Java 17 in a backwards compatible way.
    */
@@ -253,27 +423,4 @@ public class BuilderProcessor extends AbstractProcessor {
       return false;
     }
   }
-
-  private static List<TypeElement> extractingAnnotationsWithTemplate(
-      Set<? extends TypeElement> annotationsFound) {
-    List<TypeElement> result = new ArrayList<>();
-    for (TypeElement annotation : annotationsFound) {
-      if (shouldSkipAnnotation(annotation)) {
-        continue;
-      }
-      Template templateAnnotation =
-          annotation.getAnnotation(
-              org.javahelpers.simple.builders.core.annotations.SimpleBuilder.Template.class);
-      if (templateAnnotation != null) {
-        result.add(annotation);
-      }
-    }
-    return result;
-  }
-
-  private static boolean shouldSkipAnnotation(TypeElement annotation) {
-    // Only process real annotation specifications. @SimpleBuilder is now a built-in template, so
-    // it is processed through the same path as custom template annotations.
-    return annotation.getKind() != javax.lang.model.element.ElementKind.ANNOTATION_TYPE;
-  }
 }
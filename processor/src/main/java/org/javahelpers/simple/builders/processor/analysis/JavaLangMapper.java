@@ -56,6 +56,7 @@ import org.javahelpers.simple.builders.processor.model.type.TypeNameMap;
 import org.javahelpers.simple.builders.processor.model.type.TypeNamePrimitive;
 import org.javahelpers.simple.builders.processor.model.type.TypeNameSet;
 import org.javahelpers.simple.builders.processor.model.type.TypeNameVariable;
+import org.javahelpers.simple.builders.processor.processing.BuilderMetadataIndex;
 import org.javahelpers.simple.builders.processor.processing.ProcessingContext;
 
 /** Helper functions to create simple builder types from java.lang types. */
@@ -201,8 +202,17 @@ public final class JavaLangMapper {
    */
   private static void setBuilderAndConstructorInfo(
       TypeName typeName, TypeElement typeElement, ProcessingContext context) {
-    setBuilderTypeIfAnnotated(typeName, typeElement, context);
-    setEmptyConstructorInfoIfAvailable(typeName, typeElement, context);
+    // Builders of dependencies are taken from their index, without analysing the type again
+    Optional<BuilderMetadataIndex.Entry> indexed = context.getBuilderIndex().find(typeElement);
+    if (indexed.isPresent()) {
+      typeName.setBuilderType(indexed.get().builderType());
+      if (indexed.get().hasEmptyConstructor()) {
+        typeName.setHasEmptyConstructor(true);
+      }
+    } else {
+      setBuilderTypeIfAnnotated(typeName, typeElement, context);
+      setEmptyConstructorInfoIfAvailable(typeName, typeElement, context);
+    }
     setElementBuilderTypeForGenericCollections(typeName, context);
   }
 
@@ -276,6 +286,13 @@ public final class JavaLangMapper {
       return;
     }
 
+    Optional<BuilderMetadataIndex.Entry> indexed =
+        context.getBuilderIndex().find(elementTypeElement);
+    if (indexed.isPresent()) {
+      genericType.setElementBuilderType(indexed.get().builderType());
+      return;
+    }
+
     // Opted-out element types must never be referenced as element builders.
     if (JavaLangAnalyser.findAnnotation(elementTypeElement, Ignore4BuilderGeneration.class)
         .isPresent()) {
@@ -0,0 +1,286 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.javahelpers.simple.builders.processor.classgen.roaster;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.javahelpers.simple.builders.processor.classgen.roaster.exceptions.RoasterMapperException;
+import org.javahelpers.simple.builders.processor.model.imports.ImportStatement;
+import org.javahelpers.simple.builders.processor.model.imports.StaticImport;
+import org.javahelpers.simple.builders.processor.model.method.CodeTemplateDto;
+import org.javahelpers.simple.builders.processor.model.method.MethodCodePlaceholder;
+import org.javahelpers.simple.builders.processor.model.method.MethodCodeStringPlaceholder;
+import org.javahelpers.simple.builders.processor.model.method.MethodCodeTypePlaceholder;
+
+/**
+ * Resolves the JavaPoet-style named templates of {@link CodeTemplateDto} to plain Java source code.
+ *
+ * <p>Each distinct code format is parsed once into a list of tokens: literal text, placeholders
+ * {@code $label:N}, {@code $label:L}, {@code $label:S}, {@code $label:T} and qualified static
+ * member references like {@code TrackedValue.initialValue} or {@code $wrapper:T.changedValue}.
+ * Rendering appends the tokens in a single pass to a reused buffer. A static member reference is
+ * shortened to the member name if the generated class has a static import for it.
+ *
+ * <p>Parsed formats are kept in a bounded cache, as many formats contain field names and are only
+ * used once. Instances are not thread-safe; the processor renders one class at a time.
+ */
+public final class CodeTemplateEngine {
+
+  /** Maximum number of parsed formats kept in the cache. */
+  static final int MAX_CACHED_FORMATS = 2048;
+
+  private final Map<String, List<Token>> formatCache =
+      new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, List<Token>> eldest) {
+          return size() > MAX_CACHED_FORMATS;
+        }
+      };
+
+  private final StringBuilder buffer = new StringBuilder(1024);
+  private int cacheHits;
+  private int cacheMisses;
+
+  /**
+   * Collects the static members which can be referenced without qualification, based on the imports
+   * of the generated class.
+   *
+   * @param imports the imports of the generated class, as collected by the {@code ImportCollector}
+   * @return the static members as {@code SimpleClassName.member}
+   */
+  public static Set<String> staticMembersOf(Collection<ImportStatement> imports) {
+    Set<String> staticMembers = new HashSet<>();
+    for (ImportStatement importStatement : imports) {
+      if (importStatement instanceof StaticImport staticImport) {
+        staticMembers.add(
+            staticImport.getType().getClassName() + "." + staticImport.getMemberName());
+      }
+    }
+    return staticMembers;
+  }
+
+  /**
+   * Renders a code template.
+   *
+   * @param codeDto code template DTO
+   * @param staticMembers static members imported by the generated class, see {@link
+   *     #staticMembersOf(Collection)}
+   * @return resolved Java source code
+   */
+  public String render(CodeTemplateDto codeDto, Set<String> staticMembers) {
+    List<MethodCodePlaceholder<?>> arguments = codeDto.getCodeArguments();
+    for (MethodCodePlaceholder<?> argument : arguments) {
+      if (!(argument instanceof MethodCodeStringPlaceholder)
+          && !(argument instanceof MethodCodeTypePlaceholder)) {
+        throw new RoasterMapperException(
+            "Unsupported placeholder type: %s", argument.getClass().getName());
+      }
+    }
+
+    buffer.setLength(0);
+    for (Token token : compile(codeDto.getCodeFormat())) {
+      if (token instanceof Literal literal) {
+        buffer.append(literal.text());
+      } else if (token instanceof StaticMemberReference reference) {
+        buffer.append(
+            staticMembers.contains(reference.qualifiedName())
+                ? reference.memberName()
+                : reference.qualifiedName());
+      } else if (token instanceof Placeholder placeholder) {
+        appendPlaceholder(placeholder, arguments);
+      } else if (token instanceof TypeMemberReference reference) {
+        appendTypeMemberReference(reference, arguments, staticMembers);
+      }
+    }
+    return buffer.toString();
+  }
+
+  /**
+   * Returns the number of renderings which found their format in the cache.
+   *
+   * @return the cache hits
+   */
+  public int getCacheHits() {
+    return cacheHits;
+  }
+
+  /**
+   * Returns the number of renderings which had to parse their format.
+   *
+   * @return the cache misses
+   */
+  public int getCacheMisses() {
+    return cacheMisses;
+  }
+
+  private List<Token> compile(String format) {
+    List<Token> tokens = formatCache.get(format);
+    if (tokens != null) {
+      cacheHits++;
+      return tokens;
+    }
+    cacheMisses++;
+    tokens = parse(format);
+    formatCache.put(format, tokens);
+    return tokens;
+  }
+
+  private void appendPlaceholder(
+      Placeholder placeholder, List<MethodCodePlaceholder<?>> arguments) {
+    for (MethodCodePlaceholder<?> argument : arguments) {
+      if (!placeholder.label().equals(argument.getLabel())) {
+        continue;
+      }
+      if (placeholder.kind() == 'T' && argument instanceof MethodCodeTypePlaceholder type) {
+        buffer.append(RoasterMapper.mapType(type.getValue()));
+        return;
+      }
+      if (placeholder.kind() != 'T' && argument instanceof MethodCodeStringPlaceholder string) {
+        buffer.append(
+            placeholder.kind() == 'S' ? RoasterMapper.quote(string.getValue()) : string.getValue());
+        return;
+      }
+    }
+    // Placeholders without argument are kept as they are
+    buffer.append('$').append(placeholder.label()).append(':').append(placeholder.kind());
+  }
+
+  private void appendTypeMemberReference(
+      TypeMemberReference reference,
+      List<MethodCodePlaceholder<?>> arguments,
+      Set<String> staticMembers) {
+    for (MethodCodePlaceholder<?> argument : arguments) {
+      if (reference.label().equals(argument.getLabel())
+          && argument instanceof MethodCodeTypePlaceholder type) {
+        String qualifiedName =
+            RoasterMapper.mapType(type.getValue()) + "." + reference.memberName();
+        buffer.append(
+            staticMembers.contains(qualifiedName) ? reference.memberName() : qualifiedName);
+        return;
+      }
+    }
+    buffer.append('$').append(reference.label()).append(":T.").append(reference.memberName());
+  }
+
+  /** Splits a format into literal text, placeholders and static member references. */
+  static List<Token> parse(String format) {
+    List<Token> tokens = new ArrayList<>();
+    int length = format.length();
+    int literalStart = 0;
+    int i = 0;
+    while (i < length) {
+      char c = format.charAt(i);
+      int end;
+      Token token = null;
+      if (c == '$') {
+        end = scanIdentifierPart(format, i + 1);
+        if (end > i + 1
+            && end + 1 < length
+            && format.charAt(end) == ':'
+            && "NLST".indexOf(format.charAt(end + 1)) >= 0) {
+          String label = format.substring(i + 1, end);
+          char kind = format.charAt(end + 1);
+          end += 2;
+          int memberEnd = scanIdentifierPart(format, end + 1);
+          if (kind == 'T'
+              && end < length
+              && format.charAt(end) == '.'
+              && memberEnd > end + 1
+              && Character.isJavaIdentifierStart(format.charAt(end + 1))) {
+            token = new TypeMemberReference(label, format.substring(end + 1, memberEnd));
+            end = memberEnd;
+          } else {
+            token = new Placeholder(label, kind);
+          }
+        }
+      } else if (Character.isUpperCase(c) && isReferenceStart(format, i)) {
+        int typeEnd = scanIdentifierPart(format, i + 1);
+        end = scanIdentifierPart(format, typeEnd + 1);
+        if (typeEnd < length
+            && format.charAt(typeEnd) == '.'
+            && end > typeEnd + 1
+            && Character.isJavaIdentifierStart(format.charAt(typeEnd + 1))) {
+          token =
+              new StaticMemberReference(
+                  format.substring(i, end), format.substring(typeEnd + 1, end));
+        } else {
+          end = typeEnd;
+        }
+      } else {
+        end = i + 1;
+      }
+      if (token != null) {
+        if (literalStart < i) {
+          tokens.add(new Literal(format.substring(literalStart, i)));
+        }
+        tokens.add(token);
+        literalStart = end;
+      }
+      i = end;
+    }
+    if (literalStart < length) {
+      tokens.add(new Literal(format.substring(literalStart)));
+    }
+    return List.copyOf(tokens);
+  }
+
+  private static boolean isReferenceStart(String format, int index) {
+    if (index == 0) {
+      return true;
+    }
+    char previous = format.charAt(index - 1);
+    return previous != '.' && previous != '$' && !Character.isJavaIdentifierPart(previous);
+  }
+
+  private static int scanIdentifierPart(String format, int start) {
+    int index = start;
+    while (index < format.length()
+        && format.charAt(index) != '$'
+        && Character.isJavaIdentifierPart(format.charAt(index))) {
+      index++;
+    }
+    return index;
+  }
+
+  /** Part of a parsed code format. */
+  sealed interface Token permits Literal, Placeholder, StaticMemberReference, TypeMemberReference {}
+
+  /** Text copied as it is. */
+  record Literal(String text) implements Token {}
+
+  /** Placeholder {@code $label:kind} replaced with the argument of the same label. */
+  record Placeholder(String label, char kind) implements Token {}
+
+  /** Reference like {@code TrackedValue.initialValue}, shortened if statically imported. */
+  record StaticMemberReference(String qualifiedName, String memberName) implements Token {}
+
+  /** Reference like {@code $wrapper:T.changedValue}, shortened if statically imported. */
+  record TypeMemberReference(String label, String memberName) implements Token {}
+}
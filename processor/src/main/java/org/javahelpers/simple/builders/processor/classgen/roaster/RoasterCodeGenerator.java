@@ -25,7 +25,6 @@
 package org.javahelpers.simple.builders.processor.classgen.roaster;
 
 import static org.javahelpers.simple.builders.processor.classgen.roaster.RoasterMapper.mapType;
-import static org.javahelpers.simple.builders.processor.classgen.roaster.RoasterMapper.resolveCodeTemplate;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -59,11 +58,13 @@ import org.javahelpers.simple.builders.processor.model.type.NestedTypeDto;
 import org.javahelpers.simple.builders.processor.model.type.TypeName;
 import org.javahelpers.simple.builders.processor.model.type.TypeNameArray;
 import org.javahelpers.simple.builders.processor.processing.ProcessingLogger;
+import org.javahelpers.simple.builders.processor.processing.ProcessingMetrics;
 import org.javahelpers.simple.builders.processor.util.ImportCollector;
 import org.jboss.forge.roaster.Roaster;
 import org.jboss.forge.roaster.model.source.AnnotationSource;
 import org.jboss.forge.roaster.model.source.FieldSource;
 import org.jboss.forge.roaster.model.source.JavaClassSource;
+import org.jboss.forge.roaster.model.source.JavaEnumSource;
 import org.jboss.forge.roaster.model.source.JavaInterfaceSource;
 import org.jboss.forge.roaster.model.source.JavaSource;
 import org.jboss.forge.roaster.model.source.MethodSource;
@@ -81,8 +82,17 @@ public class RoasterCodeGenerator {
   /** Logger for debug output during code generation. */
   private final ProcessingLogger logger;
 
+  /** Metrics recording rendering, formatting and writing times. */
+  private final ProcessingMetrics metrics;
+
   private final Properties formatterProperties;
 
+  /** Engine resolving the code templates of method bodies and Javadoc examples. */
+  private final CodeTemplateEngine templateEngine = new CodeTemplateEngine();
+
+  /** Static members imported by the class currently generated. */
+  private Set<String> staticMembers = Set.of();
+
   /**
    * Constructor for RoasterCodeGenerator.
    *
@@ -90,8 +100,21 @@ public class RoasterCodeGenerator {
    * @param logger Logger for debug output
    */
   public RoasterCodeGenerator(ProcessingEnvironment processingEnv, ProcessingLogger logger) {
+    this(processingEnv, logger, ProcessingMetrics.disabled());
+  }
+
+  /**
+   * Constructor for RoasterCodeGenerator.
+   *
+   * @param processingEnv Processing environment for accessing filer and element utilities
+   * @param logger Logger for debug output
+   * @param metrics Metrics recording rendering, formatting and writing times
+   */
+  public RoasterCodeGenerator(
+      ProcessingEnvironment processingEnv, ProcessingLogger logger, ProcessingMetrics metrics) {
     this.processingEnv = processingEnv;
     this.logger = logger;
+    this.metrics = metrics;
     this.formatterProperties = loadFormatterProperties();
   }
 
@@ -114,13 +137,17 @@ public class RoasterCodeGenerator {
       // generating the remaining builders instead of aborting the whole processing round.
       throw new BuilderException(null, ex);
     }
+    long start = metrics.startTimer();
     writeClassToFile(sourceCode, classDef);
+    metrics.recordPhase(ProcessingMetrics.PHASE_FILE_WRITE, start);
+    metrics.recordSource(sourceCode);
 
     logger.debugEndOperation(
         "Successfully generated class: %s", classDef.getTypeName().getClassName());
   }
 
   private String createClassSource(GenerationTargetClassDto classDef) {
+    long renderingStart = metrics.startTimer();
     JavaClassSource source = createJavaClassSource(classDef);
     addClassMetadata(source, classDef);
     appendFields(source, classDef);
@@ -128,7 +155,7 @@ public class RoasterCodeGenerator {
     appendMethods(source, classDef);
     appendNestedTypes(source, classDef);
     applyClassAnnotations(source, classDef);
-    return renderClassSource(source);
+    return renderClassSource(source, renderingStart);
   }
 
   private void applyClassAnnotations(JavaClassSource source, GenerationTargetClassDto classDef) {
@@ -157,6 +184,7 @@ public class RoasterCodeGenerator {
 
     // Collect and add imports early (before elements are added)
     Set<ImportStatement> importStmts = ImportCollector.collectAndSortImports(classDef);
+    staticMembers = CodeTemplateEngine.staticMembersOf(importStmts);
     for (ImportStatement importStmt : importStmts) {
       if (importStmt.isStatic()) {
         source.addImport(importStmt.getFullyQualifiedName()).setStatic(true);
@@ -182,9 +210,12 @@ public class RoasterCodeGenerator {
     logger.debug("Class metadata added");
   }
 
-  private String renderClassSource(JavaClassSource source) {
+  private String renderClassSource(JavaClassSource source, long renderingStart) {
     String rendered = source.toUnformattedString();
+    metrics.recordPhase(ProcessingMetrics.PHASE_RENDERING, renderingStart);
+    long formattingStart = metrics.startTimer();
     String formatted = formatSource(rendered);
+    metrics.recordPhase(ProcessingMetrics.PHASE_FORMATTING, formattingStart);
     // Roaster renders some java.lang annotations (e.g. @SuppressWarnings, @Deprecated with
     // members) with their FQN (@java.lang.SuppressWarnings) even though java.lang types don't
     // need qualification. Fix this by replacing @java.lang.Xxx with @Xxx for known annotations.
@@ -208,6 +239,8 @@ public class RoasterCodeGenerator {
     field.setName(fieldDto.getFieldName());
     field.setType(mapType(fieldDto.getFieldType()));
     applyVisibility(field, fieldDto.getVisibility());
+    field.setStatic(fieldDto.isStatic());
+    field.setFinal(fieldDto.isFinal());
     applyLiteralInitializer(field, fieldDto.getLiteralInitializer());
     applyJavadoc(field, fieldDto.getJavadoc());
   }
@@ -310,13 +343,18 @@ public class RoasterCodeGenerator {
 
   private void appendNestedType(JavaClassSource source, NestedTypeDto nestedType) {
     JavaSource<?> nestedSource =
-        nestedType.getKind() == NestedTypeDto.NestedTypeKind.INTERFACE
-            ? source.addNestedType(JavaInterfaceSource.class)
-            : source.addNestedType(JavaClassSource.class);
+        switch (nestedType.getKind()) {
+          case INTERFACE -> source.addNestedType(JavaInterfaceSource.class);
+          case ENUM -> source.addNestedType(JavaEnumSource.class);
+          case CLASS -> source.addNestedType(JavaClassSource.class);
+        };
     nestedSource.setName(nestedType.getTypeName());
     applyVisibility(nestedSource, nestedType.getVisibility());
     applyAnnotations(nestedSource, nestedType.getAnnotations());
     applyJavadoc(nestedSource, nestedType.getJavadoc());
+    if (nestedSource instanceof JavaEnumSource enumSource) {
+      nestedType.getEnumConstants().forEach(constant -> enumSource.addEnumConstant(constant));
+    }
     boolean isInterface = nestedType.getKind() == NestedTypeDto.NestedTypeKind.INTERFACE;
     for (MethodDto methodDto : nestedType.getMethods()) {
       appendNestedMethod(nestedSource, methodDto, isInterface);
@@ -330,7 +368,7 @@ public class RoasterCodeGenerator {
     configureMethod(method, methodDto, true, isInterface);
     if (methodDto.getMethodCodeDto() != null
         && StringUtils.isNotBlank(methodDto.getMethodCodeDto().getCodeFormat())) {
-      method.setBody(resolveCodeTemplate(methodDto.getMethodCodeDto()));
+      method.setBody(templateEngine.render(methodDto.getMethodCodeDto(), staticMembers));
     } else {
       method.setAbstract(true);
       method.setBody("");
@@ -404,7 +442,7 @@ public class RoasterCodeGenerator {
       method.setBody("");
       return;
     }
-    method.setBody(resolveCodeTemplate(codeDto));
+    method.setBody(templateEngine.render(codeDto, staticMembers));
   }
 
   private void applyJavadoc(
@@ -436,7 +474,7 @@ public class RoasterCodeGenerator {
     JavadocCodeBlockDto codeBlock = javadoc.getExampleUsageCodeBlock();
     if (codeBlock != null && codeBlock.hasCode()) {
       // Resolve placeholders in the code block
-      String resolvedCode = resolveCodeTemplate(codeBlock);
+      String resolvedCode = templateEngine.render(codeBlock, staticMembers);
       // Pre-prefix every line of the code body with " * " so it survives Roaster's
       // preformatted-block handling (Roaster does not auto-add asterisk prefix inside <pre>).
       String prefixedCode =
@@ -509,6 +547,9 @@ public class RoasterCodeGenerator {
     addGenericDeclarations(method, methodDto.getGenericParameters());
     applyJavadoc(method, methodDto.getJavadoc());
     applyAnnotations(method, methodDto.getAnnotations());
+    for (TypeName thrownType : methodDto.getThrownTypes()) {
+      method.addThrows(thrownType.getClassName());
+    }
 
     for (int i = 0; i < methodDto.getParameters().size(); i++) {
       MethodParameterDto paramDto = methodDto.getParameters().get(i);
@@ -30,10 +30,6 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.javahelpers.simple.builders.processor.classgen.roaster.exceptions.RoasterMapperException;
 import org.javahelpers.simple.builders.processor.model.annotation.AnnotationDto;
 import org.javahelpers.simple.builders.processor.model.annotation.InterfaceName;
-import org.javahelpers.simple.builders.processor.model.method.CodeTemplateDto;
-import org.javahelpers.simple.builders.processor.model.method.MethodCodePlaceholder;
-import org.javahelpers.simple.builders.processor.model.method.MethodCodeStringPlaceholder;
-import org.javahelpers.simple.builders.processor.model.method.MethodCodeTypePlaceholder;
 import org.javahelpers.simple.builders.processor.model.type.TypeName;
 import org.javahelpers.simple.builders.processor.model.type.TypeNameArray;
 import org.javahelpers.simple.builders.processor.model.type.TypeNameGeneric;
@@ -163,33 +159,6 @@ public final class RoasterMapper {
     }
   }
 
-  /**
-   * Resolves the JavaPoet-style named template used in CodeTemplateDto to plain Java source code.
-   *
-   * @param codeDto code template DTO
-   * @return resolved Java source code
-   */
-  public static String resolveCodeTemplate(CodeTemplateDto codeDto) {
-    String code = codeDto.getCodeFormat();
-    for (MethodCodePlaceholder<?> placeHolderValue : codeDto.getCodeArguments()) {
-      String label = placeHolderValue.getLabel();
-      if (placeHolderValue instanceof MethodCodeStringPlaceholder stringPlaceholder) {
-        code = code.replace("$" + label + ":N", stringPlaceholder.getValue());
-        code = code.replace("$" + label + ":L", stringPlaceholder.getValue());
-        code = code.replace("$" + label + ":S", quote(stringPlaceholder.getValue()));
-      } else if (placeHolderValue instanceof MethodCodeTypePlaceholder typePlaceholder) {
-        code = code.replace("$" + label + ":T", mapType(typePlaceholder.getValue()));
-      } else {
-        throw new RoasterMapperException(
-            "Unsupported placeholder type: %s", placeHolderValue.getClass().getName());
-      }
-    }
-    code = code.replace("TrackedValue.initialValue", "initialValue");
-    code = code.replace("TrackedValue.changedValue", "changedValue");
-    code = code.replace("TrackedValue.unsetValue", "unsetValue");
-    return code;
-  }
-
   /**
    * Converts plain text to a Java string literal.
    *
@@ -0,0 +1,319 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.javahelpers.simple.builders.processor.generators.builder;
+
+import static org.javahelpers.simple.builders.processor.generators.util.MethodGeneratorUtil.TRACKED_VALUE_TYPE;
+import static org.javahelpers.simple.builders.processor.generators.util.MethodGeneratorUtil.addExampleChainFragmentTemplate;
+import static org.javahelpers.simple.builders.processor.generators.util.MethodGeneratorUtil.createBuilderMethod;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import org.javahelpers.simple.builders.core.enums.AccessModifier;
+import org.javahelpers.simple.builders.core.util.PendingFields;
+import org.javahelpers.simple.builders.processor.generators.BuilderEnhancer;
+import org.javahelpers.simple.builders.processor.generators.util.JavadocConstants;
+import org.javahelpers.simple.builders.processor.generators.util.MethodGeneratorUtil;
+import org.javahelpers.simple.builders.processor.model.core.BuilderDefinitionDto;
+import org.javahelpers.simple.builders.processor.model.core.ClassFieldDto;
+import org.javahelpers.simple.builders.processor.model.core.FieldDto;
+import org.javahelpers.simple.builders.processor.model.javadoc.JavadocCodeBlockDto;
+import org.javahelpers.simple.builders.processor.model.javadoc.JavadocDto;
+import org.javahelpers.simple.builders.processor.model.method.BuilderMethodDto;
+import org.javahelpers.simple.builders.processor.model.method.MethodParameterDto;
+import org.javahelpers.simple.builders.processor.model.type.TypeName;
+import org.javahelpers.simple.builders.processor.model.type.TypeNameGeneric;
+import org.javahelpers.simple.builders.processor.processing.ProcessingContext;
+
+/**
+ * Enhancer that adds asynchronous setters for every field and a {@code buildAsync()} method.
+ *
+ * <p>{@code xxx(CompletionStage<T>)} registers a value which is still being computed, {@code
+ * xxx(Supplier<T>, Executor)} starts computing it on the executor. Both return immediately, so
+ * independent remote calls overlap. {@code buildAsync()} waits for all pending values without
+ * blocking, sets them on the builder and completes with the built DTO.
+ *
+ * <p><b>Important behavior:</b> Pending values are set in registration order right before the DTO
+ * is built. Setting a field directly, or asynchronously again, discards its pending value, so the
+ * last call wins like for all other setters. Methods extending the current value of a field, like
+ * {@code add2Tags(...)} or the consumers of collection builders, throw an {@code
+ * IllegalStateException} while a value is pending for the field. If a pending value fails, the
+ * future of {@code buildAsync()} fails with the same exception. {@code build()} throws an {@code
+ * IllegalStateException} while values are pending. {@code merge(...)} and {@code set(int, Object)}
+ * assign fields without discarding pending values.
+ *
+ * <p><b>Requirements:</b> Only applies if the builder has at least one field. Fields which are
+ * {@code CompletionStage}s themselves get no asynchronous setters.
+ *
+ * <p>This enhancer is disabled by default and can be activated by setting the configuration flag
+ * {@code generateAsyncBuild} to {@code ENABLED}. See the configuration documentation for details.
+ *
+ * <h3>Example to demonstrate the generated methods</h3>
+ *
+ * <pre>{@code
+ * // Usage of generated Builder:
+ * CompletableFuture<BookDto> book = BookDtoBuilder.create()
+ *     .title(catalogClient.fetchTitleAsync(isbn))
+ *     .pages(() -> catalogClient.fetchPages(isbn), PendingFields.defaultExecutor())
+ *     .buildAsync();
+ * }</pre>
+ */
+public class AsyncBuildEnhancer implements BuilderEnhancer {
+
+  private static final int PRIORITY = 82;
+
+  /** Field types which would clash with the asynchronous setter of the basic setter. */
+  private static final Set<String> STAGE_TYPES =
+      Set.of(CompletionStage.class.getName(), CompletableFuture.class.getName());
+
+  // Ordering constants for method generation order
+  private static final int ORDERING_BUILD_ASYNC = 1210; // Directly after build
+
+  private static final String SUFFIX_STAGE = "Stage";
+
+  @Override
+  public int getPriority() {
+    return PRIORITY;
+  }
+
+  @Override
+  public boolean appliesTo(
+      BuilderDefinitionDto builderDto, TypeName dtoType, ProcessingContext context) {
+    return context.getConfiguration().shouldGenerateAsyncBuild()
+        && !builderDto.getAllFieldsForBuilder().isEmpty();
+  }
+
+  @Override
+  public void enhanceBuilder(BuilderDefinitionDto builderDto, ProcessingContext context) {
+    List<FieldDto> fields = builderDto.getAllFieldsForBuilder();
+    String pendingFieldName = createPendingFieldName(fields);
+    TypeName builderType =
+        MethodGeneratorUtil.createGenericTypeName(
+            builderDto.getBuilderTypeName(), builderDto.getGenerics());
+
+    builderDto.addClassField(createPendingField(pendingFieldName));
+    fields.forEach(field -> discardPendingOnSet(field, pendingFieldName));
+    checkResolvedOnBuild(builderDto, pendingFieldName);
+    int asyncFields = 0;
+    for (FieldDto field : fields) {
+      if (STAGE_TYPES.contains(
+          field.getFieldType().getPackageName() + "." + field.getFieldType().getClassName())) {
+        context.debug(
+            "Field '%s' is a CompletionStage, skipping asynchronous setters",
+            field.getFieldNameInBuilder());
+        continue;
+      }
+      field.addMethod(createStageMethod(field, pendingFieldName, builderType, context));
+      field.addMethod(createExecutorMethod(field, pendingFieldName, builderType, context));
+      asyncFields++;
+    }
+    builderDto.addMethod(createBuildAsyncMethod(builderDto, pendingFieldName, context));
+
+    context.debug("Async build: %d fields with asynchronous setters", asyncFields);
+  }
+
+  /**
+   * Lets the existing methods of the field which replace its value discard a value pending for it.
+   * Methods extending the current value, like {@code add2Tags(...)}, fail instead, as the pending
+   * value is not available yet.
+   */
+  private void discardPendingOnSet(FieldDto field, String pendingFieldName) {
+    for (BuilderMethodDto method : field.getMethods()) {
+      if (method.isStatic() || !method.hasCode()) {
+        continue;
+      }
+      String pendingCall = method.isReadingFieldState() ? "checkNotPending" : "discard";
+      method.setCode(
+          "this.$pendingFields:N."
+              + pendingCall
+              + "($pendingFieldKey:S);\n"
+              + method.getMethodCodeDto().getCodeFormat());
+      method.addArgument("pendingFields", pendingFieldName);
+      method.addArgument("pendingFieldKey", field.getFieldNameInBuilder());
+    }
+  }
+
+  /** Lets {@code build()} fail while values are pending instead of ignoring them. */
+  private void checkResolvedOnBuild(BuilderDefinitionDto builderDto, String pendingFieldName) {
+    builderDto.getMethods().stream()
+        .filter(m -> "build".equals(m.getMethodName()) && m.getParameters().isEmpty())
+        .filter(BuilderMethodDto::hasCode)
+        .forEach(
+            build -> {
+              build.setCode(
+                  "this.$pendingFields:N.checkResolved();\n"
+                      + build.getMethodCodeDto().getCodeFormat());
+              build.addArgument("pendingFields", pendingFieldName);
+            });
+  }
+
+  private String createPendingFieldName(List<FieldDto> fields) {
+    String fieldName = "pendingFields";
+    while (isBuilderFieldName(fields, fieldName)) {
+      fieldName = "_" + fieldName;
+    }
+    return fieldName;
+  }
+
+  private boolean isBuilderFieldName(List<FieldDto> fields, String name) {
+    return fields.stream().anyMatch(f -> f.getFieldNameInBuilder().equals(name));
+  }
+
+  private ClassFieldDto createPendingField(String pendingFieldName) {
+    ClassFieldDto pendingField = new ClassFieldDto();
+    pendingField.setFieldName(pendingFieldName);
+    pendingField.setFieldType(TypeName.of(PendingFields.class));
+    pendingField.setVisibility(AccessModifier.PRIVATE);
+    pendingField.setFinal(true);
+    pendingField.setLiteralInitializer("new PendingFields()");
+    pendingField.setJavadoc(
+        new JavadocDto("Field values which are still being computed, set by buildAsync()."));
+    pendingField.addImport(PendingFields.class);
+    return pendingField;
+  }
+
+  /** Creates the {@code xxx(CompletionStage<T>)} method. */
+  private BuilderMethodDto createStageMethod(
+      FieldDto field, String pendingFieldName, TypeName builderType, ProcessingContext context) {
+    String parameterName = field.getOriginalFieldName() + SUFFIX_STAGE;
+    MethodParameterDto parameter = new MethodParameterDto();
+    parameter.setParameterName(parameterName);
+    parameter.setParameterTypeName(
+        new TypeNameGeneric(TypeName.of(CompletionStage.class), field.getFieldType()));
+
+    BuilderMethodDto method =
+        createBuilderMethod(field.getOriginalFieldName(), builderType, context);
+    method.addParameter(parameter);
+    method.setCode(
+        """
+        this.$pendingFields:N.register($pendingFieldKey:S, $param:N, value -> this.$fieldName:N = $builderFieldWrapper:T.changedValue(value));
+        return this;
+        """);
+    method.addArgument("pendingFields", pendingFieldName);
+    method.addArgument("pendingFieldKey", field.getFieldNameInBuilder());
+    method.addArgument("param", parameterName);
+    method.addArgument("fieldName", field.getFieldNameInBuilder());
+    method.addArgument("builderFieldWrapper", TRACKED_VALUE_TYPE);
+    method.setPriority(BuilderMethodDto.PRIORITY_HIGH);
+    MethodGeneratorUtil.setJavadoc(
+        method,
+        context,
+        () ->
+            new JavadocDto(
+                    "Sets the value for <code>%s</code> once the stage completes. The value is set by buildAsync().",
+                    field.getOriginalFieldName())
+                .addParam(
+                    parameterName, "stage providing %s", field.getJavaDocDescriptionOrFieldName())
+                .addReturn(JavadocConstants.RETURN_BUILDER_INSTANCE));
+    addExampleChainFragmentTemplate(
+        method,
+        "#{methodName}(CompletableFuture.supplyAsync(() -> #{exampleValue}))",
+        field.getFieldType());
+    return method;
+  }
+
+  /** Creates the {@code xxx(Supplier<T>, Executor)} method. */
+  private BuilderMethodDto createExecutorMethod(
+      FieldDto field, String pendingFieldName, TypeName builderType, ProcessingContext context) {
+    String parameterName = field.getOriginalFieldName() + MethodGeneratorUtil.SUFFIX_SUPPLIER;
+    MethodParameterDto supplierParameter = new MethodParameterDto();
+    supplierParameter.setParameterName(parameterName);
+    supplierParameter.setParameterTypeName(
+        new TypeNameGeneric(TypeName.of(Supplier.class), field.getFieldType()));
+    MethodParameterDto executorParameter = new MethodParameterDto();
+    executorParameter.setParameterName("executor");
+    executorParameter.setParameterTypeName(TypeName.of(Executor.class));
+
+    BuilderMethodDto method =
+        createBuilderMethod(field.getOriginalFieldName(), builderType, context);
+    method.addParameter(supplierParameter);
+    method.addParameter(executorParameter);
+    method.setCode(
+        """
+        this.$pendingFields:N.supply($pendingFieldKey:S, $param:N, executor, value -> this.$fieldName:N = $builderFieldWrapper:T.changedValue(value));
+        return this;
+        """);
+    method.addArgument("pendingFields", pendingFieldName);
+    method.addArgument("pendingFieldKey", field.getFieldNameInBuilder());
+    method.addArgument("param", parameterName);
+    method.addArgument("fieldName", field.getFieldNameInBuilder());
+    method.addArgument("builderFieldWrapper", TRACKED_VALUE_TYPE);
+    method.setPriority(BuilderMethodDto.PRIORITY_HIGH);
+    MethodGeneratorUtil.setJavadoc(
+        method,
+        context,
+        () ->
+            new JavadocDto(
+                    "Sets the value for <code>%s</code> by invoking the provided supplier on the executor. The call does not wait for the supplier, the value is set by buildAsync().",
+                    field.getOriginalFieldName())
+                .addParam(
+                    parameterName, "supplier for %s", field.getJavaDocDescriptionOrFieldName())
+                .addParam(
+                    "executor",
+                    "executor running the supplier, e.g. PendingFields.defaultExecutor()")
+                .addReturn(JavadocConstants.RETURN_BUILDER_INSTANCE));
+    addExampleChainFragmentTemplate(
+        method,
+        "#{methodName}(() -> #{exampleValue}, PendingFields.defaultExecutor())",
+        field.getFieldType());
+    return method;
+  }
+
+  /** Creates the {@code buildAsync()} method. */
+  private BuilderMethodDto createBuildAsyncMethod(
+      BuilderDefinitionDto builderDto, String pendingFieldName, ProcessingContext context) {
+    TypeName dtoType =
+        MethodGeneratorUtil.createGenericTypeName(
+            builderDto.getBuildingTargetTypeName(), builderDto.getGenerics());
+    BuilderMethodDto method =
+        new BuilderMethodDto(
+            "buildAsync", new TypeNameGeneric(TypeName.of(CompletableFuture.class), dtoType));
+    method.setEntryPoint(true);
+    method.setOrdering(ORDERING_BUILD_ASYNC);
+    method.setPriority(BuilderMethodDto.PRIORITY_HIGHEST);
+    method.setModifier(AccessModifier.PUBLIC);
+    method.setCode("return this.$pendingFields:N.resolve(this::build);");
+    method.addArgument("pendingFields", pendingFieldName);
+    MethodGeneratorUtil.setJavadoc(method, context, () -> createBuildAsyncJavadoc(builderDto));
+    return method;
+  }
+
+  private JavadocDto createBuildAsyncJavadoc(BuilderDefinitionDto builderDto) {
+    JavadocDto javadoc =
+        new JavadocDto(
+                "Builds the DTO once all pending field values are available. Pending values are set in the order they have been registered, then build() is called. The method does not block. Use it instead of build() whenever fields have been set asynchronously.")
+            .addReturn(
+                "future completing with the built DTO, or exceptionally if a pending value failed");
+    JavadocCodeBlockDto exampleBlock = new JavadocCodeBlockDto();
+    exampleBlock.setCodeFormat(
+        "CompletableFuture<%s> result = builder.buildAsync();"
+            .formatted(builderDto.getBuildingTargetTypeName().getClassName()));
+    javadoc.setExampleUsageCodeBlock(exampleBlock);
+    return javadoc;
+  }
+}
@@ -24,6 +24,7 @@
 
 package org.javahelpers.simple.builders.processor.generators.builder;
 
+import org.javahelpers.simple.builders.core.enums.OutputProfile;
 import org.javahelpers.simple.builders.processor.generators.BuilderEnhancer;
 import org.javahelpers.simple.builders.processor.model.core.BuilderDefinitionDto;
 import org.javahelpers.simple.builders.processor.model.core.FieldDto;
@@ -44,11 +45,11 @@ import org.javahelpers.simple.builders.processor.processing.ProcessingContext;
  * references the target DTO class, and provides basic usage information. This documentation appears
  * in IDE tooltips and generated API documentation.
  *
- * <p><b>Requirements:</b> Always applies to all builders. Class-level documentation is essential
- * for API usability.
+ * <p><b>Requirements:</b> Applies to all builders unless the output profile is {@code LEAN}, which
+ * skips building the class JavaDoc and its usage example entirely.
  *
- * <p>This enhancer cannot be deactivated as it provides essential documentation for generated
- * builders.
+ * <p>This enhancer cannot be deactivated otherwise as it provides essential documentation for
+ * generated builders.
  *
  * <h3>Example of generated class JavaDoc</h3>
  *
@@ -84,7 +85,8 @@ public class ClassJavaDocEnhancer implements BuilderEnhancer {
   @Override
   public boolean appliesTo(
       BuilderDefinitionDto builderDto, TypeName dtoType, ProcessingContext context) {
-    return true; // Class JavaDoc is always needed for builders
+    // Class JavaDoc is needed for builders, except for the lean profile which renders none
+    return context.getConfiguration().getOutputProfile() != OutputProfile.LEAN;
   }
 
   @Override
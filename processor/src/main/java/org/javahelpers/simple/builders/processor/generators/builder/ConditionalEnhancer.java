@@ -103,11 +103,12 @@ public class ConditionalEnhancer implements BuilderEnhancer {
   @Override
   public void enhanceBuilder(BuilderDefinitionDto builderDto, ProcessingContext context) {
     // Add conditional(BooleanSupplier, Consumer, Consumer) method
-    BuilderMethodDto conditionalMethod = createConditionalMethod(builderDto);
+    BuilderMethodDto conditionalMethod = createConditionalMethod(builderDto, context);
     builderDto.addMethod(conditionalMethod);
 
     // Add conditional(BooleanSupplier, Consumer) method
-    BuilderMethodDto conditionalPositiveMethod = createConditionalPositiveOnlyMethod(builderDto);
+    BuilderMethodDto conditionalPositiveMethod =
+        createConditionalPositiveOnlyMethod(builderDto, context);
     builderDto.addMethod(conditionalPositiveMethod);
 
     context.debug(
@@ -115,7 +116,8 @@ public class ConditionalEnhancer implements BuilderEnhancer {
   }
 
   /** Creates the conditional(BooleanSupplier, Consumer, Consumer) method. */
-  private BuilderMethodDto createConditionalMethod(BuilderDefinitionDto builderDto) {
+  private BuilderMethodDto createConditionalMethod(
+      BuilderDefinitionDto builderDto, ProcessingContext context) {
     BuilderMethodDto method = new BuilderMethodDto("conditional", builderDto.getBuilderTypeName());
     method.setOrdering(ORDERING_CONDITIONAL);
     method.setPriority(BuilderMethodDto.PRIORITY_HIGHEST);
@@ -125,29 +127,26 @@ public class ConditionalEnhancer implements BuilderEnhancer {
     addConditionalPositiveNegativeParameters(method, builderDto.getBuilderTypeName());
 
     // Create method implementation
-    method.setCode(
-        """
-        if (condition.getAsBoolean()) {
-            trueCase.accept(this);
-        } else if (falseCase != null) {
-            falseCase.accept(this);
-        }
-        return this;
-        """);
-
-    method.setJavadoc(
-        new JavadocDto(
-                "Conditionally applies builder modifications based on a condition evaluation.")
-            .addParam("condition", "the condition to evaluate")
-            .addParam("trueCase", "the consumer to apply if condition is true")
-            .addParam("falseCase", "the consumer to apply if condition is false (can be null)")
-            .addReturn("this builder instance"));
+    method.setCode("return $builderSupport:T.conditional(this, condition, trueCase, falseCase);");
+    method.addArgument("builderSupport", MethodGeneratorUtil.BUILDER_SUPPORT_TYPE);
+
+    MethodGeneratorUtil.setJavadoc(
+        method,
+        context,
+        () ->
+            new JavadocDto(
+                    "Conditionally applies builder modifications based on a condition evaluation.")
+                .addParam("condition", "the condition to evaluate")
+                .addParam("trueCase", "the consumer to apply if condition is true")
+                .addParam("falseCase", "the consumer to apply if condition is false (can be null)")
+                .addReturn("this builder instance"));
 
     return method;
   }
 
   /** Creates the conditional(BooleanSupplier, Consumer) method. */
-  private BuilderMethodDto createConditionalPositiveOnlyMethod(BuilderDefinitionDto builderDto) {
+  private BuilderMethodDto createConditionalPositiveOnlyMethod(
+      BuilderDefinitionDto builderDto, ProcessingContext context) {
     BuilderMethodDto method = new BuilderMethodDto("conditional", builderDto.getBuilderTypeName());
     method.setOrdering(ORDERING_CONDITIONAL_POSITIVE_ONLY);
     method.setPriority(BuilderMethodDto.PRIORITY_HIGHEST);
@@ -159,11 +158,14 @@ public class ConditionalEnhancer implements BuilderEnhancer {
     // Create method implementation
     method.setCode("return conditional(condition, yesCondition, null);");
 
-    method.setJavadoc(
-        new JavadocDto("Conditionally applies builder modifications if the condition is true.")
-            .addParam("condition", "the condition to evaluate")
-            .addParam("yesCondition", "the consumer to apply if condition is true")
-            .addReturn("this builder instance"));
+    MethodGeneratorUtil.setJavadoc(
+        method,
+        context,
+        () ->
+            new JavadocDto("Conditionally applies builder modifications if the condition is true.")
+                .addParam("condition", "the condition to evaluate")
+                .addParam("yesCondition", "the consumer to apply if condition is true")
+                .addReturn("this builder instance"));
 
     return method;
   }
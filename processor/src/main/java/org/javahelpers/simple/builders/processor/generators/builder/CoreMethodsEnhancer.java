@@ -101,24 +101,26 @@ public class CoreMethodsEnhancer implements BuilderEnhancer {
   @Override
   public void enhanceBuilder(BuilderDefinitionDto builderDto, ProcessingContext context) {
     // Add build() method
-    BuilderMethodDto buildMethod = createBuildMethod(builderDto);
+    BuilderMethodDto buildMethod = createBuildMethod(builderDto, context);
     builderDto.addMethod(buildMethod);
 
     // Add static create() method
-    BuilderMethodDto createMethod = createStaticCreateMethod(builderDto);
+    BuilderMethodDto createMethod = createStaticCreateMethod(builderDto, context);
     builderDto.addMethod(createMethod);
 
     // Add toString() method
-    BuilderMethodDto toStringMethod = createToStringMethod(builderDto);
+    BuilderMethodDto toStringMethod = createToStringMethod(builderDto, context);
     builderDto.addMethod(toStringMethod);
   }
 
   /** Creates the build() method. */
-  protected BuilderMethodDto createBuildMethod(BuilderDefinitionDto builderDto) {
+  protected BuilderMethodDto createBuildMethod(
+      BuilderDefinitionDto builderDto, ProcessingContext context) {
     TypeName returnType =
         MethodGeneratorUtil.createGenericTypeName(
             builderDto.getBuildingTargetTypeName(), builderDto.getGenerics());
     BuilderMethodDto method = new BuilderMethodDto("build", returnType);
+    method.setEntryPoint(true);
     method.setOrdering(ORDERING_BUILD);
     method.setPriority(BuilderMethodDto.PRIORITY_HIGHEST);
     method.setModifier(AccessModifier.PUBLIC);
@@ -199,28 +201,23 @@ public class CoreMethodsEnhancer implements BuilderEnhancer {
     code.append("return result;");
 
     method.setCode(code.toString());
+    method.setReadingFieldState(true);
     method.addArgument("dtoBaseType", builderDto.getBuildingTargetTypeName());
     method.addArgument("buildResultType", returnType);
     method.getMethodCodeDto().addCodeBlockImport(IllegalStateException.class);
-    JavadocDto javadoc = new JavadocDto("Builds the configured DTO instance.");
-
-    // Add example to build() method
-    JavadocCodeBlockDto exampleBlock = new JavadocCodeBlockDto();
-    String targetSimpleName = builderDto.getBuildingTargetTypeName().getClassName();
-    exampleBlock.setCodeFormat("%s result = builder.build();".formatted(targetSimpleName));
-    javadoc.setExampleUsageCodeBlock(exampleBlock);
-
-    method.setJavadoc(javadoc);
+    MethodGeneratorUtil.setJavadoc(method, context, () -> createBuildJavadoc(builderDto));
 
     return method;
   }
 
   /** Creates the static create() method. */
-  protected BuilderMethodDto createStaticCreateMethod(BuilderDefinitionDto builderDto) {
+  protected BuilderMethodDto createStaticCreateMethod(
+      BuilderDefinitionDto builderDto, ProcessingContext context) {
     TypeName returnType =
         MethodGeneratorUtil.createGenericTypeName(
             builderDto.getBuilderTypeName(), builderDto.getGenerics());
     BuilderMethodDto method = new BuilderMethodDto("create", returnType);
+    method.setEntryPoint(true);
     method.setOrdering(ORDERING_CREATE);
     method.setPriority(BuilderMethodDto.PRIORITY_HIGHEST);
     method.setModifier(AccessModifier.PUBLIC);
@@ -240,6 +237,23 @@ public class CoreMethodsEnhancer implements BuilderEnhancer {
     }
     method.addArgument("builderType", builderDto.getBuilderTypeName());
 
+    MethodGeneratorUtil.setJavadoc(method, context, () -> createCreateJavadoc(builderDto));
+
+    return method;
+  }
+
+  private JavadocDto createBuildJavadoc(BuilderDefinitionDto builderDto) {
+    JavadocDto javadoc = new JavadocDto("Builds the configured DTO instance.");
+
+    // Add example to build() method
+    JavadocCodeBlockDto exampleBlock = new JavadocCodeBlockDto();
+    String targetSimpleName = builderDto.getBuildingTargetTypeName().getClassName();
+    exampleBlock.setCodeFormat("%s result = builder.build();".formatted(targetSimpleName));
+    javadoc.setExampleUsageCodeBlock(exampleBlock);
+    return javadoc;
+  }
+
+  private JavadocDto createCreateJavadoc(BuilderDefinitionDto builderDto) {
     String targetFullName = builderDto.getBuildingTargetTypeName().getFullQualifiedName();
     String builderSimpleName = builderDto.getBuilderTypeName().getClassName();
 
@@ -252,15 +266,14 @@ public class CoreMethodsEnhancer implements BuilderEnhancer {
     exampleBlock.setCodeFormat(
         "%s builder = %s.create();".formatted(builderSimpleName, builderSimpleName));
     javadoc.setExampleUsageCodeBlock(exampleBlock);
-
-    method.setJavadoc(javadoc);
-
-    return method;
+    return javadoc;
   }
 
   /** Creates the toString() method. */
-  protected BuilderMethodDto createToStringMethod(BuilderDefinitionDto builderDto) {
+  protected BuilderMethodDto createToStringMethod(
+      BuilderDefinitionDto builderDto, ProcessingContext context) {
     BuilderMethodDto method = new BuilderMethodDto("toString", TypeName.of(String.class));
+    method.setReadingFieldState(true);
     method.setOrdering(ORDERING_TO_STRING);
     method.setPriority(BuilderMethodDto.PRIORITY_HIGHEST);
     method.setModifier(AccessModifier.PUBLIC);
@@ -285,10 +298,13 @@ public class CoreMethodsEnhancer implements BuilderEnhancer {
     method.getMethodCodeDto().addCodeBlockImport(toStringBuilderType);
     method.getMethodCodeDto().addCodeBlockImport(toStringStyleType);
 
-    method.setJavadoc(
-        new JavadocDto(
-                "Returns a string representation of this builder, including only fields that have been set.")
-            .addReturn("string representation of the builder"));
+    MethodGeneratorUtil.setJavadoc(
+        method,
+        context,
+        () ->
+            new JavadocDto(
+                    "Returns a string representation of this builder, including only fields that have been set.")
+                .addReturn("string representation of the builder"));
 
     return method;
   }
@@ -0,0 +1,330 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.javahelpers.simple.builders.processor.generators.builder;
+
+import static org.javahelpers.simple.builders.processor.generators.util.MethodGeneratorUtil.TRACKED_VALUE_TYPE;
+
+import java.util.List;
+import org.javahelpers.simple.builders.core.enums.AccessModifier;
+import org.javahelpers.simple.builders.processor.analysis.JavaLangMapper;
+import org.javahelpers.simple.builders.processor.generators.BuilderEnhancer;
+import org.javahelpers.simple.builders.processor.generators.util.MethodGeneratorUtil;
+import org.javahelpers.simple.builders.processor.model.annotation.AnnotationDto;
+import org.javahelpers.simple.builders.processor.model.annotation.InterfaceName;
+import org.javahelpers.simple.builders.processor.model.core.BuilderDefinitionDto;
+import org.javahelpers.simple.builders.processor.model.core.ClassFieldDto;
+import org.javahelpers.simple.builders.processor.model.core.FieldDto;
+import org.javahelpers.simple.builders.processor.model.javadoc.JavadocDto;
+import org.javahelpers.simple.builders.processor.model.method.BuilderMethodDto;
+import org.javahelpers.simple.builders.processor.model.method.MethodParameterDto;
+import org.javahelpers.simple.builders.processor.model.type.TypeName;
+import org.javahelpers.simple.builders.processor.model.type.TypeNameArray;
+import org.javahelpers.simple.builders.processor.model.type.TypeNameGeneric;
+import org.javahelpers.simple.builders.processor.model.type.TypeNamePrimitive;
+import org.javahelpers.simple.builders.processor.model.type.TypeNameVariable;
+import org.javahelpers.simple.builders.processor.processing.ProcessingContext;
+
+/**
+ * Enhancer that adds reflection-free access to the fields of the builder by ordinal.
+ *
+ * <p>This enhancer makes the builder implement {@code IIndexedBuilder<T>}. It generates a static
+ * table of {@code FieldDescriptor}s with name, ordinal, declared type and nullability of each
+ * field, and the methods {@code get(int ordinal)} and {@code set(int ordinal, Object value)}
+ * dispatching to the fields with a {@code switch}.
+ *
+ * <p><b>Important behavior:</b> {@code set(int, Object)} casts the value to the type of the field
+ * and marks the field as changed, like the basic setter. It throws an {@link
+ * IllegalArgumentException} naming the field when {@code null} is passed for a field of primitive
+ * type. {@code get(int)} returns {@code null} for unset fields. Both throw an {@link
+ * IndexOutOfBoundsException} for unknown ordinals.
+ *
+ * <p><b>Requirements:</b> Only applies if the builder has at least one field.
+ *
+ * <p>This enhancer is disabled by default and can be activated by setting the configuration flag
+ * {@code generateFieldAccess} to {@code ENABLED}. See the configuration documentation for details.
+ *
+ * <h3>Example to demonstrate the generated methods</h3>
+ *
+ * <pre>{@code
+ * // Usage of generated Builder in generic code:
+ * static <T> T populate(IIndexedBuilder<T> builder, Map<String, Object> values) {
+ *   for (FieldDescriptor field : builder.fieldDescriptors()) {
+ *     builder.set(field.ordinal(), values.get(field.name()));
+ *   }
+ *   return builder.build();
+ * }
+ * }</pre>
+ */
+public class FieldAccessEnhancer implements BuilderEnhancer {
+
+  private static final int PRIORITY = 87;
+
+  private static final String CORE_INTERFACES_PACKAGE =
+      "org.javahelpers.simple.builders.core.interfaces";
+
+  private static final TypeName FIELD_DESCRIPTOR_TYPE =
+      new TypeName("org.javahelpers.simple.builders.core.util", "FieldDescriptor");
+
+  private static final String DESCRIPTORS_FIELD_NAME = "FIELD_DESCRIPTORS";
+
+  // Ordering constants for method generation order
+  private static final int ORDERING_FIELD_DESCRIPTORS = 1120; // After conditional, before build
+  private static final int ORDERING_GET = 1130;
+  private static final int ORDERING_SET = 1140;
+
+  @Override
+  public int getPriority() {
+    return PRIORITY;
+  }
+
+  @Override
+  public boolean appliesTo(
+      BuilderDefinitionDto builderDto, TypeName dtoType, ProcessingContext context) {
+    return context.getConfiguration().shouldGenerateFieldAccess()
+        && !builderDto.getAllFieldsForBuilder().isEmpty();
+  }
+
+  @Override
+  public void enhanceBuilder(BuilderDefinitionDto builderDto, ProcessingContext context) {
+    InterfaceName indexedBuilderInterface =
+        new InterfaceName(CORE_INTERFACES_PACKAGE, "IIndexedBuilder");
+    indexedBuilderInterface.addTypeParameter(
+        MethodGeneratorUtil.createGenericTypeName(
+            builderDto.getBuildingTargetTypeName(), builderDto.getGenerics()));
+    builderDto.addInterface(indexedBuilderInterface);
+
+    List<FieldDto> fields = builderDto.getAllFieldsForBuilder();
+    builderDto.addClassField(createDescriptorsField(fields));
+    builderDto.addMethod(createFieldDescriptorsMethod(context));
+    builderDto.addMethod(createGetMethod(fields, context));
+    builderDto.addMethod(createSetMethod(builderDto, fields, context));
+  }
+
+  /** Creates the static, unmodifiable table of field descriptors. */
+  private ClassFieldDto createDescriptorsField(List<FieldDto> fields) {
+    ClassFieldDto descriptorsField = new ClassFieldDto();
+    descriptorsField.setFieldName(DESCRIPTORS_FIELD_NAME);
+    descriptorsField.setFieldType(
+        new TypeNameGeneric(TypeName.of(List.class), FIELD_DESCRIPTOR_TYPE));
+    descriptorsField.setVisibility(AccessModifier.PRIVATE);
+    descriptorsField.setStatic(true);
+    descriptorsField.setFinal(true);
+    descriptorsField.addImport(List.class);
+    descriptorsField.addImport(FIELD_DESCRIPTOR_TYPE);
+
+    StringBuilder initializer = new StringBuilder("List.of(");
+    for (int ordinal = 0; ordinal < fields.size(); ordinal++) {
+      FieldDto field = fields.get(ordinal);
+      TypeName fieldType = field.getFieldType();
+      initializer
+          .append(ordinal == 0 ? "\n" : ",\n")
+          .append("new FieldDescriptor(")
+          .append(ordinal)
+          .append(", \"")
+          .append(field.getFieldNameInBuilder())
+          .append("\", \"")
+          .append(fieldType.getFullQualifiedName())
+          .append("\", ")
+          .append(createRawTypeLiteral(fieldType, descriptorsField))
+          .append(", ")
+          .append(field.isNonNullable())
+          .append(")");
+    }
+    initializer.append(")");
+    descriptorsField.setLiteralInitializer(initializer.toString());
+    descriptorsField.setJavadoc(
+        new JavadocDto("Descriptors of all fields of this builder, indexed by their ordinal."));
+    return descriptorsField;
+  }
+
+  /**
+   * Creates the class literal of the raw type of a field, adding the needed import to the
+   * descriptors field.
+   */
+  private String createRawTypeLiteral(TypeName fieldType, ClassFieldDto descriptorsField) {
+    if (fieldType instanceof TypeNamePrimitive primitive) {
+      return primitive.getFullQualifiedName() + ".class";
+    }
+    if (fieldType instanceof TypeNameArray arrayType) {
+      String componentLiteral = createRawTypeLiteral(arrayType.getTypeOfArray(), descriptorsField);
+      return componentLiteral.substring(0, componentLiteral.length() - ".class".length())
+          + "[].class";
+    }
+    if (fieldType instanceof TypeNameVariable) {
+      return "Object.class";
+    }
+    TypeName rawType =
+        fieldType instanceof TypeNameGeneric genericType ? genericType.getRawType() : fieldType;
+    descriptorsField.addImport(new TypeName(rawType.getPackageName(), rawType.getClassName()));
+    return rawType.getClassName() + ".class";
+  }
+
+  /** Creates the {@code fieldDescriptors()} method returning the static descriptor table. */
+  private BuilderMethodDto createFieldDescriptorsMethod(ProcessingContext context) {
+    BuilderMethodDto method =
+        new BuilderMethodDto(
+            "fieldDescriptors",
+            new TypeNameGeneric(TypeName.of(List.class), FIELD_DESCRIPTOR_TYPE));
+    method.setOrdering(ORDERING_FIELD_DESCRIPTORS);
+    method.setPriority(BuilderMethodDto.PRIORITY_HIGHEST);
+    method.setModifier(AccessModifier.PUBLIC);
+    method.addAnnotation(createOverrideAnnotation());
+    method.setCode("return " + DESCRIPTORS_FIELD_NAME + ";");
+    MethodGeneratorUtil.setJavadoc(
+        method,
+        context,
+        () ->
+            new JavadocDto(
+                    "Returns the descriptors of all fields of this builder, ordered by ordinal.")
+                .addReturn("unmodifiable list of field descriptors"));
+    return method;
+  }
+
+  /**
+   * Creates the {@code get(int ordinal)} method. Like {@code set}, it uses a classic switch
+   * statement, as Roaster rewrites arrow cases.
+   */
+  private BuilderMethodDto createGetMethod(List<FieldDto> fields, ProcessingContext context) {
+    BuilderMethodDto method = new BuilderMethodDto("get", TypeName.of(Object.class));
+    method.setReadingFieldState(true);
+    method.setOrdering(ORDERING_GET);
+    method.setPriority(BuilderMethodDto.PRIORITY_HIGHEST);
+    method.setModifier(AccessModifier.PUBLIC);
+    method.addAnnotation(createOverrideAnnotation());
+    method.addParameter(createOrdinalParameter());
+
+    StringBuilder code = new StringBuilder("switch (ordinal) {\n");
+    for (int ordinal = 0; ordinal < fields.size(); ordinal++) {
+      code.append("  case ")
+          .append(ordinal)
+          .append(":\n")
+          .append("    return this.")
+          .append(fields.get(ordinal).getFieldNameInBuilder())
+          .append(".value();\n");
+    }
+    code.append("  default:\n");
+    code.append(
+        "    throw new IndexOutOfBoundsException(\"Invalid field ordinal: \" + ordinal);\n");
+    code.append("}");
+
+    method.setCode(code.toString());
+    MethodGeneratorUtil.setJavadoc(
+        method,
+        context,
+        () ->
+            new JavadocDto(
+                    "Returns the current value of a field, <code>null</code> if it is not set.")
+                .addParam("ordinal", "ordinal of the field")
+                .addReturn("value of the field")
+                .addThrows("IndexOutOfBoundsException", "if there is no field with that ordinal"));
+    return method;
+  }
+
+  /** Creates the {@code set(int ordinal, Object value)} method. */
+  private BuilderMethodDto createSetMethod(
+      BuilderDefinitionDto builderDto, List<FieldDto> fields, ProcessingContext context) {
+    TypeName builderType =
+        MethodGeneratorUtil.createGenericTypeName(
+            builderDto.getBuilderTypeName(), builderDto.getGenerics());
+    BuilderMethodDto method = new BuilderMethodDto("set", builderType);
+    method.setOrdering(ORDERING_SET);
+    method.setPriority(BuilderMethodDto.PRIORITY_HIGHEST);
+    method.setModifier(AccessModifier.PUBLIC);
+    method.addAnnotation(createOverrideAnnotation());
+    method.addParameter(createOrdinalParameter());
+    MethodParameterDto valueParameter = new MethodParameterDto();
+    valueParameter.setParameterName("value");
+    valueParameter.setParameterTypeName(TypeName.of(Object.class));
+    method.addParameter(valueParameter);
+
+    // Classic switch statement, as the source formatter breaks arrow cases with assignments
+    boolean uncheckedCast = false;
+    StringBuilder code = new StringBuilder("switch (ordinal) {\n");
+    for (int ordinal = 0; ordinal < fields.size(); ordinal++) {
+      FieldDto field = fields.get(ordinal);
+      TypeName castType = MethodGeneratorUtil.boxedType(field.getFieldType());
+      uncheckedCast |= castType instanceof TypeNameGeneric || castType instanceof TypeNameVariable;
+      code.append("  case ").append(ordinal).append(":\n");
+      if (field.getFieldType() instanceof TypeNamePrimitive) {
+        // Null would only fail with a NullPointerException when unboxed in build()
+        code.append("    if (value == null) {\n")
+            .append("      throw new IllegalArgumentException($nullMessage")
+            .append(ordinal)
+            .append(":S);\n")
+            .append("    }\n");
+        method.addArgument(
+            "nullMessage" + ordinal,
+            "Field '" + field.getFieldNameInBuilder() + "' is primitive and cannot be set to null");
+      }
+      code.append("    this.")
+          .append(field.getFieldNameInBuilder())
+          .append(" = $builderFieldWrapper:T.changedValue(($fieldType")
+          .append(ordinal)
+          .append(":T) value);\n")
+          .append("    return this;\n");
+      method.addArgument("fieldType" + ordinal, castType);
+    }
+    code.append("  default:\n");
+    code.append(
+        "    throw new IndexOutOfBoundsException(\"Invalid field ordinal: \" + ordinal);\n");
+    code.append("}");
+
+    method.setCode(code.toString());
+    method.addArgument("builderFieldWrapper", TRACKED_VALUE_TYPE);
+    if (uncheckedCast) {
+      AnnotationDto suppressWarnings = new AnnotationDto();
+      suppressWarnings.setAnnotationType(JavaLangMapper.map2TypeName(SuppressWarnings.class));
+      suppressWarnings.addMember("value", "\"unchecked\"");
+      method.addAnnotation(suppressWarnings);
+    }
+    MethodGeneratorUtil.setJavadoc(
+        method,
+        context,
+        () ->
+            new JavadocDto("Sets the value of a field, marking it as changed.")
+                .addParam("ordinal", "ordinal of the field")
+                .addParam("value", "value to set, must be assignable to the type of the field")
+                .addReturn("current instance of builder")
+                .addThrows("IndexOutOfBoundsException", "if there is no field with that ordinal")
+                .addThrows(
+                    "IllegalArgumentException",
+                    "if the value is null for a field of primitive type")
+                .addThrows(
+                    "ClassCastException", "if the value does not match the type of the field"));
+    return method;
+  }
+
+  private MethodParameterDto createOrdinalParameter() {
+    MethodParameterDto parameter = new MethodParameterDto();
+    parameter.setParameterName("ordinal");
+    parameter.setParameterTypeName(TypeNamePrimitive.INT);
+    return parameter;
+  }
+
+  private AnnotationDto createOverrideAnnotation() {
+    AnnotationDto overrideAnnotation = new AnnotationDto();
+    overrideAnnotation.setAnnotationType(JavaLangMapper.map2TypeName(Override.class));
+    return overrideAnnotation;
+  }
+}
@@ -24,9 +24,11 @@
 package org.javahelpers.simple.builders.processor.generators.builder;
 
 import javax.annotation.processing.Generated;
+import org.javahelpers.simple.builders.core.enums.OutputProfile;
 import org.javahelpers.simple.builders.processor.analysis.JavaLangMapper;
 import org.javahelpers.simple.builders.processor.generators.BuilderEnhancer;
 import org.javahelpers.simple.builders.processor.model.annotation.AnnotationDto;
+import org.javahelpers.simple.builders.processor.model.core.BuilderConfiguration;
 import org.javahelpers.simple.builders.processor.model.core.BuilderDefinitionDto;
 import org.javahelpers.simple.builders.processor.model.type.TypeName;
 import org.javahelpers.simple.builders.processor.processing.ProcessingContext;
@@ -46,8 +48,8 @@ import org.javahelpers.simple.builders.processor.processing.ProcessingContext;
  * standard practice for generated code.
  *
  * <p>This enhancer is enabled by default and can be deactivated by setting the configuration flag
- * {@code usingGeneratedAnnotation} to {@code DISABLED}. See the configuration documentation for
- * details.
+ * {@code usingGeneratedAnnotation} to {@code DISABLED}. It is also skipped for the {@code LEAN}
+ * output profile. See the configuration documentation for details.
  *
  * <h3>Example of generated annotation</h3>
  *
@@ -75,7 +77,9 @@ public class GeneratedAnnotationEnhancer implements BuilderEnhancer {
   @Override
   public boolean appliesTo(
       BuilderDefinitionDto builderDto, TypeName dtoType, ProcessingContext context) {
-    return context.getConfiguration().shouldUseGeneratedAnnotation();
+    BuilderConfiguration configuration = context.getConfiguration();
+    return configuration.shouldUseGeneratedAnnotation()
+        && configuration.getOutputProfile() != OutputProfile.LEAN;
   }
 
   @Override
@@ -0,0 +1,252 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.javahelpers.simple.builders.processor.generators.builder;
+
+import java.util.List;
+import java.util.Objects;
+import org.javahelpers.simple.builders.core.enums.AccessModifier;
+import org.javahelpers.simple.builders.processor.generators.BuilderEnhancer;
+import org.javahelpers.simple.builders.processor.generators.util.MethodGeneratorUtil;
+import org.javahelpers.simple.builders.processor.model.core.BuilderDefinitionDto;
+import org.javahelpers.simple.builders.processor.model.core.ClassFieldDto;
+import org.javahelpers.simple.builders.processor.model.core.FieldDto;
+import org.javahelpers.simple.builders.processor.model.javadoc.JavadocDto;
+import org.javahelpers.simple.builders.processor.model.method.BuilderMethodDto;
+import org.javahelpers.simple.builders.processor.model.method.ConstructorDto;
+import org.javahelpers.simple.builders.processor.model.method.MethodCodeDto;
+import org.javahelpers.simple.builders.processor.model.type.TypeName;
+import org.javahelpers.simple.builders.processor.model.type.TypeNamePrimitive;
+import org.javahelpers.simple.builders.processor.processing.ProcessingContext;
+
+/**
+ * Enhancer that turns the from-instance constructor into a lazy, source-backed copy.
+ *
+ * <p>Instead of calling every getter in the constructor, the builder only keeps a reference to the
+ * source instance. Fields which were not changed on the builder are read from the source once, the
+ * first time the builder needs its state (in {@code build()}, {@code toString()} or in helper
+ * methods that extend the current value of a field, like {@code add2Tags(...)}).
+ *
+ * <p><b>Important behavior:</b> The {@link org.javahelpers.simple.builders.core.util.TrackedValue}
+ * of each field is the per-field marker: a field that was changed on the builder is set and is
+ * never read from the source. Getters of changed fields are not called at all. Validation of
+ * non-null getter values moves from the constructor to the point of resolution.
+ *
+ * <p><b>Requirements:</b> Only applies if at least one field of the builder has a getter in the
+ * DTO.
+ *
+ * <p>This enhancer is disabled by default and can be activated by setting the configuration flag
+ * {@code lazyCopyConstructor} to {@code ENABLED}. See the configuration documentation for details.
+ *
+ * <h3>Example to demonstrate the generated methods</h3>
+ *
+ * <pre>{@code
+ * // Generated:
+ * public BookDtoBuilder(BookDto instance) {
+ *   this.source = Objects.requireNonNull(instance, "instance");
+ * }
+ *
+ * // Usage: only getAuthor() and getPages() are called, in build()
+ * BookDto renamed = new BookDtoBuilder(book).title("New Title").build();
+ * }</pre>
+ */
+public class LazyCopyConstructorEnhancer implements BuilderEnhancer {
+
+  /** Runs after all enhancers adding methods, so that their methods could be adapted. */
+  private static final int PRIORITY = 20;
+
+  private static final String RESOLVE_METHOD_NAME = "resolveSource";
+
+  private static final int ORDERING_RESOLVE = 1150; // After conditional, before build
+
+  @Override
+  public int getPriority() {
+    return PRIORITY;
+  }
+
+  @Override
+  public boolean appliesTo(
+      BuilderDefinitionDto builderDto, TypeName dtoType, ProcessingContext context) {
+    return context.getConfiguration().shouldUseLazyCopyConstructor()
+        && builderDto.getAllFieldsForBuilder().stream()
+            .anyMatch(field -> field.getGetterName().isPresent());
+  }
+
+  @Override
+  public void enhanceBuilder(BuilderDefinitionDto builderDto, ProcessingContext context) {
+    ConstructorDto fromInstanceConstructor = findFromInstanceConstructor(builderDto);
+    if (fromInstanceConstructor == null) {
+      context.debug("No from-instance constructor found, skipping lazy copy constructor");
+      return;
+    }
+    TypeName sourceType = fromInstanceConstructor.getParameters().get(0).getParameterType();
+    String sourceFieldName = createSourceFieldName(builderDto.getAllFieldsForBuilder());
+
+    // Methods reading field state need to resolve the source first
+    int adaptedMethods = 0;
+    for (FieldDto field : builderDto.getAllFieldsForBuilder()) {
+      for (BuilderMethodDto method : field.getMethods()) {
+        adaptedMethods += prependResolveCall(method) ? 1 : 0;
+      }
+    }
+    for (BuilderMethodDto method : builderDto.getMethods()) {
+      adaptedMethods += prependResolveCall(method) ? 1 : 0;
+    }
+
+    builderDto.addClassField(createSourceField(sourceFieldName, sourceType));
+    builderDto.addMethod(createResolveMethod(builderDto, sourceFieldName, sourceType, context));
+    fromInstanceConstructor.setMethodCodeDto(createLazyConstructorCode(sourceFieldName));
+
+    context.debug(
+        "Lazy copy constructor: source stored in field '%s', %d methods resolve the source",
+        sourceFieldName, adaptedMethods);
+  }
+
+  /** Finds the from-instance constructor created by {@link ConstructorEnhancer}. */
+  private ConstructorDto findFromInstanceConstructor(BuilderDefinitionDto builderDto) {
+    return builderDto.getConstructors().stream()
+        .filter(ctor -> ctor.getParameters().size() == 1)
+        .findFirst()
+        .orElse(null);
+  }
+
+  /**
+   * Creates the name of the builder field holding the source, avoiding clashes with the fields of
+   * the builder.
+   */
+  private String createSourceFieldName(List<FieldDto> fields) {
+    String fieldName = "source";
+    while (isBuilderFieldName(fields, fieldName)) {
+      fieldName = "_" + fieldName;
+    }
+    return fieldName;
+  }
+
+  private boolean isBuilderFieldName(List<FieldDto> fields, String name) {
+    return fields.stream().anyMatch(f -> f.getFieldNameInBuilder().equals(name));
+  }
+
+  /**
+   * Prepends the call of the resolve method to methods declaring that they read the state of the
+   * builder fields. Builders of the same type passed as parameter, like in {@code merge(other)},
+   * resolve their source as well.
+   *
+   * @param method the method to adapt
+   * @return {@code true} if the method was adapted
+   */
+  private boolean prependResolveCall(BuilderMethodDto method) {
+    if (method.isStatic() || !method.hasCode()) {
+      return false;
+    }
+    StringBuilder resolveCalls = new StringBuilder();
+    if (method.isReadingFieldState()) {
+      resolveCalls.append(RESOLVE_METHOD_NAME).append("();\n");
+    }
+    for (String parameterName : method.getFieldStateParameters()) {
+      resolveCalls.append(parameterName).append('.').append(RESOLVE_METHOD_NAME).append("();\n");
+    }
+    if (resolveCalls.isEmpty()) {
+      return false;
+    }
+    MethodCodeDto code = method.getMethodCodeDto();
+    code.setCodeFormat(resolveCalls + code.getCodeFormat());
+    return true;
+  }
+
+  private ClassFieldDto createSourceField(String sourceFieldName, TypeName sourceType) {
+    ClassFieldDto sourceField = new ClassFieldDto();
+    sourceField.setFieldName(sourceFieldName);
+    sourceField.setFieldType(sourceType);
+    sourceField.setVisibility(AccessModifier.PRIVATE);
+    sourceField.setJavadoc(
+        new JavadocDto(
+            "Source instance for values not changed on this builder, <code>null</code> once resolved."));
+    sourceField.addImport(sourceType);
+    return sourceField;
+  }
+
+  private MethodCodeDto createLazyConstructorCode(String sourceFieldName) {
+    MethodCodeDto codeDto = new MethodCodeDto();
+    codeDto.append(
+        """
+        this.%s = Objects.requireNonNull(instance, "instance");
+        """,
+        sourceFieldName);
+    codeDto.addCodeBlockImport(Objects.class);
+    return codeDto;
+  }
+
+  /** Creates the private method reading all unchanged fields from the source instance. */
+  private BuilderMethodDto createResolveMethod(
+      BuilderDefinitionDto builderDto,
+      String sourceFieldName,
+      TypeName sourceType,
+      ProcessingContext context) {
+    BuilderMethodDto method = new BuilderMethodDto(RESOLVE_METHOD_NAME, null);
+    method.setModifier(AccessModifier.PRIVATE);
+    method.setOrdering(ORDERING_RESOLVE);
+    method.setPriority(BuilderMethodDto.PRIORITY_HIGHEST);
+
+    StringBuilder code = new StringBuilder();
+    code.append("if (this.").append(sourceFieldName).append(" == null) {\n");
+    code.append("  return;\n");
+    code.append("}\n");
+    code.append("$sourceType:T instance = this.").append(sourceFieldName).append(";\n");
+    code.append("this.").append(sourceFieldName).append(" = null;\n");
+    for (FieldDto field : builderDto.getAllFieldsForBuilder()) {
+      if (field.getGetterName().isEmpty()) {
+        // No getter available - field stays unset
+        continue;
+      }
+      String fieldName = field.getFieldNameInBuilder();
+      String getterName = field.getGetterName().get();
+      code.append("if (!this.").append(fieldName).append(".isSet()) {\n");
+      code.append("  this.")
+          .append(fieldName)
+          .append(" = TrackedValue.initialValue(instance.")
+          .append(getterName)
+          .append("());\n");
+      if (field.isNonNullable() && !(field.getFieldType() instanceof TypeNamePrimitive)) {
+        code.append("  if (this.").append(fieldName).append(".value() == null) {\n");
+        code.append("    throw new $illegalArgumentException:T(\"Field '")
+            .append(fieldName)
+            .append("' is non-null but instance.")
+            .append(getterName)
+            .append("() returned null\");\n");
+        code.append("  }\n");
+      }
+      code.append("}\n");
+    }
+
+    method.setCode(code.toString());
+    method.addArgument("sourceType", sourceType);
+    method.addArgument("illegalArgumentException", TypeName.of(IllegalArgumentException.class));
+    MethodGeneratorUtil.setJavadoc(
+        method,
+        context,
+        () ->
+            new JavadocDto(
+                "Reads all values not changed on this builder from the source instance, calling each getter at most once."));
+    return method;
+  }
+}
@@ -0,0 +1,451 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.javahelpers.simple.builders.processor.generators.builder;
+
+import static org.javahelpers.simple.builders.processor.generators.util.MethodGeneratorUtil.TRACKED_VALUE_TYPE;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import javax.lang.model.element.TypeElement;
+import org.javahelpers.simple.builders.core.enums.AccessModifier;
+import org.javahelpers.simple.builders.processor.analysis.JavaLangMapper;
+import org.javahelpers.simple.builders.processor.exceptions.BuilderException;
+import org.javahelpers.simple.builders.processor.generators.BuilderEnhancer;
+import org.javahelpers.simple.builders.processor.generators.util.MethodGeneratorUtil;
+import org.javahelpers.simple.builders.processor.model.annotation.AnnotationDto;
+import org.javahelpers.simple.builders.processor.model.core.BuilderDefinitionDto;
+import org.javahelpers.simple.builders.processor.model.core.FieldDto;
+import org.javahelpers.simple.builders.processor.model.javadoc.JavadocCodeBlockDto;
+import org.javahelpers.simple.builders.processor.model.javadoc.JavadocDto;
+import org.javahelpers.simple.builders.processor.model.method.BuilderMethodDto;
+import org.javahelpers.simple.builders.processor.model.method.MethodParameterDto;
+import org.javahelpers.simple.builders.processor.model.type.TypeName;
+import org.javahelpers.simple.builders.processor.model.type.TypeNameCollection;
+import org.javahelpers.simple.builders.processor.model.type.TypeNameGeneric;
+import org.javahelpers.simple.builders.processor.model.type.TypeNamePrimitive;
+import org.javahelpers.simple.builders.processor.model.type.TypeNameSet;
+import org.javahelpers.simple.builders.processor.model.type.TypeNameVariable;
+import org.javahelpers.simple.builders.processor.processing.ProcessingContext;
+
+/**
+ * Enhancer that adds conversion methods between DTOs and property maps to the builder.
+ *
+ * <p>This enhancer generates a static {@code fromMap(Map<String, ?>)} method creating a builder
+ * from a property map, and static {@code toMap(dto)} methods creating a property map from a DTO.
+ * The keys of the map are the field names. {@code fromMap} dispatches with a {@code switch} over
+ * the keys and passes the values, cast to the type of the field, to the setters of the builder;
+ * {@code toMap} calls the getters and creates a presized map.
+ *
+ * <p><b>Important behavior:</b> Unknown keys are ignored by {@code fromMap}. Fields without getter
+ * are not contained in the result of {@code toMap}. Nested DTOs whose builders also have map
+ * conversion enabled, as well as lists and sets of them, are converted recursively, keeping the
+ * kind of collection; for these fields {@code fromMap} accepts property maps as well as instances
+ * of the DTO, so the result of {@code toMap} can be passed to {@code fromMap}.
+ *
+ * <p><b>Requirements:</b> Only applies to DTOs without generics, as the static methods could not
+ * declare the type of the DTO.
+ *
+ * <p>This enhancer is disabled by default and can be activated by setting the configuration flag
+ * {@code generateMapConversion} to {@code ENABLED}. See the configuration documentation for
+ * details.
+ *
+ * <h3>Example to demonstrate the generated methods</h3>
+ *
+ * <pre>{@code
+ * // Usage of generated Builder:
+ * BookDto book = BookDtoBuilder.fromMap(Map.of("title", "My Book", "pages", 250)).build();
+ * Map<String, Object> properties = BookDtoBuilder.toMap(book);
+ * // {title=My Book, author=null, pages=250}
+ * }</pre>
+ */
+public class MapConversionEnhancer implements BuilderEnhancer {
+
+  private static final int PRIORITY = 84;
+
+  private static final TypeName MAP_CONVERSION_TYPE =
+      new TypeName("org.javahelpers.simple.builders.core.util", "MapConversion");
+
+  // Ordering constants for method generation order
+  private static final int ORDERING_FROM_MAP = 210; // After create
+  private static final int ORDERING_TO_MAP = 220; // After fromMap
+
+  @Override
+  public int getPriority() {
+    return PRIORITY;
+  }
+
+  @Override
+  public boolean appliesTo(
+      BuilderDefinitionDto builderDto, TypeName dtoType, ProcessingContext context) {
+    return context.getConfiguration().shouldGenerateMapConversion()
+        && builderDto.getGenerics().isEmpty()
+        && !builderDto.getAllFieldsForBuilder().isEmpty();
+  }
+
+  @Override
+  public void enhanceBuilder(BuilderDefinitionDto builderDto, ProcessingContext context) {
+    builderDto.addMethod(createFromMapMethod(builderDto, context));
+    builderDto.addMethod(createToMapMethod(builderDto, context));
+    builderDto.addMethod(createToMapMethodWithSkipNullValues(builderDto, context));
+  }
+
+  /** Creates the static {@code fromMap(Map<String, ?> map)} method. */
+  private BuilderMethodDto createFromMapMethod(
+      BuilderDefinitionDto builderDto, ProcessingContext context) {
+    TypeName builderType = builderDto.getBuilderTypeName();
+    BuilderMethodDto method = new BuilderMethodDto("fromMap", builderType);
+    method.setOrdering(ORDERING_FROM_MAP);
+    method.setPriority(BuilderMethodDto.PRIORITY_HIGHEST);
+    method.setModifier(AccessModifier.PUBLIC);
+    method.setStatic(true);
+    method.setEntryPoint(true);
+
+    MethodParameterDto parameter = new MethodParameterDto();
+    parameter.setParameterName("map");
+    parameter.setParameterTypeName(
+        new TypeNameGeneric(
+            TypeName.of(Map.class), TypeName.of(String.class), new TypeNameVariable("?")));
+    method.addParameter(parameter);
+
+    // Classic switch statement, as Roaster rewrites arrow cases
+    StringBuilder code = new StringBuilder();
+    code.append("$objects:T.requireNonNull(map, \"map\");\n");
+    code.append("$builderType:T builder = new $builderType:T();\n");
+    code.append("for ($map:T.Entry<String, ?> entry : map.entrySet()) {\n");
+    code.append("  switch (entry.getKey()) {\n");
+    boolean uncheckedCast = false;
+    List<FieldDto> fields = builderDto.getAllFieldsForBuilder();
+    for (int index = 0; index < fields.size(); index++) {
+      FieldDto field = fields.get(index);
+      String valueExpression = createFromMapValueExpression(field, index, method, context);
+      uncheckedCast |= valueExpression.startsWith("(") && isUncheckedCast(field.getFieldType());
+      code.append("    case \"").append(field.getFieldNameInBuilder()).append("\":\n");
+      Optional<BuilderMethodDto> setter = findSetter(field, context);
+      if (setter.isPresent()) {
+        code.append("      builder.")
+            .append(setter.get().getMethodName())
+            .append("(")
+            .append(valueExpression)
+            .append(");\n");
+      } else {
+        // No plain setter generated for the field, e.g. deactivated by a component filter
+        context.debug(
+            "No setter for field %s, fromMap assigns the value directly",
+            field.getFieldNameInBuilder());
+        code.append("      builder.")
+            .append(field.getFieldNameInBuilder())
+            .append(" = $builderFieldWrapper:T.changedValue(")
+            .append(valueExpression)
+            .append(");\n");
+        method.addArgument("builderFieldWrapper", TRACKED_VALUE_TYPE);
+      }
+      code.append("      break;\n");
+    }
+    // Unknown keys are ignored
+    code.append("    default:\n");
+    code.append("      break;\n");
+    code.append("  }\n");
+    code.append("}\n");
+    code.append("return builder;");
+
+    method.setCode(code.toString());
+    method.addArgument("objects", TypeName.of(Objects.class));
+    method.addArgument("builderType", builderType);
+    method.addArgument("map", TypeName.of(Map.class));
+    if (uncheckedCast) {
+      method.addAnnotation(createSuppressUncheckedAnnotation());
+    }
+
+    String builderSimpleName = builderType.getClassName();
+    MethodGeneratorUtil.setJavadoc(
+        method,
+        context,
+        () -> {
+          JavadocDto javadoc =
+              new JavadocDto(
+                      "Creates a builder from a property map. Each key is the name of a field, unknown keys are ignored.")
+                  .addParam("map", "property map with the values of the fields")
+                  .addReturn("builder with all fields of the map set")
+                  .addThrows(
+                      "ClassCastException", "if a value does not match the type of its field")
+                  .addThrows("NullPointerException", "if the value of a primitive field is null");
+          JavadocCodeBlockDto exampleBlock = new JavadocCodeBlockDto();
+          exampleBlock.setCodeFormat(
+              "%s builder = %s.fromMap(properties);"
+                  .formatted(builderSimpleName, builderSimpleName));
+          javadoc.setExampleUsageCodeBlock(exampleBlock);
+          return javadoc;
+        });
+    return method;
+  }
+
+  /**
+   * Finds the plain setter of a field, taking the value with the type of the field. {@code fromMap}
+   * calls it, so that all behavior of the setter applies to values of the map as well.
+   */
+  private Optional<BuilderMethodDto> findSetter(FieldDto field, ProcessingContext context) {
+    String setterName =
+        MethodGeneratorUtil.generateBuilderMethodName(field.getOriginalFieldName(), context);
+    return field.getMethods().stream()
+        .filter(method -> !method.isStatic() && setterName.equals(method.getMethodName()))
+        .filter(method -> method.getParameters().size() == 1)
+        .filter(
+            method -> field.getFieldType().equals(method.getParameters().get(0).getParameterType()))
+        .findFirst();
+  }
+
+  /**
+   * Creates the expression converting the value of a map entry to the type of the field, converting
+   * nested property maps recursively if supported.
+   */
+  private String createFromMapValueExpression(
+      FieldDto field, int index, BuilderMethodDto method, ProcessingContext context) {
+    TypeName fieldType = field.getFieldType();
+    Optional<TypeName> nestedBuilder = findNestedBuilder(fieldType, context);
+    if (nestedBuilder.isPresent()) {
+      method.addArgument("nestedType" + index, fieldType);
+      method.addArgument("nestedBuilder" + index, nestedBuilder.get());
+      method.addArgument("mapConversion", MAP_CONVERSION_TYPE);
+      return "$mapConversion:T.fromMapValue(entry.getValue(), $nestedType%d:T.class, nested -> $nestedBuilder%d:T.fromMap(nested).build())"
+          .formatted(index, index);
+    }
+    Optional<TypeName> elementBuilder = findElementBuilder(fieldType, context);
+    if (elementBuilder.isPresent()) {
+      TypeName elementType = ((TypeNameCollection) fieldType).getElementType();
+      method.addArgument("elementType" + index, elementType);
+      method.addArgument("elementBuilder" + index, elementBuilder.get());
+      method.addArgument("mapConversion", MAP_CONVERSION_TYPE);
+      String conversion = fieldType instanceof TypeNameSet ? "fromMapValueSet" : "fromMapValueList";
+      return "$mapConversion:T.%s(entry.getValue(), $elementType%d:T.class, element -> $elementBuilder%d:T.fromMap(element).build())"
+          .formatted(conversion, index, index);
+    }
+    method.addArgument("fieldType" + index, MethodGeneratorUtil.boxedType(fieldType));
+    return "($fieldType%d:T) entry.getValue()".formatted(index);
+  }
+
+  /** Creates the static {@code toMap(dto)} method, including fields with {@code null} values. */
+  private BuilderMethodDto createToMapMethod(
+      BuilderDefinitionDto builderDto, ProcessingContext context) {
+    TypeName dtoType = builderDto.getBuildingTargetTypeName();
+    BuilderMethodDto method = new BuilderMethodDto("toMap", createPropertyMapType());
+    method.setOrdering(ORDERING_TO_MAP);
+    method.setPriority(BuilderMethodDto.PRIORITY_HIGHEST);
+    method.setModifier(AccessModifier.PUBLIC);
+    method.setStatic(true);
+    method.addParameter(createInstanceParameter(dtoType));
+    method.setCode("return toMap(instance, false);");
+    MethodGeneratorUtil.setJavadoc(
+        method,
+        context,
+        () ->
+            new JavadocDto(
+                    "Creates a property map from a DTO, containing the value of each field with a getter.")
+                .addParam("instance", "DTO to convert")
+                .addReturn("new property map, ordered like the fields of the builder"));
+    return method;
+  }
+
+  /** Creates the static {@code toMap(dto, skipNullValues)} method. */
+  private BuilderMethodDto createToMapMethodWithSkipNullValues(
+      BuilderDefinitionDto builderDto, ProcessingContext context) {
+    TypeName dtoType = builderDto.getBuildingTargetTypeName();
+    BuilderMethodDto method = new BuilderMethodDto("toMap", createPropertyMapType());
+    method.setOrdering(ORDERING_TO_MAP);
+    method.setPriority(BuilderMethodDto.PRIORITY_HIGHEST);
+    method.setModifier(AccessModifier.PUBLIC);
+    method.setStatic(true);
+    method.addParameter(createInstanceParameter(dtoType));
+    MethodParameterDto skipParameter = new MethodParameterDto();
+    skipParameter.setParameterName("skipNullValues");
+    skipParameter.setParameterTypeName(TypeNamePrimitive.BOOLEAN);
+    method.addParameter(skipParameter);
+
+    List<FieldDto> fieldsWithGetter =
+        builderDto.getAllFieldsForBuilder().stream()
+            .filter(field -> field.getGetterName().isPresent())
+            .toList();
+
+    // Presized to hold all fields without rehashing (default load factor 0.75)
+    int capacity = (int) Math.ceil(fieldsWithGetter.size() / 0.75);
+    StringBuilder code = new StringBuilder();
+    code.append("$objects:T.requireNonNull(instance, \"instance\");\n");
+    code.append("$map:T<String, Object> map = new $linkedHashMap:T<>(")
+        .append(capacity)
+        .append(");\n");
+    for (int index = 0; index < fieldsWithGetter.size(); index++) {
+      FieldDto field = fieldsWithGetter.get(index);
+      String getterCall = "instance." + field.getGetterName().get() + "()";
+      code.append("map.put(\"")
+          .append(field.getFieldNameInBuilder())
+          .append("\", ")
+          .append(createToMapValueExpression(field, getterCall, index, method, context))
+          .append(");\n");
+    }
+    code.append("if (skipNullValues) {\n");
+    code.append("  map.values().removeIf($objects:T::isNull);\n");
+    code.append("}\n");
+    code.append("return map;");
+
+    method.setCode(code.toString());
+    method.addArgument("objects", TypeName.of(Objects.class));
+    method.addArgument("map", TypeName.of(Map.class));
+    method.addArgument("linkedHashMap", TypeName.of(LinkedHashMap.class));
+
+    String targetSimpleName = dtoType.getClassName();
+    MethodGeneratorUtil.setJavadoc(
+        method,
+        context,
+        () -> {
+          JavadocDto javadoc =
+              new JavadocDto(
+                      "Creates a property map from a DTO, containing the value of each field with a getter.")
+                  .addParam("instance", "DTO to convert")
+                  .addParam(
+                      "skipNullValues", "<code>true</code> to leave out fields with null values")
+                  .addReturn("new property map, ordered like the fields of the builder");
+          JavadocCodeBlockDto exampleBlock = new JavadocCodeBlockDto();
+          exampleBlock.setCodeFormat(
+              "Map<String, Object> properties = %s.toMap(%s, true);"
+                  .formatted(
+                      builderDto.getBuilderTypeName().getClassName(),
+                      Character.toLowerCase(targetSimpleName.charAt(0))
+                          + targetSimpleName.substring(1)));
+          javadoc.setExampleUsageCodeBlock(exampleBlock);
+          return javadoc;
+        });
+    return method;
+  }
+
+  /**
+   * Creates the expression converting the value of a getter for the property map, converting nested
+   * DTOs recursively if supported.
+   */
+  private String createToMapValueExpression(
+      FieldDto field,
+      String getterCall,
+      int index,
+      BuilderMethodDto method,
+      ProcessingContext context) {
+    TypeName fieldType = field.getFieldType();
+    Optional<TypeName> nestedBuilder = findNestedBuilder(fieldType, context);
+    if (nestedBuilder.isPresent()) {
+      method.addArgument("nestedBuilder" + index, nestedBuilder.get());
+      method.addArgument("mapConversion", MAP_CONVERSION_TYPE);
+      return "$mapConversion:T.toMapValue(%s, $nestedBuilder%d:T::toMap)"
+          .formatted(getterCall, index);
+    }
+    Optional<TypeName> elementBuilder = findElementBuilder(fieldType, context);
+    if (elementBuilder.isPresent()) {
+      method.addArgument("elementBuilder" + index, elementBuilder.get());
+      method.addArgument("mapConversion", MAP_CONVERSION_TYPE);
+      String conversion = fieldType instanceof TypeNameSet ? "toMapValueSet" : "toMapValueList";
+      return "$mapConversion:T.%s(%s, $elementBuilder%d:T::toMap)"
+          .formatted(conversion, getterCall, index);
+    }
+    return getterCall;
+  }
+
+  /**
+   * Finds the builder of a nested DTO field, if the builder also has map conversion enabled.
+   *
+   * @param fieldType the type of the field
+   * @param context processing context
+   * @return the builder type of the nested DTO, empty if not converted recursively
+   */
+  private Optional<TypeName> findNestedBuilder(TypeName fieldType, ProcessingContext context) {
+    if (fieldType instanceof TypeNameGeneric) {
+      return Optional.empty();
+    }
+    return fieldType.getBuilderType().filter(builder -> hasMapConversion(fieldType, context));
+  }
+
+  /**
+   * Finds the builder of the elements of a list or set field, if the builder also has map
+   * conversion enabled. Only applies to fields declared with the collection interface, as the
+   * converted collections are created by {@code MapConversion}.
+   *
+   * @param fieldType the type of the field
+   * @param context processing context
+   * @return the builder type of the elements, empty if not converted recursively
+   */
+  private Optional<TypeName> findElementBuilder(TypeName fieldType, ProcessingContext context) {
+    if (!(fieldType instanceof TypeNameCollection collectionType)
+        || collectionType.isConcreteImplementation()
+        || !collectionType.isParameterized()) {
+      return Optional.empty();
+    }
+    TypeName elementType = collectionType.getElementType();
+    if (elementType instanceof TypeNameGeneric) {
+      return Optional.empty();
+    }
+    return collectionType
+        .getElementBuilderType()
+        .filter(builder -> hasMapConversion(elementType, context));
+  }
+
+  /** Checks if the builder of a nested DTO type also generates the map conversion methods. */
+  private boolean hasMapConversion(TypeName dtoType, ProcessingContext context) {
+    TypeElement typeElement = context.getTypeElement(dtoType);
+    if (typeElement == null || !typeElement.getTypeParameters().isEmpty()) {
+      return false;
+    }
+    try {
+      return context
+          .getConfigurationReader()
+          .resolveConfiguration(typeElement)
+          .shouldGenerateMapConversion();
+    } catch (BuilderException e) {
+      context.debug(
+          "Configuration of %s not resolvable, no recursive map conversion: %s",
+          dtoType.getClassName(), e.getMessage());
+      return false;
+    }
+  }
+
+  private boolean isUncheckedCast(TypeName fieldType) {
+    return fieldType instanceof TypeNameGeneric || fieldType instanceof TypeNameVariable;
+  }
+
+  private TypeName createPropertyMapType() {
+    return new TypeNameGeneric(
+        TypeName.of(Map.class), TypeName.of(String.class), TypeName.of(Object.class));
+  }
+
+  private MethodParameterDto createInstanceParameter(TypeName dtoType) {
+    MethodParameterDto parameter = new MethodParameterDto();
+    parameter.setParameterName("instance");
+    parameter.setParameterTypeName(dtoType);
+    return parameter;
+  }
+
+  private AnnotationDto createSuppressUncheckedAnnotation() {
+    AnnotationDto suppressWarnings = new AnnotationDto();
+    suppressWarnings.setAnnotationType(JavaLangMapper.map2TypeName(SuppressWarnings.class));
+    suppressWarnings.addMember("value", "\"unchecked\"");
+    return suppressWarnings;
+  }
+}
@@ -0,0 +1,313 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.javahelpers.simple.builders.processor.generators.builder;
+
+import static org.javahelpers.simple.builders.processor.generators.util.MethodGeneratorUtil.TRACKED_VALUE_TYPE;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.stream.Collector;
+import org.javahelpers.simple.builders.core.enums.AccessModifier;
+import org.javahelpers.simple.builders.processor.generators.BuilderEnhancer;
+import org.javahelpers.simple.builders.processor.generators.util.MethodGeneratorUtil;
+import org.javahelpers.simple.builders.processor.model.core.BuilderDefinitionDto;
+import org.javahelpers.simple.builders.processor.model.core.FieldDto;
+import org.javahelpers.simple.builders.processor.model.javadoc.JavadocCodeBlockDto;
+import org.javahelpers.simple.builders.processor.model.javadoc.JavadocDto;
+import org.javahelpers.simple.builders.processor.model.method.BuilderMethodDto;
+import org.javahelpers.simple.builders.processor.model.method.MethodParameterDto;
+import org.javahelpers.simple.builders.processor.model.type.GenericParameterDto;
+import org.javahelpers.simple.builders.processor.model.type.TypeName;
+import org.javahelpers.simple.builders.processor.model.type.TypeNameGeneric;
+import org.javahelpers.simple.builders.processor.model.type.TypeNameList;
+import org.javahelpers.simple.builders.processor.model.type.TypeNameMap;
+import org.javahelpers.simple.builders.processor.model.type.TypeNameSet;
+import org.javahelpers.simple.builders.processor.model.type.TypeNameVariable;
+import org.javahelpers.simple.builders.processor.processing.ProcessingContext;
+
+/**
+ * Enhancer that adds a {@code merge(other)} method combining two builders, and a static {@code
+ * collector(accumulator)} method creating a {@link Collector} of builders.
+ *
+ * <p>The collector creates one builder per partition of a stream, fills it with the accumulator and
+ * combines the partial builders with {@code merge}. Parallel streams can therefore populate a
+ * builder without locking and without an intermediate collection.
+ *
+ * <p><b>Important behavior:</b> {@code merge} only takes fields which are set on the other builder.
+ * Scalar fields, arrays and other types replace the value of this builder (last set wins). If both
+ * builders have a value, lists are concatenated, sets are unioned and maps are combined with the
+ * entries of the other builder winning; the result is a new collection, the merged builders do not
+ * share it. The other builder is not changed.
+ *
+ * <p><b>Requirements:</b> The collector is only generated for DTOs without generics and builders
+ * with an accessible constructor without parameters.
+ *
+ * <p>This enhancer is disabled by default and can be activated by setting the configuration flag
+ * {@code generateMerge} to {@code ENABLED}. See the configuration documentation for details.
+ *
+ * <h3>Example to demonstrate the generated methods</h3>
+ *
+ * <pre>{@code
+ * // Usage of generated Builder:
+ * BookDto book = chapters.parallelStream()
+ *     .collect(BookDtoBuilder.collector((builder, chapter) -> builder.add2Tags(chapter.tag())))
+ *     .title("My Book")
+ *     .build();
+ * }</pre>
+ */
+public class MergeEnhancer implements BuilderEnhancer {
+
+  private static final int PRIORITY = 83;
+
+  /** Collection types of {@code java.util} which can be copied with their copy constructor. */
+  private static final Set<String> COPYABLE_COLLECTIONS =
+      Set.of(
+          "ArrayList",
+          "LinkedList",
+          "HashSet",
+          "LinkedHashSet",
+          "TreeSet",
+          "HashMap",
+          "LinkedHashMap",
+          "TreeMap");
+
+  // Ordering constants for method generation order
+  private static final int ORDERING_COLLECTOR = 230; // After create and fromMap/toMap
+  private static final int ORDERING_MERGE = 1110; // After conditional, before field descriptors
+
+  @Override
+  public int getPriority() {
+    return PRIORITY;
+  }
+
+  @Override
+  public boolean appliesTo(
+      BuilderDefinitionDto builderDto, TypeName dtoType, ProcessingContext context) {
+    return context.getConfiguration().shouldGenerateMerge()
+        && !builderDto.getAllFieldsForBuilder().isEmpty();
+  }
+
+  @Override
+  public void enhanceBuilder(BuilderDefinitionDto builderDto, ProcessingContext context) {
+    builderDto.addMethod(createMergeMethod(builderDto, context));
+    if (builderDto.getGenerics().isEmpty() && hasAccessibleEmptyConstructor(builderDto)) {
+      builderDto.addMethod(createCollectorMethod(builderDto, context));
+    } else {
+      context.debug("Builder has generics or no accessible empty constructor, skipping collector");
+    }
+  }
+
+  private boolean hasAccessibleEmptyConstructor(BuilderDefinitionDto builderDto) {
+    return builderDto.getConstructors().stream()
+        .anyMatch(
+            ctor ->
+                ctor.getParameters().isEmpty() && ctor.getVisibility() != AccessModifier.PRIVATE);
+  }
+
+  /** Creates the {@code merge(other)} method. */
+  private BuilderMethodDto createMergeMethod(
+      BuilderDefinitionDto builderDto, ProcessingContext context) {
+    TypeName builderType =
+        MethodGeneratorUtil.createGenericTypeName(
+            builderDto.getBuilderTypeName(), builderDto.getGenerics());
+    BuilderMethodDto method = new BuilderMethodDto("merge", builderType);
+    method.setOrdering(ORDERING_MERGE);
+    method.setPriority(BuilderMethodDto.PRIORITY_HIGHEST);
+    method.setModifier(AccessModifier.PUBLIC);
+
+    MethodParameterDto parameter = new MethodParameterDto();
+    parameter.setParameterName("other");
+    parameter.setParameterTypeName(builderType);
+    method.addParameter(parameter);
+    method.addFieldStateParameter(parameter.getParameterName());
+
+    StringBuilder code = new StringBuilder();
+    code.append("$objects:T.requireNonNull(other, \"other\");\n");
+    List<FieldDto> fields = builderDto.getAllFieldsForBuilder();
+    for (int index = 0; index < fields.size(); index++) {
+      FieldDto field = fields.get(index);
+      String name = field.getFieldNameInBuilder();
+      code.append("if (other.").append(name).append(".isSet()) {\n");
+      Optional<TypeName> implementation = findCopyImplementation(field.getFieldType());
+      if (implementation.isEmpty()) {
+        // Last set wins
+        code.append("  this.").append(name).append(" = other.").append(name).append(";\n");
+      } else {
+        String addAll = field.getFieldType() instanceof TypeNameMap ? "putAll" : "addAll";
+        code.append("  if (this.")
+            .append(name)
+            .append(".isSet() && this.")
+            .append(name)
+            .append(".value() != null && other.")
+            .append(name)
+            .append(".value() != null) {\n");
+        code.append(
+                "    $fieldType%d:T merged = new $implementation%d:T<>(this."
+                    .formatted(index, index))
+            .append(name)
+            .append(".value());\n");
+        code.append("    merged.")
+            .append(addAll)
+            .append("(other.")
+            .append(name)
+            .append(".value());\n");
+        code.append("    this.")
+            .append(name)
+            .append(" = $builderFieldWrapper:T.changedValue(merged);\n");
+        code.append("  } else {\n");
+        code.append("    this.").append(name).append(" = other.").append(name).append(";\n");
+        code.append("  }\n");
+        method.addArgument("fieldType" + index, field.getFieldType());
+        method.addArgument("implementation" + index, implementation.get());
+        method.getMethodCodeDto().addCodeBlockImport(implementation.get());
+        method.addArgument("builderFieldWrapper", TRACKED_VALUE_TYPE);
+        method.setReadingFieldState(true);
+      }
+      code.append("}\n");
+    }
+    code.append("return this;");
+
+    method.setCode(code.toString());
+    method.addArgument("objects", TypeName.of(Objects.class));
+
+    MethodGeneratorUtil.setJavadoc(
+        method,
+        context,
+        () -> {
+          JavadocDto javadoc =
+              new JavadocDto(
+                      "Merges the fields set on another builder into this builder. Values of the other builder replace the values of this builder, except for lists, sets and maps set on both builders: these are concatenated, unioned or combined into a new collection. The other builder is not changed.")
+                  .addParam(
+                      "other",
+                      "the builder to merge, e.g. a partial builder filled by another thread")
+                  .addReturn("current instance of builder");
+          JavadocCodeBlockDto exampleBlock = new JavadocCodeBlockDto();
+          exampleBlock.setCodeFormat("builder.merge(partialBuilder);");
+          javadoc.setExampleUsageCodeBlock(exampleBlock);
+          return javadoc;
+        });
+    return method;
+  }
+
+  /** Creates the static {@code collector(accumulator)} method. */
+  private BuilderMethodDto createCollectorMethod(
+      BuilderDefinitionDto builderDto, ProcessingContext context) {
+    TypeName builderType = builderDto.getBuilderTypeName();
+    TypeNameVariable elementType = new TypeNameVariable("T");
+    BuilderMethodDto method =
+        new BuilderMethodDto(
+            "collector",
+            new TypeNameGeneric(
+                TypeName.of(Collector.class), elementType, new TypeNameVariable("?"), builderType));
+    method.setOrdering(ORDERING_COLLECTOR);
+    method.setPriority(BuilderMethodDto.PRIORITY_HIGHEST);
+    method.setModifier(AccessModifier.PUBLIC);
+    method.setStatic(true);
+    GenericParameterDto genericParameter = new GenericParameterDto();
+    genericParameter.setName(elementType.getClassName());
+    method.addGenericParameter(genericParameter);
+
+    MethodParameterDto parameter = new MethodParameterDto();
+    parameter.setParameterName("accumulator");
+    parameter.setParameterTypeName(
+        new TypeNameGeneric(TypeName.of(BiConsumer.class), builderType, elementType));
+    method.addParameter(parameter);
+
+    method.setCode(
+        """
+        $objects:T.requireNonNull(accumulator, "accumulator");
+        return $collector:T.of($builderType:T::new, accumulator, $builderType:T::merge);
+        """);
+    method.addArgument("objects", TypeName.of(Objects.class));
+    method.addArgument("collector", TypeName.of(Collector.class));
+    method.addArgument("builderType", builderType);
+
+    String builderSimpleName = builderType.getClassName();
+    String dtoSimpleName = builderDto.getBuildingTargetTypeName().getClassName();
+    MethodGeneratorUtil.setJavadoc(
+        method,
+        context,
+        () -> {
+          JavadocDto javadoc =
+              new JavadocDto(
+                      "Returns a collector filling a builder with the elements of a stream. Parallel streams fill one builder per thread, which are combined with {@link #merge(%s)} in encounter order.",
+                      builderSimpleName)
+                  .addParam("accumulator", "function applying a stream element to a builder")
+                  .addParam("<T>", "the type of the stream elements")
+                  .addReturn("collector creating a builder");
+          JavadocCodeBlockDto exampleBlock = new JavadocCodeBlockDto();
+          exampleBlock.setCodeFormat(
+              "%s result = elements.parallelStream().collect(%s.collector(accumulator)).build();"
+                  .formatted(dtoSimpleName, builderSimpleName));
+          javadoc.setExampleUsageCodeBlock(exampleBlock);
+          return javadoc;
+        });
+    return method;
+  }
+
+  /**
+   * Finds the collection type used for merged values of a field: the default implementation for the
+   * {@code List}, {@code Set} and {@code Map} interfaces, the type itself for copyable {@code
+   * java.util} collections.
+   *
+   * @return the implementation, empty if the field is merged like a scalar value
+   */
+  private static Optional<TypeName> findCopyImplementation(TypeName fieldType) {
+    boolean parameterized;
+    boolean concrete;
+    TypeName defaultImplementation;
+    if (fieldType instanceof TypeNameList listType) {
+      parameterized = listType.isParameterized();
+      concrete = listType.isConcreteImplementation();
+      defaultImplementation = TypeName.of(ArrayList.class);
+    } else if (fieldType instanceof TypeNameSet setType) {
+      parameterized = setType.isParameterized();
+      concrete = setType.isConcreteImplementation();
+      defaultImplementation = TypeName.of(HashSet.class);
+    } else if (fieldType instanceof TypeNameMap mapType) {
+      parameterized = mapType.isParameterized();
+      concrete = mapType.isConcreteImplementation();
+      defaultImplementation = TypeName.of(HashMap.class);
+    } else {
+      return Optional.empty();
+    }
+    if (!parameterized) {
+      return Optional.empty();
+    }
+    if (!concrete) {
+      return Optional.of(defaultImplementation);
+    }
+    if ("java.util".equals(fieldType.getPackageName())
+        && COPYABLE_COLLECTIONS.contains(fieldType.getClassName())) {
+      return Optional.of(new TypeName(fieldType.getPackageName(), fieldType.getClassName()));
+    }
+    return Optional.empty();
+  }
+}
@@ -0,0 +1,272 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.javahelpers.simple.builders.processor.generators.builder;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import org.javahelpers.simple.builders.core.enums.AccessModifier;
+import org.javahelpers.simple.builders.processor.generators.BuilderEnhancer;
+import org.javahelpers.simple.builders.processor.generators.util.MethodGeneratorUtil;
+import org.javahelpers.simple.builders.processor.model.core.BuilderDefinitionDto;
+import org.javahelpers.simple.builders.processor.model.core.FieldDto;
+import org.javahelpers.simple.builders.processor.model.javadoc.JavadocCodeBlockDto;
+import org.javahelpers.simple.builders.processor.model.javadoc.JavadocDto;
+import org.javahelpers.simple.builders.processor.model.method.BuilderMethodDto;
+import org.javahelpers.simple.builders.processor.model.method.MethodParameterDto;
+import org.javahelpers.simple.builders.processor.model.type.BuilderNestedTypeDto;
+import org.javahelpers.simple.builders.processor.model.type.NestedTypeDto;
+import org.javahelpers.simple.builders.processor.model.type.TypeName;
+import org.javahelpers.simple.builders.processor.model.type.TypeNameGeneric;
+import org.javahelpers.simple.builders.processor.processing.ProcessingContext;
+
+/**
+ * Enhancer that adds methods for partial updates of existing DTO instances.
+ *
+ * <p>This enhancer generates a nested {@code Field} enum with one constant per builder field, a
+ * {@code changedFields()} method returning the fields explicitly changed on the builder, and an
+ * {@code applyTo(target)} method calling only the setters of changed fields on an existing
+ * instance. This allows PATCH semantics or minimal SQL UPDATE statements without diffing whole
+ * objects.
+ *
+ * <p><b>Important behavior:</b> Only values changed via the builder API count as changed. Values
+ * copied from an instance by the from-instance constructor are not reported and not applied. As
+ * fields of the constructor cannot be changed on an existing instance, {@code applyTo(target)}
+ * throws an {@link IllegalStateException} if one of them was changed.
+ *
+ * <p><b>Requirements:</b> Only applies if the DTO has at least one field with a setter.
+ *
+ * <p>This enhancer is disabled by default and can be activated by setting the configuration flag
+ * {@code generatePartialUpdate} to {@code ENABLED}. See the configuration documentation for
+ * details.
+ *
+ * <h3>Example to demonstrate the generated methods</h3>
+ *
+ * <pre>{@code
+ * // Usage of generated Builder:
+ * BookDtoBuilder patch = BookDtoBuilder.create().title("New Title");
+ * EnumSet<BookDtoBuilder.Field> changed = patch.changedFields(); // [TITLE]
+ * patch.applyTo(existingBook); // only calls existingBook.setTitle("New Title")
+ * }</pre>
+ */
+public class PartialUpdateEnhancer implements BuilderEnhancer {
+
+  private static final int PRIORITY = 85;
+
+  private static final String FIELD_ENUM_NAME = "Field";
+
+  private static final String FIELD_ENUM_FALLBACK_NAME = "BuilderField";
+
+  // Ordering constants for method generation order
+  private static final int ORDERING_CHANGED_FIELDS = 1160; // After conditional, before build
+  private static final int ORDERING_APPLY_TO = 1170; // After changedFields, before build
+
+  @Override
+  public int getPriority() {
+    return PRIORITY;
+  }
+
+  @Override
+  public boolean appliesTo(
+      BuilderDefinitionDto builderDto, TypeName dtoType, ProcessingContext context) {
+    return context.getConfiguration().shouldGeneratePartialUpdate()
+        && !builderDto.getSetterFieldsForBuilder().isEmpty();
+  }
+
+  @Override
+  public void enhanceBuilder(BuilderDefinitionDto builderDto, ProcessingContext context) {
+    TypeName fieldEnumType =
+        new TypeName(
+            builderDto.getBuilderTypeName().getPackageName(), createFieldEnumName(builderDto));
+
+    builderDto.addNestedType(createFieldEnum(builderDto, fieldEnumType));
+    builderDto.addMethod(createChangedFieldsMethod(builderDto, fieldEnumType, context));
+    builderDto.addMethod(createApplyToMethod(builderDto, context));
+  }
+
+  /**
+   * Creates the name of the nested field enum, avoiding clashes with the DTO type and the types of
+   * the fields, which would be shadowed by the enum inside the builder.
+   */
+  private String createFieldEnumName(BuilderDefinitionDto builderDto) {
+    boolean clashes =
+        FIELD_ENUM_NAME.equals(builderDto.getBuildingTargetTypeName().getClassName())
+            || builderDto.getAllFieldsForBuilder().stream()
+                .anyMatch(field -> usesSimpleName(field.getFieldType(), FIELD_ENUM_NAME));
+    return clashes ? FIELD_ENUM_FALLBACK_NAME : FIELD_ENUM_NAME;
+  }
+
+  private boolean usesSimpleName(TypeName type, String simpleName) {
+    if (type instanceof TypeNameGeneric genericType) {
+      return usesSimpleName(genericType.getRawType(), simpleName)
+          || genericType.getInnerTypeArguments().stream()
+              .anyMatch(inner -> usesSimpleName(inner, simpleName));
+    }
+    return simpleName.equals(type.getClassName());
+  }
+
+  private BuilderNestedTypeDto createFieldEnum(
+      BuilderDefinitionDto builderDto, TypeName fieldEnumType) {
+    BuilderNestedTypeDto fieldEnum = new BuilderNestedTypeDto();
+    fieldEnum.setTypeName(fieldEnumType.getClassName());
+    fieldEnum.setKind(NestedTypeDto.NestedTypeKind.ENUM);
+    fieldEnum.setVisibility(AccessModifier.PUBLIC);
+    fieldEnum.setJavadoc(
+        new JavadocDto(
+            "Fields of {@code %s}, as reported by {@code changedFields()}.",
+            builderDto.getBuildingTargetTypeName().getFullQualifiedName()));
+    for (FieldDto field : builderDto.getAllFieldsForBuilder()) {
+      fieldEnum.addEnumConstant(MethodGeneratorUtil.toConstantName(field.getFieldNameInBuilder()));
+    }
+    return fieldEnum;
+  }
+
+  /** Creates the {@code changedFields()} method. */
+  private BuilderMethodDto createChangedFieldsMethod(
+      BuilderDefinitionDto builderDto, TypeName fieldEnumType, ProcessingContext context) {
+    TypeName enumSetType = new TypeNameGeneric(TypeName.of(EnumSet.class), fieldEnumType);
+    BuilderMethodDto method = new BuilderMethodDto("changedFields", enumSetType);
+    method.setOrdering(ORDERING_CHANGED_FIELDS);
+    method.setPriority(BuilderMethodDto.PRIORITY_HIGHEST);
+    method.setModifier(AccessModifier.PUBLIC);
+
+    String enumName = fieldEnumType.getClassName();
+    StringBuilder code = new StringBuilder();
+    code.append("$enumSet:T<")
+        .append(enumName)
+        .append("> changed = $enumSet:T.noneOf(")
+        .append(enumName)
+        .append(".class);\n");
+    for (FieldDto field : builderDto.getAllFieldsForBuilder()) {
+      code.append("if (this.")
+          .append(field.getFieldNameInBuilder())
+          .append(".isChanged()) {\n")
+          .append("  changed.add(")
+          .append(enumName)
+          .append(".")
+          .append(MethodGeneratorUtil.toConstantName(field.getFieldNameInBuilder()))
+          .append(");\n")
+          .append("}\n");
+    }
+    code.append("return changed;");
+
+    method.setCode(code.toString());
+    method.addArgument("enumSet", TypeName.of(EnumSet.class));
+    MethodGeneratorUtil.setJavadoc(
+        method,
+        context,
+        () ->
+            new JavadocDto(
+                    "Returns the fields explicitly changed on this builder. Values copied from an existing instance are not included.")
+                .addReturn("new set of the changed fields"));
+    return method;
+  }
+
+  /** Creates the {@code applyTo(target)} method. */
+  private BuilderMethodDto createApplyToMethod(
+      BuilderDefinitionDto builderDto, ProcessingContext context) {
+    TypeName targetType =
+        MethodGeneratorUtil.createGenericTypeName(
+            builderDto.getBuildingTargetTypeName(), builderDto.getGenerics());
+    BuilderMethodDto method = new BuilderMethodDto("applyTo", targetType);
+    method.setReadingFieldState(true);
+    method.setOrdering(ORDERING_APPLY_TO);
+    method.setPriority(BuilderMethodDto.PRIORITY_HIGHEST);
+    method.setModifier(AccessModifier.PUBLIC);
+
+    MethodParameterDto parameter = new MethodParameterDto();
+    parameter.setParameterName("target");
+    parameter.setParameterTypeName(targetType);
+    method.addParameter(parameter);
+
+    StringBuilder code = new StringBuilder();
+    code.append("$objects:T.requireNonNull(target, \"target\");\n");
+
+    // Constructor fields cannot be changed on an existing instance
+    for (FieldDto field : builderDto.getConstructorFieldsForBuilder()) {
+      code.append("if (this.")
+          .append(field.getFieldNameInBuilder())
+          .append(".isChanged()) {\n")
+          .append("  throw new IllegalStateException(\"Field '")
+          .append(field.getFieldNameInBuilder())
+          .append(
+              "' can only be set via constructor and cannot be applied to an existing instance\");\n")
+          .append("}\n");
+    }
+
+    // Validation of changed non-null fields before the first setter is called
+    List<FieldDto> setterFields = builderDto.getSetterFieldsForBuilder();
+    for (FieldDto field : setterFields) {
+      if (field.isNonNullable()) {
+        code.append("if (this.")
+            .append(field.getFieldNameInBuilder())
+            .append(".isChanged() && this.")
+            .append(field.getFieldNameInBuilder())
+            .append(".value() == null) {\n")
+            .append("  throw new IllegalStateException(\"Field '")
+            .append(field.getFieldNameInBuilder())
+            .append("' is marked as non-null but null value was provided\");\n")
+            .append("}\n");
+      }
+    }
+
+    for (FieldDto field : setterFields) {
+      code.append("if (this.")
+          .append(field.getFieldNameInBuilder())
+          .append(".isChanged()) {\n")
+          .append("  target.")
+          .append(field.getSetterName())
+          .append("(this.")
+          .append(field.getFieldNameInBuilder())
+          .append(".value());\n")
+          .append("}\n");
+    }
+    code.append("return target;");
+
+    method.setCode(code.toString());
+    method.addArgument("objects", TypeName.of(Objects.class));
+    method.getMethodCodeDto().addCodeBlockImport(IllegalStateException.class);
+
+    String targetSimpleName = builderDto.getBuildingTargetTypeName().getClassName();
+    MethodGeneratorUtil.setJavadoc(
+        method,
+        context,
+        () -> {
+          JavadocDto javadoc =
+              new JavadocDto(
+                      "Applies all fields changed on this builder to an existing instance by calling their setters. Fields not changed are left untouched.")
+                  .addParam("target", "existing instance to update")
+                  .addReturn("the updated target instance")
+                  .addThrows(
+                      "IllegalStateException",
+                      "if a field only settable via constructor was changed or a non-null field was set to null");
+          JavadocCodeBlockDto exampleBlock = new JavadocCodeBlockDto();
+          exampleBlock.setCodeFormat(
+              "%s updated = builder.applyTo(existing);".formatted(targetSimpleName));
+          javadoc.setExampleUsageCodeBlock(exampleBlock);
+          return javadoc;
+        });
+    return method;
+  }
+}
@@ -0,0 +1,314 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.javahelpers.simple.builders.processor.generators.builder;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.javahelpers.simple.builders.core.enums.AccessModifier;
+import org.javahelpers.simple.builders.processor.generators.BuilderEnhancer;
+import org.javahelpers.simple.builders.processor.generators.util.MethodGeneratorUtil;
+import org.javahelpers.simple.builders.processor.model.core.BuilderDefinitionDto;
+import org.javahelpers.simple.builders.processor.model.core.ClassFieldDto;
+import org.javahelpers.simple.builders.processor.model.core.FieldDto;
+import org.javahelpers.simple.builders.processor.model.javadoc.JavadocCodeBlockDto;
+import org.javahelpers.simple.builders.processor.model.javadoc.JavadocDto;
+import org.javahelpers.simple.builders.processor.model.method.BuilderMethodDto;
+import org.javahelpers.simple.builders.processor.model.method.MethodParameterDto;
+import org.javahelpers.simple.builders.processor.model.type.BuilderNestedTypeDto;
+import org.javahelpers.simple.builders.processor.model.type.NestedTypeDto;
+import org.javahelpers.simple.builders.processor.model.type.TypeName;
+import org.javahelpers.simple.builders.processor.model.type.TypeNameGeneric;
+import org.javahelpers.simple.builders.processor.model.type.TypeNamePrimitive;
+import org.javahelpers.simple.builders.processor.processing.ProcessingContext;
+
+/**
+ * Enhancer that adds a fluent {@code when(boolean)} view to generated builders.
+ *
+ * <p>This enhancer generates a nested {@code When} class offering the same field methods as the
+ * builder, and a {@code when(boolean condition)} method returning it. The view forwards each call
+ * to the builder if the condition is true and ignores it otherwise. {@code endWhen()} returns to
+ * the builder.
+ *
+ * <p><b>Important behavior:</b> The builder creates the view on the first call of {@code when} and
+ * reuses it afterwards, so conditional chains allocate neither lambdas nor views. Consequently a
+ * view is only valid until the next {@code when} call on the same builder.
+ *
+ * <p><b>Requirements:</b> Only applies if the builder has at least one field.
+ *
+ * <p>This enhancer is disabled by default and can be activated by setting the configuration flag
+ * {@code generateWhenView} to {@code ENABLED}. See the configuration documentation for details.
+ *
+ * <h3>Example to demonstrate the generated methods</h3>
+ *
+ * <pre>{@code
+ * // Usage of generated Builder:
+ * var result = BookDtoBuilder.create()
+ *     .title("My Book")
+ *     .when(isExtended).subtitle("Extended Edition").pages(500).endWhen()
+ *     .build();
+ * }</pre>
+ */
+public class WhenViewEnhancer implements BuilderEnhancer {
+
+  /** Lower than all enhancers adding field methods, so that the view offers all of them. */
+  private static final int PRIORITY = 79;
+
+  private static final String VIEW_CLASS_NAME = "When";
+
+  private static final String VIEW_CLASS_FALLBACK_NAME = "BuilderWhen";
+
+  // Ordering constants for method generation order
+  private static final int ORDERING_WHEN = 1105; // After conditional, before merge
+
+  @Override
+  public int getPriority() {
+    return PRIORITY;
+  }
+
+  @Override
+  public boolean appliesTo(
+      BuilderDefinitionDto builderDto, TypeName dtoType, ProcessingContext context) {
+    return context.getConfiguration().shouldGenerateWhenView()
+        && !builderDto.getAllFieldsForBuilder().isEmpty();
+  }
+
+  @Override
+  public void enhanceBuilder(BuilderDefinitionDto builderDto, ProcessingContext context) {
+    List<FieldDto> fields = builderDto.getAllFieldsForBuilder();
+    TypeName viewType =
+        new TypeName(
+            builderDto.getBuilderTypeName().getPackageName(), createViewClassName(builderDto));
+    String conditionFieldName = createClassFieldName(fields, "whenCondition");
+    String viewFieldName = createClassFieldName(fields, "whenView");
+
+    builderDto.addClassField(createConditionField(conditionFieldName));
+    builderDto.addClassField(createViewField(viewFieldName, viewType));
+    BuilderNestedTypeDto view = createViewClass(builderDto, viewType, conditionFieldName, context);
+    builderDto.addNestedType(view);
+    builderDto.addMethod(createWhenMethod(viewType, conditionFieldName, viewFieldName, context));
+
+    context.debug("When view: %d forwarding methods", view.getMethods().size() - 1);
+  }
+
+  /**
+   * Creates the name of the nested view class, avoiding clashes with the DTO type and the types of
+   * the fields, which would be shadowed by the class inside the builder.
+   */
+  private String createViewClassName(BuilderDefinitionDto builderDto) {
+    boolean clashes =
+        VIEW_CLASS_NAME.equals(builderDto.getBuildingTargetTypeName().getClassName())
+            || builderDto.getAllFieldsForBuilder().stream()
+                .anyMatch(field -> usesSimpleName(field.getFieldType(), VIEW_CLASS_NAME));
+    return clashes ? VIEW_CLASS_FALLBACK_NAME : VIEW_CLASS_NAME;
+  }
+
+  private boolean usesSimpleName(TypeName type, String simpleName) {
+    if (type instanceof TypeNameGeneric genericType) {
+      return usesSimpleName(genericType.getRawType(), simpleName)
+          || genericType.getInnerTypeArguments().stream()
+              .anyMatch(inner -> usesSimpleName(inner, simpleName));
+    }
+    return simpleName.equals(type.getClassName());
+  }
+
+  private String createClassFieldName(List<FieldDto> fields, String fieldName) {
+    String name = fieldName;
+    while (isBuilderFieldName(fields, name)) {
+      name = "_" + name;
+    }
+    return name;
+  }
+
+  private boolean isBuilderFieldName(List<FieldDto> fields, String name) {
+    return fields.stream().anyMatch(f -> f.getFieldNameInBuilder().equals(name));
+  }
+
+  private ClassFieldDto createConditionField(String conditionFieldName) {
+    ClassFieldDto conditionField = new ClassFieldDto();
+    conditionField.setFieldName(conditionFieldName);
+    conditionField.setFieldType(TypeNamePrimitive.BOOLEAN);
+    conditionField.setVisibility(AccessModifier.PRIVATE);
+    conditionField.setJavadoc(new JavadocDto("Condition of the last when(boolean) call."));
+    return conditionField;
+  }
+
+  private ClassFieldDto createViewField(String viewFieldName, TypeName viewType) {
+    ClassFieldDto viewField = new ClassFieldDto();
+    viewField.setFieldName(viewFieldName);
+    viewField.setFieldType(viewType);
+    viewField.setVisibility(AccessModifier.PRIVATE);
+    viewField.setJavadoc(
+        new JavadocDto("View returned by when(boolean), created on first use and reused."));
+    return viewField;
+  }
+
+  /** Creates the nested view class forwarding every field method of the builder. */
+  private BuilderNestedTypeDto createViewClass(
+      BuilderDefinitionDto builderDto,
+      TypeName viewType,
+      String conditionFieldName,
+      ProcessingContext context) {
+    String builderName = builderDto.getBuilderTypeName().getClassName();
+    BuilderNestedTypeDto view = new BuilderNestedTypeDto();
+    view.setTypeName(viewType.getClassName());
+    view.setKind(NestedTypeDto.NestedTypeKind.CLASS);
+    view.setVisibility(AccessModifier.PUBLIC);
+    view.setJavadoc(
+        new JavadocDto(
+            "View of the builder returned by {@code when(boolean)}, calling the methods of the builder only if the condition is true. The builder reuses one view for all {@code when(boolean)} calls, so the view follows the condition of the last call."));
+
+    for (BuilderMethodDto fieldMethod : collectFieldMethods(builderDto)) {
+      view.addMethod(
+          createForwardingMethod(fieldMethod, viewType, builderName, conditionFieldName, context));
+    }
+    view.addMethod(createEndWhenMethod(builderDto, builderName, context));
+    return view;
+  }
+
+  /** Collects the field methods of the builder, one per signature. */
+  private List<BuilderMethodDto> collectFieldMethods(BuilderDefinitionDto builderDto) {
+    Map<String, BuilderMethodDto> methodsBySignature = new LinkedHashMap<>();
+    for (FieldDto field : builderDto.getAllFieldsForBuilder()) {
+      for (BuilderMethodDto method : field.getMethods()) {
+        if (!method.isStatic()) {
+          methodsBySignature.putIfAbsent(method.getSignatureKey(), method);
+        }
+      }
+    }
+    return List.copyOf(methodsBySignature.values());
+  }
+
+  /** Creates a view method forwarding to the field method of the builder. */
+  private BuilderMethodDto createForwardingMethod(
+      BuilderMethodDto fieldMethod,
+      TypeName viewType,
+      String builderName,
+      String conditionFieldName,
+      ProcessingContext context) {
+    BuilderMethodDto method = new BuilderMethodDto(fieldMethod.getMethodName(), viewType);
+    method.setModifier(AccessModifier.PUBLIC);
+    fieldMethod.getGenericParameters().forEach(method::addGenericParameter);
+    for (MethodParameterDto fieldParameter : fieldMethod.getParameters()) {
+      MethodParameterDto parameter = new MethodParameterDto();
+      parameter.setParameterName(fieldParameter.getParameterName());
+      parameter.setParameterTypeName(fieldParameter.getParameterType());
+      method.addParameter(parameter);
+    }
+    MethodGeneratorUtil.setJavadoc(
+        method,
+        context,
+        () -> {
+          JavadocDto javadoc =
+              new JavadocDto(
+                  "Calls <code>%s</code> on the builder if the condition is true.",
+                  fieldMethod.getMethodName());
+          for (MethodParameterDto parameter : fieldMethod.getParameters()) {
+            javadoc.addParam(parameter.getParameterName(), "value passed to the builder");
+          }
+          return javadoc.addReturn("this view");
+        });
+
+    String arguments =
+        fieldMethod.getParameters().stream()
+            .map(MethodParameterDto::getParameterName)
+            .collect(Collectors.joining(", "));
+    method.setCode(
+        """
+        if ($builder:N.this.$condition:N) {
+          $builder:N.this.$method:N($arguments:N);
+        }
+        return this;
+        """);
+    method.addArgument("builder", builderName);
+    method.addArgument("condition", conditionFieldName);
+    method.addArgument("method", fieldMethod.getMethodName());
+    method.addArgument("arguments", arguments);
+    return method;
+  }
+
+  /** Creates the {@code endWhen()} method returning to the builder. */
+  private BuilderMethodDto createEndWhenMethod(
+      BuilderDefinitionDto builderDto, String builderName, ProcessingContext context) {
+    TypeName builderType =
+        MethodGeneratorUtil.createGenericTypeName(
+            builderDto.getBuilderTypeName(), builderDto.getGenerics());
+    BuilderMethodDto method = new BuilderMethodDto("endWhen", builderType);
+    method.setModifier(AccessModifier.PUBLIC);
+    method.setCode("return $builder:N.this;");
+    method.addArgument("builder", builderName);
+    MethodGeneratorUtil.setJavadoc(
+        method,
+        context,
+        () -> new JavadocDto("Ends the conditional part of the chain.").addReturn("the builder"));
+    return method;
+  }
+
+  /** Creates the {@code when(boolean)} method. */
+  private BuilderMethodDto createWhenMethod(
+      TypeName viewType,
+      String conditionFieldName,
+      String viewFieldName,
+      ProcessingContext context) {
+    BuilderMethodDto method = new BuilderMethodDto("when", viewType);
+    method.setOrdering(ORDERING_WHEN);
+    method.setPriority(BuilderMethodDto.PRIORITY_HIGHEST);
+    method.setModifier(AccessModifier.PUBLIC);
+
+    MethodParameterDto parameter = new MethodParameterDto();
+    parameter.setParameterName("condition");
+    parameter.setParameterTypeName(TypeNamePrimitive.BOOLEAN);
+    method.addParameter(parameter);
+
+    method.setCode(
+        """
+        this.$condition:N = condition;
+        if (this.$view:N == null) {
+          this.$view:N = new $viewName:N();
+        }
+        return this.$view:N;
+        """);
+    method.addArgument("condition", conditionFieldName);
+    method.addArgument("view", viewFieldName);
+    method.addArgument("viewName", viewType.getClassName());
+
+    MethodGeneratorUtil.setJavadoc(
+        method,
+        context,
+        () -> {
+          JavadocDto javadoc =
+              new JavadocDto(
+                      "Starts a conditional part of the chain. The methods of the returned view are applied to this builder only if the condition is true. The view is created once per builder and reused, so the call does not allocate. The returned view is therefore only valid until the next call of when(boolean) on this builder, which replaces its condition: do not keep it in a variable across when() calls.")
+                  .addParam("condition", "whether the following calls are applied")
+                  .addReturn("view forwarding to this builder until endWhen()");
+          JavadocCodeBlockDto exampleBlock = new JavadocCodeBlockDto();
+          exampleBlock.setCodeFormat("builder.when(condition).<setter>(value).endWhen();");
+          javadoc.setExampleUsageCodeBlock(exampleBlock);
+          return javadoc;
+        });
+    return method;
+  }
+}
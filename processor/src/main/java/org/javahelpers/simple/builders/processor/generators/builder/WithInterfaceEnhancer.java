@@ -23,11 +23,14 @@
  */
 package org.javahelpers.simple.builders.processor.generators.builder;
 
+import java.util.List;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.StringUtils;
 import org.javahelpers.simple.builders.core.enums.AccessModifier;
-import org.javahelpers.simple.builders.processor.analysis.JavaLangMapper;
 import org.javahelpers.simple.builders.processor.generators.BuilderEnhancer;
 import org.javahelpers.simple.builders.processor.generators.util.MethodGeneratorUtil;
 import org.javahelpers.simple.builders.processor.model.core.BuilderDefinitionDto;
+import org.javahelpers.simple.builders.processor.model.core.FieldDto;
 import org.javahelpers.simple.builders.processor.model.javadoc.JavadocDto;
 import org.javahelpers.simple.builders.processor.model.method.BuilderMethodDto;
 import org.javahelpers.simple.builders.processor.model.method.MethodParameterDto;
@@ -35,6 +38,7 @@ import org.javahelpers.simple.builders.processor.model.type.BuilderNestedTypeDto
 import org.javahelpers.simple.builders.processor.model.type.NestedTypeDto;
 import org.javahelpers.simple.builders.processor.model.type.TypeName;
 import org.javahelpers.simple.builders.processor.model.type.TypeNameGeneric;
+import org.javahelpers.simple.builders.processor.model.type.TypeNamePrimitive;
 import org.javahelpers.simple.builders.processor.processing.ProcessingContext;
 
 /**
@@ -49,6 +53,11 @@ import org.javahelpers.simple.builders.processor.processing.ProcessingContext;
  * The {@code with()} method returns a builder initialized from the current instance for further
  * chaining. Both methods preserve immutability by creating new instances.
  *
+ * <p><b>Direct withers:</b> If every field of the builder is a constructor parameter with a
+ * matching getter (the typical immutable record), a {@code withXxx(value)} default method is
+ * additionally generated per field. These call the DTO constructor directly with the current getter
+ * values and the replaced value, so no builder is allocated for a single-field change.
+ *
  * <p><b>Requirements:</b> Applies to all builders when enabled. The DTO class must implement the
  * generated "With" interface.
  *
@@ -82,6 +91,9 @@ import org.javahelpers.simple.builders.processor.processing.ProcessingContext;
  * BookDto furtherModified = original.with()
  *     .title("Another Title")
  *     .build();
+ *
+ * // Or change a single field without a builder:
+ * BookDto renamed = original.withTitle("Renamed");
  * }</pre>
  */
 public class WithInterfaceEnhancer implements BuilderEnhancer {
@@ -101,7 +113,7 @@ public class WithInterfaceEnhancer implements BuilderEnhancer {
 
   @Override
   public void enhanceBuilder(BuilderDefinitionDto builderDto, ProcessingContext context) {
-    BuilderNestedTypeDto withInterface = createWithInterface(builderDto);
+    BuilderNestedTypeDto withInterface = createWithInterface(builderDto, context);
     builderDto.addNestedType(withInterface);
   }
 
@@ -111,7 +123,8 @@ public class WithInterfaceEnhancer implements BuilderEnhancer {
    * @param builderDto the builder definition
    * @return the nested type DTO for the With interface
    */
-  private BuilderNestedTypeDto createWithInterface(BuilderDefinitionDto builderDto) {
+  private BuilderNestedTypeDto createWithInterface(
+      BuilderDefinitionDto builderDto, ProcessingContext context) {
     BuilderNestedTypeDto withInterface = new BuilderNestedTypeDto();
     withInterface.setTypeName("With");
     withInterface.setKind(NestedTypeDto.NestedTypeKind.INTERFACE);
@@ -121,13 +134,23 @@ public class WithInterfaceEnhancer implements BuilderEnhancer {
             "Interface that can be implemented by the DTO to provide fluent modification methods."));
 
     // Create the first method: DtoType with(Consumer<BuilderType> b)
-    BuilderMethodDto withConsumerMethod = createWithConsumerMethod(builderDto);
+    BuilderMethodDto withConsumerMethod = createWithConsumerMethod(builderDto, context);
     withInterface.addMethod(withConsumerMethod);
 
     // Create the second method: BuilderType with()
-    BuilderMethodDto withBuilderMethod = createWithBuilderMethod(builderDto);
+    BuilderMethodDto withBuilderMethod = createWithBuilderMethod(builderDto, context);
     withInterface.addMethod(withBuilderMethod);
 
+    // Create direct withers: DtoType withXxx(FieldType xxx)
+    if (supportsDirectWithers(builderDto)) {
+      List<FieldDto> fields = builderDto.getConstructorFieldsForBuilder();
+      String instanceVariable = createInstanceVariableName(fields);
+      for (FieldDto field : fields) {
+        withInterface.addMethod(
+            createDirectWitherMethod(builderDto, field, instanceVariable, context));
+      }
+    }
+
     return withInterface;
   }
 
@@ -137,7 +160,8 @@ public class WithInterfaceEnhancer implements BuilderEnhancer {
    * @param builderDef the builder definition
    * @return the method definition
    */
-  private BuilderMethodDto createWithConsumerMethod(BuilderDefinitionDto builderDef) {
+  private BuilderMethodDto createWithConsumerMethod(
+      BuilderDefinitionDto builderDef, ProcessingContext context) {
     // Return type is the DTO type
     TypeName dtoType = builderDef.getBuildingTargetTypeName();
     BuilderMethodDto method = new BuilderMethodDto("with", dtoType);
@@ -154,26 +178,22 @@ public class WithInterfaceEnhancer implements BuilderEnhancer {
     // Add implementation with validation to catch wrong implementations
     method.setCode(
         """
-        $builderType:T builder;
-        try {
-          builder = new $builderType:T($dtoType:T.class.cast(this));
-        } catch ($classcastexception:T ex) {
-          throw new $illegalargumentexception:T("The interface '$builderType:T.With' should only be implemented by classes, which could be casted to '$dtoType:T'", ex);
-        }
+        $builderType:T builder = new $builderType:T($builderSupport:T.castWithInstance(this, $dtoType:T.class, "$builderType:T.With"));
         b.accept(builder);
         return builder.build();
         """);
     method.addArgument("builderType", builderDef.getBuilderTypeName());
     method.addArgument("dtoType", builderDef.getBuildingTargetTypeName());
-    method.addArgument("classcastexception", JavaLangMapper.map2TypeName(ClassCastException.class));
-    method.addArgument(
-        "illegalargumentexception", JavaLangMapper.map2TypeName(IllegalArgumentException.class));
+    method.addArgument("builderSupport", MethodGeneratorUtil.BUILDER_SUPPORT_TYPE);
 
-    method.setJavadoc(
-        new JavadocDto(
-                "Initializes a builder from an instance of this class, using methods of this builder to change values and returns the new built object.")
-            .addParam("b", "the consumer to apply modifications")
-            .addReturn("the modified instance"));
+    MethodGeneratorUtil.setJavadoc(
+        method,
+        context,
+        () ->
+            new JavadocDto(
+                    "Initializes a builder from an instance of this class, using methods of this builder to change values and returns the new built object.")
+                .addParam("b", "the consumer to apply modifications")
+                .addReturn("the modified instance"));
 
     return method;
   }
@@ -184,28 +204,138 @@ public class WithInterfaceEnhancer implements BuilderEnhancer {
    * @param builderDef the builder definition
    * @return the method definition
    */
-  private BuilderMethodDto createWithBuilderMethod(BuilderDefinitionDto builderDef) {
+  private BuilderMethodDto createWithBuilderMethod(
+      BuilderDefinitionDto builderDef, ProcessingContext context) {
     // Return type is the Builder type
     BuilderMethodDto method = new BuilderMethodDto("with", builderDef.getBuilderTypeName());
 
     // Add implementation with validation to catch wrong implementations
     method.setCode(
         """
-        try {
-          return new $builderType:T($dtoType:T.class.cast(this));
-        } catch ($classcastexception:T ex) {
-          throw new $illegalargumentexception:T("The interface '$builderType:T.With' should only be implemented by classes, which could be casted to '$dtoType:T'", ex);
-        }
+        return new $builderType:T($builderSupport:T.castWithInstance(this, $dtoType:T.class, "$builderType:T.With"));
         """);
     method.addArgument("builderType", builderDef.getBuilderTypeName());
     method.addArgument("dtoType", builderDef.getBuildingTargetTypeName());
-    method.addArgument("classcastexception", JavaLangMapper.map2TypeName(ClassCastException.class));
-    method.addArgument(
-        "illegalargumentexception", JavaLangMapper.map2TypeName(IllegalArgumentException.class));
+    method.addArgument("builderSupport", MethodGeneratorUtil.BUILDER_SUPPORT_TYPE);
+
+    MethodGeneratorUtil.setJavadoc(
+        method,
+        context,
+        () ->
+            new JavadocDto("Creates a builder initialized from this instance.")
+                .addReturn("a builder initialized with this instance's values"));
+
+    return method;
+  }
+
+  /**
+   * Checks whether direct withers could be generated. This is the case if the DTO is fully
+   * initialized by its constructor (no setter fields), every constructor field has a getter and the
+   * DTO has no generics.
+   *
+   * @param builderDef the builder definition
+   * @return {@code true} if direct withers could be generated
+   */
+  private boolean supportsDirectWithers(BuilderDefinitionDto builderDef) {
+    return builderDef.getGenerics().isEmpty()
+        && builderDef.getSetterFieldsForBuilder().isEmpty()
+        && !builderDef.getConstructorFieldsForBuilder().isEmpty()
+        && builderDef.getConstructorFieldsForBuilder().stream()
+            .allMatch(f -> f.getGetterName().isPresent());
+  }
+
+  /**
+   * Creates the name of the local variable holding the casted instance, avoiding clashes with the
+   * wither parameter names.
+   *
+   * @param fields the constructor fields
+   * @return the name of the local variable
+   */
+  private String createInstanceVariableName(List<FieldDto> fields) {
+    String variableName = "self";
+    while (isParameterName(fields, variableName)) {
+      variableName = "_" + variableName;
+    }
+    return variableName;
+  }
+
+  private boolean isParameterName(List<FieldDto> fields, String name) {
+    return fields.stream().anyMatch(f -> f.getOriginalFieldName().equals(name));
+  }
+
+  /**
+   * Creates the `DtoType withXxx(FieldType xxx)` method definition, calling the DTO constructor
+   * directly.
+   *
+   * @param builderDef the builder definition
+   * @param changedField the field to replace
+   * @param instanceVariable the name of the local variable holding the casted instance
+   * @return the method definition
+   */
+  private BuilderMethodDto createDirectWitherMethod(
+      BuilderDefinitionDto builderDef,
+      FieldDto changedField,
+      String instanceVariable,
+      ProcessingContext context) {
+    TypeName dtoType = builderDef.getBuildingTargetTypeName();
+    String parameterName = changedField.getOriginalFieldName();
+    BuilderMethodDto method =
+        new BuilderMethodDto("with" + StringUtils.capitalize(parameterName), dtoType);
+
+    MethodParameterDto parameter = new MethodParameterDto();
+    parameter.setParameterName(parameterName);
+    parameter.setParameterTypeName(changedField.getFieldType());
+    method.addParameter(parameter);
+
+    String constructorArguments =
+        builderDef.getConstructorFieldsForBuilder().stream()
+            .map(
+                f ->
+                    f == changedField
+                        ? parameterName
+                        : "%s.%s()".formatted(instanceVariable, f.getGetterName().orElseThrow()))
+            .collect(Collectors.joining(", "));
+
+    // Same null check as build() for required fields, primitives can not be null here
+    boolean checkNull =
+        changedField.isRequired() && !(changedField.getFieldType() instanceof TypeNamePrimitive);
+    StringBuilder code = new StringBuilder();
+    if (checkNull) {
+      code.append(
+          """
+          if (%s == null) {
+            throw new IllegalStateException("Field '%s' is marked as non-null but null value was provided");
+          }
+          """
+              .formatted(parameterName, changedField.getFieldNameInBuilder()));
+      method.getMethodCodeDto().addCodeBlockImport(IllegalStateException.class);
+    }
+    code.append(
+        """
+        $dtoType:T %s = $builderSupport:T.castWithInstance(this, $dtoType:T.class, "$builderType:T.With");
+        return new $dtoType:T(%s);
+        """
+            .formatted(instanceVariable, constructorArguments));
+    method.setCode(code.toString());
+    method.addArgument("builderType", builderDef.getBuilderTypeName());
+    method.addArgument("dtoType", dtoType);
+    method.addArgument("builderSupport", MethodGeneratorUtil.BUILDER_SUPPORT_TYPE);
 
-    method.setJavadoc(
-        new JavadocDto("Creates a builder initialized from this instance.")
-            .addReturn("a builder initialized with this instance's values"));
+    MethodGeneratorUtil.setJavadoc(
+        method,
+        context,
+        () -> {
+          JavadocDto javadoc =
+              new JavadocDto(
+                      "Creates a copy of this instance with a new value for <code>%s</code>, calling the constructor directly without initializing a builder.",
+                      parameterName)
+                  .addParam(parameterName, "the new value for <code>%s</code>", parameterName)
+                  .addReturn("the modified instance");
+          if (checkNull) {
+            javadoc.addThrows("IllegalStateException", "if the value is null");
+          }
+          return javadoc;
+        });
 
     return method;
   }
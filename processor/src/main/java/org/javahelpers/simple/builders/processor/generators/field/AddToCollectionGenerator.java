@@ -24,6 +24,7 @@
 
 package org.javahelpers.simple.builders.processor.generators.field;
 
+import static org.javahelpers.simple.builders.processor.generators.util.MethodGeneratorUtil.BUILDER_SUPPORT_TYPE;
 import static org.javahelpers.simple.builders.processor.generators.util.MethodGeneratorUtil.TRACKED_VALUE_TYPE;
 import static org.javahelpers.simple.builders.processor.generators.util.MethodGeneratorUtil.addExampleChainFragment;
 import static org.javahelpers.simple.builders.processor.generators.util.MethodGeneratorUtil.getMethodAccessModifier;
@@ -33,11 +34,13 @@ import java.util.List;
 import org.apache.commons.lang3.StringUtils;
 import org.javahelpers.simple.builders.processor.generators.MethodGenerator;
 import org.javahelpers.simple.builders.processor.generators.util.JavadocConstants;
+import org.javahelpers.simple.builders.processor.generators.util.MethodGeneratorUtil;
 import org.javahelpers.simple.builders.processor.model.core.FieldDto;
 import org.javahelpers.simple.builders.processor.model.javadoc.JavadocDto;
 import org.javahelpers.simple.builders.processor.model.method.BuilderMethodDto;
 import org.javahelpers.simple.builders.processor.model.method.MethodParameterDto;
 import org.javahelpers.simple.builders.processor.model.type.TypeName;
+import org.javahelpers.simple.builders.processor.model.type.TypeNameCollection;
 import org.javahelpers.simple.builders.processor.model.type.TypeNameList;
 import org.javahelpers.simple.builders.processor.model.type.TypeNameSet;
 import org.javahelpers.simple.builders.processor.processing.ProcessingContext;
@@ -52,7 +55,9 @@ import org.javahelpers.simple.builders.processor.processing.ProcessingContext;
  * <p><b>Important behavior:</b> The generated methods preserve immutability by creating a new
  * collection instance. If the field already has a value, the method creates a copy of the existing
  * collection, adds the new element, and assigns the new collection. If the field is not yet set, a
- * new collection is created with the single element.
+ * new collection is created with the single element. For {@code List} and {@code Set} fields the
+ * generated method delegates to {@code BuilderSupport}, only concrete collection types are copied
+ * inline.
  *
  * <p><b>Requirements:</b> Only applies to parameterized collection types ({@code List<T>} or {@code
  * Set<T>}). Raw types like {@code List} or {@code Set} are not supported.
@@ -150,6 +155,46 @@ public class AddToCollectionGenerator implements MethodGenerator {
 
     methodDto.setModifier(getMethodAccessModifier(context));
 
+    if (fieldType instanceof TypeNameCollection collectionType
+        && !collectionType.isConcreteImplementation()) {
+      methodDto.setCode(
+          """
+          this.$fieldName:N = $builderSupport:T.%s(this.$fieldName:N, element);
+          return this;
+          """
+              .formatted(fieldType instanceof TypeNameList ? "addToList" : "addToSet"));
+      methodDto.addArgument("fieldName", fieldNameInBuilder);
+      methodDto.addArgument("builderSupport", BUILDER_SUPPORT_TYPE);
+    } else {
+      setInlineAddCode(methodDto, fieldNameInBuilder, fieldType, elementType);
+    }
+    methodDto.setReadingFieldState(true);
+    methodDto.setPriority(BuilderMethodDto.PRIORITY_MEDIUM);
+
+    MethodGeneratorUtil.setJavadoc(
+        methodDto,
+        context,
+        () ->
+            new JavadocDto("Adds a single element to <code>%s</code>.", originalFieldName)
+                .addParam("element", "the element to add")
+                .addReturn(JavadocConstants.RETURN_BUILDER_INSTANCE));
+
+    // Store the fluent-chain fragment so the class-level enhancer can synthesise both the
+    // method-level example block and the class-level kitchen-sink chain from one source of truth.
+    addExampleChainFragment(methodDto, elementType);
+
+    return methodDto;
+  }
+
+  /**
+   * Sets the code copying a concrete collection type with its own copy constructor, which keeps
+   * implementation specifics like the comparator of a {@code TreeSet}.
+   */
+  private void setInlineAddCode(
+      BuilderMethodDto methodDto,
+      String fieldNameInBuilder,
+      TypeName fieldType,
+      TypeName elementType) {
     String collectionImpl;
     TypeName collectionVarType;
     if (fieldType instanceof TypeNameList listType) {
@@ -182,17 +227,5 @@ public class AddToCollectionGenerator implements MethodGenerator {
     methodDto.addArgument("elementType", elementType);
     methodDto.addArgument("builderFieldWrapper", TRACKED_VALUE_TYPE);
     methodDto.getMethodCodeDto().addCodeBlockImport(collectionImplType);
-    methodDto.setPriority(BuilderMethodDto.PRIORITY_MEDIUM);
-
-    methodDto.setJavadoc(
-        new JavadocDto("Adds a single element to <code>%s</code>.", originalFieldName)
-            .addParam("element", "the element to add")
-            .addReturn(JavadocConstants.RETURN_BUILDER_INSTANCE));
-
-    // Store the fluent-chain fragment so the class-level enhancer can synthesise both the
-    // method-level example block and the class-level kitchen-sink chain from one source of truth.
-    addExampleChainFragment(methodDto, elementType);
-
-    return methodDto;
   }
 }
@@ -31,6 +31,7 @@ import java.util.List;
 import org.javahelpers.simple.builders.core.builders.ArrayListBuilder;
 import org.javahelpers.simple.builders.processor.generators.MethodGenerator;
 import org.javahelpers.simple.builders.processor.generators.util.JavadocConstants;
+import org.javahelpers.simple.builders.processor.generators.util.MethodGeneratorUtil;
 import org.javahelpers.simple.builders.processor.model.core.FieldDto;
 import org.javahelpers.simple.builders.processor.model.javadoc.JavadocDto;
 import org.javahelpers.simple.builders.processor.model.method.BuilderMethodDto;
@@ -140,6 +141,7 @@ public class ArrayBuilderConsumerGenerator implements MethodGenerator {
         this.$fieldName:N = $builderFieldWrapper:T.changedValue(builder.build().toArray(new $elementType:T[0]));
         return this;
         """);
+    methodDto.setReadingFieldState(true);
 
     // Add code block import for java.util.List.of
     methodDto.getMethodCodeDto().addCodeBlockImport(List.class);
@@ -150,11 +152,15 @@ public class ArrayBuilderConsumerGenerator implements MethodGenerator {
     methodDto.addArgument("builderFieldWrapper", TRACKED_VALUE_TYPE);
     methodDto.addArgument("elementType", elementType);
     methodDto.setPriority(BuilderMethodDto.PRIORITY_MEDIUM);
-    methodDto.setJavadoc(
-        new JavadocDto(
-                "Sets the value for <code>%s</code> using the fluent builder consumer.", fieldName)
-            .addParam(parameter.getParameterName(), "consumer for %s", fieldName)
-            .addReturn(JavadocConstants.RETURN_BUILDER_INSTANCE));
+    MethodGeneratorUtil.setJavadoc(
+        methodDto,
+        context,
+        () ->
+            new JavadocDto(
+                    "Sets the value for <code>%s</code> using the fluent builder consumer.",
+                    fieldName)
+                .addParam(parameter.getParameterName(), "consumer for %s", fieldName)
+                .addReturn(JavadocConstants.RETURN_BUILDER_INSTANCE));
     return methodDto;
   }
 }
@@ -30,6 +30,7 @@ import static org.javahelpers.simple.builders.processor.generators.util.MethodGe
 import java.util.List;
 import org.javahelpers.simple.builders.processor.generators.MethodGenerator;
 import org.javahelpers.simple.builders.processor.generators.util.JavadocConstants;
+import org.javahelpers.simple.builders.processor.generators.util.MethodGeneratorUtil;
 import org.javahelpers.simple.builders.processor.model.core.FieldDto;
 import org.javahelpers.simple.builders.processor.model.javadoc.JavadocDto;
 import org.javahelpers.simple.builders.processor.model.method.BuilderMethodDto;
@@ -130,10 +131,13 @@ public class ArrayConversionGenerator implements MethodGenerator {
     methodDto.addArgument("elementType", elementType);
     methodDto.setPriority(BuilderMethodDto.PRIORITY_HIGH);
     String fieldJavadocDesc = field.getJavaDocDescriptionOrFieldName();
-    methodDto.setJavadoc(
-        new JavadocDto("Sets the value for <code>%s</code>.", fieldName)
-            .addParam(parameter.getParameterName(), fieldJavadocDesc)
-            .addReturn(JavadocConstants.RETURN_BUILDER_INSTANCE));
+    MethodGeneratorUtil.setJavadoc(
+        methodDto,
+        context,
+        () ->
+            new JavadocDto("Sets the value for <code>%s</code>.", fieldName)
+                .addParam(parameter.getParameterName(), fieldJavadocDesc)
+                .addReturn(JavadocConstants.RETURN_BUILDER_INSTANCE));
 
     // Add example fragment for array conversion method
     addExampleChainFragment(methodDto, elementType);
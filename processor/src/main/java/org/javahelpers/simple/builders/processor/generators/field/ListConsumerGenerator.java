@@ -36,6 +36,7 @@ import java.util.Optional;
 import org.apache.commons.lang3.StringUtils;
 import org.javahelpers.simple.builders.core.builders.ArrayListBuilder;
 import org.javahelpers.simple.builders.core.builders.ArrayListBuilderWithElementBuilders;
+import org.javahelpers.simple.builders.core.builders.ConcurrentArrayListBuilder;
 import org.javahelpers.simple.builders.processor.generators.MethodGenerator;
 import org.javahelpers.simple.builders.processor.model.core.FieldDto;
 import org.javahelpers.simple.builders.processor.model.method.BuilderMethodDto;
@@ -58,7 +59,9 @@ import org.javahelpers.simple.builders.processor.processing.ProcessingContext;
  *
  * <p><b>Requirements:</b> Only applies to {@code List<T>} fields. Uses {@code ArrayListBuilder<T>}
  * for simple element types, or {@code ArrayListBuilderWithElementBuilders<T, TBuilder>} when the
- * element type has a {@code @SimpleBuilder} annotation.
+ * element type has a {@code @SimpleBuilder} annotation. With {@code
+ * usingConcurrentCollectionBuilders} enabled, {@code ConcurrentArrayListBuilder<T>} replaces {@code
+ * ArrayListBuilder<T>}.
  *
  * <p>This generator is enabled by default and can be deactivated by setting the configuration flag
  * {@code usingArrayListBuilder} to {@code DISABLED}. See the configuration documentation for
@@ -142,7 +145,10 @@ public class ListConsumerGenerator implements MethodGenerator {
 
       return List.of(method);
     } else if (context.getConfiguration().shouldUseArrayListBuilder()) {
-      TypeName arrayListBuilderType = map2TypeName(ArrayListBuilder.class);
+      TypeName arrayListBuilderType =
+          context.getConfiguration().shouldUseConcurrentCollectionBuilders()
+              ? map2TypeName(ConcurrentArrayListBuilder.class)
+              : map2TypeName(ArrayListBuilder.class);
       TypeNameGeneric builderTypeGeneric = new TypeNameGeneric(arrayListBuilderType, elementType);
       BuilderMethodDto method =
           createFieldConsumerWithBuilder(
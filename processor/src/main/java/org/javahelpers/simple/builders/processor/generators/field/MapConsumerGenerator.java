@@ -30,6 +30,7 @@ import static org.javahelpers.simple.builders.processor.generators.util.MethodGe
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import org.javahelpers.simple.builders.core.builders.ConcurrentHashMapBuilder;
 import org.javahelpers.simple.builders.core.builders.HashMapBuilder;
 import org.javahelpers.simple.builders.processor.generators.MethodGenerator;
 import org.javahelpers.simple.builders.processor.model.core.BuilderConfiguration;
@@ -52,7 +53,8 @@ import org.javahelpers.simple.builders.processor.processing.ProcessingContext;
  * a fluent API for constructing maps.
  *
  * <p><b>Requirements:</b> Only applies to {@code Map<K, V>} fields. Uses {@code HashMapBuilder<K,
- * V>} for all map types.
+ * V>} for all map types, or {@code ConcurrentHashMapBuilder<K, V>} with {@code
+ * usingConcurrentCollectionBuilders} enabled.
  *
  * <p>This generator is enabled by default and can be deactivated by setting the configuration flag
  * {@code generateMapConsumerMethods} to {@code false}.
@@ -140,7 +142,9 @@ public class MapConsumerGenerator implements MethodGenerator {
 
     TypeNameGeneric builderTargetTypeName =
         new TypeNameGeneric(
-            map2TypeName(HashMapBuilder.class),
+            context.getConfiguration().shouldUseConcurrentCollectionBuilders()
+                ? map2TypeName(ConcurrentHashMapBuilder.class)
+                : map2TypeName(HashMapBuilder.class),
             fieldTypeGeneric.getKeyType(),
             fieldTypeGeneric.getValueType());
     BuilderMethodDto mapConsumerWithBuilder =
@@ -32,6 +32,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import org.apache.commons.lang3.StringUtils;
+import org.javahelpers.simple.builders.core.builders.ConcurrentHashSetBuilder;
 import org.javahelpers.simple.builders.core.builders.HashSetBuilder;
 import org.javahelpers.simple.builders.core.builders.HashSetBuilderWithElementBuilders;
 import org.javahelpers.simple.builders.processor.generators.MethodGenerator;
@@ -56,7 +57,8 @@ import org.javahelpers.simple.builders.processor.processing.ProcessingContext;
  *
  * <p><b>Requirements:</b> Only applies to {@code Set<T>} fields. Uses {@code HashSetBuilder<T>} for
  * simple element types, or {@code HashSetBuilderWithElementBuilders<T, TBuilder>} when the element
- * type has a {@code @SimpleBuilder} annotation.
+ * type has a {@code @SimpleBuilder} annotation. With {@code usingConcurrentCollectionBuilders}
+ * enabled, {@code ConcurrentHashSetBuilder<T>} replaces {@code HashSetBuilder<T>}.
  *
  * <p>This generator is enabled by default and can be deactivated by setting the configuration flag
  * {@code usingHashSetBuilder} to {@code DISABLED}. See the configuration documentation for details.
@@ -135,7 +137,10 @@ public class SetConsumerGenerator implements MethodGenerator {
       addExampleToSetConsumerWithBuilder(method, elementBuilderType.get());
       return List.of(method);
     } else if (context.getConfiguration().shouldUseHashSetBuilder()) {
-      TypeName hashSetBuilderType = map2TypeName(HashSetBuilder.class);
+      TypeName hashSetBuilderType =
+          context.getConfiguration().shouldUseConcurrentCollectionBuilders()
+              ? map2TypeName(ConcurrentHashSetBuilder.class)
+              : map2TypeName(HashSetBuilder.class);
       TypeNameGeneric builderTypeGeneric = new TypeNameGeneric(hashSetBuilderType, elementType);
       BuilderMethodDto method =
           createFieldConsumerWithBuilder(
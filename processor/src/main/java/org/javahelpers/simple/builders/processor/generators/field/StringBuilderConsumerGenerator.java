@@ -32,6 +32,7 @@ import java.util.List;
 import java.util.Optional;
 import org.javahelpers.simple.builders.processor.generators.MethodGenerator;
 import org.javahelpers.simple.builders.processor.generators.util.JavadocConstants;
+import org.javahelpers.simple.builders.processor.generators.util.MethodGeneratorUtil;
 import org.javahelpers.simple.builders.processor.model.core.FieldDto;
 import org.javahelpers.simple.builders.processor.model.javadoc.JavadocDto;
 import org.javahelpers.simple.builders.processor.model.method.BuilderMethodDto;
@@ -155,12 +156,18 @@ public class StringBuilderConsumerGenerator implements MethodGenerator {
     methodDto.addArgument("builderFieldWrapper", TRACKED_VALUE_TYPE);
     methodDto.setReturnType(builderType);
     methodDto.setPriority(BuilderMethodDto.PRIORITY_LOW);
-    methodDto.setJavadoc(
-        new JavadocDto(
-                "Sets the value for <code>%s</code> by executing the provided consumer.", fieldName)
-            .addParam(
-                parameter.getParameterName(), "consumer providing an instance of %s", fieldJavadoc)
-            .addReturn(JavadocConstants.RETURN_BUILDER_INSTANCE));
+    MethodGeneratorUtil.setJavadoc(
+        methodDto,
+        context,
+        () ->
+            new JavadocDto(
+                    "Sets the value for <code>%s</code> by executing the provided consumer.",
+                    fieldName)
+                .addParam(
+                    parameter.getParameterName(),
+                    "consumer providing an instance of %s",
+                    fieldJavadoc)
+                .addReturn(JavadocConstants.RETURN_BUILDER_INSTANCE));
 
     // Add example fragment for StringBuilder consumer method
     addExampleChainFragmentTemplate(methodDto, "#{methodName}(sb -> sb.append(\"text\"))");
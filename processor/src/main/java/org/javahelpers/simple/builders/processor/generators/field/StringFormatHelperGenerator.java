@@ -35,6 +35,7 @@ import java.util.Optional;
 import org.apache.commons.collections4.CollectionUtils;
 import org.javahelpers.simple.builders.processor.generators.MethodGenerator;
 import org.javahelpers.simple.builders.processor.generators.util.JavadocConstants;
+import org.javahelpers.simple.builders.processor.generators.util.MethodGeneratorUtil;
 import org.javahelpers.simple.builders.processor.model.annotation.AnnotationDto;
 import org.javahelpers.simple.builders.processor.model.core.FieldDto;
 import org.javahelpers.simple.builders.processor.model.javadoc.JavadocDto;
@@ -194,15 +195,18 @@ public class StringFormatHelperGenerator implements MethodGenerator {
     methodDto.addArgument("transform", transform);
     methodDto.addArgument("builderFieldWrapper", TRACKED_VALUE_TYPE);
     methodDto.setPriority(BuilderMethodDto.PRIORITY_HIGH);
-    methodDto.setJavadoc(
-        new JavadocDto(
-                "Sets the String value for <code>%s</code> by using String.format(format, args).\nSee {@link String#format(String, Object...)} for details.",
-                fieldName)
-            .addParam(formatParam.getParameterName(), "A format string")
-            .addParam(
-                argsParam.getParameterName(),
-                "Arguments referenced by the format specifiers in the format string.")
-            .addReturn(JavadocConstants.RETURN_BUILDER_INSTANCE));
+    MethodGeneratorUtil.setJavadoc(
+        methodDto,
+        context,
+        () ->
+            new JavadocDto(
+                    "Sets the String value for <code>%s</code> by using String.format(format, args).\nSee {@link String#format(String, Object...)} for details.",
+                    fieldName)
+                .addParam(formatParam.getParameterName(), "A format string")
+                .addParam(
+                    argsParam.getParameterName(),
+                    "Arguments referenced by the format specifiers in the format string.")
+                .addReturn(JavadocConstants.RETURN_BUILDER_INSTANCE));
 
     // Add example fragment for String format method
     addExampleChainFragmentTemplate(methodDto, "#{methodName}(\"Hello %s\", \"World\")");
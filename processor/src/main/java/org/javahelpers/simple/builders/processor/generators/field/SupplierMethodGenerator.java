@@ -35,6 +35,7 @@ import java.util.List;
 import java.util.function.Supplier;
 import org.javahelpers.simple.builders.processor.generators.MethodGenerator;
 import org.javahelpers.simple.builders.processor.generators.util.JavadocConstants;
+import org.javahelpers.simple.builders.processor.generators.util.MethodGeneratorUtil;
 import org.javahelpers.simple.builders.processor.model.core.FieldDto;
 import org.javahelpers.simple.builders.processor.model.javadoc.JavadocDto;
 import org.javahelpers.simple.builders.processor.model.method.BuilderMethodDto;
@@ -52,7 +53,9 @@ import org.javahelpers.simple.builders.processor.processing.ProcessingContext;
  *
  * <p><b>Important behavior:</b> The supplier is evaluated eagerly when the method is called, not
  * lazily when {@code build()} is invoked. This is useful for deferred initialization, dynamic value
- * generation, or passing method references.
+ * generation, or passing method references. With {@code deferFieldSupplier} enabled, the supplier
+ * is stored as deferred value instead and invoked once when the value is needed, usually in {@code
+ * build()}; a supplier replaced before is never invoked.
  *
  * <p><b>Requirements:</b> Applies to all fields except functional interface types (to avoid
  * ambiguity with the field type itself being a functional interface).
@@ -137,21 +140,36 @@ public class SupplierMethodGenerator implements MethodGenerator {
     BuilderMethodDto methodDto = createBuilderMethod(fieldName, builderType, context);
     methodDto.addParameter(parameter);
 
-    methodDto.setCode(
-        """
-        this.$fieldName:N = $builderFieldWrapper:T.changedValue($dtoMethodParam:N.get());
-        return this;
-        """);
+    boolean deferred = context.getConfiguration().shouldDeferFieldSupplier();
+    if (deferred) {
+      methodDto.setCode(
+          """
+          this.$fieldName:N = $builderFieldWrapper:T.deferredValue($dtoMethodParam:N);
+          return this;
+          """);
+    } else {
+      methodDto.setCode(
+          """
+          this.$fieldName:N = $builderFieldWrapper:T.changedValue($dtoMethodParam:N.get());
+          return this;
+          """);
+    }
     methodDto.addArgument("fieldName", fieldNameInBuilder);
     methodDto.addArgument("dtoMethodParam", parameterName);
     methodDto.addArgument("builderFieldWrapper", TRACKED_VALUE_TYPE);
     methodDto.setPriority(BuilderMethodDto.PRIORITY_HIGH);
 
-    methodDto.setJavadoc(
-        new JavadocDto(
-                "Sets the value for <code>%s</code> by invoking the provided supplier.", fieldName)
-            .addParam(parameterName, "supplier for %s", fieldJavaDoc)
-            .addReturn(JavadocConstants.RETURN_BUILDER_INSTANCE));
+    MethodGeneratorUtil.setJavadoc(
+        methodDto,
+        context,
+        () ->
+            new JavadocDto(
+                    deferred
+                        ? "Sets the value for <code>%s</code> by invoking the provided supplier when the value is needed. A supplier replaced before is never invoked."
+                        : "Sets the value for <code>%s</code> by invoking the provided supplier.",
+                    fieldName)
+                .addParam(parameterName, "supplier for %s", fieldJavaDoc)
+                .addReturn(JavadocConstants.RETURN_BUILDER_INSTANCE));
 
     addExampleChainFragmentWithSupplier(methodDto, fieldType);
 
@@ -0,0 +1,714 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.javahelpers.simple.builders.processor.generators.integration;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import javax.annotation.processing.Generated;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import org.javahelpers.simple.builders.core.enums.AccessModifier;
+import org.javahelpers.simple.builders.processor.analysis.JavaLangMapper;
+import org.javahelpers.simple.builders.processor.exceptions.BuilderException;
+import org.javahelpers.simple.builders.processor.generators.util.MethodGeneratorUtil;
+import org.javahelpers.simple.builders.processor.model.annotation.AnnotationDto;
+import org.javahelpers.simple.builders.processor.model.annotation.InterfaceName;
+import org.javahelpers.simple.builders.processor.model.core.BuilderDefinitionDto;
+import org.javahelpers.simple.builders.processor.model.core.ClassFieldDto;
+import org.javahelpers.simple.builders.processor.model.core.FieldDto;
+import org.javahelpers.simple.builders.processor.model.core.GenerationTargetClassDto;
+import org.javahelpers.simple.builders.processor.model.javadoc.JavadocDto;
+import org.javahelpers.simple.builders.processor.model.method.ConstructorDto;
+import org.javahelpers.simple.builders.processor.model.method.MethodCodeDto;
+import org.javahelpers.simple.builders.processor.model.method.MethodDto;
+import org.javahelpers.simple.builders.processor.model.method.MethodParameterDto;
+import org.javahelpers.simple.builders.processor.model.type.TypeName;
+import org.javahelpers.simple.builders.processor.model.type.TypeNameArray;
+import org.javahelpers.simple.builders.processor.model.type.TypeNameCollection;
+import org.javahelpers.simple.builders.processor.model.type.TypeNameGeneric;
+import org.javahelpers.simple.builders.processor.model.type.TypeNameList;
+import org.javahelpers.simple.builders.processor.model.type.TypeNamePrimitive;
+import org.javahelpers.simple.builders.processor.model.type.TypeNameSet;
+import org.javahelpers.simple.builders.processor.processing.ProcessingContext;
+
+/**
+ * Generates a binary codec class per DTO, encoding DTOs to a {@link ByteBuffer} in the format of
+ * {@code BinaryFormat} and decoding them back via the generated builder.
+ *
+ * <p>Each field gets a stable field number: its position in the declaration order of the DTO,
+ * starting at 1. Only set fields are written, each with a tag combining field number and wire type;
+ * fields with {@code null} values are omitted. Decoding calls the builder setter of each known tag
+ * and skips unknown tags, so fields can be appended to a DTO without breaking data encoded before.
+ * Reordering or removing fields changes the field numbers and is not compatible.
+ *
+ * <p>Supported are primitives and their wrappers, strings, enums, {@code byte[]}, {@code UUID},
+ * {@code BigDecimal}, {@code BigInteger}, the common {@code java.time} types, nested DTOs whose
+ * builders also generate a codec, and lists and sets of those. Codecs are only generated if all
+ * fields are supported and have a getter and an accessible setter; DTOs with generics are not
+ * supported.
+ */
+public class BinaryCodecGenerator {
+
+  /** Suffix of the simple name of the generated codec class. */
+  public static final String CLASS_NAME_SUFFIX = "Codec";
+
+  private static final String CORE_UTIL_PACKAGE = "org.javahelpers.simple.builders.core.util";
+  private static final TypeName BINARY_FORMAT_TYPE =
+      new TypeName(CORE_UTIL_PACKAGE, "BinaryFormat");
+
+  // Wire types of BinaryFormat, used to precompute the tags of the generated switch
+  private static final int WIRE_VARINT = 0;
+  private static final int WIRE_FIXED64 = 1;
+  private static final int WIRE_BYTES = 2;
+  private static final int WIRE_GROUP = 3;
+  private static final int WIRE_COLLECTION = 4;
+  private static final int WIRE_FIXED32 = 5;
+
+  private static final String[] WIRE_TYPE_CONSTANTS = {
+    "WIRE_VARINT", "WIRE_FIXED64", "WIRE_BYTES", "WIRE_GROUP", "WIRE_COLLECTION", "WIRE_FIXED32"
+  };
+
+  /** Types written as ISO-8601 string and read back with their static {@code parse} method. */
+  private static final Set<String> PARSED_TYPES =
+      Set.of(
+          Instant.class.getName(),
+          LocalDateTime.class.getName(),
+          LocalTime.class.getName(),
+          OffsetDateTime.class.getName(),
+          ZonedDateTime.class.getName(),
+          Duration.class.getName());
+
+  // Ordering constants for method generation order
+  private static final int ORDERING_ENCODE = 100;
+  private static final int ORDERING_DECODE = 200;
+
+  private final ProcessingContext context;
+
+  public BinaryCodecGenerator(ProcessingContext context) {
+    this.context = context;
+  }
+
+  /**
+   * Creates the definition of the binary codec for a builder, if enabled in its configuration.
+   *
+   * @param builderDef the builder definition after enhancement
+   * @param sourceElement the annotated DTO element, used for warnings and the declaration order
+   * @return the class definition of the codec, empty if no codec is generated
+   */
+  public Optional<GenerationTargetClassDto> createCodecDefinition(
+      BuilderDefinitionDto builderDef, Element sourceElement) {
+    if (!builderDef.getConfiguration().shouldGenerateBinaryCodec()) {
+      return Optional.empty();
+    }
+    if (!builderDef.getGenerics().isEmpty()) {
+      warnSkipped(sourceElement, "DTOs with generics are not supported");
+      return Optional.empty();
+    }
+    if (!hasAccessibleEmptyConstructor(builderDef)) {
+      warnSkipped(sourceElement, "the builder has no accessible constructor without parameters");
+      return Optional.empty();
+    }
+
+    List<CodecField> fields = new ArrayList<>();
+    for (FieldDto field :
+        sortByDeclarationOrder(builderDef.getAllFieldsForBuilder(), sourceElement)) {
+      int fieldNumber = fields.size() + 1;
+      Optional<String> setterName = MethodGeneratorUtil.findBasicSetterName(field, context);
+      if (field.getGetterName().isEmpty() || setterName.isEmpty()) {
+        warnSkipped(
+            sourceElement,
+            "field '%s' has no getter or no accessible setter"
+                .formatted(field.getOriginalFieldName()));
+        return Optional.empty();
+      }
+      Optional<FieldCodec> codec = createFieldCodec(field.getFieldType(), fieldNumber);
+      if (codec.isEmpty()) {
+        warnSkipped(
+            sourceElement,
+            "the type of field '%s' is not supported".formatted(field.getOriginalFieldName()));
+        return Optional.empty();
+      }
+      fields.add(
+          new CodecField(
+              fieldNumber, field, field.getGetterName().get(), setterName.get(), codec.get()));
+    }
+
+    TypeName dtoType = builderDef.getBuildingTargetTypeName();
+    TypeName builderType = builderDef.getBuilderTypeName();
+    TypeName codecType = createCodecType(builderType.getPackageName(), dtoType);
+
+    GenerationTargetClassDto classDef = new GenerationTargetClassDto();
+    classDef.setTypeName(codecType);
+    classDef.setClassAccessModifier(AccessModifier.PUBLIC);
+    classDef.setClassJavadoc(
+        new JavadocDto(
+            "Binary codec for {@code %s}, decoding via {@link %s}. Field numbers follow the declaration order of the DTO, fields of super classes first: append new fields, do not reorder or remove fields.",
+            dtoType.getFullQualifiedName(), builderType.getClassName()));
+    InterfaceName codecInterface =
+        new InterfaceName("org.javahelpers.simple.builders.core.interfaces", "IBinaryCodec");
+    codecInterface.addTypeParameter(dtoType);
+    classDef.addInterface(codecInterface);
+    if (builderDef.getConfiguration().shouldUseGeneratedAnnotation()) {
+      classDef.addClassAnnotation(createGeneratedAnnotation());
+    }
+
+    classDef.addClassField(createInstanceField(codecType));
+    classDef.addConstructor(createConstructor());
+    classDef.addMethod(createEncodeMethod(dtoType));
+    classDef.addMethod(createDecodeMethod(dtoType));
+    classDef.addMethod(createEncodeFieldsMethod(dtoType, fields));
+    classDef.addMethod(createDecodeFieldsMethod(dtoType, builderType, fields));
+
+    context.debug("Binary codec %s encodes %d fields", codecType.getClassName(), fields.size());
+    return Optional.of(classDef);
+  }
+
+  private void warnSkipped(Element sourceElement, String reason) {
+    context.warning(
+        sourceElement,
+        "simple-builders: generateBinaryCodec is enabled for %s, but %s. Binary codec generation skipped.",
+        sourceElement.getSimpleName(),
+        reason);
+  }
+
+  private boolean hasAccessibleEmptyConstructor(BuilderDefinitionDto builderDef) {
+    return builderDef.getConstructors().stream()
+        .anyMatch(
+            ctor ->
+                ctor.getParameters().isEmpty() && ctor.getVisibility() != AccessModifier.PRIVATE);
+  }
+
+  /**
+   * Sorts the fields by the position of their declaration, so that the field numbers stay stable
+   * when fields are appended. Fields declared in super classes come first, starting with the
+   * topmost class, so appending fields to the DTO does not shift them. Fields not found in any
+   * declaration follow, sorted by name.
+   */
+  private List<FieldDto> sortByDeclarationOrder(List<FieldDto> fields, Element sourceElement) {
+    List<Element> hierarchy = new ArrayList<>();
+    for (Element type = sourceElement; type != null; type = superClassOf(type)) {
+      hierarchy.add(0, type);
+    }
+    Map<String, Integer> positions = new LinkedHashMap<>();
+    for (Element type : hierarchy) {
+      for (Element member : type.getEnclosedElements()) {
+        if (member.getKind() == ElementKind.FIELD
+            || member.getKind() == ElementKind.RECORD_COMPONENT
+            || member.getKind() == ElementKind.METHOD) {
+          positions.putIfAbsent(member.getSimpleName().toString(), positions.size());
+        }
+      }
+    }
+    return fields.stream()
+        .sorted(
+            Comparator.comparingInt(
+                    (FieldDto field) ->
+                        positions.getOrDefault(
+                            field.getOriginalFieldName(),
+                            positions.getOrDefault(field.getSetterName(), Integer.MAX_VALUE)))
+                .thenComparing(FieldDto::getOriginalFieldName))
+        .toList();
+  }
+
+  /** Returns the super class of a type, or null for {@code Object} and types without one. */
+  private static Element superClassOf(Element type) {
+    if (!(type instanceof TypeElement typeElement)
+        || !(typeElement.getSuperclass() instanceof DeclaredType superClass)) {
+      return null;
+    }
+    Element superElement = superClass.asElement();
+    return superElement instanceof TypeElement superType
+            && !superType.getQualifiedName().contentEquals(Object.class.getName())
+        ? superElement
+        : null;
+  }
+
+  /**
+   * Creates the codec of a field type.
+   *
+   * @param fieldType the type of the field
+   * @param fieldNumber the number of the field, used to create unique argument names
+   * @return the codec, empty if the type is not supported
+   */
+  private Optional<FieldCodec> createFieldCodec(TypeName fieldType, int fieldNumber) {
+    if (fieldType instanceof TypeNameList || fieldType instanceof TypeNameSet) {
+      TypeNameCollection collectionType = (TypeNameCollection) fieldType;
+      if (collectionType.isConcreteImplementation() || !collectionType.isParameterized()) {
+        return Optional.empty();
+      }
+      return createValueCodec(
+              collectionType.getElementType(), collectionType.getElementBuilderType(), fieldNumber)
+          .map(
+              elementCodec ->
+                  FieldCodec.collection(fieldType instanceof TypeNameSet, elementCodec));
+    }
+    return createValueCodec(fieldType, fieldType.getBuilderType(), fieldNumber)
+        .map(FieldCodec::single);
+  }
+
+  /**
+   * Creates the codec of a single value. Write templates take the value expression as {@code %s}
+   * parameter, read expressions are complete.
+   *
+   * @param type the type of the value
+   * @param builderType the builder of the type, if it is a DTO with a generated builder
+   * @param fieldNumber the number of the field, used to create unique argument names
+   * @return the codec, empty if the type is not supported
+   */
+  private Optional<ValueCodec> createValueCodec(
+      TypeName type, Optional<TypeName> builderType, int fieldNumber) {
+    if (type instanceof TypeNamePrimitive primitive) {
+      return createPrimitiveCodec(primitive);
+    }
+    if (type instanceof TypeNameArray arrayType) {
+      return TypeNamePrimitive.BYTE.equals(arrayType.getTypeOfArray())
+          ? Optional.of(
+              new ValueCodec(
+                  WIRE_BYTES,
+                  "$binaryFormat:T.writeBytes(buffer, %s);",
+                  "$binaryFormat:T.readBytes(buffer)",
+                  Map.of()))
+          : Optional.empty();
+    }
+    if (type instanceof TypeNameGeneric) {
+      return Optional.empty();
+    }
+    Optional<TypeNamePrimitive> unboxed = unboxedType(type);
+    if (unboxed.isPresent()) {
+      return createPrimitiveCodec(unboxed.get());
+    }
+
+    String fqn = type.getFullQualifiedName();
+    String typeLabel = "type" + fieldNumber;
+    if (String.class.getName().equals(fqn)) {
+      return Optional.of(
+          new ValueCodec(
+              WIRE_BYTES,
+              "$binaryFormat:T.writeString(buffer, %s);",
+              "$binaryFormat:T.readString(buffer)",
+              Map.of()));
+    }
+    if (UUID.class.getName().equals(fqn)) {
+      return Optional.of(
+          new ValueCodec(
+              WIRE_BYTES,
+              "$binaryFormat:T.writeUuid(buffer, %s);",
+              "$binaryFormat:T.readUuid(buffer)",
+              Map.of()));
+    }
+    if (BigDecimal.class.getName().equals(fqn) || BigInteger.class.getName().equals(fqn)) {
+      return Optional.of(
+          new ValueCodec(
+              WIRE_BYTES,
+              "$binaryFormat:T.writeString(buffer, %s.toString());",
+              "new $" + typeLabel + ":T($binaryFormat:T.readString(buffer))",
+              Map.of(typeLabel, type)));
+    }
+    if (LocalDate.class.getName().equals(fqn)) {
+      return Optional.of(
+          new ValueCodec(
+              WIRE_VARINT,
+              "$binaryFormat:T.writeVarLong(buffer, %s.toEpochDay());",
+              "$" + typeLabel + ":T.ofEpochDay($binaryFormat:T.readVarLong(buffer))",
+              Map.of(typeLabel, type)));
+    }
+    if (PARSED_TYPES.contains(fqn)) {
+      return Optional.of(
+          new ValueCodec(
+              WIRE_BYTES,
+              "$binaryFormat:T.writeString(buffer, %s.toString());",
+              "$" + typeLabel + ":T.parse($binaryFormat:T.readString(buffer))",
+              Map.of(typeLabel, type)));
+    }
+
+    TypeElement typeElement = context.getTypeElement(type);
+    if (typeElement == null) {
+      return Optional.empty();
+    }
+    if (typeElement.getKind() == ElementKind.ENUM) {
+      return Optional.of(
+          new ValueCodec(
+              WIRE_BYTES,
+              "$binaryFormat:T.writeString(buffer, %s.name());",
+              "$" + typeLabel + ":T.valueOf($binaryFormat:T.readString(buffer))",
+              Map.of(typeLabel, type)));
+    }
+    if (builderType.isPresent() && hasBinaryCodec(type, typeElement)) {
+      String codecLabel = "codec" + fieldNumber;
+      TypeName nestedCodecType = createCodecType(builderType.get().getPackageName(), type);
+      return Optional.of(
+          new ValueCodec(
+              WIRE_GROUP,
+              "$" + codecLabel + ":T.INSTANCE.encodeFields(%s, buffer);",
+              "$" + codecLabel + ":T.INSTANCE.decodeFields(buffer)",
+              Map.of(codecLabel, nestedCodecType)));
+    }
+    return Optional.empty();
+  }
+
+  private Optional<ValueCodec> createPrimitiveCodec(TypeNamePrimitive primitive) {
+    return switch (primitive.getType()) {
+      case BOOLEAN ->
+          Optional.of(varint("$binaryFormat:T.writeBoolean(buffer, %s);", "readBoolean(buffer)"));
+      case BYTE ->
+          Optional.of(varint("$binaryFormat:T.writeVarInt(buffer, %s);", "(byte) ", "readVarInt"));
+      case SHORT ->
+          Optional.of(varint("$binaryFormat:T.writeVarInt(buffer, %s);", "(short) ", "readVarInt"));
+      case CHAR ->
+          Optional.of(
+              varint(
+                  "$binaryFormat:T.writeUnsignedVarInt(buffer, %s);",
+                  "(char) ", "readUnsignedVarInt"));
+      case INT ->
+          Optional.of(varint("$binaryFormat:T.writeVarInt(buffer, %s);", "readVarInt(buffer)"));
+      case LONG ->
+          Optional.of(varint("$binaryFormat:T.writeVarLong(buffer, %s);", "readVarLong(buffer)"));
+      case FLOAT ->
+          Optional.of(
+              new ValueCodec(WIRE_FIXED32, "buffer.putFloat(%s);", "buffer.getFloat()", Map.of()));
+      case DOUBLE ->
+          Optional.of(
+              new ValueCodec(
+                  WIRE_FIXED64, "buffer.putDouble(%s);", "buffer.getDouble()", Map.of()));
+      case VOID -> Optional.empty();
+    };
+  }
+
+  private static ValueCodec varint(String writeTemplate, String readCall) {
+    return new ValueCodec(WIRE_VARINT, writeTemplate, "$binaryFormat:T." + readCall, Map.of());
+  }
+
+  private static ValueCodec varint(String writeTemplate, String cast, String readMethod) {
+    return new ValueCodec(
+        WIRE_VARINT, writeTemplate, cast + "$binaryFormat:T." + readMethod + "(buffer)", Map.of());
+  }
+
+  /** Checks if the builder of a nested DTO type also generates a binary codec. */
+  private boolean hasBinaryCodec(TypeName dtoType, TypeElement typeElement) {
+    if (!typeElement.getTypeParameters().isEmpty()) {
+      return false;
+    }
+    try {
+      return context
+          .getConfigurationReader()
+          .resolveConfiguration(typeElement)
+          .shouldGenerateBinaryCodec();
+    } catch (BuilderException e) {
+      context.debug(
+          "Configuration of %s not resolvable, no nested binary codec: %s",
+          dtoType.getClassName(), e.getMessage());
+      return false;
+    }
+  }
+
+  private ClassFieldDto createInstanceField(TypeName codecType) {
+    ClassFieldDto instance = new ClassFieldDto();
+    instance.setFieldName("INSTANCE");
+    instance.setFieldType(codecType);
+    instance.setVisibility(AccessModifier.PUBLIC);
+    instance.setStatic(true);
+    instance.setFinal(true);
+    instance.setLiteralInitializer("new " + codecType.getClassName() + "()");
+    instance.setJavadoc(new JavadocDto("Shared instance, the codec is stateless."));
+    return instance;
+  }
+
+  private ConstructorDto createConstructor() {
+    ConstructorDto constructor = new ConstructorDto();
+    constructor.setVisibility(AccessModifier.PRIVATE);
+    constructor.setMethodCodeDto(new MethodCodeDto());
+    return constructor;
+  }
+
+  private MethodDto createEncodeMethod(TypeName dtoType) {
+    MethodDto method = createCodecMethod("encode", null, ORDERING_ENCODE);
+    method.addParameter(createParameter("value", dtoType));
+    method.addParameter(createParameter("buffer", TypeName.of(ByteBuffer.class)));
+    method.setCode(
+        """
+        $binaryFormat:T.writeHeader(buffer);
+        encodeFields(value, buffer);
+        """);
+    method.addArgument("binaryFormat", BINARY_FORMAT_TYPE);
+    method.setJavadoc(
+        new JavadocDto("Encodes a DTO, including the format version header.")
+            .addParam("value", "the DTO to encode")
+            .addParam("buffer", "the buffer to write to, its position is advanced"));
+    return method;
+  }
+
+  private MethodDto createDecodeMethod(TypeName dtoType) {
+    MethodDto method = createCodecMethod("decode", dtoType, ORDERING_DECODE);
+    method.addParameter(createParameter("buffer", TypeName.of(ByteBuffer.class)));
+    method.setCode(
+        """
+        $binaryFormat:T.readHeader(buffer);
+        return decodeFields(buffer);
+        """);
+    method.addArgument("binaryFormat", BINARY_FORMAT_TYPE);
+    method.setJavadoc(
+        new JavadocDto("Decodes a DTO, including the format version header.")
+            .addParam("buffer", "the buffer to read from, its position is advanced")
+            .addReturn("the decoded DTO"));
+    return method;
+  }
+
+  private MethodDto createEncodeFieldsMethod(TypeName dtoType, List<CodecField> fields) {
+    MethodDto method = createCodecMethod("encodeFields", null, ORDERING_ENCODE);
+    method.addParameter(createParameter("value", dtoType));
+    method.addParameter(createParameter("buffer", TypeName.of(ByteBuffer.class)));
+
+    StringBuilder code = new StringBuilder();
+    for (CodecField field : fields) {
+      String tag = String.valueOf(field.tag());
+      TypeName fieldType = field.field().getFieldType();
+      ValueCodec codec = field.codec().valueCodec();
+      addArguments(method, codec);
+      if (fieldType instanceof TypeNamePrimitive) {
+        // Primitives are always set
+        code.append("$binaryFormat:T.writeTag(buffer, ").append(tag).append(");\n");
+        code.append(codec.writeTemplate().formatted("value." + field.getterName() + "()"))
+            .append("\n");
+        continue;
+      }
+      String local = "value" + field.fieldNumber();
+      method.addArgument("fieldType" + field.fieldNumber(), fieldType);
+      code.append("$fieldType")
+          .append(field.fieldNumber())
+          .append(":T ")
+          .append(local)
+          .append(" = value.")
+          .append(field.getterName())
+          .append("();\n");
+      code.append("if (").append(local).append(" != null) {\n");
+      code.append("  $binaryFormat:T.writeTag(buffer, ").append(tag).append(");\n");
+      if (field.codec().isCollection()) {
+        TypeName elementType = ((TypeNameCollection) fieldType).getElementType();
+        method.addArgument("elementType" + field.fieldNumber(), elementType);
+        code.append("  $binaryFormat:T.writeCollectionHeader(buffer, ")
+            .append(local)
+            .append(".size(), $binaryFormat:T.")
+            .append(WIRE_TYPE_CONSTANTS[codec.wireType()])
+            .append(");\n");
+        code.append("  for ($elementType")
+            .append(field.fieldNumber())
+            .append(":T element : ")
+            .append(local)
+            .append(") {\n");
+        code.append("    ").append(codec.writeTemplate().formatted("element")).append("\n");
+        code.append("  }\n");
+      } else {
+        code.append("  ").append(codec.writeTemplate().formatted(local)).append("\n");
+      }
+      code.append("}\n");
+    }
+    code.append("$binaryFormat:T.writeEndTag(buffer);");
+
+    method.setCode(code.toString());
+    method.addArgument("binaryFormat", BINARY_FORMAT_TYPE);
+    method.setJavadoc(
+        new JavadocDto(
+                "Encodes the fields of a DTO without header, terminated by the end tag. Fields with <code>null</code> values are omitted, elements of collections must not be <code>null</code>.")
+            .addParam("value", "the DTO to encode")
+            .addParam("buffer", "the buffer to write to, its position is advanced"));
+    return method;
+  }
+
+  private MethodDto createDecodeFieldsMethod(
+      TypeName dtoType, TypeName builderType, List<CodecField> fields) {
+    MethodDto method = createCodecMethod("decodeFields", dtoType, ORDERING_DECODE);
+    method.addParameter(createParameter("buffer", TypeName.of(ByteBuffer.class)));
+
+    StringBuilder code = new StringBuilder();
+    code.append("$builder:T builder = new $builder:T();\n");
+    code.append("int tag;\n");
+    code.append("while ((tag = $binaryFormat:T.readTag(buffer)) != $binaryFormat:T.END_TAG) {\n");
+    code.append("  switch (tag) {\n");
+    for (CodecField field : fields) {
+      ValueCodec codec = field.codec().valueCodec();
+      addArguments(method, codec);
+      String setter = "builder." + field.setterName();
+      code.append("    case ").append(field.tag()).append(":\n");
+      if (field.codec().isCollection()) {
+        int number = field.fieldNumber();
+        String size = "size" + number;
+        String collection = "values" + number;
+        TypeName elementType = ((TypeNameCollection) field.field().getFieldType()).getElementType();
+        method.addArgument("elementType" + number, elementType);
+        method.addArgument(
+            "collectionType" + number,
+            TypeName.of(field.codec().isSet() ? LinkedHashSet.class : ArrayList.class));
+        method.addArgument("fieldType" + number, field.field().getFieldType());
+        code.append("      int ")
+            .append(size)
+            .append(" = $binaryFormat:T.readCollectionHeader(buffer, $binaryFormat:T.")
+            .append(WIRE_TYPE_CONSTANTS[codec.wireType()])
+            .append(");\n");
+        code.append("      $fieldType")
+            .append(number)
+            .append(":T ")
+            .append(collection)
+            .append(" = new $collectionType")
+            .append(number)
+            .append(":T<>(")
+            .append(field.codec().isSet() ? "(int) (" + size + " / 0.75f) + 1" : size)
+            .append(");\n");
+        code.append("      for (int i = 0; i < ").append(size).append("; i++) {\n");
+        code.append("        ")
+            .append(collection)
+            .append(".add(")
+            .append(codec.readExpression())
+            .append(");\n");
+        code.append("      }\n");
+        code.append("      ").append(setter).append("(").append(collection).append(");\n");
+      } else {
+        code.append("      ")
+            .append(setter)
+            .append("(")
+            .append(codec.readExpression())
+            .append(");\n");
+      }
+      code.append("      break;\n");
+    }
+    code.append("    default:\n");
+    code.append("      $binaryFormat:T.skipField(buffer, tag);\n");
+    code.append("  }\n");
+    code.append("}\n");
+    code.append("return builder.build();");
+
+    method.setCode(code.toString());
+    method.addArgument("builder", builderType);
+    method.addArgument("binaryFormat", BINARY_FORMAT_TYPE);
+    method.setJavadoc(
+        new JavadocDto(
+                "Decodes the fields of a DTO without header up to the end tag, skipping unknown fields. Fields not contained leave the defaults of the builder.")
+            .addParam("buffer", "the buffer to read from, its position is advanced")
+            .addReturn("the decoded DTO")
+            .addThrows("IllegalArgumentException", "if the data is not a valid encoding"));
+    return method;
+  }
+
+  private static void addArguments(MethodDto method, ValueCodec codec) {
+    codec.arguments().forEach(method::addArgument);
+  }
+
+  private static TypeName createCodecType(String packageName, TypeName dtoType) {
+    return new TypeName(packageName, dtoType.getClassName() + CLASS_NAME_SUFFIX);
+  }
+
+  /** Returns the primitive type of a wrapper type like {@code java.lang.Integer}. */
+  private static Optional<TypeNamePrimitive> unboxedType(TypeName type) {
+    for (TypeNamePrimitive.PrimitiveTypeEnum primitiveType :
+        TypeNamePrimitive.PrimitiveTypeEnum.values()) {
+      TypeNamePrimitive primitive = new TypeNamePrimitive(primitiveType);
+      if (primitiveType != TypeNamePrimitive.PrimitiveTypeEnum.VOID
+          && MethodGeneratorUtil.boxedType(primitive).equals(type)) {
+        return Optional.of(primitive);
+      }
+    }
+    return Optional.empty();
+  }
+
+  private static MethodDto createCodecMethod(String name, TypeName returnType, int ordering) {
+    MethodDto method = new MethodDto(name, returnType);
+    method.setModifier(AccessModifier.PUBLIC);
+    method.setOrdering(ordering);
+    method.addAnnotation(createOverrideAnnotation());
+    return method;
+  }
+
+  private static MethodParameterDto createParameter(String name, TypeName type) {
+    MethodParameterDto parameter = new MethodParameterDto();
+    parameter.setParameterName(name);
+    parameter.setParameterTypeName(type);
+    return parameter;
+  }
+
+  private static AnnotationDto createOverrideAnnotation() {
+    AnnotationDto overrideAnnotation = new AnnotationDto();
+    overrideAnnotation.setAnnotationType(JavaLangMapper.map2TypeName(Override.class));
+    return overrideAnnotation;
+  }
+
+  private static AnnotationDto createGeneratedAnnotation() {
+    AnnotationDto annotation = new AnnotationDto();
+    annotation.setAnnotationType(JavaLangMapper.map2TypeName(Generated.class));
+    annotation.addMember(
+        "value", "\"Generated by org.javahelpers.simple.builders.processor.BuilderProcessor\"");
+    return annotation;
+  }
+
+  /**
+   * Codec of a single value.
+   *
+   * @param wireType the wire type of the value
+   * @param writeTemplate statement writing the value given as {@code %s}
+   * @param readExpression expression reading the value
+   * @param arguments type arguments used by the templates
+   */
+  private record ValueCodec(
+      int wireType, String writeTemplate, String readExpression, Map<String, TypeName> arguments) {}
+
+  /** Codec of a field, either a single value or a list or set of values. */
+  private record FieldCodec(ValueCodec valueCodec, boolean isCollection, boolean isSet) {
+    static FieldCodec single(ValueCodec valueCodec) {
+      return new FieldCodec(valueCodec, false, false);
+    }
+
+    static FieldCodec collection(boolean isSet, ValueCodec elementCodec) {
+      return new FieldCodec(elementCodec, true, isSet);
+    }
+
+    int wireType() {
+      return isCollection ? WIRE_COLLECTION : valueCodec.wireType();
+    }
+  }
+
+  /** Field encoded by the codec, with its field number. */
+  private record CodecField(
+      int fieldNumber, FieldDto field, String getterName, String setterName, FieldCodec codec) {
+    int tag() {
+      return fieldNumber << 3 | codec.wireType();
+    }
+  }
+}
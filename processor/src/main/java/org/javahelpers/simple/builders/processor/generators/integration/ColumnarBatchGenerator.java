@@ -0,0 +1,490 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.javahelpers.simple.builders.processor.generators.integration;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import javax.annotation.processing.Generated;
+import javax.lang.model.element.Element;
+import org.javahelpers.simple.builders.core.enums.AccessModifier;
+import org.javahelpers.simple.builders.processor.analysis.JavaLangMapper;
+import org.javahelpers.simple.builders.processor.generators.util.MethodGeneratorUtil;
+import org.javahelpers.simple.builders.processor.model.annotation.AnnotationDto;
+import org.javahelpers.simple.builders.processor.model.core.BuilderDefinitionDto;
+import org.javahelpers.simple.builders.processor.model.core.ClassFieldDto;
+import org.javahelpers.simple.builders.processor.model.core.FieldDto;
+import org.javahelpers.simple.builders.processor.model.core.GenerationTargetClassDto;
+import org.javahelpers.simple.builders.processor.model.javadoc.JavadocDto;
+import org.javahelpers.simple.builders.processor.model.method.CodeTemplateDto;
+import org.javahelpers.simple.builders.processor.model.method.ConstructorDto;
+import org.javahelpers.simple.builders.processor.model.method.MethodCodeDto;
+import org.javahelpers.simple.builders.processor.model.method.MethodDto;
+import org.javahelpers.simple.builders.processor.model.method.MethodParameterDto;
+import org.javahelpers.simple.builders.processor.model.type.TypeName;
+import org.javahelpers.simple.builders.processor.model.type.TypeNameArray;
+import org.javahelpers.simple.builders.processor.model.type.TypeNameGeneric;
+import org.javahelpers.simple.builders.processor.model.type.TypeNamePrimitive;
+import org.javahelpers.simple.builders.processor.model.type.TypeNameVariable;
+import org.javahelpers.simple.builders.processor.processing.ProcessingContext;
+
+/**
+ * Generates a columnar batch class per DTO, storing many DTOs as struct of arrays: one array per
+ * field, primitive fields in primitive arrays.
+ *
+ * <p>Rows are appended with {@code add}, either from the field values or from a DTO, without
+ * creating DTO instances. Single values are read by row index, whole columns are exposed as their
+ * backing arrays for scans. {@code toDto(row)} creates the DTO of a row via the generated builder.
+ *
+ * <p>Fields with generic types are stored in {@code Object[]} columns. Batches are only generated
+ * if all fields have a getter and an accessible setter; DTOs with generics are not supported.
+ */
+public class ColumnarBatchGenerator {
+
+  /** Suffix of the simple name of the generated batch class. */
+  public static final String CLASS_NAME_SUFFIX = "Batch";
+
+  private static final int DEFAULT_CAPACITY = 16;
+
+  /** Names used by the batch itself, fields with these names are not supported. */
+  private static final Set<String> RESERVED_NAMES =
+      Set.of("size", "capacity", "add", "clear", "toDto", "grow");
+
+  // Ordering constants for method generation order
+  private static final int ORDERING_SIZE = 100;
+  private static final int ORDERING_ADD = 200;
+  private static final int ORDERING_ACCESSORS = 300;
+  private static final int ORDERING_TO_DTO = 400;
+  private static final int ORDERING_GROW = 500;
+
+  private final ProcessingContext context;
+
+  public ColumnarBatchGenerator(ProcessingContext context) {
+    this.context = context;
+  }
+
+  /**
+   * Creates the definition of the columnar batch for a builder, if enabled in its configuration.
+   *
+   * @param builderDef the builder definition after enhancement
+   * @param sourceElement the annotated DTO element, used for warnings
+   * @return the class definition of the batch, empty if no batch is generated
+   */
+  public Optional<GenerationTargetClassDto> createBatchDefinition(
+      BuilderDefinitionDto builderDef, Element sourceElement) {
+    if (!builderDef.getConfiguration().shouldGenerateColumnarBatch()) {
+      return Optional.empty();
+    }
+    if (!builderDef.getGenerics().isEmpty()) {
+      warnSkipped(sourceElement, "DTOs with generics are not supported");
+      return Optional.empty();
+    }
+    if (!hasAccessibleEmptyConstructor(builderDef)) {
+      warnSkipped(sourceElement, "the builder has no accessible constructor without parameters");
+      return Optional.empty();
+    }
+    if (builderDef.getAllFieldsForBuilder().isEmpty()) {
+      context.debug("No fields, skipping columnar batch");
+      return Optional.empty();
+    }
+
+    List<Column> columns = new ArrayList<>();
+    for (FieldDto field : builderDef.getAllFieldsForBuilder()) {
+      String name = field.getOriginalFieldName();
+      Optional<String> setterName = MethodGeneratorUtil.findBasicSetterName(field, context);
+      if (field.getGetterName().isEmpty() || setterName.isEmpty()) {
+        warnSkipped(
+            sourceElement, "field '%s' has no getter or no accessible setter".formatted(name));
+        return Optional.empty();
+      }
+      if (RESERVED_NAMES.contains(name)) {
+        warnSkipped(sourceElement, "field name '%s' is used by the batch itself".formatted(name));
+        return Optional.empty();
+      }
+      columns.add(new Column(columns.size(), field, field.getGetterName().get(), setterName.get()));
+    }
+
+    TypeName dtoType = builderDef.getBuildingTargetTypeName();
+    TypeName builderType = builderDef.getBuilderTypeName();
+    TypeName batchType =
+        new TypeName(builderType.getPackageName(), dtoType.getClassName() + CLASS_NAME_SUFFIX);
+
+    GenerationTargetClassDto classDef = new GenerationTargetClassDto();
+    classDef.setTypeName(batchType);
+    classDef.setClassAccessModifier(AccessModifier.PUBLIC);
+    classDef.setClassJavadoc(
+        new JavadocDto(
+            "Columnar batch of {@code %s}, storing one array per field. Rows are appended without creating DTOs, {@link #toDto(int)} creates the DTO of a row via {@link %s}. Not thread-safe.",
+            dtoType.getFullQualifiedName(), builderType.getClassName()));
+    if (builderDef.getConfiguration().shouldUseGeneratedAnnotation()) {
+      classDef.addClassAnnotation(createGeneratedAnnotation());
+    }
+
+    classDef.addClassField(createDefaultCapacityConstant());
+    classDef.addClassField(
+        createIntField("size", "Number of rows, the columns are only valid up to this index."));
+    classDef.addClassField(createIntField("capacity", "Length of all column arrays."));
+    for (Column column : columns) {
+      classDef.addClassField(createColumnField(column));
+    }
+    classDef.addConstructor(createDefaultConstructor());
+    classDef.addConstructor(createCapacityConstructor(columns));
+    classDef.addMethod(createSizeMethod());
+    classDef.addMethod(createClearMethod(columns));
+    classDef.addMethod(createAddFieldsMethod(batchType, columns));
+    classDef.addMethod(createAddDtoMethod(batchType, dtoType, columns));
+    for (Column column : columns) {
+      classDef.addMethod(createValueAccessor(column));
+      classDef.addMethod(createColumnAccessor(column));
+    }
+    classDef.addMethod(createToDtoMethod(dtoType, builderType, columns));
+    classDef.addMethod(createGrowMethod(columns));
+
+    context.debug("Columnar batch %s with %d columns", batchType.getClassName(), columns.size());
+    return Optional.of(classDef);
+  }
+
+  private void warnSkipped(Element sourceElement, String reason) {
+    context.warning(
+        sourceElement,
+        "simple-builders: generateColumnarBatch is enabled for %s, but %s. Columnar batch generation skipped.",
+        sourceElement.getSimpleName(),
+        reason);
+  }
+
+  private boolean hasAccessibleEmptyConstructor(BuilderDefinitionDto builderDef) {
+    return builderDef.getConstructors().stream()
+        .anyMatch(
+            ctor ->
+                ctor.getParameters().isEmpty() && ctor.getVisibility() != AccessModifier.PRIVATE);
+  }
+
+  private ClassFieldDto createDefaultCapacityConstant() {
+    ClassFieldDto constant = new ClassFieldDto();
+    constant.setFieldName("DEFAULT_CAPACITY");
+    constant.setFieldType(TypeNamePrimitive.INT);
+    constant.setVisibility(AccessModifier.PRIVATE);
+    constant.setStatic(true);
+    constant.setFinal(true);
+    constant.setLiteralInitializer(String.valueOf(DEFAULT_CAPACITY));
+    return constant;
+  }
+
+  private ClassFieldDto createIntField(String name, String javadoc) {
+    ClassFieldDto intField = new ClassFieldDto();
+    intField.setFieldName(name);
+    intField.setFieldType(TypeNamePrimitive.INT);
+    intField.setVisibility(AccessModifier.PRIVATE);
+    intField.setJavadoc(new JavadocDto(javadoc));
+    return intField;
+  }
+
+  private ClassFieldDto createColumnField(Column column) {
+    ClassFieldDto columnField = new ClassFieldDto();
+    columnField.setFieldName(column.fieldName());
+    columnField.setFieldType(column.arrayType());
+    columnField.setVisibility(AccessModifier.PRIVATE);
+    columnField.setJavadoc(
+        new JavadocDto("Values of <code>%s</code>, indexed by row.", column.name()));
+    return columnField;
+  }
+
+  private ConstructorDto createDefaultConstructor() {
+    ConstructorDto constructor = new ConstructorDto();
+    constructor.setVisibility(AccessModifier.PUBLIC);
+    MethodCodeDto code = new MethodCodeDto();
+    code.append("this(DEFAULT_CAPACITY);");
+    constructor.setMethodCodeDto(code);
+    constructor.setJavadoc(
+        new JavadocDto("Creates an empty batch with a capacity of %d rows.", DEFAULT_CAPACITY));
+    return constructor;
+  }
+
+  private ConstructorDto createCapacityConstructor(List<Column> columns) {
+    ConstructorDto constructor = new ConstructorDto();
+    constructor.setVisibility(AccessModifier.PUBLIC);
+    constructor.addParameter(createParameter("initialCapacity", TypeNamePrimitive.INT));
+    MethodCodeDto code = new MethodCodeDto();
+    StringBuilder codeFormat = new StringBuilder();
+    codeFormat.append("if (initialCapacity < 0) {\n");
+    codeFormat.append(
+        "  throw new IllegalArgumentException(\"Negative initial capacity: \" + initialCapacity);\n");
+    codeFormat.append("}\n");
+    codeFormat.append("this.capacity = initialCapacity;\n");
+    for (Column column : columns) {
+      codeFormat
+          .append("this.")
+          .append(column.fieldName())
+          .append(" = ")
+          .append(createArrayExpression(column, "initialCapacity", code))
+          .append(";\n");
+    }
+    code.setCodeFormat(codeFormat.toString());
+    constructor.setMethodCodeDto(code);
+    constructor.setJavadoc(
+        new JavadocDto("Creates an empty batch with the given capacity.")
+            .addParam("initialCapacity", "number of rows to allocate the columns for")
+            .addThrows("IllegalArgumentException", "if the capacity is negative"));
+    return constructor;
+  }
+
+  /**
+   * Creates the expression allocating the array of a column, registering the needed type arguments
+   * on the code template.
+   */
+  private static String createArrayExpression(Column column, String length, CodeTemplateDto code) {
+    int dimensions = 0;
+    TypeName elementType = column.storageType();
+    while (elementType instanceof TypeNameArray arrayType) {
+      dimensions++;
+      elementType = arrayType.getTypeOfArray();
+    }
+    String elementExpression;
+    if (elementType instanceof TypeNamePrimitive) {
+      elementExpression = elementType.getFullQualifiedName();
+    } else {
+      String label = "elementType" + column.index();
+      code.addArgument(label, elementType);
+      elementExpression = "$" + label + ":T";
+    }
+    return "new " + elementExpression + "[" + length + "]" + "[]".repeat(dimensions);
+  }
+
+  private MethodDto createSizeMethod() {
+    MethodDto method = createMethod("size", TypeNamePrimitive.INT, ORDERING_SIZE);
+    method.setCode("return this.size;");
+    method.setJavadoc(
+        new JavadocDto("Returns the number of rows in this batch.").addReturn("number of rows"));
+    return method;
+  }
+
+  private MethodDto createClearMethod(List<Column> columns) {
+    MethodDto method = createMethod("clear", null, ORDERING_SIZE);
+    StringBuilder code = new StringBuilder();
+    for (Column column : columns) {
+      if (!(column.storageType() instanceof TypeNamePrimitive)) {
+        code.append("$arrays:T.fill(this.")
+            .append(column.fieldName())
+            .append(", 0, this.size, null);\n");
+      }
+    }
+    code.append("this.size = 0;");
+    method.setCode(code.toString());
+    if (code.indexOf("$arrays:T") >= 0) {
+      method.addArgument("arrays", TypeName.of(Arrays.class));
+    }
+    method.setJavadoc(
+        new JavadocDto(
+            "Removes all rows, keeping the allocated columns. References to objects are released."));
+    return method;
+  }
+
+  private MethodDto createAddFieldsMethod(TypeName batchType, List<Column> columns) {
+    MethodDto method = createMethod("add", batchType, ORDERING_ADD);
+    JavadocDto javadoc = new JavadocDto("Appends a row from field values, without creating a DTO.");
+    StringBuilder code = new StringBuilder();
+    code.append("if (this.size == this.capacity) {\n");
+    code.append("  grow();\n");
+    code.append("}\n");
+    for (Column column : columns) {
+      method.addParameter(createParameter(column.name(), column.field().getFieldType()));
+      javadoc.addParam(column.name(), column.field().getJavaDocDescriptionOrFieldName());
+      code.append("this.")
+          .append(column.fieldName())
+          .append("[this.size] = ")
+          .append(column.name())
+          .append(";\n");
+    }
+    code.append("this.size++;\n");
+    code.append("return this;");
+    method.setCode(code.toString());
+    method.setJavadoc(javadoc.addReturn("this batch"));
+    return method;
+  }
+
+  private MethodDto createAddDtoMethod(TypeName batchType, TypeName dtoType, List<Column> columns) {
+    MethodDto method = createMethod("add", batchType, ORDERING_ADD);
+    method.addParameter(createParameter("value", dtoType));
+    StringBuilder code = new StringBuilder("return add(");
+    for (int i = 0; i < columns.size(); i++) {
+      code.append(i == 0 ? "" : ", ")
+          .append("value.")
+          .append(columns.get(i).getterName())
+          .append("()");
+    }
+    code.append(");");
+    method.setCode(code.toString());
+    method.setJavadoc(
+        new JavadocDto("Appends a row with the values of a DTO.")
+            .addParam("value", "the DTO to append")
+            .addReturn("this batch"));
+    return method;
+  }
+
+  private MethodDto createValueAccessor(Column column) {
+    TypeName fieldType = column.field().getFieldType();
+    MethodDto method = createMethod(column.name(), fieldType, ORDERING_ACCESSORS);
+    method.addParameter(createParameter("row", TypeNamePrimitive.INT));
+    String read = "this." + column.fieldName() + "[row]";
+    if (column.isUncheckedCast()) {
+      method.addArgument("fieldType", fieldType);
+      read = "($fieldType:T) " + read;
+      method.addAnnotation(createSuppressUncheckedAnnotation());
+    }
+    method.setCode(
+        """
+        $objects:T.checkIndex(row, this.size);
+        return %s;
+        """
+            .formatted(read));
+    method.addArgument("objects", TypeName.of(Objects.class));
+    method.setJavadoc(
+        new JavadocDto("Reads <code>%s</code> of a row.", column.name())
+            .addParam("row", "index of the row")
+            .addReturn(column.field().getJavaDocDescriptionOrFieldName())
+            .addThrows("IndexOutOfBoundsException", "if the row does not exist"));
+    return method;
+  }
+
+  private MethodDto createColumnAccessor(Column column) {
+    MethodDto method = createMethod(column.fieldName(), column.arrayType(), ORDERING_ACCESSORS);
+    method.setCode("return this.%s;".formatted(column.fieldName()));
+    method.setJavadoc(
+        new JavadocDto(
+                "Returns the backing array of <code>%s</code> for scans. Only the first <code>size()</code> entries are valid; the array is replaced when the batch grows.",
+                column.name())
+            .addReturn("the values of all rows, indexed by row"));
+    return method;
+  }
+
+  private MethodDto createToDtoMethod(
+      TypeName dtoType, TypeName builderType, List<Column> columns) {
+    MethodDto method = createMethod("toDto", dtoType, ORDERING_TO_DTO);
+    method.addParameter(createParameter("row", TypeNamePrimitive.INT));
+    StringBuilder code = new StringBuilder();
+    code.append("$objects:T.checkIndex(row, this.size);\n");
+    code.append("return new $builder:T()");
+    boolean uncheckedCast = false;
+    for (Column column : columns) {
+      code.append("\n    .").append(column.setterName()).append("(");
+      if (column.isUncheckedCast()) {
+        uncheckedCast = true;
+        method.addArgument("fieldType" + column.index(), column.field().getFieldType());
+        code.append("($fieldType").append(column.index()).append(":T) ");
+      }
+      code.append("this.").append(column.fieldName()).append("[row])");
+    }
+    code.append("\n    .build();");
+    method.setCode(code.toString());
+    method.addArgument("objects", TypeName.of(Objects.class));
+    method.addArgument("builder", builderType);
+    if (uncheckedCast) {
+      method.addAnnotation(createSuppressUncheckedAnnotation());
+    }
+    method.setJavadoc(
+        new JavadocDto("Creates the DTO of a row via the builder.")
+            .addParam("row", "index of the row")
+            .addReturn("new DTO with the values of the row")
+            .addThrows("IndexOutOfBoundsException", "if the row does not exist"));
+    return method;
+  }
+
+  private MethodDto createGrowMethod(List<Column> columns) {
+    MethodDto method = createMethod("grow", null, ORDERING_GROW);
+    method.setModifier(AccessModifier.PRIVATE);
+    StringBuilder code = new StringBuilder();
+    code.append("this.capacity = Math.max(DEFAULT_CAPACITY, this.capacity * 2);\n");
+    for (Column column : columns) {
+      code.append("this.")
+          .append(column.fieldName())
+          .append(" = $arrays:T.copyOf(this.")
+          .append(column.fieldName())
+          .append(", this.capacity);\n");
+    }
+    method.setCode(code.toString());
+    method.addArgument("arrays", TypeName.of(Arrays.class));
+    method.setJavadoc(new JavadocDto("Doubles the capacity of all columns."));
+    return method;
+  }
+
+  private static MethodDto createMethod(String name, TypeName returnType, int ordering) {
+    MethodDto method = new MethodDto(name, returnType);
+    method.setModifier(AccessModifier.PUBLIC);
+    method.setOrdering(ordering);
+    return method;
+  }
+
+  private static MethodParameterDto createParameter(String name, TypeName type) {
+    MethodParameterDto parameter = new MethodParameterDto();
+    parameter.setParameterName(name);
+    parameter.setParameterTypeName(type);
+    return parameter;
+  }
+
+  private static AnnotationDto createGeneratedAnnotation() {
+    AnnotationDto annotation = new AnnotationDto();
+    annotation.setAnnotationType(JavaLangMapper.map2TypeName(Generated.class));
+    annotation.addMember(
+        "value", "\"Generated by org.javahelpers.simple.builders.processor.BuilderProcessor\"");
+    return annotation;
+  }
+
+  private static AnnotationDto createSuppressUncheckedAnnotation() {
+    AnnotationDto suppressWarnings = new AnnotationDto();
+    suppressWarnings.setAnnotationType(JavaLangMapper.map2TypeName(SuppressWarnings.class));
+    suppressWarnings.addMember("value", "\"unchecked\"");
+    return suppressWarnings;
+  }
+
+  /** Column of a field, with the index of the field in the batch. */
+  private record Column(int index, FieldDto field, String getterName, String setterName) {
+    String name() {
+      return field.getOriginalFieldName();
+    }
+
+    String fieldName() {
+      return name() + "Column";
+    }
+
+    /** Generic types cannot be array elements and are stored as {@code Object}. */
+    boolean isUncheckedCast() {
+      TypeName elementType = field.getFieldType();
+      while (elementType instanceof TypeNameArray arrayType) {
+        elementType = arrayType.getTypeOfArray();
+      }
+      return elementType instanceof TypeNameGeneric || elementType instanceof TypeNameVariable;
+    }
+
+    TypeName storageType() {
+      return isUncheckedCast() ? TypeName.of(Object.class) : field.getFieldType();
+    }
+
+    TypeName arrayType() {
+      return new TypeNameArray(storageType());
+    }
+  }
+}
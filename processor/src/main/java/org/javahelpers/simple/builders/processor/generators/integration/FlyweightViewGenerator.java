@@ -0,0 +1,473 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.javahelpers.simple.builders.processor.generators.integration;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import javax.annotation.processing.Generated;
+import javax.lang.model.element.Element;
+import org.javahelpers.simple.builders.core.enums.AccessModifier;
+import org.javahelpers.simple.builders.processor.analysis.JavaLangMapper;
+import org.javahelpers.simple.builders.processor.generators.util.MethodGeneratorUtil;
+import org.javahelpers.simple.builders.processor.model.annotation.AnnotationDto;
+import org.javahelpers.simple.builders.processor.model.core.BuilderDefinitionDto;
+import org.javahelpers.simple.builders.processor.model.core.ClassFieldDto;
+import org.javahelpers.simple.builders.processor.model.core.FieldDto;
+import org.javahelpers.simple.builders.processor.model.core.GenerationTargetClassDto;
+import org.javahelpers.simple.builders.processor.model.javadoc.JavadocDto;
+import org.javahelpers.simple.builders.processor.model.method.MethodDto;
+import org.javahelpers.simple.builders.processor.model.method.MethodParameterDto;
+import org.javahelpers.simple.builders.processor.model.type.TypeName;
+import org.javahelpers.simple.builders.processor.model.type.TypeNameArray;
+import org.javahelpers.simple.builders.processor.model.type.TypeNamePrimitive;
+import org.javahelpers.simple.builders.processor.processing.ProcessingContext;
+
+/**
+ * Generates a flyweight view class per DTO, reading the fields of records stored in a {@link
+ * ByteBuffer} lazily at precomputed offsets.
+ *
+ * <p>A record consists of a fixed-width part and the data of its variable-length fields. Primitive
+ * fields are stored in the fixed-width part, ordered by descending width so that they are aligned
+ * naturally. Strings and {@code byte[]} have a slot in the fixed-width part pointing to their data,
+ * as described by {@code FlyweightLayout}. One view instance can be moved over many records with
+ * {@code wrap}, so reading a table of records allocates no objects besides strings and arrays.
+ *
+ * <p>The layout is derived from the current fields of the DTO and is meant for in-memory storage;
+ * it changes when fields are added or removed. Wrapper types like {@code Integer} are not supported
+ * as the fixed-width part has no representation for {@code null}. DTOs with generics are not
+ * supported.
+ */
+public class FlyweightViewGenerator {
+
+  /** Suffix of the simple name of the generated view class. */
+  public static final String CLASS_NAME_SUFFIX = "View";
+
+  private static final TypeName FLYWEIGHT_LAYOUT_TYPE =
+      new TypeName("org.javahelpers.simple.builders.core.util", "FlyweightLayout");
+
+  /** Size of a slot of a variable-length field, see {@code FlyweightLayout.SLOT_SIZE}. */
+  private static final int SLOT_SIZE = 8;
+
+  /** Names used by the view itself, fields with these names are not supported. */
+  private static final Set<String> RESERVED_NAMES =
+      Set.of("buffer", "offset", "end", "value", "wrap", "recordSize", "toDto", "write");
+
+  // Ordering constants for method generation order
+  private static final int ORDERING_WRAP = 100;
+  private static final int ORDERING_POSITION = 150;
+  private static final int ORDERING_ACCESSORS = 200;
+  private static final int ORDERING_TO_DTO = 300;
+  private static final int ORDERING_WRITE = 400;
+
+  private final ProcessingContext context;
+
+  public FlyweightViewGenerator(ProcessingContext context) {
+    this.context = context;
+  }
+
+  /**
+   * Creates the definition of the flyweight view for a builder, if enabled in its configuration.
+   *
+   * @param builderDef the builder definition after enhancement
+   * @param sourceElement the annotated DTO element, used for warnings
+   * @return the class definition of the view, empty if no view is generated
+   */
+  public Optional<GenerationTargetClassDto> createViewDefinition(
+      BuilderDefinitionDto builderDef, Element sourceElement) {
+    if (!builderDef.getConfiguration().shouldGenerateFlyweightView()) {
+      return Optional.empty();
+    }
+    if (!builderDef.getGenerics().isEmpty()) {
+      warnSkipped(sourceElement, "DTOs with generics are not supported");
+      return Optional.empty();
+    }
+    if (!hasAccessibleEmptyConstructor(builderDef)) {
+      warnSkipped(sourceElement, "the builder has no accessible constructor without parameters");
+      return Optional.empty();
+    }
+
+    List<ViewField> fields = new ArrayList<>();
+    for (FieldDto field : builderDef.getAllFieldsForBuilder()) {
+      String name = field.getOriginalFieldName();
+      Optional<String> setterName = MethodGeneratorUtil.findBasicSetterName(field, context);
+      Optional<FieldLayout> layout = createFieldLayout(field.getFieldType());
+      if (field.getGetterName().isEmpty() || setterName.isEmpty()) {
+        warnSkipped(
+            sourceElement, "field '%s' has no getter or no accessible setter".formatted(name));
+        return Optional.empty();
+      }
+      if (layout.isEmpty()) {
+        warnSkipped(
+            sourceElement,
+            "the type of field '%s' has no fixed-width or variable-length layout".formatted(name));
+        return Optional.empty();
+      }
+      if (RESERVED_NAMES.contains(name)) {
+        warnSkipped(sourceElement, "field name '%s' is used by the view itself".formatted(name));
+        return Optional.empty();
+      }
+      fields.add(new ViewField(field, field.getGetterName().get(), setterName.get(), layout.get()));
+    }
+
+    // Widest fields first keeps all fixed-width values aligned to their size
+    List<ViewField> layoutOrder =
+        fields.stream()
+            .sorted(Comparator.comparingInt((ViewField f) -> f.layout().alignment()).reversed())
+            .toList();
+    int fixedSize = 0;
+    List<ClassFieldDto> offsetConstants = new ArrayList<>();
+    for (ViewField field : layoutOrder) {
+      offsetConstants.add(createOffsetConstant(field, fixedSize));
+      fixedSize += field.layout().size();
+    }
+
+    TypeName dtoType = builderDef.getBuildingTargetTypeName();
+    TypeName builderType = builderDef.getBuilderTypeName();
+    TypeName viewType =
+        new TypeName(builderType.getPackageName(), dtoType.getClassName() + CLASS_NAME_SUFFIX);
+
+    GenerationTargetClassDto classDef = new GenerationTargetClassDto();
+    classDef.setTypeName(viewType);
+    classDef.setClassAccessModifier(AccessModifier.PUBLIC);
+    classDef.setClassJavadoc(
+        new JavadocDto(
+            "Flyweight view on records of {@code %s} stored in a <code>ByteBuffer</code>. Fields are read lazily at precomputed offsets, {@link #toDto()} converts to the DTO via {@link %s}. The layout changes with the fields of the DTO, do not use it for persistent data.",
+            dtoType.getFullQualifiedName(), builderType.getClassName()));
+    if (builderDef.getConfiguration().shouldUseGeneratedAnnotation()) {
+      classDef.addClassAnnotation(createGeneratedAnnotation());
+    }
+
+    classDef.addClassField(createFixedSizeConstant(fixedSize));
+    offsetConstants.forEach(classDef::addClassField);
+    classDef.addClassField(
+        createStateField("buffer", TypeName.of(ByteBuffer.class), "Buffer holding the record."));
+    classDef.addClassField(
+        createStateField(
+            "offset", TypeNamePrimitive.INT, "Absolute offset of the record in the buffer."));
+    classDef.addMethod(createWrapMethod(viewType));
+    classDef.addMethod(createOffsetMethod());
+    classDef.addMethod(createRecordSizeMethod(layoutOrder));
+    for (ViewField field : fields) {
+      classDef.addMethod(createAccessorMethod(field));
+    }
+    classDef.addMethod(createToDtoMethod(dtoType, builderType, fields));
+    classDef.addMethod(createWriteDtoMethod(dtoType, fields));
+    classDef.addMethod(createWriteFieldsMethod(fields, layoutOrder));
+
+    context.debug(
+        "Flyweight view %s with fixed size of %d bytes", viewType.getClassName(), fixedSize);
+    return Optional.of(classDef);
+  }
+
+  private void warnSkipped(Element sourceElement, String reason) {
+    context.warning(
+        sourceElement,
+        "simple-builders: generateFlyweightView is enabled for %s, but %s. Flyweight view generation skipped.",
+        sourceElement.getSimpleName(),
+        reason);
+  }
+
+  private boolean hasAccessibleEmptyConstructor(BuilderDefinitionDto builderDef) {
+    return builderDef.getConstructors().stream()
+        .anyMatch(
+            ctor ->
+                ctor.getParameters().isEmpty() && ctor.getVisibility() != AccessModifier.PRIVATE);
+  }
+
+  /** Creates the layout of a field type, empty if the type cannot be stored in a record. */
+  private static Optional<FieldLayout> createFieldLayout(TypeName fieldType) {
+    if (fieldType instanceof TypeNamePrimitive primitive) {
+      return switch (primitive.getType()) {
+        case BOOLEAN ->
+            Optional.of(
+                new FieldLayout(
+                    1,
+                    "$flyweightLayout:T.getBoolean(buffer, offset + %s)",
+                    "$flyweightLayout:T.putBoolean(buffer, offset + %s, %s);",
+                    false));
+        case BYTE -> Optional.of(fixed(1, "get", "put"));
+        case SHORT -> Optional.of(fixed(2, "getShort", "putShort"));
+        case CHAR -> Optional.of(fixed(2, "getChar", "putChar"));
+        case INT -> Optional.of(fixed(4, "getInt", "putInt"));
+        case FLOAT -> Optional.of(fixed(4, "getFloat", "putFloat"));
+        case LONG -> Optional.of(fixed(8, "getLong", "putLong"));
+        case DOUBLE -> Optional.of(fixed(8, "getDouble", "putDouble"));
+        case VOID -> Optional.empty();
+      };
+    }
+    if (TypeName.of(String.class).equals(fieldType)) {
+      return Optional.of(variable("getString", "putString"));
+    }
+    if (fieldType instanceof TypeNameArray arrayType
+        && TypeNamePrimitive.BYTE.equals(arrayType.getTypeOfArray())) {
+      return Optional.of(variable("getBytes", "putBytes"));
+    }
+    return Optional.empty();
+  }
+
+  private static FieldLayout fixed(int size, String getter, String putter) {
+    return new FieldLayout(
+        size,
+        "buffer." + getter + "(offset + %s)",
+        "buffer." + putter + "(offset + %s, %s);",
+        false);
+  }
+
+  private static FieldLayout variable(String getter, String putter) {
+    return new FieldLayout(
+        SLOT_SIZE,
+        "$flyweightLayout:T." + getter + "(buffer, offset, %s)",
+        "end = $flyweightLayout:T." + putter + "(buffer, offset, %s, end, %s);",
+        true);
+  }
+
+  private ClassFieldDto createFixedSizeConstant(int fixedSize) {
+    ClassFieldDto constant = new ClassFieldDto();
+    constant.setFieldName("FIXED_SIZE");
+    constant.setFieldType(TypeNamePrimitive.INT);
+    constant.setVisibility(AccessModifier.PUBLIC);
+    constant.setStatic(true);
+    constant.setFinal(true);
+    constant.setLiteralInitializer(String.valueOf(fixedSize));
+    constant.setJavadoc(
+        new JavadocDto(
+            "Size of the fixed-width part of a record in bytes, the minimal size of a record."));
+    return constant;
+  }
+
+  private ClassFieldDto createOffsetConstant(ViewField field, int offset) {
+    ClassFieldDto constant = new ClassFieldDto();
+    constant.setFieldName(field.offsetConstant());
+    constant.setFieldType(TypeNamePrimitive.INT);
+    constant.setVisibility(AccessModifier.PRIVATE);
+    constant.setStatic(true);
+    constant.setFinal(true);
+    constant.setLiteralInitializer(String.valueOf(offset));
+    return constant;
+  }
+
+  private ClassFieldDto createStateField(String name, TypeName type, String javadoc) {
+    ClassFieldDto stateField = new ClassFieldDto();
+    stateField.setFieldName(name);
+    stateField.setFieldType(type);
+    stateField.setVisibility(AccessModifier.PRIVATE);
+    stateField.setJavadoc(new JavadocDto(javadoc));
+    return stateField;
+  }
+
+  private MethodDto createWrapMethod(TypeName viewType) {
+    MethodDto method = createMethod("wrap", viewType, ORDERING_WRAP);
+    method.addParameter(createParameter("buffer", TypeName.of(ByteBuffer.class)));
+    method.addParameter(createParameter("offset", TypeNamePrimitive.INT));
+    method.setCode(
+        """
+        this.buffer = buffer;
+        this.offset = offset;
+        return this;
+        """);
+    method.setJavadoc(
+        new JavadocDto(
+                "Moves this view to the record at the given offset. No data is read or copied.")
+            .addParam("buffer", "the buffer holding the record")
+            .addParam("offset", "the absolute offset of the record in the buffer")
+            .addReturn("this view"));
+    return method;
+  }
+
+  private MethodDto createOffsetMethod() {
+    MethodDto method = createMethod("offset", TypeNamePrimitive.INT, ORDERING_POSITION);
+    method.setCode("return offset;");
+    method.setJavadoc(
+        new JavadocDto("Returns the absolute offset of the current record in the buffer.")
+            .addReturn("the offset of the record"));
+    return method;
+  }
+
+  private MethodDto createRecordSizeMethod(List<ViewField> layoutOrder) {
+    MethodDto method = createMethod("recordSize", TypeNamePrimitive.INT, ORDERING_POSITION);
+    StringBuilder code = new StringBuilder("return FIXED_SIZE");
+    for (ViewField field : layoutOrder) {
+      if (field.layout().variableLength()) {
+        code.append("\n    + $flyweightLayout:T.dataLength(buffer, offset, ")
+            .append(field.offsetConstant())
+            .append(")");
+      }
+    }
+    code.append(";");
+    setCode(method, code.toString());
+    method.setJavadoc(
+        new JavadocDto(
+                "Returns the size of the current record including the data of its variable-length fields. Records written back to back start at <code>offset() + recordSize()</code>.")
+            .addReturn("the size of the record in bytes"));
+    return method;
+  }
+
+  private MethodDto createAccessorMethod(ViewField field) {
+    MethodDto method =
+        createMethod(
+            field.field().getOriginalFieldName(), field.field().getFieldType(), ORDERING_ACCESSORS);
+    setCode(
+        method, "return " + field.layout().readTemplate().formatted(field.offsetConstant()) + ";");
+    method.setJavadoc(
+        new JavadocDto(
+                "Reads <code>%s</code> of the current record.",
+                field.field().getOriginalFieldName())
+            .addReturn(field.field().getJavaDocDescriptionOrFieldName()));
+    return method;
+  }
+
+  private MethodDto createToDtoMethod(
+      TypeName dtoType, TypeName builderType, List<ViewField> fields) {
+    MethodDto method = createMethod("toDto", dtoType, ORDERING_TO_DTO);
+    StringBuilder code = new StringBuilder("return new $builder:T()");
+    for (ViewField field : fields) {
+      code.append("\n    .")
+          .append(field.setterName())
+          .append("(")
+          .append(field.field().getOriginalFieldName())
+          .append("())");
+    }
+    code.append("\n    .build();");
+    method.setCode(code.toString());
+    method.addArgument("builder", builderType);
+    method.setJavadoc(
+        new JavadocDto("Reads all fields of the current record into a new DTO via the builder.")
+            .addReturn("the DTO on the heap"));
+    return method;
+  }
+
+  private MethodDto createWriteDtoMethod(TypeName dtoType, List<ViewField> fields) {
+    MethodDto method = createMethod("write", TypeNamePrimitive.INT, ORDERING_WRITE);
+    method.setStatic(true);
+    method.addParameter(createParameter("value", dtoType));
+    method.addParameter(createParameter("buffer", TypeName.of(ByteBuffer.class)));
+    method.addParameter(createParameter("offset", TypeNamePrimitive.INT));
+    StringBuilder code = new StringBuilder("return write(buffer, offset");
+    for (ViewField field : fields) {
+      code.append(", value.").append(field.getterName()).append("()");
+    }
+    code.append(");");
+    method.setCode(code.toString());
+    method.setJavadoc(
+        new JavadocDto("Writes a DTO as record into the buffer.")
+            .addParam("value", "the DTO to write")
+            .addParam("buffer", "the buffer to write to, its position is not changed")
+            .addParam("offset", "the absolute offset of the record in the buffer")
+            .addReturn("the size of the written record in bytes")
+            .addThrows("IndexOutOfBoundsException", "if the buffer is too small"));
+    return method;
+  }
+
+  private MethodDto createWriteFieldsMethod(List<ViewField> fields, List<ViewField> layoutOrder) {
+    MethodDto method = createMethod("write", TypeNamePrimitive.INT, ORDERING_WRITE);
+    method.setStatic(true);
+    method.addParameter(createParameter("buffer", TypeName.of(ByteBuffer.class)));
+    method.addParameter(createParameter("offset", TypeNamePrimitive.INT));
+    JavadocDto javadoc =
+        new JavadocDto(
+                "Writes the field values as record into the buffer, without creating a DTO first.")
+            .addParam("buffer", "the buffer to write to, its position is not changed")
+            .addParam("offset", "the absolute offset of the record in the buffer");
+    for (ViewField field : fields) {
+      String name = field.field().getOriginalFieldName();
+      method.addParameter(createParameter(name, field.field().getFieldType()));
+      javadoc.addParam(name, field.field().getJavaDocDescriptionOrFieldName());
+    }
+
+    StringBuilder code = new StringBuilder("int end = FIXED_SIZE;\n");
+    for (ViewField field : layoutOrder) {
+      code.append(
+              field
+                  .layout()
+                  .writeTemplate()
+                  .formatted(field.offsetConstant(), field.field().getOriginalFieldName()))
+          .append("\n");
+    }
+    code.append("return end;");
+    setCode(method, code.toString());
+    method.setJavadoc(
+        javadoc
+            .addReturn("the size of the written record in bytes")
+            .addThrows("IndexOutOfBoundsException", "if the buffer is too small"));
+    return method;
+  }
+
+  /** Sets the code of a method, adding the argument for {@code FlyweightLayout} if used. */
+  private static void setCode(MethodDto method, String code) {
+    method.setCode(code);
+    if (code.contains("$flyweightLayout:T")) {
+      method.addArgument("flyweightLayout", FLYWEIGHT_LAYOUT_TYPE);
+    }
+  }
+
+  private static MethodDto createMethod(String name, TypeName returnType, int ordering) {
+    MethodDto method = new MethodDto(name, returnType);
+    method.setModifier(AccessModifier.PUBLIC);
+    method.setOrdering(ordering);
+    return method;
+  }
+
+  private static MethodParameterDto createParameter(String name, TypeName type) {
+    MethodParameterDto parameter = new MethodParameterDto();
+    parameter.setParameterName(name);
+    parameter.setParameterTypeName(type);
+    return parameter;
+  }
+
+  private static AnnotationDto createGeneratedAnnotation() {
+    AnnotationDto annotation = new AnnotationDto();
+    annotation.setAnnotationType(JavaLangMapper.map2TypeName(Generated.class));
+    annotation.addMember(
+        "value", "\"Generated by org.javahelpers.simple.builders.processor.BuilderProcessor\"");
+    return annotation;
+  }
+
+  /**
+   * Storage of a field in a record.
+   *
+   * @param size the bytes used in the fixed-width part
+   * @param readTemplate expression reading the value, {@code %s} is the offset constant
+   * @param writeTemplate statement writing the value, {@code %s} are offset constant and value
+   * @param variableLength whether the data is stored after the fixed-width part
+   */
+  private record FieldLayout(
+      int size, String readTemplate, String writeTemplate, boolean variableLength) {
+    /** Slots of variable-length fields consist of two ints and are aligned like ints. */
+    int alignment() {
+      return variableLength ? Integer.BYTES : size;
+    }
+  }
+
+  /** Field stored by the view. */
+  private record ViewField(
+      FieldDto field, String getterName, String setterName, FieldLayout layout) {
+    String offsetConstant() {
+      return "OFFSET_" + MethodGeneratorUtil.toConstantName(field.getOriginalFieldName());
+    }
+  }
+}
@@ -27,6 +27,7 @@ package org.javahelpers.simple.builders.processor.generators.integration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.TreeSet;
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.element.Element;
 import org.apache.commons.collections4.SetValuedMap;
@@ -48,6 +49,10 @@ import org.javahelpers.simple.builders.processor.processing.ProcessingLogger;
  *
  * <p>The generated modules include MixIn interfaces to map DTOs to their Builders using
  * {@code @JsonDeserialize(builder = ...)}. One module is generated per target package.
+ *
+ * <p>Only compact entries with the raw DTO and builder names are kept across rounds, so the builder
+ * definitions can be released as soon as their builder is written. Module definitions are created
+ * one package at a time in the final round.
  */
 public class JacksonModuleGenerator {
 
@@ -87,7 +92,13 @@ public class JacksonModuleGenerator {
     entriesByPackage.put(
         targetPackage,
         new JacksonModuleEntryDto(
-            builderDef.getBuildingTargetTypeName(), builderDef.getBuilderTypeName()));
+            rawTypeName(builderDef.getBuildingTargetTypeName()),
+            rawTypeName(builderDef.getBuilderTypeName())));
+  }
+
+  /** Copies the package and class name only, dropping generics and annotations of the type. */
+  private static TypeName rawTypeName(TypeName typeName) {
+    return new TypeName(typeName.getPackageName(), typeName.getClassName());
   }
 
   private String getTargetPackage(BuilderConfiguration config, BuilderDefinitionDto builderDef) {
@@ -123,29 +134,35 @@ public class JacksonModuleGenerator {
   }
 
   /**
-   * Returns the fully-built target class definitions for the Jackson Modules to be generated.
-   *
-   * <p>Collected entries are assembled into generic {@link GenerationTargetClassDto} instances
-   * ready to be rendered by the shared {@code RoasterCodeGenerator.generateClass} pipeline.
+   * Returns the packages for which a Jackson module is to be generated.
    *
-   * <p>Logs status and clears state after retrieval.
+   * <p>Logs status if modules are to be generated.
    *
-   * @return list of target class definitions, one per package
+   * @return the target packages, sorted by name
    */
-  public List<GenerationTargetClassDto> getModuleDefinitions() {
-    List<GenerationTargetClassDto> definitions = new ArrayList<>();
-    if (!entriesByPackage.isEmpty()) {
+  public List<String> getModulePackages() {
+    List<String> packages = new ArrayList<>(new TreeSet<>(entriesByPackage.keySet()));
+    if (!packages.isEmpty()) {
       logger.info(
           "simple-builders: Processing OVER. JacksonModuleEnabled: true, Packages: %d",
-          entriesByPackage.keySet().size());
-
-      for (String packageName : entriesByPackage.keySet()) {
-        Set<JacksonModuleEntryDto> moduleEntries = entriesByPackage.get(packageName);
-        definitions.add(buildTargetClass(packageName, moduleEntries));
-      }
+          packages.size());
     }
-    clear();
-    return definitions;
+    return packages;
+  }
+
+  /**
+   * Returns the fully-built target class definition for the Jackson module of a package.
+   *
+   * <p>Collected entries are assembled into a generic {@link GenerationTargetClassDto} ready to be
+   * rendered by the shared {@code RoasterCodeGenerator.generateClass} pipeline. The entries of the
+   * package are removed, so each definition can be released after rendering.
+   *
+   * @param packageName target package, as returned by {@link #getModulePackages()}
+   * @return target class definition of the module
+   */
+  public GenerationTargetClassDto createModuleDefinition(String packageName) {
+    Set<JacksonModuleEntryDto> moduleEntries = entriesByPackage.remove(packageName);
+    return buildTargetClass(packageName, moduleEntries);
   }
 
   /**
@@ -207,8 +224,4 @@ public class JacksonModuleGenerator {
     constructor.setMethodCodeDto(code);
     return constructor;
   }
-
-  private void clear() {
-    entriesByPackage.clear();
-  }
 }
@@ -0,0 +1,192 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.javahelpers.simple.builders.processor.generators.integration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import javax.annotation.processing.Generated;
+import javax.lang.model.element.Element;
+import org.javahelpers.simple.builders.core.enums.AccessModifier;
+import org.javahelpers.simple.builders.processor.analysis.JavaLangMapper;
+import org.javahelpers.simple.builders.processor.model.annotation.AnnotationDto;
+import org.javahelpers.simple.builders.processor.model.core.BuilderDefinitionDto;
+import org.javahelpers.simple.builders.processor.model.core.GenerationTargetClassDto;
+import org.javahelpers.simple.builders.processor.model.javadoc.JavadocDto;
+import org.javahelpers.simple.builders.processor.model.method.ConstructorDto;
+import org.javahelpers.simple.builders.processor.model.method.MethodCodeDto;
+import org.javahelpers.simple.builders.processor.model.method.MethodDto;
+import org.javahelpers.simple.builders.processor.model.method.MethodParameterDto;
+import org.javahelpers.simple.builders.processor.model.type.TypeName;
+import org.javahelpers.simple.builders.processor.model.type.TypeNameGeneric;
+import org.javahelpers.simple.builders.processor.model.type.TypeNamePrimitive;
+import org.javahelpers.simple.builders.processor.processing.ProcessingContext;
+
+/**
+ * Generates a memory-mapped, append-only store class per DTO, based on {@code MappedRecordStore} of
+ * the core module.
+ *
+ * <p>The store encodes DTOs with the binary codec generated by {@link BinaryCodecGenerator} into
+ * segment files named after the DTO, so stores are only generated if the binary codec is generated
+ * as well. Appending, rollover of segments, the index of the records and replay are implemented in
+ * {@code MappedRecordStore}; the generated class binds it to the DTO and its codec and provides the
+ * {@code open} factory methods.
+ */
+public class MappedStoreGenerator {
+
+  /** Suffix of the simple name of the generated store class. */
+  public static final String CLASS_NAME_SUFFIX = "Store";
+
+  private static final TypeName MAPPED_RECORD_STORE_TYPE =
+      new TypeName("org.javahelpers.simple.builders.core.util", "MappedRecordStore");
+
+  private final ProcessingContext context;
+
+  public MappedStoreGenerator(ProcessingContext context) {
+    this.context = context;
+  }
+
+  /**
+   * Creates the definition of the memory-mapped store for a builder, if enabled in its
+   * configuration.
+   *
+   * @param builderDef the builder definition after enhancement
+   * @param sourceElement the annotated DTO element, used for warnings
+   * @param codecType the type of the binary codec generated for the DTO, empty if none was
+   *     generated
+   * @return the class definition of the store, empty if no store is generated
+   */
+  public Optional<GenerationTargetClassDto> createStoreDefinition(
+      BuilderDefinitionDto builderDef, Element sourceElement, Optional<TypeName> codecType) {
+    if (!builderDef.getConfiguration().shouldGenerateMappedStore()) {
+      return Optional.empty();
+    }
+    if (codecType.isEmpty()) {
+      context.warning(
+          sourceElement,
+          "simple-builders: generateMappedStore is enabled for %s, but no binary codec is generated (see generateBinaryCodec). Mapped store generation skipped.",
+          sourceElement.getSimpleName());
+      return Optional.empty();
+    }
+
+    TypeName dtoType = builderDef.getBuildingTargetTypeName();
+    TypeName storeType =
+        new TypeName(
+            builderDef.getBuilderTypeName().getPackageName(),
+            dtoType.getClassName() + CLASS_NAME_SUFFIX);
+
+    GenerationTargetClassDto classDef = new GenerationTargetClassDto();
+    classDef.setTypeName(storeType);
+    classDef.setClassAccessModifier(AccessModifier.PUBLIC);
+    classDef.setSuperType(new TypeNameGeneric(MAPPED_RECORD_STORE_TYPE, dtoType));
+    classDef.setClassJavadoc(
+        new JavadocDto(
+            "Memory-mapped, append-only store of {@code %s}, encoding with {@link %s}. Segment files are named {@code %s-<number>.seg}. Not thread-safe.",
+            dtoType.getFullQualifiedName(),
+            codecType.get().getClassName(),
+            dtoType.getClassName()));
+    if (builderDef.getConfiguration().shouldUseGeneratedAnnotation()) {
+      classDef.addClassAnnotation(createGeneratedAnnotation());
+    }
+
+    classDef.addConstructor(createConstructor(dtoType, codecType.get()));
+    classDef.addMethod(createOpenMethod(storeType));
+    classDef.addMethod(createOpenWithSegmentSizeMethod(storeType));
+
+    context.debug("Mapped store %s generated", storeType.getClassName());
+    return Optional.of(classDef);
+  }
+
+  private ConstructorDto createConstructor(TypeName dtoType, TypeName codecType) {
+    ConstructorDto constructor = new ConstructorDto();
+    constructor.setVisibility(AccessModifier.PRIVATE);
+    constructor.addParameter(createParameter("directory", TypeName.of(Path.class)));
+    constructor.addParameter(createParameter("segmentSize", TypeNamePrimitive.INT));
+    MethodCodeDto code = new MethodCodeDto();
+    code.append(
+        "super(directory, \"%s\", segmentSize, %s.INSTANCE);",
+        dtoType.getClassName(), codecType.getClassName());
+    constructor.setMethodCodeDto(code);
+    return constructor;
+  }
+
+  private MethodDto createOpenMethod(TypeName storeType) {
+    MethodDto method = createStaticMethod(storeType);
+    method.addParameter(createParameter("directory", TypeName.of(Path.class)));
+    method.setCode("return open(directory, DEFAULT_SEGMENT_SIZE);");
+    method.setJavadoc(
+        new JavadocDto(
+                "Opens the store in a directory, loading the records of existing segment files. New segment files have the default size of 64 MiB.")
+            .addParam("directory", "the directory of the segment files, created if missing")
+            .addReturn("the opened store")
+            .addThrows("IOException", "if the segment files could not be created or mapped"));
+    return method;
+  }
+
+  private MethodDto createOpenWithSegmentSizeMethod(TypeName storeType) {
+    MethodDto method = createStaticMethod(storeType);
+    method.addParameter(createParameter("directory", TypeName.of(Path.class)));
+    method.addParameter(createParameter("segmentSize", TypeNamePrimitive.INT));
+    method.setCode(
+        """
+        $store:T store = new $store:T(directory, segmentSize);
+        store.load();
+        return store;
+        """);
+    method.addArgument("store", storeType);
+    method.setJavadoc(
+        new JavadocDto(
+                "Opens the store in a directory, loading the records of existing segment files.")
+            .addParam("directory", "the directory of the segment files, created if missing")
+            .addParam(
+                "segmentSize",
+                "the size of new segment files in bytes, limits the size of a single encoded DTO")
+            .addReturn("the opened store")
+            .addThrows("IOException", "if the segment files could not be created or mapped"));
+    return method;
+  }
+
+  private static MethodDto createStaticMethod(TypeName storeType) {
+    MethodDto method = new MethodDto("open", storeType);
+    method.setModifier(AccessModifier.PUBLIC);
+    method.setStatic(true);
+    method.addThrownType(TypeName.of(IOException.class));
+    return method;
+  }
+
+  private static MethodParameterDto createParameter(String name, TypeName type) {
+    MethodParameterDto parameter = new MethodParameterDto();
+    parameter.setParameterName(name);
+    parameter.setParameterTypeName(type);
+    return parameter;
+  }
+
+  private static AnnotationDto createGeneratedAnnotation() {
+    AnnotationDto annotation = new AnnotationDto();
+    annotation.setAnnotationType(JavaLangMapper.map2TypeName(Generated.class));
+    annotation.addMember(
+        "value", "\"Generated by org.javahelpers.simple.builders.processor.BuilderProcessor\"");
+    return annotation;
+  }
+}
@@ -0,0 +1,595 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.javahelpers.simple.builders.processor.generators.integration;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import javax.annotation.processing.Generated;
+import javax.lang.model.element.Element;
+import org.javahelpers.simple.builders.core.enums.AccessModifier;
+import org.javahelpers.simple.builders.processor.analysis.JavaLangMapper;
+import org.javahelpers.simple.builders.processor.generators.util.MethodGeneratorUtil;
+import org.javahelpers.simple.builders.processor.model.annotation.AnnotationDto;
+import org.javahelpers.simple.builders.processor.model.core.BuilderDefinitionDto;
+import org.javahelpers.simple.builders.processor.model.core.ClassFieldDto;
+import org.javahelpers.simple.builders.processor.model.core.FieldDto;
+import org.javahelpers.simple.builders.processor.model.core.GenerationTargetClassDto;
+import org.javahelpers.simple.builders.processor.model.javadoc.JavadocDto;
+import org.javahelpers.simple.builders.processor.model.method.ConstructorDto;
+import org.javahelpers.simple.builders.processor.model.method.MethodCodeDto;
+import org.javahelpers.simple.builders.processor.model.method.MethodDto;
+import org.javahelpers.simple.builders.processor.model.method.MethodParameterDto;
+import org.javahelpers.simple.builders.processor.model.type.TypeName;
+import org.javahelpers.simple.builders.processor.model.type.TypeNameArray;
+import org.javahelpers.simple.builders.processor.model.type.TypeNameGeneric;
+import org.javahelpers.simple.builders.processor.model.type.TypeNamePrimitive;
+import org.javahelpers.simple.builders.processor.model.type.TypeNameVariable;
+import org.javahelpers.simple.builders.processor.processing.ProcessingContext;
+
+/**
+ * Generates a row mapper class per DTO, mapping JDBC result sets and {@code Object[]} or {@code
+ * String[]} rows to DTOs via the generated builder.
+ *
+ * <p>An instance of the row mapper is bound to one row shape: the column labels are resolved to
+ * field ordinals once, when the instance is created. Mapping a row then reads the columns by index
+ * and calls the setters of the builder. Result set values of primitive fields are read with the
+ * primitive getters like {@code getInt}, so no boxing happens; {@code Object[]} and {@code
+ * String[]} values are converted by a pluggable {@code RowValueConverter}.
+ *
+ * <p>Fields are only mapped if the builder has a non-private setter taking the type of the field.
+ * DTOs with generics are not supported.
+ */
+public class RowMapperGenerator {
+
+  /** Suffix of the simple name of the generated row mapper class. */
+  public static final String CLASS_NAME_SUFFIX = "RowMapper";
+
+  private static final TypeName ROW_MAPPING_TYPE =
+      new TypeName("org.javahelpers.simple.builders.core.util", "RowMapping");
+  private static final TypeName ROW_VALUE_CONVERTER_TYPE =
+      new TypeName("org.javahelpers.simple.builders.core.util", "RowValueConverter");
+  private static final TypeName ROW_VALUE_CONVERTERS_TYPE =
+      new TypeName("org.javahelpers.simple.builders.core.util", "RowValueConverters");
+
+  // Ordering constants for method generation order
+  private static final int ORDERING_FACTORIES = 100;
+  private static final int ORDERING_MAP_ALL = 150;
+  private static final int ORDERING_MAP = 200;
+
+  private final ProcessingContext context;
+
+  public RowMapperGenerator(ProcessingContext context) {
+    this.context = context;
+  }
+
+  /**
+   * Creates the definition of the row mapper for a builder, if enabled in its configuration.
+   *
+   * @param builderDef the builder definition after enhancement
+   * @param sourceElement the annotated DTO element, used for warnings
+   * @return the class definition of the row mapper, empty if no row mapper is generated
+   */
+  public Optional<GenerationTargetClassDto> createRowMapperDefinition(
+      BuilderDefinitionDto builderDef, Element sourceElement) {
+    if (!builderDef.getConfiguration().shouldGenerateRowMapper()) {
+      return Optional.empty();
+    }
+    if (!builderDef.getGenerics().isEmpty()) {
+      context.warning(
+          sourceElement,
+          "simple-builders: generateRowMapper is enabled for %s, but DTOs with generics are not supported. Row mapper generation skipped.",
+          sourceElement.getSimpleName());
+      return Optional.empty();
+    }
+    if (!hasAccessibleEmptyConstructor(builderDef)) {
+      context.warning(
+          sourceElement,
+          "simple-builders: generateRowMapper is enabled for %s, but the builder has no accessible constructor without parameters. Row mapper generation skipped.",
+          sourceElement.getSimpleName());
+      return Optional.empty();
+    }
+
+    List<MappedField> fields = collectMappedFields(builderDef);
+    TypeName dtoType = builderDef.getBuildingTargetTypeName();
+    TypeName builderType = builderDef.getBuilderTypeName();
+    TypeName rowMapperType =
+        new TypeName(builderType.getPackageName(), dtoType.getClassName() + CLASS_NAME_SUFFIX);
+
+    GenerationTargetClassDto classDef = new GenerationTargetClassDto();
+    classDef.setTypeName(rowMapperType);
+    classDef.setClassAccessModifier(AccessModifier.PUBLIC);
+    classDef.setClassJavadoc(
+        new JavadocDto(
+            "Row mapper for {@code %s}, mapping result sets and rows to DTOs via {@link %s}. An instance is bound to one row shape, the columns are resolved when it is created.",
+            dtoType.getFullQualifiedName(), builderType.getClassName()));
+    if (builderDef.getConfiguration().shouldUseGeneratedAnnotation()) {
+      classDef.addClassAnnotation(createGeneratedAnnotation());
+    }
+
+    classDef.addClassField(createFieldNamesField(fields));
+    classDef.addClassField(createColumnsField());
+    classDef.addConstructor(createConstructor());
+    classDef.addMethod(createForColumnsMethod(rowMapperType));
+    classDef.addMethod(createForColumnsVarArgsMethod(rowMapperType));
+    classDef.addMethod(createForResultSetMethod(rowMapperType));
+    classDef.addMethod(createMapAllMethod(rowMapperType, dtoType));
+    classDef.addMethod(createMapResultSetMethod(dtoType, builderType, fields));
+    classDef.addMethod(createMapRowWithDefaultConverterMethod(dtoType, TypeName.of(Object.class)));
+    classDef.addMethod(createMapRowWithDefaultConverterMethod(dtoType, TypeName.of(String.class)));
+    classDef.addMethod(createMapRowMethod(dtoType, builderType, fields, TypeName.of(Object.class)));
+    classDef.addMethod(createMapRowMethod(dtoType, builderType, fields, TypeName.of(String.class)));
+
+    context.debug(
+        "Row mapper %s maps %d of %d fields",
+        rowMapperType.getClassName(), fields.size(), builderDef.getAllFieldsForBuilder().size());
+    return Optional.of(classDef);
+  }
+
+  private boolean hasAccessibleEmptyConstructor(BuilderDefinitionDto builderDef) {
+    return builderDef.getConstructors().stream()
+        .anyMatch(
+            ctor ->
+                ctor.getParameters().isEmpty() && ctor.getVisibility() != AccessModifier.PRIVATE);
+  }
+
+  /** Collects the fields with an accessible setter taking the type of the field. */
+  private List<MappedField> collectMappedFields(BuilderDefinitionDto builderDef) {
+    List<MappedField> mappedFields = new ArrayList<>();
+    for (FieldDto field : builderDef.getAllFieldsForBuilder()) {
+      Optional<String> setterName = MethodGeneratorUtil.findBasicSetterName(field, context);
+      if (setterName.isPresent()) {
+        mappedFields.add(new MappedField(mappedFields.size(), field, setterName.get()));
+      } else {
+        context.debug(
+            "No accessible setter for field '%s', not mapped by row mapper",
+            field.getFieldNameInBuilder());
+      }
+    }
+    return mappedFields;
+  }
+
+  private ClassFieldDto createFieldNamesField(List<MappedField> fields) {
+    ClassFieldDto fieldNames = new ClassFieldDto();
+    fieldNames.setFieldName("FIELD_NAMES");
+    fieldNames.setFieldType(
+        new TypeNameGeneric(TypeName.of(List.class), TypeName.of(String.class)));
+    fieldNames.setVisibility(AccessModifier.PRIVATE);
+    fieldNames.setStatic(true);
+    fieldNames.setFinal(true);
+    fieldNames.setLiteralInitializer(
+        fields.stream()
+            .map(field -> "\"" + field.field().getOriginalFieldName() + "\"")
+            .collect(Collectors.joining(", ", "List.of(", ")")));
+    fieldNames.addImport(List.class);
+    fieldNames.setJavadoc(
+        new JavadocDto("Names of the mapped fields, indexed by the ordinals used in this class."));
+    return fieldNames;
+  }
+
+  private ClassFieldDto createColumnsField() {
+    ClassFieldDto columns = new ClassFieldDto();
+    columns.setFieldName("columns");
+    columns.setFieldType(new TypeNameArray(TypeNamePrimitive.INT));
+    columns.setVisibility(AccessModifier.PRIVATE);
+    columns.setFinal(true);
+    columns.setJavadoc(
+        new JavadocDto(
+            "Zero-based column index for each field ordinal, <code>-1</code> if the row shape has no column for the field."));
+    return columns;
+  }
+
+  private ConstructorDto createConstructor() {
+    ConstructorDto constructor = new ConstructorDto();
+    constructor.setVisibility(AccessModifier.PRIVATE);
+    MethodParameterDto parameter = new MethodParameterDto();
+    parameter.setParameterName("columns");
+    parameter.setParameterTypeName(new TypeNameArray(TypeNamePrimitive.INT));
+    constructor.addParameter(parameter);
+    MethodCodeDto code = new MethodCodeDto();
+    code.append("this.columns = columns;");
+    constructor.setMethodCodeDto(code);
+    return constructor;
+  }
+
+  private MethodDto createForColumnsMethod(TypeName rowMapperType) {
+    MethodDto method = createFactoryMethod("forColumns", rowMapperType);
+    method.addParameter(
+        createParameter(
+            "columnLabels",
+            new TypeNameGeneric(TypeName.of(List.class), TypeName.of(String.class))));
+    method.setCode(
+        "return new $rowMapper:T($rowMapping:T.resolveColumns(FIELD_NAMES, columnLabels));");
+    method.addArgument("rowMapper", rowMapperType);
+    method.addArgument("rowMapping", ROW_MAPPING_TYPE);
+    method.setJavadoc(
+        new JavadocDto(
+                "Creates a row mapper for rows with the given columns. Labels match field names ignoring case and underscores.")
+            .addParam("columnLabels", "labels of the columns, in the order of the row")
+            .addReturn("row mapper bound to the columns"));
+    return method;
+  }
+
+  private MethodDto createForColumnsVarArgsMethod(TypeName rowMapperType) {
+    MethodDto method = createFactoryMethod("forColumns", rowMapperType);
+    method.addParameter(
+        createParameter("columnLabels", new TypeNameArray(TypeName.of(String.class))));
+    method.setCode("return forColumns($arrays:T.asList(columnLabels));");
+    method.addArgument("arrays", TypeName.of(Arrays.class));
+    method.setJavadoc(
+        new JavadocDto(
+                "Creates a row mapper for rows with the given columns, e.g. the header of a CSV file.")
+            .addParam("columnLabels", "labels of the columns, in the order of the row")
+            .addReturn("row mapper bound to the columns"));
+    return method;
+  }
+
+  private MethodDto createForResultSetMethod(TypeName rowMapperType) {
+    MethodDto method = createFactoryMethod("forResultSet", rowMapperType);
+    method.addParameter(createParameter("resultSet", TypeName.of(ResultSet.class)));
+    method.addThrownType(TypeName.of(SQLException.class));
+    method.setCode("return forColumns($rowMapping:T.columnLabels(resultSet.getMetaData()));");
+    method.addArgument("rowMapping", ROW_MAPPING_TYPE);
+    method.setJavadoc(
+        new JavadocDto("Creates a row mapper for the columns of a result set.")
+            .addParam("resultSet", "result set to read the column labels from")
+            .addReturn("row mapper bound to the columns of the result set")
+            .addThrows("SQLException", "if the meta data of the result set could not be read"));
+    return method;
+  }
+
+  private MethodDto createMapAllMethod(TypeName rowMapperType, TypeName dtoType) {
+    MethodDto method = createFactoryMethod("mapAll", createListType(dtoType));
+    method.setOrdering(ORDERING_MAP_ALL);
+    method.addParameter(createParameter("resultSet", TypeName.of(ResultSet.class)));
+    method.addThrownType(TypeName.of(SQLException.class));
+    method.setCode(
+        """
+        $rowMapper:T mapper = forResultSet(resultSet);
+        $list:T<$dto:T> result = new $arrayList:T<>();
+        while (resultSet.next()) {
+          result.add(mapper.map(resultSet));
+        }
+        return result;
+        """);
+    method.addArgument("rowMapper", rowMapperType);
+    method.addArgument("list", TypeName.of(List.class));
+    method.addArgument("arrayList", TypeName.of(ArrayList.class));
+    method.addArgument("dto", dtoType);
+    method.setJavadoc(
+        new JavadocDto("Maps all remaining rows of a result set, resolving its columns once.")
+            .addParam("resultSet", "result set to read, positioned before the first row to map")
+            .addReturn("list of the mapped DTOs")
+            .addThrows("SQLException", "if the result set could not be read"));
+    return method;
+  }
+
+  private MethodDto createMapResultSetMethod(
+      TypeName dtoType, TypeName builderType, List<MappedField> fields) {
+    MethodDto method = createMapMethod(dtoType);
+    method.addParameter(createParameter("resultSet", TypeName.of(ResultSet.class)));
+    method.addThrownType(TypeName.of(SQLException.class));
+
+    StringBuilder code = new StringBuilder();
+    code.append("$builder:T builder = new $builder:T();\n");
+    code.append("int column;\n");
+    boolean uncheckedCast = false;
+    for (MappedField mapped : fields) {
+      int ordinal = mapped.ordinal();
+      String setter = "builder." + mapped.setterName();
+      String value = "value" + ordinal;
+      TypeName fieldType = mapped.field().getFieldType();
+      code.append("column = columns[").append(ordinal).append("] + 1;\n");
+      code.append("if (column > 0) {\n");
+      Optional<String> primitiveGetter = primitiveResultSetGetter(fieldType);
+      Optional<String> boxedGetter = boxedResultSetGetter(fieldType);
+      if (isCharType(fieldType)) {
+        code.append("  String ").append(value).append(" = resultSet.getString(column);\n");
+        String isEmpty = value + " == null || " + value + ".isEmpty()";
+        if (fieldType instanceof TypeNamePrimitive) {
+          code.append("  if (!(").append(isEmpty).append(")) {\n");
+          code.append("    ").append(setter).append("(").append(value).append(".charAt(0));\n");
+          code.append("  }\n");
+        } else {
+          code.append("  ")
+              .append(setter)
+              .append("(")
+              .append(isEmpty)
+              .append(" ? null : ")
+              .append(value)
+              .append(".charAt(0));\n");
+        }
+      } else if (primitiveGetter.isPresent()) {
+        // Primitive getters without boxing, SQL NULL leaves the field unset
+        code.append("  ")
+            .append(fieldType.getFullQualifiedName())
+            .append(" ")
+            .append(value)
+            .append(" = resultSet.")
+            .append(primitiveGetter.get())
+            .append("(column);\n");
+        code.append("  if (!resultSet.wasNull()) {\n");
+        code.append("    ").append(setter).append("(").append(value).append(");\n");
+        code.append("  }\n");
+      } else if (boxedGetter.isPresent()) {
+        TypeNamePrimitive primitive = unboxedType(fieldType).orElseThrow();
+        code.append("  ")
+            .append(primitive.getFullQualifiedName())
+            .append(" ")
+            .append(value)
+            .append(" = resultSet.")
+            .append(boxedGetter.get())
+            .append("(column);\n");
+        code.append("  ")
+            .append(setter)
+            .append("(resultSet.wasNull() ? null : ")
+            .append(value)
+            .append(");\n");
+      } else {
+        String read = readResultSetObject(fieldType, ordinal, method);
+        uncheckedCast |= read.startsWith("(");
+        code.append("  ").append(setter).append("(").append(read).append(");\n");
+      }
+      code.append("}\n");
+    }
+    code.append("return builder.build();");
+
+    method.setCode(code.toString());
+    method.addArgument("builder", builderType);
+    if (uncheckedCast) {
+      method.addAnnotation(createSuppressUncheckedAnnotation());
+    }
+    method.setJavadoc(
+        new JavadocDto(
+                "Maps the current row of a result set. Columns with SQL <code>NULL</code> leave primitive fields unset.")
+            .addParam("resultSet", "result set positioned on the row to map")
+            .addReturn("the mapped DTO")
+            .addThrows("SQLException", "if the row could not be read"));
+    return method;
+  }
+
+  /** Creates the expression reading a non-primitive value from the result set. */
+  private String readResultSetObject(TypeName fieldType, int ordinal, MethodDto method) {
+    if (fieldType instanceof TypeNameArray arrayType
+        && TypeNamePrimitive.BYTE.equals(arrayType.getTypeOfArray())) {
+      return "resultSet.getBytes(column)";
+    }
+    if (fieldType instanceof TypeNameGeneric || fieldType instanceof TypeNameVariable) {
+      method.addArgument("fieldType" + ordinal, fieldType);
+      return "($fieldType%d:T) resultSet.getObject(column)".formatted(ordinal);
+    }
+    String fqn = fieldType.getFullQualifiedName();
+    if (String.class.getName().equals(fqn)) {
+      return "resultSet.getString(column)";
+    }
+    if ("java.math.BigDecimal".equals(fqn)) {
+      return "resultSet.getBigDecimal(column)";
+    }
+    return "resultSet.getObject(column, %s)"
+        .formatted(createClassLiteral(fieldType, ordinal, method));
+  }
+
+  private MethodDto createMapRowMethod(
+      TypeName dtoType, TypeName builderType, List<MappedField> fields, TypeName valueType) {
+    MethodDto method = createMapMethod(dtoType);
+    method.addParameter(createParameter("row", new TypeNameArray(valueType)));
+    method.addParameter(
+        createParameter("converter", new TypeNameGeneric(ROW_VALUE_CONVERTER_TYPE, valueType)));
+
+    StringBuilder code = new StringBuilder();
+    code.append("$builder:T builder = new $builder:T();\n");
+    code.append("int column;\n");
+    boolean uncheckedCast = false;
+    for (MappedField mapped : fields) {
+      int ordinal = mapped.ordinal();
+      String setter = "builder." + mapped.setterName();
+      TypeName fieldType = mapped.field().getFieldType();
+      code.append("column = columns[").append(ordinal).append("];\n");
+      if (fieldType instanceof TypeNamePrimitive primitive) {
+        // Primitive conversion without boxing, null values leave the field unset
+        code.append(
+            "if (column >= 0 && column < row.length && !converter.isNull(row[column])) {\n");
+        code.append("  ")
+            .append(setter)
+            .append("(converter.")
+            .append(primitiveConverterMethod(primitive))
+            .append("(row[column]));\n");
+      } else {
+        code.append("if (column >= 0 && column < row.length) {\n");
+        uncheckedCast |= fieldType instanceof TypeNameGeneric;
+        method.addArgument("fieldType" + ordinal, MethodGeneratorUtil.boxedType(fieldType));
+        code.append("  ")
+            .append(setter)
+            .append("(($fieldType")
+            .append(ordinal)
+            .append(":T) converter.convert(row[column], ")
+            .append(createClassLiteral(fieldType, ordinal, method))
+            .append("));\n");
+      }
+      code.append("}\n");
+    }
+    code.append("return builder.build();");
+
+    method.setCode(code.toString());
+    method.addArgument("builder", builderType);
+    if (uncheckedCast) {
+      method.addAnnotation(createSuppressUncheckedAnnotation());
+    }
+    method.setJavadoc(
+        new JavadocDto(
+                "Maps a row, converting its values with the given converter. Missing columns and null values leave primitive fields unset.")
+            .addParam("row", "values of the row, in the order of the columns of this row mapper")
+            .addParam("converter", "converter for the values of the row")
+            .addReturn("the mapped DTO")
+            .addThrows("IllegalArgumentException", "if a value could not be converted"));
+    return method;
+  }
+
+  private MethodDto createMapRowWithDefaultConverterMethod(TypeName dtoType, TypeName valueType) {
+    MethodDto method = createMapMethod(dtoType);
+    method.addParameter(createParameter("row", new TypeNameArray(valueType)));
+    boolean strings = TypeName.of(String.class).equals(valueType);
+    method.setCode(
+        "return map(row, $converters:T.%s());".formatted(strings ? "strings" : "objects"));
+    method.addArgument("converters", ROW_VALUE_CONVERTERS_TYPE);
+    method.setJavadoc(
+        new JavadocDto(
+                "Maps a row, converting its values with <code>RowValueConverters.%s()</code>.",
+                strings ? "strings" : "objects")
+            .addParam("row", "values of the row, in the order of the columns of this row mapper")
+            .addReturn("the mapped DTO")
+            .addThrows("IllegalArgumentException", "if a value could not be converted"));
+    return method;
+  }
+
+  /**
+   * Creates the class literal of the raw type of a field, registering the needed arguments on the
+   * method.
+   */
+  private String createClassLiteral(TypeName fieldType, int ordinal, MethodDto method) {
+    if (fieldType instanceof TypeNameArray arrayType) {
+      String componentLiteral = createClassLiteral(arrayType.getTypeOfArray(), ordinal, method);
+      return componentLiteral.substring(0, componentLiteral.length() - ".class".length())
+          + "[].class";
+    }
+    if (fieldType instanceof TypeNamePrimitive primitive) {
+      return primitive.getFullQualifiedName() + ".class";
+    }
+    if (fieldType instanceof TypeNameVariable) {
+      return "Object.class";
+    }
+    TypeName rawType =
+        fieldType instanceof TypeNameGeneric genericType ? genericType.getRawType() : fieldType;
+    String label = "rawType" + ordinal;
+    method.addArgument(label, new TypeName(rawType.getPackageName(), rawType.getClassName()));
+    return "$" + label + ":T.class";
+  }
+
+  private static Optional<String> primitiveResultSetGetter(TypeName fieldType) {
+    if (!(fieldType instanceof TypeNamePrimitive primitive)) {
+      return Optional.empty();
+    }
+    return resultSetGetter(primitive);
+  }
+
+  private static Optional<String> boxedResultSetGetter(TypeName fieldType) {
+    return unboxedType(fieldType).flatMap(RowMapperGenerator::resultSetGetter);
+  }
+
+  private static Optional<String> resultSetGetter(TypeNamePrimitive primitive) {
+    return switch (primitive.getType()) {
+      case BOOLEAN -> Optional.of("getBoolean");
+      case BYTE -> Optional.of("getByte");
+      case SHORT -> Optional.of("getShort");
+      case INT -> Optional.of("getInt");
+      case LONG -> Optional.of("getLong");
+      case FLOAT -> Optional.of("getFloat");
+      case DOUBLE -> Optional.of("getDouble");
+      default -> Optional.empty();
+    };
+  }
+
+  private static String primitiveConverterMethod(TypeNamePrimitive primitive) {
+    return switch (primitive.getType()) {
+      case BOOLEAN -> "toBoolean";
+      case BYTE -> "toByte";
+      case SHORT -> "toShort";
+      case INT -> "toInt";
+      case LONG -> "toLong";
+      case FLOAT -> "toFloat";
+      case DOUBLE -> "toDouble";
+      case CHAR -> "toChar";
+      default ->
+          throw new IllegalArgumentException("Unsupported primitive field type: " + primitive);
+    };
+  }
+
+  /** Returns the primitive type of a wrapper type like {@code java.lang.Integer}. */
+  private static Optional<TypeNamePrimitive> unboxedType(TypeName fieldType) {
+    if (fieldType instanceof TypeNamePrimitive || fieldType instanceof TypeNameGeneric) {
+      return Optional.empty();
+    }
+    for (TypeNamePrimitive.PrimitiveTypeEnum type : TypeNamePrimitive.PrimitiveTypeEnum.values()) {
+      TypeNamePrimitive primitive = new TypeNamePrimitive(type);
+      if (type != TypeNamePrimitive.PrimitiveTypeEnum.VOID
+          && MethodGeneratorUtil.boxedType(primitive).equals(fieldType)) {
+        return Optional.of(primitive);
+      }
+    }
+    return Optional.empty();
+  }
+
+  private static boolean isCharType(TypeName fieldType) {
+    return TypeNamePrimitive.CHAR.equals(fieldType)
+        || TypeName.of(Character.class).equals(fieldType);
+  }
+
+  private static MethodDto createFactoryMethod(String name, TypeName returnType) {
+    MethodDto method = new MethodDto(name, returnType);
+    method.setModifier(AccessModifier.PUBLIC);
+    method.setStatic(true);
+    method.setOrdering(ORDERING_FACTORIES);
+    return method;
+  }
+
+  private static MethodDto createMapMethod(TypeName dtoType) {
+    MethodDto method = new MethodDto("map", dtoType);
+    method.setModifier(AccessModifier.PUBLIC);
+    method.setOrdering(ORDERING_MAP);
+    return method;
+  }
+
+  private static MethodParameterDto createParameter(String name, TypeName type) {
+    MethodParameterDto parameter = new MethodParameterDto();
+    parameter.setParameterName(name);
+    parameter.setParameterTypeName(type);
+    return parameter;
+  }
+
+  private static TypeName createListType(TypeName elementType) {
+    return new TypeNameGeneric(TypeName.of(List.class), elementType);
+  }
+
+  private static AnnotationDto createGeneratedAnnotation() {
+    AnnotationDto annotation = new AnnotationDto();
+    annotation.setAnnotationType(JavaLangMapper.map2TypeName(Generated.class));
+    annotation.addMember(
+        "value", "\"Generated by org.javahelpers.simple.builders.processor.BuilderProcessor\"");
+    return annotation;
+  }
+
+  private static AnnotationDto createSuppressUncheckedAnnotation() {
+    AnnotationDto suppressWarnings = new AnnotationDto();
+    suppressWarnings.setAnnotationType(JavaLangMapper.map2TypeName(SuppressWarnings.class));
+    suppressWarnings.addMember("value", "\"unchecked\"");
+    return suppressWarnings;
+  }
+
+  /** Field mapped by the row mapper, with its ordinal in the row mapper. */
+  private record MappedField(int ordinal, FieldDto field, String setterName) {}
+}
@@ -102,8 +102,10 @@ public class GeneratorRegistry {
               "Applying: %s (priority: %d)",
               generator.getClass().getSimpleName(), generator.getPriority());
 
+          long start = context.getMetrics().startTimer();
           List<BuilderMethodDto> generatedMethods =
               generator.generateMethods(field, builderType, context);
+          context.getMetrics().recordGenerator(generator, start);
 
           if (CollectionUtils.isNotEmpty(generatedMethods)) {
             allMethods.addAll(generatedMethods);
@@ -136,7 +138,9 @@ public class GeneratorRegistry {
               "Applying: %s (priority: %d)",
               enhancer.getClass().getSimpleName(), enhancer.getPriority());
 
+          long start = context.getMetrics().startTimer();
           enhancer.enhanceBuilder(builderDto, context);
+          context.getMetrics().recordGenerator(enhancer, start);
           appliedEnhancers++;
         } catch (Exception e) {
           context.error(
@@ -25,9 +25,11 @@
 package org.javahelpers.simple.builders.processor.generators.util;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import org.apache.commons.lang3.StringUtils;
 import org.javahelpers.simple.builders.core.enums.AccessModifier;
 import org.javahelpers.simple.builders.processor.analysis.JavaLangMapper;
@@ -40,6 +42,7 @@ import org.javahelpers.simple.builders.processor.model.type.TypeName;
 import org.javahelpers.simple.builders.processor.model.type.TypeNameGeneric;
 import org.javahelpers.simple.builders.processor.model.type.TypeNameList;
 import org.javahelpers.simple.builders.processor.model.type.TypeNameMap;
+import org.javahelpers.simple.builders.processor.model.type.TypeNamePrimitive;
 import org.javahelpers.simple.builders.processor.model.type.TypeNameSet;
 import org.javahelpers.simple.builders.processor.model.type.TypeNameVariable;
 import org.javahelpers.simple.builders.processor.processing.ProcessingContext;
@@ -60,6 +63,10 @@ public final class MethodGeneratorUtil {
   public static final TypeName TRACKED_VALUE_TYPE =
       TypeName.of(org.javahelpers.simple.builders.core.util.TrackedValue.class);
 
+  /** Runtime helpers shared by all generated builders, to keep their bytecode small. */
+  public static final TypeName BUILDER_SUPPORT_TYPE =
+      TypeName.of(org.javahelpers.simple.builders.core.util.BuilderSupport.class);
+
   private MethodGeneratorUtil() {
     // Utility class - prevent instantiation
   }
@@ -90,6 +97,39 @@ public final class MethodGeneratorUtil {
     return suffix + StringUtils.capitalize(fieldName);
   }
 
+  /**
+   * Converts a field name to the name of a constant, e.g. {@code firstName} to {@code FIRST_NAME}.
+   *
+   * @param fieldName the field name
+   * @return the name of the constant
+   */
+  public static String toConstantName(String fieldName) {
+    return fieldName.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase(Locale.ROOT);
+  }
+
+  /**
+   * Finds the name of the accessible builder method setting a field with a value of exactly the
+   * type of the field. Used by generators calling the builder from generated code.
+   *
+   * @param field the field of the builder
+   * @param context the processing context containing the configuration with the method name prefix
+   * @return the name of the setter, empty if the builder has no such non-private method
+   */
+  public static Optional<String> findBasicSetterName(FieldDto field, ProcessingContext context) {
+    String setterName = generateBuilderMethodName(field.getOriginalFieldName(), context);
+    boolean hasSetter =
+        field.getMethods().stream()
+            .anyMatch(
+                method ->
+                    method.getMethodName().equals(setterName)
+                        && method.getParameters().size() == 1
+                        && field
+                            .getFieldType()
+                            .equals(method.getParameters().get(0).getParameterType())
+                        && method.getModifier().filter(AccessModifier.PRIVATE::equals).isEmpty());
+    return hasSetter ? Optional.of(setterName) : Optional.empty();
+  }
+
   /**
    * Gets the access modifier for methods from the processing context.
    *
@@ -117,6 +157,21 @@ public final class MethodGeneratorUtil {
     return method;
   }
 
+  /**
+   * Sets the Javadoc of a method if the output profile renders it. The Javadoc is only created in
+   * that case, so profiles without method Javadoc skip building it.
+   *
+   * @param method the method to document, its entry point role has to be set already
+   * @param context the processing context providing the output profile
+   * @param javadoc creates the Javadoc
+   */
+  public static void setJavadoc(
+      BuilderMethodDto method, ProcessingContext context, Supplier<JavadocDto> javadoc) {
+    if (context.getConfiguration().shouldGenerateJavadoc(method.isEntryPoint())) {
+      method.setJavadoc(javadoc.get());
+    }
+  }
+
   /**
    * Creates a generic TypeName from a base type and generic parameters.
    *
@@ -143,6 +198,32 @@ public final class MethodGeneratorUtil {
     return new TypeNameGeneric(baseType, typeVariables);
   }
 
+  /**
+   * Returns the boxed type for primitive types, as values are stored boxed in the builder fields.
+   * All other types are returned as-is.
+   *
+   * @param type the type to box
+   * @return the boxed type for primitives, otherwise the type itself
+   */
+  public static TypeName boxedType(TypeName type) {
+    if (!(type instanceof TypeNamePrimitive primitive)) {
+      return type;
+    }
+    Class<?> boxedClass =
+        switch (primitive.getType()) {
+          case BOOLEAN -> Boolean.class;
+          case BYTE -> Byte.class;
+          case SHORT -> Short.class;
+          case INT -> Integer.class;
+          case LONG -> Long.class;
+          case CHAR -> Character.class;
+          case FLOAT -> Float.class;
+          case DOUBLE -> Double.class;
+          case VOID -> Void.class;
+        };
+    return TypeName.of(boxedClass);
+  }
+
   /**
    * Creates a field setter method with optional transform and annotations.
    *
@@ -193,10 +274,13 @@ public final class MethodGeneratorUtil {
         transform == null ? BuilderMethodDto.PRIORITY_HIGHEST : BuilderMethodDto.PRIORITY_HIGH);
 
     String fieldJavadocDesc = field.getJavaDocDescriptionOrFieldName();
-    methodDto.setJavadoc(
-        new JavadocDto("Sets the value for <code>%s</code>.", field.getOriginalFieldName())
-            .addParam(parameter.getParameterName(), fieldJavadocDesc)
-            .addReturn(JavadocConstants.RETURN_BUILDER_INSTANCE));
+    setJavadoc(
+        methodDto,
+        context,
+        () ->
+            new JavadocDto("Sets the value for <code>%s</code>.", field.getOriginalFieldName())
+                .addParam(parameter.getParameterName(), fieldJavadocDesc)
+                .addReturn(JavadocConstants.RETURN_BUILDER_INSTANCE));
 
     return methodDto;
   }
@@ -241,6 +325,7 @@ public final class MethodGeneratorUtil {
         return this;
         """
             .formatted(existingValueConstructorArgs, emptyConstructorArgs));
+    methodDto.setReadingFieldState(true);
     methodDto.addArgument("fieldName", field.getFieldNameInBuilder());
     methodDto.addArgument("dtoMethodParam", parameter.getParameterName());
     methodDto.addArgument("helperType", fieldBuilderType);
@@ -249,15 +334,18 @@ public final class MethodGeneratorUtil {
     methodDto.addArgument("builderFieldWrapper", TRACKED_VALUE_TYPE);
     methodDto.setPriority(BuilderMethodDto.PRIORITY_MEDIUM);
     String fieldJavadocDesc = field.getJavaDocDescriptionOrFieldName();
-    methodDto.setJavadoc(
-        new JavadocDto(
-                "Sets the value for <code>%s</code> using a builder consumer that produces the value.",
-                field.getFieldNameInBuilder())
-            .addParam(
-                parameter.getParameterName(),
-                "consumer providing an instance of a builder for %s",
-                fieldJavadocDesc)
-            .addReturn(JavadocConstants.RETURN_BUILDER_INSTANCE));
+    setJavadoc(
+        methodDto,
+        context,
+        () ->
+            new JavadocDto(
+                    "Sets the value for <code>%s</code> using a builder consumer that produces the value.",
+                    field.getFieldNameInBuilder())
+                .addParam(
+                    parameter.getParameterName(),
+                    "consumer providing an instance of a builder for %s",
+                    fieldJavadocDesc)
+                .addReturn(JavadocConstants.RETURN_BUILDER_INSTANCE));
 
     return methodDto;
   }
@@ -373,6 +461,7 @@ public final class MethodGeneratorUtil {
         this.$fieldName:N = $builderFieldWrapper:T.changedValue(consumer);
         return this;
         """);
+    methodDto.setReadingFieldState(true);
     methodDto.addArgument("fieldName", field.getFieldNameInBuilder());
     methodDto.addArgument("dtoMethodParam", parameter.getParameterName());
     methodDto.addArgument("helperType", fieldType);
@@ -380,15 +469,18 @@ public final class MethodGeneratorUtil {
     methodDto.setPriority(BuilderMethodDto.PRIORITY_MEDIUM);
 
     String fieldJavadocDesc = field.getJavaDocDescriptionOrFieldName();
-    methodDto.setJavadoc(
-        new JavadocDto(
-                "Sets the value for <code>%s</code> by executing the provided consumer.",
-                field.getOriginalFieldName())
-            .addParam(
-                parameter.getParameterName(),
-                "consumer providing an instance of %s",
-                fieldJavadocDesc)
-            .addReturn(JavadocConstants.RETURN_BUILDER_INSTANCE));
+    setJavadoc(
+        methodDto,
+        context,
+        () ->
+            new JavadocDto(
+                    "Sets the value for <code>%s</code> by executing the provided consumer.",
+                    field.getOriginalFieldName())
+                .addParam(
+                    parameter.getParameterName(),
+                    "consumer providing an instance of %s",
+                    fieldJavadocDesc)
+                .addReturn(JavadocConstants.RETURN_BUILDER_INSTANCE));
 
     return methodDto;
   }
@@ -33,6 +33,7 @@ import org.apache.commons.lang3.builder.ToStringStyle;
 import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
 import org.javahelpers.simple.builders.core.enums.AccessModifier;
 import org.javahelpers.simple.builders.core.enums.OptionState;
+import org.javahelpers.simple.builders.core.enums.OutputProfile;
 
 /**
  * Configuration for builder generation. Combines annotation values with compiler options. Priority:
@@ -42,9 +43,11 @@ import org.javahelpers.simple.builders.core.enums.OptionState;
  * reflection.
  *
  * @param generateFieldSupplier Generate field supplier methods
+ * @param deferFieldSupplier Invoke field suppliers when the value is needed
  * @param generateFieldConsumer Generate field consumer methods
  * @param generateBuilderConsumer Generate builder consumer methods
  * @param generateConditionalHelper Generate conditional logic methods
+ * @param generateWhenView Generate when(boolean) view with conditional setters
  * @param builderAccess Access level for builder class
  * @param builderConstructorAccess Access level for builder constructors
  * @param methodAccess Access level for setter/fluent methods (NOT build() or create() which are
@@ -58,19 +61,35 @@ import org.javahelpers.simple.builders.core.enums.OptionState;
  * @param usingHashSetBuilder Use HashSetBuilder for sets
  * @param usingHashSetBuilderWithElementBuilders Use HashSetBuilderWithElementBuilders
  * @param usingHashMapBuilder Use HashMapBuilder for maps
+ * @param usingConcurrentCollectionBuilders Use the thread-safe collection builders in consumer
+ *     methods
  * @param usingGeneratedAnnotation Use Generated annotation
  * @param usingBuilderImplementationAnnotation Use BuilderImplementation annotation
  * @param implementsBuilderBase Implement IBuilderBase interface
  * @param generateWithInterface Generate With interface
+ * @param lazyCopyConstructor Read values of the from-instance constructor lazily from the source
+ * @param generatePartialUpdate Generate changedFields() and applyTo(target) for partial updates
+ * @param generateFieldAccess Generate field descriptors and indexed get/set methods instance
+ * @param generateMapConversion Generate fromMap(Map) and toMap(dto) conversion methods
+ * @param generateMerge whether to generate merge and collector methods
+ * @param generateAsyncBuild Generate CompletionStage setters and buildAsync
+ * @param generateRowMapper whether to generate a row mapper class for result sets and arrays
+ * @param generateBinaryCodec whether to generate a binary codec class
+ * @param generateFlyweightView whether to generate a flyweight view class
+ * @param generateColumnarBatch whether to generate a columnar batch class
+ * @param generateMappedStore whether to generate a memory-mapped store class
  * @param builderSuffix Suffix for builder class name
  * @param setterSuffix Suffix for setter method names
+ * @param outputProfile Amount of Javadoc and metadata emitted into generated sources
  * @param strict Strict/fail-fast generation mode
  */
 public record BuilderConfiguration(
     OptionState generateFieldSupplier,
+    OptionState deferFieldSupplier,
     OptionState generateFieldConsumer,
     OptionState generateBuilderConsumer,
     OptionState generateConditionalHelper,
+    OptionState generateWhenView,
     AccessModifier builderAccess,
     AccessModifier builderConstructorAccess,
     AccessModifier methodAccess,
@@ -84,23 +103,38 @@ public record BuilderConfiguration(
     OptionState usingHashSetBuilder,
     OptionState usingHashSetBuilderWithElementBuilders,
     OptionState usingHashMapBuilder,
+    OptionState usingConcurrentCollectionBuilders,
     OptionState usingGeneratedAnnotation,
     OptionState usingBuilderImplementationAnnotation,
     OptionState implementsBuilderBase,
     OptionState generateWithInterface,
+    OptionState lazyCopyConstructor,
+    OptionState generatePartialUpdate,
+    OptionState generateFieldAccess,
+    OptionState generateMapConversion,
+    OptionState generateMerge,
+    OptionState generateAsyncBuild,
+    OptionState generateRowMapper,
+    OptionState generateBinaryCodec,
+    OptionState generateFlyweightView,
+    OptionState generateColumnarBatch,
+    OptionState generateMappedStore,
     OptionState usingJacksonDeserializerAnnotation,
     OptionState generateJacksonModule,
     String jacksonModulePackage,
     String builderSuffix,
     String setterSuffix,
+    OutputProfile outputProfile,
     OptionState strict) {
 
   public static final BuilderConfiguration DEFAULT =
       builder()
           .generateSupplier(ENABLED)
+          .deferFieldSupplier(DISABLED)
           .generateConsumer(ENABLED)
           .generateBuilderConsumer(ENABLED)
           .generateConditionalLogic(ENABLED)
+          .generateWhenView(DISABLED)
           .builderAccess(PUBLIC)
           .builderConstructorAccess(PUBLIC)
           .methodAccess(PUBLIC)
@@ -114,15 +148,28 @@ public record BuilderConfiguration(
           .usingHashSetBuilder(ENABLED)
           .usingHashSetBuilderWithElementBuilders(ENABLED)
           .usingHashMapBuilder(ENABLED)
+          .usingConcurrentCollectionBuilders(DISABLED)
           .usingGeneratedAnnotation(ENABLED)
           .usingBuilderImplementationAnnotation(ENABLED)
           .implementsBuilderBase(ENABLED)
           .generateWithInterface(ENABLED)
+          .lazyCopyConstructor(DISABLED)
+          .generatePartialUpdate(DISABLED)
+          .generateFieldAccess(DISABLED)
+          .generateMapConversion(DISABLED)
+          .generateMerge(DISABLED)
+          .generateAsyncBuild(DISABLED)
+          .generateRowMapper(DISABLED)
+          .generateBinaryCodec(DISABLED)
+          .generateFlyweightView(DISABLED)
+          .generateColumnarBatch(DISABLED)
+          .generateMappedStore(DISABLED)
           .usingJacksonDeserializerAnnotation(DISABLED)
           .generateJacksonModule(DISABLED)
           .jacksonModulePackage(null)
           .builderSuffix("Builder")
           .setterSuffix("")
+          .outputProfile(OutputProfile.FULL)
           .strict(DISABLED)
           .build();
 
@@ -131,6 +178,10 @@ public record BuilderConfiguration(
     return generateFieldSupplier == ENABLED;
   }
 
+  public boolean shouldDeferFieldSupplier() {
+    return deferFieldSupplier == ENABLED;
+  }
+
   public boolean shouldGenerateFieldConsumer() {
     return generateFieldConsumer == ENABLED;
   }
@@ -143,10 +194,58 @@ public record BuilderConfiguration(
     return generateConditionalHelper == ENABLED;
   }
 
+  public boolean shouldGenerateWhenView() {
+    return generateWhenView == ENABLED;
+  }
+
   public boolean shouldGenerateWithInterface() {
     return generateWithInterface == ENABLED;
   }
 
+  public boolean shouldUseLazyCopyConstructor() {
+    return lazyCopyConstructor == ENABLED;
+  }
+
+  public boolean shouldGeneratePartialUpdate() {
+    return generatePartialUpdate == ENABLED;
+  }
+
+  public boolean shouldGenerateFieldAccess() {
+    return generateFieldAccess == ENABLED;
+  }
+
+  public boolean shouldGenerateMapConversion() {
+    return generateMapConversion == ENABLED;
+  }
+
+  public boolean shouldGenerateMerge() {
+    return generateMerge == ENABLED;
+  }
+
+  public boolean shouldGenerateAsyncBuild() {
+    return generateAsyncBuild == ENABLED;
+  }
+
+  public boolean shouldGenerateRowMapper() {
+    return generateRowMapper == ENABLED;
+  }
+
+  public boolean shouldGenerateBinaryCodec() {
+    return generateBinaryCodec == ENABLED;
+  }
+
+  public boolean shouldGenerateFlyweightView() {
+    return generateFlyweightView == ENABLED;
+  }
+
+  public boolean shouldGenerateColumnarBatch() {
+    return generateColumnarBatch == ENABLED;
+  }
+
+  public boolean shouldGenerateMappedStore() {
+    return generateMappedStore == ENABLED;
+  }
+
   public boolean shouldUseJacksonDeserializerAnnotation() {
     return usingJacksonDeserializerAnnotation == ENABLED;
   }
@@ -187,6 +286,10 @@ public record BuilderConfiguration(
     return usingHashMapBuilder == ENABLED;
   }
 
+  public boolean shouldUseConcurrentCollectionBuilders() {
+    return usingConcurrentCollectionBuilders == ENABLED;
+  }
+
   public boolean shouldGenerateUnboxedOptional() {
     return generateUnboxedOptional == ENABLED;
   }
@@ -232,6 +335,29 @@ public record BuilderConfiguration(
     return setterSuffix;
   }
 
+  public OutputProfile getOutputProfile() {
+    return outputProfile;
+  }
+
+  public boolean shouldGenerateJavadoc() {
+    return outputProfile != OutputProfile.LEAN;
+  }
+
+  /**
+   * Checks whether the output profile renders the Javadoc of a builder method.
+   *
+   * @param entryPoint whether the method is an entry point of the builder, see {@link
+   *     org.javahelpers.simple.builders.processor.model.method.BuilderMethodDto#isEntryPoint()}
+   * @return {@code true} if the Javadoc of the method is rendered
+   */
+  public boolean shouldGenerateJavadoc(boolean entryPoint) {
+    return switch (outputProfile) {
+      case LEAN -> false;
+      case API_ONLY -> entryPoint;
+      default -> true;
+    };
+  }
+
   public boolean isStrictModeEnabled() {
     return strict == ENABLED;
   }
@@ -253,11 +379,13 @@ public record BuilderConfiguration(
 
     return BuilderConfiguration.builder()
         .generateSupplier(mergeOptionState(other.generateFieldSupplier, this.generateFieldSupplier))
+        .deferFieldSupplier(mergeOptionState(other.deferFieldSupplier, this.deferFieldSupplier))
         .generateConsumer(mergeOptionState(other.generateFieldConsumer, this.generateFieldConsumer))
         .generateBuilderConsumer(
             mergeOptionState(other.generateBuilderConsumer, this.generateBuilderConsumer))
         .generateConditionalLogic(
             mergeOptionState(other.generateConditionalHelper, this.generateConditionalHelper))
+        .generateWhenView(mergeOptionState(other.generateWhenView, this.generateWhenView))
         .builderAccess(mergeAccessModifier(other.builderAccess, this.builderAccess))
         .builderConstructorAccess(
             mergeAccessModifier(other.builderConstructorAccess, this.builderConstructorAccess))
@@ -284,6 +412,9 @@ public record BuilderConfiguration(
                 other.usingHashSetBuilderWithElementBuilders,
                 this.usingHashSetBuilderWithElementBuilders))
         .usingHashMapBuilder(mergeOptionState(other.usingHashMapBuilder, this.usingHashMapBuilder))
+        .usingConcurrentCollectionBuilders(
+            mergeOptionState(
+                other.usingConcurrentCollectionBuilders, this.usingConcurrentCollectionBuilders))
         .usingGeneratedAnnotation(
             mergeOptionState(other.usingGeneratedAnnotation, this.usingGeneratedAnnotation))
         .usingBuilderImplementationAnnotation(
@@ -294,6 +425,21 @@ public record BuilderConfiguration(
             mergeOptionState(other.implementsBuilderBase, this.implementsBuilderBase))
         .generateWithInterface(
             mergeOptionState(other.generateWithInterface, this.generateWithInterface))
+        .lazyCopyConstructor(mergeOptionState(other.lazyCopyConstructor, this.lazyCopyConstructor))
+        .generatePartialUpdate(
+            mergeOptionState(other.generatePartialUpdate, this.generatePartialUpdate))
+        .generateFieldAccess(mergeOptionState(other.generateFieldAccess, this.generateFieldAccess))
+        .generateMapConversion(
+            mergeOptionState(other.generateMapConversion, this.generateMapConversion))
+        .generateMerge(mergeOptionState(other.generateMerge, this.generateMerge))
+        .generateAsyncBuild(mergeOptionState(other.generateAsyncBuild, this.generateAsyncBuild))
+        .generateRowMapper(mergeOptionState(other.generateRowMapper, this.generateRowMapper))
+        .generateBinaryCodec(mergeOptionState(other.generateBinaryCodec, this.generateBinaryCodec))
+        .generateFlyweightView(
+            mergeOptionState(other.generateFlyweightView, this.generateFlyweightView))
+        .generateColumnarBatch(
+            mergeOptionState(other.generateColumnarBatch, this.generateColumnarBatch))
+        .generateMappedStore(mergeOptionState(other.generateMappedStore, this.generateMappedStore))
         .usingJacksonDeserializerAnnotation(
             mergeOptionState(
                 other.usingJacksonDeserializerAnnotation, this.usingJacksonDeserializerAnnotation))
@@ -302,6 +448,7 @@ public record BuilderConfiguration(
         .jacksonModulePackage(mergeString(other.jacksonModulePackage, this.jacksonModulePackage))
         .builderSuffix(mergeString(other.builderSuffix, this.builderSuffix))
         .setterSuffix(mergeString(other.setterSuffix, this.setterSuffix))
+        .outputProfile(mergeOutputProfile(other.outputProfile, this.outputProfile))
         .strict(mergeOptionState(other.strict, this.strict))
         .build();
   }
@@ -329,6 +476,17 @@ public record BuilderConfiguration(
     return other != AccessModifier.DEFAULT ? other : thisValue;
   }
 
+  /**
+   * Merges two OutputProfile values, preferring the other value if it's not DEFAULT.
+   *
+   * @param other the other value (higher priority)
+   * @param thisValue the current value (lower priority)
+   * @return the merged value
+   */
+  private static OutputProfile mergeOutputProfile(OutputProfile other, OutputProfile thisValue) {
+    return other != OutputProfile.DEFAULT ? other : thisValue;
+  }
+
   /**
    * Merges two String values, preferring the other value if it's not null.
    *
@@ -347,9 +505,11 @@ public record BuilderConfiguration(
   public String toString() {
     return new ConfigToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
         .appendValueIfSet("generateFieldSupplier", generateFieldSupplier)
+        .appendValueIfSet("deferFieldSupplier", deferFieldSupplier)
         .appendValueIfSet("generateFieldConsumer", generateFieldConsumer)
         .appendValueIfSet("generateBuilderConsumer", generateBuilderConsumer)
         .appendValueIfSet("generateConditionalHelper", generateConditionalHelper)
+        .appendValueIfSet("generateWhenView", generateWhenView)
         .appendIfNotDefault("builderAccess", builderAccess)
         .appendIfNotDefault("methodAccess", methodAccess)
         .appendValueIfSet("generateVarArgsHelpers", generateVarArgsHelpers)
@@ -362,12 +522,25 @@ public record BuilderConfiguration(
         .appendValueIfSet(
             "usingHashSetBuilderWithElementBuilders", usingHashSetBuilderWithElementBuilders)
         .appendValueIfSet("usingHashMapBuilder", usingHashMapBuilder)
+        .appendValueIfSet("usingConcurrentCollectionBuilders", usingConcurrentCollectionBuilders)
         .appendValueIfSet("generateWithInterface", generateWithInterface)
+        .appendValueIfSet("lazyCopyConstructor", lazyCopyConstructor)
+        .appendValueIfSet("generatePartialUpdate", generatePartialUpdate)
+        .appendValueIfSet("generateFieldAccess", generateFieldAccess)
+        .appendValueIfSet("generateMapConversion", generateMapConversion)
+        .appendValueIfSet("generateMerge", generateMerge)
+        .appendValueIfSet("generateAsyncBuild", generateAsyncBuild)
+        .appendValueIfSet("generateRowMapper", generateRowMapper)
+        .appendValueIfSet("generateBinaryCodec", generateBinaryCodec)
+        .appendValueIfSet("generateFlyweightView", generateFlyweightView)
+        .appendValueIfSet("generateColumnarBatch", generateColumnarBatch)
+        .appendValueIfSet("generateMappedStore", generateMappedStore)
         .appendValueIfSet("usingJacksonDeserializerAnnotation", usingJacksonDeserializerAnnotation)
         .appendValueIfSet("generateJacksonModule", generateJacksonModule)
         .appendIfNotEmpty("jacksonModulePackage", jacksonModulePackage)
         .appendIfNotEmpty("builderSuffix", builderSuffix)
         .appendIfNotEmpty("setterSuffix", setterSuffix)
+        .appendIfNotDefault("outputProfile", outputProfile)
         .appendValueIfSet("strict", strict)
         .toString();
   }
@@ -394,6 +567,13 @@ public record BuilderConfiguration(
       return this;
     }
 
+    public ConfigToStringBuilder appendIfNotDefault(String fieldName, OutputProfile value) {
+      if (value != OutputProfile.DEFAULT) {
+        builder.append(fieldName, value);
+      }
+      return this;
+    }
+
     public ConfigToStringBuilder appendValueIfSet(String fieldName, OptionState optionState) {
       if (optionState != OptionState.UNSET) {
         builder.append(fieldName, optionState);
@@ -411,11 +591,13 @@ public record BuilderConfiguration(
   public static class Builder {
     // === Field Setter Generation ===
     private OptionState generateFieldSupplier = OptionState.UNSET;
+    private OptionState deferFieldSupplier = OptionState.UNSET;
     private OptionState generateFieldConsumer = OptionState.UNSET;
     private OptionState generateBuilderConsumer = OptionState.UNSET;
 
     // === Conditional Logic ===
     private OptionState generateConditionalHelper = OptionState.UNSET;
+    private OptionState generateWhenView = OptionState.UNSET;
 
     // === Access Control ===
     private AccessModifier builderAccess = AccessModifier.DEFAULT;
@@ -433,6 +615,7 @@ public record BuilderConfiguration(
     private OptionState usingHashSetBuilder = OptionState.UNSET;
     private OptionState usingHashSetBuilderWithElementBuilders = OptionState.UNSET;
     private OptionState usingHashMapBuilder = OptionState.UNSET;
+    private OptionState usingConcurrentCollectionBuilders = OptionState.UNSET;
 
     // === Annotations ===
     private OptionState usingGeneratedAnnotation = OptionState.UNSET;
@@ -441,6 +624,17 @@ public record BuilderConfiguration(
     // === Integration ===
     private OptionState implementsBuilderBase = OptionState.UNSET;
     private OptionState generateWithInterface = OptionState.UNSET;
+    private OptionState lazyCopyConstructor = OptionState.UNSET;
+    private OptionState generatePartialUpdate = OptionState.UNSET;
+    private OptionState generateFieldAccess = OptionState.UNSET;
+    private OptionState generateMapConversion = OptionState.UNSET;
+    private OptionState generateMerge = OptionState.UNSET;
+    private OptionState generateAsyncBuild = OptionState.UNSET;
+    private OptionState generateRowMapper = OptionState.UNSET;
+    private OptionState generateBinaryCodec = OptionState.UNSET;
+    private OptionState generateFlyweightView = OptionState.UNSET;
+    private OptionState generateColumnarBatch = OptionState.UNSET;
+    private OptionState generateMappedStore = OptionState.UNSET;
     private OptionState usingJacksonDeserializerAnnotation = OptionState.UNSET;
     private OptionState generateJacksonModule = OptionState.UNSET;
     private String jacksonModulePackage = null;
@@ -449,6 +643,9 @@ public record BuilderConfiguration(
     private String builderSuffix = null;
     private String setterSuffix = null;
 
+    // === Output ===
+    private OutputProfile outputProfile = OutputProfile.DEFAULT;
+
     // === Error Handling ===
     private OptionState strict = OptionState.UNSET;
 
@@ -463,6 +660,16 @@ public record BuilderConfiguration(
       return this;
     }
 
+    public Builder deferFieldSupplier(OptionState value) {
+      this.deferFieldSupplier = value;
+      return this;
+    }
+
+    public Builder deferFieldSupplier(boolean value) {
+      this.deferFieldSupplier = value ? ENABLED : DISABLED;
+      return this;
+    }
+
     public Builder generateConsumer(OptionState value) {
       this.generateFieldConsumer = value;
       return this;
@@ -493,6 +700,16 @@ public record BuilderConfiguration(
       return this;
     }
 
+    public Builder generateWhenView(OptionState value) {
+      this.generateWhenView = value;
+      return this;
+    }
+
+    public Builder generateWhenView(boolean value) {
+      this.generateWhenView = value ? ENABLED : DISABLED;
+      return this;
+    }
+
     public Builder generateWithInterface(OptionState value) {
       this.generateWithInterface = value;
       return this;
@@ -503,6 +720,116 @@ public record BuilderConfiguration(
       return this;
     }
 
+    public Builder lazyCopyConstructor(OptionState value) {
+      this.lazyCopyConstructor = value;
+      return this;
+    }
+
+    public Builder lazyCopyConstructor(boolean value) {
+      this.lazyCopyConstructor = value ? ENABLED : DISABLED;
+      return this;
+    }
+
+    public Builder generatePartialUpdate(OptionState value) {
+      this.generatePartialUpdate = value;
+      return this;
+    }
+
+    public Builder generatePartialUpdate(boolean value) {
+      this.generatePartialUpdate = value ? ENABLED : DISABLED;
+      return this;
+    }
+
+    public Builder generateFieldAccess(OptionState value) {
+      this.generateFieldAccess = value;
+      return this;
+    }
+
+    public Builder generateFieldAccess(boolean value) {
+      this.generateFieldAccess = value ? ENABLED : DISABLED;
+      return this;
+    }
+
+    public Builder generateMapConversion(OptionState value) {
+      this.generateMapConversion = value;
+      return this;
+    }
+
+    public Builder generateMapConversion(boolean value) {
+      this.generateMapConversion = value ? ENABLED : DISABLED;
+      return this;
+    }
+
+    public Builder generateMerge(OptionState value) {
+      this.generateMerge = value;
+      return this;
+    }
+
+    public Builder generateMerge(boolean value) {
+      this.generateMerge = value ? ENABLED : DISABLED;
+      return this;
+    }
+
+    public Builder generateAsyncBuild(OptionState value) {
+      this.generateAsyncBuild = value;
+      return this;
+    }
+
+    public Builder generateAsyncBuild(boolean value) {
+      this.generateAsyncBuild = value ? ENABLED : DISABLED;
+      return this;
+    }
+
+    public Builder generateRowMapper(OptionState value) {
+      this.generateRowMapper = value;
+      return this;
+    }
+
+    public Builder generateRowMapper(boolean value) {
+      this.generateRowMapper = value ? ENABLED : DISABLED;
+      return this;
+    }
+
+    public Builder generateBinaryCodec(OptionState value) {
+      this.generateBinaryCodec = value;
+      return this;
+    }
+
+    public Builder generateBinaryCodec(boolean value) {
+      this.generateBinaryCodec = value ? ENABLED : DISABLED;
+      return this;
+    }
+
+    public Builder generateFlyweightView(OptionState value) {
+      this.generateFlyweightView = value;
+      return this;
+    }
+
+    public Builder generateFlyweightView(boolean value) {
+      this.generateFlyweightView = value ? ENABLED : DISABLED;
+      return this;
+    }
+
+    public Builder generateColumnarBatch(OptionState value) {
+      this.generateColumnarBatch = value;
+      return this;
+    }
+
+    public Builder generateColumnarBatch(boolean value) {
+      this.generateColumnarBatch = value ? ENABLED : DISABLED;
+      return this;
+    }
+
+    public Builder generateMappedStore(OptionState value) {
+      this.generateMappedStore = value;
+      return this;
+    }
+
+    public Builder generateMappedStore(boolean value) {
+      this.generateMappedStore = value ? ENABLED : DISABLED;
+      return this;
+    }
+
     public Builder usingJacksonDeserializerAnnotation(OptionState value) {
       this.usingJacksonDeserializerAnnotation = value;
       return this;
@@ -628,6 +955,16 @@ public record BuilderConfiguration(
       return this;
     }
 
+    public Builder usingConcurrentCollectionBuilders(OptionState value) {
+      this.usingConcurrentCollectionBuilders = value;
+      return this;
+    }
+
+    public Builder usingConcurrentCollectionBuilders(boolean value) {
+      this.usingConcurrentCollectionBuilders = value ? ENABLED : DISABLED;
+      return this;
+    }
+
     public Builder usingGeneratedAnnotation(OptionState value) {
       this.usingGeneratedAnnotation = value;
       return this;
@@ -698,6 +1035,16 @@ public record BuilderConfiguration(
       return this;
     }
 
+    public Builder outputProfile(OutputProfile value) {
+      this.outputProfile = value;
+      return this;
+    }
+
+    public Builder outputProfile(String value) {
+      this.outputProfile = OutputProfile.valueOf(value.replace('-', '_').toUpperCase());
+      return this;
+    }
+
     public Builder strict(OptionState value) {
       this.strict = value;
       return this;
@@ -711,9 +1058,11 @@ public record BuilderConfiguration(
     public BuilderConfiguration build() {
       return new BuilderConfiguration(
           generateFieldSupplier,
+          deferFieldSupplier,
           generateFieldConsumer,
           generateBuilderConsumer,
           generateConditionalHelper,
+          generateWhenView,
           builderAccess,
           builderConstructorAccess,
           methodAccess,
@@ -727,15 +1076,28 @@ public record BuilderConfiguration(
           usingHashSetBuilder,
           usingHashSetBuilderWithElementBuilders,
           usingHashMapBuilder,
+          usingConcurrentCollectionBuilders,
           usingGeneratedAnnotation,
           usingBuilderImplementationAnnotation,
           implementsBuilderBase,
           generateWithInterface,
+          lazyCopyConstructor,
+          generatePartialUpdate,
+          generateFieldAccess,
+          generateMapConversion,
+          generateMerge,
+          generateAsyncBuild,
+          generateRowMapper,
+          generateBinaryCodec,
+          generateFlyweightView,
+          generateColumnarBatch,
+          generateMappedStore,
           usingJacksonDeserializerAnnotation,
           generateJacksonModule,
           jacksonModulePackage,
           builderSuffix,
           setterSuffix,
+          outputProfile,
           strict);
     }
   }
@@ -25,8 +25,10 @@
 package org.javahelpers.simple.builders.processor.model.core;
 
 import org.apache.commons.lang3.StringUtils;
+import org.javahelpers.simple.builders.core.enums.OutputProfile;
 import org.javahelpers.simple.builders.processor.model.javadoc.JavadocDto;
 import org.javahelpers.simple.builders.processor.model.method.BuilderMethodDto;
+import org.javahelpers.simple.builders.processor.model.method.ConstructorDto;
 import org.javahelpers.simple.builders.processor.model.method.MethodCodePlaceholder;
 import org.javahelpers.simple.builders.processor.model.method.MethodCodeStringPlaceholder;
 import org.javahelpers.simple.builders.processor.model.method.MethodCodeTypePlaceholder;
@@ -41,7 +43,16 @@ import org.javahelpers.simple.builders.processor.model.type.NestedTypeDto;
  *
  * <p>This mapper copies all rendering-relevant fields from the generation DTOs to the rendering
  * DTOs. Generation-only fields ({@code sourceFieldName}, {@code constructorField}, {@code
- * exampleChainFragment}) are not mapped.
+ * exampleChainFragment}, {@code readingFieldState}, {@code entryPoint}) are not mapped.
+ *
+ * <p>The {@link OutputProfile} of the builder configuration decides which Javadoc is handed to the
+ * renderer: {@code LEAN} drops all of it, {@code API_ONLY} keeps it only for the class, the
+ * constructors and the entry point methods (see {@link BuilderMethodDto#isEntryPoint()}). The
+ * built-in generators do not create method Javadoc the profile drops, see {@link
+ * org.javahelpers.simple.builders.processor.generators.util.MethodGeneratorUtil#setJavadoc}; the
+ * mapper drops what other generators set anyway. Dropped Javadoc is never enriched, formatted or
+ * written. {@link #applyOutputProfile} applies the same rules to the classes generated next to the
+ * builder.
  */
 public class BuilderToGenerationTypeMapper {
 
@@ -60,17 +71,30 @@ public class BuilderToGenerationTypeMapper {
    * @return the rendering DTO for code generation
    */
   public static GenerationTargetClassDto toRenderingDto(BuilderDefinitionDto builderDto) {
+    OutputProfile profile = outputProfileOf(builderDto);
+    boolean lean = profile == OutputProfile.LEAN;
+
     GenerationTargetClassDto renderingDto = new GenerationTargetClassDto();
     renderingDto.setTypeName(builderDto.getTypeName());
     renderingDto.setClassAccessModifier(builderDto.getClassAccessModifier());
     renderingDto.setSuperType(builderDto.getSuperType());
-    renderingDto.setClassJavadoc(builderDto.getClassJavadoc());
+    renderingDto.setClassJavadoc(lean ? null : builderDto.getClassJavadoc());
 
     // Copy class fields
-    builderDto.getClassFields().forEach(renderingDto::addClassField);
+    for (ClassFieldDto classField : builderDto.getClassFields()) {
+      if (profile != OutputProfile.FULL) {
+        classField.setJavadoc(null);
+      }
+      renderingDto.addClassField(classField);
+    }
 
     // Copy constructors
-    builderDto.getConstructors().forEach(renderingDto::addConstructor);
+    for (ConstructorDto constructor : builderDto.getConstructors()) {
+      if (lean) {
+        constructor.setJavadoc(null);
+      }
+      renderingDto.addConstructor(constructor);
+    }
 
     // Copy generics
     builderDto.getGenerics().forEach(renderingDto::addGeneric);
@@ -87,28 +111,81 @@ public class BuilderToGenerationTypeMapper {
     // Map and copy methods from fields
     for (FieldDto field : builderDto.getConstructorFieldsForBuilder()) {
       for (BuilderMethodDto method : field.getMethods()) {
-        renderingDto.addMethod(toMethodDto(method));
+        renderingDto.addMethod(toMethodDto(method, profile));
       }
     }
     for (FieldDto field : builderDto.getSetterFieldsForBuilder()) {
       for (BuilderMethodDto method : field.getMethods()) {
-        renderingDto.addMethod(toMethodDto(method));
+        renderingDto.addMethod(toMethodDto(method, profile));
       }
     }
 
     // Map and copy builder-level methods from enhancers
     for (BuilderMethodDto classMethod : builderDto.getMethods()) {
-      renderingDto.addMethod(toMethodDto(classMethod));
+      renderingDto.addMethod(toMethodDto(classMethod, profile));
     }
 
     // Map and copy nested types from enhancers
     for (BuilderNestedTypeDto builderNestedType : builderDto.getNestedTypes()) {
-      renderingDto.addNestedType(toNestedTypeDto(builderNestedType));
+      renderingDto.addNestedType(toNestedTypeDto(builderNestedType, profile));
     }
 
     return renderingDto;
   }
 
+  /**
+   * Drops the Javadoc of a class generated next to a builder, like a row mapper or a binary codec,
+   * that the output profile of the builder does not render. The same rules as for the builder
+   * apply; methods of such classes are no entry points of the builder, so {@code API_ONLY} keeps
+   * only the Javadoc of the class and its constructors.
+   *
+   * @param classDef the rendering DTO of the generated class
+   * @param builderDto the builder the class is generated for
+   * @return the given rendering DTO
+   */
+  public static GenerationTargetClassDto applyOutputProfile(
+      GenerationTargetClassDto classDef, BuilderDefinitionDto builderDto) {
+    OutputProfile profile = outputProfileOf(builderDto);
+    if (profile == OutputProfile.FULL) {
+      return classDef;
+    }
+    boolean lean = profile == OutputProfile.LEAN;
+    if (lean) {
+      classDef.setClassJavadoc(null);
+      classDef.getConstructors().forEach(constructor -> constructor.setJavadoc(null));
+    }
+    classDef.getClassFields().forEach(classField -> classField.setJavadoc(null));
+    classDef.getMethods().forEach(method -> method.setJavadoc(null));
+    for (NestedTypeDto nestedType : classDef.getNestedTypes()) {
+      nestedType.setJavadoc(null);
+      nestedType.getMethods().forEach(method -> method.setJavadoc(null));
+    }
+    return classDef;
+  }
+
+  private static OutputProfile outputProfileOf(BuilderDefinitionDto builderDto) {
+    BuilderConfiguration configuration = builderDto.getConfiguration();
+    if (configuration == null || configuration.getOutputProfile() == OutputProfile.DEFAULT) {
+      return OutputProfile.FULL;
+    }
+    return configuration.getOutputProfile();
+  }
+
+  /**
+   * Checks whether the Javadoc of a method is kept for the given output profile.
+   *
+   * @param method the generation DTO of the method
+   * @param profile the output profile of the builder
+   * @return {@code true} if the Javadoc should be rendered
+   */
+  private static boolean keepsJavadoc(BuilderMethodDto method, OutputProfile profile) {
+    return switch (profile) {
+      case LEAN -> false;
+      case API_ONLY -> method.isEntryPoint();
+      default -> true;
+    };
+  }
+
   /**
    * Maps a {@link BuilderMethodDto} to a {@link MethodDto}, enriching the javadoc with the
    * pre-built source description if available.
@@ -117,26 +194,29 @@ public class BuilderToGenerationTypeMapper {
    * (not deep-copied), since the rendering phase only reads from it.
    *
    * @param classMethod the generation DTO to map
+   * @param profile the output profile deciding whether the javadoc is kept
    * @return a new {@link MethodDto} with all rendering fields copied
    */
-  private static MethodDto toMethodDto(BuilderMethodDto classMethod) {
+  private static MethodDto toMethodDto(BuilderMethodDto classMethod, OutputProfile profile) {
     MethodDto method = new MethodDto(classMethod.getMethodName(), classMethod.getReturnType());
     method.setModifier(classMethod.getModifier().orElse(null));
     method.setStatic(classMethod.isStatic());
     method.setOrdering(classMethod.getOrdering());
 
     // Enrich javadoc with pre-built source description if source field is known
-    JavadocDto javadoc = classMethod.getJavadoc();
-    if (StringUtils.isNotBlank(classMethod.getSourceFieldName())) {
-      if (javadoc == null) {
-        javadoc = new JavadocDto();
-      }
-      String sourceDescription = classMethod.getSourceDescription();
-      if (sourceDescription != null) {
-        javadoc.appendDescriptionLine(sourceDescription);
+    if (keepsJavadoc(classMethod, profile)) {
+      JavadocDto javadoc = classMethod.getJavadoc();
+      if (StringUtils.isNotBlank(classMethod.getSourceFieldName())) {
+        if (javadoc == null) {
+          javadoc = new JavadocDto();
+        }
+        String sourceDescription = classMethod.getSourceDescription();
+        if (sourceDescription != null) {
+          javadoc.appendDescriptionLine(sourceDescription);
+        }
       }
+      method.setJavadoc(javadoc);
     }
-    method.setJavadoc(javadoc);
     classMethod.getAnnotations().forEach(method::addAnnotation);
     classMethod.getParameters().forEach(method::addParameter);
     classMethod.getGenericParameters().forEach(method::addGenericParameter);
@@ -164,16 +244,23 @@ public class BuilderToGenerationTypeMapper {
    * annotations, and methods (mapped via {@link #toMethodDto}).
    *
    * @param builderNestedType the generation DTO to map
+   * @param profile the output profile deciding which javadoc is kept
    * @return a new {@link NestedTypeDto} with all rendering fields copied
    */
-  public static NestedTypeDto toNestedTypeDto(BuilderNestedTypeDto builderNestedType) {
+  public static NestedTypeDto toNestedTypeDto(
+      BuilderNestedTypeDto builderNestedType, OutputProfile profile) {
     NestedTypeDto nestedType = new NestedTypeDto();
     nestedType.setTypeName(builderNestedType.getTypeName());
     nestedType.setKind(builderNestedType.getKind());
     nestedType.setVisibility(builderNestedType.getVisibility());
-    nestedType.setJavadoc(builderNestedType.getJavadoc());
+    if (profile == OutputProfile.FULL) {
+      nestedType.setJavadoc(builderNestedType.getJavadoc());
+    }
     builderNestedType.getAnnotations().forEach(nestedType::addAnnotation);
-    builderNestedType.getMethods().forEach(method -> nestedType.addMethod(toMethodDto(method)));
+    builderNestedType.getEnumConstants().forEach(nestedType::addEnumConstant);
+    builderNestedType
+        .getMethods()
+        .forEach(method -> nestedType.addMethod(toMethodDto(method, profile)));
     return nestedType;
   }
 }
@@ -54,6 +54,12 @@ public class ClassFieldDto {
   /** Field visibility. */
   private AccessModifier visibility = PRIVATE;
 
+  /** Whether the field is static. */
+  private boolean isStatic = false;
+
+  /** Whether the field is final. */
+  private boolean isFinal = false;
+
   /** Literal initializer (e.g., "exampleValue" like in {@code String field="exampleValue";}). */
   private String literalInitializer;
 
@@ -92,6 +98,22 @@ public class ClassFieldDto {
     this.visibility = visibility;
   }
 
+  public boolean isStatic() {
+    return isStatic;
+  }
+
+  public void setStatic(boolean isStatic) {
+    this.isStatic = isStatic;
+  }
+
+  public boolean isFinal() {
+    return isFinal;
+  }
+
+  public void setFinal(boolean isFinal) {
+    this.isFinal = isFinal;
+  }
+
   public String getLiteralInitializer() {
     return literalInitializer;
   }
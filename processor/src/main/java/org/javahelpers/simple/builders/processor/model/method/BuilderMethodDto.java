@@ -106,6 +106,18 @@ public class BuilderMethodDto {
   /** Whether this method was generated for a constructor field (vs a setter field). */
   private boolean constructorField;
 
+  /** Whether the code of this method reads the current state of the fields of this builder. */
+  private boolean readingFieldState;
+
+  /** Whether this method is an entry point of the builder, documented by the API-only profile. */
+  private boolean entryPoint;
+
+  /**
+   * Names of parameters of the builder type whose field state is read by the code of this method,
+   * e.g. {@code other} in {@code merge(other)}.
+   */
+  private final List<String> fieldStateParameters = new ArrayList<>();
+
   /** Default constructor. */
   public BuilderMethodDto() {
     // Default constructor
@@ -476,6 +488,68 @@ public class BuilderMethodDto {
     this.constructorField = constructorField;
   }
 
+  /**
+   * Returns whether the code of this method reads the current state of the builder fields, e.g.
+   * {@code this.name.value()} or {@code this.tags.isSet()}. Enhancers which change where that state
+   * comes from, like the lazy copy constructor, rely on this flag instead of inspecting the code.
+   *
+   * @return true if the code reads the state of the builder fields
+   */
+  public boolean isReadingFieldState() {
+    return readingFieldState;
+  }
+
+  /**
+   * Declares whether the code of this method reads the current state of the builder fields. Has to
+   * be set by the code emitting the access.
+   *
+   * @param readingFieldState true if the code reads the state of the builder fields
+   */
+  public void setReadingFieldState(boolean readingFieldState) {
+    this.readingFieldState = readingFieldState;
+  }
+
+  /**
+   * Returns whether this method is an entry point of the builder: a way to obtain a builder, like
+   * {@code create()} or {@code fromMap(..)}, or to obtain the DTO, like {@code build()}. The
+   * API-only output profile keeps the Javadoc of entry points only.
+   *
+   * @return true if this method is an entry point
+   */
+  public boolean isEntryPoint() {
+    return entryPoint;
+  }
+
+  /**
+   * Declares whether this method is an entry point of the builder. Has to be set before the Javadoc
+   * of the method is created.
+   *
+   * @param entryPoint true if this method is an entry point
+   */
+  public void setEntryPoint(boolean entryPoint) {
+    this.entryPoint = entryPoint;
+  }
+
+  /**
+   * Returns the names of parameters of the builder type whose field state is read by the code of
+   * this method.
+   *
+   * @return the parameter names, empty if no other builder is read
+   */
+  public List<String> getFieldStateParameters() {
+    return fieldStateParameters;
+  }
+
+  /**
+   * Declares that the code of this method reads the field state of a parameter of the builder type,
+   * e.g. {@code other.name.value()} in {@code merge(other)}.
+   *
+   * @param parameterName the name of the parameter
+   */
+  public void addFieldStateParameter(String parameterName) {
+    this.fieldStateParameters.add(parameterName);
+  }
+
   /**
    * Comparator for sorting BuilderMethodDto instances with sophisticated ordering rules.
    *
@@ -71,6 +71,9 @@ public class MethodDto {
   /** List of generic type parameters for the method (e.g., <T, K, V>). */
   private final List<GenericParameterDto> genericParameters = new ArrayList<>();
 
+  /** List of checked exceptions declared in the throws clause of the method. */
+  private final List<TypeName> thrownTypes = new ArrayList<>();
+
   /** Definition of inner implementation for method. */
   private final MethodCodeDto methodCodeDto = new MethodCodeDto();
 
@@ -329,6 +332,24 @@ public class MethodDto {
     this.annotations.add(annotation);
   }
 
+  /**
+   * Returns the exceptions declared in the throws clause of this method.
+   *
+   * @return list of thrown exception types
+   */
+  public List<TypeName> getThrownTypes() {
+    return thrownTypes;
+  }
+
+  /**
+   * Adds an exception to the throws clause of this method.
+   *
+   * @param thrownType the exception type to declare
+   */
+  public void addThrownType(TypeName thrownType) {
+    this.thrownTypes.add(thrownType);
+  }
+
   /**
    * Comparator for sorting MethodDto instances with sophisticated ordering rules.
    *
@@ -33,7 +33,8 @@ import org.javahelpers.simple.builders.processor.model.javadoc.JavadocDto;
 import org.javahelpers.simple.builders.processor.model.method.BuilderMethodDto;
 
 /**
- * Generation-side DTO for a nested type (interface or class) to be generated inside the builder.
+ * Generation-side DTO for a nested type (interface, class or enum) to be generated inside the
+ * builder.
  *
  * <p>This is the generation-phase counterpart of {@link NestedTypeDto}. It holds {@link
  * BuilderMethodDto} instances (generation-side method DTOs) and is produced by enhancers. During
@@ -48,7 +49,7 @@ public class BuilderNestedTypeDto {
   /** The simple name of the nested type (e.g., "With"). */
   private String typeName;
 
-  /** The kind of nested type (INTERFACE or CLASS). */
+  /** The kind of nested type (INTERFACE, CLASS or ENUM). */
   private NestedTypeDto.NestedTypeKind kind;
 
   /** Visibility of this nested type. */
@@ -63,6 +64,9 @@ public class BuilderNestedTypeDto {
   /** Type-level annotations for this nested type. */
   private final List<AnnotationDto> annotations = new ArrayList<>();
 
+  /** Names of the enum constants, only used for nested types of kind ENUM. */
+  private final List<String> enumConstants = new ArrayList<>();
+
   public String getTypeName() {
     return typeName;
   }
@@ -110,4 +114,12 @@ public class BuilderNestedTypeDto {
   public void addAnnotation(AnnotationDto annotation) {
     this.annotations.add(annotation);
   }
+
+  public List<String> getEnumConstants() {
+    return enumConstants;
+  }
+
+  public void addEnumConstant(String enumConstant) {
+    this.enumConstants.add(enumConstant);
+  }
 }
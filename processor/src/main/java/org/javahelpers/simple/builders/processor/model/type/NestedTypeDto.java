@@ -33,8 +33,8 @@ import org.javahelpers.simple.builders.processor.model.javadoc.JavadocDto;
 import org.javahelpers.simple.builders.processor.model.method.MethodDto;
 
 /**
- * Rendering-side DTO for a nested type (interface or class) to be generated inside a generated
- * class.
+ * Rendering-side DTO for a nested type (interface, class or enum) to be generated inside a
+ * generated class.
  *
  * <p>It holds {@link MethodDto} instances (rendering-side method DTOs) and is consumed by the code
  * generator.
@@ -46,7 +46,7 @@ public class NestedTypeDto {
   /** The simple name of the nested type (e.g., "With"). */
   private String typeName;
 
-  /** The kind of nested type (INTERFACE or CLASS). */
+  /** The kind of nested type (INTERFACE, CLASS or ENUM). */
   private NestedTypeKind kind;
 
   /** Visibility of this nested type. */
@@ -61,9 +61,13 @@ public class NestedTypeDto {
   /** Type-level annotations for this nested type. */
   private final List<AnnotationDto> annotations = new ArrayList<>();
 
+  /** Names of the enum constants, only used for nested types of kind ENUM. */
+  private final List<String> enumConstants = new ArrayList<>();
+
   public enum NestedTypeKind {
     INTERFACE,
-    CLASS
+    CLASS,
+    ENUM
   }
 
   public String getTypeName() {
@@ -113,4 +117,12 @@ public class NestedTypeDto {
   public void addAnnotation(AnnotationDto annotation) {
     this.annotations.add(annotation);
   }
+
+  public List<String> getEnumConstants() {
+    return enumConstants;
+  }
+
+  public void addEnumConstant(String enumConstant) {
+    this.enumConstants.add(enumConstant);
+  }
 }
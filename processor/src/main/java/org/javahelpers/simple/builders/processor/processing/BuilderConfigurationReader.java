@@ -25,9 +25,11 @@
 package org.javahelpers.simple.builders.processor.processing;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import javax.lang.model.element.AnnotationMirror;
 import javax.lang.model.element.AnnotationValue;
@@ -37,6 +39,7 @@ import javax.lang.model.element.TypeElement;
 import javax.lang.model.util.Elements;
 import org.javahelpers.simple.builders.core.enums.AccessModifier;
 import org.javahelpers.simple.builders.core.enums.OptionState;
+import org.javahelpers.simple.builders.core.enums.OutputProfile;
 import org.javahelpers.simple.builders.processor.exceptions.BuilderException;
 import org.javahelpers.simple.builders.processor.model.core.BuilderConfiguration;
 
@@ -63,6 +66,11 @@ import org.javahelpers.simple.builders.processor.model.core.BuilderConfiguration
  * <p>Custom template annotations are annotations that are themselves meta-annotated with
  * {@code @SimpleBuilder.Template}; they are placed directly on the class or record. Direct
  * annotations always override inherited annotations.
+ *
+ * <p>The configuration of a template annotation type and the merged result per combination of
+ * inherited and direct configuration are cached, as many DTOs share the same templates. Equal
+ * results are interned, so DTOs with the same configuration share one instance. The caches are
+ * cleared by {@link #startRound()}, as types can be regenerated between rounds.
  */
 public class BuilderConfigurationReader {
   private static final String SIMPLE_BUILDER_ANNOTATION =
@@ -76,6 +84,23 @@ public class BuilderConfigurationReader {
   private final ProcessingLogger logger;
   private final Elements elementUtils;
 
+  /** Configuration per template annotation type, empty if the type is no template. */
+  private final Map<String, Optional<BuilderConfiguration>> templateConfigurations =
+      new HashMap<>();
+
+  /** Resolved configuration per combination of inherited and direct configuration. */
+  private final Map<ScopeConfigurations, BuilderConfiguration> resolvedConfigurations =
+      new HashMap<>();
+
+  /** Interned configurations, equal configurations are mapped to the same instance. */
+  private final Map<BuilderConfiguration, BuilderConfiguration> internedConfigurations =
+      new HashMap<>();
+
+  private int templateCacheHits;
+  private int templateCacheMisses;
+  private int resolvedCacheHits;
+  private int resolvedCacheMisses;
+
   /**
    * Creates a new BuilderConfigurationReader.
    *
@@ -99,6 +124,27 @@ public class BuilderConfigurationReader {
     return globalConfiguration;
   }
 
+  /**
+   * Clears the caches and counters for a new processing round. Annotation types and their
+   * meta-annotations are only stable within a round, as later rounds can add or replace types.
+   */
+  public void startRound() {
+    templateConfigurations.clear();
+    resolvedConfigurations.clear();
+    internedConfigurations.clear();
+    templateCacheHits = 0;
+    templateCacheMisses = 0;
+    resolvedCacheHits = 0;
+    resolvedCacheMisses = 0;
+  }
+
+  /** Logs the hits and misses of the configuration caches in the current round. */
+  public void logCacheStatistics() {
+    logger.debug(
+        "Configuration cache: templates %d hits, %d misses; resolved %d hits, %d misses",
+        templateCacheHits, templateCacheMisses, resolvedCacheHits, resolvedCacheMisses);
+  }
+
   /**
    * Resolves the complete builder configuration for an element by chaining all configuration
    * sources in priority order.
@@ -123,14 +169,26 @@ public class BuilderConfigurationReader {
     String elementName = element.getSimpleName().toString();
     logger.debugStartOperation("Resolving configuration for element: %s", elementName);
 
-    BuilderConfiguration inheritedConfig = readFromScope(element, AnnotationScope.INHERITED);
-    BuilderConfiguration directConfig = readFromScope(element, AnnotationScope.DIRECT);
-
-    BuilderConfiguration result =
-        BuilderConfiguration.DEFAULT
-            .merge(globalConfiguration)
-            .merge(inheritedConfig)
-            .merge(directConfig);
+    List<? extends AnnotationMirror> directMirrors = element.getAnnotationMirrors();
+    BuilderConfiguration inheritedConfig =
+        readFromScope(
+            getInheritedAnnotationMirrors(element, directMirrors), AnnotationScope.INHERITED);
+    BuilderConfiguration directConfig = readFromScope(directMirrors, AnnotationScope.DIRECT);
+
+    ScopeConfigurations key = new ScopeConfigurations(inheritedConfig, directConfig);
+    BuilderConfiguration result = resolvedConfigurations.get(key);
+    if (result != null) {
+      resolvedCacheHits++;
+    } else {
+      resolvedCacheMisses++;
+      result =
+          intern(
+              BuilderConfiguration.DEFAULT
+                  .merge(globalConfiguration)
+                  .merge(inheritedConfig)
+                  .merge(directConfig));
+      resolvedConfigurations.put(key, result);
+    }
 
     // Validate access modifiers and warn about problematic configurations
     validateAccessModifiers(element, result);
@@ -140,14 +198,14 @@ public class BuilderConfigurationReader {
   }
 
   /**
-   * Reads the highest-priority template configuration for the element in the requested scope.
+   * Reads the highest-priority template configuration from the annotations of the requested scope.
    *
    * <p>If {@code @SimpleBuilder} is present in the scope, its effective configuration (built-in
    * template defaults overridden by any inline {@code options()}) is returned. Otherwise the first
    * custom template annotation found in the scope is used.
    */
-  private BuilderConfiguration readFromScope(Element element, AnnotationScope scope) {
-    List<? extends AnnotationMirror> mirrors = getAnnotationMirrors(element, scope);
+  private BuilderConfiguration readFromScope(
+      List<? extends AnnotationMirror> mirrors, AnnotationScope scope) {
     BuilderConfiguration simpleBuilderConfig = null;
     BuilderConfiguration customTemplateConfig = null;
 
@@ -202,11 +260,28 @@ public class BuilderConfigurationReader {
    * @return the configuration, or {@code null} if the type is not a template annotation
    */
   private BuilderConfiguration extractTemplateConfigurationFromType(TypeElement annotationType) {
+    String annotationName = annotationType.getQualifiedName().toString();
+    Optional<BuilderConfiguration> cached = templateConfigurations.get(annotationName);
+    if (cached != null) {
+      templateCacheHits++;
+      return cached.orElse(null);
+    }
+    templateCacheMisses++;
     AnnotationMirror templateMetaMirror = findTemplateMetaMirror(annotationType);
-    if (templateMetaMirror == null) {
+    BuilderConfiguration config =
+        templateMetaMirror == null
+            ? null
+            : intern(extractOptionsFromAnnotationMirror(templateMetaMirror));
+    templateConfigurations.put(annotationName, Optional.ofNullable(config));
+    return config;
+  }
+
+  /** Returns the shared instance for configurations equal to the given one. */
+  private BuilderConfiguration intern(BuilderConfiguration config) {
+    if (config == null) {
       return null;
     }
-    return extractOptionsFromAnnotationMirror(templateMetaMirror);
+    return internedConfigurations.computeIfAbsent(config, c -> c);
   }
 
   /**
@@ -293,15 +368,18 @@ public class BuilderConfigurationReader {
 
       switch (name) {
         case "generateFieldSupplier" -> builder.generateSupplier(OptionState.valueOf(enumValue));
+        case "deferFieldSupplier" -> builder.deferFieldSupplier(OptionState.valueOf(enumValue));
         case "generateFieldConsumer" -> builder.generateConsumer(OptionState.valueOf(enumValue));
         case "generateBuilderConsumer" ->
             builder.generateBuilderConsumer(OptionState.valueOf(enumValue));
         case "generateConditionalHelper" ->
             builder.generateConditionalLogic(OptionState.valueOf(enumValue));
+        case "generateWhenView" -> builder.generateWhenView(OptionState.valueOf(enumValue));
         case "builderAccess" -> builder.builderAccess(AccessModifier.valueOf(enumValue));
         case "builderConstructorAccess" ->
             builder.builderConstructorAccess(AccessModifier.valueOf(enumValue));
         case "methodAccess" -> builder.methodAccess(AccessModifier.valueOf(enumValue));
+        case "outputProfile" -> builder.outputProfile(OutputProfile.valueOf(enumValue));
         case "generateVarArgsHelpers" ->
             builder.generateVarArgsHelpers(OptionState.valueOf(enumValue));
         case "generateStringFormatHelpers" ->
@@ -319,6 +397,8 @@ public class BuilderConfigurationReader {
         case "usingHashSetBuilderWithElementBuilders" ->
             builder.usingHashSetBuilderWithElementBuilders(OptionState.valueOf(enumValue));
         case "usingHashMapBuilder" -> builder.usingHashMapBuilder(OptionState.valueOf(enumValue));
+        case "usingConcurrentCollectionBuilders" ->
+            builder.usingConcurrentCollectionBuilders(OptionState.valueOf(enumValue));
         case "usingGeneratedAnnotation" ->
             builder.usingGeneratedAnnotation(OptionState.valueOf(enumValue));
         case "usingBuilderImplementationAnnotation" ->
@@ -327,6 +407,21 @@ public class BuilderConfigurationReader {
             builder.implementsBuilderBase(OptionState.valueOf(enumValue));
         case "generateWithInterface" ->
             builder.generateWithInterface(OptionState.valueOf(enumValue));
+        case "lazyCopyConstructor" -> builder.lazyCopyConstructor(OptionState.valueOf(enumValue));
+        case "generatePartialUpdate" ->
+            builder.generatePartialUpdate(OptionState.valueOf(enumValue));
+        case "generateFieldAccess" -> builder.generateFieldAccess(OptionState.valueOf(enumValue));
+        case "generateMapConversion" ->
+            builder.generateMapConversion(OptionState.valueOf(enumValue));
+        case "generateMerge" -> builder.generateMerge(OptionState.valueOf(enumValue));
+        case "generateAsyncBuild" -> builder.generateAsyncBuild(OptionState.valueOf(enumValue));
+        case "generateRowMapper" -> builder.generateRowMapper(OptionState.valueOf(enumValue));
+        case "generateBinaryCodec" -> builder.generateBinaryCodec(OptionState.valueOf(enumValue));
+        case "generateFlyweightView" ->
+            builder.generateFlyweightView(OptionState.valueOf(enumValue));
+        case "generateColumnarBatch" ->
+            builder.generateColumnarBatch(OptionState.valueOf(enumValue));
+        case "generateMappedStore" -> builder.generateMappedStore(OptionState.valueOf(enumValue));
         case "usingJacksonDeserializerAnnotation" ->
             builder.usingJacksonDeserializerAnnotation(OptionState.valueOf(enumValue));
         case "generateJacksonModule" ->
@@ -355,14 +450,13 @@ public class BuilderConfigurationReader {
     INHERITED
   }
 
-  private List<? extends AnnotationMirror> getAnnotationMirrors(
-      Element element, AnnotationScope scope) {
-    if (scope == AnnotationScope.DIRECT) {
-      return element.getAnnotationMirrors();
-    }
+  /** Configurations read from the inherited and direct scope, used as key for the merged result. */
+  private record ScopeConfigurations(BuilderConfiguration inherited, BuilderConfiguration direct) {}
 
+  private List<? extends AnnotationMirror> getInheritedAnnotationMirrors(
+      Element element, List<? extends AnnotationMirror> directMirrors) {
     Set<String> directAnnotationTypes = new HashSet<>();
-    for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+    for (AnnotationMirror mirror : directMirrors) {
       directAnnotationTypes.add(mirror.getAnnotationType().toString());
     }
 
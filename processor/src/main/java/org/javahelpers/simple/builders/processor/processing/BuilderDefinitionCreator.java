@@ -47,6 +47,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Strings;
 import org.javahelpers.simple.builders.core.annotations.IgnoreInBuilder;
 import org.javahelpers.simple.builders.core.enums.AccessModifier;
+import org.javahelpers.simple.builders.core.enums.OutputProfile;
 import org.javahelpers.simple.builders.core.util.TrackedValue;
 import org.javahelpers.simple.builders.processor.analysis.FieldAnnotationExtractor;
 import org.javahelpers.simple.builders.processor.analysis.JavaLangAnalyser;
@@ -637,8 +638,7 @@ public class BuilderDefinitionCreator {
     TypeName dtoType = JavaLangMapper.map2TypeName(dtoTypeElement, context);
 
     // Extract only the @param Javadoc for the single setter parameter (if present)
-    String fullJavaDoc = context.getDocComment(mth);
-    String javaDocDescription = JavaLangAnalyser.extractParamJavaDoc(fullJavaDoc, fieldParameter);
+    String javaDocDescription = readParamJavaDoc(mth, fieldParameter, context);
 
     // Check for field name conflicts and rename if necessary
     String finalFieldName =
@@ -672,6 +672,26 @@ public class BuilderDefinitionCreator {
     return result;
   }
 
+  /**
+   * Reads the Javadoc description of a parameter from the doc comment of its declaring element.
+   *
+   * <p>The description only ends up in the Javadoc of setter methods, so the doc comment is not
+   * read at all if the output profile does not render those.
+   *
+   * @param element the element (type or method) whose doc comment documents the parameter
+   * @param param the parameter to read the description for
+   * @param context processing context
+   * @return the parameter description, or {@code null} if not documented or not needed
+   */
+  private static String readParamJavaDoc(
+      Element element, VariableElement param, ProcessingContext context) {
+    OutputProfile profile = context.getConfiguration().getOutputProfile();
+    if (profile == OutputProfile.LEAN || profile == OutputProfile.API_ONLY) {
+      return null;
+    }
+    return JavaLangAnalyser.extractParamJavaDoc(context.getDocComment(element), param);
+  }
+
   /**
    * Creates a FieldDto from a constructor parameter, including a simple builder setter to supply
    * the constructor argument.
@@ -684,8 +704,7 @@ public class BuilderDefinitionCreator {
       Map<String, FieldDto> fieldNameRegistry) {
     String fieldName = param.getSimpleName().toString();
     // Extract javadoc from constructor parameter (if present)
-    String javaDocDescription =
-        JavaLangAnalyser.extractParamJavaDoc(context.getDocComment(annotatedType), param);
+    String javaDocDescription = readParamJavaDoc(annotatedType, param, context);
 
     // Convert TypeElement to TypeName once
     TypeName dtoType = JavaLangMapper.map2TypeName(annotatedType, context);
@@ -0,0 +1,225 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.javahelpers.simple.builders.processor.processing;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import org.javahelpers.simple.builders.core.annotations.Ignore4BuilderGeneration;
+import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+import org.javahelpers.simple.builders.processor.model.core.BuilderDefinitionDto;
+import org.javahelpers.simple.builders.processor.model.type.TypeName;
+
+/**
+ * Index of the builders generated in a module, so that modules depending on it can reference those
+ * builders without analysing the DTO types again.
+ *
+ * <p>Each entry maps a DTO to its builder and records whether the DTO has an empty constructor. The
+ * index is written as resource {@value #INDEX_RESOURCE} into the package of the DTOs, one per
+ * package. Unlike resources below {@code META-INF}, javac also finds these resources in jars on the
+ * classpath. Lookups read the resource of a package once and cache it.
+ *
+ * <p>Only DTOs annotated with {@link SimpleBuilder} directly are indexed, matching the types that
+ * are referenced as builders by other DTOs. Types in the unnamed package are not indexed, as they
+ * cannot be imported by other packages. Packages which also have an index in the class output are
+ * written by an earlier compilation of the current module and are ignored for lookups, as they
+ * might be outdated; those types are analysed as before. Entries of dependencies are trusted
+ * without looking at the annotations of the DTO again, as the index is written together with the
+ * classes of the dependency.
+ *
+ * <p>Each line has the tab separated columns DTO name, builder name and {@code true} or {@code
+ * false} for an empty constructor. Further columns are ignored.
+ */
+public class BuilderMetadataIndex {
+
+  /** Name of the index resource in the package of the indexed DTOs. */
+  public static final String INDEX_RESOURCE = "simple-builders-index";
+
+  private static final String HEADER =
+      "# simple-builders builder index: dto, builder, empty constructor";
+
+  private final Filer filer;
+  private final Elements elementUtils;
+  private final ProcessingLogger logger;
+
+  /** Index entries on the classpath, per package. Empty for packages without usable index. */
+  private final Map<String, Map<String, Entry>> classpathEntries = new HashMap<>();
+
+  /** Builders generated in the current compilation, per package and DTO name. */
+  private final Map<String, Map<String, Entry>> compiledEntries = new TreeMap<>();
+
+  /**
+   * Creates an empty index, resources are read on first lookup of a package.
+   *
+   * @param processingEnv the processing environment providing filer and element utilities
+   * @param logger logger for debug output
+   */
+  public BuilderMetadataIndex(ProcessingEnvironment processingEnv, ProcessingLogger logger) {
+    this.filer = processingEnv.getFiler();
+    this.elementUtils = processingEnv.getElementUtils();
+    this.logger = logger;
+  }
+
+  /**
+   * Looks up the builder of a DTO in the index of a dependency.
+   *
+   * @param typeElement the DTO type
+   * @return the index entry, or empty if the type has to be analysed
+   */
+  public Optional<Entry> find(TypeElement typeElement) {
+    String packageName = elementUtils.getPackageOf(typeElement).getQualifiedName().toString();
+    if (packageName.isEmpty()) {
+      return Optional.empty();
+    }
+    Map<String, Entry> entries =
+        classpathEntries.computeIfAbsent(packageName, this::readClasspathIndex);
+    return Optional.ofNullable(entries.get(typeElement.getQualifiedName().toString()));
+  }
+
+  /**
+   * Records a builder generated in the current compilation.
+   *
+   * @param typeElement the DTO type
+   * @param builderDef the definition of the generated builder
+   */
+  public void record(TypeElement typeElement, BuilderDefinitionDto builderDef) {
+    String packageName = elementUtils.getPackageOf(typeElement).getQualifiedName().toString();
+    if (packageName.isEmpty() || !isIndexed(typeElement)) {
+      return;
+    }
+    Entry entry =
+        new Entry(
+            typeElement.getQualifiedName().toString(),
+            builderDef.getBuilderTypeName().getFullQualifiedName(),
+            hasEmptyConstructor(typeElement));
+    compiledEntries.computeIfAbsent(packageName, p -> new TreeMap<>()).put(entry.typeName(), entry);
+  }
+
+  /**
+   * Writes one index resource per package with builders generated in the current compilation.
+   * Entries of an index written by an earlier compilation of the same module are kept, as long as
+   * the DTO still exists, is annotated with {@link SimpleBuilder} and is not excluded.
+   *
+   * @throws IOException if an index resource cannot be written
+   */
+  public void writeIndex() throws IOException {
+    for (Map.Entry<String, Map<String, Entry>> packageEntries : compiledEntries.entrySet()) {
+      String packageName = packageEntries.getKey();
+      Map<String, Entry> entries = new TreeMap<>(packageEntries.getValue());
+      for (String line :
+          IndexResources.readOutput(filer, packageName, INDEX_RESOURCE).orElse(List.of())) {
+        Entry previous = Entry.parse(line);
+        if (previous != null && isStillIndexed(previous.typeName())) {
+          entries.putIfAbsent(previous.typeName(), previous);
+        }
+      }
+      List<String> lines = new ArrayList<>();
+      lines.add(HEADER);
+      entries.values().stream().map(Entry::toLine).forEach(lines::add);
+      IndexResources.write(filer, packageName, INDEX_RESOURCE, lines);
+      logger.debug(
+          "Builder index written for package %s with %d entries", packageName, entries.size());
+    }
+  }
+
+  private Map<String, Entry> readClasspathIndex(String packageName) {
+    Optional<List<String>> lines = IndexResources.readClasspath(filer, packageName, INDEX_RESOURCE);
+    if (lines.isEmpty()) {
+      return Map.of();
+    }
+    if (IndexResources.readOutput(filer, packageName, INDEX_RESOURCE).isPresent()) {
+      logger.debug("Ignoring builder index of package %s from current module", packageName);
+      return Map.of();
+    }
+    return lines.get().stream()
+        .map(Entry::parse)
+        .filter(entry -> entry != null)
+        .collect(Collectors.toMap(Entry::typeName, entry -> entry, (first, second) -> first));
+  }
+
+  private boolean isStillIndexed(String qualifiedName) {
+    TypeElement type = elementUtils.getTypeElement(qualifiedName);
+    return type != null && isIndexed(type);
+  }
+
+  private static boolean isIndexed(TypeElement typeElement) {
+    return typeElement.getAnnotation(SimpleBuilder.class) != null
+        && typeElement.getAnnotation(Ignore4BuilderGeneration.class) == null;
+  }
+
+  private boolean hasEmptyConstructor(TypeElement typeElement) {
+    return typeElement.getKind() == ElementKind.CLASS
+        && !typeElement.getModifiers().contains(Modifier.ABSTRACT)
+        && ElementFilter.constructorsIn(elementUtils.getAllMembers(typeElement)).stream()
+            .anyMatch(c -> c.getParameters().isEmpty());
+  }
+
+  /**
+   * Entry of the builder index.
+   *
+   * @param typeName qualified name of the DTO
+   * @param builderTypeName qualified name of the builder
+   * @param hasEmptyConstructor {@code true} if the DTO is a concrete class with empty constructor
+   */
+  public record Entry(String typeName, String builderTypeName, boolean hasEmptyConstructor) {
+
+    /**
+     * Returns the builder type. Builders are always top level classes.
+     *
+     * @return the builder type name
+     */
+    public TypeName builderType() {
+      int lastDot = builderTypeName.lastIndexOf('.');
+      return lastDot > 0
+          ? new TypeName(
+              builderTypeName.substring(0, lastDot), builderTypeName.substring(lastDot + 1))
+          : new TypeName("", builderTypeName);
+    }
+
+    String toLine() {
+      return String.join("\t", typeName, builderTypeName, String.valueOf(hasEmptyConstructor));
+    }
+
+    static Entry parse(String line) {
+      String[] columns = line.split("\t", -1);
+      if (columns.length < 3) {
+        return null;
+      }
+      return new Entry(columns[0], columns[1], Boolean.parseBoolean(columns[2]));
+    }
+  }
+}
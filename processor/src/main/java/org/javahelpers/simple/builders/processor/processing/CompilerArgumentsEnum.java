@@ -42,6 +42,9 @@ public enum CompilerArgumentsEnum {
   /** Option for field supplier generation. */
   GENERATE_FIELD_SUPPLIER("generateFieldSupplier"),
 
+  /** Option for deferring field suppliers until the value is needed. */
+  DEFER_FIELD_SUPPLIER("deferFieldSupplier"),
+
   /** Option for field consumer generation. */
   GENERATE_FIELD_CONSUMER("generateFieldConsumer"),
 
@@ -52,6 +55,9 @@ public enum CompilerArgumentsEnum {
   /** Option for conditional helper generation. */
   GENERATE_CONDITIONAL_HELPER("generateConditionalHelper"),
 
+  /** Option for generating the when(boolean) view with conditional setters. */
+  GENERATE_WHEN_VIEW("generateWhenView"),
+
   // === Access Control ===
   /** Option for builder access level. */
   BUILDER_ACCESS("builderAccess"),
@@ -93,6 +99,9 @@ public enum CompilerArgumentsEnum {
   /** Option for HashMap builder usage. */
   USING_HASH_MAP_BUILDER("usingHashMapBuilder"),
 
+  /** Option for thread-safe collection builder usage. */
+  USING_CONCURRENT_COLLECTION_BUILDERS("usingConcurrentCollectionBuilders"),
+
   // === Annotations ===
   /** Option for using Generated annotation. */
   USING_GENERATED_ANNOTATION("usingGeneratedAnnotation"),
@@ -107,6 +116,39 @@ public enum CompilerArgumentsEnum {
   /** Option for With interface generation. */
   GENERATE_WITH_INTERFACE("generateWithInterface"),
 
+  /** Option for lazy reading of values in the from-instance constructor. */
+  LAZY_COPY_CONSTRUCTOR("lazyCopyConstructor"),
+
+  /** Option to generate changedFields() and applyTo(target) for partial updates. */
+  GENERATE_PARTIAL_UPDATE("generatePartialUpdate"),
+
+  /** Option to generate field descriptors and indexed get/set methods. */
+  GENERATE_FIELD_ACCESS("generateFieldAccess"),
+
+  /** Option to generate fromMap(Map) and toMap(dto) conversion methods. */
+  GENERATE_MAP_CONVERSION("generateMapConversion"),
+
+  /** Generate merge(builder) and collector(accumulator) methods on the builder. */
+  GENERATE_MERGE("generateMerge"),
+
+  /** Option for generating asynchronous setters and buildAsync. */
+  GENERATE_ASYNC_BUILD("generateAsyncBuild"),
+
+  /** Option to generate a row mapper class for result sets and arrays. */
+  GENERATE_ROW_MAPPER("generateRowMapper"),
+
+  /** Generate a binary codec class encoding DTOs to a ByteBuffer. */
+  GENERATE_BINARY_CODEC("generateBinaryCodec"),
+
+  /** Generate a flyweight view class reading DTO fields from a ByteBuffer. */
+  GENERATE_FLYWEIGHT_VIEW("generateFlyweightView"),
+
+  /** Generate a columnar batch class storing DTOs with one array per field. */
+  GENERATE_COLUMNAR_BATCH("generateColumnarBatch"),
+
+  /** Generate a memory-mapped append-only store class next to the builder. */
+  GENERATE_MAPPED_STORE("generateMappedStore"),
+
   /** Option for Jackson support. */
   USING_JACKSON_DESERIALIZER_ANNOTATION("usingJacksonDeserializerAnnotation"),
 
@@ -123,16 +165,33 @@ public enum CompilerArgumentsEnum {
   /** Option for setter method name suffix. */
   SETTER_SUFFIX("setterSuffix"),
 
+  // === Output ===
+  /** Option for the output profile (full, lean, api-only) of generated sources. */
+  OUTPUT_PROFILE("outputProfile"),
+
   // === Component Filtering ===
   /**
    * Option for deactivating specific method generators and builder enhancers by class name pattern.
    */
   DEACTIVATE_GENERATION_COMPONENTS("deactivateGenerationComponents"),
 
+  // === Processing ===
+  /**
+   * Option listing additional template annotations, for templates from jars without template index,
+   * or {@code *} to run the processor for all annotations.
+   */
+  TEMPLATE_ANNOTATIONS("templateAnnotations"),
+
   // === Logging ===
   /** Option for verbose logging output. */
   VERBOSE("verbose"),
 
+  /**
+   * Option for the path of a JSON report with processing times per phase, generator and type.
+   * Disabled if not set.
+   */
+  METRICS_REPORT("metricsReport"),
+
   // === Error Handling ===
   /**
    * Option for strict/fail-fast generation mode. When enabled, builder (and Jackson module)
@@ -28,6 +28,7 @@ import javax.annotation.processing.ProcessingEnvironment;
 import org.apache.commons.lang3.Strings;
 import org.javahelpers.simple.builders.core.enums.AccessModifier;
 import org.javahelpers.simple.builders.core.enums.OptionState;
+import org.javahelpers.simple.builders.core.enums.OutputProfile;
 import org.javahelpers.simple.builders.processor.model.core.BuilderConfiguration;
 
 /**
@@ -123,6 +124,28 @@ public class CompilerArgumentsReader {
     }
   }
 
+  /**
+   * Reads the value of a compiler argument as an OutputProfile.
+   *
+   * <p>Accepts the profile names case-insensitively, with either a dash or an underscore (e.g.
+   * {@code api-only} or {@code API_ONLY}). Returns DEFAULT if not set or invalid.
+   *
+   * @param argument the compiler argument enum to read
+   * @return the OutputProfile value, or DEFAULT if not set
+   */
+  public OutputProfile readOutputProfile(CompilerArgumentsEnum argument) {
+    String value = readValue(argument);
+    if (Strings.CI.equals(value, "full")) {
+      return OutputProfile.FULL;
+    } else if (Strings.CI.equals(value, "lean")) {
+      return OutputProfile.LEAN;
+    } else if (Strings.CI.equalsAny(value, "api-only", "api_only")) {
+      return OutputProfile.API_ONLY;
+    } else {
+      return OutputProfile.DEFAULT;
+    }
+  }
+
   /**
    * Reads a complete BuilderConfiguration from compiler arguments.
    *
@@ -141,10 +164,12 @@ public class CompilerArgumentsReader {
   public BuilderConfiguration readBuilderConfiguration() {
     return BuilderConfiguration.builder()
         .generateSupplier(readOptionState(CompilerArgumentsEnum.GENERATE_FIELD_SUPPLIER))
+        .deferFieldSupplier(readOptionState(CompilerArgumentsEnum.DEFER_FIELD_SUPPLIER))
         .generateConsumer(readOptionState(CompilerArgumentsEnum.GENERATE_FIELD_CONSUMER))
         .generateBuilderConsumer(readOptionState(CompilerArgumentsEnum.GENERATE_BUILDER_CONSUMER))
         .generateConditionalLogic(
             readOptionState(CompilerArgumentsEnum.GENERATE_CONDITIONAL_HELPER))
+        .generateWhenView(readOptionState(CompilerArgumentsEnum.GENERATE_WHEN_VIEW))
         .builderAccess(readAccessModifier(CompilerArgumentsEnum.BUILDER_ACCESS))
         .builderConstructorAccess(
             readAccessModifier(CompilerArgumentsEnum.BUILDER_CONSTRUCTOR_ACCESS))
@@ -163,17 +188,31 @@ public class CompilerArgumentsReader {
         .usingHashSetBuilderWithElementBuilders(
             readOptionState(CompilerArgumentsEnum.USING_HASH_SET_BUILDER_WITH_ELEMENT_BUILDERS))
         .usingHashMapBuilder(readOptionState(CompilerArgumentsEnum.USING_HASH_MAP_BUILDER))
+        .usingConcurrentCollectionBuilders(
+            readOptionState(CompilerArgumentsEnum.USING_CONCURRENT_COLLECTION_BUILDERS))
         .usingGeneratedAnnotation(readOptionState(CompilerArgumentsEnum.USING_GENERATED_ANNOTATION))
         .usingBuilderImplementationAnnotation(
             readOptionState(CompilerArgumentsEnum.USING_BUILDER_IMPLEMENTATION_ANNOTATION))
         .implementsBuilderBase(readOptionState(CompilerArgumentsEnum.IMPLEMENTS_BUILDER_BASE))
         .generateWithInterface(readOptionState(CompilerArgumentsEnum.GENERATE_WITH_INTERFACE))
+        .lazyCopyConstructor(readOptionState(CompilerArgumentsEnum.LAZY_COPY_CONSTRUCTOR))
+        .generatePartialUpdate(readOptionState(CompilerArgumentsEnum.GENERATE_PARTIAL_UPDATE))
+        .generateFieldAccess(readOptionState(CompilerArgumentsEnum.GENERATE_FIELD_ACCESS))
+        .generateMapConversion(readOptionState(CompilerArgumentsEnum.GENERATE_MAP_CONVERSION))
+        .generateMerge(readOptionState(CompilerArgumentsEnum.GENERATE_MERGE))
+        .generateAsyncBuild(readOptionState(CompilerArgumentsEnum.GENERATE_ASYNC_BUILD))
+        .generateRowMapper(readOptionState(CompilerArgumentsEnum.GENERATE_ROW_MAPPER))
+        .generateBinaryCodec(readOptionState(CompilerArgumentsEnum.GENERATE_BINARY_CODEC))
+        .generateFlyweightView(readOptionState(CompilerArgumentsEnum.GENERATE_FLYWEIGHT_VIEW))
+        .generateColumnarBatch(readOptionState(CompilerArgumentsEnum.GENERATE_COLUMNAR_BATCH))
+        .generateMappedStore(readOptionState(CompilerArgumentsEnum.GENERATE_MAPPED_STORE))
         .usingJacksonDeserializerAnnotation(
             readOptionState(CompilerArgumentsEnum.USING_JACKSON_DESERIALIZER_ANNOTATION))
         .generateJacksonModule(readOptionState(CompilerArgumentsEnum.GENERATE_JACKSON_MODULE))
         .jacksonModulePackage(readValue(CompilerArgumentsEnum.JACKSON_MODULE_PACKAGE))
         .builderSuffix(readValue(CompilerArgumentsEnum.BUILDER_SUFFIX))
         .setterSuffix(readValue(CompilerArgumentsEnum.SETTER_SUFFIX))
+        .outputProfile(readOutputProfile(CompilerArgumentsEnum.OUTPUT_PROFILE))
         .strict(readOptionState(CompilerArgumentsEnum.STRICT))
         .build();
   }
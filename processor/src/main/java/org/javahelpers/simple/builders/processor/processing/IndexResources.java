@@ -0,0 +1,128 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.javahelpers.simple.builders.processor.processing;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import javax.annotation.processing.Filer;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Reading and writing of the line based index resources of the processor. Resources are addressed
+ * like in the {@link Filer}, by package and name relative to that package.
+ *
+ * <p>The format follows {@code META-INF/services}: one entry per line, blank lines and text after
+ * {@code #} are ignored.
+ */
+final class IndexResources {
+
+  private IndexResources() {}
+
+  /**
+   * Reads the first resource with the given name on the compile classpath. The filer does not allow
+   * listing all resources with the same name.
+   *
+   * @param filer the filer of the processing environment
+   * @param packageName the package of the resource, empty for the classpath root
+   * @param resource the resource name, relative to the package
+   * @return the entries, or empty if the classpath contains no such resource
+   */
+  static Optional<List<String>> readClasspath(Filer filer, String packageName, String resource) {
+    return read(filer, StandardLocation.CLASS_PATH, packageName, resource);
+  }
+
+  /**
+   * Reads a resource written to the class output by an earlier compilation of the same module.
+   *
+   * @param filer the filer of the processing environment
+   * @param packageName the package of the resource, empty for the class output root
+   * @param resource the resource name, relative to the package
+   * @return the entries, or empty if there is no such resource
+   */
+  static Optional<List<String>> readOutput(Filer filer, String packageName, String resource) {
+    return read(filer, StandardLocation.CLASS_OUTPUT, packageName, resource);
+  }
+
+  /**
+   * Writes the entries to a resource in the class output.
+   *
+   * @param filer the filer of the processing environment
+   * @param packageName the package of the resource, empty for the class output root
+   * @param resource the resource name, relative to the package
+   * @param entries the entries to write, one per line
+   * @throws IOException if the resource cannot be written
+   */
+  static void write(Filer filer, String packageName, String resource, Collection<String> entries)
+      throws IOException {
+    FileObject file = filer.createResource(StandardLocation.CLASS_OUTPUT, packageName, resource);
+    try (Writer writer = file.openWriter()) {
+      for (String entry : entries) {
+        writer.write(entry);
+        writer.write('\n');
+      }
+    }
+  }
+
+  /**
+   * Parses the entries of an index resource.
+   *
+   * @param reader reader of the resource content
+   * @return the entries without comments and blank lines
+   * @throws IOException if reading fails
+   */
+  static List<String> parse(Reader reader) throws IOException {
+    List<String> entries = new ArrayList<>();
+    BufferedReader lines = new BufferedReader(reader);
+    String line;
+    while ((line = lines.readLine()) != null) {
+      int comment = line.indexOf('#');
+      String entry = (comment >= 0 ? line.substring(0, comment) : line).strip();
+      if (!entry.isEmpty()) {
+        entries.add(entry);
+      }
+    }
+    return entries;
+  }
+
+  private static Optional<List<String>> read(
+      Filer filer, StandardLocation location, String packageName, String resource) {
+    try {
+      FileObject file = filer.getResource(location, packageName, resource);
+      try (Reader reader = file.openReader(true)) {
+        return Optional.of(parse(reader));
+      }
+    } catch (IOException | IllegalArgumentException e) {
+      // Resource does not exist
+      return Optional.empty();
+    }
+  }
+}
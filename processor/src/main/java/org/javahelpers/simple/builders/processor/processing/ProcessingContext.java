@@ -48,6 +48,8 @@ public final class ProcessingContext {
   private final ProcessingLogger logger;
   private final BuilderConfigurationReader configurationReader;
   private final ProcessingEnvironment processingEnv;
+  private final ProcessingMetrics metrics;
+  private final BuilderMetadataIndex builderIndex;
   private GeneratorRegistry generatorRegistry;
   private BuilderConfiguration configurationForProcessingTarget;
 
@@ -68,6 +70,9 @@ public final class ProcessingContext {
     this.processingEnv = processingEnv;
     this.configurationReader =
         new BuilderConfigurationReader(globalConfiguration, logger, elementUtils);
+    this.metrics =
+        ProcessingMetrics.fromCompilerArguments(new CompilerArgumentsReader(processingEnv));
+    this.builderIndex = new BuilderMetadataIndex(processingEnv, logger);
     // GeneratorRegistry will be lazily initialized on first access
   }
 
@@ -98,6 +103,24 @@ public final class ProcessingContext {
     return configurationReader;
   }
 
+  /**
+   * Gets the metrics collected for the report configured by {@code -Asimplebuilder.metricsReport}.
+   *
+   * @return the processing metrics, disabled if no report is configured
+   */
+  public ProcessingMetrics getMetrics() {
+    return metrics;
+  }
+
+  /**
+   * Gets the index of builders generated in dependencies and in the current compilation.
+   *
+   * @return the builder metadata index
+   */
+  public BuilderMetadataIndex getBuilderIndex() {
+    return builderIndex;
+  }
+
   /**
    * Get the unified generator registry for both field-level method generation and builder-level
    * enhancement.
@@ -0,0 +1,378 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.javahelpers.simple.builders.processor.processing;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.javahelpers.simple.builders.processor.generators.Generator;
+import org.javahelpers.simple.builders.processor.generators.MethodGenerator;
+
+/**
+ * Collects wall times and sizes during annotation processing and writes them as JSON report.
+ *
+ * <p>The report is enabled by the compiler argument {@code -Asimplebuilder.metricsReport=<path>}.
+ * It contains the time per processing phase, the time per method generator and builder enhancer,
+ * and per processed type the number of fields and methods, the size of the generated sources and
+ * the time spent in each phase. This allows finding the types and custom generators which make a
+ * module slow to compile.
+ *
+ * <p>If no report path is configured, all methods return immediately without reading the clock.
+ */
+public final class ProcessingMetrics {
+
+  /** Phase resolving the configuration of a type, see {@link BuilderConfigurationReader}. */
+  public static final String PHASE_CONFIGURATION = "configurationResolution";
+
+  /** Phase creating the builder definition, including all method generators and enhancers. */
+  public static final String PHASE_DEFINITION = "definitionExtraction";
+
+  /** Phase rendering the class definition to unformatted source code via Roaster. */
+  public static final String PHASE_RENDERING = "rendering";
+
+  /** Phase formatting the rendered source code. */
+  public static final String PHASE_FORMATTING = "formatting";
+
+  /** Phase writing the source file via the Filer. */
+  public static final String PHASE_FILE_WRITE = "fileWrite";
+
+  private static final ProcessingMetrics DISABLED = new ProcessingMetrics(null);
+
+  /** Target file of the report, or null if metrics are disabled. */
+  private final Path reportPath;
+
+  private final Map<String, Timing> phases = new LinkedHashMap<>();
+  private final Map<String, GeneratorTiming> generators = new LinkedHashMap<>();
+  private final List<TypeMetrics> types = new ArrayList<>();
+  private TypeMetrics currentType;
+
+  /**
+   * Creates metrics writing the report to the given path.
+   *
+   * @param reportPath target file of the report, or null to disable metrics
+   */
+  public ProcessingMetrics(Path reportPath) {
+    this.reportPath = reportPath;
+  }
+
+  /**
+   * Creates metrics as configured by the compiler argument {@code metricsReport}.
+   *
+   * @param reader the reader for compiler arguments
+   * @return enabled metrics if a report path is configured, disabled metrics otherwise
+   */
+  public static ProcessingMetrics fromCompilerArguments(CompilerArgumentsReader reader) {
+    String path = reader.readValue(CompilerArgumentsEnum.METRICS_REPORT);
+    return path == null || path.isBlank() ? DISABLED : new ProcessingMetrics(Path.of(path));
+  }
+
+  /**
+   * Returns metrics which record nothing.
+   *
+   * @return the shared disabled instance
+   */
+  public static ProcessingMetrics disabled() {
+    return DISABLED;
+  }
+
+  /**
+   * Checks whether metrics are recorded.
+   *
+   * @return true if a report path is configured
+   */
+  public boolean isEnabled() {
+    return reportPath != null;
+  }
+
+  /**
+   * Starts a time measurement.
+   *
+   * @return the start time to pass to the {@code record} methods, 0 if metrics are disabled
+   */
+  public long startTimer() {
+    return isEnabled() ? System.nanoTime() : 0L;
+  }
+
+  /**
+   * Records the time since {@code startNanos} for a phase, both globally and for the current type.
+   *
+   * @param phase name of the phase, e.g. {@link #PHASE_RENDERING}
+   * @param startNanos value returned by {@link #startTimer()}
+   */
+  public void recordPhase(String phase, long startNanos) {
+    if (!isEnabled()) {
+      return;
+    }
+    long nanos = System.nanoTime() - startNanos;
+    phases.computeIfAbsent(phase, k -> new Timing()).add(nanos);
+    if (currentType != null) {
+      currentType.phases.computeIfAbsent(phase, k -> new Timing()).add(nanos);
+    }
+  }
+
+  /**
+   * Records the time since {@code startNanos} for one application of a generator.
+   *
+   * @param generator the method generator or builder enhancer which has been applied
+   * @param startNanos value returned by {@link #startTimer()}
+   */
+  public void recordGenerator(Generator generator, long startNanos) {
+    if (!isEnabled()) {
+      return;
+    }
+    long nanos = System.nanoTime() - startNanos;
+    generators
+        .computeIfAbsent(
+            generator.getClass().getName(),
+            name ->
+                new GeneratorTiming(
+                    name, generator instanceof MethodGenerator ? "methodGenerator" : "enhancer"))
+        .add(nanos);
+  }
+
+  /**
+   * Starts recording metrics for a processed type. Phases and sources recorded until {@link
+   * #endType()} are attributed to it.
+   *
+   * @param qualifiedName qualified name of the annotated type
+   */
+  public void startType(String qualifiedName) {
+    if (!isEnabled()) {
+      return;
+    }
+    currentType = new TypeMetrics(qualifiedName, System.nanoTime());
+    types.add(currentType);
+  }
+
+  /**
+   * Records the size of the builder generated for the current type.
+   *
+   * @param builderName qualified name of the builder
+   * @param fields number of builder fields
+   * @param methods number of builder methods
+   */
+  public void recordBuilder(String builderName, int fields, int methods) {
+    if (currentType == null) {
+      return;
+    }
+    currentType.builderName = builderName;
+    currentType.fields = fields;
+    currentType.methods = methods;
+  }
+
+  /**
+   * Records a generated source file of the current type.
+   *
+   * @param sourceCode the generated source code
+   */
+  public void recordSource(String sourceCode) {
+    if (currentType == null) {
+      return;
+    }
+    currentType.files++;
+    currentType.sourceChars += sourceCode.length();
+  }
+
+  /** Ends recording metrics for the current type. */
+  public void endType() {
+    if (currentType == null) {
+      return;
+    }
+    currentType.nanos = System.nanoTime() - currentType.startNanos;
+    currentType = null;
+  }
+
+  /**
+   * Writes the report to the configured path, replacing an existing file.
+   *
+   * @throws IOException if the report cannot be written
+   */
+  public void writeReport() throws IOException {
+    if (!isEnabled()) {
+      return;
+    }
+    Path parent = reportPath.toAbsolutePath().getParent();
+    if (parent != null) {
+      Files.createDirectories(parent);
+    }
+    Files.writeString(reportPath, toJson(), StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Returns the path the report is written to.
+   *
+   * @return the report path, or null if metrics are disabled
+   */
+  public Path getReportPath() {
+    return reportPath;
+  }
+
+  /**
+   * Renders the collected metrics as JSON. Generators and types are sorted by time, slowest first.
+   *
+   * @return the JSON report
+   */
+  String toJson() {
+    StringBuilder json = new StringBuilder("{\n");
+    json.append("  \"types\": ").append(types.size()).append(",\n");
+    json.append("  \"phases\": ");
+    appendPhases(json, phases, "  ");
+    json.append(",\n  \"generators\": [");
+    List<GeneratorTiming> sortedGenerators = new ArrayList<>(generators.values());
+    sortedGenerators.sort(Comparator.comparingLong((GeneratorTiming g) -> g.nanos).reversed());
+    for (int i = 0; i < sortedGenerators.size(); i++) {
+      GeneratorTiming generator = sortedGenerators.get(i);
+      json.append(i == 0 ? "\n" : ",\n")
+          .append("    {\"name\": ")
+          .append(quote(generator.name))
+          .append(", \"kind\": ")
+          .append(quote(generator.kind))
+          .append(", \"count\": ")
+          .append(generator.count)
+          .append(", \"millis\": ")
+          .append(millis(generator.nanos))
+          .append('}');
+    }
+    json.append(sortedGenerators.isEmpty() ? "]" : "\n  ]");
+    json.append(",\n  \"typeDetails\": [");
+    List<TypeMetrics> sortedTypes = new ArrayList<>(types);
+    sortedTypes.sort(Comparator.comparingLong((TypeMetrics t) -> t.nanos).reversed());
+    for (int i = 0; i < sortedTypes.size(); i++) {
+      TypeMetrics type = sortedTypes.get(i);
+      json.append(i == 0 ? "\n" : ",\n")
+          .append("    {\n      \"name\": ")
+          .append(quote(type.name))
+          .append(",\n      \"builder\": ")
+          .append(type.builderName == null ? "null" : quote(type.builderName))
+          .append(",\n      \"fields\": ")
+          .append(type.fields)
+          .append(",\n      \"methods\": ")
+          .append(type.methods)
+          .append(",\n      \"files\": ")
+          .append(type.files)
+          .append(",\n      \"sourceChars\": ")
+          .append(type.sourceChars)
+          .append(",\n      \"millis\": ")
+          .append(millis(type.nanos))
+          .append(",\n      \"phases\": ");
+      appendPhases(json, type.phases, "      ");
+      json.append("\n    }");
+    }
+    json.append(sortedTypes.isEmpty() ? "]" : "\n  ]");
+    json.append("\n}\n");
+    return json.toString();
+  }
+
+  private static void appendPhases(StringBuilder json, Map<String, Timing> phases, String indent) {
+    if (phases.isEmpty()) {
+      json.append("{}");
+      return;
+    }
+    json.append('{');
+    boolean first = true;
+    for (Map.Entry<String, Timing> phase : phases.entrySet()) {
+      json.append(first ? "\n" : ",\n")
+          .append(indent)
+          .append("  ")
+          .append(quote(phase.getKey()))
+          .append(": {\"count\": ")
+          .append(phase.getValue().count)
+          .append(", \"millis\": ")
+          .append(millis(phase.getValue().nanos))
+          .append('}');
+      first = false;
+    }
+    json.append('\n').append(indent).append('}');
+  }
+
+  private static String millis(long nanos) {
+    return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+  }
+
+  private static String quote(String value) {
+    StringBuilder quoted = new StringBuilder("\"");
+    for (char c : value.toCharArray()) {
+      switch (c) {
+        case '"' -> quoted.append("\\\"");
+        case '\\' -> quoted.append("\\\\");
+        default -> {
+          if (c < 0x20) {
+            quoted.append(String.format("\\u%04x", (int) c));
+          } else {
+            quoted.append(c);
+          }
+        }
+      }
+    }
+    return quoted.append('"').toString();
+  }
+
+  /** Number of measurements and their total time. */
+  private static class Timing {
+    int count;
+    long nanos;
+
+    void add(long nanos) {
+      this.count++;
+      this.nanos += nanos;
+    }
+  }
+
+  /** Timing of a single generator. */
+  private static final class GeneratorTiming extends Timing {
+    private final String name;
+    private final String kind;
+
+    GeneratorTiming(String name, String kind) {
+      this.name = name;
+      this.kind = kind;
+    }
+  }
+
+  /** Metrics of a single processed type. */
+  private static final class TypeMetrics {
+    private final String name;
+    private final long startNanos;
+    private final Map<String, Timing> phases = new LinkedHashMap<>();
+    private String builderName;
+    private int fields;
+    private int methods;
+    private int files;
+    private long sourceChars;
+    private long nanos;
+
+    TypeMetrics(String name, long startNanos) {
+      this.name = name;
+      this.startNanos = startNanos;
+    }
+  }
+}
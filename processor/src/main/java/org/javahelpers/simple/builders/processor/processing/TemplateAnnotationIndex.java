@@ -0,0 +1,263 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.javahelpers.simple.builders.processor.processing;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+import org.javahelpers.simple.builders.core.annotations.SimpleMinimalBuilder;
+
+/**
+ * Index of the annotations which trigger builder generation, used to declare a precise set of
+ * supported annotation types instead of {@code "*"}.
+ *
+ * <p>The supported annotation types are:
+ *
+ * <ul>
+ *   <li>the built-in templates {@link SimpleBuilder} and {@link SimpleMinimalBuilder},
+ *   <li>{@link SimpleBuilder.Template} itself, so that template declarations in the current
+ *       compilation are found,
+ *   <li>templates compiled earlier, listed in {@value #INDEX_RESOURCE} files on the classpath,
+ *   <li>templates listed in the compiler argument {@code templateAnnotations}.
+ * </ul>
+ *
+ * <p>javac therefore skips the processor in modules without DTOs. Templates from jars without an
+ * index, or whose index is hidden by the index of another jar, must be listed in {@code
+ * templateAnnotations}. The value {@code "*"} claims all annotations instead, in which case
+ * annotations missing in the index are checked for the {@link SimpleBuilder.Template}
+ * meta-annotation.
+ *
+ * <p>Templates declared in the current compilation are collected per round and written to {@value
+ * #INDEX_RESOURCE} in the class output when processing is over. Entries of an index file written by
+ * an earlier compilation of the same module are kept, as long as they still resolve to a template.
+ *
+ * <p>The file format follows {@code META-INF/services}: one qualified annotation name per line,
+ * blank lines and text after {@code #} are ignored.
+ */
+public class TemplateAnnotationIndex {
+
+  /** Resource listing the template annotations compiled in a module. */
+  public static final String INDEX_RESOURCE = "META-INF/simple-builders/templates";
+
+  /** Templates always known, independent of the index files. */
+  public static final List<String> BUILT_IN_TEMPLATES =
+      List.of(
+          SimpleBuilder.class.getCanonicalName(), SimpleMinimalBuilder.class.getCanonicalName());
+
+  /** Value of {@code templateAnnotations} claiming all annotations. */
+  public static final String ALL_ANNOTATIONS = "*";
+
+  private final Filer filer;
+  private final Elements elementUtils;
+  private final ProcessingLogger logger;
+  private final Set<String> indexedTemplates;
+  private final boolean allAnnotations;
+
+  /** Templates declared in the current compilation, written to the index when processing ends. */
+  private final Set<String> compiledTemplates = new TreeSet<>();
+
+  /**
+   * Creates the index and reads the {@value #INDEX_RESOURCE} files available on the classpath.
+   *
+   * @param processingEnv the processing environment providing filer and element utilities
+   * @param logger logger for debug output
+   * @param templateAnnotations value of the compiler argument {@code templateAnnotations}: comma
+   *     separated qualified names of additional templates, {@value #ALL_ANNOTATIONS} for all
+   *     annotations, or null
+   */
+  public TemplateAnnotationIndex(
+      ProcessingEnvironment processingEnv, ProcessingLogger logger, String templateAnnotations) {
+    this.filer = processingEnv.getFiler();
+    this.elementUtils = processingEnv.getElementUtils();
+    this.logger = logger;
+
+    Set<String> templates = new LinkedHashSet<>(BUILT_IN_TEMPLATES);
+    templates.addAll(readClasspathIndex());
+    boolean all = false;
+    if (templateAnnotations != null) {
+      for (String name : templateAnnotations.split(",")) {
+        String trimmed = name.trim();
+        if (ALL_ANNOTATIONS.equals(trimmed)) {
+          all = true;
+        } else if (!trimmed.isEmpty()) {
+          templates.add(trimmed);
+        }
+      }
+    }
+    this.indexedTemplates = Collections.unmodifiableSet(templates);
+    this.allAnnotations = all;
+    logger.debug(
+        "Template index: %d built-in, indexed and configured templates%s",
+        indexedTemplates.size(), allAnnotations ? ", claiming all annotations" : "");
+  }
+
+  /**
+   * Returns the qualified names of the built-in, indexed and configured templates.
+   *
+   * @return built-in templates, templates listed in index files on the classpath and templates of
+   *     the compiler argument {@code templateAnnotations}
+   */
+  public Set<String> getIndexedTemplates() {
+    return indexedTemplates;
+  }
+
+  /**
+   * Returns the annotation types the processor is called for.
+   *
+   * @return {@code "*"} if configured, otherwise the indexed templates and {@link
+   *     SimpleBuilder.Template}
+   */
+  public Set<String> getSupportedAnnotationTypes() {
+    if (allAnnotations) {
+      return Set.of(ALL_ANNOTATIONS);
+    }
+    Set<String> supported = new LinkedHashSet<>(indexedTemplates);
+    supported.add(SimpleBuilder.Template.class.getCanonicalName());
+    return Collections.unmodifiableSet(supported);
+  }
+
+  /**
+   * Returns the template annotations of a round. Annotations listed in the index are taken
+   * directly. Templates declared in the current compilation are added, as javac does not pass their
+   * usages to the processor unless all annotations are claimed. Only when all annotations are
+   * claimed, the remaining annotations are checked for the {@link SimpleBuilder.Template}
+   * meta-annotation.
+   *
+   * @param annotations the annotations present in the round
+   * @return the template annotations
+   */
+  public List<TypeElement> findTemplates(Set<? extends TypeElement> annotations) {
+    Map<String, TypeElement> templates = new LinkedHashMap<>();
+    for (TypeElement annotation : annotations) {
+      if (annotation.getKind() != ElementKind.ANNOTATION_TYPE) {
+        continue;
+      }
+      String qualifiedName = annotation.getQualifiedName().toString();
+      if (indexedTemplates.contains(qualifiedName)) {
+        templates.put(qualifiedName, annotation);
+      } else if (allAnnotations && annotation.getAnnotation(SimpleBuilder.Template.class) != null) {
+        if (!compiledTemplates.contains(qualifiedName)) {
+          logger.debug(
+              "Template annotation %s is not listed in any %s on the classpath",
+              qualifiedName, INDEX_RESOURCE);
+        }
+        templates.put(qualifiedName, annotation);
+      }
+    }
+    for (String compiledTemplate : compiledTemplates) {
+      TypeElement template = elementUtils.getTypeElement(compiledTemplate);
+      if (template != null) {
+        templates.putIfAbsent(compiledTemplate, template);
+      }
+    }
+    return new ArrayList<>(templates.values());
+  }
+
+  /**
+   * Collects the template annotations declared in the given round.
+   *
+   * @param roundEnv the current round
+   */
+  public void collectCompiledTemplates(RoundEnvironment roundEnv) {
+    for (Element element : roundEnv.getElementsAnnotatedWith(SimpleBuilder.Template.class)) {
+      if (element.getKind() == ElementKind.ANNOTATION_TYPE
+          && compiledTemplates.add(((TypeElement) element).getQualifiedName().toString())) {
+        logger.debug("Found template annotation in compilation: %s", element.getSimpleName());
+      }
+    }
+  }
+
+  /**
+   * Writes the templates declared in the current compilation to {@value #INDEX_RESOURCE} in the
+   * class output, together with the still valid entries of an index written by an earlier
+   * compilation. Nothing is written if the compilation declares no templates.
+   *
+   * @throws IOException if the index cannot be written
+   */
+  public void writeIndex() throws IOException {
+    if (compiledTemplates.isEmpty()) {
+      return;
+    }
+    Set<String> templates = new TreeSet<>(compiledTemplates);
+    for (String previous : IndexResources.readOutput(filer, "", INDEX_RESOURCE).orElse(List.of())) {
+      if (isTemplate(previous)) {
+        templates.add(previous);
+      }
+    }
+    IndexResources.write(filer, "", INDEX_RESOURCE, templates);
+    logger.debug("Template index written with %d entries", templates.size());
+  }
+
+  private boolean isTemplate(String qualifiedName) {
+    TypeElement type = elementUtils.getTypeElement(qualifiedName);
+    return type != null
+        && type.getKind() == ElementKind.ANNOTATION_TYPE
+        && type.getAnnotation(SimpleBuilder.Template.class) != null;
+  }
+
+  /**
+   * Reads the index files on the classpath. The filer only finds the first file in a classpath
+   * directory, as javac does not expose resources below {@code META-INF} of jars to processors. The
+   * class loader of the processor finds all files if the processor runs from the compile classpath.
+   * Templates missed by both must be listed in the compiler argument {@code templateAnnotations}.
+   */
+  private Set<String> readClasspathIndex() {
+    Set<String> templates =
+        new LinkedHashSet<>(
+            IndexResources.readClasspath(filer, "", INDEX_RESOURCE).orElse(List.of()));
+    try {
+      ClassLoader classLoader = TemplateAnnotationIndex.class.getClassLoader();
+      Enumeration<URL> resources = classLoader.getResources(INDEX_RESOURCE);
+      while (resources.hasMoreElements()) {
+        try (InputStream stream = resources.nextElement().openStream()) {
+          templates.addAll(
+              IndexResources.parse(new InputStreamReader(stream, StandardCharsets.UTF_8)));
+        }
+      }
+    } catch (IOException e) {
+      logger.warning("simple-builders: Unable to read template index: %s", e.getMessage());
+    }
+    return templates;
+  }
+}
@@ -127,6 +127,9 @@ public class ImportCollector {
     // Add parameter imports
     method.getParameters().forEach(this::addParameterImports);
 
+    // Add thrown exception imports
+    method.getThrownTypes().forEach(this::addTypeImports);
+
     // Add body argument imports
     addBodyImports(method);
 
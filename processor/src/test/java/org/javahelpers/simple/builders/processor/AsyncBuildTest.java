@@ -0,0 +1,218 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.javahelpers.simple.builders.processor;
+
+import static com.google.testing.compile.CompilationSubject.assertThat;
+import static org.javahelpers.simple.builders.processor.testing.ProcessorAsserts.contains;
+import static org.javahelpers.simple.builders.processor.testing.ProcessorAsserts.notContains;
+import static org.javahelpers.simple.builders.processor.testing.ProcessorTestUtils.loadGeneratedSource;
+
+import com.google.testing.compile.Compilation;
+import javax.tools.JavaFileObject;
+import org.javahelpers.simple.builders.processor.testing.ProcessorAsserts;
+import org.javahelpers.simple.builders.processor.testing.ProcessorTestUtils;
+import org.junit.jupiter.api.Test;
+
+/** Tests for asynchronous setters and {@code buildAsync()} ({@code generateAsyncBuild}). */
+class AsyncBuildTest {
+
+  @Test
+  void asyncBuild_generatesStageAndExecutorSettersAndBuildAsync() {
+    JavaFileObject person =
+        ProcessorTestUtils.forSource(
+            """
+            package test.async;
+            import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+            import org.javahelpers.simple.builders.core.enums.OptionState;
+
+            @SimpleBuilder(options = @SimpleBuilder.Options(generateAsyncBuild = OptionState.ENABLED))
+            public record Person(String name, int age) {}
+            """);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(person);
+    String generatedCode = loadGeneratedSource(compilation, "PersonBuilder");
+    ProcessorAsserts.assertGenerationSucceeded(compilation, "PersonBuilder", generatedCode);
+    ProcessorAsserts.assertingResult(
+        generatedCode,
+        contains("private final PendingFields pendingFields = new PendingFields();"),
+        contains(
+            """
+            public PersonBuilder name(CompletionStage<String> nameStage) {
+                this.pendingFields.register("name", nameStage, value -> this.name = changedValue(value));
+                return this;
+            }
+            """),
+        contains(
+            """
+            public PersonBuilder age(Supplier<Integer> ageSupplier, Executor executor) {
+                this.pendingFields.supply("age", ageSupplier, executor, value -> this.age = changedValue(value));
+                return this;
+            }
+            """),
+        contains(
+            """
+            public CompletableFuture<Person> buildAsync() {
+                return this.pendingFields.resolve(this::build);
+            }
+            """));
+  }
+
+  @Test
+  void asyncBuild_setterDiscardsPendingValueAndBuildChecksResolved() {
+    JavaFileObject person =
+        ProcessorTestUtils.forSource(
+            """
+            package test.async;
+            import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+            import org.javahelpers.simple.builders.core.enums.OptionState;
+
+            @SimpleBuilder(options = @SimpleBuilder.Options(generateAsyncBuild = OptionState.ENABLED))
+            public record Person(String name, int age) {}
+            """);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(person);
+    String generatedCode = loadGeneratedSource(compilation, "PersonBuilder");
+    ProcessorAsserts.assertGenerationSucceeded(compilation, "PersonBuilder", generatedCode);
+    ProcessorAsserts.assertingResult(
+        generatedCode,
+        contains(
+            """
+            public PersonBuilder name(String name) {
+                this.pendingFields.discard("name");
+                this.name = changedValue(name);
+                return this;
+            }
+            """),
+        contains(
+            """
+            public Person build() {
+                this.pendingFields.checkResolved();
+            """));
+  }
+
+  @Test
+  void asyncBuild_methodsExtendingValueFailWhilePendingInsteadOfDiscarding() {
+    JavaFileObject person =
+        ProcessorTestUtils.forSource(
+            """
+            package test.async;
+            import java.util.List;
+            import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+            import org.javahelpers.simple.builders.core.enums.OptionState;
+
+            @SimpleBuilder(options = @SimpleBuilder.Options(generateAsyncBuild = OptionState.ENABLED))
+            public record Person(List<String> tags) {}
+            """);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(person);
+    String generatedCode = loadGeneratedSource(compilation, "PersonBuilder");
+    ProcessorAsserts.assertGenerationSucceeded(compilation, "PersonBuilder", generatedCode);
+    ProcessorAsserts.assertingResult(
+        generatedCode,
+        contains(
+            """
+            public PersonBuilder tags(List<String> tags) {
+                this.pendingFields.discard("tags");
+            """),
+        contains(
+            """
+            public PersonBuilder add2Tags(String element) {
+                this.pendingFields.checkNotPending("tags");
+            """),
+        contains(
+            """
+            public PersonBuilder tags(Consumer<ArrayListBuilder<String>> tagsBuilderConsumer) {
+                this.pendingFields.checkNotPending("tags");
+            """));
+  }
+
+  @Test
+  void asyncBuild_skipsStageFieldsAndAvoidsFieldNameClash() {
+    JavaFileObject job =
+        ProcessorTestUtils.forSource(
+            """
+            package test.async;
+            import java.util.List;
+            import java.util.concurrent.CompletableFuture;
+            import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+            import org.javahelpers.simple.builders.core.enums.OptionState;
+
+            @SimpleBuilder(options = @SimpleBuilder.Options(generateAsyncBuild = OptionState.ENABLED))
+            public record Job(CompletableFuture<String> result, List<String> pendingFields) {}
+            """);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(job);
+    String generatedCode = loadGeneratedSource(compilation, "JobBuilder");
+    ProcessorAsserts.assertGenerationSucceeded(compilation, "JobBuilder", generatedCode);
+    ProcessorAsserts.assertingResult(
+        generatedCode,
+        contains("private final PendingFields _pendingFields = new PendingFields();"),
+        contains(
+            "public JobBuilder pendingFields(CompletionStage<List<String>> pendingFieldsStage)"),
+        notContains("CompletionStage<CompletableFuture<String>>"),
+        contains("return this._pendingFields.resolve(this::build);"));
+  }
+
+  @Test
+  void asyncBuild_supportsGenericDtos() {
+    JavaFileObject box =
+        ProcessorTestUtils.forSource(
+            """
+            package test.async;
+            import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+            import org.javahelpers.simple.builders.core.enums.OptionState;
+
+            @SimpleBuilder(options = @SimpleBuilder.Options(generateAsyncBuild = OptionState.ENABLED))
+            public record Box<T>(T content) {}
+            """);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(box);
+    assertThat(compilation).succeededWithoutWarnings();
+    String generatedCode = loadGeneratedSource(compilation, "BoxBuilder");
+    ProcessorAsserts.assertingResult(
+        generatedCode,
+        contains("public BoxBuilder<T> content(CompletionStage<T> contentStage)"),
+        contains("public CompletableFuture<Box<T>> buildAsync()"));
+  }
+
+  @Test
+  void asyncBuild_disabledByDefault() {
+    JavaFileObject person =
+        ProcessorTestUtils.forSource(
+            """
+            package test.async;
+            import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+
+            @SimpleBuilder
+            public record Person(String name) {}
+            """);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(person);
+    String generatedCode = loadGeneratedSource(compilation, "PersonBuilder");
+    ProcessorAsserts.assertGenerationSucceeded(compilation, "PersonBuilder", generatedCode);
+    ProcessorAsserts.assertingResult(
+        generatedCode, notContains("PendingFields"), notContains("buildAsync"));
+  }
+}
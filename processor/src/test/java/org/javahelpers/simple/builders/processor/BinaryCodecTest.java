@@ -0,0 +1,333 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.javahelpers.simple.builders.processor;
+
+import static com.google.testing.compile.CompilationSubject.assertThat;
+import static org.javahelpers.simple.builders.processor.testing.ProcessorAsserts.contains;
+import static org.javahelpers.simple.builders.processor.testing.ProcessorAsserts.notContains;
+import static org.javahelpers.simple.builders.processor.testing.ProcessorTestUtils.loadGeneratedSource;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import com.google.testing.compile.Compilation;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import org.javahelpers.simple.builders.processor.testing.ProcessorAsserts;
+import org.javahelpers.simple.builders.processor.testing.ProcessorTestUtils;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the generated binary codecs ({@code generateBinaryCodec}). */
+class BinaryCodecTest {
+
+  private static final String ADDRESS_SOURCE =
+      """
+      package test.codec;
+      import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+      import org.javahelpers.simple.builders.core.enums.OptionState;
+
+      @SimpleBuilder(options = @SimpleBuilder.Options(generateBinaryCodec = OptionState.ENABLED))
+      public record Address(String city) {}
+      """;
+
+  private static final String PERSON_SOURCE =
+      """
+      package test.codec;
+      import java.time.LocalDate;
+      import java.util.List;
+      import java.util.Set;
+      import java.util.UUID;
+      import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+      import org.javahelpers.simple.builders.core.enums.OptionState;
+
+      @SimpleBuilder(options = @SimpleBuilder.Options(generateBinaryCodec = OptionState.ENABLED))
+      public record Person(
+          String name,
+          int age,
+          Long score,
+          double rating,
+          Status status,
+          UUID id,
+          LocalDate birthday,
+          List<String> tags,
+          Address address,
+          Set<Address> previousAddresses) {}
+      """;
+
+  private static final String STATUS_SOURCE =
+      """
+      package test.codec;
+
+      public enum Status { ACTIVE, INACTIVE }
+      """;
+
+  @Test
+  void codec_encodesSetFieldsWithTags() {
+    Compilation compilation = compilePerson();
+    assertThat(compilation).succeededWithoutWarnings();
+    String generatedCode = loadGeneratedSource(compilation, "PersonCodec");
+
+    ProcessorAsserts.assertingResult(
+        generatedCode,
+        contains("public class PersonCodec implements IBinaryCodec<Person> {"),
+        contains("public static final PersonCodec INSTANCE = new PersonCodec();"),
+        contains(
+            """
+            @Override
+            public void encode(Person value, ByteBuffer buffer) {
+                BinaryFormat.writeHeader(buffer);
+                encodeFields(value, buffer);
+            }
+            """),
+        contains(
+            """
+            String value1 = value.name();
+            if (value1 != null) {
+                BinaryFormat.writeTag(buffer, 10);
+                BinaryFormat.writeString(buffer, value1);
+            }
+            BinaryFormat.writeTag(buffer, 16);
+            BinaryFormat.writeVarInt(buffer, value.age());
+            Long value3 = value.score();
+            if (value3 != null) {
+                BinaryFormat.writeTag(buffer, 24);
+                BinaryFormat.writeVarLong(buffer, value3);
+            }
+            BinaryFormat.writeTag(buffer, 33);
+            buffer.putDouble(value.rating());
+            Status value5 = value.status();
+            if (value5 != null) {
+                BinaryFormat.writeTag(buffer, 42);
+                BinaryFormat.writeString(buffer, value5.name());
+            }
+            """),
+        contains("BinaryFormat.writeVarLong(buffer, value7.toEpochDay());"),
+        contains(
+            """
+            List<String> value8 = value.tags();
+            if (value8 != null) {
+                BinaryFormat.writeTag(buffer, 68);
+                BinaryFormat.writeCollectionHeader(buffer, value8.size(), BinaryFormat.WIRE_BYTES);
+                for (String element : value8) {
+                    BinaryFormat.writeString(buffer, element);
+                }
+            }
+            """),
+        contains("AddressCodec.INSTANCE.encodeFields(value9, buffer);"),
+        contains("BinaryFormat.writeEndTag(buffer);"));
+  }
+
+  @Test
+  void codec_decodesViaBuilderAndSkipsUnknownTags() {
+    Compilation compilation = compilePerson();
+    assertThat(compilation).succeededWithoutWarnings();
+    String generatedCode = loadGeneratedSource(compilation, "PersonCodec");
+
+    ProcessorAsserts.assertingResult(
+        generatedCode,
+        contains(
+            """
+            public Person decodeFields(ByteBuffer buffer) {
+                PersonBuilder builder = new PersonBuilder();
+                int tag;
+                while ((tag = BinaryFormat.readTag(buffer)) != BinaryFormat.END_TAG) {
+                    switch (tag) {
+                        case 10 :
+                            builder.name(BinaryFormat.readString(buffer));
+                            break;
+                        case 16 :
+                            builder.age(BinaryFormat.readVarInt(buffer));
+                            break;
+            """),
+        contains(
+            """
+                        case 42 :
+                            builder.status(Status.valueOf(BinaryFormat.readString(buffer)));
+                            break;
+            """),
+        contains(
+            """
+                        case 84 :
+                            int size10 = BinaryFormat.readCollectionHeader(buffer, BinaryFormat.WIRE_GROUP);
+                            Set<Address> values10 = new LinkedHashSet<>((int) (size10 / 0.75f) + 1);
+                            for (int i = 0; i < size10; i++) {
+                                values10.add(AddressCodec.INSTANCE.decodeFields(buffer));
+                            }
+                            builder.previousAddresses(values10);
+                            break;
+                        default :
+                            BinaryFormat.skipField(buffer, tag);
+                    }
+                }
+                return builder.build();
+            }
+            """));
+  }
+
+  @Test
+  void codec_fieldNumbersFollowDeclarationOrderOfSetters() {
+    JavaFileObject item =
+        ProcessorTestUtils.forSource(
+            """
+            package test.codec.setters;
+            import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+            import org.javahelpers.simple.builders.core.enums.OptionState;
+
+            @SimpleBuilder(options = @SimpleBuilder.Options(generateBinaryCodec = OptionState.ENABLED))
+            public class Item {
+              private String zone;
+              private int amount;
+
+              public String getZone() { return zone; }
+              public void setZone(String zone) { this.zone = zone; }
+              public int getAmount() { return amount; }
+              public void setAmount(int amount) { this.amount = amount; }
+            }
+            """);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(item);
+    assertThat(compilation).succeededWithoutWarnings();
+    String generatedCode = loadGeneratedSource(compilation, "ItemCodec");
+
+    ProcessorAsserts.assertingResult(
+        generatedCode,
+        contains("String value1 = value.getZone();"),
+        contains("BinaryFormat.writeTag(buffer, 16);"),
+        contains("BinaryFormat.writeVarInt(buffer, value.getAmount());"));
+  }
+
+  @Test
+  void codec_fieldNumbersStartWithFieldsOfSuperClass() {
+    JavaFileObject base =
+        ProcessorTestUtils.forSource(
+            """
+            package test.codec.inherited;
+
+            public class Base {
+              private String id;
+
+              public String getId() { return id; }
+              public void setId(String id) { this.id = id; }
+            }
+            """);
+    JavaFileObject item =
+        ProcessorTestUtils.forSource(
+            """
+            package test.codec.inherited;
+            import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+            import org.javahelpers.simple.builders.core.enums.OptionState;
+
+            @SimpleBuilder(options = @SimpleBuilder.Options(generateBinaryCodec = OptionState.ENABLED))
+            public class Item extends Base {
+              private int amount;
+
+              public int getAmount() { return amount; }
+              public void setAmount(int amount) { this.amount = amount; }
+            }
+            """);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(base, item);
+    assertThat(compilation).succeededWithoutWarnings();
+    String generatedCode = loadGeneratedSource(compilation, "ItemCodec");
+
+    ProcessorAsserts.assertingResult(
+        generatedCode,
+        contains("BinaryFormat.writeTag(buffer, 10);"),
+        contains("BinaryFormat.writeTag(buffer, 16);"),
+        contains("BinaryFormat.writeVarInt(buffer, value.getAmount());"));
+  }
+
+  @Test
+  void codec_unsupportedFieldTypeIsSkippedWithWarning() {
+    JavaFileObject item =
+        ProcessorTestUtils.forSource(
+            """
+            package test.codec.unsupported;
+            import java.util.Map;
+            import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+            import org.javahelpers.simple.builders.core.enums.OptionState;
+
+            @SimpleBuilder(options = @SimpleBuilder.Options(generateBinaryCodec = OptionState.ENABLED))
+            public record Item(String label, Map<String, String> attributes) {}
+            """);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(item);
+    assertThat(compilation).succeeded();
+    assertThat(compilation).hadWarningContaining("the type of field 'attributes' is not supported");
+    assertFalse(
+        compilation
+            .generatedFile(StandardLocation.SOURCE_OUTPUT, "test/codec/unsupported/ItemCodec.java")
+            .isPresent());
+  }
+
+  @Test
+  void codec_genericDtoIsSkippedWithWarning() {
+    JavaFileObject box =
+        ProcessorTestUtils.forSource(
+            """
+            package test.codec.generic;
+            import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+            import org.javahelpers.simple.builders.core.enums.OptionState;
+
+            @SimpleBuilder(options = @SimpleBuilder.Options(generateBinaryCodec = OptionState.ENABLED))
+            public record Box<T>(T content) {}
+            """);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(box);
+    assertThat(compilation).succeeded();
+    assertThat(compilation).hadWarningContaining("DTOs with generics are not supported");
+    assertFalse(
+        compilation
+            .generatedFile(StandardLocation.SOURCE_OUTPUT, "test/codec/generic/BoxCodec.java")
+            .isPresent());
+  }
+
+  @Test
+  void codec_disabledByDefault() {
+    JavaFileObject item =
+        ProcessorTestUtils.forSource(
+            """
+            package test.codec.disabled;
+            import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+
+            @SimpleBuilder
+            public record Item(String label) {}
+            """);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(item);
+    assertThat(compilation).succeededWithoutWarnings();
+    assertFalse(
+        compilation
+            .generatedFile(StandardLocation.SOURCE_OUTPUT, "test/codec/disabled/ItemCodec.java")
+            .isPresent());
+    ProcessorAsserts.assertingResult(
+        loadGeneratedSource(compilation, "ItemBuilder"), notContains("Codec"));
+  }
+
+  private static Compilation compilePerson() {
+    return ProcessorTestUtils.createCompiler()
+        .compile(
+            ProcessorTestUtils.forSource(ADDRESS_SOURCE),
+            ProcessorTestUtils.forSource(STATUS_SOURCE),
+            ProcessorTestUtils.forSource(PERSON_SOURCE));
+  }
+}
@@ -715,4 +715,65 @@ class BuilderConfigurationReaderTest {
     // Then: Compilation succeeds without warnings about access modifiers
     assertThat(compilation).succeededWithoutWarnings();
   }
+
+  /**
+   * Test: Template configurations and resolved configurations are cached within a round.
+   *
+   * <p>Three DTOs share the same custom template, so the template is parsed once and the merged
+   * configuration is reused for the other two DTOs.
+   */
+  @Test
+  void resolveConfiguration_SharedTemplate_UsesCachedConfiguration() {
+    // Given: A custom template used by three DTOs
+    JavaFileObject template =
+        ProcessorTestUtils.forSource(
+            """
+            package test;
+            import java.lang.annotation.*;
+            import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+
+            @SimpleBuilder.Template(options = @SimpleBuilder.Options(builderSuffix = "Factory"))
+            @Retention(RetentionPolicy.CLASS)
+            @Target(ElementType.TYPE)
+            public @interface Dto {}
+            """);
+    JavaFileObject first =
+        ProcessorTestUtils.forSource(
+            """
+            package test;
+
+            @Dto
+            public record First(String a) {}
+            """);
+    JavaFileObject second =
+        ProcessorTestUtils.forSource(
+            """
+            package test;
+
+            @Dto
+            public record Second(String b) {}
+            """);
+    JavaFileObject third =
+        ProcessorTestUtils.forSource(
+            """
+            package test;
+
+            @Dto
+            public record Third(String c) {}
+            """);
+
+    // When: Compile with verbose output
+    Compilation compilation =
+        ProcessorTestUtils.createCompiler()
+            .withOptions("-Averbose=true")
+            .compile(template, first, second, third);
+
+    // Then: All builders use the template configuration, resolved once
+    assertThat(compilation).succeeded();
+    assertThat(compilation).generatedSourceFile("test.FirstFactory");
+    assertThat(compilation).generatedSourceFile("test.SecondFactory");
+    assertThat(compilation).generatedSourceFile("test.ThirdFactory");
+    ProcessorAsserts.assertHadNoteContaining(
+        compilation, "Configuration cache: templates 2 hits, 1 misses; resolved 2 hits, 1 misses");
+  }
 }
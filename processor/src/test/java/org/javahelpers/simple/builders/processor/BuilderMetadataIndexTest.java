@@ -0,0 +1,165 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.javahelpers.simple.builders.processor;
+
+import static com.google.testing.compile.CompilationSubject.assertThat;
+import static org.javahelpers.simple.builders.processor.testing.ProcessorAsserts.assertingResult;
+import static org.javahelpers.simple.builders.processor.testing.ProcessorAsserts.contains;
+import static org.javahelpers.simple.builders.processor.testing.ProcessorAsserts.notContains;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.google.testing.compile.Compilation;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import org.javahelpers.simple.builders.processor.processing.BuilderMetadataIndex;
+import org.javahelpers.simple.builders.processor.testing.ProcessorTestUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Tests for the {@link BuilderMetadataIndex} shared between modules. */
+class BuilderMetadataIndexTest {
+
+  private static final JavaFileObject ADDRESS =
+      ProcessorTestUtils.forSource(
+          """
+          package test.shared;
+          import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+
+          @SimpleBuilder(options = @SimpleBuilder.Options(builderSuffix = "Factory"))
+          public class Address {
+            private String street;
+            private java.util.List<String> lines;
+            public Address() {}
+            public String getStreet() { return street; }
+            public void setStreet(String street) { this.street = street; }
+            public java.util.List<String> getLines() { return lines; }
+            public void setLines(java.util.List<String> lines) { this.lines = lines; }
+          }
+          """);
+
+  @Test
+  void compiledDtos_writeIndexPerPackage() throws IOException {
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(ADDRESS);
+
+    assertThat(compilation).succeededWithoutWarnings();
+    JavaFileObject index =
+        compilation
+            .generatedFile(
+                StandardLocation.CLASS_OUTPUT, "test.shared", BuilderMetadataIndex.INDEX_RESOURCE)
+            .orElseThrow();
+    List<String> lines = index.getCharContent(true).toString().lines().toList();
+    assertEquals(2, lines.size());
+    assertEquals("test.shared.Address\ttest.shared.AddressFactory\ttrue", lines.get(1));
+  }
+
+  private static final JavaFileObject PERSON =
+      ProcessorTestUtils.forSource(
+"""
+          package test.app;
+          import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+          import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+          import test.shared.Address;
+
+          @SimpleBuilder
+          public record Person(Address home, List<Address> previous) {}
+          """);
+
+  @Test
+  void dependencyFromClasspathIndex_usesIndexedBuilder(@TempDir Path classes) throws IOException {
+    copyClassOutput(ProcessorTestUtils.createCompiler().compile(ADDRESS), classes);
+
+    Compilation compilation =
+        ProcessorTestUtils.createCompiler().withClasspath(classpathWith(classes)).compile(PERSON);
+
+    assertThat(compilation).succeededWithoutWarnings();
+    String generatedCode = ProcessorTestUtils.loadGeneratedSource(compilation, "PersonBuilder");
+    assertingResult(
+        generatedCode,
+        contains("Consumer<AddressFactory> homeBuilderConsumer"),
+        notContains("AddressBuilder"));
+  }
+
+  @Test
+  void dependencyFromJarIndex_usesIndexedBuilder(@TempDir Path classes, @TempDir Path jars)
+      throws IOException {
+    copyClassOutput(ProcessorTestUtils.createCompiler().compile(ADDRESS), classes);
+    Path jar = jars.resolve("shared.jar");
+    try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar));
+        Stream<Path> files = Files.walk(classes)) {
+      for (Path file : files.filter(Files::isRegularFile).toList()) {
+        out.putNextEntry(new JarEntry(classes.relativize(file).toString().replace('\\', '/')));
+        Files.copy(file, out);
+        out.closeEntry();
+      }
+    }
+
+    Compilation compilation =
+        ProcessorTestUtils.createCompiler().withClasspath(classpathWith(jar)).compile(PERSON);
+
+    assertThat(compilation).succeededWithoutWarnings();
+    String generatedCode = ProcessorTestUtils.loadGeneratedSource(compilation, "PersonBuilder");
+    assertingResult(
+        generatedCode,
+        contains("Consumer<AddressFactory> homeBuilderConsumer"),
+        notContains("AddressBuilder"));
+  }
+
+  private static void copyClassOutput(Compilation compilation, Path classes) throws IOException {
+    assertThat(compilation).succeededWithoutWarnings();
+    for (JavaFileObject file : compilation.generatedFiles()) {
+      String name = file.toUri().getPath();
+      if (name.startsWith("/CLASS_OUTPUT/")) {
+        Path target = classes.resolve(name.substring("/CLASS_OUTPUT/".length()));
+        Files.createDirectories(target.getParent());
+        try (InputStream content = file.openInputStream()) {
+          Files.copy(content, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+      }
+    }
+  }
+
+  private static List<File> classpathWith(Path classes) {
+    List<File> classpath = new ArrayList<>();
+    classpath.add(classes.toFile());
+    for (String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+      classpath.add(new File(entry));
+    }
+    return classpath;
+  }
+}
@@ -92,8 +92,8 @@ class BuilderProcessorTest {
         "[DEBUG] Starting BuilderProcessor...",
         "[DEBUG] Loaded global configuration from compiler arguments: BuilderConfiguration[]",
         "[DEBUG] Initializing generator registry",
-        "[DEBUG] ├─ Loaded 14 method generators and 9 builder enhancers total",
-        "[DEBUG] └─ Initialized GeneratorRegistry with 14 method generators and 9 builder",
+        "[DEBUG] ├─ Loaded 14 method generators and 16 builder enhancers total",
+        "[DEBUG] └─ Initialized GeneratorRegistry with 14 method generators and 16 builder",
         "simple-builders: PROCESSING ROUND START",
         "[DEBUG] simple-builders: Processing round started. Found 1 annotated elements.",
         "[DEBUG] Processing element: VerboseTest",
@@ -0,0 +1,225 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.javahelpers.simple.builders.processor;
+
+import static com.google.testing.compile.CompilationSubject.assertThat;
+import static org.javahelpers.simple.builders.processor.model.core.BuilderToGenerationTypeMapper.toRenderingDto;
+import static org.javahelpers.simple.builders.processor.processing.BuilderDefinitionCreator.extractFromElement;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.Compiler;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+import org.javahelpers.simple.builders.processor.classgen.roaster.CodeTemplateEngine;
+import org.javahelpers.simple.builders.processor.classgen.roaster.RoasterMapper;
+import org.javahelpers.simple.builders.processor.exceptions.BuilderException;
+import org.javahelpers.simple.builders.processor.model.core.GenerationTargetClassDto;
+import org.javahelpers.simple.builders.processor.model.method.CodeTemplateDto;
+import org.javahelpers.simple.builders.processor.model.method.MethodCodePlaceholder;
+import org.javahelpers.simple.builders.processor.model.method.MethodCodeStringPlaceholder;
+import org.javahelpers.simple.builders.processor.model.method.MethodCodeTypePlaceholder;
+import org.javahelpers.simple.builders.processor.model.method.MethodDto;
+import org.javahelpers.simple.builders.processor.model.type.NestedTypeDto;
+import org.javahelpers.simple.builders.processor.processing.CompilerArgumentsReader;
+import org.javahelpers.simple.builders.processor.processing.ProcessingContext;
+import org.javahelpers.simple.builders.processor.processing.ProcessingLogger;
+import org.javahelpers.simple.builders.processor.util.ImportCollector;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Benchmark of the {@link CodeTemplateEngine} on the code templates of the comprehensive {@code
+ * PersonDto} from {@link ComprehensiveFeatureIntegrationTest}, compared to resolving the templates
+ * with one {@code String.replace} per placeholder.
+ *
+ * <p>Both ways must produce the same source code. The timing comparison prints its results and
+ * belongs to the opt-in scalability suite, run it with {@code mvn test -pl processor
+ * -Pscalability}.
+ */
+class CodeTemplateEngineBenchmarkTest {
+
+  private static final int WARMUP_ITERATIONS = 50;
+  private static final int MEASURED_ITERATIONS = 500;
+
+  @Test
+  void comprehensivePersonDto_rendersLikeReplaceBasedResolution() {
+    TemplateCapturingProcessor processor = captureTemplates();
+
+    CodeTemplateEngine engine = new CodeTemplateEngine();
+    for (CodeTemplateDto template : processor.templates) {
+      assertEquals(replaceBased(template), engine.render(template, processor.staticMembers));
+    }
+  }
+
+  @Test
+  @Tag("scalability")
+  void comprehensivePersonDto_renderingTimeComparedToReplaceBasedResolution() {
+    TemplateCapturingProcessor processor = captureTemplates();
+    List<CodeTemplateDto> templates = processor.templates;
+    Set<String> staticMembers = processor.staticMembers;
+    CodeTemplateEngine engine = new CodeTemplateEngine();
+
+    for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+      renderAllReplaceBased(templates);
+      renderAll(engine, templates, staticMembers);
+    }
+    long start = System.nanoTime();
+    for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+      renderAllReplaceBased(templates);
+    }
+    long replaceBasedNanos = System.nanoTime() - start;
+    start = System.nanoTime();
+    for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+      renderAll(engine, templates, staticMembers);
+    }
+    long engineNanos = System.nanoTime() - start;
+
+    System.out.printf(
+        "Rendered %d templates %d times: String.replace %.2f ms, template engine %.2f ms"
+            + " (%d parsed formats)%n",
+        templates.size(),
+        MEASURED_ITERATIONS,
+        replaceBasedNanos / 1e6,
+        engineNanos / 1e6,
+        engine.getCacheMisses());
+  }
+
+  /**
+   * Compiles the comprehensive {@code PersonDto} and captures the code templates of its builder.
+   */
+  private static TemplateCapturingProcessor captureTemplates() {
+    TemplateCapturingProcessor processor = new TemplateCapturingProcessor();
+    Compilation compilation =
+        Compiler.javac()
+            .withProcessors(processor)
+            .compile(
+                ComprehensiveFeatureIntegrationTest.ADDRESS_DTO,
+                ComprehensiveFeatureIntegrationTest.PERSON_DTO);
+    assertThat(compilation).succeeded();
+    assertFalse(processor.templates.isEmpty());
+    return processor;
+  }
+
+  private static int renderAllReplaceBased(List<CodeTemplateDto> templates) {
+    int length = 0;
+    for (CodeTemplateDto template : templates) {
+      length += replaceBased(template).length();
+    }
+    return length;
+  }
+
+  private static int renderAll(
+      CodeTemplateEngine engine, List<CodeTemplateDto> templates, Set<String> staticMembers) {
+    int length = 0;
+    for (CodeTemplateDto template : templates) {
+      length += engine.render(template, staticMembers).length();
+    }
+    return length;
+  }
+
+  /** Resolution used before the template engine, kept as baseline. */
+  private static String replaceBased(CodeTemplateDto codeDto) {
+    String code = codeDto.getCodeFormat();
+    for (MethodCodePlaceholder<?> placeHolderValue : codeDto.getCodeArguments()) {
+      String label = placeHolderValue.getLabel();
+      if (placeHolderValue instanceof MethodCodeStringPlaceholder stringPlaceholder) {
+        code = code.replace("$" + label + ":N", stringPlaceholder.getValue());
+        code = code.replace("$" + label + ":L", stringPlaceholder.getValue());
+        code = code.replace("$" + label + ":S", RoasterMapper.quote(stringPlaceholder.getValue()));
+      } else if (placeHolderValue instanceof MethodCodeTypePlaceholder typePlaceholder) {
+        code = code.replace("$" + label + ":T", RoasterMapper.mapType(typePlaceholder.getValue()));
+      }
+    }
+    code = code.replace("TrackedValue.initialValue", "initialValue");
+    code = code.replace("TrackedValue.changedValue", "changedValue");
+    code = code.replace("TrackedValue.unsetValue", "unsetValue");
+    return code;
+  }
+
+  /** Creates the rendering DTO of the builders and captures their code templates. */
+  @SupportedAnnotationTypes("org.javahelpers.simple.builders.core.annotations.SimpleBuilder")
+  private static final class TemplateCapturingProcessor extends AbstractProcessor {
+    private final List<CodeTemplateDto> templates = new ArrayList<>();
+    private Set<String> staticMembers = Set.of();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+      return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+      ProcessingContext context =
+          new ProcessingContext(
+              new ProcessingLogger(processingEnv),
+              new CompilerArgumentsReader(processingEnv).readBuilderConfiguration(),
+              processingEnv);
+      for (Element element : roundEnv.getElementsAnnotatedWith(SimpleBuilder.class)) {
+        if (!element.getSimpleName().contentEquals("PersonDto")) {
+          continue;
+        }
+        try {
+          context.initConfigurationForProcessingTarget(
+              context.getConfigurationReader().resolveConfiguration(element));
+          capture(toRenderingDto(extractFromElement(element, context)));
+        } catch (BuilderException e) {
+          throw new IllegalStateException(e);
+        }
+      }
+      return false;
+    }
+
+    private void capture(GenerationTargetClassDto classDef) {
+      staticMembers =
+          CodeTemplateEngine.staticMembersOf(ImportCollector.collectAndSortImports(classDef));
+      classDef.getConstructors().forEach(c -> addIfPresent(c.getMethodCodeDto()));
+      classDef.getMethods().stream().map(MethodDto::getMethodCodeDto).forEach(this::addIfPresent);
+      for (NestedTypeDto nestedType : classDef.getNestedTypes()) {
+        nestedType.getMethods().stream()
+            .map(MethodDto::getMethodCodeDto)
+            .forEach(this::addIfPresent);
+      }
+      if (classDef.getClassJavadoc() != null) {
+        addIfPresent(classDef.getClassJavadoc().getExampleUsageCodeBlock());
+      }
+    }
+
+    private void addIfPresent(CodeTemplateDto template) {
+      if (template != null && template.hasCode()) {
+        templates.add(template);
+      }
+    }
+  }
+}
@@ -0,0 +1,202 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.javahelpers.simple.builders.processor;
+
+import static com.google.testing.compile.CompilationSubject.assertThat;
+import static org.javahelpers.simple.builders.processor.testing.ProcessorAsserts.contains;
+import static org.javahelpers.simple.builders.processor.testing.ProcessorAsserts.notContains;
+import static org.javahelpers.simple.builders.processor.testing.ProcessorTestUtils.loadGeneratedSource;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import com.google.testing.compile.Compilation;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import org.javahelpers.simple.builders.processor.testing.ProcessorAsserts;
+import org.javahelpers.simple.builders.processor.testing.ProcessorTestUtils;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the generated columnar batches ({@code generateColumnarBatch}). */
+class ColumnarBatchTest {
+
+  private static final String READING_SOURCE =
+      """
+      package test.batch;
+      import java.util.List;
+      import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+      import org.javahelpers.simple.builders.core.enums.OptionState;
+
+      @SimpleBuilder(options = @SimpleBuilder.Options(generateColumnarBatch = OptionState.ENABLED))
+      public record Reading(String sensor, int quality, double value, String[] labels, List<String> tags) {}
+      """;
+
+  @Test
+  void batch_storesOneArrayPerField() {
+    Compilation compilation =
+        ProcessorTestUtils.createCompiler().compile(ProcessorTestUtils.forSource(READING_SOURCE));
+    assertThat(compilation).succeededWithoutWarnings();
+    String generatedCode = loadGeneratedSource(compilation, "ReadingBatch");
+
+    ProcessorAsserts.assertingResult(
+        generatedCode,
+        contains("public class ReadingBatch {"),
+        contains("private String[] sensorColumn;"),
+        contains("private int[] qualityColumn;"),
+        contains("private double[] valueColumn;"),
+        contains("private String[][] labelsColumn;"),
+        contains("private Object[] tagsColumn;"),
+        contains(
+            """
+            this.capacity = initialCapacity;
+            this.sensorColumn = new String[initialCapacity];
+            this.qualityColumn = new int[initialCapacity];
+            this.valueColumn = new double[initialCapacity];
+            this.labelsColumn = new String[initialCapacity][];
+            this.tagsColumn = new Object[initialCapacity];
+            """),
+        contains(
+            """
+            public int quality(int row) {
+                Objects.checkIndex(row, this.size);
+                return this.qualityColumn[row];
+            }
+            """),
+        contains(
+            """
+            public int[] qualityColumn() {
+                return this.qualityColumn;
+            }
+            """),
+        contains(
+            """
+            @SuppressWarnings("unchecked")
+            public List<String> tags(int row) {
+                Objects.checkIndex(row, this.size);
+                return (List<String>) this.tagsColumn[row];
+            }
+            """));
+  }
+
+  @Test
+  void batch_appendsRowsAndCreatesDtosViaBuilder() {
+    Compilation compilation =
+        ProcessorTestUtils.createCompiler().compile(ProcessorTestUtils.forSource(READING_SOURCE));
+    assertThat(compilation).succeededWithoutWarnings();
+    String generatedCode = loadGeneratedSource(compilation, "ReadingBatch");
+
+    ProcessorAsserts.assertingResult(
+        generatedCode,
+        contains(
+            """
+            public ReadingBatch add(String sensor, int quality, double value, String[] labels, List<String> tags) {
+                if (this.size == this.capacity) {
+                    grow();
+                }
+                this.sensorColumn[this.size] = sensor;
+                this.qualityColumn[this.size] = quality;
+                this.valueColumn[this.size] = value;
+                this.labelsColumn[this.size] = labels;
+                this.tagsColumn[this.size] = tags;
+                this.size++;
+                return this;
+            }
+            """),
+        contains(
+            """
+            public ReadingBatch add(Reading value) {
+                return add(value.sensor(), value.quality(), value.value(), value.labels(), value.tags());
+            }
+            """),
+        contains(
+            """
+            public Reading toDto(int row) {
+                Objects.checkIndex(row, this.size);
+                return new ReadingBuilder().sensor(this.sensorColumn[row])
+                    .quality(this.qualityColumn[row])
+                    .value(this.valueColumn[row])
+                    .labels(this.labelsColumn[row])
+                    .tags((List<String>) this.tagsColumn[row])
+                    .build();
+            }
+            """),
+        contains(
+            """
+            private void grow() {
+                this.capacity = Math.max(DEFAULT_CAPACITY, this.capacity * 2);
+                this.sensorColumn = Arrays.copyOf(this.sensorColumn, this.capacity);
+            """),
+        contains(
+            """
+            public void clear() {
+                Arrays.fill(this.sensorColumn, 0, this.size, null);
+                Arrays.fill(this.labelsColumn, 0, this.size, null);
+                Arrays.fill(this.tagsColumn, 0, this.size, null);
+                this.size = 0;
+            }
+            """));
+  }
+
+  @Test
+  void batch_reservedFieldNameIsSkippedWithWarning() {
+    JavaFileObject item =
+        ProcessorTestUtils.forSource(
+            """
+            package test.batch.reserved;
+            import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+            import org.javahelpers.simple.builders.core.enums.OptionState;
+
+            @SimpleBuilder(options = @SimpleBuilder.Options(generateColumnarBatch = OptionState.ENABLED))
+            public record Item(String label, int size) {}
+            """);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(item);
+    assertThat(compilation).succeeded();
+    assertThat(compilation).hadWarningContaining("field name 'size' is used by the batch itself");
+    assertFalse(
+        compilation
+            .generatedFile(StandardLocation.SOURCE_OUTPUT, "test/batch/reserved/ItemBatch.java")
+            .isPresent());
+  }
+
+  @Test
+  void batch_disabledByDefault() {
+    JavaFileObject item =
+        ProcessorTestUtils.forSource(
+            """
+            package test.batch.disabled;
+            import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+
+            @SimpleBuilder
+            public record Item(String label) {}
+            """);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(item);
+    assertThat(compilation).succeededWithoutWarnings();
+    assertFalse(
+        compilation
+            .generatedFile(StandardLocation.SOURCE_OUTPUT, "test/batch/disabled/ItemBatch.java")
+            .isPresent());
+    ProcessorAsserts.assertingResult(
+        loadGeneratedSource(compilation, "ItemBuilder"), notContains("Batch"));
+  }
+}
@@ -58,85 +58,85 @@ import org.junit.jupiter.api.Test;
  */
 class ComprehensiveFeatureIntegrationTest {
 
+  /** Nested DTO for testing builder consumers. */
+  static final JavaFileObject ADDRESS_DTO =
+      ProcessorTestUtils.forSource(
+          """
+          package test;
+          @org.javahelpers.simple.builders.core.annotations.SimpleBuilder
+          public class AddressDto {
+            private final String street;
+            private final String city;
+            public AddressDto(String street, String city) {
+              this.street = street;
+              this.city = city;
+            }
+            public String getStreet() { return street; }
+            public String getCity() { return city; }
+          }
+          """);
+
+  /** Comprehensive DTO with all features. */
+  static final JavaFileObject PERSON_DTO =
+      ProcessorTestUtils.forSource(
+          """
+          package test;
+          import java.util.LinkedList;
+          import java.util.List;
+          import java.util.Set;
+          import java.util.Map;
+          import java.util.Optional;
+          import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+          import org.javahelpers.simple.builders.core.annotations.Default;
+
+          @SimpleBuilder
+          public class PersonDto {
+            private final String name;
+            private final int age;
+            private final Optional<String> email;
+            private final List<String> nicknames;
+            private final Set<String> tags;
+            private final Map<String, String> metadata;
+            private final AddressDto address;
+            private final List<AddressDto> previousAddresses;
+            private final LinkedList<String> phoneNumbers;
+
+            public PersonDto(String name, int age,
+                             @Default("Optional.empty()") Optional<String> email,
+                             List<String> nicknames, Set<String> tags,
+                             Map<String, String> metadata, AddressDto address,
+                             List<AddressDto> previousAddresses,
+                             LinkedList<String> phoneNumbers) {
+              this.name = name;
+              this.age = age;
+              this.email = email;
+              this.nicknames = nicknames;
+              this.tags = tags;
+              this.metadata = metadata;
+              this.address = address;
+              this.previousAddresses = previousAddresses;
+              this.phoneNumbers = phoneNumbers;
+            }
+
+            public String getName() { return name; }
+            public int getAge() { return age; }
+            public Optional<String> getEmail() { return email; }
+            public List<String> getNicknames() { return nicknames; }
+            public Set<String> getTags() { return tags; }
+            public Map<String, String> getMetadata() { return metadata; }
+            public AddressDto getAddress() { return address; }
+            public List<AddressDto> getPreviousAddresses() { return previousAddresses; }
+            public LinkedList<String> getPhoneNumbers() { return phoneNumbers; }
+          }
+          """);
+
   private static Compilation compile(JavaFileObject... sources) {
     return ProcessorTestUtils.createCompiler().compile(sources);
   }
 
   @Test
   void allFeatures_generatedCorrectly() {
-    // Create nested DTO for testing builder consumers
-    JavaFileObject addressDto =
-        ProcessorTestUtils.forSource(
-            """
-            package test;
-            @org.javahelpers.simple.builders.core.annotations.SimpleBuilder
-            public class AddressDto {
-              private final String street;
-              private final String city;
-              public AddressDto(String street, String city) {
-                this.street = street;
-                this.city = city;
-              }
-              public String getStreet() { return street; }
-              public String getCity() { return city; }
-            }
-            """);
-
-    // Create comprehensive DTO with all features
-    JavaFileObject personDto =
-        ProcessorTestUtils.forSource(
-            """
-            package test;
-            import java.util.LinkedList;
-            import java.util.List;
-            import java.util.Set;
-            import java.util.Map;
-            import java.util.Optional;
-            import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
-            import org.javahelpers.simple.builders.core.annotations.Default;
-
-            @SimpleBuilder
-            public class PersonDto {
-              private final String name;
-              private final int age;
-              private final Optional<String> email;
-              private final List<String> nicknames;
-              private final Set<String> tags;
-              private final Map<String, String> metadata;
-              private final AddressDto address;
-              private final List<AddressDto> previousAddresses;
-              private final LinkedList<String> phoneNumbers;
-
-              public PersonDto(String name, int age,
-                               @Default("Optional.empty()") Optional<String> email,
-                               List<String> nicknames, Set<String> tags,
-                               Map<String, String> metadata, AddressDto address,
-                               List<AddressDto> previousAddresses,
-                               LinkedList<String> phoneNumbers) {
-                this.name = name;
-                this.age = age;
-                this.email = email;
-                this.nicknames = nicknames;
-                this.tags = tags;
-                this.metadata = metadata;
-                this.address = address;
-                this.previousAddresses = previousAddresses;
-                this.phoneNumbers = phoneNumbers;
-              }
-
-              public String getName() { return name; }
-              public int getAge() { return age; }
-              public Optional<String> getEmail() { return email; }
-              public List<String> getNicknames() { return nicknames; }
-              public Set<String> getTags() { return tags; }
-              public Map<String, String> getMetadata() { return metadata; }
-              public AddressDto getAddress() { return address; }
-              public List<AddressDto> getPreviousAddresses() { return previousAddresses; }
-              public LinkedList<String> getPhoneNumbers() { return phoneNumbers; }
-            }
-            """);
-
-    Compilation compilation = compile(addressDto, personDto);
+    Compilation compilation = compile(ADDRESS_DTO, PERSON_DTO);
     assertThat(compilation).succeeded();
 
     String generatedCode = loadGeneratedSource(compilation, "PersonDtoBuilder");
@@ -151,8 +151,6 @@ class ComprehensiveFeatureIntegrationTest {
         import static org.javahelpers.simple.builders.core.util.TrackedValue.changedValue;
         import static org.javahelpers.simple.builders.core.util.TrackedValue.initialValue;
         import static org.javahelpers.simple.builders.core.util.TrackedValue.unsetValue;
-        import java.util.ArrayList;
-        import java.util.HashSet;
         import java.util.LinkedList;
         import java.util.List;
         import java.util.Map;
@@ -170,6 +168,7 @@ class ComprehensiveFeatureIntegrationTest {
         import org.javahelpers.simple.builders.core.builders.HashMapBuilder;
         import org.javahelpers.simple.builders.core.builders.HashSetBuilder;
         import org.javahelpers.simple.builders.core.interfaces.IBuilderBase;
+        import org.javahelpers.simple.builders.core.util.BuilderSupport;
         import org.javahelpers.simple.builders.core.util.BuilderToStringStyle;
         import org.javahelpers.simple.builders.core.util.TrackedValue;
 
@@ -317,14 +316,7 @@ class ComprehensiveFeatureIntegrationTest {
            * @return current instance of builder
            */
           public PersonDtoBuilder add2Nicknames(String element) {
-            List<String> newCollection;
-            if (this.nicknames.isSet()) {
-              newCollection = new ArrayList<>(this.nicknames.value());
-            } else {
-              newCollection = new ArrayList<>();
-            }
-            newCollection.add(element);
-            this.nicknames = changedValue(newCollection);
+            this.nicknames = BuilderSupport.addToList(this.nicknames, element);
             return this;
           }
 
@@ -369,14 +361,7 @@ class ComprehensiveFeatureIntegrationTest {
            * @return current instance of builder
            */
           public PersonDtoBuilder add2PreviousAddresses(AddressDto element) {
-            List<AddressDto> newCollection;
-            if (this.previousAddresses.isSet()) {
-              newCollection = new ArrayList<>(this.previousAddresses.value());
-            } else {
-              newCollection = new ArrayList<>();
-            }
-            newCollection.add(element);
-            this.previousAddresses = changedValue(newCollection);
+            this.previousAddresses = BuilderSupport.addToList(this.previousAddresses, element);
             return this;
           }
 
@@ -398,14 +383,7 @@ class ComprehensiveFeatureIntegrationTest {
            * @return current instance of builder
            */
           public PersonDtoBuilder add2Tags(String element) {
-            Set<String> newCollection;
-            if (this.tags.isSet()) {
-              newCollection = new HashSet<>(this.tags.value());
-            } else {
-              newCollection = new HashSet<>();
-            }
-            newCollection.add(element);
-            this.tags = changedValue(newCollection);
+            this.tags = BuilderSupport.addToSet(this.tags, element);
             return this;
           }
 
@@ -1188,12 +1166,7 @@ class ComprehensiveFeatureIntegrationTest {
            */
           public PersonDtoBuilder conditional(BooleanSupplier condition, Consumer<PersonDtoBuilder> trueCase,
               Consumer<PersonDtoBuilder> falseCase) {
-            if (condition.getAsBoolean()) {
-              trueCase.accept(this);
-            } else if (falseCase != null) {
-              falseCase.accept(this);
-            }
-            return this;
+            return BuilderSupport.conditional(this, condition, trueCase, falseCase);
           }
 
           /**
@@ -1256,14 +1229,7 @@ class ComprehensiveFeatureIntegrationTest {
              * @return the modified instance
              */
             default PersonDto with(Consumer<PersonDtoBuilder> b) {
-              PersonDtoBuilder builder;
-              try {
-                builder = new PersonDtoBuilder(PersonDto.class.cast(this));
-              } catch (ClassCastException ex) {
-                throw new IllegalArgumentException(
-                    "The interface 'PersonDtoBuilder.With' should only be implemented by classes, which could be casted to 'PersonDto'",
-                    ex);
-              }
+              PersonDtoBuilder builder = new PersonDtoBuilder(BuilderSupport.castWithInstance(this, PersonDto.class, "PersonDtoBuilder.With"));
               b.accept(builder);
               return builder.build();
             }
@@ -1274,13 +1240,187 @@ class ComprehensiveFeatureIntegrationTest {
              * @return a builder initialized with this instance's values
              */
             default PersonDtoBuilder with() {
-              try {
-                return new PersonDtoBuilder(PersonDto.class.cast(this));
-              } catch (ClassCastException ex) {
-                throw new IllegalArgumentException(
-                    "The interface 'PersonDtoBuilder.With' should only be implemented by classes, which could be casted to 'PersonDto'",
-                    ex);
-              }
+              return new PersonDtoBuilder(BuilderSupport.castWithInstance(this, PersonDto.class, "PersonDtoBuilder.With"));
+            }
+
+            /**
+             * Creates a copy of this instance with a new value for <code>name</code>, calling the constructor directly without
+             * initializing a builder.
+             *
+             * @param name the new value for <code>name</code>
+             * @return the modified instance
+             */
+            default PersonDto withName(String name) {
+              PersonDto self = BuilderSupport.castWithInstance(this, PersonDto.class, "PersonDtoBuilder.With");
+              return new PersonDto(name,
+                  self.getAge(),
+                  self.getEmail(),
+                  self.getNicknames(),
+                  self.getTags(),
+                  self.getMetadata(),
+                  self.getAddress(),
+                  self.getPreviousAddresses(),
+                  self.getPhoneNumbers());
+            }
+
+            /**
+             * Creates a copy of this instance with a new value for <code>age</code>, calling the constructor directly without
+             * initializing a builder.
+             *
+             * @param age the new value for <code>age</code>
+             * @return the modified instance
+             */
+            default PersonDto withAge(int age) {
+              PersonDto self = BuilderSupport.castWithInstance(this, PersonDto.class, "PersonDtoBuilder.With");
+              return new PersonDto(self.getName(),
+                  age,
+                  self.getEmail(),
+                  self.getNicknames(),
+                  self.getTags(),
+                  self.getMetadata(),
+                  self.getAddress(),
+                  self.getPreviousAddresses(),
+                  self.getPhoneNumbers());
+            }
+
+            /**
+             * Creates a copy of this instance with a new value for <code>email</code>, calling the constructor directly without
+             * initializing a builder.
+             *
+             * @param email the new value for <code>email</code>
+             * @return the modified instance
+             */
+            default PersonDto withEmail(Optional<String> email) {
+              PersonDto self = BuilderSupport.castWithInstance(this, PersonDto.class, "PersonDtoBuilder.With");
+              return new PersonDto(self.getName(),
+                  self.getAge(),
+                  email,
+                  self.getNicknames(),
+                  self.getTags(),
+                  self.getMetadata(),
+                  self.getAddress(),
+                  self.getPreviousAddresses(),
+                  self.getPhoneNumbers());
+            }
+
+            /**
+             * Creates a copy of this instance with a new value for <code>nicknames</code>, calling the constructor directly
+             * without initializing a builder.
+             *
+             * @param nicknames the new value for <code>nicknames</code>
+             * @return the modified instance
+             */
+            default PersonDto withNicknames(List<String> nicknames) {
+              PersonDto self = BuilderSupport.castWithInstance(this, PersonDto.class, "PersonDtoBuilder.With");
+              return new PersonDto(self.getName(),
+                  self.getAge(),
+                  self.getEmail(),
+                  nicknames,
+                  self.getTags(),
+                  self.getMetadata(),
+                  self.getAddress(),
+                  self.getPreviousAddresses(),
+                  self.getPhoneNumbers());
+            }
+
+            /**
+             * Creates a copy of this instance with a new value for <code>tags</code>, calling the constructor directly without
+             * initializing a builder.
+             *
+             * @param tags the new value for <code>tags</code>
+             * @return the modified instance
+             */
+            default PersonDto withTags(Set<String> tags) {
+              PersonDto self = BuilderSupport.castWithInstance(this, PersonDto.class, "PersonDtoBuilder.With");
+              return new PersonDto(self.getName(),
+                  self.getAge(),
+                  self.getEmail(),
+                  self.getNicknames(),
+                  tags,
+                  self.getMetadata(),
+                  self.getAddress(),
+                  self.getPreviousAddresses(),
+                  self.getPhoneNumbers());
+            }
+
+            /**
+             * Creates a copy of this instance with a new value for <code>metadata</code>, calling the constructor directly
+             * without initializing a builder.
+             *
+             * @param metadata the new value for <code>metadata</code>
+             * @return the modified instance
+             */
+            default PersonDto withMetadata(Map<String, String> metadata) {
+              PersonDto self = BuilderSupport.castWithInstance(this, PersonDto.class, "PersonDtoBuilder.With");
+              return new PersonDto(self.getName(),
+                  self.getAge(),
+                  self.getEmail(),
+                  self.getNicknames(),
+                  self.getTags(),
+                  metadata,
+                  self.getAddress(),
+                  self.getPreviousAddresses(),
+                  self.getPhoneNumbers());
+            }
+
+            /**
+             * Creates a copy of this instance with a new value for <code>address</code>, calling the constructor directly
+             * without initializing a builder.
+             *
+             * @param address the new value for <code>address</code>
+             * @return the modified instance
+             */
+            default PersonDto withAddress(AddressDto address) {
+              PersonDto self = BuilderSupport.castWithInstance(this, PersonDto.class, "PersonDtoBuilder.With");
+              return new PersonDto(self.getName(),
+                  self.getAge(),
+                  self.getEmail(),
+                  self.getNicknames(),
+                  self.getTags(),
+                  self.getMetadata(),
+                  address,
+                  self.getPreviousAddresses(),
+                  self.getPhoneNumbers());
+            }
+
+            /**
+             * Creates a copy of this instance with a new value for <code>previousAddresses</code>, calling the constructor
+             * directly without initializing a builder.
+             *
+             * @param previousAddresses the new value for <code>previousAddresses</code>
+             * @return the modified instance
+             */
+            default PersonDto withPreviousAddresses(List<AddressDto> previousAddresses) {
+              PersonDto self = BuilderSupport.castWithInstance(this, PersonDto.class, "PersonDtoBuilder.With");
+              return new PersonDto(self.getName(),
+                  self.getAge(),
+                  self.getEmail(),
+                  self.getNicknames(),
+                  self.getTags(),
+                  self.getMetadata(),
+                  self.getAddress(),
+                  previousAddresses,
+                  self.getPhoneNumbers());
+            }
+
+            /**
+             * Creates a copy of this instance with a new value for <code>phoneNumbers</code>, calling the constructor directly
+             * without initializing a builder.
+             *
+             * @param phoneNumbers the new value for <code>phoneNumbers</code>
+             * @return the modified instance
+             */
+            default PersonDto withPhoneNumbers(LinkedList<String> phoneNumbers) {
+              PersonDto self = BuilderSupport.castWithInstance(this, PersonDto.class, "PersonDtoBuilder.With");
+              return new PersonDto(self.getName(),
+                  self.getAge(),
+                  self.getEmail(),
+                  self.getNicknames(),
+                  self.getTags(),
+                  self.getMetadata(),
+                  self.getAddress(),
+                  self.getPreviousAddresses(),
+                  phoneNumbers);
             }
           }
         }
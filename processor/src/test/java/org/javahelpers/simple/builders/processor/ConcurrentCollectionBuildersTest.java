@@ -0,0 +1,116 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.javahelpers.simple.builders.processor;
+
+import static org.javahelpers.simple.builders.processor.testing.ProcessorAsserts.contains;
+import static org.javahelpers.simple.builders.processor.testing.ProcessorAsserts.notContains;
+import static org.javahelpers.simple.builders.processor.testing.ProcessorTestUtils.loadGeneratedSource;
+
+import com.google.testing.compile.Compilation;
+import javax.tools.JavaFileObject;
+import org.javahelpers.simple.builders.processor.testing.ProcessorAsserts;
+import org.javahelpers.simple.builders.processor.testing.ProcessorTestUtils;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the thread-safe collection builders ({@code usingConcurrentCollectionBuilders}). */
+class ConcurrentCollectionBuildersTest {
+
+  private static JavaFileObject enrichmentSource(String optionState) {
+    return ProcessorTestUtils.forSource(
+        """
+        package test.concurrent;
+        import java.util.List;
+        import java.util.Map;
+        import java.util.Set;
+        import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+        import org.javahelpers.simple.builders.core.enums.OptionState;
+
+        @SimpleBuilder(options = @SimpleBuilder.Options(
+            usingConcurrentCollectionBuilders = OptionState.%s))
+        public record Enrichment(List<String> items, Set<String> tags, Map<String, Integer> scores) {}
+        """
+            .formatted(optionState));
+  }
+
+  @Test
+  void enabled_consumersUseConcurrentBuilders() {
+    Compilation compilation =
+        ProcessorTestUtils.createCompiler().compile(enrichmentSource("ENABLED"));
+    String generatedCode = loadGeneratedSource(compilation, "EnrichmentBuilder");
+    ProcessorAsserts.assertGenerationSucceeded(compilation, "EnrichmentBuilder", generatedCode);
+    ProcessorAsserts.assertingResult(
+        generatedCode,
+        contains(
+            """
+            public EnrichmentBuilder items(Consumer<ConcurrentArrayListBuilder<String>> itemsBuilderConsumer) {
+                ConcurrentArrayListBuilder<String> builder = this.items.isSet()
+                    ? new ConcurrentArrayListBuilder<String>(this.items.value())
+                    : new ConcurrentArrayListBuilder<String>();
+            """),
+        contains(
+            "public EnrichmentBuilder tags(Consumer<ConcurrentHashSetBuilder<String>> tagsBuilderConsumer)"),
+        contains(
+            "public EnrichmentBuilder scores(Consumer<ConcurrentHashMapBuilder<String, Integer>> scoresBuilderConsumer)"),
+        notContains("Consumer<ArrayListBuilder<String>>"),
+        notContains("Consumer<HashSetBuilder<String>>"),
+        notContains("Consumer<HashMapBuilder<String, Integer>>"));
+  }
+
+  @Test
+  void disabled_consumersUsePlainBuilders() {
+    Compilation compilation =
+        ProcessorTestUtils.createCompiler().compile(enrichmentSource("DISABLED"));
+    String generatedCode = loadGeneratedSource(compilation, "EnrichmentBuilder");
+    ProcessorAsserts.assertGenerationSucceeded(compilation, "EnrichmentBuilder", generatedCode);
+    ProcessorAsserts.assertingResult(
+        generatedCode,
+        contains("Consumer<ArrayListBuilder<String>> itemsBuilderConsumer"),
+        contains("Consumer<HashSetBuilder<String>> tagsBuilderConsumer"),
+        contains("Consumer<HashMapBuilder<String, Integer>> scoresBuilderConsumer"),
+        notContains("Concurrent"));
+  }
+
+  @Test
+  void enabledWithoutCollectionBuilders_keepsPlainConsumers() {
+    JavaFileObject source =
+        ProcessorTestUtils.forSource(
+            """
+            package test.concurrent;
+            import java.util.List;
+            import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+            import org.javahelpers.simple.builders.core.enums.OptionState;
+
+            @SimpleBuilder(options = @SimpleBuilder.Options(
+                usingConcurrentCollectionBuilders = OptionState.ENABLED,
+                usingArrayListBuilder = OptionState.DISABLED))
+            public record Lines(List<String> items) {}
+            """);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(source);
+    String generatedCode = loadGeneratedSource(compilation, "LinesBuilder");
+    ProcessorAsserts.assertGenerationSucceeded(compilation, "LinesBuilder", generatedCode);
+    ProcessorAsserts.assertingResult(generatedCode, notContains("Concurrent"));
+  }
+}
@@ -60,15 +60,11 @@ class ConditionalExecutionTest {
         contains("@param falseCase the consumer to apply if condition is false (can be null)"),
         contains("@return this builder instance"));
 
-    // Verify null-safe implementation for falseCase
+    // Verify delegation to the shared runtime helper, which handles a null falseCase
     ProcessorAsserts.assertContaining(
         generatedCode,
         """
-        if (condition.getAsBoolean()) {
-            trueCase.accept(this);
-        } else if (falseCase != null) {
-            falseCase.accept(this);
-        }
+        return BuilderSupport.conditional(this, condition, trueCase, falseCase);
         """);
 
     // Verify imports are present
@@ -116,12 +112,7 @@ class ConditionalExecutionTest {
     ProcessorAsserts.assertContaining(
         generatedCode,
         """
-        if (condition.getAsBoolean()) {
-            trueCase.accept(this);
-        } else if (falseCase != null) {
-            falseCase.accept(this);
-        }
-        return this;
+        return BuilderSupport.conditional(this, condition, trueCase, falseCase);
         """);
 
     // Verify that conditional works alongside constructor field methods
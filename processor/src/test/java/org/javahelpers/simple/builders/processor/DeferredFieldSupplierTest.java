@@ -0,0 +1,82 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.javahelpers.simple.builders.processor;
+
+import static org.javahelpers.simple.builders.processor.testing.ProcessorAsserts.contains;
+import static org.javahelpers.simple.builders.processor.testing.ProcessorAsserts.notContains;
+import static org.javahelpers.simple.builders.processor.testing.ProcessorTestUtils.loadGeneratedSource;
+
+import com.google.testing.compile.Compilation;
+import javax.tools.JavaFileObject;
+import org.javahelpers.simple.builders.processor.testing.ProcessorAsserts;
+import org.javahelpers.simple.builders.processor.testing.ProcessorTestUtils;
+import org.junit.jupiter.api.Test;
+
+/** Tests for deferred supplier methods ({@code deferFieldSupplier}). */
+class DeferredFieldSupplierTest {
+
+  private static JavaFileObject personSource(String optionState) {
+    return ProcessorTestUtils.forSource(
+        """
+        package test.deferred;
+        import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+        import org.javahelpers.simple.builders.core.enums.OptionState;
+
+        @SimpleBuilder(options = @SimpleBuilder.Options(deferFieldSupplier = OptionState.%s))
+        public record Person(String name, int age) {}
+        """
+            .formatted(optionState));
+  }
+
+  @Test
+  void enabled_supplierIsStoredAsDeferredValue() {
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(personSource("ENABLED"));
+    String generatedCode = loadGeneratedSource(compilation, "PersonBuilder");
+    ProcessorAsserts.assertGenerationSucceeded(compilation, "PersonBuilder", generatedCode);
+    ProcessorAsserts.assertingResult(
+        generatedCode,
+        contains(
+            """
+            public PersonBuilder name(Supplier<String> nameSupplier) {
+                this.name = TrackedValue.deferredValue(nameSupplier);
+                return this;
+            }
+            """),
+        contains("this.age = TrackedValue.deferredValue(ageSupplier);"),
+        contains("by invoking the provided supplier when the value is needed"),
+        notContains("nameSupplier.get()"));
+  }
+
+  @Test
+  void disabled_supplierIsInvokedImmediately() {
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(personSource("DISABLED"));
+    String generatedCode = loadGeneratedSource(compilation, "PersonBuilder");
+    ProcessorAsserts.assertGenerationSucceeded(compilation, "PersonBuilder", generatedCode);
+    ProcessorAsserts.assertingResult(
+        generatedCode,
+        contains("this.name = changedValue(nameSupplier.get());"),
+        notContains("deferredValue"));
+  }
+}
@@ -0,0 +1,170 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.javahelpers.simple.builders.processor;
+
+import static com.google.testing.compile.CompilationSubject.assertThat;
+import static org.javahelpers.simple.builders.processor.testing.ProcessorAsserts.contains;
+import static org.javahelpers.simple.builders.processor.testing.ProcessorAsserts.notContains;
+import static org.javahelpers.simple.builders.processor.testing.ProcessorTestUtils.loadGeneratedSource;
+
+import com.google.testing.compile.Compilation;
+import javax.tools.JavaFileObject;
+import org.javahelpers.simple.builders.processor.testing.ProcessorAsserts;
+import org.javahelpers.simple.builders.processor.testing.ProcessorTestUtils;
+import org.junit.jupiter.api.Test;
+
+/** Tests for field descriptors and indexed field access ({@code generateFieldAccess}). */
+class FieldAccessTest {
+
+  private static final String PERSON_SOURCE =
+      """
+      package test.access;
+      import java.util.List;
+      import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+      import org.javahelpers.simple.builders.core.enums.OptionState;
+
+      @SimpleBuilder(options = @SimpleBuilder.Options(generateFieldAccess = OptionState.ENABLED))
+      public record Person(String name, int age, List<String> tags) {}
+      """;
+
+  @Test
+  void fieldAccess_implementsIndexedBuilderWithDescriptors() {
+    JavaFileObject person = ProcessorTestUtils.forSource(PERSON_SOURCE);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(person);
+    String generatedCode = loadGeneratedSource(compilation, "PersonBuilder");
+    ProcessorAsserts.assertGenerationSucceeded(compilation, "PersonBuilder", generatedCode);
+
+    ProcessorAsserts.assertingResult(
+        generatedCode,
+        contains("IIndexedBuilder<Person>"),
+        contains(
+            """
+            private static final List<FieldDescriptor> FIELD_DESCRIPTORS = List.of(
+                new FieldDescriptor(0, "name", "java.lang.String", String.class, false),
+                new FieldDescriptor(1, "age", "int", int.class, true),
+                new FieldDescriptor(2, "tags", "java.util.List<java.lang.String>", List.class, false));
+            """),
+        contains(
+            """
+            public List<FieldDescriptor> fieldDescriptors() {
+                return FIELD_DESCRIPTORS;
+            }
+            """));
+  }
+
+  @Test
+  void fieldAccess_getAndSetDispatchBySwitch() {
+    JavaFileObject person = ProcessorTestUtils.forSource(PERSON_SOURCE);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(person);
+    String generatedCode = loadGeneratedSource(compilation, "PersonBuilder");
+    ProcessorAsserts.assertGenerationSucceeded(compilation, "PersonBuilder", generatedCode);
+
+    ProcessorAsserts.assertingResult(
+        generatedCode,
+        contains(
+            """
+            public Object get(int ordinal) {
+                switch (ordinal) {
+                    case 0:
+                        return this.name.value();
+                    case 1:
+                        return this.age.value();
+                    case 2:
+                        return this.tags.value();
+                    default:
+                        throw new IndexOutOfBoundsException("Invalid field ordinal: " + ordinal);
+                }
+            }
+            """),
+        contains(
+            """
+            @Override
+            @SuppressWarnings("unchecked")
+            public PersonBuilder set(int ordinal, Object value) {
+                switch (ordinal) {
+                    case 0:
+                        this.name = changedValue((String) value);
+                        return this;
+                    case 1:
+                        if (value == null) {
+                            throw new IllegalArgumentException("Field 'age' is primitive and cannot be set to null");
+                        }
+                        this.age = changedValue((Integer) value);
+                        return this;
+                    case 2:
+                        this.tags = changedValue((List<String>) value);
+                        return this;
+                    default:
+                        throw new IndexOutOfBoundsException("Invalid field ordinal: " + ordinal);
+                }
+            }
+            """));
+  }
+
+  @Test
+  void fieldAccess_genericFieldUsesObjectAsRawType() {
+    JavaFileObject box =
+        ProcessorTestUtils.forSource(
+            """
+            package test.access.generic;
+            import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+            import org.javahelpers.simple.builders.core.enums.OptionState;
+
+            @SimpleBuilder(options = @SimpleBuilder.Options(generateFieldAccess = OptionState.ENABLED))
+            public record Box<T>(T content) {}
+            """);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(box);
+    assertThat(compilation).succeededWithoutWarnings();
+    String generatedCode = loadGeneratedSource(compilation, "BoxBuilder");
+
+    ProcessorAsserts.assertingResult(
+        generatedCode,
+        contains("IIndexedBuilder<Box<T>>"),
+        contains("new FieldDescriptor(0, \"content\", \"T\", Object.class, false)"),
+        contains("this.content = changedValue((T) value);"));
+  }
+
+  @Test
+  void fieldAccess_disabledByDefault() {
+    JavaFileObject person =
+        ProcessorTestUtils.forSource(
+            """
+            package test.access.off;
+            import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+
+            @SimpleBuilder
+            public record Person(String name) {}
+            """);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(person);
+    String generatedCode = loadGeneratedSource(compilation, "PersonBuilder");
+    ProcessorAsserts.assertGenerationSucceeded(compilation, "PersonBuilder", generatedCode);
+
+    ProcessorAsserts.assertingResult(
+        generatedCode, notContains("IIndexedBuilder"), notContains("FIELD_DESCRIPTORS"));
+  }
+}
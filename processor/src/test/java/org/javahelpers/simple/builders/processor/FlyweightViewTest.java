@@ -0,0 +1,202 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.javahelpers.simple.builders.processor;
+
+import static com.google.testing.compile.CompilationSubject.assertThat;
+import static org.javahelpers.simple.builders.processor.testing.ProcessorAsserts.contains;
+import static org.javahelpers.simple.builders.processor.testing.ProcessorAsserts.notContains;
+import static org.javahelpers.simple.builders.processor.testing.ProcessorTestUtils.loadGeneratedSource;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import com.google.testing.compile.Compilation;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import org.javahelpers.simple.builders.processor.testing.ProcessorAsserts;
+import org.javahelpers.simple.builders.processor.testing.ProcessorTestUtils;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the generated flyweight views ({@code generateFlyweightView}). */
+class FlyweightViewTest {
+
+  private static final String TRADE_SOURCE =
+      """
+      package test.view;
+      import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+      import org.javahelpers.simple.builders.core.enums.OptionState;
+
+      @SimpleBuilder(options = @SimpleBuilder.Options(generateFlyweightView = OptionState.ENABLED))
+      public record Trade(boolean open, int quantity, String symbol, double price, long tradeId) {}
+      """;
+
+  @Test
+  void view_fieldsAtPrecomputedOffsets() {
+    JavaFileObject trade = ProcessorTestUtils.forSource(TRADE_SOURCE);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(trade);
+    assertThat(compilation).succeededWithoutWarnings();
+    String generatedCode = loadGeneratedSource(compilation, "TradeView");
+
+    ProcessorAsserts.assertingResult(
+        generatedCode,
+        contains("public class TradeView {"),
+        contains(
+            """
+            public static final int FIXED_SIZE = 29;
+            private static final int OFFSET_PRICE = 0;
+            private static final int OFFSET_TRADE_ID = 8;
+            private static final int OFFSET_QUANTITY = 16;
+            private static final int OFFSET_SYMBOL = 20;
+            private static final int OFFSET_OPEN = 28;
+            """),
+        contains(
+            """
+            public boolean open() {
+                return FlyweightLayout.getBoolean(buffer, offset + OFFSET_OPEN);
+            }
+            """),
+        contains(
+            """
+            public long tradeId() {
+                return buffer.getLong(offset + OFFSET_TRADE_ID);
+            }
+            """),
+        contains(
+            """
+            public String symbol() {
+                return FlyweightLayout.getString(buffer, offset, OFFSET_SYMBOL);
+            }
+            """),
+        contains(
+            """
+            public int recordSize() {
+                return FIXED_SIZE + FlyweightLayout.dataLength(buffer, offset, OFFSET_SYMBOL);
+            }
+            """));
+  }
+
+  @Test
+  void view_writesRecordsAndConvertsViaBuilder() {
+    JavaFileObject trade = ProcessorTestUtils.forSource(TRADE_SOURCE);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(trade);
+    assertThat(compilation).succeededWithoutWarnings();
+    String generatedCode = loadGeneratedSource(compilation, "TradeView");
+
+    ProcessorAsserts.assertingResult(
+        generatedCode,
+        contains(
+            """
+            public static int write(Trade value, ByteBuffer buffer, int offset) {
+                return write(buffer, offset, value.open(), value.quantity(), value.symbol(), value.price(), value.tradeId());
+            }
+            """),
+        contains(
+            """
+            public static int write(ByteBuffer buffer, int offset, boolean open, int quantity, String symbol, double price, long tradeId) {
+                int end = FIXED_SIZE;
+                buffer.putDouble(offset + OFFSET_PRICE, price);
+                buffer.putLong(offset + OFFSET_TRADE_ID, tradeId);
+                buffer.putInt(offset + OFFSET_QUANTITY, quantity);
+                end = FlyweightLayout.putString(buffer, offset, OFFSET_SYMBOL, end, symbol);
+                FlyweightLayout.putBoolean(buffer, offset + OFFSET_OPEN, open);
+                return end;
+            }
+            """),
+        contains(
+            """
+            public Trade toDto() {
+                return new TradeBuilder().open(open())
+                    .quantity(quantity())
+                    .symbol(symbol())
+                    .price(price())
+                    .tradeId(tradeId())
+                    .build();
+            }
+            """));
+  }
+
+  @Test
+  void view_wrapperTypeIsSkippedWithWarning() {
+    JavaFileObject item =
+        ProcessorTestUtils.forSource(
+            """
+            package test.view.boxed;
+            import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+            import org.javahelpers.simple.builders.core.enums.OptionState;
+
+            @SimpleBuilder(options = @SimpleBuilder.Options(generateFlyweightView = OptionState.ENABLED))
+            public record Item(int id, Integer stock) {}
+            """);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(item);
+    assertThat(compilation).succeeded();
+    assertThat(compilation)
+        .hadWarningContaining(
+            "the type of field 'stock' has no fixed-width or variable-length layout");
+    assertFalse(
+        compilation
+            .generatedFile(StandardLocation.SOURCE_OUTPUT, "test/view/boxed/ItemView.java")
+            .isPresent());
+  }
+
+  @Test
+  void view_reservedFieldNameIsSkippedWithWarning() {
+    JavaFileObject item =
+        ProcessorTestUtils.forSource(
+            """
+            package test.view.reserved;
+            import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+            import org.javahelpers.simple.builders.core.enums.OptionState;
+
+            @SimpleBuilder(options = @SimpleBuilder.Options(generateFlyweightView = OptionState.ENABLED))
+            public record Item(int offset) {}
+            """);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(item);
+    assertThat(compilation).succeeded();
+    assertThat(compilation).hadWarningContaining("field name 'offset' is used by the view itself");
+  }
+
+  @Test
+  void view_disabledByDefault() {
+    JavaFileObject item =
+        ProcessorTestUtils.forSource(
+            """
+            package test.view.disabled;
+            import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+
+            @SimpleBuilder
+            public record Item(int id) {}
+            """);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(item);
+    assertThat(compilation).succeededWithoutWarnings();
+    assertFalse(
+        compilation
+            .generatedFile(StandardLocation.SOURCE_OUTPUT, "test/view/disabled/ItemView.java")
+            .isPresent());
+    ProcessorAsserts.assertingResult(
+        loadGeneratedSource(compilation, "ItemBuilder"), notContains("FlyweightLayout"));
+  }
+}
@@ -59,6 +59,38 @@ class JacksonModuleTest {
         "@JsonDeserialize(builder = SecondDtoBuilder.class)");
   }
 
+  @Test
+  void generateJacksonModule_GenericDto_ShouldRegisterRawTypes() {
+    // Given
+    JavaFileObject dto =
+        ProcessorTestUtils.forSource(
+            """
+            package test;
+            import java.util.List;
+            import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+
+            @SimpleBuilder
+            public record PageDto<T>(List<T> items, int total) {}
+            """);
+
+    // When
+    Compilation compilation =
+        ProcessorTestUtils.createCompiler()
+            .withOptions(
+                "-Asimplebuilder.generateJacksonModule=true",
+                "-Asimplebuilder.usingJacksonDeserializerAnnotation=true")
+            .compile(dto);
+
+    // Then
+    assertThat(compilation).succeeded();
+    String generatedModule =
+        ProcessorTestUtils.loadGeneratedSource(compilation, "SimpleBuildersJacksonModule");
+    ProcessorAsserts.assertContaining(
+        generatedModule,
+        "setMixInAnnotation(PageDto.class, PageDtoMixin.class)",
+        "@JsonDeserialize(builder = PageDtoBuilder.class)");
+  }
+
   @Test
   void generateJacksonModule_WhenDisabled_ShouldNotGenerateModuleClass() {
     // Given
@@ -0,0 +1,215 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.javahelpers.simple.builders.processor;
+
+import static org.javahelpers.simple.builders.processor.testing.ProcessorAsserts.contains;
+import static org.javahelpers.simple.builders.processor.testing.ProcessorAsserts.notContains;
+import static org.javahelpers.simple.builders.processor.testing.ProcessorTestUtils.loadGeneratedSource;
+
+import com.google.testing.compile.Compilation;
+import javax.tools.JavaFileObject;
+import org.javahelpers.simple.builders.processor.testing.ProcessorAsserts;
+import org.javahelpers.simple.builders.processor.testing.ProcessorTestUtils;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the lazy, source-backed from-instance constructor ({@code lazyCopyConstructor}). */
+class LazyCopyConstructorTest {
+
+  private static final String PERSON_SOURCE =
+      """
+      package test.lazy;
+      import java.util.List;
+      import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+      import org.javahelpers.simple.builders.core.enums.OptionState;
+
+      @SimpleBuilder(options = @SimpleBuilder.Options(lazyCopyConstructor = OptionState.ENABLED))
+      public class Person {
+        private final String name;
+        private List<String> tags;
+
+        public Person(String name) { this.name = name; }
+
+        public String getName() { return name; }
+        public List<String> getTags() { return tags; }
+        public void setTags(List<String> tags) { this.tags = tags; }
+      }
+      """;
+
+  @Test
+  void lazyCopyConstructor_storesSourceInsteadOfCopying() {
+    JavaFileObject person = ProcessorTestUtils.forSource(PERSON_SOURCE);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(person);
+    String generatedCode = loadGeneratedSource(compilation, "PersonBuilder");
+    ProcessorAsserts.assertGenerationSucceeded(compilation, "PersonBuilder", generatedCode);
+
+    ProcessorAsserts.assertingResult(
+        generatedCode,
+        contains("private Person source;"),
+        contains(
+            """
+            public PersonBuilder(Person instance) {
+                this.source = Objects.requireNonNull(instance, "instance");
+            }
+            """));
+  }
+
+  @Test
+  void lazyCopyConstructor_resolvesUnchangedFieldsOnce() {
+    JavaFileObject person = ProcessorTestUtils.forSource(PERSON_SOURCE);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(person);
+    String generatedCode = loadGeneratedSource(compilation, "PersonBuilder");
+    ProcessorAsserts.assertGenerationSucceeded(compilation, "PersonBuilder", generatedCode);
+
+    ProcessorAsserts.assertingResult(
+        generatedCode,
+        contains(
+            """
+            private void resolveSource() {
+                if (this.source == null) {
+                    return;
+                }
+                Person instance = this.source;
+                this.source = null;
+                if (!this.name.isSet()) {
+                    this.name = initialValue(instance.getName());
+                }
+                if (!this.tags.isSet()) {
+                    this.tags = initialValue(instance.getTags());
+                }
+            }
+            """),
+        contains(
+            """
+            public Person build() {
+                resolveSource();
+            """),
+        contains(
+            """
+            public String toString() {
+                resolveSource();
+            """));
+  }
+
+  @Test
+  void lazyCopyConstructor_helperReadingFieldStateResolvesSource() {
+    JavaFileObject person = ProcessorTestUtils.forSource(PERSON_SOURCE);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(person);
+    String generatedCode = loadGeneratedSource(compilation, "PersonBuilder");
+    ProcessorAsserts.assertGenerationSucceeded(compilation, "PersonBuilder", generatedCode);
+
+    // add2Tags extends the current list, so it must see the value of the source
+    ProcessorAsserts.assertingResult(
+        generatedCode,
+        contains(
+            """
+            public PersonBuilder add2Tags(String element) {
+                resolveSource();
+            """),
+        // plain setters only overwrite the value and need no resolution
+        notContains(
+            """
+            public PersonBuilder name(String name) {
+                resolveSource();
+            """));
+  }
+
+  @Test
+  void lazyCopyConstructor_methodsDeclaringFieldStateAccessResolveSource() {
+    JavaFileObject person =
+        ProcessorTestUtils.forSource(
+            """
+            package test.lazy.declared;
+            import java.util.List;
+            import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+            import org.javahelpers.simple.builders.core.enums.OptionState;
+
+            @SimpleBuilder(options = @SimpleBuilder.Options(
+                lazyCopyConstructor = OptionState.ENABLED,
+                generateFieldAccess = OptionState.ENABLED,
+                generatePartialUpdate = OptionState.ENABLED,
+                generateMerge = OptionState.ENABLED))
+            public class Person {
+              private List<String> tags;
+
+              public List<String> getTags() { return tags; }
+              public void setTags(List<String> tags) { this.tags = tags; }
+            }
+            """);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(person);
+    String generatedCode = loadGeneratedSource(compilation, "PersonBuilder");
+    ProcessorAsserts.assertGenerationSucceeded(compilation, "PersonBuilder", generatedCode);
+
+    ProcessorAsserts.assertingResult(
+        generatedCode,
+        contains(
+            """
+            public Object get(int ordinal) {
+                resolveSource();
+            """),
+        contains(
+            """
+            public Person applyTo(Person target) {
+                resolveSource();
+            """),
+        contains(
+            """
+            public PersonBuilder merge(PersonBuilder other) {
+                resolveSource();
+                other.resolveSource();
+            """),
+        // changed fields are tracked on the builder, independent of the source
+        notContains(
+            """
+            public EnumSet<Field> changedFields() {
+                resolveSource();
+            """));
+  }
+
+  @Test
+  void lazyCopyConstructor_disabledByDefault() {
+    JavaFileObject person =
+        ProcessorTestUtils.forSource(
+            """
+            package test.lazy.off;
+            import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+
+            @SimpleBuilder
+            public record Person(String name) {}
+            """);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(person);
+    String generatedCode = loadGeneratedSource(compilation, "PersonBuilder");
+    ProcessorAsserts.assertGenerationSucceeded(compilation, "PersonBuilder", generatedCode);
+
+    ProcessorAsserts.assertingResult(
+        generatedCode,
+        contains("this.name = initialValue(instance.name());"),
+        notContains("resolveSource"));
+  }
+}
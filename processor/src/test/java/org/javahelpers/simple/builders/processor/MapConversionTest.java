@@ -0,0 +1,252 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.javahelpers.simple.builders.processor;
+
+import static com.google.testing.compile.CompilationSubject.assertThat;
+import static org.javahelpers.simple.builders.processor.testing.ProcessorAsserts.contains;
+import static org.javahelpers.simple.builders.processor.testing.ProcessorAsserts.notContains;
+import static org.javahelpers.simple.builders.processor.testing.ProcessorTestUtils.loadGeneratedSource;
+
+import com.google.testing.compile.Compilation;
+import javax.tools.JavaFileObject;
+import org.javahelpers.simple.builders.processor.testing.ProcessorAsserts;
+import org.javahelpers.simple.builders.processor.testing.ProcessorTestUtils;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the conversion between DTOs and property maps ({@code generateMapConversion}). */
+class MapConversionTest {
+
+  private static final String ADDRESS_SOURCE =
+      """
+      package test.map;
+      import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+      import org.javahelpers.simple.builders.core.enums.OptionState;
+
+      @SimpleBuilder(options = @SimpleBuilder.Options(generateMapConversion = OptionState.ENABLED))
+      public record Address(String city, int zipCode) {}
+      """;
+
+  @Test
+  void mapConversion_fromMapDispatchesBySwitch() {
+    JavaFileObject address = ProcessorTestUtils.forSource(ADDRESS_SOURCE);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(address);
+    String generatedCode = loadGeneratedSource(compilation, "AddressBuilder");
+    ProcessorAsserts.assertGenerationSucceeded(compilation, "AddressBuilder", generatedCode);
+
+    ProcessorAsserts.assertingResult(
+        generatedCode,
+        contains(
+            """
+            public static AddressBuilder fromMap(Map<String, ?> map) {
+                Objects.requireNonNull(map, "map");
+                AddressBuilder builder = new AddressBuilder();
+                for (Map.Entry<String, ?> entry : map.entrySet()) {
+                    switch (entry.getKey()) {
+                        case "city":
+                            builder.city((String) entry.getValue());
+                            break;
+                        case "zipCode":
+                            builder.zipCode((Integer) entry.getValue());
+                            break;
+                        default:
+                            break;
+                    }
+                }
+                return builder;
+            }
+            """),
+        notContains("@SuppressWarnings(\"unchecked\")"));
+  }
+
+  @Test
+  void mapConversion_toMapCallsGettersIntoPresizedMap() {
+    JavaFileObject address = ProcessorTestUtils.forSource(ADDRESS_SOURCE);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(address);
+    String generatedCode = loadGeneratedSource(compilation, "AddressBuilder");
+    ProcessorAsserts.assertGenerationSucceeded(compilation, "AddressBuilder", generatedCode);
+
+    ProcessorAsserts.assertingResult(
+        generatedCode,
+        contains(
+            """
+            public static Map<String, Object> toMap(Address instance) {
+                return toMap(instance, false);
+            }
+            """),
+        contains(
+            """
+            public static Map<String, Object> toMap(Address instance, boolean skipNullValues) {
+                Objects.requireNonNull(instance, "instance");
+                Map<String, Object> map = new LinkedHashMap<>(3);
+                map.put("city", instance.city());
+                map.put("zipCode", instance.zipCode());
+                if (skipNullValues) {
+                    map.values().removeIf(Objects::isNull);
+                }
+                return map;
+            }
+            """));
+  }
+
+  @Test
+  void mapConversion_nestedBuildersWithMapConversionAreConvertedRecursively() {
+    JavaFileObject address = ProcessorTestUtils.forSource(ADDRESS_SOURCE);
+    JavaFileObject customer =
+        ProcessorTestUtils.forSource(
+            """
+            package test.map;
+            import java.util.List;
+            import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+            import org.javahelpers.simple.builders.core.enums.OptionState;
+
+            @SimpleBuilder(options = @SimpleBuilder.Options(generateMapConversion = OptionState.ENABLED))
+            public record Customer(String name, Address address, List<Address> deliveryAddresses, List<String> tags) {}
+            """);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(address, customer);
+    String generatedCode = loadGeneratedSource(compilation, "CustomerBuilder");
+    ProcessorAsserts.assertGenerationSucceeded(compilation, "CustomerBuilder", generatedCode);
+
+    ProcessorAsserts.assertingResult(
+        generatedCode,
+        contains("@SuppressWarnings(\"unchecked\")"),
+        contains(
+            """
+            case "address":
+                builder.address(MapConversion.fromMapValue(entry.getValue(), Address.class, nested -> AddressBuilder.fromMap(nested).build()));
+                break;
+            case "deliveryAddresses":
+                builder.deliveryAddresses(MapConversion.fromMapValueList(entry.getValue(), Address.class, element -> AddressBuilder.fromMap(element).build()));
+                break;
+            """),
+        contains("builder.tags((List<String>) entry.getValue());"),
+        contains(
+            """
+            map.put("address", MapConversion.toMapValue(instance.address(), AddressBuilder::toMap));
+            map.put("deliveryAddresses", MapConversion.toMapValueList(instance.deliveryAddresses(), AddressBuilder::toMap));
+            map.put("tags", instance.tags());
+            """));
+  }
+
+  @Test
+  void mapConversion_setsOfNestedBuildersStaySets() {
+    JavaFileObject address = ProcessorTestUtils.forSource(ADDRESS_SOURCE);
+    JavaFileObject customer =
+        ProcessorTestUtils.forSource(
+            """
+            package test.map;
+            import java.util.Set;
+            import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+            import org.javahelpers.simple.builders.core.enums.OptionState;
+
+            @SimpleBuilder(options = @SimpleBuilder.Options(generateMapConversion = OptionState.ENABLED))
+            public record Branch(Set<Address> addresses) {}
+            """);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(address, customer);
+    String generatedCode = loadGeneratedSource(compilation, "BranchBuilder");
+    ProcessorAsserts.assertGenerationSucceeded(compilation, "BranchBuilder", generatedCode);
+
+    ProcessorAsserts.assertingResult(
+        generatedCode,
+        contains(
+            "builder.addresses(MapConversion.fromMapValueSet(entry.getValue(), Address.class, element -> AddressBuilder.fromMap(element).build()));"),
+        contains(
+            "map.put(\"addresses\", MapConversion.toMapValueSet(instance.addresses(), AddressBuilder::toMap));"));
+  }
+
+  @Test
+  void mapConversion_nestedBuilderWithoutMapConversionIsAssignedAsValue() {
+    JavaFileObject address =
+        ProcessorTestUtils.forSource(
+            """
+            package test.map.plain;
+            import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+
+            @SimpleBuilder
+            public record Address(String city) {}
+            """);
+    JavaFileObject customer =
+        ProcessorTestUtils.forSource(
+            """
+            package test.map.plain;
+            import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+            import org.javahelpers.simple.builders.core.enums.OptionState;
+
+            @SimpleBuilder(options = @SimpleBuilder.Options(generateMapConversion = OptionState.ENABLED))
+            public record Customer(String name, Address address) {}
+            """);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(address, customer);
+    String generatedCode = loadGeneratedSource(compilation, "CustomerBuilder");
+    ProcessorAsserts.assertGenerationSucceeded(compilation, "CustomerBuilder", generatedCode);
+
+    ProcessorAsserts.assertingResult(
+        generatedCode,
+        contains("builder.address((Address) entry.getValue());"),
+        contains("map.put(\"address\", instance.address());"),
+        notContains("MapConversion"));
+  }
+
+  @Test
+  void mapConversion_genericDtoIsSkipped() {
+    JavaFileObject box =
+        ProcessorTestUtils.forSource(
+            """
+            package test.map.generic;
+            import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+            import org.javahelpers.simple.builders.core.enums.OptionState;
+
+            @SimpleBuilder(options = @SimpleBuilder.Options(generateMapConversion = OptionState.ENABLED))
+            public record Box<T>(T content) {}
+            """);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(box);
+    assertThat(compilation).succeededWithoutWarnings();
+    String generatedCode = loadGeneratedSource(compilation, "BoxBuilder");
+
+    ProcessorAsserts.assertingResult(generatedCode, notContains("fromMap"), notContains("toMap"));
+  }
+
+  @Test
+  void mapConversion_disabledByDefault() {
+    JavaFileObject address =
+        ProcessorTestUtils.forSource(
+            """
+            package test.map.disabled;
+            import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+
+            @SimpleBuilder
+            public record Address(String city) {}
+            """);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(address);
+    String generatedCode = loadGeneratedSource(compilation, "AddressBuilder");
+    ProcessorAsserts.assertGenerationSucceeded(compilation, "AddressBuilder", generatedCode);
+
+    ProcessorAsserts.assertingResult(generatedCode, notContains("fromMap"), notContains("toMap"));
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.javahelpers.simple.builders.processor;
+
+import static com.google.testing.compile.CompilationSubject.assertThat;
+import static org.javahelpers.simple.builders.processor.testing.ProcessorAsserts.contains;
+import static org.javahelpers.simple.builders.processor.testing.ProcessorAsserts.notContains;
+import static org.javahelpers.simple.builders.processor.testing.ProcessorTestUtils.loadGeneratedSource;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import com.google.testing.compile.Compilation;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import org.javahelpers.simple.builders.processor.testing.ProcessorAsserts;
+import org.javahelpers.simple.builders.processor.testing.ProcessorTestUtils;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the generated memory-mapped stores ({@code generateMappedStore}). */
+class MappedStoreTest {
+
+  @Test
+  void store_bindsRecordStoreToDtoAndCodec() {
+    JavaFileObject event =
+        ProcessorTestUtils.forSource(
+            """
+            package test.store;
+            import java.time.Instant;
+            import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+            import org.javahelpers.simple.builders.core.enums.OptionState;
+
+            @SimpleBuilder(options = @SimpleBuilder.Options(
+                generateBinaryCodec = OptionState.ENABLED,
+                generateMappedStore = OptionState.ENABLED))
+            public record Event(long id, String type, Instant at) {}
+            """);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(event);
+    assertThat(compilation).succeededWithoutWarnings();
+    String generatedCode = loadGeneratedSource(compilation, "EventStore");
+
+    ProcessorAsserts.assertingResult(
+        generatedCode,
+        contains("public class EventStore extends MappedRecordStore<Event> {"),
+        contains(
+            """
+            private EventStore(Path directory, int segmentSize) {
+                super(directory, "Event", segmentSize, EventCodec.INSTANCE);
+            }
+            """),
+        contains(
+            """
+            public static EventStore open(Path directory) throws IOException {
+                return open(directory, DEFAULT_SEGMENT_SIZE);
+            }
+            """),
+        contains(
+            """
+            public static EventStore open(Path directory, int segmentSize) throws IOException {
+                EventStore store = new EventStore(directory, segmentSize);
+                store.load();
+                return store;
+            }
+            """));
+  }
+
+  @Test
+  void store_withoutBinaryCodecIsSkippedWithWarning() {
+    JavaFileObject event =
+        ProcessorTestUtils.forSource(
+            """
+            package test.store.nocodec;
+            import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+            import org.javahelpers.simple.builders.core.enums.OptionState;
+
+            @SimpleBuilder(options = @SimpleBuilder.Options(generateMappedStore = OptionState.ENABLED))
+            public record Event(long id) {}
+            """);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(event);
+    assertThat(compilation).succeeded();
+    assertThat(compilation).hadWarningContaining("no binary codec is generated");
+    assertFalse(
+        compilation
+            .generatedFile(StandardLocation.SOURCE_OUTPUT, "test/store/nocodec/EventStore.java")
+            .isPresent());
+  }
+
+  @Test
+  void store_disabledByDefault() {
+    JavaFileObject event =
+        ProcessorTestUtils.forSource(
+            """
+            package test.store.disabled;
+            import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+            import org.javahelpers.simple.builders.core.enums.OptionState;
+
+            @SimpleBuilder(options = @SimpleBuilder.Options(generateBinaryCodec = OptionState.ENABLED))
+            public record Event(long id) {}
+            """);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(event);
+    assertThat(compilation).succeededWithoutWarnings();
+    assertFalse(
+        compilation
+            .generatedFile(StandardLocation.SOURCE_OUTPUT, "test/store/disabled/EventStore.java")
+            .isPresent());
+    ProcessorAsserts.assertingResult(
+        loadGeneratedSource(compilation, "EventCodec"), notContains("Store"));
+  }
+}
@@ -0,0 +1,187 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.javahelpers.simple.builders.processor;
+
+import static com.google.testing.compile.CompilationSubject.assertThat;
+import static org.javahelpers.simple.builders.processor.testing.ProcessorAsserts.contains;
+import static org.javahelpers.simple.builders.processor.testing.ProcessorAsserts.notContains;
+import static org.javahelpers.simple.builders.processor.testing.ProcessorTestUtils.loadGeneratedSource;
+
+import com.google.testing.compile.Compilation;
+import javax.tools.JavaFileObject;
+import org.javahelpers.simple.builders.processor.testing.ProcessorAsserts;
+import org.javahelpers.simple.builders.processor.testing.ProcessorTestUtils;
+import org.junit.jupiter.api.Test;
+
+/** Tests for merging builders and the generated collector ({@code generateMerge}). */
+class MergeTest {
+
+  private static final String REPORT_SOURCE =
+      """
+      package test.merge;
+      import java.util.List;
+      import java.util.Map;
+      import java.util.Set;
+      import java.util.TreeSet;
+      import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+      import org.javahelpers.simple.builders.core.enums.OptionState;
+
+      @SimpleBuilder(options = @SimpleBuilder.Options(generateMerge = OptionState.ENABLED))
+      public record Report(
+          String title, int count, List<String> lines, Set<String> sources, TreeSet<String> keys,
+          Map<String, Integer> totals) {}
+      """;
+
+  @Test
+  void merge_replacesScalarsAndCombinesCollections() {
+    JavaFileObject report = ProcessorTestUtils.forSource(REPORT_SOURCE);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(report);
+    String generatedCode = loadGeneratedSource(compilation, "ReportBuilder");
+    ProcessorAsserts.assertGenerationSucceeded(compilation, "ReportBuilder", generatedCode);
+    ProcessorAsserts.assertingResult(
+        generatedCode,
+        contains(
+            """
+            public ReportBuilder merge(ReportBuilder other) {
+                Objects.requireNonNull(other, "other");
+                if (other.title.isSet()) {
+                    this.title = other.title;
+                }
+                if (other.count.isSet()) {
+                    this.count = other.count;
+                }
+                if (other.lines.isSet()) {
+                    if (this.lines.isSet() && this.lines.value() != null && other.lines.value() != null) {
+                        List<String> merged = new ArrayList<>(this.lines.value());
+                        merged.addAll(other.lines.value());
+                        this.lines = changedValue(merged);
+                    } else {
+                        this.lines = other.lines;
+                    }
+                }
+            """),
+        contains("Set<String> merged = new HashSet<>(this.sources.value());"),
+        contains("TreeSet<String> merged = new TreeSet<>(this.keys.value());"),
+        contains(
+            """
+            Map<String, Integer> merged = new HashMap<>(this.totals.value());
+            merged.putAll(other.totals.value());
+            """));
+  }
+
+  @Test
+  void collector_combinesPartialBuildersWithMerge() {
+    JavaFileObject report = ProcessorTestUtils.forSource(REPORT_SOURCE);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(report);
+    String generatedCode = loadGeneratedSource(compilation, "ReportBuilder");
+    ProcessorAsserts.assertGenerationSucceeded(compilation, "ReportBuilder", generatedCode);
+
+    ProcessorAsserts.assertingResult(
+        generatedCode,
+        contains(
+            """
+            public static <T> Collector<T, ?, ReportBuilder> collector(BiConsumer<ReportBuilder, T> accumulator) {
+                Objects.requireNonNull(accumulator, "accumulator");
+                return Collector.of(ReportBuilder::new, accumulator, ReportBuilder::merge);
+            }
+            """));
+  }
+
+  @Test
+  void merge_withLazyCopyConstructorResolvesOtherSource() {
+    JavaFileObject item =
+        ProcessorTestUtils.forSource(
+            """
+            package test.merge.lazy;
+            import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+            import org.javahelpers.simple.builders.core.enums.OptionState;
+
+            @SimpleBuilder(options = @SimpleBuilder.Options(
+                generateMerge = OptionState.ENABLED,
+                lazyCopyConstructor = OptionState.ENABLED))
+            public record Item(String name, int amount) {}
+            """);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(item);
+    String generatedCode = loadGeneratedSource(compilation, "ItemBuilder");
+    ProcessorAsserts.assertGenerationSucceeded(compilation, "ItemBuilder", generatedCode);
+
+    ProcessorAsserts.assertingResult(
+        generatedCode,
+        contains(
+            """
+            public ItemBuilder merge(ItemBuilder other) {
+                other.resolveSource();
+                Objects.requireNonNull(other, "other");
+                if (other.name.isSet()) {
+                    this.name = other.name;
+                }
+            """));
+  }
+
+  @Test
+  void merge_genericDtoHasNoCollector() {
+    JavaFileObject box =
+        ProcessorTestUtils.forSource(
+            """
+            package test.merge.generic;
+            import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+            import org.javahelpers.simple.builders.core.enums.OptionState;
+
+            @SimpleBuilder(options = @SimpleBuilder.Options(generateMerge = OptionState.ENABLED))
+            public record Box<T>(T content) {}
+            """);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(box);
+    assertThat(compilation).succeededWithoutWarnings();
+    String generatedCode = loadGeneratedSource(compilation, "BoxBuilder");
+
+    ProcessorAsserts.assertingResult(
+        generatedCode,
+        contains("public BoxBuilder<T> merge(BoxBuilder<T> other) {"),
+        notContains("collector("));
+  }
+
+  @Test
+  void merge_disabledByDefault() {
+    JavaFileObject report =
+        ProcessorTestUtils.forSource(
+            """
+            package test.merge.disabled;
+            import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+
+            @SimpleBuilder
+            public record Report(String title) {}
+            """);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(report);
+    String generatedCode = loadGeneratedSource(compilation, "ReportBuilder");
+    ProcessorAsserts.assertGenerationSucceeded(compilation, "ReportBuilder", generatedCode);
+
+    ProcessorAsserts.assertingResult(
+        generatedCode, notContains("merge("), notContains("collector("));
+  }
+}
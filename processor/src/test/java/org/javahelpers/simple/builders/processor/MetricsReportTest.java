@@ -0,0 +1,128 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.javahelpers.simple.builders.processor;
+
+import static com.google.testing.compile.CompilationSubject.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.testing.compile.Compilation;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import javax.tools.JavaFileObject;
+import org.javahelpers.simple.builders.processor.testing.ProcessorTestUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Tests for the processing metrics report ({@code -Asimplebuilder.metricsReport}). */
+class MetricsReportTest {
+
+  private static final JavaFileObject PERSON =
+      ProcessorTestUtils.forSource(
+          """
+          package test.metrics;
+          import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+
+          @SimpleBuilder
+          public record Person(String name, int age) {}
+          """);
+
+  private static final JavaFileObject ADDRESS =
+      ProcessorTestUtils.forSource(
+          """
+          package test.metrics;
+          import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+
+          @SimpleBuilder
+          public record Address(String street) {}
+          """);
+
+  @Test
+  void metricsReport_containsPhasesGeneratorsAndTypes(@TempDir Path tempDir) throws Exception {
+    Path report = tempDir.resolve("reports/metrics.json");
+
+    Compilation compilation =
+        ProcessorTestUtils.createCompiler()
+            .withOptions("-Asimplebuilder.metricsReport=" + report)
+            .compile(PERSON, ADDRESS);
+
+    assertThat(compilation).succeededWithoutWarnings();
+    assertThat(compilation).hadNoteContaining("Metrics report written to " + report);
+    JsonNode json = new ObjectMapper().readTree(Files.readString(report));
+    assertEquals(2, json.get("types").asInt());
+    for (String phase :
+        List.of(
+            "configurationResolution",
+            "definitionExtraction",
+            "rendering",
+            "formatting",
+            "fileWrite")) {
+      assertEquals(2, json.get("phases").get(phase).get("count").asInt(), phase);
+    }
+
+    List<String> generatorNames = new ArrayList<>();
+    json.get("generators").forEach(generator -> generatorNames.add(generator.get("name").asText()));
+    assertTrue(
+        generatorNames.contains(
+            "org.javahelpers.simple.builders.processor.generators.field.BasicSetterGenerator"),
+        generatorNames::toString);
+    assertTrue(
+        generatorNames.contains(
+            "org.javahelpers.simple.builders.processor.generators.builder.CoreMethodsEnhancer"),
+        generatorNames::toString);
+
+    JsonNode person = findType(json, "test.metrics.Person");
+    assertEquals("test.metrics.PersonBuilder", person.get("builder").asText());
+    assertEquals(2, person.get("fields").asInt());
+    assertTrue(person.get("methods").asInt() > 0);
+    assertEquals(1, person.get("files").asInt());
+    assertTrue(person.get("sourceChars").asLong() > 0);
+    assertEquals(1, person.get("phases").get("rendering").get("count").asInt());
+  }
+
+  @Test
+  void metricsReport_notWrittenByDefault() {
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(PERSON);
+
+    assertThat(compilation).succeededWithoutWarnings();
+    assertFalse(
+        compilation.notes().stream()
+            .anyMatch(note -> note.getMessage(null).contains("Metrics report")));
+  }
+
+  private static JsonNode findType(JsonNode json, String name) {
+    for (JsonNode type : json.get("typeDetails")) {
+      if (name.equals(type.get("name").asText())) {
+        return type;
+      }
+    }
+    throw new AssertionError("No metrics for " + name + " in " + json);
+  }
+}
@@ -0,0 +1,186 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.javahelpers.simple.builders.processor;
+
+import static com.google.testing.compile.CompilationSubject.assertThat;
+import static org.javahelpers.simple.builders.processor.testing.ProcessorAsserts.contains;
+import static org.javahelpers.simple.builders.processor.testing.ProcessorAsserts.notContains;
+import static org.javahelpers.simple.builders.processor.testing.ProcessorTestUtils.loadGeneratedSource;
+
+import com.google.testing.compile.Compilation;
+import javax.tools.JavaFileObject;
+import org.javahelpers.simple.builders.processor.testing.ProcessorAsserts;
+import org.javahelpers.simple.builders.processor.testing.ProcessorTestUtils;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the output profiles ({@code outputProfile}) of generated builders. */
+class OutputProfileTest {
+
+  private static JavaFileObject personWithProfile(String profile) {
+    return ProcessorTestUtils.forSource(
+        """
+        package test.profile;
+        import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+        import org.javahelpers.simple.builders.core.enums.OutputProfile;
+
+        /**
+         * A person.
+         *
+         * @param name the name of the person
+         */
+        @SimpleBuilder(options = @SimpleBuilder.Options(outputProfile = OutputProfile.%s))
+        public record Person(String name) {}
+        """
+            .formatted(profile));
+  }
+
+  @Test
+  void leanProfile_generatesNoJavadocAndNoGeneratedAnnotation() {
+    Compilation compilation =
+        ProcessorTestUtils.createCompiler().compile(personWithProfile("LEAN"));
+    String generatedCode = loadGeneratedSource(compilation, "PersonBuilder");
+    ProcessorAsserts.assertGenerationSucceeded(compilation, "PersonBuilder", generatedCode);
+    ProcessorAsserts.assertingResult(
+        generatedCode,
+        contains("public static PersonBuilder create() {"),
+        contains("public PersonBuilder name(String name) {"),
+        contains("public Person build() {"),
+        notContains("/**"),
+        notContains("@Generated"),
+        notContains("the name of the person"));
+  }
+
+  @Test
+  void leanProfile_generatesNoJavadocInRowMapper() {
+    JavaFileObject person =
+        ProcessorTestUtils.forSource(
+            """
+            package test.profile;
+            import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+            import org.javahelpers.simple.builders.core.enums.OptionState;
+            import org.javahelpers.simple.builders.core.enums.OutputProfile;
+
+            @SimpleBuilder(options = @SimpleBuilder.Options(
+                outputProfile = OutputProfile.LEAN,
+                generateRowMapper = OptionState.ENABLED))
+            public record Person(String name, int age) {}
+            """);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(person);
+    assertThat(compilation).succeededWithoutWarnings();
+    String generatedCode = loadGeneratedSource(compilation, "PersonRowMapper");
+    ProcessorAsserts.assertingResult(
+        generatedCode,
+        contains("public class PersonRowMapper"),
+        notContains("/**"),
+        notContains("Row mapper for"));
+  }
+
+  @Test
+  void apiOnlyProfile_documentsOnlyEntryPoints() {
+    Compilation compilation =
+        ProcessorTestUtils.createCompiler().compile(personWithProfile("API_ONLY"));
+    String generatedCode = loadGeneratedSource(compilation, "PersonBuilder");
+    ProcessorAsserts.assertGenerationSucceeded(compilation, "PersonBuilder", generatedCode);
+    ProcessorAsserts.assertingResult(
+        generatedCode,
+        contains("Builder for {@code test.profile.Person}."),
+        contains("Creating a new builder for {@code test.profile.Person}."),
+        contains("@Generated"),
+        notContains("Tracked value for"),
+        notContains("the name of the person"),
+        notContains("Sets the value for <code>name</code>."));
+  }
+
+  @Test
+  void apiOnlyProfile_documentsEntryPointsButNotStaticHelpers() {
+    JavaFileObject person =
+        ProcessorTestUtils.forSource(
+            """
+            package test.profile;
+            import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+            import org.javahelpers.simple.builders.core.enums.OptionState;
+            import org.javahelpers.simple.builders.core.enums.OutputProfile;
+
+            @SimpleBuilder(options = @SimpleBuilder.Options(
+                outputProfile = OutputProfile.API_ONLY,
+                generateMerge = OptionState.ENABLED,
+                generateMapConversion = OptionState.ENABLED))
+            public record Person(String name) {}
+            """);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(person);
+    String generatedCode = loadGeneratedSource(compilation, "PersonBuilder");
+    ProcessorAsserts.assertGenerationSucceeded(compilation, "PersonBuilder", generatedCode);
+    ProcessorAsserts.assertingResult(
+        generatedCode,
+        contains("Creating a new builder for {@code test.profile.Person}."),
+        contains("Creates a builder from a property map."),
+        contains("Builds the configured DTO instance."),
+        contains("public static <T> Collector<T, ?, PersonBuilder> collector("),
+        notContains("Returns a collector filling a builder"),
+        notContains("Creates a property map from a DTO"),
+        notContains("Merges the fields set on another builder"));
+  }
+
+  @Test
+  void fullProfile_keepsAllJavadoc() {
+    Compilation compilation =
+        ProcessorTestUtils.createCompiler().compile(personWithProfile("FULL"));
+    String generatedCode = loadGeneratedSource(compilation, "PersonBuilder");
+    ProcessorAsserts.assertGenerationSucceeded(compilation, "PersonBuilder", generatedCode);
+    ProcessorAsserts.assertingResult(
+        generatedCode,
+        contains("Builder for {@code test.profile.Person}."),
+        contains("Tracked value for <code>name</code>: the name of the person."),
+        contains("@Generated"));
+  }
+
+  @Test
+  void compilerArgument_selectsProfileAndIsOverriddenByOptions() {
+    JavaFileObject order =
+        ProcessorTestUtils.forSource(
+            """
+            package test.profile;
+            import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+
+            @SimpleBuilder
+            public record Order(String id) {}
+            """);
+
+    Compilation compilation =
+        ProcessorTestUtils.createCompiler()
+            .withOptions("-Asimplebuilder.outputProfile=lean")
+            .compile(order, personWithProfile("FULL"));
+
+    String orderCode = loadGeneratedSource(compilation, "OrderBuilder");
+    ProcessorAsserts.assertGenerationSucceeded(compilation, "OrderBuilder", orderCode);
+    ProcessorAsserts.assertingResult(orderCode, notContains("/**"), notContains("@Generated"));
+
+    String personCode = loadGeneratedSource(compilation, "PersonBuilder");
+    ProcessorAsserts.assertingResult(
+        personCode, contains("Tracked value for <code>name</code>: the name of the person."));
+  }
+}
@@ -0,0 +1,205 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.javahelpers.simple.builders.processor;
+
+import static org.javahelpers.simple.builders.processor.testing.ProcessorAsserts.contains;
+import static org.javahelpers.simple.builders.processor.testing.ProcessorAsserts.notContains;
+import static org.javahelpers.simple.builders.processor.testing.ProcessorTestUtils.loadGeneratedSource;
+
+import com.google.testing.compile.Compilation;
+import javax.tools.JavaFileObject;
+import org.javahelpers.simple.builders.processor.testing.ProcessorAsserts;
+import org.javahelpers.simple.builders.processor.testing.ProcessorTestUtils;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@code changedFields()} and {@code applyTo(target)} ({@code generatePartialUpdate}).
+ */
+class PartialUpdateTest {
+
+  private static final String PERSON_SOURCE =
+      """
+      package test.patch;
+      import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+      import org.javahelpers.simple.builders.core.enums.OptionState;
+
+      @SimpleBuilder(options = @SimpleBuilder.Options(generatePartialUpdate = OptionState.ENABLED))
+      public class Person {
+        private final String id;
+        private String firstName;
+        private int age;
+
+        public Person(String id) { this.id = id; }
+
+        public String getId() { return id; }
+        public String getFirstName() { return firstName; }
+        public void setFirstName(String firstName) { this.firstName = firstName; }
+        public int getAge() { return age; }
+        public void setAge(int age) { this.age = age; }
+      }
+      """;
+
+  @Test
+  void partialUpdate_generatesFieldEnumAndChangedFields() {
+    JavaFileObject person = ProcessorTestUtils.forSource(PERSON_SOURCE);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(person);
+    String generatedCode = loadGeneratedSource(compilation, "PersonBuilder");
+    ProcessorAsserts.assertGenerationSucceeded(compilation, "PersonBuilder", generatedCode);
+    try {
+      java.nio.file.Files.writeString(java.nio.file.Path.of("/tmp/gen.java"), generatedCode);
+    } catch (Exception e) {
+    }
+
+    ProcessorAsserts.assertingResult(
+        generatedCode,
+        contains(
+            """
+            public enum Field {
+                ID, AGE, FIRST_NAME
+            }
+            """),
+        contains(
+            """
+            public EnumSet<Field> changedFields() {
+                EnumSet<Field> changed = EnumSet.noneOf(Field.class);
+                if (this.id.isChanged()) {
+                    changed.add(Field.ID);
+                }
+                if (this.age.isChanged()) {
+                    changed.add(Field.AGE);
+                }
+                if (this.firstName.isChanged()) {
+                    changed.add(Field.FIRST_NAME);
+                }
+                return changed;
+            }
+            """));
+  }
+
+  @Test
+  void partialUpdate_applyToCallsOnlySettersOfChangedFields() {
+    JavaFileObject person = ProcessorTestUtils.forSource(PERSON_SOURCE);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(person);
+    String generatedCode = loadGeneratedSource(compilation, "PersonBuilder");
+    ProcessorAsserts.assertGenerationSucceeded(compilation, "PersonBuilder", generatedCode);
+
+    ProcessorAsserts.assertingResult(
+        generatedCode,
+        contains(
+            """
+            public Person applyTo(Person target) {
+                Objects.requireNonNull(target, "target");
+                if (this.id.isChanged()) {
+                    throw new IllegalStateException("Field 'id' can only be set via constructor and cannot be applied to an existing instance");
+                }
+                if (this.age.isChanged() && this.age.value() == null) {
+                    throw new IllegalStateException("Field 'age' is marked as non-null but null value was provided");
+                }
+                if (this.age.isChanged()) {
+                    target.setAge(this.age.value());
+                }
+                if (this.firstName.isChanged()) {
+                    target.setFirstName(this.firstName.value());
+                }
+                return target;
+            }
+            """));
+  }
+
+  @Test
+  void partialUpdate_fieldEnumRenamedOnClash() {
+    JavaFileObject field =
+        ProcessorTestUtils.forSource(
+            """
+            package test.patch.clash;
+            import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+            import org.javahelpers.simple.builders.core.enums.OptionState;
+
+            @SimpleBuilder(options = @SimpleBuilder.Options(generatePartialUpdate = OptionState.ENABLED))
+            public class Field {
+              private String name;
+
+              public String getName() { return name; }
+              public void setName(String name) { this.name = name; }
+            }
+            """);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(field);
+    String generatedCode = loadGeneratedSource(compilation, "FieldBuilder");
+    ProcessorAsserts.assertGenerationSucceeded(compilation, "FieldBuilder", generatedCode);
+
+    ProcessorAsserts.assertingResult(
+        generatedCode,
+        contains("public enum BuilderField {"),
+        contains("public EnumSet<BuilderField> changedFields() {"));
+  }
+
+  @Test
+  void partialUpdate_notGeneratedForRecords() {
+    JavaFileObject person =
+        ProcessorTestUtils.forSource(
+            """
+            package test.patch.record;
+            import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+            import org.javahelpers.simple.builders.core.enums.OptionState;
+
+            @SimpleBuilder(options = @SimpleBuilder.Options(generatePartialUpdate = OptionState.ENABLED))
+            public record Person(String name) {}
+            """);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(person);
+    String generatedCode = loadGeneratedSource(compilation, "PersonBuilder");
+    ProcessorAsserts.assertGenerationSucceeded(compilation, "PersonBuilder", generatedCode);
+
+    ProcessorAsserts.assertingResult(
+        generatedCode, notContains("changedFields"), notContains("applyTo"));
+  }
+
+  @Test
+  void partialUpdate_disabledByDefault() {
+    JavaFileObject person =
+        ProcessorTestUtils.forSource(
+            """
+            package test.patch.off;
+            import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+
+            @SimpleBuilder
+            public class Person {
+              private String name;
+
+              public String getName() { return name; }
+              public void setName(String name) { this.name = name; }
+            }
+            """);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(person);
+    String generatedCode = loadGeneratedSource(compilation, "PersonBuilder");
+    ProcessorAsserts.assertGenerationSucceeded(compilation, "PersonBuilder", generatedCode);
+
+    ProcessorAsserts.assertingResult(
+        generatedCode, notContains("enum Field"), notContains("applyTo"));
+  }
+}
@@ -0,0 +1,351 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.javahelpers.simple.builders.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import javax.annotation.processing.Completion;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.Processor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import org.javahelpers.simple.builders.processor.testing.SyntheticDtos;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Scalability suite compiling thousands of synthetic DTOs in-process.
+ *
+ * <p>For each size the suite records the time spent in the processor, the peak heap usage of the
+ * compilation and the generated source bytes per DTO, and fails if one of them exceeds its budget
+ * from {@code scalability-budgets.properties}. Measurements are printed and written to {@code
+ * target/scalability/<size>.properties}.
+ *
+ * <p>A second test checks that the heap retained at the end of processing grows by a constant
+ * amount per DTO: the processor must not keep per-element models beyond the compact summaries
+ * needed for the final round.
+ *
+ * <p>The suite is excluded from the default build. Run it with {@code mvn test -Pscalability}, and
+ * select sizes with {@code -Dscalability.sizes=100,1000} and {@code
+ * -Dscalability.heapSizes=200,400,800}. Single budgets can be overridden with {@code
+ * -Dscalability.budget.<key>=<value>}.
+ */
+@Tag("scalability")
+class ProcessorScalabilityTest {
+
+  private static final String SIZES_PROPERTY = "scalability.sizes";
+
+  private static final String DEFAULT_SIZES = "100,1000,10000";
+
+  private static final String HEAP_SIZES_PROPERTY = "scalability.heapSizes";
+
+  private static final String DEFAULT_HEAP_SIZES = "200,400,800";
+
+  private static final String BUDGET_PROPERTY_PREFIX = "scalability.budget.";
+
+  private static final String BUDGETS_RESOURCE = "/scalability-budgets.properties";
+
+  private static final Path REPORT_DIRECTORY = Path.of("target", "scalability");
+
+  static IntStream sizes() {
+    return parseSizes(System.getProperty(SIZES_PROPERTY, DEFAULT_SIZES));
+  }
+
+  private static IntStream parseSizes(String sizes) {
+    return Arrays.stream(sizes.split(","))
+        .map(String::trim)
+        .filter(size -> !size.isEmpty())
+        .mapToInt(Integer::parseInt);
+  }
+
+  @ParameterizedTest(name = "{0} DTOs")
+  @MethodSource("sizes")
+  void processorStaysWithinBudgets(int size, @TempDir Path tempDir) throws IOException {
+    Measurement measurement = compile(SyntheticDtos.create(size), size, tempDir);
+    System.out.println(measurement);
+    writeReport(measurement);
+
+    Properties budgets = loadBudgets();
+    List<String> exceeded = new ArrayList<>();
+    checkBudget(budgets, size + ".processorMillis", measurement.processorMillis(), exceeded);
+    checkBudget(budgets, size + ".peakHeapMb", measurement.peakHeapMb(), exceeded);
+    checkBudget(
+        budgets, size + ".generatedBytesPerDto", measurement.generatedBytesPerDto(), exceeded);
+    assertTrue(exceeded.isEmpty(), () -> "Budgets exceeded for " + size + " DTOs: " + exceeded);
+  }
+
+  @Test
+  void retainedHeapGrowsConstantlyPerDto(@TempDir Path tempDir) throws IOException {
+    int[] sizes = parseSizes(System.getProperty(HEAP_SIZES_PROPERTY, DEFAULT_HEAP_SIZES)).toArray();
+    assertTrue(sizes.length >= 3, "At least three sizes are needed to compare the growth");
+    long[] retainedKb = new long[sizes.length];
+    for (int i = 0; i < sizes.length; i++) {
+      Path directory = Files.createDirectories(tempDir.resolve("dtos" + sizes[i]));
+      Measurement measurement = compile(SyntheticDtos.create(sizes[i]), sizes[i], directory);
+      System.out.println(measurement);
+      retainedKb[i] = measurement.retainedHeapKb();
+    }
+
+    // Retained heap per additional DTO between two consecutive sizes
+    long[] perDtoKb = new long[sizes.length - 1];
+    for (int i = 1; i < sizes.length; i++) {
+      perDtoKb[i - 1] = (retainedKb[i] - retainedKb[i - 1]) / (sizes[i] - sizes[i - 1]);
+    }
+    long firstKb = Math.max(perDtoKb[0], 1);
+    long maxKb = Arrays.stream(perDtoKb).max().orElseThrow();
+    long growthPercent = (perDtoKb[perDtoKb.length - 1] - firstKb) * 100 / firstKb;
+    System.out.printf(
+        "Retained heap per DTO: %s KB, growth %d %%%n", Arrays.toString(perDtoKb), growthPercent);
+
+    Properties budgets = loadBudgets();
+    List<String> exceeded = new ArrayList<>();
+    checkBudget(budgets, "perDto.retainedHeapKb", maxKb, exceeded);
+    checkBudget(budgets, "perDto.retainedHeapGrowthPercent", growthPercent, exceeded);
+    assertTrue(exceeded.isEmpty(), () -> "Retained heap budgets exceeded: " + exceeded);
+  }
+
+  private static Measurement compile(List<JavaFileObject> sources, int size, Path tempDir)
+      throws IOException {
+    Path classes = Files.createDirectories(tempDir.resolve("classes"));
+    Path generated = Files.createDirectories(tempDir.resolve("generated"));
+    JavaCompiler javac = ToolProvider.getSystemJavaCompiler();
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    TimingProcessor processor = new TimingProcessor(new BuilderProcessor());
+
+    List<MemoryPoolMXBean> heapPools =
+        ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter(pool -> pool.getType() == MemoryType.HEAP && pool.isValid())
+            .toList();
+    System.gc();
+    heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+
+    long start = System.nanoTime();
+    boolean success;
+    try (StandardJavaFileManager fileManager =
+        javac.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+      fileManager.setLocationFromPaths(StandardLocation.CLASS_OUTPUT, List.of(classes));
+      fileManager.setLocationFromPaths(StandardLocation.SOURCE_OUTPUT, List.of(generated));
+      JavaCompiler.CompilationTask task =
+          javac.getTask(
+              null,
+              fileManager,
+              diagnostics,
+              List.of("-classpath", System.getProperty("java.class.path")),
+              null,
+              sources);
+      task.setProcessors(List.of(processor));
+      success = task.call();
+    }
+    long compileMillis = (System.nanoTime() - start) / 1_000_000;
+    long peakHeap = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+
+    List<String> errors =
+        diagnostics.getDiagnostics().stream()
+            .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+            .map(diagnostic -> diagnostic.getMessage(null))
+            .limit(10)
+            .toList();
+    assertTrue(success && errors.isEmpty(), () -> "Compilation failed: " + errors);
+
+    List<Path> builders;
+    long generatedBytes = 0;
+    try (Stream<Path> files = Files.walk(generated)) {
+      List<Path> generatedFiles = files.filter(Files::isRegularFile).toList();
+      builders =
+          generatedFiles.stream()
+              .filter(file -> file.getFileName().toString().endsWith("Builder.java"))
+              .toList();
+      for (Path file : generatedFiles) {
+        generatedBytes += Files.size(file);
+      }
+    }
+    assertEquals(size, builders.size(), "Number of generated builders");
+
+    return new Measurement(
+        size,
+        processor.getProcessingNanos() / 1_000_000,
+        compileMillis,
+        peakHeap / (1024 * 1024),
+        processor.getRetainedHeapBytes() / 1024,
+        generatedBytes / size);
+  }
+
+  private static Properties loadBudgets() throws IOException {
+    Properties budgets = new Properties();
+    try (InputStream in = ProcessorScalabilityTest.class.getResourceAsStream(BUDGETS_RESOURCE)) {
+      assertNotNull(in, "Missing " + BUDGETS_RESOURCE);
+      budgets.load(in);
+    }
+    return budgets;
+  }
+
+  private static void checkBudget(
+      Properties budgets, String key, long value, List<String> exceeded) {
+    String budget =
+        System.getProperty(BUDGET_PROPERTY_PREFIX + key, budgets.getProperty(key, "")).trim();
+    if (budget.isEmpty()) {
+      System.out.printf("No budget for %s, measured %d%n", key, value);
+    } else if (value > Long.parseLong(budget)) {
+      exceeded.add("%s=%d (budget %s)".formatted(key, value, budget));
+    }
+  }
+
+  private static void writeReport(Measurement measurement) throws IOException {
+    Properties report = new Properties();
+    report.setProperty("dtos", String.valueOf(measurement.dtos()));
+    report.setProperty("processorMillis", String.valueOf(measurement.processorMillis()));
+    report.setProperty("compileMillis", String.valueOf(measurement.compileMillis()));
+    report.setProperty("peakHeapMb", String.valueOf(measurement.peakHeapMb()));
+    report.setProperty("retainedHeapKb", String.valueOf(measurement.retainedHeapKb()));
+    report.setProperty("generatedBytesPerDto", String.valueOf(measurement.generatedBytesPerDto()));
+    Files.createDirectories(REPORT_DIRECTORY);
+    try (Writer writer =
+        Files.newBufferedWriter(REPORT_DIRECTORY.resolve(measurement.dtos() + ".properties"))) {
+      report.store(writer, "Processor scalability measurement");
+    }
+  }
+
+  /** Measurements of one compilation. */
+  private record Measurement(
+      int dtos,
+      long processorMillis,
+      long compileMillis,
+      long peakHeapMb,
+      long retainedHeapKb,
+      long generatedBytesPerDto) {
+
+    @Override
+    public String toString() {
+      return "Scalability %d DTOs: processor %d ms (%.2f ms/DTO), compilation %d ms, peak heap %d MB, retained heap %d KB, generated %d bytes/DTO"
+          .formatted(
+              dtos,
+              processorMillis,
+              (double) processorMillis / dtos,
+              compileMillis,
+              peakHeapMb,
+              retainedHeapKb,
+              generatedBytesPerDto);
+    }
+  }
+
+  /**
+   * Delegating processor measuring the time spent in the wrapped processor, and the heap retained
+   * when the final round starts.
+   */
+  private static final class TimingProcessor implements Processor {
+
+    private final Processor delegate;
+
+    private long processingNanos;
+
+    private long retainedHeapBytes;
+
+    TimingProcessor(Processor delegate) {
+      this.delegate = delegate;
+    }
+
+    long getProcessingNanos() {
+      return processingNanos;
+    }
+
+    long getRetainedHeapBytes() {
+      return retainedHeapBytes;
+    }
+
+    @Override
+    public Set<String> getSupportedOptions() {
+      return delegate.getSupportedOptions();
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+      return delegate.getSupportedAnnotationTypes();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+      return delegate.getSupportedSourceVersion();
+    }
+
+    @Override
+    public void init(ProcessingEnvironment processingEnv) {
+      long start = System.nanoTime();
+      delegate.init(processingEnv);
+      processingNanos += System.nanoTime() - start;
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+      if (roundEnv.processingOver()) {
+        System.gc();
+        retainedHeapBytes = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+      }
+      long start = System.nanoTime();
+      try {
+        return delegate.process(annotations, roundEnv);
+      } finally {
+        processingNanos += System.nanoTime() - start;
+      }
+    }
+
+    @Override
+    public Iterable<? extends Completion> getCompletions(
+        Element element, AnnotationMirror annotation, ExecutableElement member, String userText) {
+      return delegate.getCompletions(element, annotation, member, userText);
+    }
+  }
+}
@@ -0,0 +1,214 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.javahelpers.simple.builders.processor;
+
+import static com.google.testing.compile.CompilationSubject.assertThat;
+import static org.javahelpers.simple.builders.processor.testing.ProcessorAsserts.contains;
+import static org.javahelpers.simple.builders.processor.testing.ProcessorAsserts.notContains;
+import static org.javahelpers.simple.builders.processor.testing.ProcessorTestUtils.loadGeneratedSource;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import com.google.testing.compile.Compilation;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import org.javahelpers.simple.builders.processor.testing.ProcessorAsserts;
+import org.javahelpers.simple.builders.processor.testing.ProcessorTestUtils;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the generated row mappers ({@code generateRowMapper}). */
+class RowMapperTest {
+
+  private static final String PERSON_SOURCE =
+      """
+      package test.rows;
+      import java.math.BigDecimal;
+      import java.time.LocalDate;
+      import java.util.List;
+      import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+      import org.javahelpers.simple.builders.core.enums.OptionState;
+
+      @SimpleBuilder(options = @SimpleBuilder.Options(generateRowMapper = OptionState.ENABLED))
+      public record Person(String name, int age, Long score, BigDecimal balance, LocalDate birthday, List<String> tags) {}
+      """;
+
+  @Test
+  void rowMapper_resultSetUsesPrimitiveGetters() {
+    JavaFileObject person = ProcessorTestUtils.forSource(PERSON_SOURCE);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(person);
+    assertThat(compilation).succeededWithoutWarnings();
+    String generatedCode = loadGeneratedSource(compilation, "PersonRowMapper");
+
+    ProcessorAsserts.assertingResult(
+        generatedCode,
+        contains("public class PersonRowMapper {"),
+        contains(
+            """
+            private static final List<String> FIELD_NAMES = List.of("name", "age", "score", "balance", "birthday", "tags");
+            """),
+        contains(
+            """
+            public static PersonRowMapper forResultSet(ResultSet resultSet) throws SQLException {
+                return forColumns(RowMapping.columnLabels(resultSet.getMetaData()));
+            }
+            """),
+        contains(
+            """
+            @SuppressWarnings("unchecked")
+            public Person map(ResultSet resultSet) throws SQLException {
+                PersonBuilder builder = new PersonBuilder();
+                int column;
+                column = columns[0] + 1;
+                if (column > 0) {
+                    builder.name(resultSet.getString(column));
+                }
+                column = columns[1] + 1;
+                if (column > 0) {
+                    int value1 = resultSet.getInt(column);
+                    if (!resultSet.wasNull()) {
+                        builder.age(value1);
+                    }
+                }
+                column = columns[2] + 1;
+                if (column > 0) {
+                    long value2 = resultSet.getLong(column);
+                    builder.score(resultSet.wasNull() ? null : value2);
+                }
+                column = columns[3] + 1;
+                if (column > 0) {
+                    builder.balance(resultSet.getBigDecimal(column));
+                }
+                column = columns[4] + 1;
+                if (column > 0) {
+                    builder.birthday(resultSet.getObject(column, LocalDate.class));
+                }
+                column = columns[5] + 1;
+                if (column > 0) {
+                    builder.tags((List<String>) resultSet.getObject(column));
+                }
+                return builder.build();
+            }
+            """));
+  }
+
+  @Test
+  void rowMapper_arrayRowsUseConverter() {
+    JavaFileObject person = ProcessorTestUtils.forSource(PERSON_SOURCE);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(person);
+    assertThat(compilation).succeededWithoutWarnings();
+    String generatedCode = loadGeneratedSource(compilation, "PersonRowMapper");
+
+    ProcessorAsserts.assertingResult(
+        generatedCode,
+        contains(
+            """
+            public Person map(String... row) {
+                return map(row, RowValueConverters.strings());
+            }
+            """),
+        contains("public Person map(String[] row, RowValueConverter<String> converter) {"),
+        contains("public Person map(Object[] row, RowValueConverter<Object> converter) {"),
+        contains(
+            """
+            column = columns[1];
+            if (column >= 0 && column < row.length && !converter.isNull(row[column])) {
+                builder.age(converter.toInt(row[column]));
+            }
+            column = columns[2];
+            if (column >= 0 && column < row.length) {
+                builder.score((Long) converter.convert(row[column], Long.class));
+            }
+            """),
+        contains("builder.tags((List<String>) converter.convert(row[column], List.class));"));
+  }
+
+  @Test
+  void rowMapper_setterSuffixIsUsed() {
+    JavaFileObject item =
+        ProcessorTestUtils.forSource(
+            """
+            package test.rows.suffix;
+            import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+            import org.javahelpers.simple.builders.core.enums.OptionState;
+
+            @SimpleBuilder(options = @SimpleBuilder.Options(
+                generateRowMapper = OptionState.ENABLED, setterSuffix = "with"))
+            public record Item(String label, double price) {}
+            """);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(item);
+    assertThat(compilation).succeededWithoutWarnings();
+    String generatedCode = loadGeneratedSource(compilation, "ItemRowMapper");
+
+    ProcessorAsserts.assertingResult(
+        generatedCode,
+        contains("builder.withLabel(resultSet.getString(column));"),
+        contains("builder.withPrice(value1);"));
+  }
+
+  @Test
+  void rowMapper_genericDtoIsSkippedWithWarning() {
+    JavaFileObject box =
+        ProcessorTestUtils.forSource(
+            """
+            package test.rows.generic;
+            import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+            import org.javahelpers.simple.builders.core.enums.OptionState;
+
+            @SimpleBuilder(options = @SimpleBuilder.Options(generateRowMapper = OptionState.ENABLED))
+            public record Box<T>(T content) {}
+            """);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(box);
+    assertThat(compilation).succeeded();
+    assertThat(compilation).hadWarningContaining("DTOs with generics are not supported");
+    assertFalse(
+        compilation
+            .generatedFile(StandardLocation.SOURCE_OUTPUT, "test/rows/generic/BoxRowMapper.java")
+            .isPresent());
+  }
+
+  @Test
+  void rowMapper_disabledByDefault() {
+    JavaFileObject item =
+        ProcessorTestUtils.forSource(
+            """
+            package test.rows.disabled;
+            import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+
+            @SimpleBuilder
+            public record Item(String label) {}
+            """);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(item);
+    assertThat(compilation).succeededWithoutWarnings();
+    assertFalse(
+        compilation
+            .generatedFile(StandardLocation.SOURCE_OUTPUT, "test/rows/disabled/ItemRowMapper.java")
+            .isPresent());
+    ProcessorAsserts.assertingResult(
+        loadGeneratedSource(compilation, "ItemBuilder"), notContains("RowMapper"));
+  }
+}
@@ -0,0 +1,302 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.javahelpers.simple.builders.processor;
+
+import static com.google.testing.compile.CompilationSubject.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.Compiler;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+import javax.annotation.processing.Processor;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import org.javahelpers.simple.builders.processor.processing.TemplateAnnotationIndex;
+import org.javahelpers.simple.builders.processor.testing.ProcessorTestUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Tests for the supported annotation types based on the {@link TemplateAnnotationIndex}. */
+class TemplateAnnotationIndexTest {
+
+  private static final JavaFileObject TEMPLATE =
+      ProcessorTestUtils.forSource(
+          """
+          package test.templates;
+          import java.lang.annotation.*;
+          import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+          import org.javahelpers.simple.builders.core.enums.OptionState;
+
+          @SimpleBuilder.Template(
+              options = @SimpleBuilder.Options(generateFieldSupplier = OptionState.DISABLED))
+          @Retention(RetentionPolicy.CLASS)
+          @Target(ElementType.TYPE)
+          public @interface Dto {}
+          """);
+
+  private static final JavaFileObject PERSON =
+      ProcessorTestUtils.forSource(
+          """
+          package test.templates;
+
+          @Dto
+          public record Person(String name) {}
+          """);
+
+  private static final JavaFileObject LEGACY_TEMPLATE =
+      ProcessorTestUtils.forSource(
+          """
+          package test.legacy;
+          import java.lang.annotation.*;
+          import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+
+          @SimpleBuilder.Template
+          @Retention(RetentionPolicy.CLASS)
+          @Target(ElementType.TYPE)
+          public @interface Legacy {}
+          """);
+
+  private static final JavaFileObject INVOICE =
+      ProcessorTestUtils.forSource(
+          """
+          package test.templates;
+
+          @test.legacy.Legacy
+          public record Invoice(String number) {}
+          """);
+
+  @Test
+  void supportedAnnotationTypes_areBuiltInTemplatesBeforeInit() {
+    Set<String> supported = new BuilderProcessor().getSupportedAnnotationTypes();
+
+    assertEquals(Set.copyOf(TemplateAnnotationIndex.BUILT_IN_TEMPLATES), supported);
+  }
+
+  @Test
+  void templateCompiledWithDtos_generatesBuilderAndWritesIndex() throws IOException {
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(TEMPLATE, PERSON);
+
+    assertThat(compilation).succeededWithoutWarnings();
+    assertThat(compilation).generatedSourceFile("test.templates.PersonBuilder");
+    JavaFileObject index =
+        compilation
+            .generatedFile(
+                StandardLocation.CLASS_OUTPUT, "", TemplateAnnotationIndex.INDEX_RESOURCE)
+            .orElseThrow();
+    assertEquals("test.templates.Dto\n", index.getCharContent(true).toString());
+  }
+
+  @Test
+  void templateFromClasspathIndex_triggersBuilderGeneration(@TempDir Path dir) throws Exception {
+    List<File> classpath = new ArrayList<>();
+    classpath.add(createTemplateJar(dir.resolve("templates.jar"), TEMPLATE, true));
+    classpath.addAll(testClasspath());
+
+    // javac does not expose resources below META-INF of jars to processors, the index is read by
+    // the class loader of the processor, running from the compile classpath like in a default build
+    Compilation compilation;
+    try (URLClassLoader loader = processorClassLoader(classpath)) {
+      compilation =
+          Compiler.javac()
+              .withProcessors(
+                  (Processor)
+                      loader
+                          .loadClass(BuilderProcessor.class.getName())
+                          .getConstructor()
+                          .newInstance())
+              .withClasspath(classpath)
+              .compile(PERSON);
+    }
+
+    assertThat(compilation).succeededWithoutWarnings();
+    String generatedCode = ProcessorTestUtils.loadGeneratedSource(compilation, "PersonBuilder");
+    assertFalse(generatedCode.contains("Supplier<String>"), generatedCode);
+  }
+
+  @Test
+  void templateFromIndexedJar_isNotFoundFromSeparateProcessorPath(@TempDir Path dir)
+      throws IOException {
+    List<File> classpath = new ArrayList<>();
+    classpath.add(createTemplateJar(dir.resolve("templates.jar"), TEMPLATE, true));
+    classpath.addAll(testClasspath());
+
+    Compilation compilation =
+        ProcessorTestUtils.createCompiler().withClasspath(classpath).compile(PERSON);
+
+    assertThat(compilation).succeededWithoutWarnings();
+    assertTrue(compilation.generatedSourceFile("test.templates.PersonBuilder").isEmpty());
+  }
+
+  @Test
+  void templateFromJarWithoutIndex_isOnlyFoundWhenConfigured(@TempDir Path dir) throws IOException {
+    List<File> classpath = new ArrayList<>();
+    classpath.add(createTemplateJar(dir.resolve("legacy.jar"), LEGACY_TEMPLATE, false));
+    classpath.addAll(testClasspath());
+
+    Compilation unconfigured =
+        ProcessorTestUtils.createCompiler().withClasspath(classpath).compile(INVOICE);
+    assertThat(unconfigured).succeededWithoutWarnings();
+    assertTrue(unconfigured.generatedSourceFile("test.templates.InvoiceBuilder").isEmpty());
+
+    Compilation configured =
+        ProcessorTestUtils.createCompiler()
+            .withClasspath(classpath)
+            .withOptions("-Asimplebuilder.templateAnnotations=test.legacy.Legacy")
+            .compile(INVOICE);
+    assertThat(configured).succeededWithoutWarnings();
+    assertThat(configured).generatedSourceFile("test.templates.InvoiceBuilder");
+  }
+
+  @Test
+  void claimingAllAnnotations_findsTemplatesOfSeveralJarsWithProcessorPath(@TempDir Path dir)
+      throws IOException {
+    JavaFileObject entityTemplate =
+        ProcessorTestUtils.forSource(
+            """
+            package test.other;
+            import java.lang.annotation.*;
+            import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+
+            @SimpleBuilder.Template
+            @Retention(RetentionPolicy.CLASS)
+            @Target(ElementType.TYPE)
+            public @interface Entity {}
+            """);
+    JavaFileObject order =
+        ProcessorTestUtils.forSource(
+            """
+            package test.templates;
+
+            @test.other.Entity
+            public record Order(String id) {}
+            """);
+    // Only the first index on the compile classpath is visible to the filer, and the jars are not
+    // on the processor path, so the other templates are only found by claiming all annotations
+    List<File> classpath = new ArrayList<>();
+    classpath.add(createTemplateJar(dir.resolve("templates.jar"), TEMPLATE, true));
+    classpath.add(createTemplateJar(dir.resolve("other.jar"), entityTemplate, true));
+    classpath.add(createTemplateJar(dir.resolve("legacy.jar"), LEGACY_TEMPLATE, false));
+    List<File> processorPath = testClasspath();
+    classpath.addAll(processorPath);
+
+    Compilation compilation =
+        ProcessorTestUtils.createCompiler()
+            .withClasspath(classpath)
+            .withOptions(
+                "-processorpath",
+                toPath(processorPath),
+                "-Asimplebuilder.templateAnnotations=" + TemplateAnnotationIndex.ALL_ANNOTATIONS)
+            .compile(PERSON, order, INVOICE);
+
+    assertThat(compilation).succeededWithoutWarnings();
+    assertThat(compilation).generatedSourceFile("test.templates.PersonBuilder");
+    assertThat(compilation).generatedSourceFile("test.templates.OrderBuilder");
+    assertThat(compilation).generatedSourceFile("test.templates.InvoiceBuilder");
+  }
+
+  @Test
+  void sourcesWithoutDtos_doNotTriggerProcessing() {
+    JavaFileObject plain =
+        ProcessorTestUtils.forSource(
+            """
+            package test.templates;
+
+            @Deprecated
+            public class Plain {
+              @SuppressWarnings("unused")
+              private String name;
+            }
+            """);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(plain);
+
+    assertThat(compilation).succeededWithoutWarnings();
+    assertFalse(
+        compilation.notes().stream()
+            .anyMatch(note -> note.getMessage(null).contains("PROCESSING ROUND START")));
+  }
+
+  /** Compiles the template into a jar, optionally without the index written by the processor. */
+  private static File createTemplateJar(Path jar, JavaFileObject template, boolean withIndex)
+      throws IOException {
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(template);
+    assertThat(compilation).succeededWithoutWarnings();
+    try (JarOutputStream output = new JarOutputStream(Files.newOutputStream(jar))) {
+      for (JavaFileObject file : compilation.generatedFiles()) {
+        String name = file.toUri().getPath();
+        if (!name.startsWith("/CLASS_OUTPUT/")) {
+          continue;
+        }
+        String entry = name.substring("/CLASS_OUTPUT/".length());
+        if (!withIndex && entry.equals(TemplateAnnotationIndex.INDEX_RESOURCE)) {
+          continue;
+        }
+        output.putNextEntry(new JarEntry(entry));
+        try (InputStream content = file.openInputStream()) {
+          content.transferTo(output);
+        }
+        output.closeEntry();
+      }
+    }
+    return jar.toFile();
+  }
+
+  private static List<File> testClasspath() {
+    List<File> classpath = new ArrayList<>();
+    for (String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+      classpath.add(new File(entry));
+    }
+    return classpath;
+  }
+
+  /**
+   * Class loader loading the processor from the given classpath, like javac without processor path.
+   */
+  private static URLClassLoader processorClassLoader(List<File> classpath) throws IOException {
+    List<URL> urls = new ArrayList<>();
+    for (File file : classpath) {
+      urls.add(file.toURI().toURL());
+    }
+    return new URLClassLoader(urls.toArray(URL[]::new), ClassLoader.getPlatformClassLoader());
+  }
+
+  private static String toPath(List<File> files) {
+    return files.stream().map(File::getPath).collect(Collectors.joining(File.pathSeparator));
+  }
+}
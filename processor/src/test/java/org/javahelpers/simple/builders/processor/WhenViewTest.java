@@ -0,0 +1,165 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andreas Igel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.javahelpers.simple.builders.processor;
+
+import static com.google.testing.compile.CompilationSubject.assertThat;
+import static org.javahelpers.simple.builders.processor.testing.ProcessorAsserts.contains;
+import static org.javahelpers.simple.builders.processor.testing.ProcessorAsserts.notContains;
+import static org.javahelpers.simple.builders.processor.testing.ProcessorTestUtils.loadGeneratedSource;
+
+import com.google.testing.compile.Compilation;
+import javax.tools.JavaFileObject;
+import org.javahelpers.simple.builders.processor.testing.ProcessorAsserts;
+import org.javahelpers.simple.builders.processor.testing.ProcessorTestUtils;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the fluent {@code when(boolean)} view ({@code generateWhenView}). */
+class WhenViewTest {
+
+  @Test
+  void whenView_generatesCachedViewForwardingFieldMethods() {
+    JavaFileObject person =
+        ProcessorTestUtils.forSource(
+            """
+            package test.when;
+            import java.util.List;
+            import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+            import org.javahelpers.simple.builders.core.enums.OptionState;
+
+            @SimpleBuilder(options = @SimpleBuilder.Options(generateWhenView = OptionState.ENABLED))
+            public record Person(String name, List<String> tags) {}
+            """);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(person);
+    String generatedCode = loadGeneratedSource(compilation, "PersonBuilder");
+    ProcessorAsserts.assertGenerationSucceeded(compilation, "PersonBuilder", generatedCode);
+    ProcessorAsserts.assertingResult(
+        generatedCode,
+        contains("private boolean whenCondition;"),
+        contains("private When whenView;"),
+        contains(
+            """
+            public When when(boolean condition) {
+                this.whenCondition = condition;
+                if (this.whenView == null) {
+                  this.whenView = new When();
+                }
+                return this.whenView;
+            }
+            """),
+        contains("only valid until the next call of when(boolean)"),
+        contains("public class When {"),
+        contains(
+            """
+            public When name(String name) {
+                if (PersonBuilder.this.whenCondition) {
+                  PersonBuilder.this.name(name);
+                }
+                return this;
+            }
+            """),
+        contains("public When tags(String... tags) {"),
+        contains("public When name(Supplier<String> nameSupplier) {"),
+        contains(
+            """
+            public PersonBuilder endWhen() {
+                return PersonBuilder.this;
+            }
+            """));
+  }
+
+  @Test
+  void whenView_avoidsNameClashes() {
+    JavaFileObject when =
+        ProcessorTestUtils.forSource(
+            """
+            package test.when;
+
+            public record When(String expression) {}
+            """);
+    JavaFileObject rule =
+        ProcessorTestUtils.forSource(
+            """
+            package test.when;
+            import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+            import org.javahelpers.simple.builders.core.enums.OptionState;
+
+            @SimpleBuilder(options = @SimpleBuilder.Options(generateWhenView = OptionState.ENABLED))
+            public record Rule(When whenCondition, String whenView) {}
+            """);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(when, rule);
+    String generatedCode = loadGeneratedSource(compilation, "RuleBuilder");
+    ProcessorAsserts.assertGenerationSucceeded(compilation, "RuleBuilder", generatedCode);
+    ProcessorAsserts.assertingResult(
+        generatedCode,
+        contains("private boolean _whenCondition;"),
+        contains("private BuilderWhen _whenView;"),
+        contains("public class BuilderWhen {"),
+        contains("if (RuleBuilder.this._whenCondition) {"),
+        notContains("public class When {"));
+  }
+
+  @Test
+  void whenView_supportsGenericDtos() {
+    JavaFileObject box =
+        ProcessorTestUtils.forSource(
+            """
+            package test.when;
+            import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+            import org.javahelpers.simple.builders.core.enums.OptionState;
+
+            @SimpleBuilder(options = @SimpleBuilder.Options(generateWhenView = OptionState.ENABLED))
+            public record Box<T>(T content) {}
+            """);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(box);
+    assertThat(compilation).succeededWithoutWarnings();
+    String generatedCode = loadGeneratedSource(compilation, "BoxBuilder");
+    ProcessorAsserts.assertingResult(
+        generatedCode,
+        contains("public When content(T content) {"),
+        contains("public BoxBuilder<T> endWhen() {"));
+  }
+
+  @Test
+  void whenView_disabledByDefault() {
+    JavaFileObject person =
+        ProcessorTestUtils.forSource(
+            """
+            package test.when;
+            import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+
+            @SimpleBuilder
+            public record Person(String name) {}
+            """);
+
+    Compilation compilation = ProcessorTestUtils.createCompiler().compile(person);
+    String generatedCode = loadGeneratedSource(compilation, "PersonBuilder");
+    ProcessorAsserts.assertGenerationSucceeded(compilation, "PersonBuilder", generatedCode);
+    ProcessorAsserts.assertingResult(
+        generatedCode, notContains("whenCondition"), notContains("endWhen"));
+  }
+}
@@ -1,6 +1,7 @@
 package org.javahelpers.simple.builders.processor;
 
 import static org.javahelpers.simple.builders.processor.testing.ProcessorAsserts.contains;
+import static org.javahelpers.simple.builders.processor.testing.ProcessorAsserts.notContains;
 import static org.javahelpers.simple.builders.processor.testing.ProcessorTestUtils.createCompiler;
 import static org.javahelpers.simple.builders.processor.testing.ProcessorTestUtils.loadGeneratedSource;
 import static org.javahelpers.simple.builders.processor.testing.ProcessorTestUtils.printDiagnosticsOnVerbose;
@@ -59,14 +60,7 @@ class WithInterfaceTest {
              * @return the modified instance
              */
             default Project with(Consumer<ProjectBuilder> b) {
-                ProjectBuilder builder;
-                try {
-                    builder = new ProjectBuilder(Project.class.cast(this));
-                } catch (ClassCastException ex) {
-                    throw new IllegalArgumentException(
-                        "The interface 'ProjectBuilder.With' should only be implemented by classes, which could be casted to 'Project'",
-                        ex);
-                }
+                ProjectBuilder builder = new ProjectBuilder(BuilderSupport.castWithInstance(this, Project.class, "ProjectBuilder.With"));
                 b.accept(builder);
                 return builder.build();
             }
@@ -77,13 +71,7 @@ class WithInterfaceTest {
              * @return a builder initialized with this instance's values
              */
             default ProjectBuilder with() {
-                try {
-                    return new ProjectBuilder(Project.class.cast(this));
-                } catch (ClassCastException ex) {
-                    throw new IllegalArgumentException(
-                        "The interface 'ProjectBuilder.With' should only be implemented by classes, which could be casted to 'Project'",
-                        ex);
-                }
+                return new ProjectBuilder(BuilderSupport.castWithInstance(this, Project.class, "ProjectBuilder.With"));
             }
         }
         """;
@@ -133,14 +121,7 @@ class WithInterfaceTest {
              * @return the modified instance
              */
             default User with(Consumer<UserBuilder> b) {
-                UserBuilder builder;
-                try {
-                    builder = new UserBuilder(User.class.cast(this));
-                } catch (ClassCastException ex) {
-                    throw new IllegalArgumentException(
-                        "The interface 'UserBuilder.With' should only be implemented by classes, which could be casted to 'User'",
-                        ex);
-                }
+                UserBuilder builder = new UserBuilder(BuilderSupport.castWithInstance(this, User.class, "UserBuilder.With"));
                 b.accept(builder);
                 return builder.build();
             }
@@ -151,13 +132,7 @@ class WithInterfaceTest {
              * @return a builder initialized with this instance's values
              */
             default UserBuilder with() {
-                try {
-                    return new UserBuilder(User.class.cast(this));
-                } catch (ClassCastException ex) {
-                    throw new IllegalArgumentException(
-                        "The interface 'UserBuilder.With' should only be implemented by classes, which could be casted to 'User'",
-                        ex);
-                }
+                return new UserBuilder(BuilderSupport.castWithInstance(this, User.class, "UserBuilder.With"));
             }
         }
         """;
@@ -204,14 +179,7 @@ class WithInterfaceTest {
              * @return the modified instance
              */
             default Config with(Consumer<ConfigBuilder> b) {
-                ConfigBuilder builder;
-                try {
-                    builder = new ConfigBuilder(Config.class.cast(this));
-                } catch (ClassCastException ex) {
-                    throw new IllegalArgumentException(
-                        "The interface 'ConfigBuilder.With' should only be implemented by classes, which could be casted to 'Config'",
-                        ex);
-                }
+                ConfigBuilder builder = new ConfigBuilder(BuilderSupport.castWithInstance(this, Config.class, "ConfigBuilder.With"));
                 b.accept(builder);
                 return builder.build();
             }
@@ -222,17 +190,133 @@ class WithInterfaceTest {
              * @return a builder initialized with this instance's values
              */
             default ConfigBuilder with() {
-                try {
-                    return new ConfigBuilder(Config.class.cast(this));
-                } catch (ClassCastException ex) {
-                    throw new IllegalArgumentException(
-                        "The interface 'ConfigBuilder.With' should only be implemented by classes, which could be casted to 'Config'",
-                        ex);
-                }
+                return new ConfigBuilder(BuilderSupport.castWithInstance(this, Config.class, "ConfigBuilder.With"));
             }
         }
         """;
 
     ProcessorAsserts.assertingResult(generatedCode, contains(expectedWithInterface));
   }
+
+  @Test
+  void withInterface_directWithersForRecord() {
+    JavaFileObject point =
+        ProcessorTestUtils.forSource(
+            """
+            package test.withinterface.record;
+            import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+
+            @SimpleBuilder
+            public record Point(String label, int x, int y) implements PointBuilder.With {}
+            """);
+
+    Compilation compilation = compileSources(point);
+    String generatedCode = loadGeneratedSource(compilation, "PointBuilder");
+    ProcessorAsserts.assertGenerationSucceeded(compilation, "PointBuilder", generatedCode);
+
+    String expectedWither =
+        """
+            /**
+             * Creates a copy of this instance with a new value for <code>x</code>, calling the constructor directly without
+             * initializing a builder.
+             *
+             * @param x the new value for <code>x</code>
+             * @return the modified instance
+             */
+            default Point withX(int x) {
+                Point self = BuilderSupport.castWithInstance(this, Point.class, "PointBuilder.With");
+                return new Point(self.label(), x, self.y());
+            }
+        """;
+
+    ProcessorAsserts.assertingResult(
+        generatedCode,
+        contains(expectedWither),
+        contains("default Point withLabel(String label) {"),
+        contains("return new Point(label, self.x(), self.y());"),
+        contains("default Point withY(int y) {"));
+  }
+
+  @Test
+  void withInterface_directWithersCheckNonNullFieldsLikeBuild() {
+    JavaFileObject notNullAnnotation =
+        ProcessorTestUtils.forSource(
+            """
+            package jakarta.validation.constraints;
+            import java.lang.annotation.ElementType;
+            import java.lang.annotation.Retention;
+            import java.lang.annotation.RetentionPolicy;
+            import java.lang.annotation.Target;
+
+            @Retention(RetentionPolicy.RUNTIME)
+            @Target({ElementType.FIELD, ElementType.PARAMETER})
+            public @interface NotNull {}
+            """);
+    JavaFileObject point =
+        ProcessorTestUtils.forSource(
+            """
+            package test.withinterface.nonnull;
+            import jakarta.validation.constraints.NotNull;
+            import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+
+            @SimpleBuilder
+            public record Point(@NotNull String label, String note, @NotNull Integer x, int y)
+                implements PointBuilder.With {}
+            """);
+
+    Compilation compilation = compileSources(notNullAnnotation, point);
+    String generatedCode = loadGeneratedSource(compilation, "PointBuilder");
+    ProcessorAsserts.assertGenerationSucceeded(compilation, "PointBuilder", generatedCode);
+
+    String expectedWither =
+        """
+            default Point withLabel(String label) {
+                if (label == null) {
+                    throw new IllegalStateException("Field 'label' is marked as non-null but null value was provided");
+                }
+                Point self = BuilderSupport.castWithInstance(this, Point.class, "PointBuilder.With");
+                return new Point(label, self.note(), self.x(), self.y());
+            }
+        """;
+
+    ProcessorAsserts.assertingResult(
+        generatedCode,
+        contains(expectedWither),
+        contains(
+            "throw new IllegalStateException(\"Field 'label' is marked as non-null but null value was provided\");"),
+        contains("if (x == null) {"),
+        notContains("if (note == null) {"),
+        notContains("if (y == null) {"));
+  }
+
+  @Test
+  void withInterface_noDirectWithersForSetterFields() {
+    JavaFileObject user =
+        ProcessorTestUtils.forSource(
+            """
+            package test.withinterface.nowither;
+            import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+
+            @SimpleBuilder
+            public class User {
+              private final String username;
+              private String email;
+
+              public User(String username) {
+                this.username = username;
+              }
+
+              public String getUsername() { return username; }
+              public String getEmail() { return email; }
+              public void setEmail(String email) { this.email = email; }
+            }
+            """);
+
+    Compilation compilation = compileSources(user);
+    String generatedCode = loadGeneratedSource(compilation, "UserBuilder");
+    ProcessorAsserts.assertGenerationSucceeded(compilation, "UserBuilder", generatedCode);
+
+    ProcessorAsserts.assertingResult(
+        generatedCode, notContains("withUsername("), notContains("withEmail("));
+  }
 }
@@ -0,0 +1,258 @@
+package org.javahelpers.simple.builders.processor.testing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+import javax.tools.JavaFileObject;
+
+/**
+ * Generates synthetic DTO sources with realistic shapes for scalability tests of the processor.
+ *
+ * <p>DTOs are created in groups of six, each group covering one of every shape:
+ *
+ * <ul>
+ *   <li>a wide record with 24 components of scalar, optional and collection types
+ *   <li>a setter bean with an empty constructor
+ *   <li>a record nesting the wide record and a list of setter beans (element builders)
+ *   <li>a generic record with nested generic collections
+ *   <li>a base bean and a subclass inheriting a builder template annotation
+ * </ul>
+ *
+ * <p>Groups are spread over packages of {@value #DTOS_PER_PACKAGE} DTOs. Truncating a group to
+ * reach the requested count never drops a type another DTO of the group depends on.
+ */
+public final class SyntheticDtos {
+
+  /** Number of DTOs placed in the same package. */
+  public static final int DTOS_PER_PACKAGE = 120;
+
+  private static final String TEMPLATE_PACKAGE = "scale.templates";
+
+  private static final String TEMPLATE_NAME = "ScaleBuilder";
+
+  private static final int SHAPES_PER_GROUP = 6;
+
+  private SyntheticDtos() {}
+
+  /**
+   * Creates the sources of {@code count} DTOs, plus the shared template annotation.
+   *
+   * @param count number of DTOs annotated for builder generation
+   * @return the sources to compile
+   */
+  public static List<JavaFileObject> create(int count) {
+    List<JavaFileObject> sources = new ArrayList<>(count + 1);
+    sources.add(templateAnnotation());
+    for (int index = 0; index < count; index++) {
+      int group = index / SHAPES_PER_GROUP;
+      String packageName = "scale.p" + (index / DTOS_PER_PACKAGE);
+      String source =
+          switch (index % SHAPES_PER_GROUP) {
+            case 0 -> wideRecord(packageName, group);
+            case 1 -> setterBean(packageName, group);
+            case 2 -> nestedRecord(packageName, group);
+            case 3 -> genericRecord(packageName, group);
+            case 4 -> templatedBase(packageName, group);
+            default -> templatedChild(packageName, group);
+          };
+      sources.add(ProcessorTestUtils.forSource(source));
+    }
+    return sources;
+  }
+
+  private static JavaFileObject templateAnnotation() {
+    return ProcessorTestUtils.forSource(
+        """
+        package %s;
+        import java.lang.annotation.ElementType;
+        import java.lang.annotation.Inherited;
+        import java.lang.annotation.Retention;
+        import java.lang.annotation.RetentionPolicy;
+        import java.lang.annotation.Target;
+        import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+        import org.javahelpers.simple.builders.core.enums.OptionState;
+
+        @SimpleBuilder.Template(options = @SimpleBuilder.Options(
+            generateWithInterface = OptionState.DISABLED,
+            generateConditionalHelper = OptionState.DISABLED))
+        @Inherited
+        @Retention(RetentionPolicy.CLASS)
+        @Target(ElementType.TYPE)
+        public @interface %s {}
+        """
+            .formatted(TEMPLATE_PACKAGE, TEMPLATE_NAME));
+  }
+
+  private static String wideRecord(String packageName, int group) {
+    String[] types = {
+      "String",
+      "int",
+      "long",
+      "boolean",
+      "double",
+      "java.time.LocalDate",
+      "java.util.Optional<String>",
+      "java.util.List<String>",
+      "java.util.Set<Integer>",
+      "java.util.Map<String, Long>",
+      "java.math.BigDecimal",
+      "Integer"
+    };
+    StringJoiner components = new StringJoiner(",\n    ");
+    for (int i = 0; i < 24; i++) {
+      components.add("%s field%d".formatted(types[i % types.length], i));
+    }
+    return """
+        package %s;
+        import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+
+        /**
+         * Wide record number %d.
+         */
+        @SimpleBuilder
+        public record Wide%d(
+            %s) {}
+        """
+        .formatted(packageName, group, group, components);
+  }
+
+  private static String setterBean(String packageName, int group) {
+    String[][] fields = {
+      {"String", "name"},
+      {"String", "email"},
+      {"int", "age"},
+      {"long", "version"},
+      {"boolean", "active"},
+      {"java.util.List<String>", "roles"},
+      {"java.util.Map<String, String>", "attributes"},
+      {"java.time.Instant", "createdAt"}
+    };
+    StringBuilder body = new StringBuilder();
+    for (String[] field : fields) {
+      String capitalized = Character.toUpperCase(field[1].charAt(0)) + field[1].substring(1);
+      body.append(
+          """
+            private %1$s %2$s;
+
+            public %1$s get%3$s() {
+              return %2$s;
+            }
+
+            /**
+             * Sets %2$s.
+             *
+             * @param %2$s the %2$s of the bean
+             */
+            public void set%3$s(%1$s %2$s) {
+              this.%2$s = %2$s;
+            }
+
+          """
+              .formatted(field[0], field[1], capitalized));
+    }
+    return """
+        package %s;
+        import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+
+        @SimpleBuilder
+        public class Bean%d {
+          public Bean%d() {}
+
+        %s}
+        """
+        .formatted(packageName, group, group, body);
+  }
+
+  private static String nestedRecord(String packageName, int group) {
+    return """
+        package %s;
+        import java.util.List;
+        import java.util.Map;
+        import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+
+        @SimpleBuilder
+        public record Nested%d(
+            String id, Wide%d detail, List<Bean%d> members, Map<String, Bean%d> membersByName) {}
+        """
+        .formatted(packageName, group, group, group, group);
+  }
+
+  private static String genericRecord(String packageName, int group) {
+    return """
+        package %s;
+        import java.util.List;
+        import java.util.Map;
+        import java.util.Optional;
+        import java.util.Set;
+        import org.javahelpers.simple.builders.core.annotations.SimpleBuilder;
+
+        @SimpleBuilder
+        public record Page%d<T>(
+            List<T> items,
+            Map<String, List<Integer>> index,
+            Set<String> tags,
+            Optional<List<String>> cursor,
+            int total) {}
+        """
+        .formatted(packageName, group);
+  }
+
+  private static String templatedBase(String packageName, int group) {
+    return """
+        package %s;
+        import %s.%s;
+
+        @%s
+        public class Entity%d {
+          private String id;
+          private long revision;
+
+          public String getId() {
+            return id;
+          }
+
+          public void setId(String id) {
+            this.id = id;
+          }
+
+          public long getRevision() {
+            return revision;
+          }
+
+          public void setRevision(long revision) {
+            this.revision = revision;
+          }
+        }
+        """
+        .formatted(packageName, TEMPLATE_PACKAGE, TEMPLATE_NAME, TEMPLATE_NAME, group);
+  }
+
+  private static String templatedChild(String packageName, int group) {
+    return """
+        package %s;
+        import java.util.List;
+
+        public class Customer%d extends Entity%d {
+          private String name;
+          private List<String> addresses;
+
+          public String getName() {
+            return name;
+          }
+
+          public void setName(String name) {
+            this.name = name;
+          }
+
+          public List<String> getAddresses() {
+            return addresses;
+          }
+
+          public void setAddresses(List<String> addresses) {
+            this.addresses = addresses;
+          }
+        }
+        """
+        .formatted(packageName, group, group);
+  }
+}